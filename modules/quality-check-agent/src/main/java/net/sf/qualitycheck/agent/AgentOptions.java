@@ -0,0 +1,196 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.agent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import net.sf.qualitycheck.ArgumentsChecked;
+import net.sf.qualitycheck.Check;
+import net.sf.qualitycheck.Throws;
+import net.sf.qualitycheck.exception.IllegalEmptyArgumentException;
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+import net.sf.qualitycheck.exception.IllegalStateOfArgumentException;
+
+/**
+ * Options of the {@link CheckAgent}, parsed from the argument string of the agent. The options are separated by
+ * semicolons and consist of a key and a value, e.g. {@code packages=com.example,org.example;mode=report;report=checks.txt}.
+ * 
+ * <ul>
+ * <li>{@code packages} (required) – comma-separated list of packages whose classes (including sub-packages) will be
+ * instrumented</li>
+ * <li>{@code mode} – {@code inject} (default) or {@code report}, see {@link Mode}</li>
+ * <li>{@code report} – file to which the report will be written at shutdown, if not set it will be written to
+ * {@link System#err}</li>
+ * </ul>
+ * 
+ * @author André Rouél
+ */
+final class AgentOptions {
+
+	/**
+	 * Mode of operation of the agent
+	 */
+	enum Mode {
+
+		/**
+		 * Injects checks for annotated parameters which are not yet checked explicitly
+		 */
+		INJECT,
+
+		/**
+		 * Injects checks like {@link #INJECT} and additionally records all explicit checks which are redundant with
+		 * the annotations, so that they can be removed from the source code
+		 */
+		REPORT;
+
+	}
+
+	private static final String KEY_MODE = "mode";
+
+	private static final String KEY_PACKAGES = "packages";
+
+	private static final String KEY_REPORT = "report";
+
+	/**
+	 * Parses the argument string of the agent.
+	 * 
+	 * @param arguments
+	 *            argument string passed to the agent
+	 * @return parsed options
+	 * @throws IllegalNullArgumentException
+	 *             if the given arguments are {@code null}
+	 * @throws IllegalStateOfArgumentException
+	 *             if an option is unknown or malformed or if no package is given
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalStateOfArgumentException.class })
+	@Nonnull
+	static AgentOptions parse(@Nonnull final String arguments) {
+		Check.notNull(arguments, "arguments");
+		final List<String> packages = new ArrayList<String>();
+		Mode mode = Mode.INJECT;
+		String report = null;
+		for (final String option : arguments.split(";")) {
+			if (option.trim().isEmpty()) {
+				continue;
+			}
+			final int separator = option.indexOf('=');
+			Check.stateIsTrue(separator > 0, "Option '%s' must have the form key=value.", option);
+			final String key = option.substring(0, separator).trim();
+			final String value = option.substring(separator + 1).trim();
+			if (KEY_PACKAGES.equals(key)) {
+				for (final String name : value.split(",")) {
+					if (!name.trim().isEmpty()) {
+						packages.add(name.trim());
+					}
+				}
+			} else if (KEY_MODE.equals(key)) {
+				mode = parseMode(value);
+			} else if (KEY_REPORT.equals(key)) {
+				report = value.isEmpty() ? null : value;
+			} else {
+				throw new IllegalStateOfArgumentException("Option '%s' is unknown.", key);
+			}
+		}
+		Check.stateIsTrue(!packages.isEmpty(), "At least one package must be given by the option 'packages'.");
+		return new AgentOptions(packages, mode, report);
+	}
+
+	@Nonnull
+	private static Mode parseMode(@Nonnull final String value) {
+		for (final Mode mode : Mode.values()) {
+			if (mode.name().equalsIgnoreCase(value)) {
+				return mode;
+			}
+		}
+		throw new IllegalStateOfArgumentException("Mode '%s' is unknown.", value);
+	}
+
+	/**
+	 * Packages to instrument
+	 */
+	@Nonnull
+	private final List<String> packages;
+
+	/**
+	 * Mode of operation
+	 */
+	@Nonnull
+	private final Mode mode;
+
+	/**
+	 * File to write the report to or {@code null} to use {@link System#err}
+	 */
+	@Nullable
+	private final String report;
+
+	/**
+	 * Creates new options.
+	 * 
+	 * @param packages
+	 *            packages to instrument
+	 * @param mode
+	 *            mode of operation
+	 * @param report
+	 *            file to write the report to or {@code null} to use {@link System#err}
+	 * @throws IllegalNullArgumentException
+	 *             if the given packages or mode are {@code null}
+	 * @throws IllegalEmptyArgumentException
+	 *             if the given list of packages is empty
+	 */
+	@ArgumentsChecked
+	AgentOptions(@Nonnull final List<String> packages, @Nonnull final Mode mode, @Nullable final String report) {
+		this.packages = Collections.unmodifiableList(new ArrayList<String>(Check.notEmpty(packages, "packages")));
+		this.mode = Check.notNull(mode, "mode");
+		this.report = report;
+	}
+
+	/**
+	 * Returns the mode of operation.
+	 * 
+	 * @return mode of operation
+	 */
+	@Nonnull
+	Mode getMode() {
+		return mode;
+	}
+
+	/**
+	 * Returns the packages to instrument in their binary form, e.g. {@code com.example}.
+	 * 
+	 * @return unmodifiable list of packages
+	 */
+	@Nonnull
+	List<String> getPackages() {
+		return packages;
+	}
+
+	/**
+	 * Returns the file to write the report to.
+	 * 
+	 * @return file to write the report to or {@code null} to use {@link System#err}
+	 */
+	@Nullable
+	String getReport() {
+		return report;
+	}
+
+}
@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.agent;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.lang.instrument.Instrumentation;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import net.sf.qualitycheck.ArgumentsChecked;
+import net.sf.qualitycheck.Check;
+import net.sf.qualitycheck.Throws;
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+import net.sf.qualitycheck.exception.IllegalStateOfArgumentException;
+
+/**
+ * Entry point of the Java agent which injects checks of Quality-Check for annotated parameters at load time. The agent
+ * will be started with the JVM option {@code -javaagent:quality-check-agent.jar=<options>}, see {@link AgentOptions}
+ * for the supported options. When attached to a running JVM, only classes loaded afterwards will be instrumented.
+ * 
+ * @author André Rouél
+ */
+public final class CheckAgent {
+
+	/**
+	 * Writes the report to the configured file or to {@link System#err} when the JVM shuts down.
+	 */
+	private static final class ReportWriter extends Thread {
+
+		private final RedundancyReport report;
+
+		@Nullable
+		private final String file;
+
+		private ReportWriter(@Nonnull final RedundancyReport report, @Nullable final String file) {
+			super("quality-check-agent-report");
+			this.report = report;
+			this.file = file;
+		}
+
+		@Override
+		public void run() {
+			if (file == null) {
+				report.writeTo(new PrintWriter(System.err));
+				return;
+			}
+			try {
+				final PrintWriter writer = new PrintWriter(new OutputStreamWriter(new FileOutputStream(file), "UTF-8"));
+				try {
+					report.writeTo(writer);
+				} finally {
+					writer.close();
+				}
+			} catch (final IOException e) {
+				System.err.println("Quality-Check agent: cannot write report to " + file + ": " + e);
+			}
+		}
+
+	}
+
+	/**
+	 * Entry point when the agent is attached to a running JVM.
+	 * 
+	 * @param arguments
+	 *            options of the agent
+	 * @param instrumentation
+	 *            instrumentation of the JVM
+	 * @throws IllegalNullArgumentException
+	 *             if the given instrumentation is {@code null}
+	 * @throws IllegalStateOfArgumentException
+	 *             if the given options are invalid
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalStateOfArgumentException.class })
+	public static void agentmain(@Nullable final String arguments, @Nonnull final Instrumentation instrumentation) {
+		premain(arguments, instrumentation);
+	}
+
+	/**
+	 * Registers the transformer which injects the checks and, in mode {@link AgentOptions.Mode#REPORT}, the writing of
+	 * the report at shutdown.
+	 * 
+	 * @param options
+	 *            options of the agent
+	 * @param instrumentation
+	 *            instrumentation of the JVM
+	 * @return report of redundant explicit checks or {@code null} if they will not be recorded
+	 * @throws IllegalNullArgumentException
+	 *             if the given options or instrumentation are {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	@Nullable
+	static RedundancyReport install(@Nonnull final AgentOptions options, @Nonnull final Instrumentation instrumentation) {
+		Check.notNull(options, "options");
+		Check.notNull(instrumentation, "instrumentation");
+		RedundancyReport report = null;
+		if (options.getMode() == AgentOptions.Mode.REPORT) {
+			report = new RedundancyReport();
+			Runtime.getRuntime().addShutdownHook(new ReportWriter(report, options.getReport()));
+		}
+		instrumentation.addTransformer(new CheckInjectingTransformer(options, report));
+		return report;
+	}
+
+	/**
+	 * Entry point when the agent is started with the JVM option {@code -javaagent}.
+	 * 
+	 * @param arguments
+	 *            options of the agent
+	 * @param instrumentation
+	 *            instrumentation of the JVM
+	 * @throws IllegalNullArgumentException
+	 *             if the given instrumentation is {@code null}
+	 * @throws IllegalStateOfArgumentException
+	 *             if the given options are invalid
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalStateOfArgumentException.class })
+	public static void premain(@Nullable final String arguments, @Nonnull final Instrumentation instrumentation) {
+		install(AgentOptions.parse(arguments != null ? arguments : ""), instrumentation);
+	}
+
+	/**
+	 * <strong>Attention:</strong> This class is not intended to create objects from it.
+	 */
+	private CheckAgent() {
+		// This class is not intended to create objects from it.
+	}
+
+}
@@ -0,0 +1,518 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.agent;
+
+import java.lang.instrument.ClassFileTransformer;
+import java.security.ProtectionDomain;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import net.sf.qualitycheck.ArgumentsChecked;
+import net.sf.qualitycheck.Check;
+import net.sf.qualitycheck.Throws;
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.AnnotationNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.IincInsnNode;
+import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.tree.InsnNode;
+import org.objectweb.asm.tree.LdcInsnNode;
+import org.objectweb.asm.tree.LocalVariableNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.ParameterNode;
+import org.objectweb.asm.tree.VarInsnNode;
+
+/**
+ * Rewrites the bytecode of classes within the configured packages, so that each method and constructor starts with
+ * calls of {@code Check} for its annotated parameters:
+ * 
+ * <ul>
+ * <li>{@code @Nonnull} on a reference type is checked by {@code Check.notNull(Object, String)}</li>
+ * <li>{@code @Nonnegative} on {@code byte}, {@code double}, {@code float}, {@code int}, {@code long} or {@code short}
+ * is checked by the corresponding {@code Check.notNegative} overload</li>
+ * </ul>
+ * 
+ * Annotations whose {@code when} attribute is not {@code ALWAYS} are ignored. Parameters which are already checked
+ * explicitly at the beginning of a method (by {@code Check}, {@code Objects.requireNonNull} or Guava's
+ * {@code Preconditions.checkNotNull}) will not be checked twice, instead the explicit check will be recorded in the
+ * {@link RedundancyReport}, if one is given.
+ * 
+ * <p>
+ * The injected code is plain bytecode that calls the static methods of {@code Check} directly, so no reflection is
+ * involved at runtime. Because the injected instructions do not branch and leave the operand stack empty, existing
+ * stack map frames remain valid and must not be recomputed.
+ * 
+ * @author André Rouél
+ */
+final class CheckInjectingTransformer implements ClassFileTransformer {
+
+	/**
+	 * Kind of a check which can be injected
+	 */
+	private enum Kind {
+
+		NOT_NEGATIVE("Nonnegative"),
+
+		NOT_NULL("Nonnull");
+
+		private final String annotation;
+
+		private Kind(@Nonnull final String annotation) {
+			this.annotation = annotation;
+		}
+
+	}
+
+	private static final String CHECK = "net/sf/qualitycheck/Check";
+
+	/**
+	 * Packages in their internal form which will never be instrumented, regardless of the configured packages
+	 */
+	static final List<String> DEFAULT_EXCLUSIONS = Collections.unmodifiableList(Arrays.asList("java/", "javax/", "jdk/",
+			"sun/", "com/sun/", "net/sf/qualitycheck/"));
+
+	private static final String NONNEGATIVE = "Ljavax/annotation/Nonnegative;";
+
+	private static final String NONNULL = "Ljavax/annotation/Nonnull;";
+
+	private static final String WHEN_ALWAYS = "ALWAYS";
+
+	/**
+	 * Descriptors of explicit checks by the owner and name of the called method
+	 */
+	private static final Map<String, Kind> EXPLICIT_CHECKS = new HashMap<String, Kind>();
+
+	static {
+		EXPLICIT_CHECKS.put(CHECK + ".notNull(Ljava/lang/Object;)Ljava/lang/Object;", Kind.NOT_NULL);
+		EXPLICIT_CHECKS.put(CHECK + ".notNull(Ljava/lang/Object;Ljava/lang/String;)Ljava/lang/Object;", Kind.NOT_NULL);
+		EXPLICIT_CHECKS.put("java/util/Objects.requireNonNull(Ljava/lang/Object;)Ljava/lang/Object;", Kind.NOT_NULL);
+		EXPLICIT_CHECKS.put("java/util/Objects.requireNonNull(Ljava/lang/Object;Ljava/lang/String;)Ljava/lang/Object;",
+				Kind.NOT_NULL);
+		EXPLICIT_CHECKS.put("com/google/common/base/Preconditions.checkNotNull(Ljava/lang/Object;)Ljava/lang/Object;",
+				Kind.NOT_NULL);
+		EXPLICIT_CHECKS.put(
+				"com/google/common/base/Preconditions.checkNotNull(Ljava/lang/Object;Ljava/lang/Object;)Ljava/lang/Object;",
+				Kind.NOT_NULL);
+		for (final char type : new char[] { 'D', 'F', 'I', 'J', 'S' }) {
+			EXPLICIT_CHECKS.put(CHECK + ".notNegative(" + type + ")" + type, Kind.NOT_NEGATIVE);
+			EXPLICIT_CHECKS.put(CHECK + ".notNegative(" + type + "Ljava/lang/String;)" + type, Kind.NOT_NEGATIVE);
+		}
+	}
+
+	/**
+	 * Returns the descriptor of the {@code Check.notNegative} overload for the given parameter type.
+	 * 
+	 * @param type
+	 *            type of the parameter
+	 * @return descriptor of the overload or {@code null} if the type cannot be checked for negative values
+	 */
+	@Nullable
+	private static String findNotNegativeDescriptor(@Nonnull final Type type) {
+		switch (type.getSort()) {
+		case Type.BYTE:
+		case Type.INT:
+			return "(ILjava/lang/String;)I";
+		case Type.DOUBLE:
+			return "(DLjava/lang/String;)D";
+		case Type.FLOAT:
+			return "(FLjava/lang/String;)F";
+		case Type.LONG:
+			return "(JLjava/lang/String;)J";
+		case Type.SHORT:
+			return "(SLjava/lang/String;)S";
+		default:
+			return null;
+		}
+	}
+
+	/**
+	 * Determines the name of a parameter from the debug information or the {@code MethodParameters} attribute of a
+	 * method. If neither is available, a name is derived from the position of the parameter.
+	 */
+	@Nonnull
+	private static String findParameterName(@Nonnull final MethodNode method, final int index, final int slot) {
+		if (method.localVariables != null) {
+			for (final Object element : method.localVariables) {
+				final LocalVariableNode variable = (LocalVariableNode) element;
+				if (variable.index == slot) {
+					return variable.name;
+				}
+			}
+		}
+		if (method.parameters != null && index < method.parameters.size()) {
+			final ParameterNode parameter = (ParameterNode) method.parameters.get(index);
+			if (parameter.name != null) {
+				return parameter.name;
+			}
+		}
+		return "arg" + index;
+	}
+
+	/**
+	 * Returns the annotations of a parameter, both visible and invisible ones.
+	 */
+	@Nonnull
+	private static List<AnnotationNode> getParameterAnnotations(@Nonnull final MethodNode method, final int index) {
+		final List<AnnotationNode> annotations = new ArrayList<AnnotationNode>();
+		addParameterAnnotations(annotations, method.visibleParameterAnnotations, index);
+		addParameterAnnotations(annotations, method.invisibleParameterAnnotations, index);
+		return annotations;
+	}
+
+	private static void addParameterAnnotations(@Nonnull final List<AnnotationNode> result,
+			@Nullable final List<?>[] annotations, final int index) {
+		if (annotations != null && index < annotations.length && annotations[index] != null) {
+			for (final Object annotation : annotations[index]) {
+				result.add((AnnotationNode) annotation);
+			}
+		}
+	}
+
+	/**
+	 * Determines the kind of an explicit check which is performed by the given method call.
+	 */
+	@Nullable
+	private static Kind getExplicitCheckKind(@Nonnull final MethodInsnNode call) {
+		return call.getOpcode() == Opcodes.INVOKESTATIC ? EXPLICIT_CHECKS.get(call.owner + "." + call.name + call.desc) : null;
+	}
+
+	/**
+	 * Determines the local variable slot of the value which is passed as first argument to an explicit check. This
+	 * works for the pattern which compilers generate for calls like {@code Check.notNull(value, "value")}: a load of
+	 * the variable, optionally followed by an instruction which pushes the second argument.
+	 * 
+	 * @return slot of the checked variable or {@code -1} if the first argument is not a loaded variable
+	 */
+	private static int getCheckedSlot(@Nonnull final MethodInsnNode call) {
+		AbstractInsnNode argument = previous(call);
+		if (Type.getArgumentTypes(call.desc).length == 2) {
+			if (!isSinglePush(argument)) {
+				return -1;
+			}
+			argument = previous(argument);
+		}
+		if (argument instanceof VarInsnNode && isLoad(argument.getOpcode())) {
+			return ((VarInsnNode) argument).var;
+		}
+		return -1;
+	}
+
+	/**
+	 * Determines whether the annotation applies always or only under certain circumstances as specified by the
+	 * {@code when} attribute.
+	 */
+	private static boolean isAlways(@Nonnull final AnnotationNode annotation) {
+		if (annotation.values != null) {
+			for (int i = 0; i < annotation.values.size(); i += 2) {
+				if ("when".equals(annotation.values.get(i))) {
+					final Object value = annotation.values.get(i + 1);
+					return value instanceof String[] && WHEN_ALWAYS.equals(((String[]) value)[1]);
+				}
+			}
+		}
+		return true;
+	}
+
+	private static boolean isLoad(final int opcode) {
+		return opcode >= Opcodes.ILOAD && opcode <= Opcodes.ALOAD;
+	}
+
+	/**
+	 * Determines whether the given instruction pushes exactly one value without consuming any.
+	 */
+	private static boolean isSinglePush(@Nullable final AbstractInsnNode instruction) {
+		if (instruction == null) {
+			return false;
+		}
+		final int opcode = instruction.getOpcode();
+		return opcode == Opcodes.ACONST_NULL || opcode == Opcodes.LDC || opcode == Opcodes.GETSTATIC || isLoad(opcode);
+	}
+
+	/**
+	 * Determines whether the execution can leave the straight-line code at the given instruction.
+	 */
+	private static boolean isTransferOfControl(@Nonnull final AbstractInsnNode instruction) {
+		final int type = instruction.getType();
+		if (type == AbstractInsnNode.JUMP_INSN || type == AbstractInsnNode.TABLESWITCH_INSN
+				|| type == AbstractInsnNode.LOOKUPSWITCH_INSN) {
+			return true;
+		}
+		final int opcode = instruction.getOpcode();
+		return opcode >= Opcodes.IRETURN && opcode <= Opcodes.RETURN || opcode == Opcodes.ATHROW;
+	}
+
+	/**
+	 * Returns the previous instruction which is not a label, line number or frame.
+	 */
+	@Nullable
+	private static AbstractInsnNode previous(@Nonnull final AbstractInsnNode instruction) {
+		AbstractInsnNode current = instruction.getPrevious();
+		while (current != null && current.getOpcode() < 0) {
+			current = current.getPrevious();
+		}
+		return current;
+	}
+
+	/**
+	 * Packages to instrument in their internal form with trailing slash
+	 */
+	@Nonnull
+	private final List<String> includes;
+
+	/**
+	 * Packages to exclude in their internal form with trailing slash
+	 */
+	@Nonnull
+	private final List<String> excludes;
+
+	/**
+	 * Report to record redundant explicit checks or {@code null} if they should not be recorded
+	 */
+	@Nullable
+	private final RedundancyReport report;
+
+	/**
+	 * Creates a new transformer which instruments the given packages except those of {@link #DEFAULT_EXCLUSIONS}.
+	 * 
+	 * @param options
+	 *            options of the agent
+	 * @param report
+	 *            report to record redundant explicit checks or {@code null} if they should not be recorded
+	 * @throws IllegalNullArgumentException
+	 *             if the given options are {@code null}
+	 */
+	@ArgumentsChecked
+	CheckInjectingTransformer(@Nonnull final AgentOptions options, @Nullable final RedundancyReport report) {
+		this(Check.notNull(options, "options").getPackages(), DEFAULT_EXCLUSIONS, report);
+	}
+
+	/**
+	 * Creates a new transformer.
+	 * 
+	 * @param packages
+	 *            packages to instrument in their binary form, e.g. {@code com.example}
+	 * @param exclusions
+	 *            packages in their internal form which will never be instrumented, e.g. {@code com/example/}
+	 * @param report
+	 *            report to record redundant explicit checks or {@code null} if they should not be recorded
+	 * @throws IllegalNullArgumentException
+	 *             if the given packages or exclusions are {@code null}
+	 */
+	@ArgumentsChecked
+	CheckInjectingTransformer(@Nonnull final List<String> packages, @Nonnull final List<String> exclusions,
+			@Nullable final RedundancyReport report) {
+		Check.notNull(packages, "packages");
+		Check.notNull(exclusions, "exclusions");
+		final List<String> internalNames = new ArrayList<String>(packages.size());
+		for (final String name : packages) {
+			internalNames.add(name.replace('.', '/') + '/');
+		}
+		includes = internalNames;
+		excludes = new ArrayList<String>(exclusions);
+		this.report = report;
+	}
+
+	/**
+	 * Collects the parameter slots which are checked explicitly in the straight-line code at the beginning of a
+	 * method, before the first branch, return or throw. A check of a slot which has been assigned before does not
+	 * count, because it checks another value than the passed argument.
+	 */
+	@Nonnull
+	private Map<Integer, Set<Kind>> findExplicitChecks(@Nonnull final MethodNode method) {
+		final Map<Integer, Set<Kind>> checks = new HashMap<Integer, Set<Kind>>();
+		final Set<Integer> assigned = new HashSet<Integer>();
+		for (AbstractInsnNode instruction = method.instructions.getFirst(); instruction != null
+				&& !isTransferOfControl(instruction); instruction = instruction.getNext()) {
+			if (instruction instanceof VarInsnNode && !isLoad(instruction.getOpcode())) {
+				assigned.add(((VarInsnNode) instruction).var);
+			} else if (instruction instanceof IincInsnNode) {
+				assigned.add(((IincInsnNode) instruction).var);
+			} else if (instruction instanceof MethodInsnNode) {
+				final MethodInsnNode call = (MethodInsnNode) instruction;
+				final Kind kind = getExplicitCheckKind(call);
+				final int slot = kind != null ? getCheckedSlot(call) : -1;
+				if (slot >= 0 && !assigned.contains(slot)) {
+					Set<Kind> kinds = checks.get(slot);
+					if (kinds == null) {
+						kinds = new HashSet<Kind>();
+						checks.put(slot, kinds);
+					}
+					kinds.add(kind);
+				}
+			}
+		}
+		return checks;
+	}
+
+	/**
+	 * Instruments the given class file.
+	 * 
+	 * @param classfile
+	 *            bytes of the class file
+	 * @return bytes of the instrumented class file or {@code null} if no check was injected
+	 * @throws IllegalNullArgumentException
+	 *             if the given class file is {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	@Nullable
+	byte[] instrument(@Nonnull final byte[] classfile) {
+		Check.notNull(classfile, "classfile");
+		final ClassReader reader = new ClassReader(classfile);
+		final ClassNode node = new ClassNode(Opcodes.ASM9);
+		reader.accept(node, 0);
+
+		boolean modified = false;
+		for (final Object method : node.methods) {
+			modified |= instrument(node.name, (MethodNode) method);
+		}
+		if (!modified) {
+			return null;
+		}
+
+		final ClassWriter writer = new ClassWriter(reader, ClassWriter.COMPUTE_MAXS);
+		node.accept(writer);
+		return writer.toByteArray();
+	}
+
+	/**
+	 * Injects the checks of the annotated parameters at the beginning of the given method.
+	 * 
+	 * @return {@code true} if at least one check was injected, otherwise {@code false}
+	 */
+	private boolean instrument(@Nonnull final String className, @Nonnull final MethodNode method) {
+		if ((method.access & (Opcodes.ACC_ABSTRACT | Opcodes.ACC_NATIVE | Opcodes.ACC_BRIDGE | Opcodes.ACC_SYNTHETIC)) != 0
+				|| method.instructions.size() == 0) {
+			return false;
+		}
+
+		final Map<Integer, Set<Kind>> explicitChecks = findExplicitChecks(method);
+		final InsnList injected = new InsnList();
+		final Type[] types = Type.getArgumentTypes(method.desc);
+		int slot = (method.access & Opcodes.ACC_STATIC) != 0 ? 0 : 1;
+		for (int index = 0; index < types.length; index++) {
+			final Type type = types[index];
+			for (final AnnotationNode annotation : getParameterAnnotations(method, index)) {
+				final Kind kind = toKind(annotation, type);
+				if (kind == null) {
+					continue;
+				}
+				final String name = findParameterName(method, index, slot);
+				final Set<Kind> explicit = explicitChecks.get(slot);
+				if (explicit != null && explicit.contains(kind)) {
+					if (report != null) {
+						report.add(className, method.name, method.desc, name, kind.annotation);
+					}
+				} else if (kind == Kind.NOT_NULL) {
+					injected.add(new VarInsnNode(Opcodes.ALOAD, slot));
+					injected.add(new LdcInsnNode(name));
+					injected.add(new MethodInsnNode(Opcodes.INVOKESTATIC, CHECK, "notNull",
+							"(Ljava/lang/Object;Ljava/lang/String;)Ljava/lang/Object;", false));
+					injected.add(new InsnNode(Opcodes.POP));
+				} else {
+					injected.add(new VarInsnNode(type.getOpcode(Opcodes.ILOAD), slot));
+					injected.add(new LdcInsnNode(name));
+					injected.add(new MethodInsnNode(Opcodes.INVOKESTATIC, CHECK, "notNegative", findNotNegativeDescriptor(type),
+							false));
+					injected.add(new InsnNode(type.getSize() == 2 ? Opcodes.POP2 : Opcodes.POP));
+				}
+			}
+			slot += type.getSize();
+		}
+
+		if (injected.size() == 0) {
+			return false;
+		}
+		method.instructions.insert(injected);
+		return true;
+	}
+
+	/**
+	 * Determines whether a class will be instrumented.
+	 * 
+	 * @param className
+	 *            internal name of the class, e.g. {@code com/example/Foo}
+	 * @return {@code true} if the class is within the configured packages and not excluded, otherwise {@code false}
+	 */
+	boolean isInstrumented(@Nonnull final String className) {
+		for (final String exclude : excludes) {
+			if (className.startsWith(exclude)) {
+				return false;
+			}
+		}
+		for (final String include : includes) {
+			if (className.startsWith(include)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Determines the check which has to be injected for an annotation of a parameter.
+	 * 
+	 * @return kind of the check or {@code null} if the annotation does not require a check for the parameter type
+	 */
+	@Nullable
+	private Kind toKind(@Nonnull final AnnotationNode annotation, @Nonnull final Type type) {
+		if (!isAlways(annotation)) {
+			return null;
+		}
+		if (NONNULL.equals(annotation.desc) && (type.getSort() == Type.OBJECT || type.getSort() == Type.ARRAY)) {
+			return Kind.NOT_NULL;
+		}
+		if (NONNEGATIVE.equals(annotation.desc) && findNotNegativeDescriptor(type) != null) {
+			return Kind.NOT_NEGATIVE;
+		}
+		return null;
+	}
+
+	/**
+	 * Instruments classes within the configured packages. A class which cannot be parsed will be loaded unchanged.
+	 */
+	@Override
+	@Nullable
+	public byte[] transform(@Nullable final ClassLoader loader, @Nullable final String className,
+			@Nullable final Class<?> classBeingRedefined, @Nullable final ProtectionDomain protectionDomain,
+			@Nonnull final byte[] classfileBuffer) {
+		if (className == null || !isInstrumented(className)) {
+			return null;
+		}
+		try {
+			return instrument(classfileBuffer);
+		} catch (final RuntimeException e) {
+			System.err.println("Quality-Check agent: cannot instrument class " + className + ": " + e);
+			return null;
+		}
+	}
+
+}
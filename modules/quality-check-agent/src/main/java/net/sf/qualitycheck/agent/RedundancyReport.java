@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.agent;
+
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+
+import net.sf.qualitycheck.ArgumentsChecked;
+import net.sf.qualitycheck.Check;
+import net.sf.qualitycheck.Throws;
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+
+/**
+ * Collects explicit checks which are redundant with an annotation of the checked parameter. Because the agent injects
+ * the equivalent check anyway, such an explicit check can be removed from the source code.
+ * 
+ * @author André Rouél
+ */
+final class RedundancyReport {
+
+	/**
+	 * Recorded entries in the order of their recording, guarded by {@code this}
+	 */
+	private final List<String> entries = new ArrayList<String>();
+
+	/**
+	 * Records a redundant explicit check.
+	 * 
+	 * @param className
+	 *            internal name of the class, e.g. {@code com/example/Foo}
+	 * @param methodName
+	 *            name of the method
+	 * @param methodDescriptor
+	 *            descriptor of the method
+	 * @param parameterName
+	 *            name of the checked parameter
+	 * @param annotation
+	 *            simple name of the annotation which makes the explicit check redundant
+	 * @throws IllegalNullArgumentException
+	 *             if one of the given arguments is {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	void add(@Nonnull final String className, @Nonnull final String methodName, @Nonnull final String methodDescriptor,
+			@Nonnull final String parameterName, @Nonnull final String annotation) {
+		Check.notNull(className, "className");
+		Check.notNull(methodName, "methodName");
+		Check.notNull(methodDescriptor, "methodDescriptor");
+		Check.notNull(parameterName, "parameterName");
+		Check.notNull(annotation, "annotation");
+		final String entry = className.replace('/', '.') + "#" + methodName + methodDescriptor + ": explicit check of parameter '"
+				+ parameterName + "' is redundant with @" + annotation;
+		synchronized (this) {
+			entries.add(entry);
+		}
+	}
+
+	/**
+	 * Returns a snapshot of all recorded entries.
+	 * 
+	 * @return recorded entries in the order of their recording
+	 */
+	@Nonnull
+	synchronized List<String> getEntries() {
+		return new ArrayList<String>(entries);
+	}
+
+	/**
+	 * Writes all recorded entries line by line to the given writer.
+	 * 
+	 * @param writer
+	 *            writer to write the report to
+	 * @throws IllegalNullArgumentException
+	 *             if the given writer is {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	void writeTo(@Nonnull final PrintWriter writer) {
+		Check.notNull(writer, "writer");
+		final List<String> snapshot = getEntries();
+		writer.println("Quality-Check agent: " + snapshot.size() + " redundant explicit check(s)");
+		for (final String entry : snapshot) {
+			writer.println(entry);
+		}
+		writer.flush();
+	}
+
+}
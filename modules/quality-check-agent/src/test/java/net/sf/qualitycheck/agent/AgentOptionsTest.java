@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.agent;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import net.sf.qualitycheck.exception.IllegalEmptyArgumentException;
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+import net.sf.qualitycheck.exception.IllegalStateOfArgumentException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AgentOptionsTest {
+
+	@Test(expected = IllegalEmptyArgumentException.class)
+	public void construct_emptyPackages() {
+		new AgentOptions(Collections.<String> emptyList(), AgentOptions.Mode.INJECT, null);
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void construct_nullMode() {
+		new AgentOptions(Arrays.asList("com.example"), null, null);
+	}
+
+	@Test(expected = IllegalStateOfArgumentException.class)
+	public void parse_empty() {
+		AgentOptions.parse("");
+	}
+
+	@Test(expected = IllegalStateOfArgumentException.class)
+	public void parse_missingValue() {
+		AgentOptions.parse("packages=com.example;mode");
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void parse_null() {
+		AgentOptions.parse(null);
+	}
+
+	@Test
+	public void parse_packages() {
+		final AgentOptions options = AgentOptions.parse("packages=com.example, org.example ,;");
+		Assert.assertEquals(Arrays.asList("com.example", "org.example"), options.getPackages());
+		Assert.assertEquals(AgentOptions.Mode.INJECT, options.getMode());
+		Assert.assertNull(options.getReport());
+	}
+
+	@Test
+	public void parse_report() {
+		final AgentOptions options = AgentOptions.parse(" packages = com.example ; mode = Report ; report = checks.txt ");
+		Assert.assertEquals(AgentOptions.Mode.REPORT, options.getMode());
+		Assert.assertEquals("checks.txt", options.getReport());
+	}
+
+	@Test
+	public void parse_reportEmpty() {
+		Assert.assertNull(AgentOptions.parse("packages=com.example;report=").getReport());
+	}
+
+	@Test(expected = IllegalStateOfArgumentException.class)
+	public void parse_unknownMode() {
+		AgentOptions.parse("packages=com.example;mode=remove");
+	}
+
+	@Test(expected = IllegalStateOfArgumentException.class)
+	public void parse_unknownOption() {
+		AgentOptions.parse("packages=com.example;verbose=true");
+	}
+
+}
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.agent;
+
+import java.lang.instrument.ClassFileTransformer;
+import java.lang.instrument.Instrumentation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+import net.sf.qualitycheck.exception.IllegalStateOfArgumentException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CheckAgentTest {
+
+	private static Instrumentation recording(final List<Object> transformers) {
+		return (Instrumentation) Proxy.newProxyInstance(CheckAgentTest.class.getClassLoader(),
+				new Class<?>[] { Instrumentation.class }, new InvocationHandler() {
+					@Override
+					public Object invoke(final Object proxy, final Method method, final Object[] args) {
+						if ("addTransformer".equals(method.getName())) {
+							transformers.add(args[0]);
+						}
+						return null;
+					}
+				});
+	}
+
+	@Test
+	public void agentmain() {
+		final List<Object> transformers = new ArrayList<Object>();
+		CheckAgent.agentmain("packages=com.example", recording(transformers));
+		Assert.assertEquals(1, transformers.size());
+		Assert.assertTrue(transformers.get(0) instanceof ClassFileTransformer);
+	}
+
+	@Test
+	public void giveMeCoverageForMyPrivateConstructor() throws Exception {
+		// reduces only some noise in coverage report
+		final Constructor<CheckAgent> constructor = CheckAgent.class.getDeclaredConstructor();
+		constructor.setAccessible(true);
+		constructor.newInstance();
+	}
+
+	@Test
+	public void install_inject() {
+		final List<Object> transformers = new ArrayList<Object>();
+		Assert.assertNull(CheckAgent.install(AgentOptions.parse("packages=com.example"), recording(transformers)));
+		Assert.assertEquals(1, transformers.size());
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void install_nullInstrumentation() {
+		CheckAgent.install(AgentOptions.parse("packages=com.example"), null);
+	}
+
+	@Test
+	public void install_report() {
+		final List<Object> transformers = new ArrayList<Object>();
+		Assert.assertNotNull(CheckAgent.install(AgentOptions.parse("packages=com.example;mode=report"), recording(transformers)));
+		Assert.assertEquals(1, transformers.size());
+	}
+
+	@Test(expected = IllegalStateOfArgumentException.class)
+	public void premain_nullArguments() {
+		CheckAgent.premain(null, recording(new ArrayList<Object>()));
+	}
+
+}
@@ -0,0 +1,307 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.agent;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import net.sf.qualitycheck.agent.fixture.Annotated;
+import net.sf.qualitycheck.exception.IllegalNegativeArgumentException;
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+
+public class CheckInjectingTransformerTest {
+
+	/**
+	 * Loads the fixture classes by itself after instrumenting them, all other classes are loaded by the parent.
+	 */
+	private static final class InstrumentingClassLoader extends ClassLoader {
+
+		private final CheckInjectingTransformer transformer;
+
+		private InstrumentingClassLoader(final CheckInjectingTransformer transformer) {
+			super(InstrumentingClassLoader.class.getClassLoader());
+			this.transformer = transformer;
+		}
+
+		@Override
+		protected synchronized Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+			if (!name.startsWith(FIXTURE_PACKAGE)) {
+				return super.loadClass(name, resolve);
+			}
+			Class<?> loaded = findLoadedClass(name);
+			if (loaded == null) {
+				final byte[] original = readClassFile(name.replace('.', '/'));
+				final byte[] transformed = transformer.transform(this, name.replace('.', '/'), null, null, original);
+				final byte[] bytes = transformed != null ? transformed : original;
+				loaded = defineClass(name, bytes, 0, bytes.length);
+			}
+			return loaded;
+		}
+
+	}
+
+	private static final String FIXTURE_PACKAGE = "net.sf.qualitycheck.agent.fixture";
+
+	private static final List<String> NO_EXCLUSIONS = Collections.emptyList();
+
+	private static byte[] readClassFile(final String internalName) {
+		final InputStream in = CheckInjectingTransformerTest.class.getClassLoader().getResourceAsStream(internalName + ".class");
+		try {
+			try {
+				final ByteArrayOutputStream out = new ByteArrayOutputStream();
+				final byte[] buffer = new byte[4096];
+				int read;
+				while ((read = in.read(buffer)) != -1) {
+					out.write(buffer, 0, read);
+				}
+				return out.toByteArray();
+			} finally {
+				in.close();
+			}
+		} catch (final IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Rewrites a class file for the given class file version. The stack map frames, which are mandatory since Java 7,
+	 * are computed again, so that the result is a valid class file of that version.
+	 */
+	private static byte[] withVersion(final byte[] classfile, final int version) {
+		final ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES);
+		new ClassReader(classfile).accept(new ClassVisitor(Opcodes.ASM9, writer) {
+			@Override
+			public void visit(final int ignored, final int access, final String name, final String signature, final String superName,
+					final String[] interfaces) {
+				super.visit(version, access, name, signature, superName, interfaces);
+			}
+		}, ClassReader.SKIP_FRAMES);
+		return writer.toByteArray();
+	}
+
+	private RedundancyReport report;
+
+	private Class<?> annotated;
+
+	private Object invoke(final String name, final Object... args) throws Throwable {
+		for (final Method method : annotated.getMethods()) {
+			if (method.getName().equals(name)) {
+				try {
+					return method.invoke(null, args);
+				} catch (final InvocationTargetException e) {
+					throw e.getCause();
+				}
+			}
+		}
+		throw new NoSuchMethodException(name);
+	}
+
+	@Before
+	public void setUp() throws ClassNotFoundException {
+		report = new RedundancyReport();
+		final CheckInjectingTransformer transformer = new CheckInjectingTransformer(Arrays.asList(FIXTURE_PACKAGE),
+				NO_EXCLUSIONS, report);
+		annotated = new InstrumentingClassLoader(transformer).loadClass(Annotated.class.getName());
+		Assert.assertNotSame(Annotated.class, annotated);
+	}
+
+	@Test
+	public void constructor_nonnull() throws Throwable {
+		final Constructor<?> constructor = annotated.getConstructor(Object.class);
+		Assert.assertNotNull(constructor.newInstance("value"));
+		try {
+			constructor.newInstance(new Object[] { null });
+			Assert.fail();
+		} catch (final InvocationTargetException e) {
+			Assert.assertEquals(IllegalNullArgumentException.class, e.getCause().getClass());
+			Assert.assertEquals("Argument 'value' must not be null.", e.getCause().getMessage());
+		}
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void explicitCheck_afterAssignment_isNotRedundant() throws Throwable {
+		try {
+			invoke("checkedAfterAssignment", new Object[] { null });
+		} finally {
+			Assert.assertFalse(report.getEntries().toString().contains("#checkedAfterAssignment"));
+		}
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void explicitCheck_inBranch_isNotRedundant() throws Throwable {
+		try {
+			invoke("checkedInBranch", null, false);
+		} finally {
+			Assert.assertFalse(report.getEntries().toString().contains("#checkedInBranch"));
+		}
+	}
+
+	@Test
+	public void explicitCheck_isRedundant() {
+		final List<String> entries = report.getEntries();
+		Assert.assertEquals(3, entries.size());
+		Assert.assertTrue(entries.contains(FIXTURE_PACKAGE
+				+ ".Annotated#checkedExplicitly(Ljava/lang/String;)I: explicit check of parameter 'text' is redundant with @Nonnull"));
+		Assert.assertTrue(entries.contains(FIXTURE_PACKAGE
+				+ ".Annotated#checkedExplicitlyWithoutName(Ljava/lang/String;)I: explicit check of parameter 'text' is redundant with @Nonnull"));
+		Assert.assertTrue(entries.contains(FIXTURE_PACKAGE
+				+ ".Annotated#nonnegativeCheckedExplicitly(J)J: explicit check of parameter 'value' is redundant with @Nonnegative"));
+	}
+
+	@Test
+	public void explicitCheck_stillPerformed() throws Throwable {
+		try {
+			invoke("checkedExplicitlyWithoutName", new Object[] { null });
+			Assert.fail();
+		} catch (final IllegalNullArgumentException e) {
+			Assert.assertEquals("Argument must not be null.", e.getMessage());
+		}
+	}
+
+	@Test
+	public void instanceMethod_withLoop() throws Throwable {
+		final Object instance = annotated.getConstructor(Object.class).newInstance("value");
+		final Method loop = annotated.getMethod("loop", String.class, int.class);
+		Assert.assertEquals(6, loop.invoke(instance, "ab", 3));
+		try {
+			loop.invoke(instance, "ab", -1);
+			Assert.fail();
+		} catch (final InvocationTargetException e) {
+			Assert.assertEquals(IllegalNegativeArgumentException.class, e.getCause().getClass());
+		}
+	}
+
+	@Test
+	public void isInstrumented() {
+		final CheckInjectingTransformer transformer = new CheckInjectingTransformer(new AgentOptions(Arrays.asList("com.example",
+				"net.sf.qualitycheck"), AgentOptions.Mode.INJECT, null), null);
+		Assert.assertTrue(transformer.isInstrumented("com/example/Foo"));
+		Assert.assertTrue(transformer.isInstrumented("com/example/sub/Foo"));
+		Assert.assertFalse(transformer.isInstrumented("com/examples/Foo"));
+		Assert.assertFalse(transformer.isInstrumented("org/example/Foo"));
+		Assert.assertFalse(transformer.isInstrumented("net/sf/qualitycheck/Check"));
+	}
+
+	@Test
+	public void nonnegative() throws Throwable {
+		Assert.assertEquals(21L, invoke("nonnegative", (byte) 1, (short) 2, 3, 4L, 5f, 6d));
+		final Object[][] negatives = { { (byte) -1, (short) 2, 3, 4L, 5f, 6d }, { (byte) 1, (short) -2, 3, 4L, 5f, 6d },
+				{ (byte) 1, (short) 2, -3, 4L, 5f, 6d }, { (byte) 1, (short) 2, 3, -4L, 5f, 6d },
+				{ (byte) 1, (short) 2, 3, 4L, -5f, 6d }, { (byte) 1, (short) 2, 3, 4L, 5f, -6d } };
+		final String[] names = { "b", "s", "i", "l", "f", "d" };
+		for (int i = 0; i < negatives.length; i++) {
+			try {
+				invoke("nonnegative", negatives[i]);
+				Assert.fail();
+			} catch (final IllegalNegativeArgumentException e) {
+				Assert.assertTrue(e.getMessage(), e.getMessage().contains("'" + names[i] + "'"));
+			}
+		}
+	}
+
+	@Test
+	public void nonnull() throws Throwable {
+		Assert.assertEquals("text", invoke("nonnull", "text", null, new int[0]));
+		try {
+			invoke("nonnull", null, null, new int[0]);
+			Assert.fail();
+		} catch (final IllegalNullArgumentException e) {
+			Assert.assertEquals("Argument 'text' must not be null.", e.getMessage());
+		}
+		try {
+			invoke("nonnull", "text", null, null);
+			Assert.fail();
+		} catch (final IllegalNullArgumentException e) {
+			Assert.assertEquals("Argument 'values' must not be null.", e.getMessage());
+		}
+	}
+
+	@Test
+	public void nonnullMaybe_isNotChecked() throws Throwable {
+		Assert.assertNull(invoke("nonnullMaybe", new Object[] { null }));
+	}
+
+	@Test
+	public void transform_excludedClass() {
+		final CheckInjectingTransformer transformer = new CheckInjectingTransformer(Arrays.asList(FIXTURE_PACKAGE),
+				CheckInjectingTransformer.DEFAULT_EXCLUSIONS, null);
+		final String name = Annotated.class.getName().replace('.', '/');
+		Assert.assertNull(transformer.transform(null, name, null, null, readClassFile(name)));
+	}
+
+	@Test
+	public void transform_invalidClassFile() {
+		final CheckInjectingTransformer transformer = new CheckInjectingTransformer(Arrays.asList(FIXTURE_PACKAGE),
+				NO_EXCLUSIONS, null);
+		Assert.assertNull(transformer.transform(null, "net/sf/qualitycheck/agent/fixture/Broken", null, null, new byte[] { 1, 2,
+				3 }));
+	}
+
+	@Test
+	public void transform_nullClassName() {
+		final CheckInjectingTransformer transformer = new CheckInjectingTransformer(Arrays.asList(FIXTURE_PACKAGE),
+				NO_EXCLUSIONS, null);
+		Assert.assertNull(transformer.transform(null, null, null, null, new byte[0]));
+	}
+
+	@Test
+	public void transform_recentClassFileVersions() {
+		final CheckInjectingTransformer transformer = new CheckInjectingTransformer(Arrays.asList(FIXTURE_PACKAGE),
+				NO_EXCLUSIONS, null);
+		final String name = Annotated.class.getName().replace('.', '/');
+		for (final int version : new int[] { Opcodes.V11, Opcodes.V17, Opcodes.V21 }) {
+			final byte[] transformed = transformer.transform(null, name, null, null, withVersion(readClassFile(name), version));
+			Assert.assertNotNull(transformed);
+			final ClassNode node = new ClassNode(Opcodes.ASM9);
+			new ClassReader(transformed).accept(node, 0);
+			Assert.assertEquals(version, node.version);
+			for (final MethodNode method : node.methods) {
+				if (method.name.equals("nonnull")) {
+					final MethodInsnNode first = (MethodInsnNode) method.instructions.get(2);
+					Assert.assertEquals("net/sf/qualitycheck/Check", first.owner);
+					Assert.assertEquals("notNull", first.name);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void transform_withoutAnnotations() {
+		final CheckInjectingTransformer transformer = new CheckInjectingTransformer(Arrays.asList("net.sf.qualitycheck.agent"),
+				NO_EXCLUSIONS, null);
+		final String name = AgentOptions.Mode.class.getName().replace('.', '/');
+		Assert.assertNull(transformer.transform(null, name, null, null, readClassFile(name)));
+	}
+
+}
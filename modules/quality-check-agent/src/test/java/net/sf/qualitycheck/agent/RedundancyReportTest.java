@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.agent;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RedundancyReportTest {
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void add_nullParameterName() {
+		new RedundancyReport().add("com/example/Foo", "bar", "()V", null, "Nonnull");
+	}
+
+	@Test
+	public void writeTo() {
+		final RedundancyReport report = new RedundancyReport();
+		report.add("com/example/Foo", "bar", "(Ljava/lang/String;)V", "text", "Nonnull");
+		final StringWriter out = new StringWriter();
+		report.writeTo(new PrintWriter(out));
+		final String nl = System.getProperty("line.separator");
+		Assert.assertEquals("Quality-Check agent: 1 redundant explicit check(s)" + nl
+				+ "com.example.Foo#bar(Ljava/lang/String;)V: explicit check of parameter 'text' is redundant with @Nonnull" + nl,
+				out.toString());
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void writeTo_null() {
+		new RedundancyReport().writeTo(null);
+	}
+
+}
@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.agent.fixture;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.meta.When;
+
+import net.sf.qualitycheck.Check;
+
+/**
+ * Class with annotated parameters which will be instrumented in tests of the agent.
+ */
+public class Annotated {
+
+	public static int checkedAfterAssignment(@Nonnull String text) {
+		text = text == null ? "" : text;
+		Check.notNull(text, "text");
+		return text.length();
+	}
+
+	public static int checkedExplicitly(@Nonnull final String text) {
+		Check.notNull(text, "text");
+		return text.length();
+	}
+
+	public static int checkedExplicitlyWithoutName(@Nonnull final String text) {
+		Check.notNull(text);
+		return text.length();
+	}
+
+	public static int checkedInBranch(@Nonnull final String text, final boolean check) {
+		if (check) {
+			Check.notNull(text, "text");
+		}
+		return 0;
+	}
+
+	public static long nonnegative(@Nonnegative final byte b, @Nonnegative final short s, @Nonnegative final int i,
+			@Nonnegative final long l, @Nonnegative final float f, @Nonnegative final double d) {
+		return b + s + i + l + (long) f + (long) d;
+	}
+
+	public static long nonnegativeCheckedExplicitly(@Nonnegative final long value) {
+		return Check.notNegative(value, "value");
+	}
+
+	public static String nonnull(@Nonnull final String text, final Object unannotated, @Nonnull final int[] values) {
+		return text;
+	}
+
+	public static String nonnullMaybe(@Nonnull(when = When.MAYBE) final String text) {
+		return text;
+	}
+
+	private final Object value;
+
+	public Annotated(@Nonnull final Object value) {
+		this.value = value;
+	}
+
+	public Object getValue() {
+		return value;
+	}
+
+	public int loop(@Nonnull final String text, @Nonnegative final int count) {
+		int result = 0;
+		for (int i = 0; i < count; i++) {
+			result += text.length();
+		}
+		return result;
+	}
+
+}
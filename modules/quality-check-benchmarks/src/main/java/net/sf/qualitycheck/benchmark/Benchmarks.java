@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the shaded benchmark JAR.
+ * <p>
+ * Without arguments all benchmarks of this module will be run with the allocation profiler ({@code -prof gc})
+ * attached, so that every result reports the normalized allocation rate ({@code gc.alloc.rate.norm}) besides the
+ * average time. If arguments are passed, they will be handed over as they are to the JMH command line interface, e.g.
+ * 
+ * <pre>
+ * java -jar target/benchmarks.jar CheckBenchmark_notNull -prof gc -f 1
+ * </pre>
+ * 
+ * @author André Rouél
+ */
+public final class Benchmarks {
+
+	/**
+	 * Runs the benchmarks of this module.
+	 * 
+	 * @param args
+	 *            arguments for the JMH command line interface
+	 * @throws Exception
+	 *             if the benchmarks could not be run
+	 */
+	public static void main(final String[] args) throws Exception {
+		if (args.length > 0) {
+			org.openjdk.jmh.Main.main(args);
+		} else {
+			runAll();
+		}
+	}
+
+	private static void runAll() throws RunnerException {
+		final Options options = new OptionsBuilder().include(Benchmarks.class.getPackage().getName() + ".*")
+				.addProfiler(GCProfiler.class).build();
+		new Runner(options).run();
+	}
+
+	/**
+	 * <strong>Attention:</strong> This class is not intended to create objects from it.
+	 */
+	private Benchmarks() {
+		// This class is not intended to create objects from it.
+	}
+
+}
@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import net.sf.qualitycheck.Check;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the array overloads of {@link Check#notNegative(int[])}, {@link Check#notNaN(double[])},
+ * {@link Check#positionIndex(int[], int)} and {@link Check#allInRange(long[], long, long)} with a loop of the scalar
+ * checks. The {@code loop_*} benchmarks are the baseline.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CheckBenchmark_arrays {
+
+	@Param({ "16", "1024", "65536" })
+	private int size;
+
+	private long[] ids;
+
+	private int[] indices;
+
+	private double[] readings;
+
+	@Benchmark
+	public Object allInRange_long_success() {
+		return Check.allInRange(ids, 0L, Long.MAX_VALUE, "ids");
+	}
+
+	@Benchmark
+	public long loop_allInRange_long_success() {
+		long sum = 0;
+		for (final long id : ids) {
+			sum += Check.greaterOrEqualThan(Long.valueOf(0L), Long.valueOf(id), "id").longValue();
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public double loop_notNaN_double_success() {
+		double sum = 0;
+		for (final double reading : readings) {
+			sum += Check.notNaN(reading, "reading");
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public int loop_notNegative_int_success() {
+		int sum = 0;
+		for (final int index : indices) {
+			sum += Check.notNegative(index, "index");
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public int loop_positionIndex_success() {
+		int sum = 0;
+		for (final int index : indices) {
+			sum += Check.positionIndex(index, size);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public Object notNaN_double_success() {
+		return Check.notNaN(readings, "readings");
+	}
+
+	@Benchmark
+	public Object notNegative_int_success() {
+		return Check.notNegative(indices, "indices");
+	}
+
+	@Benchmark
+	public Object positionIndex_success() {
+		return Check.positionIndex(indices, size, "indices");
+	}
+
+	@Setup
+	public void setup() {
+		ids = new long[size];
+		indices = new int[size];
+		readings = new double[size];
+		for (int i = 0; i < size; i++) {
+			ids[i] = i * 31L;
+			indices[i] = (i * 7) % size;
+			readings[i] = i * 0.5;
+		}
+	}
+
+}
@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.benchmark;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import net.sf.qualitycheck.Check;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the checks on {@link ByteBuffer}s with decoding the buffer into a {@code String} and checking the string,
+ * which was necessary before. The {@code decode_*} benchmarks are the baseline.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CheckBenchmark_buffers {
+
+	private static final Pattern RECORD = Pattern.compile("[A-Z]{2}[0-9]+");
+
+	@Param({ "16", "4096" })
+	private int length;
+
+	@Param({ "heap", "direct" })
+	private String kind;
+
+	private ByteBuffer digits;
+
+	private ByteBuffer record;
+
+	@Benchmark
+	public Object decode_isNumeric() {
+		return Check.isNumeric(StandardCharsets.ISO_8859_1.decode(digits.duplicate()).toString());
+	}
+
+	@Benchmark
+	public Object decode_matchesPattern() {
+		return Check.matchesPattern(RECORD, StandardCharsets.ISO_8859_1.decode(record.duplicate()).toString());
+	}
+
+	@Benchmark
+	public Object isNumeric() {
+		return Check.isNumeric(digits);
+	}
+
+	@Benchmark
+	public Object matchesPattern() {
+		return Check.matchesPattern(RECORD, record);
+	}
+
+	@Setup
+	public void setup() {
+		final byte[] bytes = new byte[length];
+		Arrays.fill(bytes, (byte) '7');
+		digits = "direct".equals(kind) ? ByteBuffer.allocateDirect(length) : ByteBuffer.allocate(length);
+		digits.put(bytes).flip();
+		bytes[0] = 'A';
+		bytes[1] = 'B';
+		record = "direct".equals(kind) ? ByteBuffer.allocateDirect(length) : ByteBuffer.allocate(length);
+		record.put(bytes).flip();
+	}
+
+}
@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import net.sf.qualitycheck.Check;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the primitive overloads of the comparing checks with their boxed counterparts, which are dispatched
+ * through {@link Comparable#compareTo(Object)}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CheckBenchmark_comparison {
+
+	private int small = 23;
+
+	private int large = 42;
+
+	private long largeLong = 42L;
+
+	private double largeDouble = 42.0d;
+
+	private Integer boxedSmall = Integer.valueOf(small);
+
+	private Integer boxedLarge = Integer.valueOf(large);
+
+	private int middle = 30;
+
+	private Integer boxedMiddle = Integer.valueOf(middle);
+
+	@Benchmark
+	public int between_primitive_success() {
+		return Check.between(middle, small, large, "value");
+	}
+
+	@Benchmark
+	public Object equals_boxed_success() {
+		return Check.equals(boxedLarge, boxedLarge);
+	}
+
+	@Benchmark
+	public int equals_primitive_success() {
+		return Check.equals(large, large);
+	}
+
+	@Benchmark
+	public Object equals_primitive_failure() {
+		try {
+			return Check.equals(small, large, "value");
+		} catch (final RuntimeException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object greaterOrEqualThan_boxed_success() {
+		return Check.greaterOrEqualThan(boxedSmall, boxedLarge);
+	}
+
+	@Benchmark
+	public Object greaterThan_boxed_success() {
+		return Check.greaterThan(boxedSmall, boxedLarge);
+	}
+
+	@Benchmark
+	public Object greaterThan_boxed_withMessage_success() {
+		return Check.greaterThan(boxedSmall, boxedLarge, "value");
+	}
+
+	@Benchmark
+	public double greaterThan_double_success() {
+		return Check.greaterThan(small, largeDouble);
+	}
+
+	@Benchmark
+	public long greaterThan_long_success() {
+		return Check.greaterThan(small, largeLong);
+	}
+
+	@Benchmark
+	public Object greaterThan_primitive_failure() {
+		try {
+			return Check.greaterThan(large, small);
+		} catch (final RuntimeException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public int greaterThan_primitive_success() {
+		return Check.greaterThan(small, large);
+	}
+
+	@Benchmark
+	public int greaterThan_primitive_withMessage_success() {
+		return Check.greaterThan(small, large, "value");
+	}
+
+	@Benchmark
+	public Object inRange_boxedChain_success() {
+		return Check.lesserThan(boxedLarge, Check.greaterOrEqualThan(boxedSmall, boxedMiddle, "value"), "value");
+	}
+
+	@Benchmark
+	public Object inRange_primitive_failure() {
+		try {
+			return Check.inRange(large, small, large, "value");
+		} catch (final RuntimeException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public int inRange_primitive_success() {
+		return Check.inRange(middle, small, large, "value");
+	}
+
+	@Benchmark
+	public Object lesserThan_boxed_success() {
+		return Check.lesserThan(boxedLarge, boxedSmall);
+	}
+
+	@Benchmark
+	public int lesserThan_primitive_success() {
+		return Check.lesserThan(large, small);
+	}
+
+	@Benchmark
+	public Object notEquals_boxed_success() {
+		return Check.notEquals(boxedSmall, boxedLarge);
+	}
+
+	@Benchmark
+	public int notEquals_primitive_success() {
+		return Check.notEquals(small, large);
+	}
+
+}
@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import net.sf.qualitycheck.AllowedInts;
+import net.sf.qualitycheck.AllowedValues;
+import net.sf.qualitycheck.Check;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares looking up a code in a precomputed {@link AllowedValues} or {@link AllowedInts} index with searching a
+ * {@code List} of allowed codes. The {@code list_*} benchmark is the baseline.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CheckBenchmark_contains {
+
+	@Param({ "16", "1024" })
+	private int size;
+
+	private List<String> list;
+
+	private AllowedValues<String> values;
+
+	private AllowedInts ints;
+
+	private String code;
+
+	private int intCode;
+
+	@Benchmark
+	public int allowedInts() {
+		return Check.contains(ints, intCode);
+	}
+
+	@Benchmark
+	public Object allowedValues() {
+		return Check.contains(values, code);
+	}
+
+	@Benchmark
+	public Object list_contains() {
+		return Check.contains(list, code);
+	}
+
+	@Setup
+	public void setup() {
+		list = new ArrayList<String>();
+		final int[] codes = new int[size];
+		for (int i = 0; i < size; i++) {
+			list.add("C" + (1000 + i));
+			codes[i] = 1000 + 3 * i;
+		}
+		values = AllowedValues.of(list);
+		ints = AllowedInts.of(codes);
+
+		// the last code is the worst case for a linear search
+		code = new String(list.get(size - 1));
+		intCode = codes[size - 1];
+	}
+
+}
@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import net.sf.qualitycheck.Check;
+import net.sf.qualitycheck.exception.IllegalNullElementsException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CheckBenchmark_elements {
+
+	private enum Code {
+		A, B, C, D, E, F, G, H
+	}
+
+	@Param({ "16", "1024" })
+	private int size;
+
+	private String[] array;
+
+	private String[] arrayWithNull;
+
+	private List<String> list;
+
+	private List<String> listWithNull;
+
+	private Collection<Code> allowedCodes = EnumSet.of(Code.A, Code.C, Code.H);
+
+	private List<Integer> allowedNumbers;
+
+	private Integer number;
+
+	private Code code = Code.H;
+
+	@Setup
+	public void setUp() {
+		array = new String[size];
+		list = new ArrayList<String>(size);
+		allowedNumbers = new ArrayList<Integer>(size);
+		for (int i = 0; i < size; i++) {
+			array[i] = String.valueOf(i);
+			list.add(array[i]);
+			allowedNumbers.add(Integer.valueOf(i));
+		}
+		arrayWithNull = array.clone();
+		arrayWithNull[size - 1] = null;
+		listWithNull = new ArrayList<String>(list);
+		listWithNull.set(size - 1, null);
+		number = Integer.valueOf(size - 1);
+	}
+
+	@Benchmark
+	public Object contains_enumSet_success() {
+		return Check.contains(allowedCodes, code, "code");
+	}
+
+	@Benchmark
+	public Object contains_list_success() {
+		return Check.contains(allowedNumbers, number, "number");
+	}
+
+	@Benchmark
+	public Object noNullElements_array_failure() {
+		try {
+			return Check.noNullElements(arrayWithNull, "array");
+		} catch (final IllegalNullElementsException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object noNullElements_array_success() {
+		return Check.noNullElements(array);
+	}
+
+	@Benchmark
+	public Object noNullElements_array_withArgName_success() {
+		return Check.noNullElements(array, "array");
+	}
+
+	@Benchmark
+	public Object noNullElements_iterable_failure() {
+		try {
+			return Check.noNullElements(listWithNull, "list");
+		} catch (final IllegalNullElementsException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object noNullElements_iterable_success() {
+		return Check.noNullElements(list);
+	}
+
+	@Benchmark
+	public Object noNullElements_iterable_withArgName_success() {
+		return Check.noNullElements(list, "list");
+	}
+
+}
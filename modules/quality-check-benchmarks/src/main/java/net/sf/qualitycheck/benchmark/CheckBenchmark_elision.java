@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import net.sf.qualitycheck.Check;
+import net.sf.qualitycheck.CheckElision;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of checks which have been elided by {@link CheckElision}. The {@code *_elided} benchmarks run in a
+ * JVM which has been started with {@code -Dnet.sf.qualitycheck.elide=NOT_NULL,PATTERN,RANGE} and should be as fast as
+ * {@link #noCheck()}, the others are the baseline with active checks.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CheckBenchmark_elision {
+
+	private static final String ELIDED = "-Dnet.sf.qualitycheck.elide=NOT_NULL,PATTERN,RANGE";
+
+	private final Pattern pattern = Pattern.compile("[a-z]+[0-9]*");
+
+	private final Object reference = new Object();
+
+	private final int index = 42;
+
+	private final String text = "quality42";
+
+	@Benchmark
+	public String matchesPattern() {
+		return Check.matchesPattern(pattern, text, "text");
+	}
+
+	@Benchmark
+	@Fork(value = 1, jvmArgsAppend = ELIDED)
+	public String matchesPattern_elided() {
+		return Check.matchesPattern(pattern, text, "text");
+	}
+
+	@Benchmark
+	public Object noCheck() {
+		return reference;
+	}
+
+	@Benchmark
+	public Object notNull() {
+		return Check.notNull(reference, "reference");
+	}
+
+	@Benchmark
+	@Fork(value = 1, jvmArgsAppend = ELIDED)
+	public Object notNull_elided() {
+		return Check.notNull(reference, "reference");
+	}
+
+	@Benchmark
+	public int positionIndex() {
+		return Check.positionIndex(index, 100);
+	}
+
+	@Benchmark
+	@Fork(value = 1, jvmArgsAppend = ELIDED)
+	public int positionIndex_elided() {
+		return Check.positionIndex(index, 100);
+	}
+
+}
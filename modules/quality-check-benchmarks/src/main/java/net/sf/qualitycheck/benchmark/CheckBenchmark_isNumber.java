@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.benchmark;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+import net.sf.qualitycheck.Check;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CheckBenchmark_isNumber {
+
+	private String integer = "1234567";
+
+	private String longNumber = "1234567890123";
+
+	private String decimal = "12345.678";
+
+	private String notANumber = "12a45";
+
+	private String outOfIntegerRange = "2147483648";
+
+	@Benchmark
+	public int isInt_success() {
+		return Check.isInt(integer);
+	}
+
+	@Benchmark
+	public int isInt_withArgName_success() {
+		return Check.isInt(integer, "value");
+	}
+
+	@Benchmark
+	public long isLong_success() {
+		return Check.isLong(longNumber);
+	}
+
+	@Benchmark
+	public Object isNumber_bigDecimal_success() {
+		return Check.isNumber(decimal, BigDecimal.class);
+	}
+
+	@Benchmark
+	public Object isNumber_bigInteger_success() {
+		return Check.isNumber(longNumber, BigInteger.class);
+	}
+
+	@Benchmark
+	public Object isNumber_byte_success() {
+		return Check.isNumber("123", Byte.class);
+	}
+
+	@Benchmark
+	public Object isNumber_double_success() {
+		return Check.isNumber(decimal, Double.class);
+	}
+
+	@Benchmark
+	public Object isNumber_failure() {
+		try {
+			return Check.isNumber(notANumber);
+		} catch (final RuntimeException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object isNumber_float_success() {
+		return Check.isNumber(decimal, Float.class);
+	}
+
+	@Benchmark
+	public Object isNumber_integer_outOfRange_failure() {
+		try {
+			return Check.isNumber(outOfIntegerRange, Integer.class);
+		} catch (final RuntimeException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object isNumber_integer_success() {
+		return Check.isNumber(integer, Integer.class);
+	}
+
+	@Benchmark
+	public Object isNumber_long_success() {
+		return Check.isNumber(longNumber, Long.class);
+	}
+
+	@Benchmark
+	public int isNumber_primitive_success() {
+		return Check.isNumber(integer);
+	}
+
+	@Benchmark
+	public Object isNumber_short_success() {
+		return Check.isNumber("12345", Short.class);
+	}
+
+	@Benchmark
+	public Object isNumber_withArgName_failure() {
+		try {
+			return Check.isNumber(notANumber, "value");
+		} catch (final RuntimeException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public int isNumber_withArgName_primitive_success() {
+		return Check.isNumber(integer, "value");
+	}
+
+	@Benchmark
+	public Object isNumber_withArgName_integer_success() {
+		return Check.isNumber(integer, "value", Integer.class);
+	}
+
+}
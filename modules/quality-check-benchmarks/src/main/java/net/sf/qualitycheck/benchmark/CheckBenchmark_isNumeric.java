@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.benchmark;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import net.sf.qualitycheck.Check;
+import net.sf.qualitycheck.exception.IllegalNumericArgumentException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link Check#isNumeric(CharSequence)} with the regular expression {@code [0-9]+} that was used before. The
+ * {@code regex_*} benchmarks are the baseline.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CheckBenchmark_isNumeric {
+
+	private static final Pattern NUMERIC_REGEX = Pattern.compile("[0-9]+");
+
+	@Param({ "16", "256" })
+	private int length;
+
+	private String accountNumber;
+
+	private StringBuilder accountNumberBuilder;
+
+	private String notNumeric;
+
+	@Benchmark
+	public Object isNumeric_charSequence_success() {
+		return Check.isNumeric(accountNumberBuilder);
+	}
+
+	@Benchmark
+	public Object isNumeric_failure() {
+		try {
+			return Check.isNumeric(notNumeric);
+		} catch (final IllegalNumericArgumentException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object isNumeric_success() {
+		return Check.isNumeric(accountNumber);
+	}
+
+	@Benchmark
+	public Object isNumeric_withArgName_failure() {
+		try {
+			return Check.isNumeric(notNumeric, "accountNumber");
+		} catch (final IllegalNumericArgumentException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object isNumeric_withArgName_success() {
+		return Check.isNumeric(accountNumber, "accountNumber");
+	}
+
+	@Benchmark
+	public boolean regex_charSequence_success() {
+		return NUMERIC_REGEX.matcher(accountNumberBuilder).matches();
+	}
+
+	@Benchmark
+	public boolean regex_success() {
+		return NUMERIC_REGEX.matcher(accountNumber).matches();
+	}
+
+	@Setup
+	public void setup() {
+		final char[] digits = new char[length];
+		for (int i = 0; i < length; i++) {
+			digits[i] = (char) ('0' + i % 10);
+		}
+		accountNumber = new String(digits);
+		accountNumberBuilder = new StringBuilder(accountNumber);
+		final char[] invalid = Arrays.copyOf(digits, length);
+		invalid[length - 1] = '-';
+		notNumeric = new String(invalid);
+	}
+
+}
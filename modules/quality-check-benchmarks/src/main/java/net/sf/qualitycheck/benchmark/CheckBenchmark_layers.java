@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import net.sf.qualitycheck.Check;
+import net.sf.qualitycheck.CompiledPattern;
+import net.sf.qualitycheck.MatchedString;
+import net.sf.qualitycheck.NonEmptyString;
+import net.sf.qualitycheck.NonNegativeInt;
+import net.sf.qualitycheck.NonNullList;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Passes the same arguments through three layers (controller, service and repository). The {@code recheck_*}
+ * benchmarks are the baseline, where each layer checks the raw arguments again. The {@code wrapped_*} benchmarks check
+ * them once into value types like {@link NonNegativeInt}, which the lower layers accept without checking. The
+ * {@code *_boundaries} variants keep each layer a separate compiled method, the other variants let the JIT compiler
+ * inline the layers, so that the value types can be scalar-replaced.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CheckBenchmark_layers {
+
+	private static final CompiledPattern ID = CompiledPattern.compile("[A-Z]{2}[0-9]{6}");
+
+	private static final int TAGS = 10;
+
+	private int quantity;
+
+	private String customer;
+
+	private String id;
+
+	private List<String> tags;
+
+	private static int recheckController(final int quantity, final String customer, final String id, final List<String> tags) {
+		Check.notNegative(quantity, "quantity");
+		Check.notEmpty(customer, "customer");
+		Check.matchesPattern(ID, id, "id");
+		Check.noNullElements(tags, "tags");
+		return recheckService(quantity, customer, id, tags);
+	}
+
+	@CompilerControl(CompilerControl.Mode.DONT_INLINE)
+	private static int recheckControllerBoundary(final int quantity, final String customer, final String id, final List<String> tags) {
+		Check.notNegative(quantity, "quantity");
+		Check.notEmpty(customer, "customer");
+		Check.matchesPattern(ID, id, "id");
+		Check.noNullElements(tags, "tags");
+		return recheckServiceBoundary(quantity, customer, id, tags);
+	}
+
+	private static int recheckRepository(final int quantity, final String customer, final String id, final List<String> tags) {
+		Check.notNegative(quantity, "quantity");
+		Check.notEmpty(customer, "customer");
+		Check.matchesPattern(ID, id, "id");
+		Check.noNullElements(tags, "tags");
+		return quantity + customer.length() + id.length() + tags.size();
+	}
+
+	@CompilerControl(CompilerControl.Mode.DONT_INLINE)
+	private static int recheckRepositoryBoundary(final int quantity, final String customer, final String id, final List<String> tags) {
+		Check.notNegative(quantity, "quantity");
+		Check.notEmpty(customer, "customer");
+		Check.matchesPattern(ID, id, "id");
+		Check.noNullElements(tags, "tags");
+		return quantity + customer.length() + id.length() + tags.size();
+	}
+
+	private static int recheckService(final int quantity, final String customer, final String id, final List<String> tags) {
+		Check.notNegative(quantity, "quantity");
+		Check.notEmpty(customer, "customer");
+		Check.matchesPattern(ID, id, "id");
+		Check.noNullElements(tags, "tags");
+		return recheckRepository(quantity, customer, id, tags);
+	}
+
+	@CompilerControl(CompilerControl.Mode.DONT_INLINE)
+	private static int recheckServiceBoundary(final int quantity, final String customer, final String id, final List<String> tags) {
+		Check.notNegative(quantity, "quantity");
+		Check.notEmpty(customer, "customer");
+		Check.matchesPattern(ID, id, "id");
+		Check.noNullElements(tags, "tags");
+		return recheckRepositoryBoundary(quantity, customer, id, tags);
+	}
+
+	private static int wrappedController(final int quantity, final String customer, final String id, final List<String> tags) {
+		return wrappedService(Check.nonNegativeInt(quantity, "quantity"), Check.nonEmptyString(customer, "customer"),
+				Check.matchedString(ID, id, "id"), Check.<String> nonNullList(tags, "tags"));
+	}
+
+	@CompilerControl(CompilerControl.Mode.DONT_INLINE)
+	private static int wrappedControllerBoundary(final int quantity, final String customer, final String id, final List<String> tags) {
+		return wrappedServiceBoundary(Check.nonNegativeInt(quantity, "quantity"), Check.nonEmptyString(customer, "customer"),
+				Check.matchedString(ID, id, "id"), Check.<String> nonNullList(tags, "tags"));
+	}
+
+	private static int wrappedRepository(final NonNegativeInt quantity, final NonEmptyString customer, final MatchedString id,
+			final NonNullList<String> tags) {
+		return quantity.intValue() + customer.length() + id.length() + tags.size();
+	}
+
+	@CompilerControl(CompilerControl.Mode.DONT_INLINE)
+	private static int wrappedRepositoryBoundary(final NonNegativeInt quantity, final NonEmptyString customer, final MatchedString id,
+			final NonNullList<String> tags) {
+		return quantity.intValue() + customer.length() + id.length() + tags.size();
+	}
+
+	private static int wrappedService(final NonNegativeInt quantity, final NonEmptyString customer, final MatchedString id,
+			final NonNullList<String> tags) {
+		return wrappedRepository(quantity, customer, id, tags);
+	}
+
+	@CompilerControl(CompilerControl.Mode.DONT_INLINE)
+	private static int wrappedServiceBoundary(final NonNegativeInt quantity, final NonEmptyString customer, final MatchedString id,
+			final NonNullList<String> tags) {
+		return wrappedRepositoryBoundary(quantity, customer, id, tags);
+	}
+
+	@Benchmark
+	public int recheck() {
+		return recheckController(quantity, customer, id, tags);
+	}
+
+	@Benchmark
+	public int recheck_boundaries() {
+		return recheckControllerBoundary(quantity, customer, id, tags);
+	}
+
+	@Setup
+	public void setup() {
+		quantity = 42;
+		customer = "ACME";
+		id = "AB123456";
+		tags = new ArrayList<String>(TAGS);
+		for (int i = 0; i < TAGS; i++) {
+			tags.add("tag" + i);
+		}
+	}
+
+	@Benchmark
+	public int wrapped() {
+		return wrappedController(quantity, customer, id, tags);
+	}
+
+	@Benchmark
+	public int wrapped_boundaries() {
+		return wrappedControllerBoundary(quantity, customer, id, tags);
+	}
+
+}
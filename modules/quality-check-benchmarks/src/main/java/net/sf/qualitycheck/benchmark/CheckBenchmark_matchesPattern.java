@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import net.sf.qualitycheck.Check;
+import net.sf.qualitycheck.CompiledPattern;
+import net.sf.qualitycheck.exception.IllegalPatternArgumentException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CheckBenchmark_matchesPattern {
+
+	private static final Pattern IP_ADDRESS = Pattern.compile("\\d{1,3}\\.\\d{1,3}\\.\\d{1,3}\\.\\d{1,3}");
+
+	private static final Pattern HEX_ID = Pattern.compile("[a-f0-9]{32}");
+
+	private static final CompiledPattern COMPILED_IP_ADDRESS = CompiledPattern.of(IP_ADDRESS);
+
+	private static final CompiledPattern COMPILED_HEX_ID = CompiledPattern.of(HEX_ID);
+
+	private String ipAddressRegex = IP_ADDRESS.pattern();
+
+	private String ipAddress = "192.168.100.254";
+
+	private String hexId = "0123456789abcdef0123456789abcdef";
+
+	private String illegalIpAddress = "192.168.100.x";
+
+	@Benchmark
+	public Object matchesPattern_compiled_failure() {
+		try {
+			return Check.matchesPattern(COMPILED_IP_ADDRESS, illegalIpAddress);
+		} catch (final IllegalPatternArgumentException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object matchesPattern_compiled_hexId_success() {
+		return Check.matchesPattern(COMPILED_HEX_ID, hexId);
+	}
+
+	@Benchmark
+	public Object matchesPattern_compiled_success() {
+		return Check.matchesPattern(COMPILED_IP_ADDRESS, ipAddress);
+	}
+
+	@Benchmark
+	public Object matchesPattern_failure() {
+		try {
+			return Check.matchesPattern(IP_ADDRESS, illegalIpAddress);
+		} catch (final IllegalPatternArgumentException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object matchesPattern_hexId_success() {
+		return Check.matchesPattern(HEX_ID, hexId);
+	}
+
+	@Benchmark
+	public Object matchesPattern_success() {
+		return Check.matchesPattern(IP_ADDRESS, ipAddress);
+	}
+
+	@Benchmark
+	public Object matchesPattern_withArgName_failure() {
+		try {
+			return Check.matchesPattern(IP_ADDRESS, illegalIpAddress, "ipAddress");
+		} catch (final IllegalPatternArgumentException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object matchesPattern_withArgName_success() {
+		return Check.matchesPattern(IP_ADDRESS, ipAddress, "ipAddress");
+	}
+
+	@Benchmark
+	public Object matchesPattern_withArgName_compileEachCall_success() {
+		return Check.matchesPattern(Pattern.compile(ipAddressRegex), ipAddress, "ipAddress");
+	}
+
+	@Benchmark
+	public Object matchesPattern_withArgName_regex_success() {
+		return Check.matchesPattern(ipAddressRegex, ipAddress, "ipAddress");
+	}
+
+	@Benchmark
+	@Threads(4)
+	public Object matchesPattern_withArgName_regex_success_4threads() {
+		return Check.matchesPattern(ipAddressRegex, ipAddress, "ipAddress");
+	}
+
+}
@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import net.sf.qualitycheck.Check;
+import net.sf.qualitycheck.CheckMetrics;
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the overhead of {@link CheckMetrics}. The {@code *_metricsEnabled} benchmarks run in a JVM which has been
+ * started with {@code -Dnet.sf.qualitycheck.metrics.enabled=true}, the others are the baseline without metrics. Stack
+ * traces are switched off in both cases, so that the recording is not hidden behind the cost of capturing them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dnet.sf.qualitycheck.exception.captureStackTrace=false")
+@State(Scope.Benchmark)
+public class CheckBenchmark_metrics {
+
+	private static final String METRICS_ENABLED = "-Dnet.sf.qualitycheck.metrics.enabled=true";
+
+	private static final String STACK_TRACES_DISABLED = "-Dnet.sf.qualitycheck.exception.captureStackTrace=false";
+
+	private final Object reference = new Object();
+
+	@Benchmark
+	public Object notNull_withArgName_failure() {
+		try {
+			return Check.notNull(null, "reference");
+		} catch (final IllegalNullArgumentException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	@Fork(value = 1, jvmArgsAppend = { STACK_TRACES_DISABLED, METRICS_ENABLED })
+	public Object notNull_withArgName_failure_metricsEnabled() {
+		try {
+			return Check.notNull(null, "reference");
+		} catch (final IllegalNullArgumentException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	@Fork(value = 1, jvmArgsAppend = { STACK_TRACES_DISABLED, METRICS_ENABLED })
+	@Threads(4)
+	public Object notNull_withArgName_failure_metricsEnabled_4threads() {
+		try {
+			return Check.notNull(null, "reference");
+		} catch (final IllegalNullArgumentException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object notNull_withArgName_success() {
+		return Check.notNull(reference, "reference");
+	}
+
+	@Benchmark
+	@Fork(value = 1, jvmArgsAppend = { STACK_TRACES_DISABLED, METRICS_ENABLED })
+	public Object notNull_withArgName_success_metricsEnabled() {
+		return Check.notNull(reference, "reference");
+	}
+
+}
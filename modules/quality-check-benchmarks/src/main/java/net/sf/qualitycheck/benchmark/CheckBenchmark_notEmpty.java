@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import net.sf.qualitycheck.Check;
+import net.sf.qualitycheck.exception.IllegalEmptyArgumentException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CheckBenchmark_notEmpty {
+
+	private String chars = "quality";
+
+	private String emptyChars = "";
+
+	private List<String> collection = new ArrayList<String>(Collections.singletonList("quality"));
+
+	private List<String> emptyCollection = new ArrayList<String>();
+
+	private Iterable<String> iterable = collection;
+
+	private Map<String, String> map = new HashMap<String, String>(Collections.singletonMap("quality", "check"));
+
+	private String[] array = { "quality" };
+
+	@Benchmark
+	public Object notEmpty_array_success() {
+		return Check.notEmpty(array);
+	}
+
+	@Benchmark
+	public Object notEmpty_array_withArgName_success() {
+		return Check.notEmpty(array, "array");
+	}
+
+	@Benchmark
+	public Object notEmpty_charSequence_failure() {
+		try {
+			return Check.notEmpty(emptyChars);
+		} catch (final IllegalEmptyArgumentException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object notEmpty_charSequence_success() {
+		return Check.notEmpty(chars);
+	}
+
+	@Benchmark
+	public Object notEmpty_charSequence_withArgName_failure() {
+		try {
+			return Check.notEmpty(emptyChars, "chars");
+		} catch (final IllegalEmptyArgumentException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object notEmpty_charSequence_withArgName_success() {
+		return Check.notEmpty(chars, "chars");
+	}
+
+	@Benchmark
+	public Object notEmpty_collection_failure() {
+		try {
+			return Check.notEmpty(emptyCollection, "collection");
+		} catch (final IllegalEmptyArgumentException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object notEmpty_collection_success() {
+		return Check.notEmpty(collection);
+	}
+
+	@Benchmark
+	public Object notEmpty_collection_withArgName_success() {
+		return Check.notEmpty(collection, "collection");
+	}
+
+	@Benchmark
+	public Object notEmpty_expression_withArgName_success() {
+		return Check.notEmpty(chars, chars.isEmpty(), "chars");
+	}
+
+	@Benchmark
+	public Object notEmpty_iterable_success() {
+		return Check.notEmpty(iterable);
+	}
+
+	@Benchmark
+	public Object notEmpty_iterable_withArgName_success() {
+		return Check.notEmpty(iterable, "iterable");
+	}
+
+	@Benchmark
+	public Object notEmpty_map_success() {
+		return Check.notEmpty(map);
+	}
+
+	@Benchmark
+	public Object notEmpty_map_withArgName_success() {
+		return Check.notEmpty(map, "map");
+	}
+
+}
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import net.sf.qualitycheck.Check;
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CheckBenchmark_notNull {
+
+	private Object reference = new Object();
+
+	private Object nullReference = null;
+
+	@Benchmark
+	public Object notNull_failure() {
+		try {
+			return Check.notNull(nullReference);
+		} catch (final IllegalNullArgumentException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object notNull_success() {
+		return Check.notNull(reference);
+	}
+
+	@Benchmark
+	public Object notNull_withArgName_failure() {
+		try {
+			return Check.notNull(nullReference, "reference");
+		} catch (final IllegalNullArgumentException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object notNull_withArgName_success() {
+		return Check.notNull(reference, "reference");
+	}
+
+	@Benchmark
+	public Object isNull_failure() {
+		try {
+			Check.isNull(reference, "reference");
+			return null;
+		} catch (final RuntimeException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public void isNull_success() {
+		Check.isNull(nullReference, "reference");
+	}
+
+}
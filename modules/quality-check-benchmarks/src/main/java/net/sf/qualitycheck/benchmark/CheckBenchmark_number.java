@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import net.sf.qualitycheck.Check;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CheckBenchmark_number {
+
+	private int positive = 42;
+
+	private int negative = -42;
+
+	private long positiveLong = 42L;
+
+	private double positiveDouble = 42.0d;
+
+	private double nan = Double.NaN;
+
+	private float positiveFloat = 42.0f;
+
+	private int size = 64;
+
+	@Benchmark
+	public double notNaN_double_success() {
+		return Check.notNaN(positiveDouble);
+	}
+
+	@Benchmark
+	public Object notNaN_double_withArgName_failure() {
+		try {
+			return Check.notNaN(nan, "value");
+		} catch (final RuntimeException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public double notNaN_double_withArgName_success() {
+		return Check.notNaN(positiveDouble, "value");
+	}
+
+	@Benchmark
+	public float notNaN_float_success() {
+		return Check.notNaN(positiveFloat);
+	}
+
+	@Benchmark
+	public double notNegative_double_success() {
+		return Check.notNegative(positiveDouble);
+	}
+
+	@Benchmark
+	public Object notNegative_int_failure() {
+		try {
+			return Check.notNegative(negative);
+		} catch (final RuntimeException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public int notNegative_int_success() {
+		return Check.notNegative(positive);
+	}
+
+	@Benchmark
+	public Object notNegative_int_withArgName_failure() {
+		try {
+			return Check.notNegative(negative, "value");
+		} catch (final RuntimeException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public int notNegative_int_withArgName_success() {
+		return Check.notNegative(positive, "value");
+	}
+
+	@Benchmark
+	public long notNegative_long_success() {
+		return Check.notNegative(positiveLong);
+	}
+
+	@Benchmark
+	public Object notPositive_int_failure() {
+		try {
+			return Check.notPositive(positive);
+		} catch (final RuntimeException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public int notPositive_int_success() {
+		return Check.notPositive(negative);
+	}
+
+	@Benchmark
+	public int notPositive_int_withArgName_success() {
+		return Check.notPositive(negative, "value");
+	}
+
+	@Benchmark
+	public Object positionIndex_failure() {
+		try {
+			return Check.positionIndex(size, size);
+		} catch (final RuntimeException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public int positionIndex_success() {
+		return Check.positionIndex(positive, size);
+	}
+
+	@Benchmark
+	public void range_success() {
+		Check.range(0, positive, size);
+	}
+
+}
@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import net.sf.qualitycheck.Check;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link Check#noNullElements(Object[], java.util.concurrent.Executor, String)} with the sequential scan of
+ * {@link Check#noNullElements(Object[], String)} on large arrays and lists. The {@code sequential_*} benchmarks are the
+ * baseline. The speedup depends on the number of available processors and on the memory bandwidth.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CheckBenchmark_parallel {
+
+	@Param({ "131072", "4194304" })
+	private int size;
+
+	private Object[] array;
+
+	private ExecutorService executor;
+
+	private List<Object> list;
+
+	@Benchmark
+	public Object parallel_array_success() {
+		return Check.noNullElements(array, executor, "array");
+	}
+
+	@Benchmark
+	public Object parallel_list_success() {
+		return Check.noNullElements(list, executor, "list");
+	}
+
+	@Benchmark
+	public Object sequential_array_success() {
+		return Check.noNullElements(array, "array");
+	}
+
+	@Benchmark
+	public Object sequential_list_success() {
+		return Check.noNullElements(list, "list");
+	}
+
+	@Setup
+	public void setup() {
+		array = new Object[size];
+		Arrays.fill(array, "x");
+		list = new ArrayList<Object>(Arrays.asList(array));
+		executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+	}
+
+	@TearDown
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+}
@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import net.sf.qualitycheck.Check;
+import net.sf.qualitycheck.DescriptionSupplier;
+import net.sf.qualitycheck.exception.IllegalStateOfArgumentException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CheckBenchmark_stateIsTrue {
+
+	private boolean valid = true;
+
+	private boolean invalid = false;
+
+	private int count = 42;
+
+	private long total = 4711L;
+
+	private final DescriptionSupplier description = new DescriptionSupplier() {
+		@Override
+		public String get() {
+			return "count must be valid, but was " + count;
+		}
+	};
+
+	@Benchmark
+	public Object stateIsTrue_exceptionClass_failure() {
+		try {
+			Check.stateIsTrue(invalid, IllegalStateException.class);
+			return null;
+		} catch (final IllegalStateException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object stateIsTrue_exceptionFactory_failure() {
+		try {
+			Check.stateIsTrue(invalid, IllegalStateException::new, "count must be valid");
+			return null;
+		} catch (final IllegalStateException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public void stateIsTrue_exceptionClass_success() {
+		Check.stateIsTrue(valid, IllegalStateException.class);
+	}
+
+	@Benchmark
+	public Object stateIsTrue_failure() {
+		try {
+			Check.stateIsTrue(invalid);
+			return null;
+		} catch (final IllegalStateOfArgumentException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public void stateIsTrue_success() {
+		Check.stateIsTrue(valid);
+	}
+
+	@Benchmark
+	public Object stateIsTrue_withDescription_failure() {
+		try {
+			Check.stateIsTrue(invalid, "count must be valid");
+			return null;
+		} catch (final IllegalStateOfArgumentException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public void stateIsTrue_withDescription_success() {
+		Check.stateIsTrue(valid, "count must be valid");
+	}
+
+	@Benchmark
+	public Object stateIsTrue_withDescriptionSupplier_failure() {
+		try {
+			Check.stateIsTrue(invalid, description);
+			return null;
+		} catch (final IllegalStateOfArgumentException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public void stateIsTrue_withDescriptionSupplier_success() {
+		Check.stateIsTrue(valid, description);
+	}
+
+	@Benchmark
+	public Object stateIsTrue_withDescriptionTemplate_failure() {
+		try {
+			Check.stateIsTrue(invalid, "count must be valid, but was %d", count);
+			return null;
+		} catch (final IllegalStateOfArgumentException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public void stateIsTrue_withDescriptionTemplate_success() {
+		Check.stateIsTrue(valid, "count must be valid, but was %d", count);
+	}
+
+	@Benchmark
+	public void stateIsTrue_withDescriptionTemplate_twoLongs_success() {
+		Check.stateIsTrue(valid, "count must be lesser than %d, but was %d", total, count);
+	}
+
+	@Benchmark
+	public void stateIsTrue_withDescriptionTemplate_varargs_success() {
+		Check.stateIsTrue(valid, "count must be valid, but was %d", new Object[] { count });
+	}
+
+}
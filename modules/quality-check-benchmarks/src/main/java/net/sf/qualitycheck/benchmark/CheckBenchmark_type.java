@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import net.sf.qualitycheck.ArgumentsChecked;
+import net.sf.qualitycheck.Check;
+import net.sf.qualitycheck.exception.IllegalInstanceOfArgumentException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CheckBenchmark_type {
+
+	private Object text = "quality";
+
+	private Object number = Integer.valueOf(42);
+
+	@Benchmark
+	public Object hasAnnotation_success() {
+		return Check.hasAnnotation(Benchmark.class, java.lang.annotation.Retention.class);
+	}
+
+	@Benchmark
+	public Object hasAnnotation_failure() {
+		try {
+			return Check.hasAnnotation(CheckBenchmark_type.class, ArgumentsChecked.class);
+		} catch (final RuntimeException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object instanceOf_failure() {
+		try {
+			return Check.instanceOf(CharSequence.class, number, "number");
+		} catch (final IllegalInstanceOfArgumentException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object instanceOf_success() {
+		return Check.instanceOf(CharSequence.class, text);
+	}
+
+	@Benchmark
+	public Object instanceOf_withArgName_success() {
+		return Check.instanceOf(CharSequence.class, text, "text");
+	}
+
+}
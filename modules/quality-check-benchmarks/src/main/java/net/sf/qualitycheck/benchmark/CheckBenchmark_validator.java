@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import net.sf.qualitycheck.Check;
+import net.sf.qualitycheck.Validator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares a {@link Validator} with the same sequence of checks written inline. The {@code inline_*} benchmarks are
+ * the baseline.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CheckBenchmark_validator {
+
+	public static final class Order {
+
+		private final String id;
+
+		private final String customer;
+
+		private final String quantity;
+
+		Order(final String id, final String customer, final String quantity) {
+			this.id = id;
+			this.customer = customer;
+			this.quantity = quantity;
+		}
+
+	}
+
+	private static final Pattern ID = Pattern.compile("[A-Z]{2}[0-9]{6}");
+
+	private static final Validator<Order> VALIDATOR = Validator.builder(Order.class)
+			.matchesPattern(order -> order.id, ID, "id")
+			.notEmpty(order -> order.customer, "customer")
+			.isNumeric(order -> order.quantity, "quantity")
+			.build();
+
+	private static final int BULK_SIZE = 100000;
+
+	private Order order;
+
+	private List<Order> orders;
+
+	private ExecutorService executor;
+
+	private static Order inline(final Order order) {
+		Check.notNull(order, "order");
+		Check.matchesPattern(ID, order.id, "id");
+		Check.notEmpty(order.customer, "customer");
+		Check.isNumeric(order.quantity, "quantity");
+		return order;
+	}
+
+	@Benchmark
+	public Object inline_validate() {
+		return inline(order);
+	}
+
+	@Benchmark
+	public Object inline_validateAll() {
+		for (final Order o : orders) {
+			inline(o);
+		}
+		return orders;
+	}
+
+	@Setup
+	public void setup() {
+		order = new Order("AB123456", "ACME", "42");
+		orders = new ArrayList<Order>(BULK_SIZE);
+		for (int i = 0; i < BULK_SIZE; i++) {
+			orders.add(new Order("AB" + (100000 + i % 900000), "customer" + i, Integer.toString(i)));
+		}
+		executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+	}
+
+	@TearDown
+	public void tearDown() {
+		executor.shutdown();
+	}
+
+	@Benchmark
+	public Object validate() {
+		return VALIDATOR.validate(order);
+	}
+
+	@Benchmark
+	public Object validateAll() {
+		return VALIDATOR.validateAll(orders);
+	}
+
+	@Benchmark
+	public Object validateAll_parallel() {
+		return VALIDATOR.validateAll(orders, executor);
+	}
+
+}
@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import net.sf.qualitycheck.Check;
+import net.sf.qualitycheck.Violations;
+import net.sf.qualitycheck.exception.IllegalArgumentViolationsException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Validates all fields of an imported record and collects every violation. The {@code exceptions_*} benchmarks are
+ * the baseline which catches one exception per invalid field, the {@code violations_*} benchmarks use a reused
+ * {@link Violations} instance.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CheckBenchmark_violations {
+
+	private final String accountNumber = "0123456789";
+
+	private final int age = 42;
+
+	private final String invalidAccountNumber = "01234-6789";
+
+	private final int invalidAge = -1;
+
+	private final String invalidName = "";
+
+	private final Object invalidReference = null;
+
+	private final String name = "André";
+
+	private final Object reference = new Object();
+
+	private final Violations violations = new Violations();
+
+	private static int validateWithExceptions(final String name, final int age, final String accountNumber, final Object reference) {
+		int failures = 0;
+		try {
+			Check.notEmpty(name, "name");
+		} catch (final RuntimeException e) {
+			failures++;
+		}
+		try {
+			Check.notNegative(age, "age");
+		} catch (final RuntimeException e) {
+			failures++;
+		}
+		try {
+			Check.isNumeric(accountNumber, "accountNumber");
+		} catch (final RuntimeException e) {
+			failures++;
+		}
+		try {
+			Check.notNull(reference, "reference");
+		} catch (final RuntimeException e) {
+			failures++;
+		}
+		return failures;
+	}
+
+	@Benchmark
+	public int exceptions_failure() {
+		return validateWithExceptions(invalidName, invalidAge, invalidAccountNumber, invalidReference);
+	}
+
+	@Benchmark
+	public int exceptions_success() {
+		return validateWithExceptions(name, age, accountNumber, reference);
+	}
+
+	private int validateWithViolations(final String name, final int age, final String accountNumber, final Object reference) {
+		final Violations v = violations;
+		v.reset();
+		v.notEmpty(name, "name");
+		v.notNegative(age, "age");
+		v.isNumeric(accountNumber, "accountNumber");
+		v.notNull(reference, "reference");
+		return v.size();
+	}
+
+	@Benchmark
+	public int violations_failure() {
+		return validateWithViolations(invalidName, invalidAge, invalidAccountNumber, invalidReference);
+	}
+
+	@Benchmark
+	public Object violations_failure_throwIfAny() {
+		validateWithViolations(invalidName, invalidAge, invalidAccountNumber, invalidReference);
+		try {
+			violations.throwIfAny();
+			return null;
+		} catch (final IllegalArgumentViolationsException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public int violations_success() {
+		return validateWithViolations(name, age, accountNumber, reference);
+	}
+
+}
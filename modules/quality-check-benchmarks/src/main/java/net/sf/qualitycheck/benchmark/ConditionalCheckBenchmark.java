@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import net.sf.qualitycheck.ConditionalCheck;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the checks of {@link ConditionalCheck} once with a condition which skips the check and once with a
+ * condition which delegates to {@link net.sf.qualitycheck.Check}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConditionalCheckBenchmark {
+
+	private static final Pattern IP_ADDRESS = Pattern.compile("\\d{1,3}\\.\\d{1,3}\\.\\d{1,3}\\.\\d{1,3}");
+
+	@Param({ "false", "true" })
+	private boolean condition;
+
+	private Object reference = new Object();
+
+	private String text = "quality";
+
+	private String accountNumber = "0012345678901234";
+
+	private String integer = "1234567";
+
+	private String ipAddress = "192.168.100.254";
+
+	private int small = 23;
+
+	private int large = 42;
+
+	private Integer boxedSmall = Integer.valueOf(small);
+
+	private Integer boxedLarge = Integer.valueOf(large);
+
+	private boolean valid = true;
+
+	private String[] array = { "quality", "check" };
+
+	@Benchmark
+	public void greaterThan_boxed() {
+		ConditionalCheck.greaterThan(condition, boxedSmall, boxedLarge);
+	}
+
+	@Benchmark
+	public void isNumber() {
+		ConditionalCheck.isNumber(condition, integer, "integer");
+	}
+
+	@Benchmark
+	public void isNumeric() {
+		ConditionalCheck.isNumeric(condition, accountNumber, "accountNumber");
+	}
+
+	@Benchmark
+	public void matchesPattern() {
+		ConditionalCheck.matchesPattern(condition, IP_ADDRESS, ipAddress, "ipAddress");
+	}
+
+	@Benchmark
+	public void noNullElements() {
+		ConditionalCheck.noNullElements(condition, array, "array");
+	}
+
+	@Benchmark
+	public void notEmpty() {
+		ConditionalCheck.notEmpty(condition, text, "text");
+	}
+
+	@Benchmark
+	public void notNegative() {
+		ConditionalCheck.notNegative(condition, large, "large");
+	}
+
+	@Benchmark
+	public void notNull() {
+		ConditionalCheck.notNull(condition, reference, "reference");
+	}
+
+	@Benchmark
+	public void notNull_withoutArgName() {
+		ConditionalCheck.notNull(condition, reference);
+	}
+
+	@Benchmark
+	public void stateIsTrue() {
+		ConditionalCheck.stateIsTrue(condition, valid, "state must be valid");
+	}
+
+	@Benchmark
+	public void stateIsTrue_withDescriptionTemplate() {
+		ConditionalCheck.stateIsTrue(condition, valid, "%d must be greater than %d", large, small);
+	}
+
+}
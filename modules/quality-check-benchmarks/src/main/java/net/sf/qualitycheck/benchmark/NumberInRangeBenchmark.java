@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.benchmark;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+import net.sf.qualitycheck.NumberInRange;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link NumberInRange} for each type of input against each predefined target range. Boxed primitives take
+ * the fast paths, {@code BigInteger} and {@code BigDecimal} inputs the exact comparison.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NumberInRangeBenchmark {
+
+	@Param({ "Byte", "Short", "Integer", "Long", "Float", "Double", "BigInteger", "BigDecimal" })
+	private String inputType;
+
+	@Param({ "byte", "int", "long", "float", "double" })
+	private String targetRange;
+
+	private Number number;
+
+	private BigInteger integerMin;
+
+	private BigInteger integerMax;
+
+	private BigDecimal decimalMin;
+
+	private BigDecimal decimalMax;
+
+	@Benchmark
+	public boolean isInRange() {
+		if (integerMin != null) {
+			return NumberInRange.isInRange(number, integerMin, integerMax);
+		}
+		return NumberInRange.isInRange(number, decimalMin, decimalMax);
+	}
+
+	@Setup
+	public void setup() {
+		if ("Byte".equals(inputType)) {
+			number = Byte.valueOf((byte) 42);
+		} else if ("Short".equals(inputType)) {
+			number = Short.valueOf((short) 42);
+		} else if ("Integer".equals(inputType)) {
+			number = Integer.valueOf(42);
+		} else if ("Long".equals(inputType)) {
+			number = Long.valueOf(42L);
+		} else if ("Float".equals(inputType)) {
+			number = Float.valueOf(42.5f);
+		} else if ("Double".equals(inputType)) {
+			number = Double.valueOf(42.5d);
+		} else if ("BigInteger".equals(inputType)) {
+			number = BigInteger.valueOf(42L);
+		} else {
+			number = new BigDecimal("42.5");
+		}
+
+		if ("byte".equals(targetRange)) {
+			integerMin = NumberInRange.BYTE_MIN;
+			integerMax = NumberInRange.BYTE_MAX;
+		} else if ("int".equals(targetRange)) {
+			integerMin = NumberInRange.INTEGER_MIN;
+			integerMax = NumberInRange.INTEGER_MAX;
+		} else if ("long".equals(targetRange)) {
+			integerMin = NumberInRange.LONG_MIN;
+			integerMax = NumberInRange.LONG_MAX;
+		} else if ("float".equals(targetRange)) {
+			decimalMin = NumberInRange.FLOAT_MIN;
+			decimalMax = NumberInRange.FLOAT_MAX;
+		} else {
+			decimalMin = NumberInRange.DOUBLE_MIN;
+			decimalMax = NumberInRange.DOUBLE_MAX;
+		}
+	}
+
+}
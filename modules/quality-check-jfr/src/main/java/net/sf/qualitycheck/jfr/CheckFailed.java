@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event which is committed when a check of Quality-Check fails. The event is disabled by default and
+ * has to be enabled within the settings of a recording.
+ * 
+ * @author André Rouél
+ */
+@Name(CheckFailed.NAME)
+@Label("Check Failed")
+@Category("Quality-Check")
+@Description("A check of Quality-Check failed and threw an exception")
+final class CheckFailed extends jdk.jfr.Event {
+
+	/**
+	 * Name of the event, which is used to enable it within the settings of a recording
+	 */
+	static final String NAME = "net.sf.qualitycheck.CheckFailed";
+
+	@Label("Check Family")
+	@Description("Family of the failed check or null if the exception belongs to no family")
+	String checkFamily;
+
+	@Label("Argument Name")
+	@Description("Name of the checked argument or null if the check was called without a name")
+	String argumentName;
+
+	@Label("Exception Class")
+	@Description("Class of the exception thrown by the failed check")
+	Class<?> exceptionClass;
+
+}
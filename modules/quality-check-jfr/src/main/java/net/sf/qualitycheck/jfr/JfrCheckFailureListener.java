@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.jfr;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import net.sf.qualitycheck.CheckFailureListener;
+import net.sf.qualitycheck.CheckFamily;
+import net.sf.qualitycheck.exception.IllegalEmptyArgumentException;
+import net.sf.qualitycheck.exception.IllegalNotInRangeException;
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+import net.sf.qualitycheck.exception.IllegalNullElementsException;
+import net.sf.qualitycheck.exception.IllegalNumberRangeException;
+import net.sf.qualitycheck.exception.IllegalPatternArgumentException;
+import net.sf.qualitycheck.exception.IllegalPositionIndexException;
+import net.sf.qualitycheck.exception.IllegalRangeException;
+import net.sf.qualitycheck.exception.QualityCheckException;
+
+/**
+ * Reports every failed check as {@link CheckFailed} event to the Java Flight Recorder. This listener is registered as
+ * service provider of {@link CheckFailureListener}, so it becomes active as soon as this module is on the classpath.
+ * <p>
+ * As long as the event is not enabled within a running recording, a failure costs a single check of
+ * {@link jdk.jfr.Event#isEnabled()} and the allocation of the event can be eliminated by the JIT compiler.
+ * <p>
+ * A JDK 8 before update 262 ships without the Flight Recorder API. In such a runtime the listener disables itself when
+ * it is created and ignores all failures.
+ * 
+ * @author André Rouél
+ */
+public final class JfrCheckFailureListener implements CheckFailureListener {
+
+	/**
+	 * Name of the base class of all Flight Recorder events, which is missing in runtimes without the Flight Recorder API
+	 */
+	static final String EVENT_CLASS_NAME = "jdk.jfr.Event";
+
+	/**
+	 * Families of the exceptions which are thrown by the checks of exactly one {@link CheckFamily}
+	 */
+	private static final Map<Class<? extends QualityCheckException>, CheckFamily> FAMILIES = createFamilies();
+
+	private static Map<Class<? extends QualityCheckException>, CheckFamily> createFamilies() {
+		final Map<Class<? extends QualityCheckException>, CheckFamily> families = new HashMap<>();
+		families.put(IllegalNullArgumentException.class, CheckFamily.NOT_NULL);
+		families.put(IllegalEmptyArgumentException.class, CheckFamily.NOT_EMPTY);
+		families.put(IllegalNullElementsException.class, CheckFamily.NO_NULL_ELEMENTS);
+		families.put(IllegalPatternArgumentException.class, CheckFamily.PATTERN);
+		families.put(IllegalNotInRangeException.class, CheckFamily.RANGE);
+		families.put(IllegalNumberRangeException.class, CheckFamily.RANGE);
+		families.put(IllegalPositionIndexException.class, CheckFamily.RANGE);
+		families.put(IllegalRangeException.class, CheckFamily.RANGE);
+		return Collections.unmodifiableMap(families);
+	}
+
+	/**
+	 * Determines the family of checks which throws the given type of exception.
+	 * 
+	 * @param type
+	 *            class of the thrown exception
+	 * @return the family of checks or {@code null} if the exception is not specific to one family
+	 */
+	@Nullable
+	static CheckFamily familyOf(@Nonnull final Class<? extends QualityCheckException> type) {
+		return FAMILIES.get(type);
+	}
+
+	/**
+	 * Determines whether the class with the given name can be loaded without initializing it.
+	 * 
+	 * @param className
+	 *            fully qualified name of a class
+	 * @return {@code true} if the class is available, otherwise {@code false}
+	 */
+	static boolean isAvailable(@Nonnull final String className) {
+		try {
+			Class.forName(className, false, JfrCheckFailureListener.class.getClassLoader());
+			return true;
+		} catch (final ClassNotFoundException e) {
+			return false;
+		} catch (final LinkageError e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Indicates whether the Flight Recorder API is available, otherwise all failures are ignored
+	 */
+	private final boolean enabled;
+
+	/**
+	 * Creates a listener which is disabled if the runtime does not provide the Flight Recorder API.
+	 */
+	public JfrCheckFailureListener() {
+		this(isAvailable(EVENT_CLASS_NAME));
+	}
+
+	/**
+	 * Creates a listener which reports failures only if it is enabled.
+	 * 
+	 * @param enabled
+	 *            whether failures are reported to the Flight Recorder
+	 */
+	JfrCheckFailureListener(final boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Indicates whether this listener reports failures to the Flight Recorder.
+	 * 
+	 * @return {@code true} if the Flight Recorder API is available, otherwise {@code false}
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	@Override
+	public void failed(@Nonnull final Class<? extends QualityCheckException> type, @Nullable final String argumentName) {
+		if (!enabled) {
+			return;
+		}
+		final CheckFailed event = new CheckFailed();
+		if (event.isEnabled()) {
+			final CheckFamily family = familyOf(type);
+			event.checkFamily = family != null ? family.name() : null;
+			event.argumentName = argumentName;
+			event.exceptionClass = type;
+			event.commit();
+		}
+	}
+
+}
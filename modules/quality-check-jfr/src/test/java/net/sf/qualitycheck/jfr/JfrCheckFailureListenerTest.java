@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.jfr;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import net.sf.qualitycheck.Check;
+import net.sf.qualitycheck.CheckFamily;
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+import net.sf.qualitycheck.exception.IllegalNumberArgumentException;
+import net.sf.qualitycheck.exception.IllegalPositionIndexException;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class JfrCheckFailureListenerTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private List<RecordedEvent> record(final Runnable runnable) throws IOException {
+		final File file = folder.newFile("checks.jfr");
+		final Recording recording = new Recording();
+		try {
+			recording.enable(CheckFailed.NAME).withStackTrace();
+			recording.start();
+			runnable.run();
+			recording.stop();
+			recording.dump(file.toPath());
+		} finally {
+			recording.close();
+		}
+		final List<RecordedEvent> events = new ArrayList<>();
+		for (final RecordedEvent event : RecordingFile.readAllEvents(file.toPath())) {
+			if (CheckFailed.NAME.equals(event.getEventType().getName())) {
+				events.add(event);
+			}
+		}
+		return events;
+	}
+
+	@Test
+	public void failed_isRecorded() throws IOException {
+		final List<RecordedEvent> events = record(() -> {
+			try {
+				Check.notNull(null, "name");
+			} catch (final IllegalNullArgumentException e) {
+				// expected
+			}
+		});
+		Assert.assertEquals(1, events.size());
+		final RecordedEvent event = events.get(0);
+		Assert.assertEquals("NOT_NULL", event.getString("checkFamily"));
+		Assert.assertEquals("name", event.getString("argumentName"));
+		Assert.assertEquals(IllegalNullArgumentException.class.getName(), event.getClass("exceptionClass").getName());
+		Assert.assertNotNull(event.getStackTrace());
+	}
+
+	@Test
+	public void failed_isRecordedOncePerFailure() throws IOException {
+		final List<RecordedEvent> events = record(() -> {
+			for (int i = 0; i < 3; i++) {
+				try {
+					Check.positionIndex(i + 1, 1);
+				} catch (final IllegalPositionIndexException e) {
+					// expected
+				}
+			}
+		});
+		Assert.assertEquals(3, events.size());
+		for (final RecordedEvent event : events) {
+			Assert.assertEquals("RANGE", event.getString("checkFamily"));
+			Assert.assertNull(event.getString("argumentName"));
+		}
+	}
+
+	@Test
+	public void failed_withoutFamily() throws IOException {
+		final List<RecordedEvent> events = record(() -> {
+			try {
+				Check.isNumber("x", "count");
+			} catch (final IllegalNumberArgumentException e) {
+				// expected
+			}
+		});
+		Assert.assertEquals(1, events.size());
+		Assert.assertNull(events.get(0).getString("checkFamily"));
+		Assert.assertEquals("count", events.get(0).getString("argumentName"));
+	}
+
+	@Test
+	public void failed_passedCheckIsNotRecorded() throws IOException {
+		final List<RecordedEvent> events = record(() -> Check.notNull("value", "name"));
+		Assert.assertTrue(events.isEmpty());
+	}
+
+	@Test
+	public void failed_whenDisabled() {
+		// must not fail without a running recording
+		new JfrCheckFailureListener().failed(IllegalNullArgumentException.class, "name");
+	}
+
+	@Test
+	public void failed_whenFlightRecorderIsMissing() throws IOException {
+		final JfrCheckFailureListener listener = new JfrCheckFailureListener(false);
+		Assert.assertFalse(listener.isEnabled());
+		final List<RecordedEvent> events = record(() -> listener.failed(IllegalNullArgumentException.class, "name"));
+		Assert.assertTrue(events.isEmpty());
+	}
+
+	@Test
+	public void isAvailable() {
+		Assert.assertTrue(JfrCheckFailureListener.isAvailable(JfrCheckFailureListener.EVENT_CLASS_NAME));
+		Assert.assertTrue(new JfrCheckFailureListener().isEnabled());
+		Assert.assertFalse(JfrCheckFailureListener.isAvailable("jdk.jfr.DoesNotExist"));
+	}
+
+	@Test
+	public void familyOf() {
+		Assert.assertEquals(CheckFamily.NOT_NULL, JfrCheckFailureListener.familyOf(IllegalNullArgumentException.class));
+		Assert.assertEquals(CheckFamily.RANGE, JfrCheckFailureListener.familyOf(IllegalPositionIndexException.class));
+		Assert.assertNull(JfrCheckFailureListener.familyOf(IllegalNumberArgumentException.class));
+	}
+
+}
@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.util.Arrays;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+
+/**
+ * An immutable set of allowed {@code long} values (e.g. numeric codes) which can be used with
+ * {@link Check#contains(AllowedLongs, long)} and {@link Check#containsAll(AllowedLongs, long[])}.
+ * 
+ * <p>
+ * Lookups do not box the value. If the allowed values are dense, they are stored in a bit set which is indexed in
+ * constant time, otherwise the values are searched binary in a sorted array.
+ * 
+ * @author André Rouél
+ */
+@Immutable
+public final class AllowedLongs {
+
+	/**
+	 * Creates an index of the given allowed values.
+	 * 
+	 * @param values
+	 *            allowed values (duplicates are permitted)
+	 * @return an immutable index of the allowed values
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	public static AllowedLongs of(@Nonnull final long... values) {
+		Check.requireNotNull(values, "values");
+		return new AllowedLongs(distinct(values));
+	}
+
+	private static long[] distinct(@Nonnull final long[] values) {
+		final long[] sorted = values.clone();
+		Arrays.sort(sorted);
+		int length = 0;
+		for (int i = 0; i < sorted.length; i++) {
+			if (length == 0 || sorted[length - 1] != sorted[i]) {
+				sorted[length++] = sorted[i];
+			}
+		}
+		return Arrays.copyOf(sorted, length);
+	}
+
+	/**
+	 * Sorted allowed values without duplicates
+	 */
+	private final long[] values;
+
+	/**
+	 * Bit set of the allowed values relative to {@link #min} or {@code null} if the values are too sparse
+	 */
+	private final long[] bits;
+
+	private final long min;
+
+	private final long max;
+
+	private AllowedLongs(@Nonnull final long[] values) {
+		this.values = values;
+		if (values.length == 0) {
+			min = 0;
+			max = -1;
+			bits = null;
+		} else {
+			min = values[0];
+			max = values[values.length - 1];
+			final long span = max - min + 1;
+
+			// a bit set is used if it does not need more memory than the sorted array
+			if (span > 0 && span <= Integer.MAX_VALUE && span <= (long) Long.SIZE * values.length) {
+				bits = new long[(int) ((span + Long.SIZE - 1) / Long.SIZE)];
+				for (final long value : values) {
+					final int offset = (int) (value - min);
+					bits[offset >>> 6] |= 1L << offset;
+				}
+			} else {
+				bits = null;
+			}
+		}
+	}
+
+	/**
+	 * Returns whether the given value is allowed.
+	 * 
+	 * @param value
+	 *            a value
+	 * @return {@code true} if the value is allowed, otherwise {@code false}
+	 */
+	public boolean contains(final long value) {
+		if (value < min || value > max) {
+			return false;
+		}
+		if (bits != null) {
+			final int offset = (int) (value - min);
+			return (bits[offset >>> 6] & (1L << offset)) != 0;
+		}
+		return Arrays.binarySearch(values, value) >= 0;
+	}
+
+	/**
+	 * Gets the number of allowed values.
+	 * 
+	 * @return number of allowed values
+	 */
+	public int size() {
+		return values.length;
+	}
+
+	/**
+	 * Gets the allowed values.
+	 * 
+	 * @return a sorted copy of the allowed values without duplicates
+	 */
+	@Nonnull
+	public long[] toArray() {
+		return values.clone();
+	}
+
+	@Override
+	public String toString() {
+		return "AllowedLongs" + Arrays.toString(values);
+	}
+
+}
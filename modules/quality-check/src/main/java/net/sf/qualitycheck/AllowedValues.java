@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+import net.sf.qualitycheck.exception.IllegalNullElementsException;
+
+/**
+ * An immutable set of allowed values which can be used with {@link Check#contains(AllowedValues, Object)} and
+ * {@link Check#containsAll(AllowedValues, Iterable)} instead of a collection.
+ * 
+ * <p>
+ * The values are copied once when creating the index, so that each lookup takes constant time. Enum constants of one
+ * type are stored in an {@code EnumSet}, all other values in a hash set. Create an index once (e.g. in a constant) and
+ * reuse it, especially if the allowed values are given as a large {@code List} which would be searched linearly by
+ * {@link Check#contains(Collection, Object)}.
+ * 
+ * @param <T>
+ *            type of the allowed values
+ * @author André Rouél
+ */
+@Immutable
+public final class AllowedValues<T> {
+
+	/**
+	 * Creates an index of the given allowed values.
+	 * 
+	 * @param values
+	 *            allowed values (must not contain {@code null})
+	 * @return an immutable index of the allowed values
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNullElementsException
+	 *             if the given argument {@code values} contains {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNullElementsException.class })
+	public static <T> AllowedValues<T> of(@Nonnull final Collection<? extends T> values) {
+		Check.requireNoNullElements(values, "values");
+		return new AllowedValues<T>(copyOf(values));
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private static <T> Set<T> copyOf(@Nonnull final Collection<? extends T> values) {
+		if (values.isEmpty()) {
+			return Collections.emptySet();
+		}
+		Class<?> enumType = null;
+		for (final T value : values) {
+			if (!(value instanceof Enum) || enumType != null && enumType != ((Enum<?>) value).getDeclaringClass()) {
+				return new HashSet<T>(values);
+			}
+			enumType = ((Enum<?>) value).getDeclaringClass();
+		}
+		return (Set<T>) EnumSet.copyOf((Collection<Enum>) values);
+	}
+
+	private final Set<T> values;
+
+	private final Set<T> view;
+
+	private AllowedValues(@Nonnull final Set<T> values) {
+		this.values = values;
+		this.view = Collections.unmodifiableSet(values);
+	}
+
+	/**
+	 * Returns whether the given value is allowed.
+	 * 
+	 * @param value
+	 *            a value or {@code null}
+	 * @return {@code true} if the value is allowed, otherwise {@code false} (also for {@code null})
+	 */
+	public boolean contains(@Nullable final Object value) {
+		return value != null && values.contains(value);
+	}
+
+	/**
+	 * Gets the number of allowed values.
+	 * 
+	 * @return number of allowed values
+	 */
+	public int size() {
+		return values.size();
+	}
+
+	@Override
+	public String toString() {
+		return "AllowedValues" + values;
+	}
+
+	/**
+	 * Gets the allowed values.
+	 * 
+	 * @return an unmodifiable view of the allowed values
+	 */
+	@Nonnull
+	public Set<T> values() {
+		return view;
+	}
+
+}
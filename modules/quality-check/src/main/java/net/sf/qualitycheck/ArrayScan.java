@@ -0,0 +1,334 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Scans ranges of primitive arrays for elements which violate a condition. The checks on arrays in {@link Check} and
+ * {@link ConditionalCheck} use these methods.
+ * 
+ * <p>
+ * The arrays are scanned in blocks of {@link #BLOCK_SIZE} elements. The conditions of all elements of a block are
+ * combined without short-circuit evaluation, so that there is only one branch per block and the JIT compiler can
+ * schedule the comparisons of a block independently of each other. Only the block which contains a violation, and the
+ * remaining elements at the end of a range, are scanned element by element to determine the exact index.
+ * 
+ * <p>
+ * The passed ranges are not checked, the caller must ensure that they are valid.
+ * 
+ * @author André Rouél
+ */
+final class ArrayScan {
+
+	/**
+	 * Number of elements which are examined together
+	 */
+	static final int BLOCK_SIZE = 8;
+
+	/**
+	 * Finds the first element which is NaN (not a number).
+	 * 
+	 * @param values
+	 *            array to scan
+	 * @param from
+	 *            index of the first element to scan (inclusive)
+	 * @param to
+	 *            index of the last element to scan (exclusive)
+	 * @return index of the first matching element or {@code -1} if there is none
+	 */
+	static int indexOfNaN(@Nonnull final double[] values, final int from, final int to) {
+		int i = from;
+		final int blockEnd = to - (to - from) % BLOCK_SIZE;
+		for (; i < blockEnd; i += BLOCK_SIZE) {
+			if (values[i] != values[i] |
+					values[i + 1] != values[i + 1] |
+					values[i + 2] != values[i + 2] |
+					values[i + 3] != values[i + 3] |
+					values[i + 4] != values[i + 4] |
+					values[i + 5] != values[i + 5] |
+					values[i + 6] != values[i + 6] |
+					values[i + 7] != values[i + 7]) {
+				break;
+			}
+		}
+		for (; i < to; i++) {
+			if (values[i] != values[i]) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Finds the first element which is NaN (not a number).
+	 * 
+	 * @param values
+	 *            array to scan
+	 * @param from
+	 *            index of the first element to scan (inclusive)
+	 * @param to
+	 *            index of the last element to scan (exclusive)
+	 * @return index of the first matching element or {@code -1} if there is none
+	 */
+	static int indexOfNaN(@Nonnull final float[] values, final int from, final int to) {
+		int i = from;
+		final int blockEnd = to - (to - from) % BLOCK_SIZE;
+		for (; i < blockEnd; i += BLOCK_SIZE) {
+			if (values[i] != values[i] |
+					values[i + 1] != values[i + 1] |
+					values[i + 2] != values[i + 2] |
+					values[i + 3] != values[i + 3] |
+					values[i + 4] != values[i + 4] |
+					values[i + 5] != values[i + 5] |
+					values[i + 6] != values[i + 6] |
+					values[i + 7] != values[i + 7]) {
+				break;
+			}
+		}
+		for (; i < to; i++) {
+			if (values[i] != values[i]) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Finds the first element which is smaller than {@code 0}.
+	 * 
+	 * @param values
+	 *            array to scan
+	 * @param from
+	 *            index of the first element to scan (inclusive)
+	 * @param to
+	 *            index of the last element to scan (exclusive)
+	 * @return index of the first matching element or {@code -1} if there is none
+	 */
+	static int indexOfNegative(@Nonnull final double[] values, final int from, final int to) {
+		int i = from;
+		final int blockEnd = to - (to - from) % BLOCK_SIZE;
+		for (; i < blockEnd; i += BLOCK_SIZE) {
+			if (values[i] < 0 |
+					values[i + 1] < 0 |
+					values[i + 2] < 0 |
+					values[i + 3] < 0 |
+					values[i + 4] < 0 |
+					values[i + 5] < 0 |
+					values[i + 6] < 0 |
+					values[i + 7] < 0) {
+				break;
+			}
+		}
+		for (; i < to; i++) {
+			if (values[i] < 0) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Finds the first element which is smaller than {@code 0}.
+	 * 
+	 * @param values
+	 *            array to scan
+	 * @param from
+	 *            index of the first element to scan (inclusive)
+	 * @param to
+	 *            index of the last element to scan (exclusive)
+	 * @return index of the first matching element or {@code -1} if there is none
+	 */
+	static int indexOfNegative(@Nonnull final int[] values, final int from, final int to) {
+		int i = from;
+		final int blockEnd = to - (to - from) % BLOCK_SIZE;
+		for (; i < blockEnd; i += BLOCK_SIZE) {
+			if ((values[i] |
+					values[i + 1] |
+					values[i + 2] |
+					values[i + 3] |
+					values[i + 4] |
+					values[i + 5] |
+					values[i + 6] |
+					values[i + 7]) < 0) {
+				break;
+			}
+		}
+		for (; i < to; i++) {
+			if (values[i] < 0) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Finds the first element which is smaller than {@code 0}.
+	 * 
+	 * @param values
+	 *            array to scan
+	 * @param from
+	 *            index of the first element to scan (inclusive)
+	 * @param to
+	 *            index of the last element to scan (exclusive)
+	 * @return index of the first matching element or {@code -1} if there is none
+	 */
+	static int indexOfNegative(@Nonnull final long[] values, final int from, final int to) {
+		int i = from;
+		final int blockEnd = to - (to - from) % BLOCK_SIZE;
+		for (; i < blockEnd; i += BLOCK_SIZE) {
+			if ((values[i] |
+					values[i + 1] |
+					values[i + 2] |
+					values[i + 3] |
+					values[i + 4] |
+					values[i + 5] |
+					values[i + 6] |
+					values[i + 7]) < 0) {
+				break;
+			}
+		}
+		for (; i < to; i++) {
+			if (values[i] < 0) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Finds the first element which is not within the range from {@code min} to {@code max}. NaN is not within any
+	 * range.
+	 * 
+	 * @param values
+	 *            array to scan
+	 * @param from
+	 *            index of the first element to scan (inclusive)
+	 * @param to
+	 *            index of the last element to scan (exclusive)
+	 * @param min
+	 *            lower bound (inclusive)
+	 * @param max
+	 *            upper bound (inclusive)
+	 * @return index of the first matching element or {@code -1} if there is none
+	 */
+	static int indexOfNotInRange(@Nonnull final double[] values, final int from, final int to, final double min, final double max) {
+		int i = from;
+		final int blockEnd = to - (to - from) % BLOCK_SIZE;
+		for (; i < blockEnd; i += BLOCK_SIZE) {
+			if (!(values[i] >= min) | !(values[i] <= max) |
+					!(values[i + 1] >= min) | !(values[i + 1] <= max) |
+					!(values[i + 2] >= min) | !(values[i + 2] <= max) |
+					!(values[i + 3] >= min) | !(values[i + 3] <= max) |
+					!(values[i + 4] >= min) | !(values[i + 4] <= max) |
+					!(values[i + 5] >= min) | !(values[i + 5] <= max) |
+					!(values[i + 6] >= min) | !(values[i + 6] <= max) |
+					!(values[i + 7] >= min) | !(values[i + 7] <= max)) {
+				break;
+			}
+		}
+		for (; i < to; i++) {
+			if (!(values[i] >= min) || !(values[i] <= max)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Finds the first element which is not within the range from {@code min} to {@code max}.
+	 * 
+	 * @param values
+	 *            array to scan
+	 * @param from
+	 *            index of the first element to scan (inclusive)
+	 * @param to
+	 *            index of the last element to scan (exclusive)
+	 * @param min
+	 *            lower bound (inclusive)
+	 * @param max
+	 *            upper bound (inclusive)
+	 * @return index of the first matching element or {@code -1} if there is none
+	 */
+	static int indexOfNotInRange(@Nonnull final int[] values, final int from, final int to, final int min, final int max) {
+		int i = from;
+		final int blockEnd = to - (to - from) % BLOCK_SIZE;
+		for (; i < blockEnd; i += BLOCK_SIZE) {
+			if (values[i] < min | values[i] > max |
+					values[i + 1] < min | values[i + 1] > max |
+					values[i + 2] < min | values[i + 2] > max |
+					values[i + 3] < min | values[i + 3] > max |
+					values[i + 4] < min | values[i + 4] > max |
+					values[i + 5] < min | values[i + 5] > max |
+					values[i + 6] < min | values[i + 6] > max |
+					values[i + 7] < min | values[i + 7] > max) {
+				break;
+			}
+		}
+		for (; i < to; i++) {
+			if (values[i] < min || values[i] > max) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Finds the first element which is not within the range from {@code min} to {@code max}.
+	 * 
+	 * @param values
+	 *            array to scan
+	 * @param from
+	 *            index of the first element to scan (inclusive)
+	 * @param to
+	 *            index of the last element to scan (exclusive)
+	 * @param min
+	 *            lower bound (inclusive)
+	 * @param max
+	 *            upper bound (inclusive)
+	 * @return index of the first matching element or {@code -1} if there is none
+	 */
+	static int indexOfNotInRange(@Nonnull final long[] values, final int from, final int to, final long min, final long max) {
+		int i = from;
+		final int blockEnd = to - (to - from) % BLOCK_SIZE;
+		for (; i < blockEnd; i += BLOCK_SIZE) {
+			if (values[i] < min | values[i] > max |
+					values[i + 1] < min | values[i + 1] > max |
+					values[i + 2] < min | values[i + 2] > max |
+					values[i + 3] < min | values[i + 3] > max |
+					values[i + 4] < min | values[i + 4] > max |
+					values[i + 5] < min | values[i + 5] > max |
+					values[i + 6] < min | values[i + 6] > max |
+					values[i + 7] < min | values[i + 7] > max) {
+				break;
+			}
+		}
+		for (; i < to; i++) {
+			if (values[i] < min || values[i] > max) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * <strong>Attention:</strong> This class is not intended to create objects from it.
+	 */
+	private ArrayScan() {
+		// This class is not intended to create objects from it.
+	}
+
+}
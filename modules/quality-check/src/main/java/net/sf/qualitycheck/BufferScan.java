@@ -0,0 +1,198 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Scans buffers and character sequences for characters which are no ASCII digits. The checks on buffers in
+ * {@link Check}, {@link ConditionalCheck} and {@link FileCheck} use these methods.
+ * 
+ * <p>
+ * Buffers are scanned in place between their position and limit using absolute access, so neither their content is
+ * copied nor their position is changed. A buffer which is backed by an accessible array is scanned on the array. All
+ * other byte buffers, like direct and memory-mapped ones, are read eight bytes at once as {@code long} and all bytes of
+ * a word are tested together. Only the word which contains a violation is scanned byte by byte to determine the exact
+ * offset.
+ * 
+ * @author André Rouél
+ */
+final class BufferScan {
+
+	/**
+	 * Eight times the high nibble of an ASCII digit
+	 */
+	private static final long DIGIT_HIGH_NIBBLES = 0x3030303030303030L;
+
+	/**
+	 * Mask to select the high nibbles of the eight bytes of a word
+	 */
+	private static final long HIGH_NIBBLES = 0xF0F0F0F0F0F0F0F0L;
+
+	/**
+	 * Added to every byte of a word, so that the low nibble of a byte overflows if it is greater than {@code 9}
+	 */
+	private static final long LOW_NIBBLE_OVERFLOW = 0x0606060606060606L;
+
+	/**
+	 * Finds the first byte between the position and the limit of the given buffer which is no ASCII digit.
+	 * 
+	 * @param buffer
+	 *            buffer to scan
+	 * @return index of the first non-digit relative to the position of the buffer, {@code 0} if there are no remaining
+	 *         bytes (an empty value has no digit at the beginning) or {@code -1} if all bytes are digits
+	 */
+	static int indexOfNonDigit(@Nonnull final ByteBuffer buffer) {
+		final int from = buffer.position();
+		final int to = buffer.limit();
+		if (from == to) {
+			return 0;
+		}
+		if (buffer.hasArray()) {
+			final int arrayOffset = buffer.arrayOffset();
+			final int index = indexOfNonDigit(buffer.array(), arrayOffset + from, arrayOffset + to);
+			return index < 0 ? -1 : index - arrayOffset - from;
+		}
+
+		int i = from;
+		final int wordEnd = to - (to - from) % 8;
+		for (; i < wordEnd; i += 8) {
+			// the byte order does not matter, since all bytes of a word are tested alike
+			if (!isDigits(buffer.getLong(i))) {
+				break;
+			}
+		}
+		for (; i < to; i++) {
+			if (!isDigit(buffer.get(i))) {
+				return i - from;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Finds the first byte within a range of the given array which is no ASCII digit.
+	 * 
+	 * @param bytes
+	 *            array to scan
+	 * @param from
+	 *            index of the first byte to scan (inclusive)
+	 * @param to
+	 *            index of the last byte to scan (exclusive)
+	 * @return index of the first non-digit or {@code -1} if there is none
+	 */
+	static int indexOfNonDigit(@Nonnull final byte[] bytes, final int from, final int to) {
+		int i = from;
+		final int blockEnd = to - (to - from) % ArrayScan.BLOCK_SIZE;
+		for (; i < blockEnd; i += ArrayScan.BLOCK_SIZE) {
+			if (!isDigit(bytes[i]) |
+					!isDigit(bytes[i + 1]) |
+					!isDigit(bytes[i + 2]) |
+					!isDigit(bytes[i + 3]) |
+					!isDigit(bytes[i + 4]) |
+					!isDigit(bytes[i + 5]) |
+					!isDigit(bytes[i + 6]) |
+					!isDigit(bytes[i + 7])) {
+				break;
+			}
+		}
+		for (; i < to; i++) {
+			if (!isDigit(bytes[i])) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Finds the first character of the given sequence which is no ASCII digit. A {@link CharBuffer} is scanned between
+	 * its position and limit without changing its position.
+	 * 
+	 * @param chars
+	 *            sequence to scan
+	 * @return index of the first non-digit, {@code 0} if the sequence is empty (an empty value has no digit at the
+	 *         beginning) or {@code -1} if all characters are digits
+	 */
+	static int indexOfNonDigit(@Nonnull final CharSequence chars) {
+		final int length = chars.length();
+		if (length == 0) {
+			return 0;
+		}
+		if (chars instanceof CharBuffer && ((CharBuffer) chars).hasArray()) {
+			final CharBuffer buffer = (CharBuffer) chars;
+			final int start = buffer.arrayOffset() + buffer.position();
+			final char[] array = buffer.array();
+			for (int i = 0; i < length; i++) {
+				if (!isDigit(array[start + i])) {
+					return i;
+				}
+			}
+			return -1;
+		}
+		return indexOfNonDigit(chars, length);
+	}
+
+	/**
+	 * Finds the first of the given number of characters of a sequence which is no ASCII digit. It is used for a
+	 * {@code String} as well as for any other sequence, so that all of them are scanned by the same loop.
+	 * 
+	 * @param chars
+	 *            sequence to scan
+	 * @param length
+	 *            number of characters to scan
+	 * @return index of the first non-digit or {@code -1} if all characters are digits
+	 */
+	private static int indexOfNonDigit(@Nonnull final CharSequence chars, final int length) {
+		for (int i = 0; i < length; i++) {
+			if (!isDigit(chars.charAt(i))) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static boolean isDigit(final byte b) {
+		return b >= '0' && b <= '9';
+	}
+
+	private static boolean isDigit(final char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	/**
+	 * Tests whether all eight bytes of a word are ASCII digits. A byte is a digit if its high nibble is {@code 3} and
+	 * adding {@code 6} to its low nibble does not overflow into the high nibble. The addition cannot carry into the
+	 * next byte, because the high nibbles are known to be {@code 3} at that point.
+	 * 
+	 * @param word
+	 *            eight bytes
+	 * @return {@code true} if all bytes are digits, otherwise {@code false}
+	 */
+	static boolean isDigits(final long word) {
+		return (word & HIGH_NIBBLES) == DIGIT_HIGH_NIBBLES && ((word + LOW_NIBBLE_OVERFLOW) & HIGH_NIBBLES) == DIGIT_HIGH_NIBBLES;
+	}
+
+	/**
+	 * <strong>Attention:</strong> This class is not intended to create objects from it.
+	 */
+	private BufferScan() {
+		// This class is not intended to create objects from it.
+	}
+
+}
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.nio.ByteBuffer;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A read-only view of the bytes between the position and the limit of a {@link ByteBuffer} as sequence of
+ * {@code char} values, where each byte is decoded as ISO-8859-1 character. It allows to match a regular expression
+ * against the content of a buffer, e.g. a direct or memory-mapped one, without decoding it into a string.
+ * 
+ * <p>
+ * The bytes are read with absolute access, so the position of the buffer will not be changed. Changes of the content
+ * of the buffer are visible through the view. Only {@link #toString()} and {@link #copy(int)} copy the content.
+ * 
+ * @author André Rouél
+ */
+final class ByteBufferChars implements CharSequence {
+
+	/**
+	 * Viewed buffer
+	 */
+	@Nonnull
+	private final ByteBuffer buffer;
+
+	/**
+	 * Index of the first viewed byte within the buffer
+	 */
+	private final int start;
+
+	/**
+	 * Number of viewed bytes
+	 */
+	private final int length;
+
+	/**
+	 * Creates a view of the remaining bytes of the given buffer.
+	 * 
+	 * @param buffer
+	 *            buffer to view
+	 */
+	ByteBufferChars(@Nonnull final ByteBuffer buffer) {
+		this(buffer, buffer.position(), buffer.remaining());
+	}
+
+	private ByteBufferChars(@Nonnull final ByteBuffer buffer, final int start, final int length) {
+		this.buffer = buffer;
+		this.start = start;
+		this.length = length;
+	}
+
+	@Override
+	public char charAt(final int index) {
+		if (index < 0 || index >= length) {
+			throw new IndexOutOfBoundsException("index " + index + " is out of range [0, " + length + ")");
+		}
+		return (char) (buffer.get(start + index) & 0xFF);
+	}
+
+	/**
+	 * Copies at most the given number of leading characters of this view, so that the copy neither references the
+	 * buffer nor grows with it.
+	 * 
+	 * @param maxLength
+	 *            number of characters to copy at most
+	 * @return a string with at most {@code maxLength} characters
+	 */
+	@Nonnull
+	String copy(final int maxLength) {
+		final char[] chars = new char[Math.min(length, maxLength)];
+		for (int i = 0; i < chars.length; i++) {
+			chars[i] = (char) (buffer.get(start + i) & 0xFF);
+		}
+		return new String(chars);
+	}
+
+	@Override
+	public int length() {
+		return length;
+	}
+
+	@Override
+	public CharSequence subSequence(final int from, final int to) {
+		if (from < 0 || to > length || from > to) {
+			throw new IndexOutOfBoundsException("range [" + from + ", " + to + ") is out of range [0, " + length + ")");
+		}
+		return new ByteBufferChars(buffer, start + from, to - from);
+	}
+
+	@Override
+	public String toString() {
+		final char[] chars = new char[length];
+		for (int i = 0; i < length; i++) {
+			chars[i] = (char) (buffer.get(start + i) & 0xFF);
+		}
+		return new String(chars);
+	}
+
+}
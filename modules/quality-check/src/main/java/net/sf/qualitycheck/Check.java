@@ -18,9 +18,15 @@ package net.sf.qualitycheck;
 import java.lang.annotation.Annotation;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.Executor;
 import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
@@ -36,11 +42,13 @@ import net.sf.qualitycheck.exception.IllegalNotContainedArgumentException;
 import net.sf.qualitycheck.exception.IllegalNotEqualException;
 import net.sf.qualitycheck.exception.IllegalNotGreaterOrEqualThanException;
 import net.sf.qualitycheck.exception.IllegalNotGreaterThanException;
+import net.sf.qualitycheck.exception.IllegalNotInRangeException;
 import net.sf.qualitycheck.exception.IllegalNotLesserThanException;
 import net.sf.qualitycheck.exception.IllegalNotNullArgumentException;
 import net.sf.qualitycheck.exception.IllegalNullArgumentException;
 import net.sf.qualitycheck.exception.IllegalNullElementsException;
 import net.sf.qualitycheck.exception.IllegalNumberArgumentException;
+import net.sf.qualitycheck.exception.IllegalNumberRangeException;
 import net.sf.qualitycheck.exception.IllegalNumericArgumentException;
 import net.sf.qualitycheck.exception.IllegalPatternArgumentException;
 import net.sf.qualitycheck.exception.IllegalPositionIndexException;
@@ -66,7 +74,11 @@ public final class Check {
 	 * Holder for the regular expression to determine numeric values. Using the holder pattern guarantees that the
 	 * regular expression is initialized before the first use (thread safe!) and that it is only initialized if it is
 	 * needed. So, we do not pay any performance bounty for regular expressions when using other checks.
+	 * 
+	 * @deprecated {@link #isNumeric(CharSequence, String)} scans the characters directly and does not use this regular
+	 *             expression anymore
 	 */
+	@Deprecated
 	protected static final class NumericRegularExpressionHolder {
 
 		private static final Pattern NUMERIC_REGEX = Pattern.compile("[0-9]+");
@@ -84,970 +96,3565 @@ public final class Check {
 	private static final String EMPTY_ARGUMENT_NAME = "";
 
 	/**
-	 * Checks the passed {@code value} against the ranges of the given datatype.
-	 * 
-	 * @param value
-	 *            value which must be a number and in the range of the given datatype.
-	 * @param type
-	 *            requested return value type, must be a subclass of {@code Number}
-	 * @return a number
-	 * 
-	 * @throws NumberFormatException
-	 *             if the given value can not be parsed as a number
+	 * Indicates that the checks {@code noNullElements} are elided, see {@link CheckElision}
 	 */
-	private static <T> Number checkNumberInRange(final String value, final Class<T> type) {
-		final Number ret;
-		if (type.equals(Byte.class)) {
-			final Number number = new BigInteger(value);
-			NumberInRange.checkByte(number);
-			ret = Byte.valueOf(number.byteValue());
-		} else if (type.equals(Double.class)) {
-			final Number number = new BigDecimal(value);
-			NumberInRange.checkDouble(number);
-			ret = Double.valueOf(number.doubleValue());
-		} else if (type.equals(Float.class)) {
-			final Number number = new BigDecimal(value);
-			NumberInRange.checkFloat(number);
-			ret = Float.valueOf(number.floatValue());
-		} else if (type.equals(Integer.class)) {
-			final Number number = new BigInteger(value);
-			NumberInRange.checkInteger(number);
-			ret = Integer.valueOf(number.intValue());
-		} else if (type.equals(Long.class)) {
-			final Number number = new BigInteger(value);
-			NumberInRange.checkLong(number);
-			ret = Long.valueOf(number.longValue());
-		} else if (type.equals(Short.class)) {
-			final Number number = new BigInteger(value);
-			NumberInRange.checkShort(number);
-			ret = Short.valueOf(number.shortValue());
-		} else if (type.equals(BigInteger.class)) {
-			ret = new BigInteger(value);
-		} else if (type.equals(BigDecimal.class)) {
-			ret = new BigDecimal(value);
-		} else {
-			throw new IllegalNumberArgumentException("Return value is no known subclass of 'java.lang.Number': " + type.getName());
-		}
-		return ret;
-	}
+	private static final boolean ELIDE_NO_NULL_ELEMENTS = CheckElision.isElided(CheckFamily.NO_NULL_ELEMENTS);
 
 	/**
-	 * Ensures that an element {@code needle} is contained in a collection {@code haystack}.
+	 * Indicates that the checks {@code notEmpty} are elided, see {@link CheckElision}
+	 */
+	private static final boolean ELIDE_NOT_EMPTY = CheckElision.isElided(CheckFamily.NOT_EMPTY);
+
+	/**
+	 * Indicates that the checks {@code notNull} are elided, see {@link CheckElision}
+	 */
+	private static final boolean ELIDE_NOT_NULL = CheckElision.isElided(CheckFamily.NOT_NULL);
+
+	/**
+	 * Indicates that the checks {@code matchesPattern} are elided, see {@link CheckElision}
+	 */
+	private static final boolean ELIDE_PATTERN = CheckElision.isElided(CheckFamily.PATTERN);
+
+	/**
+	 * Indicates that the checks {@code allInRange}, {@code between}, {@code inRange}, {@code positionIndex} and
+	 * {@code range} are elided, see {@link CheckElision}
+	 */
+	private static final boolean ELIDE_RANGE = CheckElision.isElided(CheckFamily.RANGE);
+
+	/**
+	 * Ensures that all elements of a {@code double} array are within the range from {@code min} to {@code max} (both
+	 * inclusive). NaN is not within any range.
 	 * 
 	 * <p>
-	 * This is in particular useful if you want to check whether an enum value is contained in an {@code EnumSet}. The
-	 * check is implemented using {@link java.util.Collection#contains(Object)}.
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link Check#contains(Collection, Object, String)} and pass as second
-	 * argument the name of the parameter to enhance the exception message.
-	 * 
-	 * @param haystack
-	 *            A collection which must contain {@code needle}
-	 * @param needle
-	 *            An object that must be contained into a collection.
-	 * @return the passed argument {@code needle}
-	 * 
-	 * @throws IllegalNotContainedArgumentException
-	 *             if the passed {@code needle} can not be found in {@code haystack}
+	 * We recommend to use the overloaded method {@link Check#allInRange(double[], double, double, String)} and pass as
+	 * last argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param values
+	 *            an array of numbers
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
+	 * @return the given array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNumberRangeException
+	 *             if an element is not within the range
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNotContainedArgumentException.class })
-	public static <T extends Object> T contains(@Nonnull final Collection<T> haystack, @Nonnull final T needle) {
-		Check.notNull(haystack, "haystack");
-		Check.notNull(needle, "needle");
-
-		if (!haystack.contains(needle)) {
-			throw new IllegalNotContainedArgumentException(needle);
-		}
-
-		return needle;
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberRangeException.class })
+	public static double[] allInRange(@Nonnull final double[] values, final double min, final double max) {
+		return allInRange(values, min, max, EMPTY_ARGUMENT_NAME);
 	}
 
 	/**
-	 * Ensures that an element {@code needle} is contained in a collection {@code haystack}.
+	 * Ensures that all elements of a {@code double} array are within the range from {@code min} to {@code max} (both
+	 * inclusive). NaN is not within any range.
 	 * 
 	 * <p>
-	 * This is in particular useful if you want to check whether an enum value is contained in an {@code EnumSet}. The
-	 * check is implemented using {@link java.util.Collection#contains(Object)}.
-	 * 
-	 * @param haystack
-	 *            A collection which must contain {@code needle}
-	 * @param needle
-	 *            An object that must be contained into a collection.
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * 
+	 * @param values
+	 *            an array of numbers
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
 	 * @param name
-	 *            name of argument of {@code needle}
-	 * @return the passed argument {@code needle}
-	 * 
-	 * @throws IllegalNotContainedArgumentException
-	 *             if the passed {@code needle} can not be found in {@code haystack}
+	 *            name of the array reference (in source code)
+	 * @return the given array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNumberRangeException
+	 *             if an element is not within the range
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNotContainedArgumentException.class })
-	public static <T extends Object> T contains(@Nonnull final Collection<T> haystack, @Nonnull final T needle, @Nonnull final String name) {
-		Check.notNull(haystack, "haystack");
-		Check.notNull(needle, "needle");
-
-		if (!haystack.contains(needle)) {
-			throw new IllegalNotContainedArgumentException(name, needle);
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberRangeException.class })
+	public static double[] allInRange(@Nonnull final double[] values, final double min, final double max, @Nullable final String name) {
+		if (ELIDE_RANGE) {
+			return values;
 		}
+		requireNotNull(values, "values");
+		return allInRange(values, 0, values.length, min, max, name);
+	}
 
-		return needle;
+	/**
+	 * Ensures that all elements of a {@code double} array are within the range from {@code min} to {@code max} (both
+	 * inclusive). NaN is not within any range.
+	 * 
+	 * <p>
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * Only the elements from index {@code from} (inclusive) to {@code to} (exclusive) are checked.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#allInRange(double[], int, int, double, double, String)}
+	 * and pass as last argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param values
+	 *            an array of numbers
+	 * @param from
+	 *            index of the first element to check (inclusive)
+	 * @param to
+	 *            index after the last element to check (exclusive)
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
+	 * @return the given array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if {@code from} and {@code to} do not form a valid range within the array
+	 * @throws IllegalNumberRangeException
+	 *             if an element is not within the range
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNumberRangeException.class })
+	public static double[] allInRange(@Nonnull final double[] values, final int from, final int to, final double min, final double max) {
+		return allInRange(values, from, to, min, max, EMPTY_ARGUMENT_NAME);
 	}
 
 	/**
-	 * Checks if the given array contains {@code null}.
+	 * Ensures that all elements of a {@code double} array are within the range from {@code min} to {@code max} (both
+	 * inclusive). NaN is not within any range.
 	 * 
-	 * @param array
-	 *            reference to an array
-	 * @return {@code true} if the array contains {@code null}, otherwise {@code false}
+	 * <p>
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * Only the elements from index {@code from} (inclusive) to {@code to} (exclusive) are checked.
+	 * 
+	 * @param values
+	 *            an array of numbers
+	 * @param from
+	 *            index of the first element to check (inclusive)
+	 * @param to
+	 *            index after the last element to check (exclusive)
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the given array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if {@code from} and {@code to} do not form a valid range within the array
+	 * @throws IllegalNumberRangeException
+	 *             if an element is not within the range
 	 */
-	private static boolean containsNullElements(@Nonnull final Object[] array) {
-		boolean containsNull = false;
-		for (final Object o : array) {
-			if (o == null) {
-				containsNull = true;
-				break;
-			}
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNumberRangeException.class })
+	public static double[] allInRange(@Nonnull final double[] values, final int from, final int to, final double min, final double max,
+			@Nullable final String name) {
+		if (ELIDE_RANGE) {
+			return values;
 		}
-		return containsNull;
+		requireNotNull(values, "values");
+		requireRange(from, to, values.length);
+		final int index = ArrayScan.indexOfNotInRange(values, from, to, min, max);
+		if (index >= 0) {
+			Failures.throwIllegalNumberRange(name, index, values[index], min, max);
+		}
+		return values;
 	}
 
 	/**
-	 * Ensures that a passed boolean is equal to another boolean. The comparison is made using
-	 * <code>expected != check</code>.
+	 * Ensures that all elements of an {@code int} array are within the range from {@code min} to {@code max} (both
+	 * inclusive).
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link Check#equals(boolean, boolean, String)} and pass as second
-	 * argument the name of the parameter to enhance the exception message.
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
 	 * 
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            boolean to be checked
-	 * @return the passed boolean argument {@code check}
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#allInRange(int[], int, int, String)} and pass as last
+	 * argument the name of the parameter to enhance the exception message.
 	 * 
-	 * @throws IllegalNotEqualException
-	 *             if both argument values are not equal
+	 * @param values
+	 *            an array of numbers
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
+	 * @return the given array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNumberRangeException
+	 *             if an element is not within the range
 	 */
-	@Throws(IllegalNotEqualException.class)
-	public static boolean equals(final boolean expected, final boolean check) { // NOSONAR
-		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberRangeException.class })
+	public static int[] allInRange(@Nonnull final int[] values, final int min, final int max) {
+		return allInRange(values, min, max, EMPTY_ARGUMENT_NAME);
+	}
 
-		if (expected != check) {
-			throw new IllegalNotEqualException(check);
+	/**
+	 * Ensures that all elements of an {@code int} array are within the range from {@code min} to {@code max} (both
+	 * inclusive).
+	 * 
+	 * <p>
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * 
+	 * @param values
+	 *            an array of numbers
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the given array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNumberRangeException
+	 *             if an element is not within the range
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberRangeException.class })
+	public static int[] allInRange(@Nonnull final int[] values, final int min, final int max, @Nullable final String name) {
+		if (ELIDE_RANGE) {
+			return values;
 		}
-
-		return check;
+		requireNotNull(values, "values");
+		return allInRange(values, 0, values.length, min, max, name);
 	}
 
 	/**
-	 * Ensures that a passed boolean is equal to another boolean. The comparison is made using
-	 * <code>expected != check</code>.
+	 * Ensures that all elements of an {@code int} array are within the range from {@code min} to {@code max} (both
+	 * inclusive).
 	 * 
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            boolean to be checked
-	 * @param message
-	 *            an error message describing why the booleans must equal (will be passed to
-	 *            {@code IllegalNotEqualException})
-	 * @return the passed boolean argument {@code check}
+	 * <p>
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * Only the elements from index {@code from} (inclusive) to {@code to} (exclusive) are checked.
 	 * 
-	 * @throws IllegalNotEqualException
-	 *             if both argument values are not equal
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#allInRange(int[], int, int, int, int, String)} and pass as
+	 * last argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param values
+	 *            an array of numbers
+	 * @param from
+	 *            index of the first element to check (inclusive)
+	 * @param to
+	 *            index after the last element to check (exclusive)
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
+	 * @return the given array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if {@code from} and {@code to} do not form a valid range within the array
+	 * @throws IllegalNumberRangeException
+	 *             if an element is not within the range
 	 */
-	@Throws(IllegalNotEqualException.class)
-	public static boolean equals(final boolean expected, final boolean check, @Nonnull final String message) { // NOSONAR
-		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNumberRangeException.class })
+	public static int[] allInRange(@Nonnull final int[] values, final int from, final int to, final int min, final int max) {
+		return allInRange(values, from, to, min, max, EMPTY_ARGUMENT_NAME);
+	}
 
-		if (expected != check) {
-			throw new IllegalNotEqualException(message, check);
+	/**
+	 * Ensures that all elements of an {@code int} array are within the range from {@code min} to {@code max} (both
+	 * inclusive).
+	 * 
+	 * <p>
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * Only the elements from index {@code from} (inclusive) to {@code to} (exclusive) are checked.
+	 * 
+	 * @param values
+	 *            an array of numbers
+	 * @param from
+	 *            index of the first element to check (inclusive)
+	 * @param to
+	 *            index after the last element to check (exclusive)
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the given array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if {@code from} and {@code to} do not form a valid range within the array
+	 * @throws IllegalNumberRangeException
+	 *             if an element is not within the range
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNumberRangeException.class })
+	public static int[] allInRange(@Nonnull final int[] values, final int from, final int to, final int min, final int max,
+			@Nullable final String name) {
+		if (ELIDE_RANGE) {
+			return values;
 		}
-
-		return check;
+		requireNotNull(values, "values");
+		requireRange(from, to, values.length);
+		final int index = ArrayScan.indexOfNotInRange(values, from, to, min, max);
+		if (index >= 0) {
+			Failures.throwIllegalNumberRange(name, index, values[index], min, max);
+		}
+		return values;
 	}
 
 	/**
-	 * Ensures that a passed byte is equal to another byte. The comparison is made using <code>expected != check</code>.
+	 * Ensures that all elements of a {@code long} array are within the range from {@code min} to {@code max} (both
+	 * inclusive).
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link Check#equals(byte, byte, String)} and pass as second argument
-	 * the name of the parameter to enhance the exception message.
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
 	 * 
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            byte to be checked
-	 * @return the passed byte argument {@code check}
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#allInRange(long[], long, long, String)} and pass as last
+	 * argument the name of the parameter to enhance the exception message.
 	 * 
-	 * @throws IllegalNotEqualException
-	 *             if both argument values are not equal
+	 * @param values
+	 *            an array of numbers
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
+	 * @return the given array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNumberRangeException
+	 *             if an element is not within the range
 	 */
-	@Throws(IllegalNotEqualException.class)
-	public static byte equals(final byte expected, final byte check) { // NOSONAR
-		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberRangeException.class })
+	public static long[] allInRange(@Nonnull final long[] values, final long min, final long max) {
+		return allInRange(values, min, max, EMPTY_ARGUMENT_NAME);
+	}
 
-		if (expected != check) {
-			throw new IllegalNotEqualException(check);
+	/**
+	 * Ensures that all elements of a {@code long} array are within the range from {@code min} to {@code max} (both
+	 * inclusive).
+	 * 
+	 * <p>
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * 
+	 * @param values
+	 *            an array of numbers
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the given array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNumberRangeException
+	 *             if an element is not within the range
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberRangeException.class })
+	public static long[] allInRange(@Nonnull final long[] values, final long min, final long max, @Nullable final String name) {
+		if (ELIDE_RANGE) {
+			return values;
 		}
-
-		return check;
+		requireNotNull(values, "values");
+		return allInRange(values, 0, values.length, min, max, name);
 	}
 
 	/**
-	 * Ensures that a passed byte is equal to another byte. The comparison is made using <code>expected != check</code>.
+	 * Ensures that all elements of a {@code long} array are within the range from {@code min} to {@code max} (both
+	 * inclusive).
 	 * 
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            byte to be checked
-	 * @param message
-	 *            an error message describing why the bytes must equal (will be passed to
-	 *            {@code IllegalNotEqualException})
-	 * @return the byte boolean argument {@code check}
+	 * <p>
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * Only the elements from index {@code from} (inclusive) to {@code to} (exclusive) are checked.
 	 * 
-	 * @throws IllegalNotEqualException
-	 *             if both argument values are not equal
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#allInRange(long[], int, int, long, long, String)} and pass
+	 * as last argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param values
+	 *            an array of numbers
+	 * @param from
+	 *            index of the first element to check (inclusive)
+	 * @param to
+	 *            index after the last element to check (exclusive)
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
+	 * @return the given array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if {@code from} and {@code to} do not form a valid range within the array
+	 * @throws IllegalNumberRangeException
+	 *             if an element is not within the range
 	 */
-	@Throws(IllegalNotEqualException.class)
-	public static byte equals(final byte expected, final byte check, @Nonnull final String message) { // NOSONAR
-		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNumberRangeException.class })
+	public static long[] allInRange(@Nonnull final long[] values, final int from, final int to, final long min, final long max) {
+		return allInRange(values, from, to, min, max, EMPTY_ARGUMENT_NAME);
+	}
 
-		if (expected != check) {
-			throw new IllegalNotEqualException(message, check);
+	/**
+	 * Ensures that all elements of a {@code long} array are within the range from {@code min} to {@code max} (both
+	 * inclusive).
+	 * 
+	 * <p>
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * Only the elements from index {@code from} (inclusive) to {@code to} (exclusive) are checked.
+	 * 
+	 * @param values
+	 *            an array of numbers
+	 * @param from
+	 *            index of the first element to check (inclusive)
+	 * @param to
+	 *            index after the last element to check (exclusive)
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the given array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if {@code from} and {@code to} do not form a valid range within the array
+	 * @throws IllegalNumberRangeException
+	 *             if an element is not within the range
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNumberRangeException.class })
+	public static long[] allInRange(@Nonnull final long[] values, final int from, final int to, final long min, final long max,
+			@Nullable final String name) {
+		if (ELIDE_RANGE) {
+			return values;
 		}
-
-		return check;
+		requireNotNull(values, "values");
+		requireRange(from, to, values.length);
+		final int index = ArrayScan.indexOfNotInRange(values, from, to, min, max);
+		if (index >= 0) {
+			Failures.throwIllegalNumberRange(name, index, values[index], min, max);
+		}
+		return values;
 	}
 
 	/**
-	 * Ensures that a passed char is equal to another char. The comparison is made using <code>expected != check</code>.
+	 * Ensures that a {@code byte} value is within the closed range from {@code min} to {@code max} (both inclusive).
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link Check#equals(char, char, String)} and pass as second argument
-	 * the name of the parameter to enhance the exception message.
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
 	 * 
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            char to be checked
-	 * @return the passed char argument {@code check}
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#between(byte, byte, byte, String)} and pass as last
+	 * argument the name of the parameter to enhance the exception message.
 	 * 
-	 * @throws IllegalNotEqualException
-	 *             if both argument values are not equal
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
+	 * @return the given value
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or greater than {@code max}
 	 */
-	@Throws(IllegalNotEqualException.class)
-	public static char equals(final char expected, final char check) { // NOSONAR
-		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
-
-		if (expected != check) {
-			throw new IllegalNotEqualException(check);
-		}
-
-		return check;
+	@Throws(IllegalNotInRangeException.class)
+	public static byte between(final byte value, final byte min, final byte max) {
+		return between(value, min, max, EMPTY_ARGUMENT_NAME);
 	}
 
 	/**
-	 * Ensures that a passed char is equal to another char. The comparison is made using <code>expected != check</code>.
+	 * Ensures that a {@code byte} value is within the closed range from {@code min} to {@code max} (both inclusive).
 	 * 
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            char to be checked
-	 * @param message
-	 *            an error message describing why the chars must equal (will be passed to
-	 *            {@code IllegalNotEqualException})
-	 * @return the passed char argument {@code check}
+	 * <p>
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
 	 * 
-	 * @throws IllegalNotEqualException
-	 *             if both argument values are not equal
-	 */
-	@Throws(IllegalNotEqualException.class)
-	public static char equals(final char expected, final char check, @Nonnull final String message) { // NOSONAR
-		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
-
-		if (expected != check) {
-			throw new IllegalNotEqualException(message, check);
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return the given value
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or greater than {@code max}
+	 */
+	@Throws(IllegalNotInRangeException.class)
+	public static byte between(final byte value, final byte min, final byte max, @Nullable final String name) {
+		if (ELIDE_RANGE) {
+			return value;
 		}
-
-		return check;
+		if (!(value >= min && value <= max)) {
+			Failures.throwIllegalNotInRange(name, value, min, max, true);
+		}
+		return value;
 	}
 
 	/**
-	 * Ensures that a passed intH is equal to another int. The comparison is made using <code>expected != check</code>.
+	 * Ensures that a {@code char} value is within the closed range from {@code min} to {@code max} (both inclusive).
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link Check#equals(int, int, String)} and pass as second argument the
-	 * name of the parameter to enhance the exception message.
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
 	 * 
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            int to be checked
-	 * @return the passed int argument {@code check}
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#between(char, char, char, String)} and pass as last
+	 * argument the name of the parameter to enhance the exception message.
 	 * 
-	 * @throws IllegalNotEqualException
-	 *             if both argument values are not equal
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
+	 * @return the given value
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or greater than {@code max}
 	 */
-	@Throws(IllegalNotEqualException.class)
-	public static int equals(final int expected, final int check) { // NOSONAR
-		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
-
-		if (expected != check) {
-			throw new IllegalNotEqualException(check);
-		}
-
-		return check;
+	@Throws(IllegalNotInRangeException.class)
+	public static char between(final char value, final char min, final char max) {
+		return between(value, min, max, EMPTY_ARGUMENT_NAME);
 	}
 
 	/**
-	 * Ensures that a passed int is equal to another int. The comparison is made using <code>expected != check</code>.
+	 * Ensures that a {@code char} value is within the closed range from {@code min} to {@code max} (both inclusive).
 	 * 
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            int to be checked
-	 * @param message
-	 *            an error message describing why the ints must equal (will be passed to
-	 *            {@code IllegalNotEqualException})
-	 * @return the passed int argument {@code check}
+	 * <p>
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
 	 * 
-	 * @throws IllegalNotEqualException
-	 *             if both argument values are not equal
-	 */
-	@Throws(IllegalNotEqualException.class)
-	public static int equals(final int expected, final int check, @Nonnull final String message) { // NOSONAR
-		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
-
-		if (expected != check) {
-			throw new IllegalNotEqualException(message, check);
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return the given value
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or greater than {@code max}
+	 */
+	@Throws(IllegalNotInRangeException.class)
+	public static char between(final char value, final char min, final char max, @Nullable final String name) {
+		if (ELIDE_RANGE) {
+			return value;
 		}
-
-		return check;
+		if (!(value >= min && value <= max)) {
+			Failures.throwIllegalNotInRange(name, value, min, max, true);
+		}
+		return value;
 	}
 
 	/**
-	 * Ensures that a passed long is equal to another long. The comparison is made using <code>expected != check</code>.
+	 * Ensures that a {@code double} value is within the closed range from {@code min} to {@code max} (both inclusive).
+	 * NaN is not within any range.
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link Check#equals(long, long, String)} and pass as second argument
-	 * the name of the parameter to enhance the exception message.
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
 	 * 
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            long to be checked
-	 * @return the passed long argument {@code check}
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#between(double, double, double, String)} and pass as last
+	 * argument the name of the parameter to enhance the exception message.
 	 * 
-	 * @throws IllegalNotEqualException
-	 *             if both argument values are not equal
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
+	 * @return the given value
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or greater than {@code max}
 	 */
-	@Throws(IllegalNotEqualException.class)
-	public static long equals(final long expected, final long check) { // NOSONAR
-		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
-
-		if (expected != check) {
-			throw new IllegalNotEqualException(check);
-		}
-
-		return check;
+	@Throws(IllegalNotInRangeException.class)
+	public static double between(final double value, final double min, final double max) {
+		return between(value, min, max, EMPTY_ARGUMENT_NAME);
 	}
 
 	/**
-	 * Ensures that a passed long is equal to another long. The comparison is made using <code>expected != check</code>.
+	 * Ensures that a {@code double} value is within the closed range from {@code min} to {@code max} (both inclusive).
+	 * NaN is not within any range.
 	 * 
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            long to be checked
-	 * @param message
-	 *            an error message describing why the longs must equal (will be passed to
-	 *            {@code IllegalNotEqualException})
-	 * @return the passed long argument {@code check}
+	 * <p>
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
 	 * 
-	 * @throws IllegalNotEqualException
-	 *             if both argument values are not equal
-	 */
-	@Throws(IllegalNotEqualException.class)
-	public static long equals(final long expected, final long check, @Nonnull final String message) { // NOSONAR
-		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
-
-		if (expected != check) {
-			throw new IllegalNotEqualException(message, check);
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return the given value
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or greater than {@code max}
+	 */
+	@Throws(IllegalNotInRangeException.class)
+	public static double between(final double value, final double min, final double max, @Nullable final String name) {
+		if (ELIDE_RANGE) {
+			return value;
 		}
-
-		return check;
+		if (!(value >= min && value <= max)) {
+			Failures.throwIllegalNotInRange(name, value, min, max, true);
+		}
+		return value;
 	}
 
 	/**
-	 * Ensures that a passed short is equal to another short. The comparison is made using
-	 * <code>expected != check</code>.
+	 * Ensures that a {@code float} value is within the closed range from {@code min} to {@code max} (both inclusive).
+	 * NaN is not within any range.
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link Check#equals(short, short, String)} and pass as second argument
-	 * the name of the parameter to enhance the exception message.
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
 	 * 
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            short to be checked
-	 * @return the passed short argument {@code check}
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#between(float, float, float, String)} and pass as last
+	 * argument the name of the parameter to enhance the exception message.
 	 * 
-	 * @throws IllegalNotEqualException
-	 *             if both argument values are not equal
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
+	 * @return the given value
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or greater than {@code max}
 	 */
-	@Throws(IllegalNotEqualException.class)
-	public static short equals(final short expected, final short check) { // NOSONAR
-		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
+	@Throws(IllegalNotInRangeException.class)
+	public static float between(final float value, final float min, final float max) {
+		return between(value, min, max, EMPTY_ARGUMENT_NAME);
+	}
 
-		if (expected != check) {
-			throw new IllegalNotEqualException(check);
+	/**
+	 * Ensures that a {@code float} value is within the closed range from {@code min} to {@code max} (both inclusive).
+	 * NaN is not within any range.
+	 * 
+	 * <p>
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
+	 * 
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return the given value
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or greater than {@code max}
+	 */
+	@Throws(IllegalNotInRangeException.class)
+	public static float between(final float value, final float min, final float max, @Nullable final String name) {
+		if (ELIDE_RANGE) {
+			return value;
 		}
-
-		return check;
+		if (!(value >= min && value <= max)) {
+			Failures.throwIllegalNotInRange(name, value, min, max, true);
+		}
+		return value;
 	}
 
 	/**
-	 * Ensures that a passed short is equal to another short. The comparison is made using
-	 * <code>expected != check</code>.
+	 * Ensures that an {@code int} value is within the closed range from {@code min} to {@code max} (both inclusive).
 	 * 
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            short to be checked
-	 * @param message
-	 *            an error message describing why the shorts must equal (will be passed to
-	 *            {@code IllegalNotEqualException})
-	 * @return the passed short {@code check}
+	 * <p>
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
 	 * 
-	 * @throws IllegalNotEqualException
-	 *             if both argument values are not equal
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#between(int, int, int, String)} and pass as last argument
+	 * the name of the parameter to enhance the exception message.
+	 * 
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
+	 * @return the given value
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or greater than {@code max}
 	 */
-	@Throws(IllegalNotEqualException.class)
-	public static short equals(final short expected, final short check, @Nonnull final String message) { // NOSONAR
-		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
+	@Throws(IllegalNotInRangeException.class)
+	public static int between(final int value, final int min, final int max) {
+		return between(value, min, max, EMPTY_ARGUMENT_NAME);
+	}
 
-		if (expected != check) {
-			throw new IllegalNotEqualException(message, check);
+	/**
+	 * Ensures that an {@code int} value is within the closed range from {@code min} to {@code max} (both inclusive).
+	 * 
+	 * <p>
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
+	 * 
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return the given value
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or greater than {@code max}
+	 */
+	@Throws(IllegalNotInRangeException.class)
+	public static int between(final int value, final int min, final int max, @Nullable final String name) {
+		if (ELIDE_RANGE) {
+			return value;
 		}
-
-		return check;
+		if (!(value >= min && value <= max)) {
+			Failures.throwIllegalNotInRange(name, value, min, max, true);
+		}
+		return value;
 	}
 
 	/**
-	 * Ensures that a passed {@code Comparable} is equal to another {@code Comparable}. The comparison is made using
-	 * {@code expected.compareTo(check) != 0}.
+	 * Ensures that a {@code long} value is within the closed range from {@code min} to {@code max} (both inclusive).
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link Check#equals(Comparable, Comparable, String)} and pass as second
-	 * argument the name of the parameter to enhance the exception message.
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
 	 * 
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            Comparable to be checked
-	 * @return the passed {@code Comparable} argument {@code check}
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#between(long, long, long, String)} and pass as last
+	 * argument the name of the parameter to enhance the exception message.
 	 * 
-	 * @throws IllegalNotEqualException
-	 *             if both argument values are not equal
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
+	 * @return the given value
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or greater than {@code max}
 	 */
-	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNotEqualException.class })
-	public static <T extends Comparable<T>> T equals(@Nonnull final T expected, @Nonnull final T check) { // NOSONAR
-		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
-		Check.notNull(expected, "expected");
-		Check.notNull(check, "check");
+	@Throws(IllegalNotInRangeException.class)
+	public static long between(final long value, final long min, final long max) {
+		return between(value, min, max, EMPTY_ARGUMENT_NAME);
+	}
 
-		if (expected.compareTo(check) != 0) {
-			throw new IllegalNotEqualException(check);
+	/**
+	 * Ensures that a {@code long} value is within the closed range from {@code min} to {@code max} (both inclusive).
+	 * 
+	 * <p>
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
+	 * 
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return the given value
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or greater than {@code max}
+	 */
+	@Throws(IllegalNotInRangeException.class)
+	public static long between(final long value, final long min, final long max, @Nullable final String name) {
+		if (ELIDE_RANGE) {
+			return value;
 		}
-
-		return check;
+		if (!(value >= min && value <= max)) {
+			Failures.throwIllegalNotInRange(name, value, min, max, true);
+		}
+		return value;
 	}
 
 	/**
-	 * Ensures that a passed object is equal to another object. The comparison is made using a call to
-	 * {@code expected.equals(check) }.
+	 * Ensures that a {@code short} value is within the closed range from {@code min} to {@code max} (both inclusive).
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link Check#equals(Object, Object, String)} and pass as second
-	 * argument the name of the parameter to enhance the exception message.
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
 	 * 
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            Object to be checked
-	 * @return the passed argument {@code check}
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#between(short, short, short, String)} and pass as last
+	 * argument the name of the parameter to enhance the exception message.
 	 * 
-	 * @throws IllegalNotEqualException
-	 *             if both argument values are not equal
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
+	 * @return the given value
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or greater than {@code max}
 	 */
-	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNotEqualException.class })
-	public static <T extends Object> T equals(@Nonnull final T expected, @Nonnull final T check) { // NOSONAR
-		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
-
-		Check.notNull(expected, "expected");
-		Check.notNull(check, "check");
-
-		if (!expected.equals(check)) {
-			throw new IllegalNotEqualException(check);
-		}
-
-		return check;
+	@Throws(IllegalNotInRangeException.class)
+	public static short between(final short value, final short min, final short max) {
+		return between(value, min, max, EMPTY_ARGUMENT_NAME);
 	}
 
 	/**
-	 * Ensures that a passed {@code Comparable} is equal to another {@code Comparable}. The comparison is made using
+	 * Ensures that a {@code short} value is within the closed range from {@code min} to {@code max} (both inclusive).
+	 * 
+	 * <p>
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
+	 * 
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return the given value
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or greater than {@code max}
+	 */
+	@Throws(IllegalNotInRangeException.class)
+	public static short between(final short value, final short min, final short max, @Nullable final String name) {
+		if (ELIDE_RANGE) {
+			return value;
+		}
+		if (!(value >= min && value <= max)) {
+			Failures.throwIllegalNotInRange(name, value, min, max, true);
+		}
+		return value;
+	}
+
+	/**
+	 * Checks the passed {@code value} against the ranges of the given integral datatype by converting it into a
+	 * {@code BigInteger}. This is the exact but expensive way, which is only used if {@link NumberParser} rejects a
+	 * value.
+	 * 
+	 * @param value
+	 *            value which must be a number and in the range of the given datatype.
+	 * @param type
+	 *            requested return value type, must be one of {@code Byte, Short, Integer, Long}
+	 * @return a number
+	 * 
+	 * @throws NumberFormatException
+	 *             if the given value can not be parsed as a number
+	 * @throws IllegalNumberRangeException
+	 *             if the given value is not in the range of the given datatype
+	 */
+	private static long checkIntegralNumberInRange(final String value, final Class<?> type) {
+		final Number number = new BigInteger(value);
+		if (type.equals(Byte.class)) {
+			NumberInRange.checkByte(number);
+		} else if (type.equals(Short.class)) {
+			NumberInRange.checkShort(number);
+		} else if (type.equals(Integer.class)) {
+			NumberInRange.checkInteger(number);
+		} else {
+			NumberInRange.checkLong(number);
+		}
+		return number.longValue();
+	}
+
+	/**
+	 * Checks the passed {@code value} against the ranges of the given datatype and reports a value which is no number
+	 * with an {@code IllegalNumberArgumentException}.
+	 * 
+	 * @param value
+	 *            value which must be a number and in the range of the given datatype.
+	 * @param type
+	 *            requested return value type, must be a subclass of {@code Number}
+	 * @param name
+	 *            (optional) name of object reference (in source code)
+	 * @return a number
+	 * 
+	 * @throws IllegalNumberArgumentException
+	 *             if the given value can not be parsed as a number
+	 */
+	private static <T> Number checkNumberInRange(final String value, final Class<T> type, @Nullable final String name) {
+		Number ret = null;
+		try {
+			ret = checkNumberInRange(value, type);
+		} catch (final NumberFormatException nfe) {
+			Failures.throwIllegalNumberArgument(name, value, nfe);
+		}
+		return ret;
+	}
+
+	/**
+	 * Checks the passed {@code value} against the ranges of the given datatype.
+	 * 
+	 * <p>
+	 * Values of the types {@code Byte, Short, Integer, Long} will be parsed without allocating a {@code BigInteger}.
+	 * Only if the fast parser rejects the value the exact conversion will be done, to determine how to report the
+	 * illegal value.
+	 * 
+	 * @param value
+	 *            value which must be a number and in the range of the given datatype.
+	 * @param type
+	 *            requested return value type, must be a subclass of {@code Number}
+	 * @return a number
+	 * 
+	 * @throws NumberFormatException
+	 *             if the given value can not be parsed as a number
+	 */
+	private static <T> Number checkNumberInRange(final String value, final Class<T> type) {
+		Number ret = null;
+		if (type.equals(Byte.class)) {
+			ret = Byte.valueOf((byte) parseInRange(value, Byte.MIN_VALUE, Byte.MAX_VALUE, type));
+		} else if (type.equals(Double.class)) {
+			final Number number = new BigDecimal(value);
+			NumberInRange.checkDouble(number);
+			ret = Double.valueOf(number.doubleValue());
+		} else if (type.equals(Float.class)) {
+			final Number number = new BigDecimal(value);
+			NumberInRange.checkFloat(number);
+			ret = Float.valueOf(number.floatValue());
+		} else if (type.equals(Integer.class)) {
+			ret = Integer.valueOf((int) parseInRange(value, Integer.MIN_VALUE, Integer.MAX_VALUE, type));
+		} else if (type.equals(Long.class)) {
+			ret = Long.valueOf(parseInRange(value, Long.MIN_VALUE, Long.MAX_VALUE, type));
+		} else if (type.equals(Short.class)) {
+			ret = Short.valueOf((short) parseInRange(value, Short.MIN_VALUE, Short.MAX_VALUE, type));
+		} else if (type.equals(BigInteger.class)) {
+			ret = new BigInteger(value);
+		} else if (type.equals(BigDecimal.class)) {
+			ret = new BigDecimal(value);
+		} else {
+			Failures.throwIllegalNumberType(type);
+		}
+		return ret;
+	}
+
+	/**
+	 * Ensures that an element {@code needle} is contained in a collection {@code haystack}.
+	 * 
+	 * <p>
+	 * This is in particular useful if you want to check whether an enum value is contained in an {@code EnumSet}. The
+	 * check is implemented using {@link java.util.Collection#contains(Object)}.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#contains(Collection, Object, String)} and pass as second
+	 * argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param haystack
+	 *            A collection which must contain {@code needle}
+	 * @param needle
+	 *            An object that must be contained into a collection.
+	 * @return the passed argument {@code needle}
+	 * 
+	 * @throws IllegalNotContainedArgumentException
+	 *             if the passed {@code needle} can not be found in {@code haystack}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotContainedArgumentException.class })
+	public static <T extends Object> T contains(@Nonnull final Collection<T> haystack, @Nonnull final T needle) {
+		requireNotNull(haystack, "haystack");
+		requireNotNull(needle, "needle");
+
+		if (!haystack.contains(needle)) {
+			Failures.throwIllegalNotContainedArgument(needle);
+		}
+
+		return needle;
+	}
+
+	/**
+	 * Ensures that an element {@code needle} is contained in a collection {@code haystack}.
+	 * 
+	 * <p>
+	 * This is in particular useful if you want to check whether an enum value is contained in an {@code EnumSet}. The
+	 * check is implemented using {@link java.util.Collection#contains(Object)}.
+	 * 
+	 * @param haystack
+	 *            A collection which must contain {@code needle}
+	 * @param needle
+	 *            An object that must be contained into a collection.
+	 * @param name
+	 *            name of argument of {@code needle}
+	 * @return the passed argument {@code needle}
+	 * 
+	 * @throws IllegalNotContainedArgumentException
+	 *             if the passed {@code needle} can not be found in {@code haystack}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotContainedArgumentException.class })
+	public static <T extends Object> T contains(@Nonnull final Collection<T> haystack, @Nonnull final T needle, @Nonnull final String name) {
+		requireNotNull(haystack, "haystack");
+		requireNotNull(needle, "needle");
+
+		if (!haystack.contains(needle)) {
+			Failures.throwIllegalNotContainedArgument(name, needle);
+		}
+
+		return needle;
+	}
+
+	/**
+	 * Ensures that an {@code int} value {@code needle} is one of the allowed values {@code haystack}.
+	 * 
+	 * <p>
+	 * In contrast to {@link Check#contains(Collection, Object)} the allowed values are looked up in an index which was
+	 * built in advance, so the time of a lookup does not grow with the number of allowed values.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#contains(AllowedInts, int, String)} and pass as last
+	 * argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param haystack
+	 *            allowed values which must contain {@code needle}
+	 * @param needle
+	 *            a value that must be one of the allowed values
+	 * @return the passed argument {@code needle}
+	 * 
+	 * @throws IllegalNotContainedArgumentException
+	 *             if the passed {@code needle} is not an allowed value
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotContainedArgumentException.class })
+	public static int contains(@Nonnull final AllowedInts haystack, final int needle) {
+		requireNotNull(haystack, "haystack");
+
+		if (!haystack.contains(needle)) {
+			Failures.throwIllegalNotContainedArgument(needle);
+		}
+
+		return needle;
+	}
+
+	/**
+	 * Ensures that an {@code int} value {@code needle} is one of the allowed values {@code haystack}.
+	 * 
+	 * <p>
+	 * In contrast to {@link Check#contains(Collection, Object)} the allowed values are looked up in an index which was
+	 * built in advance, so the time of a lookup does not grow with the number of allowed values.
+	 * 
+	 * @param haystack
+	 *            allowed values which must contain {@code needle}
+	 * @param needle
+	 *            a value that must be one of the allowed values
+	 * @param name
+	 *            name of argument of {@code needle}
+	 * @return the passed argument {@code needle}
+	 * 
+	 * @throws IllegalNotContainedArgumentException
+	 *             if the passed {@code needle} is not an allowed value
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotContainedArgumentException.class })
+	public static int contains(@Nonnull final AllowedInts haystack, final int needle, @Nullable final String name) {
+		requireNotNull(haystack, "haystack");
+
+		if (!haystack.contains(needle)) {
+			Failures.throwIllegalNotContainedArgument(name, needle);
+		}
+
+		return needle;
+	}
+
+	/**
+	 * Ensures that a {@code long} value {@code needle} is one of the allowed values {@code haystack}.
+	 * 
+	 * <p>
+	 * In contrast to {@link Check#contains(Collection, Object)} the allowed values are looked up in an index which was
+	 * built in advance, so the time of a lookup does not grow with the number of allowed values.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#contains(AllowedLongs, long, String)} and pass as last
+	 * argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param haystack
+	 *            allowed values which must contain {@code needle}
+	 * @param needle
+	 *            a value that must be one of the allowed values
+	 * @return the passed argument {@code needle}
+	 * 
+	 * @throws IllegalNotContainedArgumentException
+	 *             if the passed {@code needle} is not an allowed value
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotContainedArgumentException.class })
+	public static long contains(@Nonnull final AllowedLongs haystack, final long needle) {
+		requireNotNull(haystack, "haystack");
+
+		if (!haystack.contains(needle)) {
+			Failures.throwIllegalNotContainedArgument(needle);
+		}
+
+		return needle;
+	}
+
+	/**
+	 * Ensures that a {@code long} value {@code needle} is one of the allowed values {@code haystack}.
+	 * 
+	 * <p>
+	 * In contrast to {@link Check#contains(Collection, Object)} the allowed values are looked up in an index which was
+	 * built in advance, so the time of a lookup does not grow with the number of allowed values.
+	 * 
+	 * @param haystack
+	 *            allowed values which must contain {@code needle}
+	 * @param needle
+	 *            a value that must be one of the allowed values
+	 * @param name
+	 *            name of argument of {@code needle}
+	 * @return the passed argument {@code needle}
+	 * 
+	 * @throws IllegalNotContainedArgumentException
+	 *             if the passed {@code needle} is not an allowed value
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotContainedArgumentException.class })
+	public static long contains(@Nonnull final AllowedLongs haystack, final long needle, @Nullable final String name) {
+		requireNotNull(haystack, "haystack");
+
+		if (!haystack.contains(needle)) {
+			Failures.throwIllegalNotContainedArgument(name, needle);
+		}
+
+		return needle;
+	}
+
+	/**
+	 * Ensures that an element {@code needle} is one of the allowed values {@code haystack}.
+	 * 
+	 * <p>
+	 * In contrast to {@link Check#contains(Collection, Object)} the allowed values are looked up in an index which was
+	 * built in advance, so the time of a lookup does not grow with the number of allowed values.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#contains(AllowedValues, Object, String)} and pass as last
+	 * argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param haystack
+	 *            allowed values which must contain {@code needle}
+	 * @param needle
+	 *            a value that must be one of the allowed values
+	 * @return the passed argument {@code needle}
+	 * 
+	 * @throws IllegalNotContainedArgumentException
+	 *             if the passed {@code needle} is not an allowed value
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotContainedArgumentException.class })
+	public static <T> T contains(@Nonnull final AllowedValues<? super T> haystack, @Nonnull final T needle) {
+		requireNotNull(haystack, "haystack");
+		requireNotNull(needle, "needle");
+
+		if (!haystack.contains(needle)) {
+			Failures.throwIllegalNotContainedArgument(needle);
+		}
+
+		return needle;
+	}
+
+	/**
+	 * Ensures that an element {@code needle} is one of the allowed values {@code haystack}.
+	 * 
+	 * <p>
+	 * In contrast to {@link Check#contains(Collection, Object)} the allowed values are looked up in an index which was
+	 * built in advance, so the time of a lookup does not grow with the number of allowed values.
+	 * 
+	 * @param haystack
+	 *            allowed values which must contain {@code needle}
+	 * @param needle
+	 *            a value that must be one of the allowed values
+	 * @param name
+	 *            name of argument of {@code needle}
+	 * @return the passed argument {@code needle}
+	 * 
+	 * @throws IllegalNotContainedArgumentException
+	 *             if the passed {@code needle} is not an allowed value
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotContainedArgumentException.class })
+	public static <T> T contains(@Nonnull final AllowedValues<? super T> haystack, @Nonnull final T needle, @Nullable final String name) {
+		requireNotNull(haystack, "haystack");
+		requireNotNull(needle, "needle");
+
+		if (!haystack.contains(needle)) {
+			Failures.throwIllegalNotContainedArgument(name, needle);
+		}
+
+		return needle;
+	}
+
+	/**
+	 * Ensures that all elements of an {@code int} array {@code needles} are allowed values of {@code haystack}.
+	 * 
+	 * <p>
+	 * The index of the first element which is not allowed is reported as part of the argument name in the exception
+	 * (e.g. {@code codes[3]}).
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#containsAll(AllowedInts, int[], String)} and pass as last
+	 * argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param haystack
+	 *            allowed values which must contain all {@code needles}
+	 * @param needles
+	 *            an array whose elements must be allowed values
+	 * @return the passed argument {@code needles}
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if {@code haystack} or {@code needles} is {@code null}
+	 * @throws IllegalNotContainedArgumentException
+	 *             if an element of {@code needles} is not an allowed value
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotContainedArgumentException.class })
+	public static int[] containsAll(@Nonnull final AllowedInts haystack, @Nonnull final int[] needles) {
+		return containsAll(haystack, needles, EMPTY_ARGUMENT_NAME);
+	}
+
+	/**
+	 * Ensures that all elements of an {@code int} array {@code needles} are allowed values of {@code haystack}.
+	 * 
+	 * <p>
+	 * The index of the first element which is not allowed is reported as part of the argument name in the exception
+	 * (e.g. {@code codes[3]}).
+	 * 
+	 * @param haystack
+	 *            allowed values which must contain all {@code needles}
+	 * @param needles
+	 *            an array whose elements must be allowed values
+	 * @param name
+	 *            name of argument of {@code needles}
+	 * @return the passed argument {@code needles}
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if {@code haystack} or {@code needles} is {@code null}
+	 * @throws IllegalNotContainedArgumentException
+	 *             if an element of {@code needles} is not an allowed value
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotContainedArgumentException.class })
+	public static int[] containsAll(@Nonnull final AllowedInts haystack, @Nonnull final int[] needles, @Nullable final String name) {
+		requireNotNull(haystack, "haystack");
+		requireNotNull(needles, "needles");
+
+		for (int index = 0; index < needles.length; index++) {
+			if (!haystack.contains(needles[index])) {
+				Failures.throwIllegalNotContainedArgument(name, index, needles[index]);
+			}
+		}
+
+		return needles;
+	}
+
+	/**
+	 * Ensures that all elements of a {@code long} array {@code needles} are allowed values of {@code haystack}.
+	 * 
+	 * <p>
+	 * The index of the first element which is not allowed is reported as part of the argument name in the exception
+	 * (e.g. {@code codes[3]}).
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#containsAll(AllowedLongs, long[], String)} and pass as
+	 * last argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param haystack
+	 *            allowed values which must contain all {@code needles}
+	 * @param needles
+	 *            an array whose elements must be allowed values
+	 * @return the passed argument {@code needles}
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if {@code haystack} or {@code needles} is {@code null}
+	 * @throws IllegalNotContainedArgumentException
+	 *             if an element of {@code needles} is not an allowed value
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotContainedArgumentException.class })
+	public static long[] containsAll(@Nonnull final AllowedLongs haystack, @Nonnull final long[] needles) {
+		return containsAll(haystack, needles, EMPTY_ARGUMENT_NAME);
+	}
+
+	/**
+	 * Ensures that all elements of a {@code long} array {@code needles} are allowed values of {@code haystack}.
+	 * 
+	 * <p>
+	 * The index of the first element which is not allowed is reported as part of the argument name in the exception
+	 * (e.g. {@code codes[3]}).
+	 * 
+	 * @param haystack
+	 *            allowed values which must contain all {@code needles}
+	 * @param needles
+	 *            an array whose elements must be allowed values
+	 * @param name
+	 *            name of argument of {@code needles}
+	 * @return the passed argument {@code needles}
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if {@code haystack} or {@code needles} is {@code null}
+	 * @throws IllegalNotContainedArgumentException
+	 *             if an element of {@code needles} is not an allowed value
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotContainedArgumentException.class })
+	public static long[] containsAll(@Nonnull final AllowedLongs haystack, @Nonnull final long[] needles, @Nullable final String name) {
+		requireNotNull(haystack, "haystack");
+		requireNotNull(needles, "needles");
+
+		for (int index = 0; index < needles.length; index++) {
+			if (!haystack.contains(needles[index])) {
+				Failures.throwIllegalNotContainedArgument(name, index, needles[index]);
+			}
+		}
+
+		return needles;
+	}
+
+	/**
+	 * Ensures that all elements of an {@code Iterable} {@code needles} are allowed values of {@code haystack}.
+	 * 
+	 * <p>
+	 * The index of the first element which is not allowed is reported as part of the argument name in the exception
+	 * (e.g. {@code codes[3]}).
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#containsAll(AllowedValues, Iterable, String)} and pass as
+	 * last argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param haystack
+	 *            allowed values which must contain all {@code needles}
+	 * @param needles
+	 *            an iterable object whose elements must be allowed values
+	 * @return the passed argument {@code needles}
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if {@code haystack} or {@code needles} is {@code null}
+	 * @throws IllegalNotContainedArgumentException
+	 *             if an element of {@code needles} is not an allowed value
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotContainedArgumentException.class })
+	public static <T extends Iterable<?>> T containsAll(@Nonnull final AllowedValues<?> haystack, @Nonnull final T needles) {
+		return containsAll(haystack, needles, EMPTY_ARGUMENT_NAME);
+	}
+
+	/**
+	 * Ensures that all elements of an {@code Iterable} {@code needles} are allowed values of {@code haystack}.
+	 * 
+	 * <p>
+	 * The index of the first element which is not allowed is reported as part of the argument name in the exception
+	 * (e.g. {@code codes[3]}).
+	 * 
+	 * @param haystack
+	 *            allowed values which must contain all {@code needles}
+	 * @param needles
+	 *            an iterable object whose elements must be allowed values
+	 * @param name
+	 *            name of argument of {@code needles}
+	 * @return the passed argument {@code needles}
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if {@code haystack} or {@code needles} is {@code null}
+	 * @throws IllegalNotContainedArgumentException
+	 *             if an element of {@code needles} is not an allowed value
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotContainedArgumentException.class })
+	public static <T extends Iterable<?>> T containsAll(@Nonnull final AllowedValues<?> haystack, @Nonnull final T needles,
+			@Nullable final String name) {
+		requireNotNull(haystack, "haystack");
+		requireNotNull(needles, "needles");
+
+		int index = 0;
+		for (final Object needle : needles) {
+			if (!haystack.contains(needle)) {
+				Failures.throwIllegalNotContainedArgument(name, index, needle);
+			}
+			index++;
+		}
+
+		return needles;
+	}
+
+	/**
+	 * Checks if the given iterable contains {@code null}.
+	 * 
+	 * @param iterable
+	 *            reference to an iterable
+	 * @return {@code true} if the iterable contains {@code null}, otherwise {@code false}
+	 */
+	private static boolean containsNullElements(@Nonnull final Iterable<?> iterable) {
+		for (final Object element : iterable) {
+			if (element == null) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Checks if the given array contains {@code null}.
+	 * 
+	 * @param array
+	 *            reference to an array
+	 * @return {@code true} if the array contains {@code null}, otherwise {@code false}
+	 */
+	private static boolean containsNullElements(@Nonnull final Object[] array) {
+		boolean containsNull = false;
+		for (final Object o : array) {
+			if (o == null) {
+				containsNull = true;
+				break;
+			}
+		}
+		return containsNull;
+	}
+
+	/**
+	 * Checks if the given sequence of {@code char} values consists only of the characters 0-9. An empty sequence does
+	 * not consist of digits.
+	 * 
+	 * <p>
+	 * The characters are scanned by {@link BufferScan#indexOfNonDigit(CharSequence)}, which reads an array-backed
+	 * {@code CharBuffer} directly and all other sequences, including a {@code String}, by one shared loop. In all cases
+	 * no object is created, regardless of the length of the sequence.
+	 * 
+	 * @param chars
+	 *            a readable sequence of {@code char} values
+	 * @return {@code true} if the sequence is not empty and contains only the digits 0-9, otherwise {@code false}
+	 */
+	static boolean containsOnlyDigits(@Nonnull final CharSequence chars) {
+		return BufferScan.indexOfNonDigit(chars) < 0;
+	}
+
+	/**
+	 * Ensures that a passed boolean is equal to another boolean. The comparison is made using
+	 * <code>expected != check</code>.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#equals(boolean, boolean, String)} and pass as second
+	 * argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            boolean to be checked
+	 * @return the passed boolean argument {@code check}
+	 * 
+	 * @throws IllegalNotEqualException
+	 *             if both argument values are not equal
+	 */
+	@Throws(IllegalNotEqualException.class)
+	public static boolean equals(final boolean expected, final boolean check) { // NOSONAR
+		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
+
+		if (expected != check) {
+			Failures.throwIllegalNotEqual(check);
+		}
+
+		return check;
+	}
+
+	/**
+	 * Ensures that a passed boolean is equal to another boolean. The comparison is made using
+	 * <code>expected != check</code>.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            boolean to be checked
+	 * @param message
+	 *            an error message describing why the booleans must equal (will be passed to
+	 *            {@code IllegalNotEqualException})
+	 * @return the passed boolean argument {@code check}
+	 * 
+	 * @throws IllegalNotEqualException
+	 *             if both argument values are not equal
+	 */
+	@Throws(IllegalNotEqualException.class)
+	public static boolean equals(final boolean expected, final boolean check, @Nonnull final String message) { // NOSONAR
+		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
+
+		if (expected != check) {
+			Failures.throwIllegalNotEqual(message, check);
+		}
+
+		return check;
+	}
+
+	/**
+	 * Ensures that a passed byte is equal to another byte. The comparison is made using <code>expected != check</code>.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#equals(byte, byte, String)} and pass as second argument
+	 * the name of the parameter to enhance the exception message.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            byte to be checked
+	 * @return the passed byte argument {@code check}
+	 * 
+	 * @throws IllegalNotEqualException
+	 *             if both argument values are not equal
+	 */
+	@Throws(IllegalNotEqualException.class)
+	public static byte equals(final byte expected, final byte check) { // NOSONAR
+		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
+
+		if (expected != check) {
+			Failures.throwIllegalNotEqual(check);
+		}
+
+		return check;
+	}
+
+	/**
+	 * Ensures that a passed byte is equal to another byte. The comparison is made using <code>expected != check</code>.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            byte to be checked
+	 * @param message
+	 *            an error message describing why the bytes must equal (will be passed to
+	 *            {@code IllegalNotEqualException})
+	 * @return the byte boolean argument {@code check}
+	 * 
+	 * @throws IllegalNotEqualException
+	 *             if both argument values are not equal
+	 */
+	@Throws(IllegalNotEqualException.class)
+	public static byte equals(final byte expected, final byte check, @Nonnull final String message) { // NOSONAR
+		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
+
+		if (expected != check) {
+			Failures.throwIllegalNotEqual(message, check);
+		}
+
+		return check;
+	}
+
+	/**
+	 * Ensures that a passed char is equal to another char. The comparison is made using <code>expected != check</code>.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#equals(char, char, String)} and pass as second argument
+	 * the name of the parameter to enhance the exception message.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            char to be checked
+	 * @return the passed char argument {@code check}
+	 * 
+	 * @throws IllegalNotEqualException
+	 *             if both argument values are not equal
+	 */
+	@Throws(IllegalNotEqualException.class)
+	public static char equals(final char expected, final char check) { // NOSONAR
+		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
+
+		if (expected != check) {
+			Failures.throwIllegalNotEqual(check);
+		}
+
+		return check;
+	}
+
+	/**
+	 * Ensures that a passed char is equal to another char. The comparison is made using <code>expected != check</code>.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            char to be checked
+	 * @param message
+	 *            an error message describing why the chars must equal (will be passed to
+	 *            {@code IllegalNotEqualException})
+	 * @return the passed char argument {@code check}
+	 * 
+	 * @throws IllegalNotEqualException
+	 *             if both argument values are not equal
+	 */
+	@Throws(IllegalNotEqualException.class)
+	public static char equals(final char expected, final char check, @Nonnull final String message) { // NOSONAR
+		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
+
+		if (expected != check) {
+			Failures.throwIllegalNotEqual(message, check);
+		}
+
+		return check;
+	}
+
+	/**
+	 * Ensures that a passed intH is equal to another int. The comparison is made using <code>expected != check</code>.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#equals(int, int, String)} and pass as second argument the
+	 * name of the parameter to enhance the exception message.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            int to be checked
+	 * @return the passed int argument {@code check}
+	 * 
+	 * @throws IllegalNotEqualException
+	 *             if both argument values are not equal
+	 */
+	@Throws(IllegalNotEqualException.class)
+	public static int equals(final int expected, final int check) { // NOSONAR
+		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
+
+		if (expected != check) {
+			Failures.throwIllegalNotEqual(check);
+		}
+
+		return check;
+	}
+
+	/**
+	 * Ensures that a passed int is equal to another int. The comparison is made using <code>expected != check</code>.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            int to be checked
+	 * @param message
+	 *            an error message describing why the ints must equal (will be passed to
+	 *            {@code IllegalNotEqualException})
+	 * @return the passed int argument {@code check}
+	 * 
+	 * @throws IllegalNotEqualException
+	 *             if both argument values are not equal
+	 */
+	@Throws(IllegalNotEqualException.class)
+	public static int equals(final int expected, final int check, @Nonnull final String message) { // NOSONAR
+		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
+
+		if (expected != check) {
+			Failures.throwIllegalNotEqual(message, check);
+		}
+
+		return check;
+	}
+
+	/**
+	 * Ensures that a passed long is equal to another long. The comparison is made using <code>expected != check</code>.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#equals(long, long, String)} and pass as second argument
+	 * the name of the parameter to enhance the exception message.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            long to be checked
+	 * @return the passed long argument {@code check}
+	 * 
+	 * @throws IllegalNotEqualException
+	 *             if both argument values are not equal
+	 */
+	@Throws(IllegalNotEqualException.class)
+	public static long equals(final long expected, final long check) { // NOSONAR
+		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
+
+		if (expected != check) {
+			Failures.throwIllegalNotEqual(check);
+		}
+
+		return check;
+	}
+
+	/**
+	 * Ensures that a passed long is equal to another long. The comparison is made using <code>expected != check</code>.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            long to be checked
+	 * @param message
+	 *            an error message describing why the longs must equal (will be passed to
+	 *            {@code IllegalNotEqualException})
+	 * @return the passed long argument {@code check}
+	 * 
+	 * @throws IllegalNotEqualException
+	 *             if both argument values are not equal
+	 */
+	@Throws(IllegalNotEqualException.class)
+	public static long equals(final long expected, final long check, @Nonnull final String message) { // NOSONAR
+		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
+
+		if (expected != check) {
+			Failures.throwIllegalNotEqual(message, check);
+		}
+
+		return check;
+	}
+
+	/**
+	 * Ensures that a passed short is equal to another short. The comparison is made using
+	 * <code>expected != check</code>.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#equals(short, short, String)} and pass as second argument
+	 * the name of the parameter to enhance the exception message.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            short to be checked
+	 * @return the passed short argument {@code check}
+	 * 
+	 * @throws IllegalNotEqualException
+	 *             if both argument values are not equal
+	 */
+	@Throws(IllegalNotEqualException.class)
+	public static short equals(final short expected, final short check) { // NOSONAR
+		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
+
+		if (expected != check) {
+			Failures.throwIllegalNotEqual(check);
+		}
+
+		return check;
+	}
+
+	/**
+	 * Ensures that a passed short is equal to another short. The comparison is made using
+	 * <code>expected != check</code>.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            short to be checked
+	 * @param message
+	 *            an error message describing why the shorts must equal (will be passed to
+	 *            {@code IllegalNotEqualException})
+	 * @return the passed short {@code check}
+	 * 
+	 * @throws IllegalNotEqualException
+	 *             if both argument values are not equal
+	 */
+	@Throws(IllegalNotEqualException.class)
+	public static short equals(final short expected, final short check, @Nonnull final String message) { // NOSONAR
+		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
+
+		if (expected != check) {
+			Failures.throwIllegalNotEqual(message, check);
+		}
+
+		return check;
+	}
+
+	/**
+	 * Ensures that a passed {@code Comparable} is equal to another {@code Comparable}. The comparison is made using
+	 * {@code expected.compareTo(check) != 0}.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#equals(Comparable, Comparable, String)} and pass as second
+	 * argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            Comparable to be checked
+	 * @return the passed {@code Comparable} argument {@code check}
+	 * 
+	 * @throws IllegalNotEqualException
+	 *             if both argument values are not equal
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotEqualException.class })
+	public static <T extends Comparable<T>> T equals(@Nonnull final T expected, @Nonnull final T check) { // NOSONAR
+		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
+		requireNotNull(expected, "expected");
+		requireNotNull(check, "check");
+
+		if (expected.compareTo(check) != 0) {
+			Failures.throwIllegalNotEqual(check);
+		}
+
+		return check;
+	}
+
+	/**
+	 * Ensures that a passed object is equal to another object. The comparison is made using a call to
+	 * {@code expected.equals(check) }.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#equals(Object, Object, String)} and pass as second
+	 * argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            Object to be checked
+	 * @return the passed argument {@code check}
+	 * 
+	 * @throws IllegalNotEqualException
+	 *             if both argument values are not equal
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotEqualException.class })
+	public static <T extends Object> T equals(@Nonnull final T expected, @Nonnull final T check) { // NOSONAR
+		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
+
+		requireNotNull(expected, "expected");
+		requireNotNull(check, "check");
+
+		if (!expected.equals(check)) {
+			Failures.throwIllegalNotEqual(check);
+		}
+
+		return check;
+	}
+
+	/**
+	 * Ensures that a passed {@code Comparable} is equal to another {@code Comparable}. The comparison is made using
 	 * {@code expected.compareTo(check) != 0}.
 	 * 
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            Comparable to be checked
-	 * @param message
-	 *            an error message describing why the <a>s must equal (will be passed to
-	 *            {@code IllegalNotEqualException})
-	 * @return the passed {@code Comparable} argument {@code check}
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            Comparable to be checked
+	 * @param message
+	 *            an error message describing why the <a>s must equal (will be passed to
+	 *            {@code IllegalNotEqualException})
+	 * @return the passed {@code Comparable} argument {@code check}
+	 * 
+	 * @throws IllegalNotEqualException
+	 *             if both argument values are not equal
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotEqualException.class })
+	public static <T extends Comparable<T>> T equals(@Nonnull final T expected, @Nonnull final T check, @Nonnull final String message) { // NOSONAR
+		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
+		requireNotNull(expected, "expected");
+		requireNotNull(check, "check");
+
+		if (expected.compareTo(check) != 0) {
+			Failures.throwIllegalNotEqual(message, check);
+		}
+
+		return check;
+	}
+
+	/**
+	 * Ensures that a passed object is equal to another object. The comparison is made using a call to
+	 * {@code expected.equals(check) }.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            Object to be checked
+	 * @param message
+	 *            an error message describing why the objects must equal (will be passed to
+	 *            {@code IllegalNotEqualException})
+	 * @return the passed argument {@code check}
+	 * 
+	 * @throws IllegalNotEqualException
+	 *             if both argument values are not equal
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotEqualException.class })
+	public static <T extends Object> T equals(@Nonnull final T expected, @Nonnull final T check, @Nonnull final String message) { // NOSONAR
+		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
+		requireNotNull(expected, "expected");
+		requireNotNull(check, "check");
+
+		if (!expected.equals(check)) {
+			Failures.throwIllegalNotEqual(message, check);
+		}
+
+		return check;
+	}
+
+	/**
+	 * Ensures that a passed {@code Comparable} is greater or equal compared to another {@code Comparable}. The
+	 * comparison is made using {@code expected.compareTo(check) > 0}.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            Comparable to be checked
+	 * @return the passed {@code Comparable} argument {@code check}
+	 * 
+	 * @throws IllegalNotGreaterOrEqualThanException
+	 *             if the argument value {@code check} is not greater or equal than the value {@code expected} when
+	 *             using method {@code compareTo}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotGreaterOrEqualThanException.class })
+	public static <T extends Comparable<T>> T greaterOrEqualThan(@Nonnull final T expected, @Nonnull final T check) {
+		requireNotNull(expected, "expected");
+		requireNotNull(check, "check");
+
+		if (expected.compareTo(check) > 0) {
+			Failures.throwIllegalNotGreaterOrEqualThan(check);
+		}
+
+		return check;
+	}
+
+	/**
+	 * Ensures that a passed {@code Comparable} is greater or equal compared to another {@code Comparable}. The
+	 * comparison is made using {@code expected.compareTo(check) > 0}.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            Comparable to be checked
+	 * @param message
+	 *            an error message describing why the comparable must be greater than a value (will be passed to
+	 *            {@code IllegalNotGreaterOrEqualThanException})
+	 * @return the passed {@code Comparable} argument {@code check}
+	 * 
+	 * @throws IllegalNotGreaterOrEqualThanException
+	 *             if the argument value {@code check} is not greater or equal than the value {@code expected} when
+	 *             using method {@code compareTo}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotGreaterOrEqualThanException.class })
+	public static <T extends Comparable<T>> T greaterOrEqualThan(@Nonnull final T expected, @Nonnull final T check,
+			@Nonnull final String message) {
+		requireNotNull(expected, "expected");
+		requireNotNull(check, "check");
+
+		if (expected.compareTo(check) > 0) {
+			Failures.throwIllegalNotGreaterOrEqualThan(message, check);
+		}
+
+		return check;
+	}
+
+	/**
+	 * Ensures that a passed {@code byte} is greater to another {@code byte}.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            Comparable to be checked
+	 * @return the passed {@code Comparable} argument {@code check}
+	 * 
+	 * @throws IllegalNotGreaterThanException
+	 *             if the argument value {@code check} is not greater than value {@code expected}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNotGreaterThanException.class)
+	public static byte greaterThan(final byte expected, final byte check) {
+		if (expected >= check) {
+			Failures.throwIllegalNotGreaterThan(check);
+		}
+
+		return check;
+	}
+
+	/**
+	 * Ensures that a passed {@code byte} is greater than another {@code byte}.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            Comparable to be checked
+	 * @param message
+	 *            an error message describing why the comparable must be greater than a value (will be passed to
+	 *            {@code IllegalNotGreaterThanException})
+	 * @return the passed {@code Comparable} argument {@code check}
+	 * 
+	 * @throws IllegalNotGreaterThanException
+	 *             if the argument value {@code check} is not greater than value {@code expected}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNotGreaterThanException.class)
+	public static byte greaterThan(final byte expected, final byte check, @Nonnull final String message) {
+		if (expected >= check) {
+			Failures.throwIllegalNotGreaterThan(message, check);
+		}
+
+		return check;
+	}
+
+	/**
+	 * Ensures that a passed {@code char} is greater to another {@code char}.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            Comparable to be checked
+	 * @return the passed {@code Comparable} argument {@code check}
+	 * 
+	 * @throws IllegalNotGreaterThanException
+	 *             if the argument value {@code check} is not greater than value {@code expected}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNotGreaterThanException.class)
+	public static char greaterThan(final char expected, final char check) {
+		if (expected >= check) {
+			Failures.throwIllegalNotGreaterThan(check);
+		}
+
+		return check;
+	}
+
+	/**
+	 * Ensures that a passed {@code char} is greater than another {@code char}.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            Comparable to be checked
+	 * @param message
+	 *            an error message describing why the comparable must be greater than a value (will be passed to
+	 *            {@code IllegalNotGreaterThanException})
+	 * @return the passed {@code Comparable} argument {@code check}
+	 * 
+	 * @throws IllegalNotGreaterThanException
+	 *             if the argument value {@code check} is not greater than value {@code expected}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNotGreaterThanException.class)
+	public static char greaterThan(final char expected, final char check, @Nonnull final String message) {
+		if (expected >= check) {
+			Failures.throwIllegalNotGreaterThan(message, check);
+		}
+
+		return check;
+	}
+
+	/**
+	 * Ensures that a passed {@code double} is greater to another {@code double}.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            Comparable to be checked
+	 * @return the passed {@code Comparable} argument {@code check}
+	 * 
+	 * @throws IllegalNotGreaterThanException
+	 *             if the argument value {@code check} is not greater than value {@code expected}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNotGreaterThanException.class)
+	public static double greaterThan(final double expected, final double check) {
+		if (expected >= check) {
+			Failures.throwIllegalNotGreaterThan(check);
+		}
+
+		return check;
+	}
+
+	/**
+	 * Ensures that a passed {@code double} is greater than another {@code double}.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            Comparable to be checked
+	 * @param message
+	 *            an error message describing why the comparable must be greater than a value (will be passed to
+	 *            {@code IllegalNotGreaterThanException})
+	 * @return the passed {@code Comparable} argument {@code check}
+	 * 
+	 * @throws IllegalNotGreaterThanException
+	 *             if the argument value {@code check} is not greater than value {@code expected}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNotGreaterThanException.class)
+	public static double greaterThan(final double expected, final double check, @Nonnull final String message) {
+		if (expected >= check) {
+			Failures.throwIllegalNotGreaterThan(message, check);
+		}
+
+		return check;
+	}
+
+	/**
+	 * Ensures that a passed {@code float} is greater to another {@code float}.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            Comparable to be checked
+	 * @return the passed {@code Comparable} argument {@code check}
+	 * 
+	 * @throws IllegalNotGreaterThanException
+	 *             if the argument value {@code check} is not greater than value {@code expected}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNotGreaterThanException.class)
+	public static float greaterThan(final float expected, final float check) {
+		if (expected >= check) {
+			Failures.throwIllegalNotGreaterThan(check);
+		}
+
+		return check;
+	}
+
+	/**
+	 * Ensures that a passed {@code float} is greater than another {@code float}.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            Comparable to be checked
+	 * @param message
+	 *            an error message describing why the comparable must be greater than a value (will be passed to
+	 *            {@code IllegalNotGreaterThanException})
+	 * @return the passed {@code Comparable} argument {@code check}
+	 * 
+	 * @throws IllegalNotGreaterThanException
+	 *             if the argument value {@code check} is not greater than value {@code expected}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNotGreaterThanException.class)
+	public static float greaterThan(final float expected, final float check, @Nonnull final String message) {
+		if (expected >= check) {
+			Failures.throwIllegalNotGreaterThan(message, check);
+		}
+
+		return check;
+	}
+
+	/**
+	 * Ensures that a passed {@code int} is greater to another {@code int}.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            Comparable to be checked
+	 * @return the passed {@code Comparable} argument {@code check}
+	 * 
+	 * @throws IllegalNotGreaterThanException
+	 *             if the argument value {@code check} is not greater than value {@code expected}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNotGreaterThanException.class)
+	public static int greaterThan(final int expected, final int check) {
+		if (expected >= check) {
+			Failures.throwIllegalNotGreaterThan(check);
+		}
+
+		return check;
+	}
+
+	/**
+	 * Ensures that a passed {@code int} is greater than another {@code int}.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            Comparable to be checked
+	 * @param message
+	 *            an error message describing why the comparable must be greater than a value (will be passed to
+	 *            {@code IllegalNotGreaterThanException})
+	 * @return the passed {@code Comparable} argument {@code check}
+	 * 
+	 * @throws IllegalNotGreaterThanException
+	 *             if the argument value {@code check} is not greater than value {@code expected}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNotGreaterThanException.class)
+	public static int greaterThan(final int expected, final int check, @Nonnull final String message) {
+		if (expected >= check) {
+			Failures.throwIllegalNotGreaterThan(message, check);
+		}
+
+		return check;
+	}
+
+	/**
+	 * Ensures that a passed {@code long} is greater to another {@code long}.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            Comparable to be checked
+	 * @return the passed {@code Comparable} argument {@code check}
+	 * 
+	 * @throws IllegalNotGreaterThanException
+	 *             if the argument value {@code check} is not greater than value {@code expected}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNotGreaterThanException.class)
+	public static long greaterThan(final long expected, final long check) {
+		if (expected >= check) {
+			Failures.throwIllegalNotGreaterThan(check);
+		}
+
+		return check;
+	}
+
+	/**
+	 * Ensures that a passed {@code long} is greater than another {@code long}.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            Comparable to be checked
+	 * @param message
+	 *            an error message describing why the comparable must be greater than a value (will be passed to
+	 *            {@code IllegalNotGreaterThanException})
+	 * @return the passed {@code Comparable} argument {@code check}
+	 * 
+	 * @throws IllegalNotGreaterThanException
+	 *             if the argument value {@code check} is not greater than value {@code expected}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNotGreaterThanException.class)
+	public static long greaterThan(final long expected, final long check, @Nonnull final String message) {
+		if (expected >= check) {
+			Failures.throwIllegalNotGreaterThan(message, check);
+		}
+
+		return check;
+	}
+
+	/**
+	 * Ensures that a passed {@code short} is greater to another {@code short}.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            Comparable to be checked
+	 * @return the passed {@code Comparable} argument {@code check}
+	 * 
+	 * @throws IllegalNotGreaterThanException
+	 *             if the argument value {@code check} is not greater than value {@code expected}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNotGreaterThanException.class)
+	public static short greaterThan(final short expected, final short check) {
+		if (expected >= check) {
+			Failures.throwIllegalNotGreaterThan(check);
+		}
+
+		return check;
+	}
+
+	/**
+	 * Ensures that a passed {@code short} is greater than another {@code short}.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            Comparable to be checked
+	 * @param message
+	 *            an error message describing why the comparable must be greater than a value (will be passed to
+	 *            {@code IllegalNotGreaterThanException})
+	 * @return the passed {@code Comparable} argument {@code check}
+	 * 
+	 * @throws IllegalNotGreaterThanException
+	 *             if the argument value {@code check} is not greater than value {@code expected}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNotGreaterThanException.class)
+	public static short greaterThan(final short expected, final short check, @Nonnull final String message) {
+		if (expected >= check) {
+			Failures.throwIllegalNotGreaterThan(message, check);
+		}
+
+		return check;
+	}
+
+	/**
+	 * Ensures that a passed {@code Comparable} is greater to another {@code Comparable}. The comparison is made using
+	 * {@code expected.compareTo(check) >= 0}.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            Comparable to be checked
+	 * @return the passed {@code Comparable} argument {@code check}
+	 * 
+	 * @throws IllegalNotGreaterThanException
+	 *             if the argument value {@code check} is not greater than value {@code expected} when using method
+	 *             {@code compareTo}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotGreaterThanException.class })
+	public static <T extends Comparable<T>> T greaterThan(@Nonnull final T expected, @Nonnull final T check) {
+		requireNotNull(expected, "expected");
+		requireNotNull(check, "check");
+
+		if (expected.compareTo(check) >= 0) {
+			Failures.throwIllegalNotGreaterThan(check);
+		}
+
+		return check;
+	}
+
+	/**
+	 * Ensures that a passed {@code Comparable} is greater than another {@code Comparable}. The comparison is made using
+	 * {@code expected.compareTo(check) >= 0}.
+	 * 
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            Comparable to be checked
+	 * @param message
+	 *            an error message describing why the comparable must be greater than a value (will be passed to
+	 *            {@code IllegalNotGreaterThanException})
+	 * @return the passed {@code Comparable} argument {@code check}
+	 * 
+	 * @throws IllegalNotGreaterThanException
+	 *             if the argument value {@code check} is not greater than value {@code expected} when using method
+	 *             {@code compareTo}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotGreaterThanException.class })
+	public static <T extends Comparable<T>> T greaterThan(@Nonnull final T expected, @Nonnull final T check, @Nonnull final String message) {
+		requireNotNull(expected, "expected");
+		requireNotNull(check, "check");
+
+		if (expected.compareTo(check) >= 0) {
+			Failures.throwIllegalNotGreaterThan(message, check);
+		}
+
+		return check;
+	}
+
+	/**
+	 * Ensures that a passed class has an annotation of a specific type
+	 * 
+	 * @param clazz
+	 *            the class that must have a required annotation
+	 * @param annotation
+	 *            the type of annotation that is required on the class
+	 * @return the given annotation which is present on the checked class
+	 * 
+	 * @throws IllegalMissingAnnotationException
+	 *             if the passed annotation is not annotated at the given class
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalMissingAnnotationException.class })
+	public static Annotation hasAnnotation(@Nonnull final Class<?> clazz, @Nonnull final Class<? extends Annotation> annotation) {
+		requireNotNull(clazz, "clazz");
+		requireNotNull(annotation, "annotation");
+		if (!clazz.isAnnotationPresent(annotation)) {
+			Failures.throwIllegalMissingAnnotation(annotation, clazz);
+		}
+
+		return clazz.getAnnotation(annotation);
+	}
+
+	/**
+	 * Ensures that a {@code byte} value is within the half-open range from {@code min} (inclusive) to {@code max}
+	 * (exclusive).
+	 * 
+	 * <p>
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#inRange(byte, byte, byte, String)} and pass as last
+	 * argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (exclusive)
+	 * @return the given value
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or not lesser than {@code max}
+	 */
+	@Throws(IllegalNotInRangeException.class)
+	public static byte inRange(final byte value, final byte min, final byte max) {
+		return inRange(value, min, max, EMPTY_ARGUMENT_NAME);
+	}
+
+	/**
+	 * Ensures that a {@code byte} value is within the half-open range from {@code min} (inclusive) to {@code max}
+	 * (exclusive).
+	 * 
+	 * <p>
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
+	 * 
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (exclusive)
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return the given value
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or not lesser than {@code max}
+	 */
+	@Throws(IllegalNotInRangeException.class)
+	public static byte inRange(final byte value, final byte min, final byte max, @Nullable final String name) {
+		if (ELIDE_RANGE) {
+			return value;
+		}
+		if (!(value >= min && value < max)) {
+			Failures.throwIllegalNotInRange(name, value, min, max, false);
+		}
+		return value;
+	}
+
+	/**
+	 * Ensures that a {@code char} value is within the half-open range from {@code min} (inclusive) to {@code max}
+	 * (exclusive).
+	 * 
+	 * <p>
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#inRange(char, char, char, String)} and pass as last
+	 * argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (exclusive)
+	 * @return the given value
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or not lesser than {@code max}
+	 */
+	@Throws(IllegalNotInRangeException.class)
+	public static char inRange(final char value, final char min, final char max) {
+		return inRange(value, min, max, EMPTY_ARGUMENT_NAME);
+	}
+
+	/**
+	 * Ensures that a {@code char} value is within the half-open range from {@code min} (inclusive) to {@code max}
+	 * (exclusive).
+	 * 
+	 * <p>
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
+	 * 
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (exclusive)
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return the given value
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or not lesser than {@code max}
+	 */
+	@Throws(IllegalNotInRangeException.class)
+	public static char inRange(final char value, final char min, final char max, @Nullable final String name) {
+		if (ELIDE_RANGE) {
+			return value;
+		}
+		if (!(value >= min && value < max)) {
+			Failures.throwIllegalNotInRange(name, value, min, max, false);
+		}
+		return value;
+	}
+
+	/**
+	 * Ensures that a {@code double} value is within the half-open range from {@code min} (inclusive) to {@code max}
+	 * (exclusive). NaN is not within any range.
+	 * 
+	 * <p>
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#inRange(double, double, double, String)} and pass as last
+	 * argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (exclusive)
+	 * @return the given value
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or not lesser than {@code max}
+	 */
+	@Throws(IllegalNotInRangeException.class)
+	public static double inRange(final double value, final double min, final double max) {
+		return inRange(value, min, max, EMPTY_ARGUMENT_NAME);
+	}
+
+	/**
+	 * Ensures that a {@code double} value is within the half-open range from {@code min} (inclusive) to {@code max}
+	 * (exclusive). NaN is not within any range.
+	 * 
+	 * <p>
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
+	 * 
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (exclusive)
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return the given value
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or not lesser than {@code max}
+	 */
+	@Throws(IllegalNotInRangeException.class)
+	public static double inRange(final double value, final double min, final double max, @Nullable final String name) {
+		if (ELIDE_RANGE) {
+			return value;
+		}
+		if (!(value >= min && value < max)) {
+			Failures.throwIllegalNotInRange(name, value, min, max, false);
+		}
+		return value;
+	}
+
+	/**
+	 * Ensures that a {@code float} value is within the half-open range from {@code min} (inclusive) to {@code max}
+	 * (exclusive). NaN is not within any range.
+	 * 
+	 * <p>
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#inRange(float, float, float, String)} and pass as last
+	 * argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (exclusive)
+	 * @return the given value
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or not lesser than {@code max}
+	 */
+	@Throws(IllegalNotInRangeException.class)
+	public static float inRange(final float value, final float min, final float max) {
+		return inRange(value, min, max, EMPTY_ARGUMENT_NAME);
+	}
+
+	/**
+	 * Ensures that a {@code float} value is within the half-open range from {@code min} (inclusive) to {@code max}
+	 * (exclusive). NaN is not within any range.
+	 * 
+	 * <p>
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
+	 * 
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (exclusive)
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return the given value
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or not lesser than {@code max}
+	 */
+	@Throws(IllegalNotInRangeException.class)
+	public static float inRange(final float value, final float min, final float max, @Nullable final String name) {
+		if (ELIDE_RANGE) {
+			return value;
+		}
+		if (!(value >= min && value < max)) {
+			Failures.throwIllegalNotInRange(name, value, min, max, false);
+		}
+		return value;
+	}
+
+	/**
+	 * Ensures that an {@code int} value is within the half-open range from {@code min} (inclusive) to {@code max}
+	 * (exclusive).
+	 * 
+	 * <p>
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#inRange(int, int, int, String)} and pass as last argument
+	 * the name of the parameter to enhance the exception message.
+	 * 
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (exclusive)
+	 * @return the given value
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or not lesser than {@code max}
+	 */
+	@Throws(IllegalNotInRangeException.class)
+	public static int inRange(final int value, final int min, final int max) {
+		return inRange(value, min, max, EMPTY_ARGUMENT_NAME);
+	}
+
+	/**
+	 * Ensures that an {@code int} value is within the half-open range from {@code min} (inclusive) to {@code max}
+	 * (exclusive).
+	 * 
+	 * <p>
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
+	 * 
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (exclusive)
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return the given value
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or not lesser than {@code max}
+	 */
+	@Throws(IllegalNotInRangeException.class)
+	public static int inRange(final int value, final int min, final int max, @Nullable final String name) {
+		if (ELIDE_RANGE) {
+			return value;
+		}
+		if (!(value >= min && value < max)) {
+			Failures.throwIllegalNotInRange(name, value, min, max, false);
+		}
+		return value;
+	}
+
+	/**
+	 * Ensures that a {@code long} value is within the half-open range from {@code min} (inclusive) to {@code max}
+	 * (exclusive).
+	 * 
+	 * <p>
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#inRange(long, long, long, String)} and pass as last
+	 * argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (exclusive)
+	 * @return the given value
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or not lesser than {@code max}
+	 */
+	@Throws(IllegalNotInRangeException.class)
+	public static long inRange(final long value, final long min, final long max) {
+		return inRange(value, min, max, EMPTY_ARGUMENT_NAME);
+	}
+
+	/**
+	 * Ensures that a {@code long} value is within the half-open range from {@code min} (inclusive) to {@code max}
+	 * (exclusive).
+	 * 
+	 * <p>
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
+	 * 
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (exclusive)
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return the given value
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or not lesser than {@code max}
+	 */
+	@Throws(IllegalNotInRangeException.class)
+	public static long inRange(final long value, final long min, final long max, @Nullable final String name) {
+		if (ELIDE_RANGE) {
+			return value;
+		}
+		if (!(value >= min && value < max)) {
+			Failures.throwIllegalNotInRange(name, value, min, max, false);
+		}
+		return value;
+	}
+
+	/**
+	 * Ensures that a {@code short} value is within the half-open range from {@code min} (inclusive) to {@code max}
+	 * (exclusive).
+	 * 
+	 * <p>
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#inRange(short, short, short, String)} and pass as last
+	 * argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (exclusive)
+	 * @return the given value
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or not lesser than {@code max}
+	 */
+	@Throws(IllegalNotInRangeException.class)
+	public static short inRange(final short value, final short min, final short max) {
+		return inRange(value, min, max, EMPTY_ARGUMENT_NAME);
+	}
+
+	/**
+	 * Ensures that a {@code short} value is within the half-open range from {@code min} (inclusive) to {@code max}
+	 * (exclusive).
+	 * 
+	 * <p>
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
+	 * 
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (exclusive)
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return the given value
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or not lesser than {@code max}
+	 */
+	@Throws(IllegalNotInRangeException.class)
+	public static short inRange(final short value, final short min, final short max, @Nullable final String name) {
+		if (ELIDE_RANGE) {
+			return value;
+		}
+		if (!(value >= min && value < max)) {
+			Failures.throwIllegalNotInRange(name, value, min, max, false);
+		}
+		return value;
+	}
+
+	/**
+	 * Ensures that a passed argument is a member of a specific type.
+	 * 
+	 * @param type
+	 *            class that the given object is a member of
+	 * @param obj
+	 *            the object reference that should be a member of a specific {@code type}
+	 * @return the given object cast to type
+	 * 
+	 * @throws IllegalInstanceOfArgumentException
+	 *             if the given argument {@code obj} is not a member of {@code type}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalInstanceOfArgumentException.class })
+	@SuppressWarnings("unchecked")
+	public static <T> T instanceOf(@Nonnull final Class<?> type, @Nonnull final Object obj) {
+		return (T) instanceOf(type, obj, EMPTY_ARGUMENT_NAME);
+	}
+
+	/**
+	 * Ensures that a passed argument is a member of a specific type.
+	 * 
+	 * @param type
+	 *            class that the given object is a member of
+	 * @param obj
+	 *            the object reference that should be a member of a specific {@code type}
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return the given object cast to type
+	 * 
+	 * @throws IllegalInstanceOfArgumentException
+	 *             if the given argument {@code obj} is not a member of {@code type}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalInstanceOfArgumentException.class })
+	@SuppressWarnings("unchecked")
+	public static <T> T instanceOf(@Nonnull final Class<?> type, @Nonnull final Object obj, @Nullable final String name) {
+		requireNotNull(type, "type");
+		requireNotNull(obj, "obj");
+		if (!type.isInstance(obj)) {
+			Failures.throwIllegalInstanceOfArgument(name, type, obj.getClass());
+		}
+		return (T) obj;
+	}
+
+	/**
+	 * Ensures that a readable sequence of {@code char} values is a number in the range of {@code byte}. The value is
+	 * parsed without boxing and without creating intermediate objects.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#isByte(CharSequence, String)} and pass as second argument
+	 * the name of the parameter to enhance the exception message.
+	 * 
+	 * @param value
+	 *            value which must be a number in the range of {@code byte}
+	 * @return the given argument converted to a {@code byte}
+	 * 
+	 * @throws IllegalNumberArgumentException
+	 *             if the given argument {@code value} is no number
+	 * @throws IllegalNumberRangeException
+	 *             if the given argument {@code value} is not in the range of {@code byte}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberArgumentException.class })
+	public static byte isByte(@Nonnull final CharSequence value) {
+		return isByte(value, EMPTY_ARGUMENT_NAME);
+	}
+
+	/**
+	 * Ensures that a readable sequence of {@code char} values is a number in the range of {@code byte}. The value is
+	 * parsed without boxing and without creating intermediate objects.
+	 * 
+	 * @param value
+	 *            value which must be a number in the range of {@code byte}
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return the given argument converted to a {@code byte}
 	 * 
-	 * @throws IllegalNotEqualException
-	 *             if both argument values are not equal
+	 * @throws IllegalNumberArgumentException
+	 *             if the given argument {@code value} is no number
+	 * @throws IllegalNumberRangeException
+	 *             if the given argument {@code value} is not in the range of {@code byte}
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNotEqualException.class })
-	public static <T extends Comparable<T>> T equals(@Nonnull final T expected, @Nonnull final T check, @Nonnull final String message) { // NOSONAR
-		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
-		Check.notNull(expected, "expected");
-		Check.notNull(check, "check");
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberArgumentException.class })
+	public static byte isByte(@Nonnull final CharSequence value, @Nullable final String name) {
+		requireNotNull(value, "value");
+		return (byte) parseInRange(value, Byte.MIN_VALUE, Byte.MAX_VALUE, Byte.class, name);
+	}
 
-		if (expected.compareTo(check) != 0) {
-			throw new IllegalNotEqualException(message, check);
+	/**
+	 * Ensures that a readable sequence of {@code char} values is a number in the range of {@code int}. The value is
+	 * parsed without boxing and without creating intermediate objects.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#isInt(CharSequence, String)} and pass as second argument
+	 * the name of the parameter to enhance the exception message.
+	 * 
+	 * @param value
+	 *            value which must be a number in the range of {@code int}
+	 * @return the given argument converted to an {@code int}
+	 * 
+	 * @throws IllegalNumberArgumentException
+	 *             if the given argument {@code value} is no number
+	 * @throws IllegalNumberRangeException
+	 *             if the given argument {@code value} is not in the range of {@code int}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberArgumentException.class })
+	public static int isInt(@Nonnull final CharSequence value) {
+		return isInt(value, EMPTY_ARGUMENT_NAME);
+	}
+
+	/**
+	 * Ensures that a readable sequence of {@code char} values is a number in the range of {@code int}. The value is
+	 * parsed without boxing and without creating intermediate objects.
+	 * 
+	 * @param value
+	 *            value which must be a number in the range of {@code int}
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return the given argument converted to an {@code int}
+	 * 
+	 * @throws IllegalNumberArgumentException
+	 *             if the given argument {@code value} is no number
+	 * @throws IllegalNumberRangeException
+	 *             if the given argument {@code value} is not in the range of {@code int}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberArgumentException.class })
+	public static int isInt(@Nonnull final CharSequence value, @Nullable final String name) {
+		requireNotNull(value, "value");
+		return (int) parseInRange(value, Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.class, name);
+	}
+
+	/**
+	 * Ensures that a readable sequence of {@code char} values is a number in the range of {@code long}. The value is
+	 * parsed without boxing and without creating intermediate objects.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#isLong(CharSequence, String)} and pass as second argument
+	 * the name of the parameter to enhance the exception message.
+	 * 
+	 * @param value
+	 *            value which must be a number in the range of {@code long}
+	 * @return the given argument converted to a {@code long}
+	 * 
+	 * @throws IllegalNumberArgumentException
+	 *             if the given argument {@code value} is no number
+	 * @throws IllegalNumberRangeException
+	 *             if the given argument {@code value} is not in the range of {@code long}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberArgumentException.class })
+	public static long isLong(@Nonnull final CharSequence value) {
+		return isLong(value, EMPTY_ARGUMENT_NAME);
+	}
+
+	/**
+	 * Ensures that a readable sequence of {@code char} values is a number in the range of {@code long}. The value is
+	 * parsed without boxing and without creating intermediate objects.
+	 * 
+	 * @param value
+	 *            value which must be a number in the range of {@code long}
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return the given argument converted to a {@code long}
+	 * 
+	 * @throws IllegalNumberArgumentException
+	 *             if the given argument {@code value} is no number
+	 * @throws IllegalNumberRangeException
+	 *             if the given argument {@code value} is not in the range of {@code long}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberArgumentException.class })
+	public static long isLong(@Nonnull final CharSequence value, @Nullable final String name) {
+		requireNotNull(value, "value");
+		return parseInRange(value, Long.MIN_VALUE, Long.MAX_VALUE, Long.class, name);
+	}
+
+	/**
+	 * Ensures that a given argument is {@code null}.
+	 * 
+	 * Normally, the usage of {@code null} arguments is disregarded by the authors of quality-check. Still, there are
+	 * certain circumstances where null is required, e.g. the primary key of an entity before it is written to the
+	 * database for the first time. In such cases it is ok to use null values and there should also be checks for them.
+	 * For example, to avoid overwriting an existing primary key with a new one.
+	 * 
+	 * @param reference
+	 *            reference which must be null
+	 * 
+	 * @throws IllegalNotNullArgumentException
+	 *             if the given argument {@code reference} is not null
+	 */
+	@Throws(IllegalNotNullArgumentException.class)
+	public static void isNull(@Nullable final Object reference) {
+		if (reference != null) {
+			Failures.throwIllegalNotNullArgument(reference);
 		}
+	}
 
-		return check;
+	/**
+	 * Ensures that a given argument is {@code null}.
+	 * 
+	 * Normally, the usage of {@code null} arguments is disregarded by the authors of quality-check. Still, there are
+	 * certain circumstances where null is required, e.g. the primary key of an entity before it is written to the
+	 * database for the first time. In such cases it is ok to use null values and there should also be checks for them.
+	 * For example, to avoid overwriting an existing primary key with a new one.
+	 * 
+	 * @param reference
+	 *            reference which must be null.
+	 * @param name
+	 *            name of object reference (in source code)
+	 * 
+	 * @throws IllegalNotNullArgumentException
+	 *             if the given argument {@code reference} is not null
+	 */
+	@Throws(IllegalNotNullArgumentException.class)
+	public static void isNull(@Nullable final Object reference, @Nullable final String name) {
+		if (reference != null) {
+			Failures.throwIllegalNotNullArgument(name, reference);
+		}
 	}
 
 	/**
-	 * Ensures that a passed object is equal to another object. The comparison is made using a call to
-	 * {@code expected.equals(check) }.
+	 * Ensures that a String argument is a number.
 	 * 
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            Object to be checked
-	 * @param message
-	 *            an error message describing why the objects must equal (will be passed to
-	 *            {@code IllegalNotEqualException})
-	 * @return the passed argument {@code check}
+	 * @param value
+	 *            value which must be a number
+	 * @return the given string argument converted to an int
 	 * 
-	 * @throws IllegalNotEqualException
-	 *             if both argument values are not equal
+	 * @throws IllegalNumberArgumentException
+	 *             if the given argument {@code value} is not a number
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberArgumentException.class })
+	public static int isNumber(@Nonnull final String value) {
+		return isInt(value, null);
+	}
+
+	/**
+	 * Ensures that a String argument is a number. This overload supports all subclasses of {@code Number}. The number
+	 * is first converted to a BigInteger
+	 * 
+	 * @param value
+	 *            value which must be a number
+	 * @param type
+	 *            requested return value type, must be a subclass of {@code Number}, i.e. one of {@code BigDecimal,
+	 *            BigInteger, Byte, Double, Float, Integer, Long, Short}
+	 * @return the given string argument converted to a number of the requested type
+	 * 
+	 * @throws IllegalNumberArgumentException
+	 *             if the given argument {@code value} is no number
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberArgumentException.class })
+	public static <T extends Number> T isNumber(@Nonnull final String value, @Nonnull final Class<T> type) {
+		return isNumber(value, null, type);
+	}
+
+	/**
+	 * Ensures that a string argument is a number according to {@code Integer.parseInt}
+	 * 
+	 * @param value
+	 *            value which must be a number
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return the given string argument converted to an int
+	 * 
+	 * @throws IllegalNumberArgumentException
+	 *             if the given argument {@code value} is no number
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberArgumentException.class })
+	public static int isNumber(@Nonnull final String value, @Nullable final String name) {
+		return isInt(value, name);
+	}
+
+	/**
+	 * Ensures that a String argument is a number. This overload supports all subclasses of {@code Number}. The number
+	 * is first converted to a {@code BigDecimal} or {@code BigInteger}. Floating point types are only supported if the
+	 * {@code type} is one of {@code Float, Double, BigDecimal}.
+	 * 
+	 * <p>
+	 * This method does also check against the ranges of the given datatypes.
+	 * 
+	 * @param value
+	 *            value which must be a number and in the range of the given datatype.
+	 * @param name
+	 *            (optional) name of object reference (in source code).
+	 * @param type
+	 *            requested return value type, must be a subclass of {@code Number}, i.e. one of {@code BigDecimal,
+	 *            BigInteger, Byte, Double, Float, Integer, Long, Short}
+	 * @return the given string argument converted to a number of the requested type
+	 * 
+	 * @throws IllegalNumberArgumentException
+	 *             if the given argument {@code value} is no number
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberArgumentException.class })
+	public static <T extends Number> T isNumber(@Nonnull final String value, @Nullable final String name, @Nonnull final Class<T> type) {
+		requireNotNull(value, "value");
+		requireNotNull(type, "type");
+
+		return type.cast(checkNumberInRange(value, type, name));
+	}
+
+	/**
+	 * Ensures that the remaining bytes of a buffer, i.e. the bytes between its position and limit, are numeric. Numeric
+	 * arguments consist only of the ASCII characters 0-9 and may start with 0 (think of a bank account number or a
+	 * fixed-width record field).
+	 * 
+	 * <p>
+	 * The bytes are checked in place without copying them into the heap and without changing the position of the
+	 * buffer, so this check works for direct buffers and {@link MappedByteBuffer}s as well. To check a file larger than
+	 * a single buffer can map, use {@link FileCheck#isNumeric(java.nio.channels.FileChannel)}.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#isNumeric(ByteBuffer, String)} and pass as second argument
+	 * the name of the parameter to enhance the exception message.
+	 * 
+	 * @param buffer
+	 *            buffer whose remaining bytes must be numeric
+	 * @return the given buffer
+	 * @throws IllegalNullArgumentException
+	 *             if the given buffer is {@code null}
+	 * @throws IllegalNumericArgumentException
+	 *             if the remaining bytes are empty or contain a byte which is no digit, the offset of this byte
+	 *             relative to the position of the buffer is reported by
+	 *             {@link IllegalNumericArgumentException#getOffset()}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumericArgumentException.class })
+	public static <T extends ByteBuffer> T isNumeric(@Nonnull final T buffer) {
+		return isNumeric(buffer, EMPTY_ARGUMENT_NAME);
+	}
+
+	/**
+	 * Ensures that the remaining bytes of a buffer, i.e. the bytes between its position and limit, are numeric. Numeric
+	 * arguments consist only of the ASCII characters 0-9 and may start with 0 (think of a bank account number or a
+	 * fixed-width record field).
+	 * 
+	 * <p>
+	 * The bytes are checked in place without copying them into the heap and without changing the position of the
+	 * buffer, so this check works for direct buffers and {@link MappedByteBuffer}s as well. To check a file larger than
+	 * a single buffer can map, use {@link FileCheck#isNumeric(java.nio.channels.FileChannel, String)}.
+	 * 
+	 * @param buffer
+	 *            buffer whose remaining bytes must be numeric
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return the given buffer
+	 * @throws IllegalNullArgumentException
+	 *             if the given buffer is {@code null}
+	 * @throws IllegalNumericArgumentException
+	 *             if the remaining bytes are empty or contain a byte which is no digit, the offset of this byte
+	 *             relative to the position of the buffer is reported by
+	 *             {@link IllegalNumericArgumentException#getOffset()}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumericArgumentException.class })
+	public static <T extends ByteBuffer> T isNumeric(@Nonnull final T buffer, @Nullable final String name) {
+		requireNotNull(buffer, "buffer");
+		final int offset = BufferScan.indexOfNonDigit(buffer);
+		if (offset >= 0) {
+			Failures.throwIllegalNumericArgument(name, null, offset);
+		}
+		return buffer;
+	}
+
+	/**
+	 * Ensures that a readable sequence of {@code char} values is numeric. Numeric arguments consist only of the
+	 * characters 0-9 and may start with 0 (compared to number arguments, which must be valid numbers - think of a bank
+	 * account number).
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#isNumeric(CharSequence, String)} and pass as second
+	 * argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param value
+	 *            a readable sequence of {@code char} values which must be a number
+	 * @return the given string argument
+	 * @throws IllegalNumberArgumentException
+	 *             if the given argument {@code value} is no number
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberArgumentException.class })
+	public static <T extends CharSequence> T isNumeric(@Nonnull final T value) {
+		return isNumeric(value, EMPTY_ARGUMENT_NAME);
+	}
+
+	/**
+	 * Ensures that a readable sequence of {@code char} values is numeric. Numeric arguments consist only of the
+	 * characters 0-9 and may start with 0 (compared to number arguments, which must be valid numbers - think of a bank
+	 * account number).
+	 * 
+	 * @param value
+	 *            a readable sequence of {@code char} values which must be a number
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return the given string argument
+	 * @throws IllegalNumberArgumentException
+	 *             if the given argument {@code value} is no number
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNotEqualException.class })
-	public static <T extends Object> T equals(@Nonnull final T expected, @Nonnull final T check, @Nonnull final String message) { // NOSONAR
-		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
-		Check.notNull(expected, "expected");
-		Check.notNull(check, "check");
-
-		if (!expected.equals(check)) {
-			throw new IllegalNotEqualException(message, check);
+	@Throws({ IllegalNullArgumentException.class, IllegalNumericArgumentException.class })
+	public static <T extends CharSequence> T isNumeric(@Nonnull final T value, @Nullable final String name) {
+		requireNotNull(value, "value");
+		final int offset = BufferScan.indexOfNonDigit(value);
+		if (offset >= 0) {
+			Failures.throwIllegalNumericArgument(name, value, offset);
 		}
-
-		return check;
+		return value;
 	}
 
 	/**
-	 * Ensures that a passed {@code Comparable} is greater or equal compared to another {@code Comparable}. The
-	 * comparison is made using {@code expected.compareTo(check) > 0}.
+	 * Ensures that a readable sequence of {@code char} values is a number in the range of {@code short}. The value is
+	 * parsed without boxing and without creating intermediate objects.
 	 * 
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            Comparable to be checked
-	 * @return the passed {@code Comparable} argument {@code check}
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#isShort(CharSequence, String)} and pass as second argument
+	 * the name of the parameter to enhance the exception message.
 	 * 
-	 * @throws IllegalNotGreaterOrEqualThanException
-	 *             if the argument value {@code check} is not greater or equal than the value {@code expected} when
-	 *             using method {@code compareTo}
+	 * @param value
+	 *            value which must be a number in the range of {@code short}
+	 * @return the given argument converted to a {@code short}
+	 * 
+	 * @throws IllegalNumberArgumentException
+	 *             if the given argument {@code value} is no number
+	 * @throws IllegalNumberRangeException
+	 *             if the given argument {@code value} is not in the range of {@code short}
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNotGreaterOrEqualThanException.class })
-	public static <T extends Comparable<T>> T greaterOrEqualThan(@Nonnull final T expected, @Nonnull final T check) {
-		Check.notNull(expected, "expected");
-		Check.notNull(check, "check");
-
-		if (expected.compareTo(check) > 0) {
-			throw new IllegalNotGreaterOrEqualThanException(check);
-		}
-
-		return check;
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberArgumentException.class })
+	public static short isShort(@Nonnull final CharSequence value) {
+		return isShort(value, EMPTY_ARGUMENT_NAME);
 	}
 
 	/**
-	 * Ensures that a passed {@code Comparable} is greater or equal compared to another {@code Comparable}. The
-	 * comparison is made using {@code expected.compareTo(check) > 0}.
+	 * Ensures that a readable sequence of {@code char} values is a number in the range of {@code short}. The value is
+	 * parsed without boxing and without creating intermediate objects.
 	 * 
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            Comparable to be checked
-	 * @param message
-	 *            an error message describing why the comparable must be greater than a value (will be passed to
-	 *            {@code IllegalNotGreaterOrEqualThanException})
-	 * @return the passed {@code Comparable} argument {@code check}
+	 * @param value
+	 *            value which must be a number in the range of {@code short}
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return the given argument converted to a {@code short}
 	 * 
-	 * @throws IllegalNotGreaterOrEqualThanException
-	 *             if the argument value {@code check} is not greater or equal than the value {@code expected} when
-	 *             using method {@code compareTo}
+	 * @throws IllegalNumberArgumentException
+	 *             if the given argument {@code value} is no number
+	 * @throws IllegalNumberRangeException
+	 *             if the given argument {@code value} is not in the range of {@code short}
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNotGreaterOrEqualThanException.class })
-	public static <T extends Comparable<T>> T greaterOrEqualThan(@Nonnull final T expected, @Nonnull final T check,
-			@Nonnull final String message) {
-		Check.notNull(expected, "expected");
-		Check.notNull(check, "check");
-
-		if (expected.compareTo(check) > 0) {
-			throw new IllegalNotGreaterOrEqualThanException(message, check);
-		}
-
-		return check;
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberArgumentException.class })
+	public static short isShort(@Nonnull final CharSequence value, @Nullable final String name) {
+		requireNotNull(value, "value");
+		return (short) parseInRange(value, Short.MIN_VALUE, Short.MAX_VALUE, Short.class, name);
 	}
 
 	/**
-	 * Ensures that a passed {@code byte} is greater to another {@code byte}.
+	 * Ensures that a passed {@code byte} is less than another {@code byte}.
 	 * 
 	 * @param expected
 	 *            Expected value
 	 * @param check
 	 *            Comparable to be checked
-	 * @return the passed {@code Comparable} argument {@code check}
+	 * @return the passed {@code byte} argument {@code check}
 	 * 
-	 * @throws IllegalNotGreaterThanException
-	 *             if the argument value {@code check} is not greater than value {@code expected}
+	 * @throws IllegalNotLesserThanException
+	 *             if the argument value {@code check} is not lesser than value {@code expected}
 	 */
 	@ArgumentsChecked
-	@Throws(IllegalNotGreaterThanException.class)
-	public static byte greaterThan(final byte expected, final byte check) {
-		if (expected >= check) {
-			throw new IllegalNotGreaterThanException(check);
+	@Throws(IllegalNotLesserThanException.class)
+	public static byte lesserThan(final byte expected, final byte check) {
+		if (expected <= check) {
+			Failures.throwIllegalNotLesserThan(check);
 		}
 
 		return check;
 	}
 
 	/**
-	 * Ensures that a passed {@code byte} is greater than another {@code byte}.
+	 * Ensures that a passed {@code byte} is less than another {@code byte}.
 	 * 
 	 * @param expected
 	 *            Expected value
 	 * @param check
 	 *            Comparable to be checked
 	 * @param message
-	 *            an error message describing why the comparable must be greater than a value (will be passed to
-	 *            {@code IllegalNotGreaterThanException})
+	 *            an error message describing why the comparables must be less than a value (will be passed to
+	 *            {@code IllegalNotLessThanException})
 	 * @return the passed {@code Comparable} argument {@code check}
 	 * 
-	 * @throws IllegalNotGreaterThanException
-	 *             if the argument value {@code check} is not greater than value {@code expected}
+	 * @throws IllegalNotLesserThanException
+	 *             if the argument value {@code check} is not lesser than value {@code expected}
 	 */
 	@ArgumentsChecked
-	@Throws(IllegalNotGreaterThanException.class)
-	public static byte greaterThan(final byte expected, final byte check, @Nonnull final String message) {
-		if (expected >= check) {
-			throw new IllegalNotGreaterThanException(message, check);
+	@Throws(IllegalNotLesserThanException.class)
+	public static byte lesserThan(final byte expected, final byte check, @Nonnull final String message) {
+		if (expected <= check) {
+			Failures.throwIllegalNotLesserThan(message, check);
 		}
 
 		return check;
 	}
 
 	/**
-	 * Ensures that a passed {@code char} is greater to another {@code char}.
+	 * Ensures that a passed {@code char} is less than another {@code char}.
 	 * 
 	 * @param expected
 	 *            Expected value
 	 * @param check
 	 *            Comparable to be checked
-	 * @return the passed {@code Comparable} argument {@code check}
+	 * @return the passed {@code char} argument {@code check}
 	 * 
-	 * @throws IllegalNotGreaterThanException
-	 *             if the argument value {@code check} is not greater than value {@code expected}
+	 * @throws IllegalNotLesserThanException
+	 *             if the argument value {@code check} is not lesser than value {@code expected}
 	 */
 	@ArgumentsChecked
-	@Throws(IllegalNotGreaterThanException.class)
-	public static char greaterThan(final char expected, final char check) {
-		if (expected >= check) {
-			throw new IllegalNotGreaterThanException(check);
+	@Throws(IllegalNotLesserThanException.class)
+	public static char lesserThan(final char expected, final char check) {
+		if (expected <= check) {
+			Failures.throwIllegalNotLesserThan(check);
 		}
 
 		return check;
 	}
 
 	/**
-	 * Ensures that a passed {@code char} is greater than another {@code char}.
+	 * Ensures that a passed {@code char} is less than another {@code char}.
 	 * 
 	 * @param expected
 	 *            Expected value
 	 * @param check
 	 *            Comparable to be checked
 	 * @param message
-	 *            an error message describing why the comparable must be greater than a value (will be passed to
-	 *            {@code IllegalNotGreaterThanException})
+	 *            an error message describing why the comparables must be less than a value (will be passed to
+	 *            {@code IllegalNotLessThanException})
 	 * @return the passed {@code Comparable} argument {@code check}
 	 * 
-	 * @throws IllegalNotGreaterThanException
-	 *             if the argument value {@code check} is not greater than value {@code expected}
+	 * @throws IllegalNotLesserThanException
+	 *             if the argument value {@code check} is not lesser than value {@code expected}
 	 */
 	@ArgumentsChecked
-	@Throws(IllegalNotGreaterThanException.class)
-	public static char greaterThan(final char expected, final char check, @Nonnull final String message) {
-		if (expected >= check) {
-			throw new IllegalNotGreaterThanException(message, check);
+	@Throws(IllegalNotLesserThanException.class)
+	public static char lesserThan(final char expected, final char check, @Nonnull final String message) {
+		if (expected <= check) {
+			Failures.throwIllegalNotLesserThan(message, check);
 		}
 
 		return check;
 	}
 
 	/**
-	 * Ensures that a passed {@code double} is greater to another {@code double}.
+	 * Ensures that a passed {@code double} is less than another {@code double}.
 	 * 
 	 * @param expected
 	 *            Expected value
 	 * @param check
 	 *            Comparable to be checked
-	 * @return the passed {@code Comparable} argument {@code check}
+	 * @return the passed {@code double} argument {@code check}
 	 * 
-	 * @throws IllegalNotGreaterThanException
-	 *             if the argument value {@code check} is not greater than value {@code expected}
+	 * @throws IllegalNotLesserThanException
+	 *             if the argument value {@code check} is not lesser than value {@code expected}
 	 */
 	@ArgumentsChecked
-	@Throws(IllegalNotGreaterThanException.class)
-	public static double greaterThan(final double expected, final double check) {
-		if (expected >= check) {
-			throw new IllegalNotGreaterThanException(check);
+	@Throws(IllegalNotLesserThanException.class)
+	public static double lesserThan(final double expected, final double check) {
+		if (expected <= check) {
+			Failures.throwIllegalNotLesserThan(check);
 		}
 
 		return check;
 	}
 
 	/**
-	 * Ensures that a passed {@code double} is greater than another {@code double}.
+	 * Ensures that a passed {@code double} is less than another {@code double}.
 	 * 
 	 * @param expected
 	 *            Expected value
 	 * @param check
 	 *            Comparable to be checked
 	 * @param message
-	 *            an error message describing why the comparable must be greater than a value (will be passed to
-	 *            {@code IllegalNotGreaterThanException})
+	 *            an error message describing why the comparables must be less than a value (will be passed to
+	 *            {@code IllegalNotLessThanException})
 	 * @return the passed {@code Comparable} argument {@code check}
 	 * 
-	 * @throws IllegalNotGreaterThanException
-	 *             if the argument value {@code check} is not greater than value {@code expected}
+	 * @throws IllegalNotLesserThanException
+	 *             if the argument value {@code check} is not lesser than value {@code expected}
 	 */
 	@ArgumentsChecked
-	@Throws(IllegalNotGreaterThanException.class)
-	public static double greaterThan(final double expected, final double check, @Nonnull final String message) {
-		if (expected >= check) {
-			throw new IllegalNotGreaterThanException(message, check);
+	@Throws(IllegalNotLesserThanException.class)
+	public static double lesserThan(final double expected, final double check, @Nonnull final String message) {
+		if (expected <= check) {
+			Failures.throwIllegalNotLesserThan(message, check);
 		}
 
 		return check;
 	}
 
 	/**
-	 * Ensures that a passed {@code float} is greater to another {@code float}.
+	 * Ensures that a passed {@code float} is less than another {@code float}.
 	 * 
 	 * @param expected
 	 *            Expected value
 	 * @param check
 	 *            Comparable to be checked
-	 * @return the passed {@code Comparable} argument {@code check}
+	 * @return the passed {@code float} argument {@code check}
 	 * 
-	 * @throws IllegalNotGreaterThanException
-	 *             if the argument value {@code check} is not greater than value {@code expected}
+	 * @throws IllegalNotLesserThanException
+	 *             if the argument value {@code check} is not lesser than value {@code expected}
 	 */
 	@ArgumentsChecked
-	@Throws(IllegalNotGreaterThanException.class)
-	public static float greaterThan(final float expected, final float check) {
-		if (expected >= check) {
-			throw new IllegalNotGreaterThanException(check);
+	@Throws(IllegalNotLesserThanException.class)
+	public static float lesserThan(final float expected, final float check) {
+		if (expected <= check) {
+			Failures.throwIllegalNotLesserThan(check);
 		}
 
 		return check;
 	}
 
 	/**
-	 * Ensures that a passed {@code float} is greater than another {@code float}.
+	 * Ensures that a passed {@code float} is less than another {@code float}.
 	 * 
 	 * @param expected
 	 *            Expected value
 	 * @param check
 	 *            Comparable to be checked
 	 * @param message
-	 *            an error message describing why the comparable must be greater than a value (will be passed to
-	 *            {@code IllegalNotGreaterThanException})
+	 *            an error message describing why the comparables must be less than a value (will be passed to
+	 *            {@code IllegalNotLessThanException})
 	 * @return the passed {@code Comparable} argument {@code check}
 	 * 
-	 * @throws IllegalNotGreaterThanException
-	 *             if the argument value {@code check} is not greater than value {@code expected}
+	 * @throws IllegalNotLesserThanException
+	 *             if the argument value {@code check} is not lesser than value {@code expected}
 	 */
 	@ArgumentsChecked
-	@Throws(IllegalNotGreaterThanException.class)
-	public static float greaterThan(final float expected, final float check, @Nonnull final String message) {
-		if (expected >= check) {
-			throw new IllegalNotGreaterThanException(message, check);
+	@Throws(IllegalNotLesserThanException.class)
+	public static float lesserThan(final float expected, final float check, @Nonnull final String message) {
+		if (expected <= check) {
+			Failures.throwIllegalNotLesserThan(message, check);
 		}
 
 		return check;
 	}
 
 	/**
-	 * Ensures that a passed {@code int} is greater to another {@code int}.
+	 * Ensures that a passed {@code int} is less than another {@code int}.
 	 * 
 	 * @param expected
 	 *            Expected value
 	 * @param check
 	 *            Comparable to be checked
-	 * @return the passed {@code Comparable} argument {@code check}
+	 * @return the passed {@code int} argument {@code check}
 	 * 
-	 * @throws IllegalNotGreaterThanException
-	 *             if the argument value {@code check} is not greater than value {@code expected}
+	 * @throws IllegalNotLesserThanException
+	 *             if the argument value {@code check} is not lesser than value {@code expected}
 	 */
 	@ArgumentsChecked
-	@Throws(IllegalNotGreaterThanException.class)
-	public static int greaterThan(final int expected, final int check) {
-		if (expected >= check) {
-			throw new IllegalNotGreaterThanException(check);
+	@Throws(IllegalNotLesserThanException.class)
+	public static int lesserThan(final int expected, final int check) {
+		if (expected <= check) {
+			Failures.throwIllegalNotLesserThan(check);
 		}
 
 		return check;
 	}
 
 	/**
-	 * Ensures that a passed {@code int} is greater than another {@code int}.
+	 * Ensures that a passed {@code int} is less than another {@code int}.
 	 * 
 	 * @param expected
 	 *            Expected value
 	 * @param check
 	 *            Comparable to be checked
 	 * @param message
-	 *            an error message describing why the comparable must be greater than a value (will be passed to
-	 *            {@code IllegalNotGreaterThanException})
+	 *            an error message describing why the comparables must be less than a value (will be passed to
+	 *            {@code IllegalNotLessThanException})
 	 * @return the passed {@code Comparable} argument {@code check}
 	 * 
-	 * @throws IllegalNotGreaterThanException
-	 *             if the argument value {@code check} is not greater than value {@code expected}
+	 * @throws IllegalNotLesserThanException
+	 *             if the argument value {@code check} is not lesser than value {@code expected}
 	 */
 	@ArgumentsChecked
-	@Throws(IllegalNotGreaterThanException.class)
-	public static int greaterThan(final int expected, final int check, @Nonnull final String message) {
-		if (expected >= check) {
-			throw new IllegalNotGreaterThanException(message, check);
+	@Throws(IllegalNotLesserThanException.class)
+	public static int lesserThan(final int expected, final int check, @Nonnull final String message) {
+		if (expected <= check) {
+			Failures.throwIllegalNotLesserThan(message, check);
 		}
 
 		return check;
 	}
 
 	/**
-	 * Ensures that a passed {@code long} is greater to another {@code long}.
+	 * Ensures that a passed {@code long} is less than another {@code long}.
 	 * 
 	 * @param expected
 	 *            Expected value
 	 * @param check
 	 *            Comparable to be checked
-	 * @return the passed {@code Comparable} argument {@code check}
+	 * @return the passed {@code long} argument {@code check}
 	 * 
-	 * @throws IllegalNotGreaterThanException
-	 *             if the argument value {@code check} is not greater than value {@code expected}
+	 * @throws IllegalNotLesserThanException
+	 *             if the argument value {@code check} is not lesser than value {@code expected}
 	 */
 	@ArgumentsChecked
-	@Throws(IllegalNotGreaterThanException.class)
-	public static long greaterThan(final long expected, final long check) {
-		if (expected >= check) {
-			throw new IllegalNotGreaterThanException(check);
+	@Throws(IllegalNotLesserThanException.class)
+	public static long lesserThan(final long expected, final long check) {
+		if (expected <= check) {
+			Failures.throwIllegalNotLesserThan(check);
 		}
 
 		return check;
 	}
 
 	/**
-	 * Ensures that a passed {@code long} is greater than another {@code long}.
+	 * Ensures that a passed {@code long} is less than another {@code long}.
 	 * 
 	 * @param expected
 	 *            Expected value
 	 * @param check
 	 *            Comparable to be checked
 	 * @param message
-	 *            an error message describing why the comparable must be greater than a value (will be passed to
-	 *            {@code IllegalNotGreaterThanException})
+	 *            an error message describing why the comparables must be less than a value (will be passed to
+	 *            {@code IllegalNotLessThanException})
 	 * @return the passed {@code Comparable} argument {@code check}
 	 * 
-	 * @throws IllegalNotGreaterThanException
-	 *             if the argument value {@code check} is not greater than value {@code expected}
+	 * @throws IllegalNotLesserThanException
+	 *             if the argument value {@code check} is not lesser than value {@code expected}
 	 */
 	@ArgumentsChecked
-	@Throws(IllegalNotGreaterThanException.class)
-	public static long greaterThan(final long expected, final long check, @Nonnull final String message) {
-		if (expected >= check) {
-			throw new IllegalNotGreaterThanException(message, check);
+	@Throws(IllegalNotLesserThanException.class)
+	public static long lesserThan(final long expected, final long check, @Nonnull final String message) {
+		if (expected <= check) {
+			Failures.throwIllegalNotLesserThan(message, check);
 		}
 
 		return check;
 	}
 
 	/**
-	 * Ensures that a passed {@code short} is greater to another {@code short}.
+	 * Ensures that a passed {@code short} is less than another {@code short}.
 	 * 
 	 * @param expected
 	 *            Expected value
 	 * @param check
 	 *            Comparable to be checked
-	 * @return the passed {@code Comparable} argument {@code check}
+	 * @return the passed {@code short} argument {@code check}
 	 * 
-	 * @throws IllegalNotGreaterThanException
-	 *             if the argument value {@code check} is not greater than value {@code expected}
+	 * @throws IllegalNotLesserThanException
+	 *             if the argument value {@code check} is not lesser than value {@code expected}
 	 */
 	@ArgumentsChecked
-	@Throws(IllegalNotGreaterThanException.class)
-	public static short greaterThan(final short expected, final short check) {
-		if (expected >= check) {
-			throw new IllegalNotGreaterThanException(check);
+	@Throws(IllegalNotLesserThanException.class)
+	public static short lesserThan(final short expected, final short check) {
+		if (expected <= check) {
+			Failures.throwIllegalNotLesserThan(check);
 		}
 
 		return check;
 	}
 
 	/**
-	 * Ensures that a passed {@code short} is greater than another {@code short}.
+	 * Ensures that a passed {@code short} is less than another {@code short}.
 	 * 
 	 * @param expected
 	 *            Expected value
 	 * @param check
 	 *            Comparable to be checked
 	 * @param message
-	 *            an error message describing why the comparable must be greater than a value (will be passed to
-	 *            {@code IllegalNotGreaterThanException})
+	 *            an error message describing why the comparables must be less than a value (will be passed to
+	 *            {@code IllegalNotLessThanException})
 	 * @return the passed {@code Comparable} argument {@code check}
 	 * 
-	 * @throws IllegalNotGreaterThanException
-	 *             if the argument value {@code check} is not greater than value {@code expected}
+	 * @throws IllegalNotLesserThanException
+	 *             if the argument value {@code check} is not lesser than value {@code expected}
 	 */
 	@ArgumentsChecked
-	@Throws(IllegalNotGreaterThanException.class)
-	public static short greaterThan(final short expected, final short check, @Nonnull final String message) {
-		if (expected >= check) {
-			throw new IllegalNotGreaterThanException(message, check);
+	@Throws(IllegalNotLesserThanException.class)
+	public static short lesserThan(final short expected, final short check, @Nonnull final String message) {
+		if (expected <= check) {
+			Failures.throwIllegalNotLesserThan(message, check);
 		}
 
 		return check;
 	}
 
 	/**
-	 * Ensures that a passed {@code Comparable} is greater to another {@code Comparable}. The comparison is made using
-	 * {@code expected.compareTo(check) >= 0}.
+	 * Ensures that a passed {@code Comparable} is less than another {@code Comparable}. The comparison is made using
+	 * {@code expected.compareTo(check) <= 0}.
 	 * 
 	 * @param expected
 	 *            Expected value
@@ -1055,840 +3662,894 @@ public final class Check {
 	 *            Comparable to be checked
 	 * @return the passed {@code Comparable} argument {@code check}
 	 * 
-	 * @throws IllegalNotGreaterThanException
-	 *             if the argument value {@code check} is not greater than value {@code expected} when using method
+	 * @throws IllegalNotLesserThanException
+	 *             if the argument value {@code check} is not lesser than value {@code expected} when using method
 	 *             {@code compareTo}
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNotGreaterThanException.class })
-	public static <T extends Comparable<T>> T greaterThan(@Nonnull final T expected, @Nonnull final T check) {
-		Check.notNull(expected, "expected");
-		Check.notNull(check, "check");
+	@Throws({ IllegalNullArgumentException.class, IllegalNotLesserThanException.class })
+	public static <T extends Comparable<T>> T lesserThan(@Nonnull final T expected, @Nonnull final T check) {
+		requireNotNull(expected, "expected");
+		requireNotNull(check, "check");
 
-		if (expected.compareTo(check) >= 0) {
-			throw new IllegalNotGreaterThanException(check);
+		if (expected.compareTo(check) <= 0) {
+			Failures.throwIllegalNotLesserThan(check);
 		}
 
 		return check;
 	}
 
 	/**
-	 * Ensures that a passed {@code Comparable} is greater than another {@code Comparable}. The comparison is made using
-	 * {@code expected.compareTo(check) >= 0}.
+	 * Ensures that a passed {@code Comparable} is less than another {@code Comparable}. The comparison is made using
+	 * {@code expected.compareTo(check) <= 0}.
 	 * 
 	 * @param expected
 	 *            Expected value
 	 * @param check
 	 *            Comparable to be checked
 	 * @param message
-	 *            an error message describing why the comparable must be greater than a value (will be passed to
-	 *            {@code IllegalNotGreaterThanException})
+	 *            an error message describing why the comparables must be less than a value (will be passed to
+	 *            {@code IllegalNotLessThanException})
 	 * @return the passed {@code Comparable} argument {@code check}
 	 * 
-	 * @throws IllegalNotGreaterThanException
-	 *             if the argument value {@code check} is not greater than value {@code expected} when using method
+	 * @throws IllegalNotLesserThanException
+	 *             if the argument value {@code check} is not lesser than value {@code expected} when using method
 	 *             {@code compareTo}
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNotGreaterThanException.class })
-	public static <T extends Comparable<T>> T greaterThan(@Nonnull final T expected, @Nonnull final T check, @Nonnull final String message) {
-		Check.notNull(expected, "expected");
-		Check.notNull(check, "check");
+	@Throws({ IllegalNullArgumentException.class, IllegalNotLesserThanException.class })
+	public static <T extends Comparable<T>> T lesserThan(@Nonnull final T expected, @Nonnull final T check, @Nonnull final String message) {
+		requireNotNull(expected, "expected");
+		requireNotNull(check, "check");
 
-		if (expected.compareTo(check) >= 0) {
-			throw new IllegalNotGreaterThanException(message, check);
+		if (expected.compareTo(check) <= 0) {
+			Failures.throwIllegalNotLesserThan(message, check);
 		}
 
 		return check;
 	}
 
 	/**
-	 * Ensures that a passed class has an annotation of a specific type
-	 * 
-	 * @param clazz
-	 *            the class that must have a required annotation
-	 * @param annotation
-	 *            the type of annotation that is required on the class
-	 * @return the given annotation which is present on the checked class
+	 * Checks whether a character sequence matches against a specified pattern or not.
 	 * 
-	 * @throws IllegalMissingAnnotationException
-	 *             if the passed annotation is not annotated at the given class
+	 * @param pattern
+	 *            pattern, that the {@code chars} must correspond to
+	 * @param chars
+	 *            a readable sequence of {@code char} values which should match the given pattern
+	 * @return {@code true} when {@code chars} matches against the passed {@code pattern}, otherwise {@code false}
 	 */
-	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalMissingAnnotationException.class })
-	public static Annotation hasAnnotation(@Nonnull final Class<?> clazz, @Nonnull final Class<? extends Annotation> annotation) {
-		Check.notNull(clazz, "clazz");
-		Check.notNull(annotation, "annotation");
-		if (!clazz.isAnnotationPresent(annotation)) {
-			throw new IllegalMissingAnnotationException(annotation, clazz);
-		}
-
-		return clazz.getAnnotation(annotation);
+	private static boolean matches(@Nonnull final Pattern pattern, @Nonnull final CharSequence chars) {
+		return pattern.matcher(chars).matches();
 	}
 
 	/**
-	 * Ensures that a passed argument is a member of a specific type.
+	 * Ensures that a string matches a specified compiled pattern and wraps it into a {@link MatchedString}, so that
+	 * methods further down the call chain can accept the wrapper instead of matching the string again. If the given
+	 * string does not match against the passed pattern, an {@link IllegalPatternArgumentException} will be thrown.
 	 * 
-	 * @param type
-	 *            class that the given object is a member of
-	 * @param obj
-	 *            the object reference that should be a member of a specific {@code type}
-	 * @return the given object cast to type
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#matchedString(CompiledPattern, String, String)} and pass as
+	 * third argument the name of the parameter to enhance the exception message.
 	 * 
-	 * @throws IllegalInstanceOfArgumentException
-	 *             if the given argument {@code obj} is not a member of {@code type}
+	 * @param pattern
+	 *            compiled pattern, that the {@code chars} must correspond to
+	 * @param chars
+	 *            a string which should match the given pattern
+	 * @return a wrapper of the passed {@code chars} that matches the given pattern
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code pattern} or {@code chars} is {@code null}
+	 * @throws IllegalPatternArgumentException
+	 *             if the given {@code chars} that does not match the {@code pattern}
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalInstanceOfArgumentException.class })
-	@SuppressWarnings("unchecked")
-	public static <T> T instanceOf(@Nonnull final Class<?> type, @Nonnull final Object obj) {
-		return (T) instanceOf(type, obj, EMPTY_ARGUMENT_NAME);
+	@Throws({ IllegalNullArgumentException.class, IllegalPatternArgumentException.class })
+	public static MatchedString matchedString(@Nonnull final CompiledPattern pattern, @Nonnull final String chars) {
+		return matchedString(pattern, chars, EMPTY_ARGUMENT_NAME);
 	}
 
 	/**
-	 * Ensures that a passed argument is a member of a specific type.
+	 * Ensures that a string matches a specified compiled pattern and wraps it into a {@link MatchedString}, so that
+	 * methods further down the call chain can accept the wrapper instead of matching the string again. If the given
+	 * string does not match against the passed pattern, an {@link IllegalPatternArgumentException} will be thrown.
 	 * 
-	 * @param type
-	 *            class that the given object is a member of
-	 * @param obj
-	 *            the object reference that should be a member of a specific {@code type}
+	 * <p>
+	 * The string is matched even if the checks {@code matchesPattern} are elided (see {@link CheckElision}), because
+	 * methods which accept a {@link MatchedString} rely on it.
+	 * 
+	 * @param pattern
+	 *            compiled pattern, that the {@code chars} must correspond to
+	 * @param chars
+	 *            a string which should match the given pattern
 	 * @param name
 	 *            name of object reference (in source code)
-	 * @return the given object cast to type
+	 * @return a wrapper of the passed {@code chars} that matches the given pattern
 	 * 
-	 * @throws IllegalInstanceOfArgumentException
-	 *             if the given argument {@code obj} is not a member of {@code type}
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code pattern} or {@code chars} is {@code null}
+	 * @throws IllegalPatternArgumentException
+	 *             if the given {@code chars} that does not match the {@code pattern}
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalInstanceOfArgumentException.class })
-	@SuppressWarnings("unchecked")
-	public static <T> T instanceOf(@Nonnull final Class<?> type, @Nonnull final Object obj, @Nullable final String name) {
-		Check.notNull(type, "type");
-		Check.notNull(obj, "obj");
-		if (!type.isInstance(obj)) {
-			throw new IllegalInstanceOfArgumentException(name, type, obj.getClass());
+	@Throws({ IllegalNullArgumentException.class, IllegalPatternArgumentException.class })
+	public static MatchedString matchedString(@Nonnull final CompiledPattern pattern, @Nonnull final String chars,
+			@Nullable final String name) {
+		if (pattern == null) {
+			Failures.throwIllegalNullArgument("pattern");
 		}
-		return (T) obj;
-	}
-
-	/**
-	 * Ensures that a given argument is {@code null}.
-	 * 
-	 * Normally, the usage of {@code null} arguments is disregarded by the authors of quality-check. Still, there are
-	 * certain circumstances where null is required, e.g. the primary key of an entity before it is written to the
-	 * database for the first time. In such cases it is ok to use null values and there should also be checks for them.
-	 * For example, to avoid overwriting an existing primary key with a new one.
-	 * 
-	 * @param reference
-	 *            reference which must be null
-	 * 
-	 * @throws IllegalNotNullArgumentException
-	 *             if the given argument {@code reference} is not null
-	 */
-	@Throws(IllegalNotNullArgumentException.class)
-	public static void isNull(@Nullable final Object reference) {
-		if (reference != null) {
-			throw new IllegalNotNullArgumentException(reference);
+		if (chars == null) {
+			Failures.throwIllegalNullArgument("chars");
 		}
-	}
-
-	/**
-	 * Ensures that a given argument is {@code null}.
-	 * 
-	 * Normally, the usage of {@code null} arguments is disregarded by the authors of quality-check. Still, there are
-	 * certain circumstances where null is required, e.g. the primary key of an entity before it is written to the
-	 * database for the first time. In such cases it is ok to use null values and there should also be checks for them.
-	 * For example, to avoid overwriting an existing primary key with a new one.
-	 * 
-	 * @param reference
-	 *            reference which must be null.
-	 * @param name
-	 *            name of object reference (in source code)
-	 * 
-	 * @throws IllegalNotNullArgumentException
-	 *             if the given argument {@code reference} is not null
-	 */
-	@Throws(IllegalNotNullArgumentException.class)
-	public static void isNull(@Nullable final Object reference, @Nullable final String name) {
-		if (reference != null) {
-			throw new IllegalNotNullArgumentException(name, reference);
+		if (!pattern.matches(chars)) {
+			Failures.throwIllegalPatternArgument(name, pattern.pattern(), chars);
 		}
+		return new MatchedString(pattern, chars);
 	}
 
 	/**
-	 * Ensures that a String argument is a number.
-	 * 
-	 * @param value
-	 *            value which must be a number
-	 * @return the given string argument converted to an int
-	 * 
-	 * @throws IllegalNumberArgumentException
-	 *             if the given argument {@code value} is not a number
-	 */
-	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNumberArgumentException.class })
-	public static int isNumber(@Nonnull final String value) {
-		Check.notNull(value, "value");
-		return Check.isNumber(value, Integer.class).intValue();
-	}
-
-	/**
-	 * Ensures that a String argument is a number. This overload supports all subclasses of {@code Number}. The number
-	 * is first converted to a BigInteger
-	 * 
-	 * @param value
-	 *            value which must be a number
-	 * @param type
-	 *            requested return value type, must be a subclass of {@code Number}, i.e. one of {@code BigDecimal,
-	 *            BigInteger, Byte, Double, Float, Integer, Long, Short}
-	 * @return the given string argument converted to a number of the requested type
-	 * 
-	 * @throws IllegalNumberArgumentException
-	 *             if the given argument {@code value} is no number
-	 */
-	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNumberArgumentException.class })
-	public static <T extends Number> T isNumber(@Nonnull final String value, @Nonnull final Class<T> type) {
-		return isNumber(value, null, type);
-	}
-
-	/**
-	 * Ensures that a string argument is a number according to {@code Integer.parseInt}
-	 * 
-	 * @param value
-	 *            value which must be a number
-	 * @param name
-	 *            name of object reference (in source code)
-	 * @return the given string argument converted to an int
-	 * 
-	 * @throws IllegalNumberArgumentException
-	 *             if the given argument {@code value} is no number
-	 */
-	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNumberArgumentException.class })
-	public static int isNumber(@Nonnull final String value, @Nullable final String name) {
-		Check.notNull(value, "value");
-		return Check.isNumber(value, name, Integer.class).intValue();
-	}
-
-	/**
-	 * Ensures that a String argument is a number. This overload supports all subclasses of {@code Number}. The number
-	 * is first converted to a {@code BigDecimal} or {@code BigInteger}. Floating point types are only supported if the
-	 * {@code type} is one of {@code Float, Double, BigDecimal}.
+	 * Ensures that the remaining bytes of a buffer, i.e. the bytes between its position and limit, match a specified
+	 * compiled pattern. Each byte is read as ISO-8859-1 character. If the bytes do not match against the passed pattern,
+	 * an {@link IllegalPatternArgumentException} will be thrown.
 	 * 
 	 * <p>
-	 * This method does also check against the ranges of the given datatypes.
-	 * 
-	 * @param value
-	 *            value which must be a number and in the range of the given datatype.
-	 * @param name
-	 *            (optional) name of object reference (in source code).
-	 * @param type
-	 *            requested return value type, must be a subclass of {@code Number}, i.e. one of {@code BigDecimal,
-	 *            BigInteger, Byte, Double, Float, Integer, Long, Short}
-	 * @return the given string argument converted to a number of the requested type
-	 * 
-	 * @throws IllegalNumberArgumentException
-	 *             if the given argument {@code value} is no number
-	 */
-	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNumberArgumentException.class })
-	public static <T extends Number> T isNumber(@Nonnull final String value, @Nullable final String name, @Nonnull final Class<T> type) {
-		Check.notNull(value, "value");
-		Check.notNull(type, "type");
-
-		final Number ret;
-		try {
-			ret = checkNumberInRange(value, type);
-		} catch (final NumberFormatException nfe) {
-			if (name == null) {
-				throw new IllegalNumberArgumentException(value, nfe);
-			} else {
-				throw new IllegalNumberArgumentException(name, value, nfe);
-			}
-		}
-
-		return type.cast(ret);
-	}
-
-	/**
-	 * Ensures that a readable sequence of {@code char} values is numeric. Numeric arguments consist only of the
-	 * characters 0-9 and may start with 0 (compared to number arguments, which must be valid numbers - think of a bank
-	 * account number).
+	 * If the pattern is {@link CompiledPattern#isDeterministic() deterministic}, the bytes are matched by a
+	 * table-driven automaton without allocating. The position of the buffer remains unchanged.
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link Check#isNumeric(CharSequence, String)} and pass as second
-	 * argument the name of the parameter to enhance the exception message.
+	 * We recommend to use the overloaded method {@link Check#matchesPattern(CompiledPattern, ByteBuffer, String)} and
+	 * pass as second argument the name of the parameter to enhance the exception message.
 	 * 
-	 * @param value
-	 *            a readable sequence of {@code char} values which must be a number
-	 * @return the given string argument
-	 * @throws IllegalNumberArgumentException
-	 *             if the given argument {@code value} is no number
+	 * @param pattern
+	 *            compiled pattern, that the remaining bytes must correspond to
+	 * @param buffer
+	 *            buffer whose remaining bytes should match the given pattern
+	 * @return the passed buffer
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code pattern} or {@code buffer} is {@code null}
+	 * @throws IllegalPatternArgumentException
+	 *             if the remaining bytes do not match the {@code pattern}
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNumberArgumentException.class })
-	public static <T extends CharSequence> T isNumeric(@Nonnull final T value) {
-		return isNumeric(value, EMPTY_ARGUMENT_NAME);
+	@Throws({ IllegalNullArgumentException.class, IllegalPatternArgumentException.class })
+	public static <T extends ByteBuffer> T matchesPattern(@Nonnull final CompiledPattern pattern, @Nonnull final T buffer) {
+		return matchesPattern(pattern, buffer, EMPTY_ARGUMENT_NAME);
 	}
 
 	/**
-	 * Ensures that a readable sequence of {@code char} values is numeric. Numeric arguments consist only of the
-	 * characters 0-9 and may start with 0 (compared to number arguments, which must be valid numbers - think of a bank
-	 * account number).
+	 * Ensures that the remaining bytes of a buffer, i.e. the bytes between its position and limit, match a specified
+	 * compiled pattern. Each byte is read as ISO-8859-1 character. If the bytes do not match against the passed pattern,
+	 * an {@link IllegalPatternArgumentException} will be thrown.
 	 * 
-	 * @param value
-	 *            a readable sequence of {@code char} values which must be a number
+	 * <p>
+	 * If the pattern is {@link CompiledPattern#isDeterministic() deterministic}, the bytes are matched by a
+	 * table-driven automaton without allocating. The position of the buffer remains unchanged.
+	 * 
+	 * @param pattern
+	 *            compiled pattern, that the remaining bytes must correspond to
+	 * @param buffer
+	 *            buffer whose remaining bytes should match the given pattern
 	 * @param name
 	 *            name of object reference (in source code)
-	 * @return the given string argument
-	 * @throws IllegalNumberArgumentException
-	 *             if the given argument {@code value} is no number
+	 * @return the passed buffer
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code pattern} or {@code buffer} is {@code null}
+	 * @throws IllegalPatternArgumentException
+	 *             if the remaining bytes do not match the {@code pattern}
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNumericArgumentException.class })
-	public static <T extends CharSequence> T isNumeric(@Nonnull final T value, @Nullable final String name) {
-		Check.notNull(value, "value");
-		if (!matches(NumericRegularExpressionHolder.getPattern(), value)) {
-			throw new IllegalNumericArgumentException(name, value);
+	@Throws({ IllegalNullArgumentException.class, IllegalPatternArgumentException.class })
+	public static <T extends ByteBuffer> T matchesPattern(@Nonnull final CompiledPattern pattern, @Nonnull final T buffer,
+			@Nullable final String name) {
+		if (ELIDE_PATTERN) {
+			return buffer;
 		}
-		return value;
+		requireNotNull(pattern, "pattern");
+		requireNotNull(buffer, "buffer");
+		if (!pattern.matches(buffer)) {
+			Failures.throwIllegalPatternArgument(name, pattern.pattern(), buffer);
+		}
+		return buffer;
 	}
 
 	/**
-	 * Ensures that a passed {@code byte} is less than another {@code byte}.
+	 * Ensures that a readable sequence of {@code char} values matches a specified compiled pattern. If the given
+	 * character sequence does not match against the passed pattern, an {@link IllegalPatternArgumentException} will be
+	 * thrown.
 	 * 
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            Comparable to be checked
-	 * @return the passed {@code byte} argument {@code check}
+	 * <p>
+	 * If the pattern is {@link CompiledPattern#isDeterministic() deterministic}, the characters are matched by a
+	 * table-driven automaton without allocating.
 	 * 
-	 * @throws IllegalNotLesserThanException
-	 *             if the argument value {@code check} is not lesser than value {@code expected}
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#matchesPattern(CompiledPattern, CharSequence, String)} and
+	 * pass as second argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param pattern
+	 *            compiled pattern, that the {@code chars} must correspond to
+	 * @param chars
+	 *            a readable sequence of {@code char} values which should match the given pattern
+	 * @return the passed {@code chars} that matches the given pattern
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code pattern} or {@code chars} is {@code null}
+	 * @throws IllegalPatternArgumentException
+	 *             if the given {@code chars} that does not match the {@code pattern}
 	 */
 	@ArgumentsChecked
-	@Throws(IllegalNotLesserThanException.class)
-	public static byte lesserThan(final byte expected, final byte check) {
-		if (expected <= check) {
-			throw new IllegalNotLesserThanException(check);
-		}
-
-		return check;
+	@Throws({ IllegalNullArgumentException.class, IllegalPatternArgumentException.class })
+	public static <T extends CharSequence> T matchesPattern(@Nonnull final CompiledPattern pattern, @Nonnull final T chars) {
+		return matchesPattern(pattern, chars, EMPTY_ARGUMENT_NAME);
 	}
 
 	/**
-	 * Ensures that a passed {@code byte} is less than another {@code byte}.
+	 * Ensures that a readable sequence of {@code char} values matches a specified compiled pattern. If the given
+	 * character sequence does not match against the passed pattern, an {@link IllegalPatternArgumentException} will be
+	 * thrown.
 	 * 
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            Comparable to be checked
-	 * @param message
-	 *            an error message describing why the comparables must be less than a value (will be passed to
-	 *            {@code IllegalNotLessThanException})
-	 * @return the passed {@code Comparable} argument {@code check}
+	 * <p>
+	 * If the pattern is {@link CompiledPattern#isDeterministic() deterministic}, the characters are matched by a
+	 * table-driven automaton without allocating.
 	 * 
-	 * @throws IllegalNotLesserThanException
-	 *             if the argument value {@code check} is not lesser than value {@code expected}
+	 * @param pattern
+	 *            compiled pattern, that the {@code chars} must correspond to
+	 * @param chars
+	 *            a readable sequence of {@code char} values which should match the given pattern
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return the passed {@code chars} that matches the given pattern
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code pattern} or {@code chars} is {@code null}
+	 * @throws IllegalPatternArgumentException
+	 *             if the given {@code chars} that does not match the {@code pattern}
 	 */
 	@ArgumentsChecked
-	@Throws(IllegalNotLesserThanException.class)
-	public static byte lesserThan(final byte expected, final byte check, @Nonnull final String message) {
-		if (expected <= check) {
-			throw new IllegalNotLesserThanException(message, check);
+	@Throws({ IllegalNullArgumentException.class, IllegalPatternArgumentException.class })
+	public static <T extends CharSequence> T matchesPattern(@Nonnull final CompiledPattern pattern, @Nonnull final T chars,
+			@Nullable final String name) {
+		if (ELIDE_PATTERN) {
+			return chars;
 		}
-
-		return check;
+		requireNotNull(pattern, "pattern");
+		requireNotNull(chars, "chars");
+		if (!pattern.matches(chars)) {
+			Failures.throwIllegalPatternArgument(name, pattern.pattern(), chars);
+		}
+		return chars;
 	}
 
 	/**
-	 * Ensures that a passed {@code char} is less than another {@code char}.
+	 * Ensures that the remaining bytes of a buffer, i.e. the bytes between its position and limit, match a specified
+	 * pattern. Each byte is read as ISO-8859-1 character, which covers ASCII content like identifiers or fixed-width
+	 * records. If the bytes do not match against the passed pattern, an {@link IllegalPatternArgumentException} will be
+	 * thrown.
 	 * 
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            Comparable to be checked
-	 * @return the passed {@code char} argument {@code check}
+	 * <p>
+	 * The pattern is matched against a view of the buffer, so the bytes are neither copied into the heap nor decoded
+	 * into a string and the position of the buffer remains unchanged. This works for direct buffers and
+	 * {@link MappedByteBuffer}s as well.
 	 * 
-	 * @throws IllegalNotLesserThanException
-	 *             if the argument value {@code check} is not lesser than value {@code expected}
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#matchesPattern(Pattern, ByteBuffer, String)} and pass as
+	 * second argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param pattern
+	 *            pattern, that the remaining bytes must correspond to
+	 * @param buffer
+	 *            buffer whose remaining bytes should match the given pattern
+	 * @return the passed buffer
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code pattern} or {@code buffer} is {@code null}
+	 * @throws IllegalPatternArgumentException
+	 *             if the remaining bytes do not match the {@code pattern}
 	 */
 	@ArgumentsChecked
-	@Throws(IllegalNotLesserThanException.class)
-	public static char lesserThan(final char expected, final char check) {
-		if (expected <= check) {
-			throw new IllegalNotLesserThanException(check);
-		}
-
-		return check;
+	@Throws({ IllegalNullArgumentException.class, IllegalPatternArgumentException.class })
+	public static <T extends ByteBuffer> T matchesPattern(@Nonnull final Pattern pattern, @Nonnull final T buffer) {
+		return matchesPattern(pattern, buffer, EMPTY_ARGUMENT_NAME);
 	}
 
 	/**
-	 * Ensures that a passed {@code char} is less than another {@code char}.
+	 * Ensures that the remaining bytes of a buffer, i.e. the bytes between its position and limit, match a specified
+	 * pattern. Each byte is read as ISO-8859-1 character, which covers ASCII content like identifiers or fixed-width
+	 * records. If the bytes do not match against the passed pattern, an {@link IllegalPatternArgumentException} will be
+	 * thrown.
 	 * 
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            Comparable to be checked
-	 * @param message
-	 *            an error message describing why the comparables must be less than a value (will be passed to
-	 *            {@code IllegalNotLessThanException})
-	 * @return the passed {@code Comparable} argument {@code check}
+	 * <p>
+	 * The pattern is matched against a view of the buffer, so the bytes are neither copied into the heap nor decoded
+	 * into a string and the position of the buffer remains unchanged. This works for direct buffers and
+	 * {@link MappedByteBuffer}s as well. Only if the bytes do not match, a copy of at most
+	 * {@link net.sf.qualitycheck.exception.ArgumentRetention#getMaxArgumentLength()} characters is made, which is
+	 * available by {@link IllegalPatternArgumentException#getIllegalArgument()}.
 	 * 
-	 * @throws IllegalNotLesserThanException
-	 *             if the argument value {@code check} is not lesser than value {@code expected}
+	 * @param pattern
+	 *            pattern, that the remaining bytes must correspond to
+	 * @param buffer
+	 *            buffer whose remaining bytes should match the given pattern
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return the passed buffer
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code pattern} or {@code buffer} is {@code null}
+	 * @throws IllegalPatternArgumentException
+	 *             if the remaining bytes do not match the {@code pattern}
 	 */
 	@ArgumentsChecked
-	@Throws(IllegalNotLesserThanException.class)
-	public static char lesserThan(final char expected, final char check, @Nonnull final String message) {
-		if (expected <= check) {
-			throw new IllegalNotLesserThanException(message, check);
+	@Throws({ IllegalNullArgumentException.class, IllegalPatternArgumentException.class })
+	public static <T extends ByteBuffer> T matchesPattern(@Nonnull final Pattern pattern, @Nonnull final T buffer,
+			@Nullable final String name) {
+		if (ELIDE_PATTERN) {
+			return buffer;
 		}
-
-		return check;
+		requireNotNull(pattern, "pattern");
+		requireNotNull(buffer, "buffer");
+		if (!matches(pattern, new ByteBufferChars(buffer))) {
+			Failures.throwIllegalPatternArgument(name, pattern, buffer);
+		}
+		return buffer;
 	}
 
 	/**
-	 * Ensures that a passed {@code double} is less than another {@code double}.
+	 * Ensures that a readable sequence of {@code char} values matches a specified pattern. If the given character
+	 * sequence does not match against the passed pattern, an {@link IllegalPatternArgumentException} will be thrown.
 	 * 
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            Comparable to be checked
-	 * @return the passed {@code double} argument {@code check}
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#matchesPattern(Pattern, CharSequence, String)} and pass as
+	 * second argument the name of the parameter to enhance the exception message.
 	 * 
-	 * @throws IllegalNotLesserThanException
-	 *             if the argument value {@code check} is not lesser than value {@code expected}
+	 * @param pattern
+	 *            pattern, that the {@code chars} must correspond to
+	 * @param chars
+	 *            a readable sequence of {@code char} values which should match the given pattern
+	 * @return the passed {@code chars} that matches the given pattern
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code chars} is {@code null}
+	 * @throws IllegalPatternArgumentException
+	 *             if the given {@code chars} that does not match the {@code pattern}
 	 */
 	@ArgumentsChecked
-	@Throws(IllegalNotLesserThanException.class)
-	public static double lesserThan(final double expected, final double check) {
-		if (expected <= check) {
-			throw new IllegalNotLesserThanException(check);
-		}
-
-		return check;
+	@Throws({ IllegalNullArgumentException.class, IllegalPatternArgumentException.class })
+	public static <T extends CharSequence> T matchesPattern(@Nonnull final Pattern pattern, @Nonnull final T chars) {
+		return matchesPattern(pattern, chars, EMPTY_ARGUMENT_NAME);
 	}
 
 	/**
-	 * Ensures that a passed {@code double} is less than another {@code double}.
+	 * Ensures that a readable sequence of {@code char} values matches a specified pattern. If the given character
+	 * sequence does not match against the passed pattern, an {@link IllegalPatternArgumentException} will be thrown.
 	 * 
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            Comparable to be checked
-	 * @param message
-	 *            an error message describing why the comparables must be less than a value (will be passed to
-	 *            {@code IllegalNotLessThanException})
-	 * @return the passed {@code Comparable} argument {@code check}
+	 * @param pattern
+	 *            pattern, that the {@code chars} must correspond to
+	 * @param chars
+	 *            a readable sequence of {@code char} values which should match the given pattern
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return the passed {@code chars} that matches the given pattern
 	 * 
-	 * @throws IllegalNotLesserThanException
-	 *             if the argument value {@code check} is not lesser than value {@code expected}
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code chars} is {@code null}
+	 * @throws IllegalPatternArgumentException
+	 *             if the given {@code chars} that does not match the {@code pattern}
 	 */
 	@ArgumentsChecked
-	@Throws(IllegalNotLesserThanException.class)
-	public static double lesserThan(final double expected, final double check, @Nonnull final String message) {
-		if (expected <= check) {
-			throw new IllegalNotLesserThanException(message, check);
+	@Throws({ IllegalNullArgumentException.class, IllegalPatternArgumentException.class })
+	public static <T extends CharSequence> T matchesPattern(@Nonnull final Pattern pattern, @Nonnull final T chars,
+			@Nullable final String name) {
+		if (ELIDE_PATTERN) {
+			return chars;
 		}
-
-		return check;
+		requireNotNull(pattern, "pattern");
+		requireNotNull(chars, "chars");
+		if (!matches(pattern, chars)) {
+			Failures.throwIllegalPatternArgument(name, pattern, chars);
+		}
+		return chars;
 	}
 
 	/**
-	 * Ensures that a passed {@code float} is less than another {@code float}.
+	 * Ensures that the remaining bytes of a buffer, i.e. the bytes between its position and limit, match a specified
+	 * regular expression. Each byte is read as ISO-8859-1 character. If the bytes do not match against the passed
+	 * regular expression, an {@link IllegalPatternArgumentException} will be thrown.
 	 * 
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            Comparable to be checked
-	 * @return the passed {@code float} argument {@code check}
+	 * <p>
+	 * The regular expression will be compiled only once and is kept in the {@link PatternCache#getDefault() default
+	 * pattern cache}. The bytes are neither copied nor decoded, see {@link #matchesPattern(Pattern, ByteBuffer)}.
 	 * 
-	 * @throws IllegalNotLesserThanException
-	 *             if the argument value {@code check} is not lesser than value {@code expected}
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#matchesPattern(String, ByteBuffer, String)} and pass as
+	 * second argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param regex
+	 *            regular expression, that the remaining bytes must correspond to
+	 * @param buffer
+	 *            buffer whose remaining bytes should match the given regular expression
+	 * @return the passed buffer
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code regex} or {@code buffer} is {@code null}
+	 * @throws IllegalPatternArgumentException
+	 *             if the remaining bytes do not match the {@code regex}
+	 * @throws PatternSyntaxException
+	 *             if the given regular expression is invalid
 	 */
 	@ArgumentsChecked
-	@Throws(IllegalNotLesserThanException.class)
-	public static float lesserThan(final float expected, final float check) {
-		if (expected <= check) {
-			throw new IllegalNotLesserThanException(check);
-		}
-
-		return check;
+	@Throws({ IllegalNullArgumentException.class, IllegalPatternArgumentException.class })
+	public static <T extends ByteBuffer> T matchesPattern(@Nonnull final String regex, @Nonnull final T buffer) {
+		return matchesPattern(regex, buffer, EMPTY_ARGUMENT_NAME);
 	}
 
 	/**
-	 * Ensures that a passed {@code float} is less than another {@code float}.
+	 * Ensures that the remaining bytes of a buffer, i.e. the bytes between its position and limit, match a specified
+	 * regular expression. Each byte is read as ISO-8859-1 character. If the bytes do not match against the passed
+	 * regular expression, an {@link IllegalPatternArgumentException} will be thrown.
 	 * 
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            Comparable to be checked
-	 * @param message
-	 *            an error message describing why the comparables must be less than a value (will be passed to
-	 *            {@code IllegalNotLessThanException})
-	 * @return the passed {@code Comparable} argument {@code check}
+	 * <p>
+	 * The regular expression will be compiled only once and is kept in the {@link PatternCache#getDefault() default
+	 * pattern cache}. The bytes are neither copied nor decoded, see {@link #matchesPattern(Pattern, ByteBuffer, String)}.
 	 * 
-	 * @throws IllegalNotLesserThanException
-	 *             if the argument value {@code check} is not lesser than value {@code expected}
+	 * @param regex
+	 *            regular expression, that the remaining bytes must correspond to
+	 * @param buffer
+	 *            buffer whose remaining bytes should match the given regular expression
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return the passed buffer
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code regex} or {@code buffer} is {@code null}
+	 * @throws IllegalPatternArgumentException
+	 *             if the remaining bytes do not match the {@code regex}
+	 * @throws PatternSyntaxException
+	 *             if the given regular expression is invalid
 	 */
 	@ArgumentsChecked
-	@Throws(IllegalNotLesserThanException.class)
-	public static float lesserThan(final float expected, final float check, @Nonnull final String message) {
-		if (expected <= check) {
-			throw new IllegalNotLesserThanException(message, check);
+	@Throws({ IllegalNullArgumentException.class, IllegalPatternArgumentException.class })
+	public static <T extends ByteBuffer> T matchesPattern(@Nonnull final String regex, @Nonnull final T buffer,
+			@Nullable final String name) {
+		if (ELIDE_PATTERN) {
+			return buffer;
 		}
+		return matchesPattern(PatternCache.getDefault().get(regex), buffer, name);
+	}
 
-		return check;
+	/**
+	 * Ensures that a readable sequence of {@code char} values matches a specified regular expression. If the given
+	 * character sequence does not match against the passed regular expression, an
+	 * {@link IllegalPatternArgumentException} will be thrown.
+	 * 
+	 * <p>
+	 * The regular expression will be compiled only once and is kept in the {@link PatternCache#getDefault() default
+	 * pattern cache}.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#matchesPattern(String, CharSequence, String)} and pass as
+	 * second argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param regex
+	 *            regular expression, that the {@code chars} must correspond to
+	 * @param chars
+	 *            a readable sequence of {@code char} values which should match the given regular expression
+	 * @return the passed {@code chars} that matches the given regular expression
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code regex} or {@code chars} is {@code null}
+	 * @throws IllegalPatternArgumentException
+	 *             if the given {@code chars} that does not match the {@code regex}
+	 * @throws PatternSyntaxException
+	 *             if the given regular expression is invalid
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalPatternArgumentException.class })
+	public static <T extends CharSequence> T matchesPattern(@Nonnull final String regex, @Nonnull final T chars) {
+		return matchesPattern(regex, chars, EMPTY_ARGUMENT_NAME);
 	}
 
 	/**
-	 * Ensures that a passed {@code int} is less than another {@code int}.
+	 * Ensures that a readable sequence of {@code char} values matches a specified regular expression. If the given
+	 * character sequence does not match against the passed regular expression, an
+	 * {@link IllegalPatternArgumentException} will be thrown.
 	 * 
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            Comparable to be checked
-	 * @return the passed {@code int} argument {@code check}
+	 * <p>
+	 * The regular expression will be compiled only once and is kept in the {@link PatternCache#getDefault() default
+	 * pattern cache}.
 	 * 
-	 * @throws IllegalNotLesserThanException
-	 *             if the argument value {@code check} is not lesser than value {@code expected}
+	 * @param regex
+	 *            regular expression, that the {@code chars} must correspond to
+	 * @param chars
+	 *            a readable sequence of {@code char} values which should match the given regular expression
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return the passed {@code chars} that matches the given regular expression
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code regex} or {@code chars} is {@code null}
+	 * @throws IllegalPatternArgumentException
+	 *             if the given {@code chars} that does not match the {@code regex}
+	 * @throws PatternSyntaxException
+	 *             if the given regular expression is invalid
 	 */
 	@ArgumentsChecked
-	@Throws(IllegalNotLesserThanException.class)
-	public static int lesserThan(final int expected, final int check) {
-		if (expected <= check) {
-			throw new IllegalNotLesserThanException(check);
+	@Throws({ IllegalNullArgumentException.class, IllegalPatternArgumentException.class })
+	public static <T extends CharSequence> T matchesPattern(@Nonnull final String regex, @Nonnull final T chars,
+			@Nullable final String name) {
+		if (ELIDE_PATTERN) {
+			return chars;
 		}
-
-		return check;
+		return matchesPattern(PatternCache.getDefault().get(regex), chars, name);
 	}
 
 	/**
-	 * Ensures that a passed {@code int} is less than another {@code int}.
+	 * Ensures that an iterable reference is neither {@code null} nor contains any elements that are {@code null}.
 	 * 
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            Comparable to be checked
-	 * @param message
-	 *            an error message describing why the comparables must be less than a value (will be passed to
-	 *            {@code IllegalNotLessThanException})
-	 * @return the passed {@code Comparable} argument {@code check}
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#noNullElements(Iterable, String)} and pass as second
+	 * argument the name of the parameter to enhance the exception message.
 	 * 
-	 * @throws IllegalNotLesserThanException
-	 *             if the argument value {@code check} is not lesser than value {@code expected}
+	 * @param iterable
+	 *            the iterable reference which should not contain {@code null}
+	 * @return the passed reference which contains no elements that are {@code null}
+	 * 
+	 * @throws IllegalNullElementsException
+	 *             if the given argument {@code iterable} contains elements that are {@code null}
 	 */
 	@ArgumentsChecked
-	@Throws(IllegalNotLesserThanException.class)
-	public static int lesserThan(final int expected, final int check, @Nonnull final String message) {
-		if (expected <= check) {
-			throw new IllegalNotLesserThanException(message, check);
-		}
-
-		return check;
+	@Throws({ IllegalNullArgumentException.class, IllegalNullElementsException.class })
+	public static <T extends Iterable<?>> T noNullElements(@Nonnull final T iterable) {
+		return noNullElements(iterable, EMPTY_ARGUMENT_NAME);
 	}
 
 	/**
-	 * Ensures that a passed {@code long} is less than another {@code long}.
-	 * 
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            Comparable to be checked
-	 * @return the passed {@code long} argument {@code check}
+	 * Ensures that an iterable reference is neither {@code null} nor contains any elements that are {@code null}.
 	 * 
-	 * @throws IllegalNotLesserThanException
-	 *             if the argument value {@code check} is not lesser than value {@code expected}
+	 * @param iterable
+	 *            the iterable reference which should not contain {@code null}
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return the passed reference which contains no elements that are {@code null}
+	 * @throws IllegalNullElementsException
+	 *             if the given argument {@code iterable} contains elements that are {@code null}
 	 */
 	@ArgumentsChecked
-	@Throws(IllegalNotLesserThanException.class)
-	public static long lesserThan(final long expected, final long check) {
-		if (expected <= check) {
-			throw new IllegalNotLesserThanException(check);
+	@Throws({ IllegalNullArgumentException.class, IllegalNullElementsException.class })
+	public static <T extends Iterable<?>> T noNullElements(@Nonnull final T iterable, final String name) {
+		if (ELIDE_NO_NULL_ELEMENTS) {
+			return iterable;
 		}
-
-		return check;
+		return requireNoNullElements(iterable, name);
 	}
 
 	/**
-	 * Ensures that a passed {@code long} is less than another {@code long}.
+	 * Ensures that an array does not contain {@code null}.
 	 * 
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            Comparable to be checked
-	 * @param message
-	 *            an error message describing why the comparables must be less than a value (will be passed to
-	 *            {@code IllegalNotLessThanException})
-	 * @return the passed {@code Comparable} argument {@code check}
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#noNullElements(Object[], String)} and pass as second
+	 * argument the name of the parameter to enhance the exception message.
 	 * 
-	 * @throws IllegalNotLesserThanException
-	 *             if the argument value {@code check} is not lesser than value {@code expected}
+	 * @param array
+	 *            reference to an array
+	 * @return the passed reference which contains no elements that are {@code null}
+	 * @throws IllegalNullElementsException
+	 *             if the given argument {@code array} contains {@code null}
 	 */
 	@ArgumentsChecked
-	@Throws(IllegalNotLesserThanException.class)
-	public static long lesserThan(final long expected, final long check, @Nonnull final String message) {
-		if (expected <= check) {
-			throw new IllegalNotLesserThanException(message, check);
-		}
-
-		return check;
+	@Throws({ IllegalNullArgumentException.class, IllegalNullElementsException.class })
+	public static <T> T[] noNullElements(@Nonnull final T[] array) {
+		return noNullElements(array, EMPTY_ARGUMENT_NAME);
 	}
 
 	/**
-	 * Ensures that a passed {@code short} is less than another {@code short}.
-	 * 
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            Comparable to be checked
-	 * @return the passed {@code short} argument {@code check}
+	 * Ensures that an array does not contain {@code null}.
 	 * 
-	 * @throws IllegalNotLesserThanException
-	 *             if the argument value {@code check} is not lesser than value {@code expected}
+	 * @param array
+	 *            reference to an array
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return the passed reference which contains no elements that are {@code null}
+	 * @throws IllegalNullElementsException
+	 *             if the given argument {@code array} contains {@code null}
 	 */
 	@ArgumentsChecked
-	@Throws(IllegalNotLesserThanException.class)
-	public static short lesserThan(final short expected, final short check) {
-		if (expected <= check) {
-			throw new IllegalNotLesserThanException(check);
+	@Throws({ IllegalNullArgumentException.class, IllegalNullElementsException.class })
+	public static <T> T[] noNullElements(@Nonnull final T[] array, @Nullable final String name) {
+		if (ELIDE_NO_NULL_ELEMENTS) {
+			return array;
 		}
-
-		return check;
+		requireNotNull(array, "array");
+		if (containsNullElements(array)) {
+			Failures.throwIllegalNullElements(name);
+		}
+		return array;
 	}
 
 	/**
-	 * Ensures that a passed {@code short} is less than another {@code short}.
+	 * Ensures that an iterable reference is neither {@code null} nor contains any elements that are {@code null}. Large
+	 * lists which support fast random access (see {@link RandomAccess}) are split into chunks which are scanned
+	 * concurrently by the given executor, all other iterables are scanned by the calling thread. The exception reports
+	 * the index of the first {@code null} element, regardless of which chunk found it first.
 	 * 
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            Comparable to be checked
-	 * @param message
-	 *            an error message describing why the comparables must be less than a value (will be passed to
-	 *            {@code IllegalNotLessThanException})
-	 * @return the passed {@code Comparable} argument {@code check}
+	 * <p>
+	 * A list is only split if it contains at least as many elements as configured by the system property
+	 * {@code net.sf.qualitycheck.parallelThreshold} (default: 131072). The list must not be modified during the check.
 	 * 
-	 * @throws IllegalNotLesserThanException
-	 *             if the argument value {@code check} is not lesser than value {@code expected}
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#noNullElements(Iterable, Executor, String)} and pass as
+	 * third argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param iterable
+	 *            the iterable reference which should not contain {@code null}
+	 * @param executor
+	 *            executor to scan chunks of large lists concurrently
+	 * @return the passed reference which contains no elements that are {@code null}
+	 * 
+	 * @throws IllegalNullElementsException
+	 *             if the given argument {@code iterable} contains elements that are {@code null}
 	 */
 	@ArgumentsChecked
-	@Throws(IllegalNotLesserThanException.class)
-	public static short lesserThan(final short expected, final short check, @Nonnull final String message) {
-		if (expected <= check) {
-			throw new IllegalNotLesserThanException(message, check);
-		}
-
-		return check;
+	@Throws({ IllegalNullArgumentException.class, IllegalNullElementsException.class })
+	public static <T extends Iterable<?>> T noNullElements(@Nonnull final T iterable, @Nonnull final Executor executor) {
+		return noNullElements(iterable, executor, EMPTY_ARGUMENT_NAME);
 	}
 
 	/**
-	 * Ensures that a passed {@code Comparable} is less than another {@code Comparable}. The comparison is made using
-	 * {@code expected.compareTo(check) <= 0}.
+	 * Ensures that an iterable reference is neither {@code null} nor contains any elements that are {@code null}. Large
+	 * lists which support fast random access (see {@link RandomAccess}) are split into chunks which are scanned
+	 * concurrently by the given executor, all other iterables are scanned by the calling thread. The exception reports
+	 * the index of the first {@code null} element, regardless of which chunk found it first.
 	 * 
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            Comparable to be checked
-	 * @return the passed {@code Comparable} argument {@code check}
+	 * <p>
+	 * A list is only split if it contains at least as many elements as configured by the system property
+	 * {@code net.sf.qualitycheck.parallelThreshold} (default: 131072). The list must not be modified during the check.
 	 * 
-	 * @throws IllegalNotLesserThanException
-	 *             if the argument value {@code check} is not lesser than value {@code expected} when using method
-	 *             {@code compareTo}
+	 * @param iterable
+	 *            the iterable reference which should not contain {@code null}
+	 * @param executor
+	 *            executor to scan chunks of large lists concurrently
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return the passed reference which contains no elements that are {@code null}
+	 * 
+	 * @throws IllegalNullElementsException
+	 *             if the given argument {@code iterable} contains elements that are {@code null}
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNotLesserThanException.class })
-	public static <T extends Comparable<T>> T lesserThan(@Nonnull final T expected, @Nonnull final T check) {
-		Check.notNull(expected, "expected");
-		Check.notNull(check, "check");
-
-		if (expected.compareTo(check) <= 0) {
-			throw new IllegalNotLesserThanException(check);
+	@Throws({ IllegalNullArgumentException.class, IllegalNullElementsException.class })
+	public static <T extends Iterable<?>> T noNullElements(@Nonnull final T iterable, @Nonnull final Executor executor,
+			@Nullable final String name) {
+		if (ELIDE_NO_NULL_ELEMENTS) {
+			return iterable;
 		}
-
-		return check;
+		requireNotNull(iterable, "iterable");
+		requireNotNull(executor, "executor");
+		int index = -1;
+		if (iterable instanceof List<?> && iterable instanceof RandomAccess) {
+			index = ParallelScan.indexOfNull((List<?>) iterable, executor);
+		} else {
+			int i = 0;
+			for (final Object element : iterable) {
+				if (element == null) {
+					index = i;
+					break;
+				}
+				i++;
+			}
+		}
+		if (index >= 0) {
+			Failures.throwIllegalNullElements(name, index);
+		}
+		return iterable;
 	}
 
 	/**
-	 * Ensures that a passed {@code Comparable} is less than another {@code Comparable}. The comparison is made using
-	 * {@code expected.compareTo(check) <= 0}.
+	 * Ensures that an array does not contain {@code null}. Large arrays are split into chunks which are scanned
+	 * concurrently by the given executor. The exception reports the index of the first {@code null} element,
+	 * regardless of which chunk found it first.
 	 * 
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            Comparable to be checked
-	 * @param message
-	 *            an error message describing why the comparables must be less than a value (will be passed to
-	 *            {@code IllegalNotLessThanException})
-	 * @return the passed {@code Comparable} argument {@code check}
+	 * <p>
+	 * An array is only split if it contains at least as many elements as configured by the system property
+	 * {@code net.sf.qualitycheck.parallelThreshold} (default: 131072), smaller arrays are scanned by the calling
+	 * thread.
 	 * 
-	 * @throws IllegalNotLesserThanException
-	 *             if the argument value {@code check} is not lesser than value {@code expected} when using method
-	 *             {@code compareTo}
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#noNullElements(Object[], Executor, String)} and pass as
+	 * third argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param array
+	 *            reference to an array
+	 * @param executor
+	 *            executor to scan chunks of large arrays concurrently
+	 * @return the passed reference which contains no elements that are {@code null}
+	 * @throws IllegalNullElementsException
+	 *             if the given argument {@code array} contains {@code null}
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNotLesserThanException.class })
-	public static <T extends Comparable<T>> T lesserThan(@Nonnull final T expected, @Nonnull final T check, @Nonnull final String message) {
-		Check.notNull(expected, "expected");
-		Check.notNull(check, "check");
-
-		if (expected.compareTo(check) <= 0) {
-			throw new IllegalNotLesserThanException(message, check);
-		}
-
-		return check;
+	@Throws({ IllegalNullArgumentException.class, IllegalNullElementsException.class })
+	public static <T> T[] noNullElements(@Nonnull final T[] array, @Nonnull final Executor executor) {
+		return noNullElements(array, executor, EMPTY_ARGUMENT_NAME);
 	}
 
 	/**
-	 * Checks whether a character sequence matches against a specified pattern or not.
+	 * Ensures that an array does not contain {@code null}. Large arrays are split into chunks which are scanned
+	 * concurrently by the given executor. The exception reports the index of the first {@code null} element,
+	 * regardless of which chunk found it first.
 	 * 
-	 * @param pattern
-	 *            pattern, that the {@code chars} must correspond to
-	 * @param chars
-	 *            a readable sequence of {@code char} values which should match the given pattern
-	 * @return {@code true} when {@code chars} matches against the passed {@code pattern}, otherwise {@code false}
+	 * <p>
+	 * An array is only split if it contains at least as many elements as configured by the system property
+	 * {@code net.sf.qualitycheck.parallelThreshold} (default: 131072), smaller arrays are scanned by the calling
+	 * thread.
+	 * 
+	 * @param array
+	 *            reference to an array
+	 * @param executor
+	 *            executor to scan chunks of large arrays concurrently
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return the passed reference which contains no elements that are {@code null}
+	 * @throws IllegalNullElementsException
+	 *             if the given argument {@code array} contains {@code null}
 	 */
-	private static boolean matches(@Nonnull final Pattern pattern, @Nonnull final CharSequence chars) {
-		return pattern.matcher(chars).matches();
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNullElementsException.class })
+	public static <T> T[] noNullElements(@Nonnull final T[] array, @Nonnull final Executor executor, @Nullable final String name) {
+		if (ELIDE_NO_NULL_ELEMENTS) {
+			return array;
+		}
+		requireNotNull(array, "array");
+		requireNotNull(executor, "executor");
+		final int index = ParallelScan.indexOfNull(array, executor);
+		if (index >= 0) {
+			Failures.throwIllegalNullElements(name, index);
+		}
+		return array;
 	}
 
 	/**
-	 * Ensures that a readable sequence of {@code char} values matches a specified pattern. If the given character
-	 * sequence does not match against the passed pattern, an {@link IllegalPatternArgumentException} will be thrown.
-	 * 
-	 * <p>
-	 * We recommend to use the overloaded method {@link Check#matchesPattern(Pattern, CharSequence, String)} and pass as
-	 * second argument the name of the parameter to enhance the exception message.
-	 * 
-	 * @param pattern
-	 *            pattern, that the {@code chars} must correspond to
-	 * @param chars
-	 *            a readable sequence of {@code char} values which should match the given pattern
-	 * @return the passed {@code chars} that matches the given pattern
+	 * Ensures that a passed string is not empty and wraps it into a {@link NonEmptyString}, so that methods further down
+	 * the call chain can accept the wrapper instead of checking the string again.
 	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#nonEmptyString(String, String)} and pass as second argument
+	 * the name of the parameter to enhance the exception message.
+	 * 
+	 * @param chars
+	 *            a string which should not be empty
+	 * @return a wrapper of the passed string that is not empty
 	 * @throws IllegalNullArgumentException
 	 *             if the given argument {@code chars} is {@code null}
-	 * @throws IllegalPatternArgumentException
-	 *             if the given {@code chars} that does not match the {@code pattern}
+	 * @throws IllegalEmptyArgumentException
+	 *             if the given argument {@code chars} is empty
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalPatternArgumentException.class })
-	public static <T extends CharSequence> T matchesPattern(@Nonnull final Pattern pattern, @Nonnull final T chars) {
-		return matchesPattern(pattern, chars, EMPTY_ARGUMENT_NAME);
+	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
+	public static NonEmptyString nonEmptyString(@Nonnull final String chars) {
+		return nonEmptyString(chars, EMPTY_ARGUMENT_NAME);
 	}
 
 	/**
-	 * Ensures that a readable sequence of {@code char} values matches a specified pattern. If the given character
-	 * sequence does not match against the passed pattern, an {@link IllegalPatternArgumentException} will be thrown.
+	 * Ensures that a passed string is not empty and wraps it into a {@link NonEmptyString}, so that methods further down
+	 * the call chain can accept the wrapper instead of checking the string again.
+	 * 
+	 * <p>
+	 * The string is checked even if the checks {@code notEmpty} are elided (see {@link CheckElision}), because methods
+	 * which accept a {@link NonEmptyString} rely on it.
 	 * 
-	 * @param pattern
-	 *            pattern, that the {@code chars} must correspond to
 	 * @param chars
-	 *            a readable sequence of {@code char} values which should match the given pattern
+	 *            a string which should not be empty
 	 * @param name
 	 *            name of object reference (in source code)
-	 * @return the passed {@code chars} that matches the given pattern
-	 * 
+	 * @return a wrapper of the passed string that is not empty
 	 * @throws IllegalNullArgumentException
 	 *             if the given argument {@code chars} is {@code null}
-	 * @throws IllegalPatternArgumentException
-	 *             if the given {@code chars} that does not match the {@code pattern}
+	 * @throws IllegalEmptyArgumentException
+	 *             if the given argument {@code chars} is empty
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalPatternArgumentException.class })
-	public static <T extends CharSequence> T matchesPattern(@Nonnull final Pattern pattern, @Nonnull final T chars,
-			@Nullable final String name) {
-		Check.notNull(pattern, "pattern");
-		Check.notNull(chars, "chars");
-		if (!matches(pattern, chars)) {
-			throw new IllegalPatternArgumentException(name, pattern, chars);
+	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
+	public static NonEmptyString nonEmptyString(@Nonnull final String chars, @Nullable final String name) {
+		if (chars == null) {
+			Failures.throwIllegalNullArgument(name);
 		}
-		return chars;
+		if (chars.length() == 0) {
+			Failures.throwIllegalEmptyArgument(name);
+		}
+		return new NonEmptyString(chars);
 	}
 
 	/**
-	 * Ensures that an iterable reference is neither {@code null} nor contains any elements that are {@code null}.
+	 * Ensures that an integer passed as a parameter to the calling method is not smaller than {@code 0} and wraps it into
+	 * a {@link NonNegativeInt}, so that methods further down the call chain can accept the wrapper instead of checking
+	 * the value again.
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link Check#noNullElements(Iterable, String)} and pass as second
-	 * argument the name of the parameter to enhance the exception message.
-	 * 
-	 * @param iterable
-	 *            the iterable reference which should not contain {@code null}
-	 * @return the passed reference which contains no elements that are {@code null}
+	 * We recommend to use the overloaded method {@link Check#nonNegativeInt(int, String)} and pass as second argument the
+	 * name of the parameter to enhance the exception message.
 	 * 
-	 * @throws IllegalNullElementsException
-	 *             if the given argument {@code iterable} contains elements that are {@code null}
+	 * @param value
+	 *            a number
+	 * @return a wrapper of the passed value that is not negative
+	 * @throws IllegalNegativeArgumentException
+	 *             if the given argument {@code value} is smaller than {@code 0}
 	 */
-	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNullElementsException.class })
-	public static <T extends Iterable<?>> T noNullElements(@Nonnull final T iterable) {
-		return noNullElements(iterable, EMPTY_ARGUMENT_NAME);
+	@Throws(IllegalNegativeArgumentException.class)
+	public static NonNegativeInt nonNegativeInt(final int value) {
+		return new NonNegativeInt(notNegative(value));
 	}
 
 	/**
-	 * Ensures that an iterable reference is neither {@code null} nor contains any elements that are {@code null}.
+	 * Ensures that an integer passed as a parameter to the calling method is not smaller than {@code 0} and wraps it into
+	 * a {@link NonNegativeInt}, so that methods further down the call chain can accept the wrapper instead of checking
+	 * the value again.
 	 * 
-	 * @param iterable
-	 *            the iterable reference which should not contain {@code null}
+	 * @param value
+	 *            a number
 	 * @param name
-	 *            name of object reference (in source code)
-	 * @return the passed reference which contains no elements that are {@code null}
-	 * @throws IllegalNullElementsException
-	 *             if the given argument {@code iterable} contains elements that are {@code null}
+	 *            name of the number reference (in source code)
+	 * @return a wrapper of the passed value that is not negative
+	 * @throws IllegalNegativeArgumentException
+	 *             if the given argument {@code value} is smaller than {@code 0}
 	 */
-	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNullElementsException.class })
-	public static <T extends Iterable<?>> T noNullElements(@Nonnull final T iterable, final String name) {
-		Check.notNull(iterable, "iterable");
-		for (final Object element : iterable) {
-			if (element == null) {
-				throw new IllegalNullElementsException(name);
-			}
-		}
-		return iterable;
+	@Throws(IllegalNegativeArgumentException.class)
+	public static NonNegativeInt nonNegativeInt(final int value, @Nullable final String name) {
+		return new NonNegativeInt(notNegative(value, name));
 	}
 
 	/**
-	 * Ensures that an array does not contain {@code null}.
+	 * Ensures that a list does not contain {@code null} and wraps a copy of its elements into an unmodifiable
+	 * {@link NonNullList}, so that methods further down the call chain can accept the wrapper instead of scanning the
+	 * elements again.
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link Check#noNullElements(Object[], String)} and pass as second
-	 * argument the name of the parameter to enhance the exception message.
+	 * We recommend to use the overloaded method {@link Check#nonNullList(List, String)} and pass as second argument the
+	 * name of the parameter to enhance the exception message.
 	 * 
-	 * @param array
-	 *            reference to an array
-	 * @return the passed reference which contains no elements that are {@code null}
+	 * @param list
+	 *            a list which should not contain {@code null}
+	 * @return an unmodifiable copy of the passed list which contains no elements that are {@code null}
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code list} is {@code null}
 	 * @throws IllegalNullElementsException
-	 *             if the given argument {@code array} contains {@code null}
+	 *             if the given argument {@code list} contains {@code null}
 	 */
 	@ArgumentsChecked
 	@Throws({ IllegalNullArgumentException.class, IllegalNullElementsException.class })
-	public static <T> T[] noNullElements(@Nonnull final T[] array) {
-		return noNullElements(array, EMPTY_ARGUMENT_NAME);
+	public static <E> NonNullList<E> nonNullList(@Nonnull final List<? extends E> list) {
+		return nonNullList(list, EMPTY_ARGUMENT_NAME);
 	}
 
 	/**
-	 * Ensures that an array does not contain {@code null}.
+	 * Ensures that a list does not contain {@code null} and wraps a copy of its elements into an unmodifiable
+	 * {@link NonNullList}, so that methods further down the call chain can accept the wrapper instead of scanning the
+	 * elements again.
 	 * 
-	 * @param array
-	 *            reference to an array
+	 * <p>
+	 * The elements are checked on the copy, so a concurrent modification of the passed list cannot slip a {@code null}
+	 * into the result. The copy is scanned even if the checks {@code noNullElements} are elided (see
+	 * {@link CheckElision}), because methods which accept a {@link NonNullList} rely on it.
+	 * 
+	 * @param list
+	 *            a list which should not contain {@code null}
 	 * @param name
 	 *            name of object reference (in source code)
-	 * @return the passed reference which contains no elements that are {@code null}
+	 * @return an unmodifiable copy of the passed list which contains no elements that are {@code null}
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code list} is {@code null}
 	 * @throws IllegalNullElementsException
-	 *             if the given argument {@code array} contains {@code null}
+	 *             if the given argument {@code list} contains {@code null}
 	 */
 	@ArgumentsChecked
 	@Throws({ IllegalNullArgumentException.class, IllegalNullElementsException.class })
-	public static <T> T[] noNullElements(@Nonnull final T[] array, @Nullable final String name) {
-		Check.notNull(array, "array");
-		if (containsNullElements(array)) {
-			throw new IllegalNullElementsException(name);
+	public static <E> NonNullList<E> nonNullList(@Nonnull final List<? extends E> list, @Nullable final String name) {
+		if (list == null) {
+			Failures.throwIllegalNullArgument("list");
 		}
-		return array;
+		final Object[] elements = list.toArray();
+		if (containsNullElements(elements)) {
+			Failures.throwIllegalNullElements(name);
+		}
+		return new NonNullList<E>(elements);
 	}
 
 	/**
@@ -1930,8 +4591,11 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
 	public static void notEmpty(final boolean expression, @Nullable final String name) {
+		if (ELIDE_NOT_EMPTY) {
+			return;
+		}
 		if (expression) {
-			throw new IllegalEmptyArgumentException(name);
+			Failures.throwIllegalEmptyArgument(name);
 		}
 	}
 
@@ -1953,7 +4617,10 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
 	public static <T extends CharSequence> T notEmpty(@Nonnull final T chars) {
-		notNull(chars);
+		if (ELIDE_NOT_EMPTY) {
+			return chars;
+		}
+		requireNotNull(chars);
 		notEmpty(chars, chars.length() == 0, EMPTY_ARGUMENT_NAME);
 		return chars;
 	}
@@ -1976,7 +4643,10 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
 	public static <T extends Collection<?>> T notEmpty(@Nonnull final T collection) {
-		notNull(collection);
+		if (ELIDE_NOT_EMPTY) {
+			return collection;
+		}
+		requireNotNull(collection);
 		notEmpty(collection, collection.isEmpty(), EMPTY_ARGUMENT_NAME);
 		return collection;
 	}
@@ -1999,7 +4669,10 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
 	public static <T extends Iterable<?>> T notEmpty(@Nonnull final T iterable) {
-		notNull(iterable);
+		if (ELIDE_NOT_EMPTY) {
+			return iterable;
+		}
+		requireNotNull(iterable);
 		notEmpty(iterable, !iterable.iterator().hasNext(), EMPTY_ARGUMENT_NAME);
 		return iterable;
 	}
@@ -2022,7 +4695,10 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
 	public static <T extends Map<?, ?>> T notEmpty(@Nonnull final T map) {
-		notNull(map);
+		if (ELIDE_NOT_EMPTY) {
+			return map;
+		}
+		requireNotNull(map);
 		notEmpty(map, map.isEmpty(), EMPTY_ARGUMENT_NAME);
 		return map;
 	}
@@ -2058,9 +4734,12 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
 	public static <T> T notEmpty(@Nonnull final T reference, final boolean expression, @Nullable final String name) {
-		notNull(reference, name);
+		if (ELIDE_NOT_EMPTY) {
+			return reference;
+		}
+		requireNotNull(reference, name);
 		if (expression) {
-			throw new IllegalEmptyArgumentException(name);
+			Failures.throwIllegalEmptyArgument(name);
 		}
 		return reference;
 	}
@@ -2091,8 +4770,13 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
 	public static <T extends CharSequence> T notEmpty(@Nonnull final T chars, @Nullable final String name) {
-		notNull(chars, name);
-		notEmpty(chars, chars.length() == 0, name);
+		if (ELIDE_NOT_EMPTY) {
+			return chars;
+		}
+		requireNotNull(chars, name);
+		if (chars.length() == 0) {
+			Failures.throwIllegalEmptyArgument(name);
+		}
 		return chars;
 	}
 
@@ -2116,8 +4800,13 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
 	public static <T extends Map<?, ?>> T notEmpty(@Nonnull final T map, @Nullable final String name) {
-		notNull(map);
-		notEmpty(map, map.isEmpty(), name);
+		if (ELIDE_NOT_EMPTY) {
+			return map;
+		}
+		requireNotNull(map);
+		if (map.isEmpty()) {
+			Failures.throwIllegalEmptyArgument(name);
+		}
 		return map;
 	}
 
@@ -2147,8 +4836,13 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
 	public static <T extends Collection<?>> T notEmpty(@Nonnull final T collection, @Nullable final String name) {
-		notNull(collection, name);
-		notEmpty(collection, collection.isEmpty(), name);
+		if (ELIDE_NOT_EMPTY) {
+			return collection;
+		}
+		requireNotNull(collection, name);
+		if (collection.isEmpty()) {
+			Failures.throwIllegalEmptyArgument(name);
+		}
 		return collection;
 	}
 
@@ -2178,8 +4872,13 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
 	public static <T extends Iterable<?>> T notEmpty(@Nonnull final T iterable, @Nullable final String name) {
-		notNull(iterable, name);
-		notEmpty(iterable, !iterable.iterator().hasNext(), name);
+		if (ELIDE_NOT_EMPTY) {
+			return iterable;
+		}
+		requireNotNull(iterable, name);
+		if (!iterable.iterator().hasNext()) {
+			Failures.throwIllegalEmptyArgument(name);
+		}
 		return iterable;
 	}
 
@@ -2201,7 +4900,10 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
 	public static <T> T[] notEmpty(@Nonnull final T[] array) {
-		notNull(array);
+		if (ELIDE_NOT_EMPTY) {
+			return array;
+		}
+		requireNotNull(array);
 		notEmpty(array, array.length == 0, EMPTY_ARGUMENT_NAME);
 		return array;
 	}
@@ -2222,7 +4924,10 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
 	public static <T> T[] notEmpty(@Nonnull final T[] array, @Nullable final String name) {
-		notNull(array);
+		if (ELIDE_NOT_EMPTY) {
+			return array;
+		}
+		requireNotNull(array);
 		notEmpty(array, array.length == 0, EMPTY_ARGUMENT_NAME);
 		return array;
 	}
@@ -2247,7 +4952,7 @@ public final class Check {
 	@Throws(IllegalEqualException.class)
 	public static boolean notEquals(final boolean expected, final boolean check) {
 		if (expected == check) {
-			throw new IllegalEqualException(check);
+			Failures.throwIllegalEqual(check);
 		}
 
 		return check;
@@ -2272,7 +4977,7 @@ public final class Check {
 	@Throws(IllegalEqualException.class)
 	public static boolean notEquals(final boolean expected, final boolean check, @Nonnull final String message) {
 		if (expected == check) {
-			throw new IllegalEqualException(message, check);
+			Failures.throwIllegalEqual(message, check);
 		}
 
 		return check;
@@ -2298,7 +5003,7 @@ public final class Check {
 	@Throws(IllegalEqualException.class)
 	public static byte notEquals(final byte expected, final byte check) {
 		if (expected == check) {
-			throw new IllegalEqualException(check);
+			Failures.throwIllegalEqual(check);
 		}
 
 		return check;
@@ -2322,7 +5027,7 @@ public final class Check {
 	@Throws(IllegalEqualException.class)
 	public static byte notEquals(final byte expected, final byte check, @Nonnull final String message) {
 		if (expected == check) {
-			throw new IllegalEqualException(message, check);
+			Failures.throwIllegalEqual(message, check);
 		}
 
 		return check;
@@ -2348,7 +5053,7 @@ public final class Check {
 	@Throws(IllegalEqualException.class)
 	public static char notEquals(final char expected, final char check) {
 		if (expected == check) {
-			throw new IllegalEqualException(check);
+			Failures.throwIllegalEqual(check);
 		}
 
 		return check;
@@ -2372,7 +5077,7 @@ public final class Check {
 	@Throws(IllegalEqualException.class)
 	public static char notEquals(final char expected, final char check, @Nonnull final String message) {
 		if (expected == check) {
-			throw new IllegalEqualException(message, check);
+			Failures.throwIllegalEqual(message, check);
 		}
 
 		return check;
@@ -2398,7 +5103,7 @@ public final class Check {
 	@Throws(IllegalEqualException.class)
 	public static int notEquals(final int expected, final int check) {
 		if (expected == check) {
-			throw new IllegalEqualException(check);
+			Failures.throwIllegalEqual(check);
 		}
 
 		return check;
@@ -2422,7 +5127,7 @@ public final class Check {
 	@Throws(IllegalEqualException.class)
 	public static int notEquals(final int expected, final int check, @Nonnull final String message) {
 		if (expected == check) {
-			throw new IllegalEqualException(message, check);
+			Failures.throwIllegalEqual(message, check);
 		}
 
 		return check;
@@ -2448,7 +5153,7 @@ public final class Check {
 	@Throws(IllegalEqualException.class)
 	public static long notEquals(final long expected, final long check) {
 		if (expected == check) {
-			throw new IllegalEqualException(check);
+			Failures.throwIllegalEqual(check);
 		}
 
 		return check;
@@ -2472,7 +5177,7 @@ public final class Check {
 	@Throws(IllegalEqualException.class)
 	public static long notEquals(final long expected, final long check, @Nonnull final String message) {
 		if (expected == check) {
-			throw new IllegalEqualException(message, check);
+			Failures.throwIllegalEqual(message, check);
 		}
 
 		return check;
@@ -2498,7 +5203,7 @@ public final class Check {
 	@Throws(IllegalEqualException.class)
 	public static short notEquals(final short expected, final short check) {
 		if (expected == check) {
-			throw new IllegalEqualException(check);
+			Failures.throwIllegalEqual(check);
 		}
 
 		return check;
@@ -2523,7 +5228,7 @@ public final class Check {
 	@Throws(IllegalEqualException.class)
 	public static short notEquals(final short expected, final short check, @Nonnull final String message) {
 		if (expected == check) {
-			throw new IllegalEqualException(message, check);
+			Failures.throwIllegalEqual(message, check);
 		}
 
 		return check;
@@ -2549,11 +5254,11 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws({ IllegalNullArgumentException.class, IllegalEqualException.class })
 	public static <T extends Comparable<T>> T notEquals(@Nonnull final T expected, @Nonnull final T check) {
-		Check.notNull(expected, "expected");
-		Check.notNull(check, "check");
+		requireNotNull(expected, "expected");
+		requireNotNull(check, "check");
 
 		if (expected.compareTo(check) == 0) {
-			throw new IllegalEqualException(check);
+			Failures.throwIllegalEqual(check);
 		}
 
 		return check;
@@ -2579,11 +5284,11 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws({ IllegalNullArgumentException.class, IllegalEqualException.class })
 	public static <T extends Object> T notEquals(@Nonnull final T expected, @Nonnull final T check) {
-		Check.notNull(expected, "expected");
-		Check.notNull(check, "check");
+		requireNotNull(expected, "expected");
+		requireNotNull(check, "check");
 
 		if (expected.equals(check)) {
-			throw new IllegalEqualException(check);
+			Failures.throwIllegalEqual(check);
 		}
 
 		return check;
@@ -2607,11 +5312,11 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws({ IllegalNullArgumentException.class, IllegalEqualException.class })
 	public static <T extends Comparable<T>> T notEquals(@Nonnull final T expected, @Nonnull final T check, @Nonnull final String message) {
-		Check.notNull(expected, "expected");
-		Check.notNull(check, "check");
+		requireNotNull(expected, "expected");
+		requireNotNull(check, "check");
 
 		if (expected.compareTo(check) == 0) {
-			throw new IllegalEqualException(message, check);
+			Failures.throwIllegalEqual(message, check);
 		}
 
 		return check;
@@ -2621,127 +5326,377 @@ public final class Check {
 	 * Ensures that a passed object is not equal to another object. The comparison is made using a call to
 	 * {@code expected.equals(check)}.
 	 * 
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            Object to be checked
-	 * @param message
-	 *            an error message describing why the objects must equal (will be passed to
-	 *            {@code IllegalEqualException})
-	 * @return the passed argument {@code check}
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            Object to be checked
+	 * @param message
+	 *            an error message describing why the objects must equal (will be passed to
+	 *            {@code IllegalEqualException})
+	 * @return the passed argument {@code check}
+	 * 
+	 * @throws IllegalEqualException
+	 *             if both argument values are not equal
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalEqualException.class })
+	public static <T extends Object> T notEquals(@Nonnull final T expected, @Nonnull final T check, @Nonnull final String message) {
+		requireNotNull(expected, "expected");
+		requireNotNull(check, "check");
+
+		if (expected.equals(check)) {
+			Failures.throwIllegalEqual(message, check);
+		}
+
+		return check;
+	}
+
+	/**
+	 * Do not perform any check and just return {@code t}.
+	 * 
+	 * This is useful if you have several checks on some arguments, but do not check other arguments on purpose. This
+	 * checks helps to document that a check was omitted on purpose instead of forgotten.
+	 * 
+	 * @param t
+	 *            any object
+	 * @return t
+	 */
+	public static <T> T nothing(final T t) {
+		return t;
+	}
+
+	/**
+	 * Ensures that a double argument is not NaN (not a number).
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#notNaN(double, String)} and pass as second argument the
+	 * name of the parameter to enhance the exception message.
+	 * 
+	 * @see java.lang.Double#NaN
+	 * 
+	 * @param value
+	 *            value which should not be NaN
+	 * @return the given double value
+	 * @throws IllegalNaNArgumentException
+	 *             if the given argument {@code value} is NaN
+	 */
+	@Throws(IllegalNaNArgumentException.class)
+	public static double notNaN(final double value) {
+		return notNaN(value, EMPTY_ARGUMENT_NAME);
+	}
+
+	/**
+	 * Ensures that a double argument is not NaN (not a number).
+	 * 
+	 * @see java.lang.Double#NaN
+	 * 
+	 * @param value
+	 *            value which should not be NaN
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return the given double value
+	 * @throws IllegalNaNArgumentException
+	 *             if the given argument {@code value} is NaN
+	 */
+	@Throws(IllegalNaNArgumentException.class)
+	public static double notNaN(final double value, @Nullable final String name) {
+		// most efficient check for NaN, see Double.isNaN(value))
+		if (value != value) {
+			Failures.throwIllegalNaNArgument(name);
+		}
+		return value;
+	}
+
+	/**
+	 * Ensures that a double argument is not NaN (not a number).
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#notNaN(float, String)} and pass as second argument the
+	 * name of the parameter to enhance the exception message.
+	 * 
+	 * @see java.lang.Float#NaN
+	 * 
+	 * @param value
+	 *            value which should not be NaN
+	 * @return the given double value
+	 * @throws IllegalNaNArgumentException
+	 *             if the given argument {@code value} is NaN
+	 */
+	@Throws(IllegalNaNArgumentException.class)
+	public static float notNaN(final float value) {
+		return notNaN(value, EMPTY_ARGUMENT_NAME);
+	}
+
+	/**
+	 * Ensures that a double argument is not NaN (not a number).
+	 * 
+	 * @see java.lang.Float#NaN
+	 * 
+	 * @param value
+	 *            value which should not be NaN
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return the given float value
+	 * @throws IllegalNaNArgumentException
+	 *             if the given argument {@code value} is NaN
+	 */
+	@Throws(IllegalNaNArgumentException.class)
+	public static float notNaN(final float value, @Nullable final String name) {
+		// most efficient check for NaN, see Float.isNaN(value))
+		if (value != value) {
+			Failures.throwIllegalNaNArgument(name);
+		}
+		return value;
+	}
+
+	/**
+	 * Ensures that no element of a {@code double} array is NaN (not a number).
+	 * 
+	 * <p>
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#notNaN(double[], String)} and pass as last argument the
+	 * name of the parameter to enhance the exception message.
+	 * 
+	 * @see java.lang.Double#NaN
+	 * 
+	 * @param values
+	 *            an array of values which should not contain NaN
+	 * @return the given array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNaNArgumentException
+	 *             if an element is NaN
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNaNArgumentException.class })
+	public static double[] notNaN(@Nonnull final double[] values) {
+		return notNaN(values, EMPTY_ARGUMENT_NAME);
+	}
+
+	/**
+	 * Ensures that no element of a {@code double} array is NaN (not a number).
+	 * 
+	 * <p>
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * 
+	 * @see java.lang.Double#NaN
+	 * 
+	 * @param values
+	 *            an array of values which should not contain NaN
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the given array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNaNArgumentException
+	 *             if an element is NaN
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNaNArgumentException.class })
+	public static double[] notNaN(@Nonnull final double[] values, @Nullable final String name) {
+		requireNotNull(values, "values");
+		return notNaN(values, 0, values.length, name);
+	}
+
+	/**
+	 * Ensures that no element of a {@code double} array is NaN (not a number).
+	 * 
+	 * <p>
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * Only the elements from index {@code from} (inclusive) to {@code to} (exclusive) are checked.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#notNaN(double[], int, int, String)} and pass as last
+	 * argument the name of the parameter to enhance the exception message.
 	 * 
-	 * @throws IllegalEqualException
-	 *             if both argument values are not equal
+	 * @see java.lang.Double#NaN
+	 * 
+	 * @param values
+	 *            an array of values which should not contain NaN
+	 * @param from
+	 *            index of the first element to check (inclusive)
+	 * @param to
+	 *            index after the last element to check (exclusive)
+	 * @return the given array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if {@code from} and {@code to} do not form a valid range within the array
+	 * @throws IllegalNaNArgumentException
+	 *             if an element is NaN
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalEqualException.class })
-	public static <T extends Object> T notEquals(@Nonnull final T expected, @Nonnull final T check, @Nonnull final String message) {
-		Check.notNull(expected, "expected");
-		Check.notNull(check, "check");
-
-		if (expected.equals(check)) {
-			throw new IllegalEqualException(message, check);
-		}
-
-		return check;
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNaNArgumentException.class })
+	public static double[] notNaN(@Nonnull final double[] values, final int from, final int to) {
+		return notNaN(values, from, to, EMPTY_ARGUMENT_NAME);
 	}
 
 	/**
-	 * Do not perform any check and just return {@code t}.
+	 * Ensures that no element of a {@code double} array is NaN (not a number).
 	 * 
-	 * This is useful if you have several checks on some arguments, but do not check other arguments on purpose. This
-	 * checks helps to document that a check was omitted on purpose instead of forgotten.
+	 * <p>
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * Only the elements from index {@code from} (inclusive) to {@code to} (exclusive) are checked.
 	 * 
-	 * @param t
-	 *            any object
-	 * @return t
+	 * @see java.lang.Double#NaN
+	 * 
+	 * @param values
+	 *            an array of values which should not contain NaN
+	 * @param from
+	 *            index of the first element to check (inclusive)
+	 * @param to
+	 *            index after the last element to check (exclusive)
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the given array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if {@code from} and {@code to} do not form a valid range within the array
+	 * @throws IllegalNaNArgumentException
+	 *             if an element is NaN
 	 */
-	public static <T> T nothing(final T t) {
-		return t;
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNaNArgumentException.class })
+	public static double[] notNaN(@Nonnull final double[] values, final int from, final int to, @Nullable final String name) {
+		requireNotNull(values, "values");
+		requireRange(from, to, values.length);
+		final int index = ArrayScan.indexOfNaN(values, from, to);
+		if (index >= 0) {
+			Failures.throwIllegalNaNArgument(name, index);
+		}
+		return values;
 	}
 
 	/**
-	 * Ensures that a double argument is not NaN (not a number).
+	 * Ensures that no element of a {@code float} array is NaN (not a number).
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link Check#notNaN(double, String)} and pass as second argument the
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#notNaN(float[], String)} and pass as last argument the
 	 * name of the parameter to enhance the exception message.
 	 * 
-	 * @see java.lang.Double#NaN
+	 * @see java.lang.Float#NaN
 	 * 
-	 * @param value
-	 *            value which should not be NaN
-	 * @return the given double value
+	 * @param values
+	 *            an array of values which should not contain NaN
+	 * @return the given array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
 	 * @throws IllegalNaNArgumentException
-	 *             if the given argument {@code value} is NaN
+	 *             if an element is NaN
 	 */
-	@Throws(IllegalNaNArgumentException.class)
-	public static double notNaN(final double value) {
-		return notNaN(value, EMPTY_ARGUMENT_NAME);
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNaNArgumentException.class })
+	public static float[] notNaN(@Nonnull final float[] values) {
+		return notNaN(values, EMPTY_ARGUMENT_NAME);
 	}
 
 	/**
-	 * Ensures that a double argument is not NaN (not a number).
+	 * Ensures that no element of a {@code float} array is NaN (not a number).
 	 * 
-	 * @see java.lang.Double#NaN
+	 * <p>
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
 	 * 
-	 * @param value
-	 *            value which should not be NaN
+	 * @see java.lang.Float#NaN
+	 * 
+	 * @param values
+	 *            an array of values which should not contain NaN
 	 * @param name
-	 *            name of object reference (in source code)
-	 * @return the given double value
+	 *            name of the array reference (in source code)
+	 * @return the given array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
 	 * @throws IllegalNaNArgumentException
-	 *             if the given argument {@code value} is NaN
+	 *             if an element is NaN
 	 */
-	@Throws(IllegalNaNArgumentException.class)
-	public static double notNaN(final double value, @Nullable final String name) {
-		// most efficient check for NaN, see Double.isNaN(value))
-		if (value != value) {
-			throw new IllegalNaNArgumentException(name);
-		}
-		return value;
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNaNArgumentException.class })
+	public static float[] notNaN(@Nonnull final float[] values, @Nullable final String name) {
+		requireNotNull(values, "values");
+		return notNaN(values, 0, values.length, name);
 	}
 
 	/**
-	 * Ensures that a double argument is not NaN (not a number).
+	 * Ensures that no element of a {@code float} array is NaN (not a number).
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link Check#notNaN(float, String)} and pass as second argument the
-	 * name of the parameter to enhance the exception message.
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * Only the elements from index {@code from} (inclusive) to {@code to} (exclusive) are checked.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#notNaN(float[], int, int, String)} and pass as last
+	 * argument the name of the parameter to enhance the exception message.
 	 * 
 	 * @see java.lang.Float#NaN
 	 * 
-	 * @param value
-	 *            value which should not be NaN
-	 * @return the given double value
+	 * @param values
+	 *            an array of values which should not contain NaN
+	 * @param from
+	 *            index of the first element to check (inclusive)
+	 * @param to
+	 *            index after the last element to check (exclusive)
+	 * @return the given array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if {@code from} and {@code to} do not form a valid range within the array
 	 * @throws IllegalNaNArgumentException
-	 *             if the given argument {@code value} is NaN
+	 *             if an element is NaN
 	 */
-	@Throws(IllegalNaNArgumentException.class)
-	public static float notNaN(final float value) {
-		return notNaN(value, EMPTY_ARGUMENT_NAME);
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNaNArgumentException.class })
+	public static float[] notNaN(@Nonnull final float[] values, final int from, final int to) {
+		return notNaN(values, from, to, EMPTY_ARGUMENT_NAME);
 	}
 
 	/**
-	 * Ensures that a double argument is not NaN (not a number).
+	 * Ensures that no element of a {@code float} array is NaN (not a number).
+	 * 
+	 * <p>
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * Only the elements from index {@code from} (inclusive) to {@code to} (exclusive) are checked.
 	 * 
 	 * @see java.lang.Float#NaN
 	 * 
-	 * @param value
-	 *            value which should not be NaN
+	 * @param values
+	 *            an array of values which should not contain NaN
+	 * @param from
+	 *            index of the first element to check (inclusive)
+	 * @param to
+	 *            index after the last element to check (exclusive)
 	 * @param name
-	 *            name of object reference (in source code)
-	 * @return the given float value
+	 *            name of the array reference (in source code)
+	 * @return the given array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if {@code from} and {@code to} do not form a valid range within the array
 	 * @throws IllegalNaNArgumentException
-	 *             if the given argument {@code value} is NaN
+	 *             if an element is NaN
 	 */
-	@Throws(IllegalNaNArgumentException.class)
-	public static float notNaN(final float value, @Nullable final String name) {
-		// most efficient check for NaN, see Float.isNaN(value))
-		if (value != value) {
-			throw new IllegalNaNArgumentException(name);
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNaNArgumentException.class })
+	public static float[] notNaN(@Nonnull final float[] values, final int from, final int to, @Nullable final String name) {
+		requireNotNull(values, "values");
+		requireRange(from, to, values.length);
+		final int index = ArrayScan.indexOfNaN(values, from, to);
+		if (index >= 0) {
+			Failures.throwIllegalNaNArgument(name, index);
 		}
-		return value;
+		return values;
 	}
 
 	/**
@@ -2760,7 +5715,7 @@ public final class Check {
 	@Throws(IllegalNegativeArgumentException.class)
 	public static double notNegative(final double value) {
 		if (value < 0.0) {
-			throw new IllegalNegativeArgumentException(value);
+			Failures.throwIllegalNegativeArgument(value);
 		}
 		return value;
 	}
@@ -2779,7 +5734,7 @@ public final class Check {
 	@Throws(IllegalNegativeArgumentException.class)
 	public static double notNegative(final double value, @Nullable final String name) {
 		if (value < 0.0) {
-			throw new IllegalNegativeArgumentException(name, value);
+			Failures.throwIllegalNegativeArgument(name, value);
 		}
 		return value;
 	}
@@ -2800,7 +5755,7 @@ public final class Check {
 	@Throws(IllegalNegativeArgumentException.class)
 	public static float notNegative(final float value) {
 		if (value < 0.0f) {
-			throw new IllegalNegativeArgumentException(value);
+			Failures.throwIllegalNegativeArgument(value);
 		}
 		return value;
 	}
@@ -2819,7 +5774,7 @@ public final class Check {
 	@Throws(IllegalNegativeArgumentException.class)
 	public static float notNegative(final float value, @Nullable final String name) {
 		if (value < 0.0f) {
-			throw new IllegalNegativeArgumentException(name, value);
+			Failures.throwIllegalNegativeArgument(name, value);
 		}
 		return value;
 	}
@@ -2840,7 +5795,7 @@ public final class Check {
 	@Throws(IllegalNegativeArgumentException.class)
 	public static int notNegative(final int value) {
 		if (value < 0) {
-			throw new IllegalNegativeArgumentException(value);
+			Failures.throwIllegalNegativeArgument(value);
 		}
 		return value;
 	}
@@ -2859,7 +5814,7 @@ public final class Check {
 	@Throws(IllegalNegativeArgumentException.class)
 	public static int notNegative(final int value, @Nullable final String name) {
 		if (value < 0) {
-			throw new IllegalNegativeArgumentException(name, value);
+			Failures.throwIllegalNegativeArgument(name, value);
 		}
 		return value;
 	}
@@ -2880,7 +5835,7 @@ public final class Check {
 	@Throws(IllegalNegativeArgumentException.class)
 	public static long notNegative(final long value) {
 		if (value < 0L) {
-			throw new IllegalNegativeArgumentException(value);
+			Failures.throwIllegalNegativeArgument(value);
 		}
 		return value;
 	}
@@ -2899,7 +5854,7 @@ public final class Check {
 	@Throws(IllegalNegativeArgumentException.class)
 	public static long notNegative(final long value, @Nullable final String name) {
 		if (value < 0L) {
-			throw new IllegalNegativeArgumentException(name, value);
+			Failures.throwIllegalNegativeArgument(name, value);
 		}
 		return value;
 	}
@@ -2920,7 +5875,7 @@ public final class Check {
 	@Throws(IllegalNegativeArgumentException.class)
 	public static short notNegative(final short value) {
 		if (value < (short) 0) {
-			throw new IllegalNegativeArgumentException(value);
+			Failures.throwIllegalNegativeArgument(value);
 		}
 		return value;
 	}
@@ -2939,9 +5894,360 @@ public final class Check {
 	@Throws(IllegalNegativeArgumentException.class)
 	public static short notNegative(final short value, @Nullable final String name) {
 		if (value < (short) 0) {
-			throw new IllegalNegativeArgumentException(name, value);
+			Failures.throwIllegalNegativeArgument(name, value);
+		}
+		return value;
+	}
+
+	/**
+	 * Ensures that no element of a {@code double} array is smaller than {@code 0}.
+	 * 
+	 * <p>
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#notNegative(double[], String)} and pass as last argument
+	 * the name of the parameter to enhance the exception message.
+	 * 
+	 * @param values
+	 *            an array of numbers
+	 * @return the given array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNegativeArgumentException
+	 *             if an element is smaller than {@code 0}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNegativeArgumentException.class })
+	public static double[] notNegative(@Nonnull final double[] values) {
+		return notNegative(values, EMPTY_ARGUMENT_NAME);
+	}
+
+	/**
+	 * Ensures that no element of a {@code double} array is smaller than {@code 0}.
+	 * 
+	 * <p>
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * 
+	 * @param values
+	 *            an array of numbers
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the given array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNegativeArgumentException
+	 *             if an element is smaller than {@code 0}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNegativeArgumentException.class })
+	public static double[] notNegative(@Nonnull final double[] values, @Nullable final String name) {
+		requireNotNull(values, "values");
+		return notNegative(values, 0, values.length, name);
+	}
+
+	/**
+	 * Ensures that no element of a {@code double} array is smaller than {@code 0}.
+	 * 
+	 * <p>
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * Only the elements from index {@code from} (inclusive) to {@code to} (exclusive) are checked.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#notNegative(double[], int, int, String)} and pass as last
+	 * argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param values
+	 *            an array of numbers
+	 * @param from
+	 *            index of the first element to check (inclusive)
+	 * @param to
+	 *            index after the last element to check (exclusive)
+	 * @return the given array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if {@code from} and {@code to} do not form a valid range within the array
+	 * @throws IllegalNegativeArgumentException
+	 *             if an element is smaller than {@code 0}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNegativeArgumentException.class })
+	public static double[] notNegative(@Nonnull final double[] values, final int from, final int to) {
+		return notNegative(values, from, to, EMPTY_ARGUMENT_NAME);
+	}
+
+	/**
+	 * Ensures that no element of a {@code double} array is smaller than {@code 0}.
+	 * 
+	 * <p>
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * Only the elements from index {@code from} (inclusive) to {@code to} (exclusive) are checked.
+	 * 
+	 * @param values
+	 *            an array of numbers
+	 * @param from
+	 *            index of the first element to check (inclusive)
+	 * @param to
+	 *            index after the last element to check (exclusive)
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the given array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if {@code from} and {@code to} do not form a valid range within the array
+	 * @throws IllegalNegativeArgumentException
+	 *             if an element is smaller than {@code 0}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNegativeArgumentException.class })
+	public static double[] notNegative(@Nonnull final double[] values, final int from, final int to, @Nullable final String name) {
+		requireNotNull(values, "values");
+		requireRange(from, to, values.length);
+		final int index = ArrayScan.indexOfNegative(values, from, to);
+		if (index >= 0) {
+			Failures.throwIllegalNegativeArgument(name, index, values[index]);
+		}
+		return values;
+	}
+
+	/**
+	 * Ensures that no element of an {@code int} array is smaller than {@code 0}.
+	 * 
+	 * <p>
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#notNegative(int[], String)} and pass as last argument the
+	 * name of the parameter to enhance the exception message.
+	 * 
+	 * @param values
+	 *            an array of numbers
+	 * @return the given array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNegativeArgumentException
+	 *             if an element is smaller than {@code 0}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNegativeArgumentException.class })
+	public static int[] notNegative(@Nonnull final int[] values) {
+		return notNegative(values, EMPTY_ARGUMENT_NAME);
+	}
+
+	/**
+	 * Ensures that no element of an {@code int} array is smaller than {@code 0}.
+	 * 
+	 * <p>
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * 
+	 * @param values
+	 *            an array of numbers
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the given array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNegativeArgumentException
+	 *             if an element is smaller than {@code 0}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNegativeArgumentException.class })
+	public static int[] notNegative(@Nonnull final int[] values, @Nullable final String name) {
+		requireNotNull(values, "values");
+		return notNegative(values, 0, values.length, name);
+	}
+
+	/**
+	 * Ensures that no element of an {@code int} array is smaller than {@code 0}.
+	 * 
+	 * <p>
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * Only the elements from index {@code from} (inclusive) to {@code to} (exclusive) are checked.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#notNegative(int[], int, int, String)} and pass as last
+	 * argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param values
+	 *            an array of numbers
+	 * @param from
+	 *            index of the first element to check (inclusive)
+	 * @param to
+	 *            index after the last element to check (exclusive)
+	 * @return the given array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if {@code from} and {@code to} do not form a valid range within the array
+	 * @throws IllegalNegativeArgumentException
+	 *             if an element is smaller than {@code 0}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNegativeArgumentException.class })
+	public static int[] notNegative(@Nonnull final int[] values, final int from, final int to) {
+		return notNegative(values, from, to, EMPTY_ARGUMENT_NAME);
+	}
+
+	/**
+	 * Ensures that no element of an {@code int} array is smaller than {@code 0}.
+	 * 
+	 * <p>
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * Only the elements from index {@code from} (inclusive) to {@code to} (exclusive) are checked.
+	 * 
+	 * @param values
+	 *            an array of numbers
+	 * @param from
+	 *            index of the first element to check (inclusive)
+	 * @param to
+	 *            index after the last element to check (exclusive)
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the given array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if {@code from} and {@code to} do not form a valid range within the array
+	 * @throws IllegalNegativeArgumentException
+	 *             if an element is smaller than {@code 0}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNegativeArgumentException.class })
+	public static int[] notNegative(@Nonnull final int[] values, final int from, final int to, @Nullable final String name) {
+		requireNotNull(values, "values");
+		requireRange(from, to, values.length);
+		final int index = ArrayScan.indexOfNegative(values, from, to);
+		if (index >= 0) {
+			Failures.throwIllegalNegativeArgument(name, index, values[index]);
+		}
+		return values;
+	}
+
+	/**
+	 * Ensures that no element of a {@code long} array is smaller than {@code 0}.
+	 * 
+	 * <p>
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#notNegative(long[], String)} and pass as last argument the
+	 * name of the parameter to enhance the exception message.
+	 * 
+	 * @param values
+	 *            an array of numbers
+	 * @return the given array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNegativeArgumentException
+	 *             if an element is smaller than {@code 0}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNegativeArgumentException.class })
+	public static long[] notNegative(@Nonnull final long[] values) {
+		return notNegative(values, EMPTY_ARGUMENT_NAME);
+	}
+
+	/**
+	 * Ensures that no element of a {@code long} array is smaller than {@code 0}.
+	 * 
+	 * <p>
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * 
+	 * @param values
+	 *            an array of numbers
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the given array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNegativeArgumentException
+	 *             if an element is smaller than {@code 0}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNegativeArgumentException.class })
+	public static long[] notNegative(@Nonnull final long[] values, @Nullable final String name) {
+		requireNotNull(values, "values");
+		return notNegative(values, 0, values.length, name);
+	}
+
+	/**
+	 * Ensures that no element of a {@code long} array is smaller than {@code 0}.
+	 * 
+	 * <p>
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * Only the elements from index {@code from} (inclusive) to {@code to} (exclusive) are checked.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#notNegative(long[], int, int, String)} and pass as last
+	 * argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param values
+	 *            an array of numbers
+	 * @param from
+	 *            index of the first element to check (inclusive)
+	 * @param to
+	 *            index after the last element to check (exclusive)
+	 * @return the given array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if {@code from} and {@code to} do not form a valid range within the array
+	 * @throws IllegalNegativeArgumentException
+	 *             if an element is smaller than {@code 0}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNegativeArgumentException.class })
+	public static long[] notNegative(@Nonnull final long[] values, final int from, final int to) {
+		return notNegative(values, from, to, EMPTY_ARGUMENT_NAME);
+	}
+
+	/**
+	 * Ensures that no element of a {@code long} array is smaller than {@code 0}.
+	 * 
+	 * <p>
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * Only the elements from index {@code from} (inclusive) to {@code to} (exclusive) are checked.
+	 * 
+	 * @param values
+	 *            an array of numbers
+	 * @param from
+	 *            index of the first element to check (inclusive)
+	 * @param to
+	 *            index after the last element to check (exclusive)
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the given array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if {@code from} and {@code to} do not form a valid range within the array
+	 * @throws IllegalNegativeArgumentException
+	 *             if an element is smaller than {@code 0}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNegativeArgumentException.class })
+	public static long[] notNegative(@Nonnull final long[] values, final int from, final int to, @Nullable final String name) {
+		requireNotNull(values, "values");
+		requireRange(from, to, values.length);
+		final int index = ArrayScan.indexOfNegative(values, from, to);
+		if (index >= 0) {
+			Failures.throwIllegalNegativeArgument(name, index, values[index]);
 		}
-		return value;
+		return values;
 	}
 
 	/**
@@ -2959,10 +6265,10 @@ public final class Check {
 	 */
 	@Throws(IllegalNullArgumentException.class)
 	public static <T> T notNull(@Nonnull final T reference) {
-		if (reference == null) {
-			throw new IllegalNullArgumentException();
+		if (ELIDE_NOT_NULL) {
+			return reference;
 		}
-		return reference;
+		return requireNotNull(reference);
 	}
 
 	/**
@@ -2978,10 +6284,10 @@ public final class Check {
 	 */
 	@Throws(IllegalNullArgumentException.class)
 	public static <T> T notNull(@Nonnull final T reference, @Nullable final String name) {
-		if (reference == null) {
-			throw new IllegalNullArgumentException(name);
+		if (ELIDE_NOT_NULL) {
+			return reference;
 		}
-		return reference;
+		return requireNotNull(reference, name);
 	}
 
 	/**
@@ -3000,7 +6306,7 @@ public final class Check {
 	@Throws(IllegalPositiveArgumentException.class)
 	public static double notPositive(final double value) {
 		if (value > 0.0) {
-			throw new IllegalPositiveArgumentException(value);
+			Failures.throwIllegalPositiveArgument(value);
 		}
 		return value;
 	}
@@ -3019,7 +6325,7 @@ public final class Check {
 	@Throws(IllegalPositiveArgumentException.class)
 	public static double notPositive(final double value, @Nullable final String name) {
 		if (value > 0.0) {
-			throw new IllegalPositiveArgumentException(name, value);
+			Failures.throwIllegalPositiveArgument(name, value);
 		}
 		return value;
 	}
@@ -3040,7 +6346,7 @@ public final class Check {
 	@Throws(IllegalPositiveArgumentException.class)
 	public static float notPositive(final float value) {
 		if (value > 0.0f) {
-			throw new IllegalPositiveArgumentException(value);
+			Failures.throwIllegalPositiveArgument(value);
 		}
 		return value;
 	}
@@ -3059,7 +6365,7 @@ public final class Check {
 	@Throws(IllegalPositiveArgumentException.class)
 	public static float notPositive(final float value, @Nullable final String name) {
 		if (value > 0.0f) {
-			throw new IllegalPositiveArgumentException(name, value);
+			Failures.throwIllegalPositiveArgument(name, value);
 		}
 		return value;
 	}
@@ -3080,7 +6386,7 @@ public final class Check {
 	@Throws(IllegalPositiveArgumentException.class)
 	public static int notPositive(final int value) {
 		if (value > 0) {
-			throw new IllegalPositiveArgumentException(value);
+			Failures.throwIllegalPositiveArgument(value);
 		}
 		return value;
 	}
@@ -3099,7 +6405,7 @@ public final class Check {
 	@Throws(IllegalPositiveArgumentException.class)
 	public static int notPositive(final int value, @Nullable final String name) {
 		if (value > 0) {
-			throw new IllegalPositiveArgumentException(name, value);
+			Failures.throwIllegalPositiveArgument(name, value);
 		}
 		return value;
 	}
@@ -3120,7 +6426,7 @@ public final class Check {
 	@Throws(IllegalPositiveArgumentException.class)
 	public static long notPositive(final long value) {
 		if (value > 0L) {
-			throw new IllegalPositiveArgumentException(value);
+			Failures.throwIllegalPositiveArgument(value);
 		}
 		return value;
 	}
@@ -3139,7 +6445,7 @@ public final class Check {
 	@Throws(IllegalPositiveArgumentException.class)
 	public static long notPositive(final long value, @Nullable final String name) {
 		if (value > 0L) {
-			throw new IllegalPositiveArgumentException(name, value);
+			Failures.throwIllegalPositiveArgument(name, value);
 		}
 		return value;
 	}
@@ -3160,7 +6466,7 @@ public final class Check {
 	@Throws(IllegalPositiveArgumentException.class)
 	public static short notPositive(final short value) {
 		if (value > (short) 0) {
-			throw new IllegalPositiveArgumentException(value);
+			Failures.throwIllegalPositiveArgument(value);
 		}
 		return value;
 	}
@@ -3179,11 +6485,71 @@ public final class Check {
 	@Throws(IllegalPositiveArgumentException.class)
 	public static short notPositive(final short value, @Nullable final String name) {
 		if (value > (short) 0) {
-			throw new IllegalPositiveArgumentException(name, value);
+			Failures.throwIllegalPositiveArgument(name, value);
 		}
 		return value;
 	}
 
+	/**
+	 * Parses the passed {@code value} as an integral number within the given bounds. If the fast parser rejects the
+	 * value, the exact conversion decides whether the value is still valid (e.g. with a leading plus sign) or how the
+	 * illegal value must be reported.
+	 * 
+	 * @param value
+	 *            value which must be a number and in the range of the given datatype.
+	 * @param min
+	 *            lower boundary of the given datatype
+	 * @param max
+	 *            upper boundary of the given datatype
+	 * @param type
+	 *            requested datatype, must be one of {@code Byte, Short, Integer, Long}
+	 * @return the parsed number
+	 * 
+	 * @throws NumberFormatException
+	 *             if the given value can not be parsed as a number
+	 * @throws IllegalNumberRangeException
+	 *             if the given value is not in the range of the given datatype
+	 */
+	private static long parseInRange(@Nonnull final CharSequence value, final long min, final long max, @Nonnull final Class<?> type) {
+		final long number = NumberParser.tryParseLong(value, min, max);
+		if (NumberParser.isRejected(number, value, min, max)) {
+			return checkIntegralNumberInRange(value.toString(), type);
+		}
+		return number;
+	}
+
+	/**
+	 * Parses the passed {@code value} as an integral number within the given bounds and reports a value which is no
+	 * number with an {@code IllegalNumberArgumentException}.
+	 * 
+	 * @param value
+	 *            value which must be a number and in the range of the given datatype.
+	 * @param min
+	 *            lower boundary of the given datatype
+	 * @param max
+	 *            upper boundary of the given datatype
+	 * @param type
+	 *            requested datatype, must be one of {@code Byte, Short, Integer, Long}
+	 * @param name
+	 *            (optional) name of object reference (in source code)
+	 * @return the parsed number
+	 * 
+	 * @throws IllegalNumberArgumentException
+	 *             if the given value can not be parsed as a number
+	 * @throws IllegalNumberRangeException
+	 *             if the given value is not in the range of the given datatype
+	 */
+	private static long parseInRange(@Nonnull final CharSequence value, final long min, final long max, @Nonnull final Class<?> type,
+			@Nullable final String name) {
+		long number = 0;
+		try {
+			number = parseInRange(value, min, max, type);
+		} catch (final NumberFormatException nfe) {
+			Failures.throwIllegalNumberArgument(name, value, nfe);
+		}
+		return number;
+	}
+
 	/**
 	 * Ensures that a given position index is valid within the size of an array, list or string ...
 	 * 
@@ -3199,13 +6565,150 @@ public final class Check {
 	 */
 	@Throws(IllegalPositionIndexException.class)
 	public static int positionIndex(final int index, final int size) {
-		final boolean isIndexValid = (size >= 0) && (index >= 0) && (index < size);
+		if (ELIDE_RANGE) {
+			return index;
+		}
+		return requirePositionIndex(index, size);
+	}
+
+	/**
+	 * Ensures that all elements of an {@code int} array are valid position indices within the size of an array, list or
+	 * string.
+	 * 
+	 * <p>
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#positionIndex(int[], int, String)} and pass as last
+	 * argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param values
+	 *            an array of indices
+	 * @param size
+	 *            size of an array, list or string
+	 * @return the given array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalPositionIndexException
+	 *             if an element is not a valid position index
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalPositionIndexException.class })
+	public static int[] positionIndex(@Nonnull final int[] values, final int size) {
+		return positionIndex(values, size, EMPTY_ARGUMENT_NAME);
+	}
 
-		if (!isIndexValid) {
-			throw new IllegalPositionIndexException(index, size);
+	/**
+	 * Ensures that all elements of an {@code int} array are valid position indices within the size of an array, list or
+	 * string.
+	 * 
+	 * <p>
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * 
+	 * @param values
+	 *            an array of indices
+	 * @param size
+	 *            size of an array, list or string
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the given array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalPositionIndexException
+	 *             if an element is not a valid position index
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalPositionIndexException.class })
+	public static int[] positionIndex(@Nonnull final int[] values, final int size, @Nullable final String name) {
+		if (ELIDE_RANGE) {
+			return values;
 		}
+		requireNotNull(values, "values");
+		return positionIndex(values, 0, values.length, size, name);
+	}
 
-		return index;
+	/**
+	 * Ensures that all elements of an {@code int} array are valid position indices within the size of an array, list or
+	 * string.
+	 * 
+	 * <p>
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * Only the elements from index {@code from} (inclusive) to {@code to} (exclusive) are checked.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#positionIndex(int[], int, int, int, String)} and pass as
+	 * last argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param values
+	 *            an array of indices
+	 * @param from
+	 *            index of the first element to check (inclusive)
+	 * @param to
+	 *            index after the last element to check (exclusive)
+	 * @param size
+	 *            size of an array, list or string
+	 * @return the given array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if {@code from} and {@code to} do not form a valid range within the array
+	 * @throws IllegalPositionIndexException
+	 *             if an element is not a valid position index
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalPositionIndexException.class })
+	public static int[] positionIndex(@Nonnull final int[] values, final int from, final int to, final int size) {
+		return positionIndex(values, from, to, size, EMPTY_ARGUMENT_NAME);
+	}
+
+	/**
+	 * Ensures that all elements of an {@code int} array are valid position indices within the size of an array, list or
+	 * string.
+	 * 
+	 * <p>
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * Only the elements from index {@code from} (inclusive) to {@code to} (exclusive) are checked.
+	 * 
+	 * @param values
+	 *            an array of indices
+	 * @param from
+	 *            index of the first element to check (inclusive)
+	 * @param to
+	 *            index after the last element to check (exclusive)
+	 * @param size
+	 *            size of an array, list or string
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @return the given array
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if {@code from} and {@code to} do not form a valid range within the array
+	 * @throws IllegalPositionIndexException
+	 *             if an element is not a valid position index
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalPositionIndexException.class })
+	public static int[] positionIndex(@Nonnull final int[] values, final int from, final int to, final int size,
+			@Nullable final String name) {
+		if (ELIDE_RANGE) {
+			return values;
+		}
+		requireNotNull(values, "values");
+		requireRange(from, to, values.length);
+		if (size < 0 && from < to) {
+			// a negative size leaves no valid index and size - 1 would overflow for Integer.MIN_VALUE
+			Failures.throwIllegalPositionIndex(name, from, values[from], size);
+		}
+		final int index = ArrayScan.indexOfNotInRange(values, from, to, 0, size - 1);
+		if (index >= 0) {
+			Failures.throwIllegalPositionIndex(name, index, values[index], size);
+		}
+		return values;
 	}
 
 	/**
@@ -3233,11 +6736,109 @@ public final class Check {
 	 */
 	@Throws(IllegalRangeException.class)
 	public static void range(@Nonnegative final int start, @Nonnegative final int end, @Nonnegative final int size) {
-		final boolean rangeIsValid = (start <= size) && (end <= size) && (start <= end);
-		final boolean inputValuesAreValid = (size >= 0) && (start >= 0) && (end >= 0);
+		if (ELIDE_RANGE) {
+			return;
+		}
+		requireRange(start, end, size);
+	}
+
+	/**
+	 * Ensures that an iterable reference is neither {@code null} nor contains any elements that are {@code null}. In
+	 * contrast to {@link #noNullElements(Iterable, String)} this guard is never elided (see {@link CheckElision}), so it
+	 * can protect invariants of Quality-Check itself.
+	 * 
+	 * @param iterable
+	 *            the iterable reference which should not contain {@code null}
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return the passed reference which contains no elements that are {@code null}
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code iterable} is {@code null}
+	 * @throws IllegalNullElementsException
+	 *             if the given argument {@code iterable} contains elements that are {@code null}
+	 */
+	static <T extends Iterable<?>> T requireNoNullElements(@Nullable final T iterable, @Nullable final String name) {
+		requireNotNull(iterable, "iterable");
+		if (containsNullElements(iterable)) {
+			Failures.throwIllegalNullElements(name);
+		}
+		return iterable;
+	}
+
+	/**
+	 * Ensures that an object reference is not {@code null}. In contrast to {@link #notNull(Object)} this guard is never
+	 * elided (see {@link CheckElision}), so it can protect invariants of Quality-Check itself.
+	 * 
+	 * @param reference
+	 *            an object reference
+	 * @return the non-null reference that was validated
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code reference} is {@code null}
+	 */
+	static <T> T requireNotNull(@Nullable final T reference) {
+		if (reference == null) {
+			Failures.throwIllegalNullArgument();
+		}
+		return reference;
+	}
+
+	/**
+	 * Ensures that an object reference is not {@code null}. In contrast to {@link #notNull(Object, String)} this guard is
+	 * never elided (see {@link CheckElision}), so it can protect invariants of Quality-Check itself.
+	 * 
+	 * @param reference
+	 *            an object reference
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return the non-null reference that was validated
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code reference} is {@code null}
+	 */
+	static <T> T requireNotNull(@Nullable final T reference, @Nullable final String name) {
+		if (reference == null) {
+			Failures.throwIllegalNullArgument(name);
+		}
+		return reference;
+	}
+
+	/**
+	 * Ensures that a given position index is valid within the size of an array, list or string. In contrast to
+	 * {@link #positionIndex(int, int)} this guard is never elided (see {@link CheckElision}), so it can protect
+	 * invariants of Quality-Check itself.
+	 * 
+	 * @param index
+	 *            index of an array, list or string
+	 * @param size
+	 *            size of an array list or string
+	 * @return the index
+	 * @throws IllegalPositionIndexException
+	 *             if the index is not a valid position index within an array, list or string of size <em>size</em>
+	 */
+	static int requirePositionIndex(final int index, final int size) {
+		// a negative size leaves no valid index
+		if (index < 0 || index >= size) {
+			Failures.throwIllegalPositionIndex(index, size);
+		}
+		return index;
+	}
 
-		if (!rangeIsValid || !inputValuesAreValid) {
-			throw new IllegalRangeException(start, end, size);
+	/**
+	 * Ensures that the given arguments are a valid range. In contrast to {@link #range(int, int, int)} this guard is
+	 * never elided (see {@link CheckElision}), so it can protect invariants of Quality-Check itself.
+	 * 
+	 * @param start
+	 *            the start value of the range
+	 * @param end
+	 *            the end value of the range
+	 * @param size
+	 *            the size value of the range
+	 * @throws IllegalRangeException
+	 *             if the given arguments do not form a valid range
+	 */
+	static void requireRange(final int start, final int end, final int size) {
+		// 0 <= start <= end <= size implies that all values are not negative
+		if (start < 0 || start > end || end > size) {
+			Failures.throwIllegalRange(start, end, size);
 		}
 	}
 
@@ -3259,7 +6860,7 @@ public final class Check {
 	@Throws(IllegalStateOfArgumentException.class)
 	public static void stateIsTrue(final boolean expression) {
 		if (!expression) {
-			throw new IllegalStateOfArgumentException();
+			Failures.throwIllegalStateOfArgument();
 		}
 	}
 
@@ -3267,6 +6868,10 @@ public final class Check {
 	 * Ensures that a given state is {@code true} and allows to specify the class of exception which is thrown in case
 	 * the state is not {@code true}.
 	 * 
+	 * <p>
+	 * To avoid reflection entirely we recommend to use the overloaded method
+	 * {@link Check#stateIsTrue(boolean, ExceptionFactory, String)} instead.
+	 * 
 	 * @param expression
 	 *            an expression that must be {@code true} to indicate a valid state
 	 * @param clazz
@@ -3280,18 +6885,57 @@ public final class Check {
 	@ArgumentsChecked
 	@Throws({ IllegalNullArgumentException.class, RuntimeInstantiationException.class })
 	public static void stateIsTrue(final boolean expression, final Class<? extends RuntimeException> clazz) {
-		Check.notNull(clazz, "clazz");
+		requireNotNull(clazz, "clazz");
 
 		if (!expression) {
-			RuntimeException re;
-			try {
-				re = clazz.newInstance();
-			} catch (final InstantiationException e) {
-				throw new RuntimeInstantiationException(clazz.getSimpleName(), e);
-			} catch (final IllegalAccessException e) {
-				throw new RuntimeInstantiationException(clazz.getSimpleName(), e);
-			}
-			throw re;
+			Failures.throwNewInstance(clazz);
+		}
+	}
+
+	/**
+	 * Ensures that a given state is {@code true}. The description is requested from the given supplier not until the
+	 * message of the thrown exception is rendered, so that an expensive description costs nothing as long as the state
+	 * is valid.
+	 * 
+	 * @param expression
+	 *            an expression that must be {@code true} to indicate a valid state
+	 * @param description
+	 *            supplies the description which explains why the state is invalid
+	 * @throws IllegalNullArgumentException
+	 *             if the given {@code description} is {@code null}
+	 * @throws IllegalStateOfArgumentException
+	 *             if the given arguments caused an invalid state
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalStateOfArgumentException.class })
+	public static void stateIsTrue(final boolean expression, @Nonnull final DescriptionSupplier description) {
+		requireNotNull(description, "description");
+		if (!expression) {
+			Failures.throwIllegalStateOfArgument(description);
+		}
+	}
+
+	/**
+	 * Ensures that a given state is {@code true} and throws an exception created by the given factory otherwise. In
+	 * contrast to {@link Check#stateIsTrue(boolean, Class)} no reflection is involved.
+	 * 
+	 * @param expression
+	 *            an expression that must be {@code true} to indicate a valid state
+	 * @param factory
+	 *            creates the exception which will be thrown if the given state is not valid
+	 * @param message
+	 *            detail message of the exception
+	 * @throws IllegalNullArgumentException
+	 *             if the given {@code factory} is {@code null}
+	 * @throws RuntimeException
+	 *             the exception created by the given {@code factory} if the given arguments caused an invalid state
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	public static void stateIsTrue(final boolean expression, @Nonnull final ExceptionFactory<?> factory, @Nonnull final String message) {
+		requireNotNull(factory, "factory");
+		if (!expression) {
+			Failures.throwCreated(factory, message);
 		}
 	}
 
@@ -3308,7 +6952,123 @@ public final class Check {
 	@Throws(IllegalStateOfArgumentException.class)
 	public static void stateIsTrue(final boolean expression, @Nonnull final String description) {
 		if (!expression) {
-			throw new IllegalStateOfArgumentException(description);
+			Failures.throwIllegalStateOfArgument(description);
+		}
+	}
+
+	/**
+	 * Ensures that a given state is {@code true}. In contrast to {@link Check#stateIsTrue(boolean, String, Object...)}
+	 * this method takes a fixed number of arguments, so that no array is allocated as long as the state is valid.
+	 * 
+	 * <p>
+	 * A primitive argument (e.g. an {@code int} or {@code long}) is still boxed at the call site, even if the state is
+	 * valid. There are no primitive overloads, because a {@code char}, {@code byte} or {@code short} argument would be
+	 * widened to them and rendered differently. To avoid the boxing, pass a {@link DescriptionSupplier} instead.
+	 * 
+	 * @param expression
+	 *            an expression that must be {@code true} to indicate a valid state
+	 * @param descriptionTemplate
+	 *            format string template that explains why the state is invalid
+	 * @param arg1
+	 *            first format string template argument
+	 * @throws IllegalStateOfArgumentException
+	 *             if the given arguments caused an invalid state
+	 */
+	@Throws(IllegalStateOfArgumentException.class)
+	public static void stateIsTrue(final boolean expression, @Nonnull final String descriptionTemplate,
+			final Object arg1) {
+		if (!expression) {
+			Failures.throwIllegalStateOfArgument(descriptionTemplate, arg1);
+		}
+	}
+
+	/**
+	 * Ensures that a given state is {@code true}. In contrast to {@link Check#stateIsTrue(boolean, String, Object...)}
+	 * this method takes a fixed number of arguments, so that no array is allocated as long as the state is valid.
+	 * 
+	 * <p>
+	 * A primitive argument (e.g. an {@code int} or {@code long}) is still boxed at the call site, even if the state is
+	 * valid. There are no primitive overloads, because a {@code char}, {@code byte} or {@code short} argument would be
+	 * widened to them and rendered differently. To avoid the boxing, pass a {@link DescriptionSupplier} instead.
+	 * 
+	 * @param expression
+	 *            an expression that must be {@code true} to indicate a valid state
+	 * @param descriptionTemplate
+	 *            format string template that explains why the state is invalid
+	 * @param arg1
+	 *            first format string template argument
+	 * @param arg2
+	 *            second format string template argument
+	 * @throws IllegalStateOfArgumentException
+	 *             if the given arguments caused an invalid state
+	 */
+	@Throws(IllegalStateOfArgumentException.class)
+	public static void stateIsTrue(final boolean expression, @Nonnull final String descriptionTemplate,
+			final Object arg1, final Object arg2) {
+		if (!expression) {
+			Failures.throwIllegalStateOfArgument(descriptionTemplate, arg1, arg2);
+		}
+	}
+
+	/**
+	 * Ensures that a given state is {@code true}. In contrast to {@link Check#stateIsTrue(boolean, String, Object...)}
+	 * this method takes a fixed number of arguments, so that no array is allocated as long as the state is valid.
+	 * 
+	 * <p>
+	 * A primitive argument (e.g. an {@code int} or {@code long}) is still boxed at the call site, even if the state is
+	 * valid. There are no primitive overloads, because a {@code char}, {@code byte} or {@code short} argument would be
+	 * widened to them and rendered differently. To avoid the boxing, pass a {@link DescriptionSupplier} instead.
+	 * 
+	 * @param expression
+	 *            an expression that must be {@code true} to indicate a valid state
+	 * @param descriptionTemplate
+	 *            format string template that explains why the state is invalid
+	 * @param arg1
+	 *            first format string template argument
+	 * @param arg2
+	 *            second format string template argument
+	 * @param arg3
+	 *            third format string template argument
+	 * @throws IllegalStateOfArgumentException
+	 *             if the given arguments caused an invalid state
+	 */
+	@Throws(IllegalStateOfArgumentException.class)
+	public static void stateIsTrue(final boolean expression, @Nonnull final String descriptionTemplate,
+			final Object arg1, final Object arg2, final Object arg3) {
+		if (!expression) {
+			Failures.throwIllegalStateOfArgument(descriptionTemplate, arg1, arg2, arg3);
+		}
+	}
+
+	/**
+	 * Ensures that a given state is {@code true}. In contrast to {@link Check#stateIsTrue(boolean, String, Object...)}
+	 * this method takes a fixed number of arguments, so that no array is allocated as long as the state is valid.
+	 * 
+	 * <p>
+	 * A primitive argument (e.g. an {@code int} or {@code long}) is still boxed at the call site, even if the state is
+	 * valid. There are no primitive overloads, because a {@code char}, {@code byte} or {@code short} argument would be
+	 * widened to them and rendered differently. To avoid the boxing, pass a {@link DescriptionSupplier} instead.
+	 * 
+	 * @param expression
+	 *            an expression that must be {@code true} to indicate a valid state
+	 * @param descriptionTemplate
+	 *            format string template that explains why the state is invalid
+	 * @param arg1
+	 *            first format string template argument
+	 * @param arg2
+	 *            second format string template argument
+	 * @param arg3
+	 *            third format string template argument
+	 * @param arg4
+	 *            fourth format string template argument
+	 * @throws IllegalStateOfArgumentException
+	 *             if the given arguments caused an invalid state
+	 */
+	@Throws(IllegalStateOfArgumentException.class)
+	public static void stateIsTrue(final boolean expression, @Nonnull final String descriptionTemplate,
+			final Object arg1, final Object arg2, final Object arg3, final Object arg4) {
+		if (!expression) {
+			Failures.throwIllegalStateOfArgument(descriptionTemplate, arg1, arg2, arg3, arg4);
 		}
 	}
 
@@ -3328,7 +7088,7 @@ public final class Check {
 	public static void stateIsTrue(final boolean expression, @Nonnull final String descriptionTemplate,
 			final Object... descriptionTemplateArgs) {
 		if (!expression) {
-			throw new IllegalStateOfArgumentException(descriptionTemplate, descriptionTemplateArgs);
+			Failures.throwIllegalStateOfArgument(descriptionTemplate, descriptionTemplateArgs);
 		}
 	}
 
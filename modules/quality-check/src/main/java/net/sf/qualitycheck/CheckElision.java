@@ -0,0 +1,185 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+
+/**
+ * JVM-wide switch which turns whole families of checks into pass-throughs, similar to disabled {@code assert}
+ * statements. An elided check returns its argument without validating it, so a latency-critical deployment can skip
+ * checks which were fully validated in staging.
+ * 
+ * <p>
+ * No family is elided by default. Families can be elided by starting the JVM with the system property
+ * {@code -Dnet.sf.qualitycheck.elide=NOT_NULL,RANGE} (a comma separated list of {@link CheckFamily} names, ignoring
+ * case) or by calling {@link #setElided(CheckFamily, boolean)} before the class {@link Check} is initialized. The
+ * setting is read exactly once, when {@link Check} is initialized, and is kept in {@code static final} fields
+ * afterwards. The JIT compiler folds these fields into constants, therefore an active check costs nothing extra and an
+ * elided check costs nothing at all.
+ * 
+ * <p>
+ * The setting can <strong>not</strong> be changed at runtime. Java 6 offers no mechanism like
+ * {@code java.lang.invoke.SwitchPoint} to invalidate compiled code when a switch flips, and a mutable field would add
+ * a memory read to every check. Restart the JVM to change the setting.
+ * 
+ * <p>
+ * <strong>Attention:</strong> Only the checks of a family themselves are elided. An elided {@link CheckFamily#NOT_NULL}
+ * skips {@code Check.notNull}, but the guards which other checks run on their own arguments (e.g. that a pattern is
+ * not {@code null}) are still performed and throw an {@link IllegalNullArgumentException} as before.
+ * 
+ * @author André Rouél
+ */
+public final class CheckElision {
+
+	/**
+	 * Name of the system property which lists the elided families
+	 */
+	public static final String PROPERTY_ELIDED_FAMILIES = "net.sf.qualitycheck.elide";
+
+	/**
+	 * Setting which has been made programmatically or by the system property, {@code null} if not read yet
+	 */
+	@Nullable
+	private static Set<CheckFamily> elided;
+
+	/**
+	 * Indicates that the setting has been read and cannot be changed anymore
+	 */
+	private static boolean resolved;
+
+	/**
+	 * Returns the elided families, reads the system property if necessary.
+	 * 
+	 * @return the elided families
+	 */
+	@Nonnull
+	private static Set<CheckFamily> elided() {
+		if (elided == null) {
+			elided = parse(readSystemProperty());
+		}
+		return elided;
+	}
+
+	/**
+	 * Returns whether the given family of checks is elided. After calling this method the setting cannot be changed
+	 * anymore.
+	 * 
+	 * @param family
+	 *            family of checks
+	 * @return {@code true} if the checks of the given family are pass-throughs, otherwise {@code false}
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given family is {@code null}
+	 */
+	public static synchronized boolean isElided(@Nonnull final CheckFamily family) {
+		if (family == null) {
+			// Check.notNull cannot be used, because this class is needed to initialize Check
+			throw new IllegalNullArgumentException("family");
+		}
+		resolved = true;
+		return elided().contains(family);
+	}
+
+	/**
+	 * Returns whether the setting has already been read and therefore cannot be changed anymore.
+	 * 
+	 * @return {@code true} if the setting is fixed, otherwise {@code false}
+	 */
+	public static synchronized boolean isResolved() {
+		return resolved;
+	}
+
+	/**
+	 * Parses a comma separated list of family names. Unknown names are ignored.
+	 * 
+	 * @param value
+	 *            value of the system property or {@code null}
+	 * @return the listed families
+	 */
+	@Nonnull
+	static Set<CheckFamily> parse(@Nullable final String value) {
+		final Set<CheckFamily> families = EnumSet.noneOf(CheckFamily.class);
+		if (value != null) {
+			for (final String name : value.split(",")) {
+				final String trimmed = name.trim().toUpperCase(Locale.ENGLISH);
+				for (final CheckFamily family : CheckFamily.values()) {
+					if (family.name().equals(trimmed)) {
+						families.add(family);
+					}
+				}
+			}
+		}
+		return families;
+	}
+
+	/**
+	 * Reads the system property {@link #PROPERTY_ELIDED_FAMILIES}.
+	 * 
+	 * @return value of the system property or {@code null}
+	 */
+	@Nullable
+	private static String readSystemProperty() {
+		try {
+			return System.getProperty(PROPERTY_ELIDED_FAMILIES);
+		} catch (final SecurityException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Determines whether a family of checks should be elided. This setting is combined with the system property
+	 * {@link #PROPERTY_ELIDED_FAMILIES}, but it must be made before the class {@link Check} is initialized, typically
+	 * at the very beginning of the {@code main} method.
+	 * 
+	 * @param family
+	 *            family of checks
+	 * @param elide
+	 *            {@code true} to turn the checks of the family into pass-throughs, {@code false} to perform them
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given family is {@code null}
+	 * @throws IllegalStateException
+	 *             if the setting has already been read
+	 */
+	public static synchronized void setElided(@Nonnull final CheckFamily family, final boolean elide) {
+		if (family == null) {
+			throw new IllegalNullArgumentException("family");
+		}
+		if (resolved) {
+			throw new IllegalStateException("The elided check families have already been determined and cannot be changed anymore.");
+		}
+		if (elide) {
+			elided().add(family);
+		} else {
+			elided().remove(family);
+		}
+	}
+
+	/**
+	 * <strong>Attention:</strong> This class is not intended to create objects from it.
+	 */
+	private CheckElision() {
+		// This class is not intended to create objects from it.
+	}
+
+}
@@ -0,0 +1,51 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import net.sf.qualitycheck.exception.QualityCheckException;
+
+/**
+ * Listener which is notified about every failed check, e.g. to forward the failures to a monitoring system.
+ * 
+ * <p>
+ * A listener is registered as service provider, i.e. its fully qualified class name is listed in the file
+ * {@code META-INF/services/net.sf.qualitycheck.CheckFailureListener} on the classpath. The first listener found is
+ * loaded once, when the exception classes of Quality-Check are initialized. A listener which cannot be loaded, e.g.
+ * because it depends on classes of a newer JDK, is ignored. Without a listener the notification is removed by the JIT
+ * compiler completely.
+ * 
+ * <p>
+ * The listener is notified from within the constructor of each exception of Quality-Check and therefore from many
+ * threads at the same time. It must be thread-safe, should return quickly and must not throw exceptions.
+ * 
+ * @author André Rouél
+ */
+public interface CheckFailureListener {
+
+	/**
+	 * Will be called when a check failed and its exception has been created.
+	 * 
+	 * @param type
+	 *            type of the created exception, which identifies the family of the failed check
+	 * @param argumentName
+	 *            the name of the passed argument or {@code null} if unknown
+	 */
+	void failed(@Nonnull Class<? extends QualityCheckException> type, @Nullable String argumentName);
+
+}
@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+/**
+ * Families of checks in {@link Check} which can be elided as a whole, see {@link CheckElision}. The checks of
+ * {@link ConditionalCheck} delegate to {@link Check} and are therefore elided too.
+ * 
+ * @author André Rouél
+ */
+public enum CheckFamily {
+
+	/**
+	 * {@code Check.noNullElements}
+	 */
+	NO_NULL_ELEMENTS,
+
+	/**
+	 * {@code Check.notEmpty}
+	 */
+	NOT_EMPTY,
+
+	/**
+	 * {@code Check.notNull}, but not the {@code null} checks which other checks perform on their own arguments
+	 */
+	NOT_NULL,
+
+	/**
+	 * {@code Check.matchesPattern}
+	 */
+	PATTERN,
+
+	/**
+	 * {@code Check.allInRange}, {@code Check.between}, {@code Check.inRange}, {@code Check.positionIndex} and
+	 * {@code Check.range}
+	 */
+	RANGE;
+
+}
@@ -0,0 +1,307 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import net.sf.qualitycheck.exception.IllegalNegativeArgumentException;
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+
+/**
+ * Registry of metrics about failed checks, which can be read in production without attaching a profiler. It counts
+ * the failures per exception type, i.e. per family of checks, and per name of the passed argument.
+ * 
+ * <p>
+ * The metrics are disabled by default. They can be enabled by starting the JVM with the system property
+ * {@code -Dnet.sf.qualitycheck.metrics.enabled=true}. The property is read exactly once, when the exception classes of
+ * Quality-Check are initialized, and is kept in a {@code static final} field afterwards. When the metrics are
+ * disabled the JIT compiler removes the recording completely. When they are enabled, the registry is also exposed as
+ * {@link CheckMetricsMXBean} with the name {@value #OBJECT_NAME}.
+ * 
+ * <p>
+ * Only failed checks are counted, they are recorded when an exception of Quality-Check is created. Counting passed
+ * checks would add work to the success path of every check, which is the path that must stay free of any overhead.
+ * 
+ * @author André Rouél
+ */
+public final class CheckMetrics implements CheckMetricsMXBean {
+
+	/**
+	 * Maximum number of distinct argument names which are counted separately by the default registry
+	 */
+	public static final int MAXIMUM_ARGUMENT_NAMES = 256;
+
+	/**
+	 * Name under which the default registry is registered with the platform MBean server
+	 */
+	public static final String OBJECT_NAME = "net.sf.qualitycheck:type=CheckMetrics";
+
+	/**
+	 * Key under which all argument names are summarized which exceed the maximum number of distinct names
+	 */
+	public static final String OTHER_ARGUMENT_NAMES = "(other)";
+
+	/**
+	 * Name of the system property to enable the metrics
+	 */
+	public static final String PROPERTY_ENABLED = "net.sf.qualitycheck.metrics.enabled";
+
+	/**
+	 * Indicates whether the metrics have been enabled by the system property {@link #PROPERTY_ENABLED}
+	 */
+	private static final boolean ENABLED = readEnabled();
+
+	/**
+	 * Default registry which is used by the exceptions of Quality-Check
+	 */
+	private static final CheckMetrics INSTANCE = createDefault(ENABLED);
+
+	/**
+	 * Creates the default registry and registers it with the platform MBean server, if the metrics are enabled.
+	 * 
+	 * @param enabled
+	 *            whether failed checks should be recorded
+	 * @return the default registry
+	 */
+	private static CheckMetrics createDefault(final boolean enabled) {
+		final CheckMetrics metrics = new CheckMetrics(enabled, MAXIMUM_ARGUMENT_NAMES);
+		if (enabled) {
+			register(metrics);
+		}
+		return metrics;
+	}
+
+	/**
+	 * Gets the default registry, which is used by the exceptions of Quality-Check.
+	 * 
+	 * @return the default registry
+	 */
+	@Nonnull
+	public static CheckMetrics getDefault() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Reads the system property {@link #PROPERTY_ENABLED}. Only the value {@code true} (ignoring case) enables the
+	 * metrics.
+	 * 
+	 * @return {@code true} if the system property is set to {@code true}, otherwise {@code false}
+	 */
+	private static boolean readEnabled() {
+		try {
+			return Boolean.parseBoolean(System.getProperty(PROPERTY_ENABLED));
+		} catch (final SecurityException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Registers the given registry with the platform MBean server. A failed registration, e.g. because a registry of
+	 * another class loader has already been registered, does not affect the recording.
+	 * 
+	 * @param metrics
+	 *            registry to register
+	 */
+	private static void register(@Nonnull final CheckMetrics metrics) {
+		try {
+			ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, new ObjectName(OBJECT_NAME));
+		} catch (final JMException e) {
+			// the metrics are still available via the pull API
+		} catch (final SecurityException e) {
+			// the metrics are still available via the pull API
+		}
+	}
+
+	/**
+	 * Failures per name of the passed argument
+	 */
+	@Nonnull
+	private final ConcurrentMap<String, AtomicLong> argumentNames = new ConcurrentHashMap<String, AtomicLong>();
+
+	/**
+	 * Indicates whether failed checks are recorded
+	 */
+	private final boolean enabled;
+
+	/**
+	 * Failures per fully qualified name of the exception type
+	 */
+	@Nonnull
+	private final ConcurrentMap<String, StripedCounter> failures = new ConcurrentHashMap<String, StripedCounter>();
+
+	/**
+	 * Maximum number of distinct argument names which are counted separately
+	 */
+	private final int maximumArgumentNames;
+
+	/**
+	 * Creates a new registry.
+	 * 
+	 * @param enabled
+	 *            whether failed checks should be recorded
+	 * @param maximumArgumentNames
+	 *            maximum number of distinct argument names which are counted separately
+	 * 
+	 * @throws IllegalNegativeArgumentException
+	 *             if the given maximum number of argument names is negative
+	 */
+	@ArgumentsChecked
+	CheckMetrics(final boolean enabled, @Nonnegative final int maximumArgumentNames) {
+		this.enabled = enabled;
+		this.maximumArgumentNames = Check.notNegative(maximumArgumentNames, "maximumArgumentNames");
+	}
+
+	/**
+	 * Gets the number of failed checks for the given argument name.
+	 * 
+	 * @param name
+	 *            name of the passed argument or {@link #OTHER_ARGUMENT_NAMES}
+	 * @return number of failed checks
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given name is {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	public long getArgumentNameFailureCount(@Nonnull final String name) {
+		final AtomicLong counter = argumentNames.get(Check.requireNotNull(name, "name"));
+		return counter != null ? counter.get() : 0L;
+	}
+
+	@Override
+	@Nonnull
+	public Map<String, Long> getArgumentNameFailureCounts() {
+		final Map<String, Long> snapshot = new TreeMap<String, Long>();
+		for (final Map.Entry<String, AtomicLong> entry : argumentNames.entrySet()) {
+			snapshot.put(entry.getKey(), Long.valueOf(entry.getValue().get()));
+		}
+		return snapshot;
+	}
+
+	/**
+	 * Gets the number of failed checks which have thrown an exception of the given type.
+	 * 
+	 * @param type
+	 *            type of the exception
+	 * @return number of failed checks
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given type is {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	public long getFailureCount(@Nonnull final Class<? extends Throwable> type) {
+		final StripedCounter counter = failures.get(Check.requireNotNull(type, "type").getName());
+		return counter != null ? counter.sum() : 0L;
+	}
+
+	@Override
+	@Nonnull
+	public Map<String, Long> getFailureCounts() {
+		final Map<String, Long> snapshot = new TreeMap<String, Long>();
+		for (final Map.Entry<String, StripedCounter> entry : failures.entrySet()) {
+			snapshot.put(entry.getKey(), Long.valueOf(entry.getValue().sum()));
+		}
+		return snapshot;
+	}
+
+	@Override
+	public long getTotalFailureCount() {
+		long total = 0L;
+		for (final StripedCounter counter : failures.values()) {
+			total += counter.sum();
+		}
+		return total;
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Records a failed check for the given argument name. Empty names are ignored. This method is called by the
+	 * exceptions of Quality-Check and does nothing if the metrics are disabled.
+	 * 
+	 * @param name
+	 *            name of the passed argument
+	 */
+	public void recordArgumentName(@Nullable final String name) {
+		if (!enabled || name == null || name.isEmpty()) {
+			return;
+		}
+		AtomicLong counter = argumentNames.get(name);
+		if (counter == null) {
+			final String key = argumentNames.size() < maximumArgumentNames ? name : OTHER_ARGUMENT_NAMES;
+			counter = argumentNames.get(key);
+			if (counter == null) {
+				final AtomicLong created = new AtomicLong();
+				counter = argumentNames.putIfAbsent(key, created);
+				if (counter == null) {
+					counter = created;
+				}
+			}
+		}
+		counter.incrementAndGet();
+	}
+
+	/**
+	 * Records a failed check which has thrown an exception of the given type. This method is called by the exceptions
+	 * of Quality-Check and does nothing if the metrics are disabled.
+	 * 
+	 * @param type
+	 *            type of the exception
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given type is {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	public void recordFailure(@Nonnull final Class<? extends Throwable> type) {
+		Check.requireNotNull(type, "type");
+		if (!enabled) {
+			return;
+		}
+		final String key = type.getName();
+		StripedCounter counter = failures.get(key);
+		if (counter == null) {
+			final StripedCounter created = new StripedCounter();
+			counter = failures.putIfAbsent(key, created);
+			if (counter == null) {
+				counter = created;
+			}
+		}
+		counter.increment();
+	}
+
+	@Override
+	public void reset() {
+		argumentNames.clear();
+		failures.clear();
+	}
+
+}
@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.util.Map;
+
+/**
+ * Management interface of {@link CheckMetrics}, which is registered with the platform MBean server under the name
+ * {@value CheckMetrics#OBJECT_NAME} when the metrics are enabled.
+ * 
+ * @author André Rouél
+ */
+public interface CheckMetricsMXBean {
+
+	/**
+	 * Gets the number of failed checks per name of the passed argument. Names which were recorded after the
+	 * {@link CheckMetrics#MAXIMUM_ARGUMENT_NAMES maximum number of names} was reached are summarized under
+	 * {@value CheckMetrics#OTHER_ARGUMENT_NAMES}.
+	 * 
+	 * @return snapshot of the failures per argument name
+	 */
+	Map<String, Long> getArgumentNameFailureCounts();
+
+	/**
+	 * Gets the number of failed checks per type of the thrown exception. Each family of checks has its own exception
+	 * type, e.g. {@code notNull} throws {@code IllegalNullArgumentException}.
+	 * 
+	 * @return snapshot of the failures per fully qualified name of the exception type
+	 */
+	Map<String, Long> getFailureCounts();
+
+	/**
+	 * Gets the number of all failed checks.
+	 * 
+	 * @return number of all failed checks
+	 */
+	long getTotalFailureCount();
+
+	/**
+	 * Returns whether failed checks are recorded.
+	 * 
+	 * @return {@code true} if the metrics have been enabled by the system property {@value CheckMetrics#PROPERTY_ENABLED},
+	 *         otherwise {@code false}
+	 */
+	boolean isEnabled();
+
+	/**
+	 * Sets all counters to zero.
+	 */
+	void reset();
+
+}
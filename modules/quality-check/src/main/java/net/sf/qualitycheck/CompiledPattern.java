@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.nio.ByteBuffer;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+
+/**
+ * An immutable regular expression which can be used with {@link Check#matchesPattern(CompiledPattern, CharSequence)}
+ * and {@link Check#matchesPattern(CompiledPattern, ByteBuffer)}.
+ * 
+ * <p>
+ * Most expressions used for input validation, like character classes, fixed-length addresses or hexadecimal
+ * identifiers, belong to the regular subset of the syntax of {@link Pattern}. Such an expression is compiled
+ * additionally into a table-driven deterministic automaton, which matches in linear time without backtracking and
+ * without allocating a {@link java.util.regex.Matcher}. All other expressions, e.g. with back references, lookaround
+ * or flags, are matched by the {@link Pattern} as usual. Both ways give the same result.
+ * 
+ * @author André Rouél
+ */
+@Immutable
+public final class CompiledPattern {
+
+	/**
+	 * Compiles the given regular expression.
+	 * 
+	 * @param regex
+	 *            regular expression
+	 * @return the compiled expression
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code regex} is {@code null}
+	 * @throws PatternSyntaxException
+	 *             if the given regular expression is invalid
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	public static CompiledPattern compile(@Nonnull final String regex) {
+		Check.requireNotNull(regex, "regex");
+		return new CompiledPattern(Pattern.compile(regex));
+	}
+
+	/**
+	 * Compiles the expression of the given pattern, considering its flags.
+	 * 
+	 * @param pattern
+	 *            a pattern
+	 * @return the compiled expression
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code pattern} is {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	public static CompiledPattern of(@Nonnull final Pattern pattern) {
+		Check.requireNotNull(pattern, "pattern");
+		return new CompiledPattern(pattern);
+	}
+
+	/**
+	 * Automaton of the expression or {@code null} if the expression is not regular
+	 */
+	@Nullable
+	private final DeterministicAutomaton automaton;
+
+	private final Pattern pattern;
+
+	private CompiledPattern(@Nonnull final Pattern pattern) {
+		this.pattern = pattern;
+		automaton = DeterministicAutomaton.compile(pattern);
+	}
+
+	/**
+	 * Returns whether the expression is matched by a deterministic automaton instead of the {@link Pattern}.
+	 * 
+	 * @return {@code true} if the expression belongs to the supported regular subset, otherwise {@code false}
+	 */
+	public boolean isDeterministic() {
+		return automaton != null;
+	}
+
+	/**
+	 * Returns whether the remaining bytes of a buffer, each read as ISO-8859-1 character, match this expression. The
+	 * position of the buffer remains unchanged.
+	 * 
+	 * @param buffer
+	 *            buffer whose remaining bytes should match
+	 * @return {@code true} if the bytes match, otherwise {@code false}
+	 */
+	public boolean matches(@Nonnull final ByteBuffer buffer) {
+		if (automaton != null) {
+			return automaton.matches(buffer);
+		}
+		return pattern.matcher(new ByteBufferChars(buffer)).matches();
+	}
+
+	/**
+	 * Returns whether the whole sequence of characters matches this expression.
+	 * 
+	 * @param chars
+	 *            a readable sequence of {@code char} values
+	 * @return {@code true} if the characters match, otherwise {@code false}
+	 */
+	public boolean matches(@Nonnull final CharSequence chars) {
+		if (automaton != null) {
+			final int result = automaton.match(chars);
+			if (result != DeterministicAutomaton.UNDECIDED) {
+				return result == DeterministicAutomaton.MATCH;
+			}
+		}
+		return pattern.matcher(chars).matches();
+	}
+
+	/**
+	 * Gets the pattern of this expression.
+	 * 
+	 * @return the pattern
+	 */
+	@Nonnull
+	public Pattern pattern() {
+		return pattern;
+	}
+
+	/**
+	 * Returns the regular expression of this pattern.
+	 * 
+	 * @return the regular expression
+	 */
+	@Override
+	public String toString() {
+		return pattern.pattern();
+	}
+
+}
@@ -16,9 +16,13 @@
 package net.sf.qualitycheck;
 
 import java.lang.annotation.Annotation;
+import java.nio.ByteBuffer;
 import java.util.Collection;
 import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.Executor;
 import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
@@ -34,11 +38,13 @@ import net.sf.qualitycheck.exception.IllegalNotContainedArgumentException;
 import net.sf.qualitycheck.exception.IllegalNotEqualException;
 import net.sf.qualitycheck.exception.IllegalNotGreaterOrEqualThanException;
 import net.sf.qualitycheck.exception.IllegalNotGreaterThanException;
+import net.sf.qualitycheck.exception.IllegalNotInRangeException;
 import net.sf.qualitycheck.exception.IllegalNotLesserThanException;
 import net.sf.qualitycheck.exception.IllegalNotNullArgumentException;
 import net.sf.qualitycheck.exception.IllegalNullArgumentException;
 import net.sf.qualitycheck.exception.IllegalNullElementsException;
 import net.sf.qualitycheck.exception.IllegalNumberArgumentException;
+import net.sf.qualitycheck.exception.IllegalNumberRangeException;
 import net.sf.qualitycheck.exception.IllegalNumericArgumentException;
 import net.sf.qualitycheck.exception.IllegalPatternArgumentException;
 import net.sf.qualitycheck.exception.IllegalPositionIndexException;
@@ -84,1902 +90,4829 @@ import net.sf.qualitycheck.exception.RuntimeInstantiationException;
 public final class ConditionalCheck {
 
 	/**
-	 * Ensures that an element {@code needle} is contained in a collection {@code haystack}.
-	 * 
-	 * <p>
-	 * This is in particular useful if you want to check whether an enum value is contained in an {@code EnumSet}. The
-	 * check is implemented using {@link java.util.Collection#contains(Object)}.
+	 * Ensures that all elements of a {@code double} array are within the range from {@code min} to {@code max} (both
+	 * inclusive). NaN is not within any range.
 	 * 
 	 * <p>
-	 * The condition must evaluate to {@code true} so that the check is executed.
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link Check#contains(Collection, Object, String)} and pass as second
-	 * argument the name of the parameter to enhance the exception message.
+	 * We recommend to use the overloaded method {@link Check#allInRange(double[], double, double, String)} and pass as
+	 * last argument the name of the parameter to enhance the exception message.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param haystack
-	 *            A collection which must contain {@code needle}
-	 * @param needle
-	 *            An object that must be contained into a collection.
-	 * 
-	 * @throws IllegalNotContainedArgumentException
-	 *             if the passed {@code needle} can not be found in {@code haystack}
+	 * @param values
+	 *            an array of numbers
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNumberRangeException
+	 *             if an element is not within the range
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNotContainedArgumentException.class })
-	public static <T extends Object> void contains(final boolean condition, @Nonnull final Collection<T> haystack, @Nonnull final T needle) {
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberRangeException.class })
+	public static void allInRange(final boolean condition, @Nonnull final double[] values, final double min, final double max) {
 		if (condition) {
-			Check.contains(haystack, needle);
+			Check.allInRange(values, min, max);
 		}
 	}
 
 	/**
-	 * Ensures that an element {@code needle} is contained in a collection {@code haystack}.
-	 * 
-	 * <p>
-	 * This is in particular useful if you want to check whether an enum value is contained in an {@code EnumSet}. The
-	 * check is implemented using {@link java.util.Collection#contains(Object)}.
+	 * Ensures that all elements of a {@code double} array are within the range from {@code min} to {@code max} (both
+	 * inclusive). NaN is not within any range.
 	 * 
 	 * <p>
-	 * The condition must evaluate to {@code true} so that the check is executed.
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param haystack
-	 *            A collection which must contain {@code needle}
-	 * @param needle
-	 *            An object that must be contained into a collection.
+	 * @param values
+	 *            an array of numbers
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
 	 * @param name
-	 *            name of argument of {@code needle}
-	 * 
-	 * @throws IllegalNotContainedArgumentException
-	 *             if the passed {@code needle} can not be found in {@code haystack}
+	 *            name of the array reference (in source code)
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNumberRangeException
+	 *             if an element is not within the range
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNotContainedArgumentException.class })
-	public static <T extends Object> void contains(final boolean condition, @Nonnull final Collection<T> haystack, @Nonnull final T needle,
-			@Nonnull final String name) {
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberRangeException.class })
+	public static void allInRange(final boolean condition, @Nonnull final double[] values, final double min, final double max,
+			@Nullable final String name) {
 		if (condition) {
-			Check.contains(haystack, needle, name);
+			Check.allInRange(values, min, max, name);
 		}
 	}
 
 	/**
-	 * Ensures that a passed boolean is equal to another boolean. The comparison is made using
-	 * <code>expected != check</code>.
+	 * Ensures that all elements of a {@code double} array are within the range from {@code min} to {@code max} (both
+	 * inclusive). NaN is not within any range.
 	 * 
 	 * <p>
-	 * The condition must evaluate to {@code true} so that the check is executed.
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * Only the elements from index {@code from} (inclusive) to {@code to} (exclusive) are checked.
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link Check#equals(boolean, boolean, String)} and pass as second
-	 * argument the name of the parameter to enhance the exception message.
+	 * We recommend to use the overloaded method {@link Check#allInRange(double[], int, int, double, double, String)}
+	 * and pass as last argument the name of the parameter to enhance the exception message.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            boolean to be checked
-	 * 
-	 * @throws IllegalNotEqualException
-	 *             if both argument values are not equal
+	 * @param values
+	 *            an array of numbers
+	 * @param from
+	 *            index of the first element to check (inclusive)
+	 * @param to
+	 *            index after the last element to check (exclusive)
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if {@code from} and {@code to} do not form a valid range within the array
+	 * @throws IllegalNumberRangeException
+	 *             if an element is not within the range
 	 */
-	@Throws(IllegalNotEqualException.class)
-	public static void equals(final boolean condition, final boolean expected, final boolean check) { // NOSONAR
-		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
-
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNumberRangeException.class })
+	public static void allInRange(final boolean condition, @Nonnull final double[] values, final int from, final int to, final double min,
+			final double max) {
 		if (condition) {
-			Check.equals(expected, check);
+			Check.allInRange(values, from, to, min, max);
 		}
 	}
 
 	/**
-	 * Ensures that a passed boolean is equal to another boolean. The comparison is made using
-	 * <code>expected != check</code>.
+	 * Ensures that all elements of a {@code double} array are within the range from {@code min} to {@code max} (both
+	 * inclusive). NaN is not within any range.
 	 * 
 	 * <p>
-	 * The condition must evaluate to {@code true} so that the check is executed.
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * Only the elements from index {@code from} (inclusive) to {@code to} (exclusive) are checked.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            boolean to be checked
-	 * @param message
-	 *            an error message describing why the booleans must equal (will be passed to
-	 *            {@code IllegalNotEqualException})
-	 * 
-	 * @throws IllegalNotEqualException
-	 *             if both argument values are not equal
+	 * @param values
+	 *            an array of numbers
+	 * @param from
+	 *            index of the first element to check (inclusive)
+	 * @param to
+	 *            index after the last element to check (exclusive)
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if {@code from} and {@code to} do not form a valid range within the array
+	 * @throws IllegalNumberRangeException
+	 *             if an element is not within the range
 	 */
-	@Throws(IllegalNotEqualException.class)
-	public static void equals(final boolean condition, final boolean expected, final boolean check, @Nonnull final String message) { // NOSONAR
-		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
-
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNumberRangeException.class })
+	public static void allInRange(final boolean condition, @Nonnull final double[] values, final int from, final int to, final double min,
+			final double max, @Nullable final String name) {
 		if (condition) {
-			Check.equals(expected, check, message);
+			Check.allInRange(values, from, to, min, max, name);
 		}
 	}
 
 	/**
-	 * Ensures that a passed byte is equal to another byte. The comparison is made using <code>expected != check</code>.
+	 * Ensures that all elements of an {@code int} array are within the range from {@code min} to {@code max} (both
+	 * inclusive).
 	 * 
 	 * <p>
-	 * The condition must evaluate to {@code true} so that the check is executed.
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link Check#equals(byte, byte, String)} and pass as second argument
-	 * the name of the parameter to enhance the exception message.
+	 * We recommend to use the overloaded method {@link Check#allInRange(int[], int, int, String)} and pass as last
+	 * argument the name of the parameter to enhance the exception message.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            byte to be checked
-	 * 
-	 * @throws IllegalNotEqualException
-	 *             if both argument values are not equal
+	 * @param values
+	 *            an array of numbers
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNumberRangeException
+	 *             if an element is not within the range
 	 */
-	@Throws(IllegalNotEqualException.class)
-	public static void equals(final boolean condition, final byte expected, final byte check) { // NOSONAR
-		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
-
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberRangeException.class })
+	public static void allInRange(final boolean condition, @Nonnull final int[] values, final int min, final int max) {
 		if (condition) {
-			Check.equals(expected, check);
+			Check.allInRange(values, min, max);
 		}
 	}
 
 	/**
-	 * Ensures that a passed byte is equal to another byte. The comparison is made using <code>expected != check</code>.
+	 * Ensures that all elements of an {@code int} array are within the range from {@code min} to {@code max} (both
+	 * inclusive).
 	 * 
 	 * <p>
-	 * The condition must evaluate to {@code true} so that the check is executed.
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            byte to be checked
-	 * @param message
-	 *            an error message describing why the bytes must equal (will be passed to
-	 *            {@code IllegalNotEqualException})
-	 * 
-	 * @throws IllegalNotEqualException
-	 *             if both argument values are not equal
+	 * @param values
+	 *            an array of numbers
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNumberRangeException
+	 *             if an element is not within the range
 	 */
-	@Throws(IllegalNotEqualException.class)
-	public static void equals(final boolean condition, final byte expected, final byte check, @Nonnull final String message) { // NOSONAR
-		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
-
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberRangeException.class })
+	public static void allInRange(final boolean condition, @Nonnull final int[] values, final int min, final int max,
+			@Nullable final String name) {
 		if (condition) {
-			Check.equals(expected, check, message);
+			Check.allInRange(values, min, max, name);
 		}
 	}
 
 	/**
-	 * Ensures that a passed char is equal to another char. The comparison is made using <code>expected != check</code>.
+	 * Ensures that all elements of an {@code int} array are within the range from {@code min} to {@code max} (both
+	 * inclusive).
 	 * 
 	 * <p>
-	 * The condition must evaluate to {@code true} so that the check is executed.
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * Only the elements from index {@code from} (inclusive) to {@code to} (exclusive) are checked.
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link Check#equals(char, char, String)} and pass as second argument
-	 * the name of the parameter to enhance the exception message.
+	 * We recommend to use the overloaded method {@link Check#allInRange(int[], int, int, int, int, String)} and pass as
+	 * last argument the name of the parameter to enhance the exception message.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            char to be checked
-	 * 
-	 * @throws IllegalNotEqualException
-	 *             if both argument values are not equal
+	 * @param values
+	 *            an array of numbers
+	 * @param from
+	 *            index of the first element to check (inclusive)
+	 * @param to
+	 *            index after the last element to check (exclusive)
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if {@code from} and {@code to} do not form a valid range within the array
+	 * @throws IllegalNumberRangeException
+	 *             if an element is not within the range
 	 */
-	@Throws(IllegalNotEqualException.class)
-	public static void equals(final boolean condition, final char expected, final char check) { // NOSONAR
-		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
-
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNumberRangeException.class })
+	public static void allInRange(final boolean condition, @Nonnull final int[] values, final int from, final int to, final int min,
+			final int max) {
 		if (condition) {
-			Check.equals(expected, check);
+			Check.allInRange(values, from, to, min, max);
 		}
 	}
 
 	/**
-	 * Ensures that a passed char is equal to another char. The comparison is made using <code>expected != check</code>.
+	 * Ensures that all elements of an {@code int} array are within the range from {@code min} to {@code max} (both
+	 * inclusive).
 	 * 
 	 * <p>
-	 * The condition must evaluate to {@code true} so that the check is executed.
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * Only the elements from index {@code from} (inclusive) to {@code to} (exclusive) are checked.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            char to be checked
-	 * @param message
-	 *            an error message describing why the chars must equal (will be passed to
-	 *            {@code IllegalNotEqualException})
-	 * 
-	 * @throws IllegalNotEqualException
-	 *             if both argument values are not equal
+	 * @param values
+	 *            an array of numbers
+	 * @param from
+	 *            index of the first element to check (inclusive)
+	 * @param to
+	 *            index after the last element to check (exclusive)
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if {@code from} and {@code to} do not form a valid range within the array
+	 * @throws IllegalNumberRangeException
+	 *             if an element is not within the range
 	 */
-	@Throws(IllegalNotEqualException.class)
-	public static void equals(final boolean condition, final char expected, final char check, @Nonnull final String message) { // NOSONAR
-		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
-
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNumberRangeException.class })
+	public static void allInRange(final boolean condition, @Nonnull final int[] values, final int from, final int to, final int min,
+			final int max, @Nullable final String name) {
 		if (condition) {
-			Check.equals(expected, check, message);
+			Check.allInRange(values, from, to, min, max, name);
 		}
 	}
 
 	/**
-	 * Ensures that a passed intH is equal to another int. The comparison is made using <code>expected != check</code>.
+	 * Ensures that all elements of a {@code long} array are within the range from {@code min} to {@code max} (both
+	 * inclusive).
 	 * 
 	 * <p>
-	 * The condition must evaluate to {@code true} so that the check is executed.
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link Check#equals(int, int, String)} and pass as second argument the
-	 * name of the parameter to enhance the exception message.
+	 * We recommend to use the overloaded method {@link Check#allInRange(long[], long, long, String)} and pass as last
+	 * argument the name of the parameter to enhance the exception message.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            int to be checked
-	 * 
-	 * @throws IllegalNotEqualException
-	 *             if both argument values are not equal
+	 * @param values
+	 *            an array of numbers
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNumberRangeException
+	 *             if an element is not within the range
 	 */
-	@Throws(IllegalNotEqualException.class)
-	public static void equals(final boolean condition, final int expected, final int check) { // NOSONAR
-		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
-
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberRangeException.class })
+	public static void allInRange(final boolean condition, @Nonnull final long[] values, final long min, final long max) {
 		if (condition) {
-			Check.equals(expected, check);
+			Check.allInRange(values, min, max);
 		}
 	}
 
 	/**
-	 * Ensures that a passed int is equal to another int. The comparison is made using <code>expected != check</code>.
+	 * Ensures that all elements of a {@code long} array are within the range from {@code min} to {@code max} (both
+	 * inclusive).
 	 * 
 	 * <p>
-	 * The condition must evaluate to {@code true} so that the check is executed.
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            int to be checked
-	 * @param message
-	 *            an error message describing why the ints must equal (will be passed to
-	 *            {@code IllegalNotEqualException})
-	 * 
-	 * @throws IllegalNotEqualException
-	 *             if both argument values are not equal
+	 * @param values
+	 *            an array of numbers
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNumberRangeException
+	 *             if an element is not within the range
 	 */
-	@Throws(IllegalNotEqualException.class)
-	public static void equals(final boolean condition, final int expected, final int check, @Nonnull final String message) { // NOSONAR
-		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
-
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberRangeException.class })
+	public static void allInRange(final boolean condition, @Nonnull final long[] values, final long min, final long max,
+			@Nullable final String name) {
 		if (condition) {
-			Check.equals(expected, check, message);
+			Check.allInRange(values, min, max, name);
 		}
-
 	}
 
 	/**
-	 * Ensures that a passed long is equal to another long. The comparison is made using <code>expected != check</code>.
+	 * Ensures that all elements of a {@code long} array are within the range from {@code min} to {@code max} (both
+	 * inclusive).
 	 * 
 	 * <p>
-	 * The condition must evaluate to {@code true} so that the check is executed.
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * Only the elements from index {@code from} (inclusive) to {@code to} (exclusive) are checked.
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link Check#equals(long, long, String)} and pass as second argument
-	 * the name of the parameter to enhance the exception message.
+	 * We recommend to use the overloaded method {@link Check#allInRange(long[], int, int, long, long, String)} and pass
+	 * as last argument the name of the parameter to enhance the exception message.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            long to be checked
-	 * 
-	 * @throws IllegalNotEqualException
-	 *             if both argument values are not equal
+	 * @param values
+	 *            an array of numbers
+	 * @param from
+	 *            index of the first element to check (inclusive)
+	 * @param to
+	 *            index after the last element to check (exclusive)
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if {@code from} and {@code to} do not form a valid range within the array
+	 * @throws IllegalNumberRangeException
+	 *             if an element is not within the range
 	 */
-	@Throws(IllegalNotEqualException.class)
-	public static void equals(final boolean condition, final long expected, final long check) { // NOSONAR
-		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
-
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNumberRangeException.class })
+	public static void allInRange(final boolean condition, @Nonnull final long[] values, final int from, final int to, final long min,
+			final long max) {
 		if (condition) {
-			Check.equals(expected, check);
+			Check.allInRange(values, from, to, min, max);
 		}
 	}
 
 	/**
-	 * Ensures that a passed long is equal to another long. The comparison is made using <code>expected != check</code>.
+	 * Ensures that all elements of a {@code long} array are within the range from {@code min} to {@code max} (both
+	 * inclusive).
 	 * 
 	 * <p>
-	 * The condition must evaluate to {@code true} so that the check is executed.
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * Only the elements from index {@code from} (inclusive) to {@code to} (exclusive) are checked.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            long to be checked
-	 * @param message
-	 *            an error message describing why the longs must equal (will be passed to
-	 *            {@code IllegalNotEqualException})
-	 * 
-	 * @throws IllegalNotEqualException
-	 *             if both argument values are not equal
+	 * @param values
+	 *            an array of numbers
+	 * @param from
+	 *            index of the first element to check (inclusive)
+	 * @param to
+	 *            index after the last element to check (exclusive)
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if {@code from} and {@code to} do not form a valid range within the array
+	 * @throws IllegalNumberRangeException
+	 *             if an element is not within the range
 	 */
-	@Throws(IllegalNotEqualException.class)
-	public static void equals(final boolean condition, final long expected, final long check, @Nonnull final String message) { // NOSONAR
-		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
-
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNumberRangeException.class })
+	public static void allInRange(final boolean condition, @Nonnull final long[] values, final int from, final int to, final long min,
+			final long max, @Nullable final String name) {
 		if (condition) {
-			Check.equals(expected, check, message);
+			Check.allInRange(values, from, to, min, max, name);
 		}
 	}
 
 	/**
-	 * Ensures that a passed short is equal to another short. The comparison is made using
-	 * <code>expected != check</code>.
+	 * Ensures that a {@code byte} value is within the closed range from {@code min} to {@code max} (both inclusive).
 	 * 
 	 * <p>
-	 * The condition must evaluate to {@code true} so that the check is executed.
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link Check#equals(short, short, String)} and pass as second argument
-	 * the name of the parameter to enhance the exception message.
+	 * We recommend to use the overloaded method {@link Check#between(byte, byte, byte, String)} and pass as last
+	 * argument the name of the parameter to enhance the exception message.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            short to be checked
-	 * 
-	 * @throws IllegalNotEqualException
-	 *             if both argument values are not equal
-	 */
-	@Throws(IllegalNotEqualException.class)
-	public static void equals(final boolean condition, final short expected, final short check) { // NOSONAR
-		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
-
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or greater than {@code max}
+	 */
+	@Throws(IllegalNotInRangeException.class)
+	public static void between(final boolean condition, final byte value, final byte min, final byte max) {
 		if (condition) {
-			Check.equals(expected, check);
+			Check.between(value, min, max);
 		}
 	}
 
 	/**
-	 * Ensures that a passed short is equal to another short. The comparison is made using
-	 * <code>expected != check</code>.
+	 * Ensures that a {@code byte} value is within the closed range from {@code min} to {@code max} (both inclusive).
 	 * 
 	 * <p>
-	 * The condition must evaluate to {@code true} so that the check is executed.
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            short to be checked
-	 * @param message
-	 *            an error message describing why the shorts must equal (will be passed to
-	 *            {@code IllegalNotEqualException})
-	 * 
-	 * @throws IllegalNotEqualException
-	 *             if both argument values are not equal
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or greater than {@code max}
 	 */
-	@Throws(IllegalNotEqualException.class)
-	public static void equals(final boolean condition, final short expected, final short check, @Nonnull final String message) { // NOSONAR
-		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
-
+	@Throws(IllegalNotInRangeException.class)
+	public static void between(final boolean condition, final byte value, final byte min, final byte max,
+			@Nullable final String name) {
 		if (condition) {
-			Check.equals(expected, check, message);
+			Check.between(value, min, max, name);
 		}
 	}
 
 	/**
-	 * Ensures that a passed object is equal to another object. The comparison is made using a call to
-	 * {@code expected.equals(check) }.
+	 * Ensures that a {@code char} value is within the closed range from {@code min} to {@code max} (both inclusive).
 	 * 
 	 * <p>
-	 * The condition must evaluate to {@code true} so that the check is executed.
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#between(char, char, char, String)} and pass as last
+	 * argument the name of the parameter to enhance the exception message.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            Object to be checked
-	 * 
-	 * @throws IllegalNotEqualException
-	 *             if both argument values are not equal
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or greater than {@code max}
 	 */
-	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNotEqualException.class })
-	public static <T extends Object> T equals(final boolean condition, @Nonnull final T expected, @Nonnull final T check) { // NOSONAR
-		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
+	@Throws(IllegalNotInRangeException.class)
+	public static void between(final boolean condition, final char value, final char min, final char max) {
 		if (condition) {
-			return Check.equals(expected, check);
+			Check.between(value, min, max);
 		}
-
-		return check;
 	}
 
 	/**
-	 * Ensures that a passed object is equal to another object. The comparison is made using a call to
-	 * {@code expected.equals(check) }.
+	 * Ensures that a {@code char} value is within the closed range from {@code min} to {@code max} (both inclusive).
 	 * 
 	 * <p>
-	 * The condition must evaluate to {@code true} so that the check is executed.
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param expect
-	 *            expected value
-	 * @param check
-	 *            object to be checked
-	 * @param msg
-	 *            an error message describing why the objects must equal (will be passed to
-	 *            {@code IllegalNotEqualException})
-	 * 
-	 * @throws IllegalNotEqualException
-	 *             if both argument values are not equal
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or greater than {@code max}
 	 */
-	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNotEqualException.class })
-	public static <T extends Object> void equals(final boolean condition, @Nonnull final T expect, @Nonnull final T check, final String msg) { // NOSONAR
-		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
+	@Throws(IllegalNotInRangeException.class)
+	public static void between(final boolean condition, final char value, final char min, final char max,
+			@Nullable final String name) {
 		if (condition) {
-			Check.equals(expect, check);
+			Check.between(value, min, max, name);
 		}
 	}
 
 	/**
-	 * Ensures that a passed {@code Comparable} is greater than or equal to {@code Comparable}. The comparison is made
-	 * using {@code expected.compareTo(check) > 0}.
+	 * Ensures that a {@code double} value is within the closed range from {@code min} to {@code max} (both inclusive).
+	 * NaN is not within any range.
 	 * 
 	 * <p>
-	 * The condition must evaluate to {@code true} so that the check is executed.
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
 	 * 
-	 * @param condition
-	 *            condition must be {@code true} so that the check will be performed
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            Comparable to be checked
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#between(double, double, double, String)} and pass as last
+	 * argument the name of the parameter to enhance the exception message.
 	 * 
-	 * @throws IllegalNotGreaterOrEqualThanException
-	 *             if the argument value {@code check} is not greater or equal than value {@code expected} when using
-	 *             method {@code compareTo}
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or greater than {@code max}
 	 */
-	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNotGreaterOrEqualThanException.class })
-	public static <T extends Comparable<T>> void greaterOrEqualThan(final boolean condition, @Nonnull final T expected,
-			@Nonnull final T check) {
-		Check.notNull(expected, "expected");
-		Check.notNull(check, "check");
-
+	@Throws(IllegalNotInRangeException.class)
+	public static void between(final boolean condition, final double value, final double min, final double max) {
 		if (condition) {
-			Check.greaterOrEqualThan(expected, check);
+			Check.between(value, min, max);
 		}
 	}
 
 	/**
-	 * Ensures that a passed {@code Comparable} is greater than or equal to another {@code Comparable}. The comparison
-	 * is made using {@code expected.compareTo(check) > 0}.
+	 * Ensures that a {@code double} value is within the closed range from {@code min} to {@code max} (both inclusive).
+	 * NaN is not within any range.
 	 * 
 	 * <p>
-	 * The condition must evaluate to {@code true} so that the check is executed.
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
 	 * 
 	 * @param condition
-	 *            condition must be {@code true} so that the check will be performed
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            Comparable to be checked
-	 * @param message
-	 *            an error message describing why the comparable must be greater than or equal a value (will be passed
-	 *            to {@code IllegalNotGreaterOrEqualThanException})
-	 * 
-	 * @throws IllegalNotGreaterOrEqualThanException
-	 *             if the argument value {@code check} is not greater than or equal to value {@code expected} when using
-	 *             method {@code compareTo}
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or greater than {@code max}
 	 */
-	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNotGreaterOrEqualThanException.class })
-	public static <T extends Comparable<T>> void greaterOrEqualThan(final boolean condition, @Nonnull final T expected,
-			@Nonnull final T check, @Nonnull final String message) {
-		Check.notNull(expected, "expected");
-		Check.notNull(check, "check");
-
+	@Throws(IllegalNotInRangeException.class)
+	public static void between(final boolean condition, final double value, final double min, final double max,
+			@Nullable final String name) {
 		if (condition) {
-			Check.greaterOrEqualThan(expected, check, message);
+			Check.between(value, min, max, name);
 		}
 	}
 
 	/**
-	 * Ensures that a passed {@code Comparable} is greater to another {@code Comparable}. The comparison is made using
-	 * {@code expected.compareTo(check) >= 0}.
+	 * Ensures that a {@code float} value is within the closed range from {@code min} to {@code max} (both inclusive).
+	 * NaN is not within any range.
 	 * 
 	 * <p>
-	 * The condition must evaluate to {@code true} so that the check is executed.
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#between(float, float, float, String)} and pass as last
+	 * argument the name of the parameter to enhance the exception message.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            Comparable to be checked
-	 * 
-	 * @throws IllegalNotGreaterThanException
-	 *             if the argument value {@code check} is not greater than value {@code expected} when using method
-	 *             {@code compareTo}
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or greater than {@code max}
 	 */
-	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNotGreaterThanException.class })
-	public static <T extends Comparable<T>> void greaterThan(final boolean condition, @Nonnull final T expected, @Nonnull final T check) {
-		Check.notNull(expected, "expected");
-		Check.notNull(check, "check");
-
+	@Throws(IllegalNotInRangeException.class)
+	public static void between(final boolean condition, final float value, final float min, final float max) {
 		if (condition) {
-			Check.greaterThan(expected, check);
+			Check.between(value, min, max);
 		}
 	}
 
 	/**
-	 * Ensures that a passed {@code Comparable} is greater than another {@code Comparable}. The comparison is made using
-	 * {@code expected.compareTo(check) >= 0}.
+	 * Ensures that a {@code float} value is within the closed range from {@code min} to {@code max} (both inclusive).
+	 * NaN is not within any range.
 	 * 
 	 * <p>
-	 * The condition must evaluate to {@code true} so that the check is executed.
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            Comparable to be checked
-	 * @param message
-	 *            an error message describing why the comparable must be greater than a value (will be passed to
-	 *            {@code IllegalNotGreaterThanException})
-	 * 
-	 * @throws IllegalNotGreaterThanException
-	 *             if the argument value {@code check} is not greater than value {@code expected} when using method
-	 *             {@code compareTo}
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or greater than {@code max}
 	 */
-	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNotGreaterThanException.class })
-	public static <T extends Comparable<T>> void greaterThan(final boolean condition, @Nonnull final T expected, @Nonnull final T check,
-			final String message) {
-		Check.notNull(expected, "expected");
-		Check.notNull(check, "check");
-
+	@Throws(IllegalNotInRangeException.class)
+	public static void between(final boolean condition, final float value, final float min, final float max,
+			@Nullable final String name) {
 		if (condition) {
-			Check.greaterThan(expected, check, message);
+			Check.between(value, min, max, name);
 		}
 	}
 
 	/**
-	 * Ensures that a passed class has an annotation of a specific type
+	 * Ensures that an {@code int} value is within the closed range from {@code min} to {@code max} (both inclusive).
 	 * 
-	 * @param condition
-	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param clazz
-	 *            the class that must have a required annotation
-	 * @param annotation
-	 *            the type of annotation that is required on the class
+	 * <p>
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
 	 * 
-	 * @throws IllegalMissingAnnotationException
-	 *             if the passed annotation is not annotated at the given class
-	 */
-	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalMissingAnnotationException.class })
-	public static void hasAnnotation(final boolean condition, @Nonnull final Class<?> clazz,
-			@Nonnull final Class<? extends Annotation> annotation) {
-		Check.notNull(clazz, "clazz");
-		Check.notNull(annotation, "annotation");
-
-		if (condition) {
-			Check.hasAnnotation(clazz, annotation);
-		}
-	}
-
-	/**
-	 * Ensures that a passed argument is a member of a specific type.
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#between(int, int, int, String)} and pass as last argument
+	 * the name of the parameter to enhance the exception message.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param type
-	 *            class that the given object is a member of
-	 * @param obj
-	 *            the object reference that should be a member of a specific {@code type}
-	 * 
-	 * @throws IllegalInstanceOfArgumentException
-	 *             if the given argument {@code obj} is not a member of {@code type}
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or greater than {@code max}
 	 */
-	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalInstanceOfArgumentException.class })
-	@SuppressWarnings("unchecked")
-	public static <T> T instanceOf(final boolean condition, @Nonnull final Class<?> type, @Nonnull final Object obj) {
+	@Throws(IllegalNotInRangeException.class)
+	public static void between(final boolean condition, final int value, final int min, final int max) {
 		if (condition) {
-			return (T) Check.instanceOf(type, obj);
+			Check.between(value, min, max);
 		}
-
-		return (T) obj;
 	}
 
 	/**
-	 * Ensures that a passed argument is a member of a specific type.
+	 * Ensures that an {@code int} value is within the closed range from {@code min} to {@code max} (both inclusive).
+	 * 
+	 * <p>
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param type
-	 *            class that the given object is a member of
-	 * @param obj
-	 *            the object reference that should be a member of a specific {@code type}
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
 	 * @param name
 	 *            name of object reference (in source code)
-	 * 
-	 * @throws IllegalInstanceOfArgumentException
-	 *             if the given argument {@code obj} is not a member of {@code type}
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or greater than {@code max}
 	 */
-	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalInstanceOfArgumentException.class })
-	@SuppressWarnings("unchecked")
-	public static <T> T instanceOf(final boolean condition, @Nonnull final Class<?> type, @Nonnull final Object obj,
+	@Throws(IllegalNotInRangeException.class)
+	public static void between(final boolean condition, final int value, final int min, final int max,
 			@Nullable final String name) {
 		if (condition) {
-			return (T) Check.instanceOf(type, obj, name);
+			Check.between(value, min, max, name);
 		}
-
-		return (T) obj;
 	}
 
 	/**
-	 * Ensures that a given argument is {@code null}.
+	 * Ensures that a {@code long} value is within the closed range from {@code min} to {@code max} (both inclusive).
 	 * 
-	 * Normally, the usage of {@code null} arguments is disregarded by the authors of quality-check. Still, there are
-	 * certain circumstances where null is required, e.g. the primary key of an entity before it is written to the
-	 * database for the first time. In such cases it is ok to use null values and there should also be checks for them.
-	 * For example, to avoid overwriting an existing primary key with a new one.
+	 * <p>
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#between(long, long, long, String)} and pass as last
+	 * argument the name of the parameter to enhance the exception message.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param reference
-	 *            reference which must be null
-	 * 
-	 * @throws IllegalNotNullArgumentException
-	 *             if the given argument {@code reference} is not null
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or greater than {@code max}
 	 */
-	@Throws(IllegalNotNullArgumentException.class)
-	public static void isNull(final boolean condition, @Nullable final Object reference) {
+	@Throws(IllegalNotInRangeException.class)
+	public static void between(final boolean condition, final long value, final long min, final long max) {
 		if (condition) {
-			Check.isNull(reference);
+			Check.between(value, min, max);
 		}
 	}
 
 	/**
-	 * Ensures that a given argument is {@code null}.
+	 * Ensures that a {@code long} value is within the closed range from {@code min} to {@code max} (both inclusive).
 	 * 
-	 * Normally, the usage of {@code null} arguments is disregarded by the authors of quality-check. Still, there are
-	 * certain circumstances where null is required, e.g. the primary key of an entity before it is written to the
-	 * database for the first time. In such cases it is ok to use null values and there should also be checks for them.
-	 * For example, to avoid overwriting an existing primary key with a new one.
+	 * <p>
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param reference
-	 *            reference which must be null.
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
 	 * @param name
 	 *            name of object reference (in source code)
-	 * 
-	 * @throws IllegalNotNullArgumentException
-	 *             if the given argument {@code reference} is not null
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or greater than {@code max}
 	 */
-	@Throws(IllegalNotNullArgumentException.class)
-	public static void isNull(final boolean condition, @Nullable final Object reference, @Nullable final String name) {
+	@Throws(IllegalNotInRangeException.class)
+	public static void between(final boolean condition, final long value, final long min, final long max,
+			@Nullable final String name) {
 		if (condition) {
-			Check.isNull(reference, name);
+			Check.between(value, min, max, name);
 		}
 	}
 
 	/**
-	 * Ensures that a String argument is a number.
+	 * Ensures that a {@code short} value is within the closed range from {@code min} to {@code max} (both inclusive).
+	 * 
+	 * <p>
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#between(short, short, short, String)} and pass as last
+	 * argument the name of the parameter to enhance the exception message.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
 	 * @param value
-	 *            value which must be a number
-	 * @throws IllegalNumberArgumentException
-	 *             if the given argument {@code value} is not a number
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or greater than {@code max}
 	 */
-	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNumberArgumentException.class })
-	public static void isNumber(final boolean condition, @Nonnull final String value) {
+	@Throws(IllegalNotInRangeException.class)
+	public static void between(final boolean condition, final short value, final short min, final short max) {
 		if (condition) {
-			Check.isNumber(value);
+			Check.between(value, min, max);
 		}
 	}
 
 	/**
-	 * Ensures that a String argument is a number. This overload supports all subclasses of {@code Number}. The number
-	 * is first converted to a BigInteger
+	 * Ensures that a {@code short} value is within the closed range from {@code min} to {@code max} (both inclusive).
+	 * 
+	 * <p>
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
 	 * @param value
-	 *            value which must be a number
-	 * @param type
-	 *            requested return value type, must be a subclass of {@code Number}, i.e. one of {@code BigDecimal,
-	 *            BigInteger, Byte, Double, Float, Integer, Long, Short}
-	 * 
-	 * @throws IllegalNumberArgumentException
-	 *             if the given argument {@code value} is no number
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (inclusive)
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or greater than {@code max}
 	 */
-	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNumberArgumentException.class })
-	public static <T extends Number> void isNumber(final boolean condition, @Nonnull final String value, @Nonnull final Class<T> type) {
+	@Throws(IllegalNotInRangeException.class)
+	public static void between(final boolean condition, final short value, final short min, final short max,
+			@Nullable final String name) {
 		if (condition) {
-			Check.isNumber(value, type);
+			Check.between(value, min, max, name);
 		}
 	}
 
 	/**
-	 * Ensures that a string argument is a number according to {@code Integer.parseInt}
+	 * Ensures that an element {@code needle} is contained in a collection {@code haystack}.
+	 * 
+	 * <p>
+	 * This is in particular useful if you want to check whether an enum value is contained in an {@code EnumSet}. The
+	 * check is implemented using {@link java.util.Collection#contains(Object)}.
+	 * 
+	 * <p>
+	 * The condition must evaluate to {@code true} so that the check is executed.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#contains(Collection, Object, String)} and pass as second
+	 * argument the name of the parameter to enhance the exception message.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param value
-	 *            value which must be a number
-	 * @param name
-	 *            name of object reference (in source code)
+	 * @param haystack
+	 *            A collection which must contain {@code needle}
+	 * @param needle
+	 *            An object that must be contained into a collection.
 	 * 
-	 * @throws IllegalNumberArgumentException
-	 *             if the given argument {@code value} is no number
+	 * @throws IllegalNotContainedArgumentException
+	 *             if the passed {@code needle} can not be found in {@code haystack}
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNumberArgumentException.class })
-	public static void isNumber(final boolean condition, @Nonnull final String value, @Nullable final String name) {
+	@Throws({ IllegalNullArgumentException.class, IllegalNotContainedArgumentException.class })
+	public static <T extends Object> void contains(final boolean condition, @Nonnull final Collection<T> haystack, @Nonnull final T needle) {
 		if (condition) {
-			Check.isNumber(value, name);
+			Check.contains(haystack, needle);
 		}
 	}
 
 	/**
-	 * Ensures that a String argument is a number. This overload supports all subclasses of {@code Number}. The number
-	 * is first converted to a {@code BigDecimal} or {@code BigInteger}. Floating point types are only supported if the
-	 * {@code type} is one of {@code Float, Double, BigDecimal}.
+	 * Ensures that an element {@code needle} is contained in a collection {@code haystack}.
 	 * 
 	 * <p>
-	 * This method does also check against the ranges of the given datatypes.
+	 * This is in particular useful if you want to check whether an enum value is contained in an {@code EnumSet}. The
+	 * check is implemented using {@link java.util.Collection#contains(Object)}.
+	 * 
+	 * <p>
+	 * The condition must evaluate to {@code true} so that the check is executed.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param value
-	 *            value which must be a number and in the range of the given datatype.
+	 * @param haystack
+	 *            A collection which must contain {@code needle}
+	 * @param needle
+	 *            An object that must be contained into a collection.
 	 * @param name
-	 *            (optional) name of object reference (in source code).
-	 * @param type
-	 *            requested return value type, must be a subclass of {@code Number}, i.e. one of {@code BigDecimal,
-	 *            BigInteger, Byte, Double, Float, Integer, Long, Short}
-	 * @throws IllegalNumberArgumentException
-	 *             if the given argument {@code value} is no number
+	 *            name of argument of {@code needle}
+	 * 
+	 * @throws IllegalNotContainedArgumentException
+	 *             if the passed {@code needle} can not be found in {@code haystack}
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNumberArgumentException.class })
-	public static <T extends Number> void isNumber(final boolean condition, @Nonnull final String value, @Nullable final String name,
-			@Nonnull final Class<T> type) {
+	@Throws({ IllegalNullArgumentException.class, IllegalNotContainedArgumentException.class })
+	public static <T extends Object> void contains(final boolean condition, @Nonnull final Collection<T> haystack, @Nonnull final T needle,
+			@Nonnull final String name) {
 		if (condition) {
-			Check.isNumber(value, name, type);
+			Check.contains(haystack, needle, name);
 		}
 	}
 
 	/**
-	 * Ensures that a readable sequence of {@code char} values is numeric. Numeric arguments consist only of the
-	 * characters 0-9 and may start with 0 (compared to number arguments, which must be valid numbers - think of a bank
-	 * account number).
+	 * Ensures that an {@code int} value {@code needle} is one of the allowed values {@code haystack}.
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link Check#isNumeric(CharSequence, String)} and pass as second
+	 * In contrast to {@link Check#contains(Collection, Object)} the allowed values are looked up in an index which was
+	 * built in advance, so the time of a lookup does not grow with the number of allowed values.
+	 * 
+	 * <p>
+	 * The condition must evaluate to {@code true} so that the check is executed.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#contains(AllowedInts, int, String)} and pass as last
 	 * argument the name of the parameter to enhance the exception message.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param value
-	 *            a readable sequence of {@code char} values which must be a number
+	 * @param haystack
+	 *            allowed values which must contain {@code needle}
+	 * @param needle
+	 *            a value that must be one of the allowed values
 	 * 
-	 * @throws IllegalNumberArgumentException
-	 *             if the given argument {@code value} is no number
+	 * @throws IllegalNotContainedArgumentException
+	 *             if the passed {@code needle} is not an allowed value
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNumberArgumentException.class })
-	public static <T extends CharSequence> void isNumeric(final boolean condition, @Nonnull final T value) {
+	@Throws({ IllegalNullArgumentException.class, IllegalNotContainedArgumentException.class })
+	public static void contains(final boolean condition, @Nonnull final AllowedInts haystack, final int needle) {
 		if (condition) {
-			Check.isNumeric(value);
+			Check.contains(haystack, needle);
 		}
 	}
 
 	/**
-	 * Ensures that a readable sequence of {@code char} values is numeric. Numeric arguments consist only of the
-	 * characters 0-9 and may start with 0 (compared to number arguments, which must be valid numbers - think of a bank
-	 * account number).
+	 * Ensures that an {@code int} value {@code needle} is one of the allowed values {@code haystack}.
+	 * 
+	 * <p>
+	 * In contrast to {@link Check#contains(Collection, Object)} the allowed values are looked up in an index which was
+	 * built in advance, so the time of a lookup does not grow with the number of allowed values.
+	 * 
+	 * <p>
+	 * The condition must evaluate to {@code true} so that the check is executed.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param value
-	 *            a readable sequence of {@code char} values which must be a number
+	 * @param haystack
+	 *            allowed values which must contain {@code needle}
+	 * @param needle
+	 *            a value that must be one of the allowed values
 	 * @param name
-	 *            name of object reference (in source code)
+	 *            name of argument of {@code needle}
 	 * 
-	 * @throws IllegalNumberArgumentException
-	 *             if the given argument {@code value} is no number
+	 * @throws IllegalNotContainedArgumentException
+	 *             if the passed {@code needle} is not an allowed value
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNumericArgumentException.class })
-	public static <T extends CharSequence> void isNumeric(final boolean condition, @Nonnull final T value, @Nullable final String name) {
+	@Throws({ IllegalNullArgumentException.class, IllegalNotContainedArgumentException.class })
+	public static void contains(final boolean condition, @Nonnull final AllowedInts haystack, final int needle,
+			@Nullable final String name) {
 		if (condition) {
-			Check.isNumeric(value, name);
+			Check.contains(haystack, needle, name);
 		}
 	}
 
 	/**
-	 * Ensures that a passed {@code Comparable} is less than another {@code Comparable}. The comparison is made using
-	 * {@code expected.compareTo(check) <= 0}.
+	 * Ensures that a {@code long} value {@code needle} is one of the allowed values {@code haystack}.
+	 * 
+	 * <p>
+	 * In contrast to {@link Check#contains(Collection, Object)} the allowed values are looked up in an index which was
+	 * built in advance, so the time of a lookup does not grow with the number of allowed values.
+	 * 
+	 * <p>
+	 * The condition must evaluate to {@code true} so that the check is executed.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#contains(AllowedLongs, long, String)} and pass as last
+	 * argument the name of the parameter to enhance the exception message.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            Comparable to be checked
+	 * @param haystack
+	 *            allowed values which must contain {@code needle}
+	 * @param needle
+	 *            a value that must be one of the allowed values
 	 * 
-	 * @throws IllegalNotLesserThanException
-	 *             if the argument value {@code check} is not lesser than value {@code expected} when using method
-	 *             {@code compareTo}
+	 * @throws IllegalNotContainedArgumentException
+	 *             if the passed {@code needle} is not an allowed value
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNotLesserThanException.class })
-	public static <T extends Comparable<T>> void lesserThan(final boolean condition, @Nonnull final T expected, @Nonnull final T check) {
-		Check.notNull(expected, "expected");
-		Check.notNull(check, "check");
-
+	@Throws({ IllegalNullArgumentException.class, IllegalNotContainedArgumentException.class })
+	public static void contains(final boolean condition, @Nonnull final AllowedLongs haystack, final long needle) {
 		if (condition) {
-			Check.lesserThan(expected, check);
+			Check.contains(haystack, needle);
 		}
 	}
 
 	/**
-	 * Ensures that a passed {@code Comparable} is less than another {@code Comparable}. The comparison is made using
-	 * {@code expected.compareTo(check) <= 0}.
+	 * Ensures that a {@code long} value {@code needle} is one of the allowed values {@code haystack}.
+	 * 
+	 * <p>
+	 * In contrast to {@link Check#contains(Collection, Object)} the allowed values are looked up in an index which was
+	 * built in advance, so the time of a lookup does not grow with the number of allowed values.
+	 * 
+	 * <p>
+	 * The condition must evaluate to {@code true} so that the check is executed.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            Comparable to be checked
-	 * @param message
-	 *            an error message describing why the comparables must be less than a value (will be passed to
-	 *            {@code IllegalNotLessThanException})
+	 * @param haystack
+	 *            allowed values which must contain {@code needle}
+	 * @param needle
+	 *            a value that must be one of the allowed values
+	 * @param name
+	 *            name of argument of {@code needle}
 	 * 
-	 * @throws IllegalNotLesserThanException
-	 *             if the argument value {@code check} is not lesser than value {@code expected} when using method
-	 *             {@code compareTo}
+	 * @throws IllegalNotContainedArgumentException
+	 *             if the passed {@code needle} is not an allowed value
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNotLesserThanException.class })
-	public static <T extends Comparable<T>> void lesserThan(final boolean condition, @Nonnull final T expected, @Nonnull final T check,
-			final String message) {
-		Check.notNull(expected, "expected");
-		Check.notNull(check, "check");
-
+	@Throws({ IllegalNullArgumentException.class, IllegalNotContainedArgumentException.class })
+	public static void contains(final boolean condition, @Nonnull final AllowedLongs haystack, final long needle,
+			@Nullable final String name) {
 		if (condition) {
-			Check.lesserThan(expected, check, message);
+			Check.contains(haystack, needle, name);
 		}
 	}
 
 	/**
-	 * Ensures that a readable sequence of {@code char} values matches a specified pattern. If the given character
-	 * sequence does not match against the passed pattern, an {@link IllegalPatternArgumentException} will be thrown.
+	 * Ensures that an element {@code needle} is one of the allowed values {@code haystack}.
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link Check#matchesPattern(Pattern, CharSequence, String)} and pass as
-	 * second argument the name of the parameter to enhance the exception message.
+	 * In contrast to {@link Check#contains(Collection, Object)} the allowed values are looked up in an index which was
+	 * built in advance, so the time of a lookup does not grow with the number of allowed values.
+	 * 
+	 * <p>
+	 * The condition must evaluate to {@code true} so that the check is executed.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#contains(AllowedValues, Object, String)} and pass as last
+	 * argument the name of the parameter to enhance the exception message.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param pattern
-	 *            pattern, that the {@code chars} must correspond to
-	 * @param chars
-	 *            a readable sequence of {@code char} values which should match the given pattern
+	 * @param haystack
+	 *            allowed values which must contain {@code needle}
+	 * @param needle
+	 *            a value that must be one of the allowed values
 	 * 
-	 * @throws IllegalNullArgumentException
-	 *             if the given argument {@code chars} is {@code null}
-	 * @throws IllegalPatternArgumentException
-	 *             if the given {@code chars} that does not match the {@code pattern}
+	 * @throws IllegalNotContainedArgumentException
+	 *             if the passed {@code needle} is not an allowed value
 	 */
 	@ArgumentsChecked
-	@Throws(IllegalNullArgumentException.class)
-	public static <T extends CharSequence> void matchesPattern(final boolean condition, @Nonnull final Pattern pattern,
-			@Nonnull final T chars) {
+	@Throws({ IllegalNullArgumentException.class, IllegalNotContainedArgumentException.class })
+	public static <T> void contains(final boolean condition, @Nonnull final AllowedValues<? super T> haystack, @Nonnull final T needle) {
 		if (condition) {
-			Check.matchesPattern(pattern, chars);
+			Check.contains(haystack, needle);
 		}
 	}
 
 	/**
-	 * Ensures that a readable sequence of {@code char} values matches a specified pattern. If the given character
-	 * sequence does not match against the passed pattern, an {@link IllegalPatternArgumentException} will be thrown.
+	 * Ensures that an element {@code needle} is one of the allowed values {@code haystack}.
+	 * 
+	 * <p>
+	 * In contrast to {@link Check#contains(Collection, Object)} the allowed values are looked up in an index which was
+	 * built in advance, so the time of a lookup does not grow with the number of allowed values.
+	 * 
+	 * <p>
+	 * The condition must evaluate to {@code true} so that the check is executed.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param pattern
-	 *            pattern, that the {@code chars} must correspond to
-	 * @param chars
-	 *            a readable sequence of {@code char} values which should match the given pattern
+	 * @param haystack
+	 *            allowed values which must contain {@code needle}
+	 * @param needle
+	 *            a value that must be one of the allowed values
 	 * @param name
-	 *            name of object reference (in source code)
+	 *            name of argument of {@code needle}
 	 * 
-	 * @throws IllegalNullArgumentException
-	 *             if the given argument {@code chars} is {@code null}
-	 * @throws IllegalPatternArgumentException
-	 *             if the given {@code chars} that does not match the {@code pattern}
+	 * @throws IllegalNotContainedArgumentException
+	 *             if the passed {@code needle} is not an allowed value
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalPatternArgumentException.class })
-	public static <T extends CharSequence> void matchesPattern(final boolean condition, @Nonnull final Pattern pattern,
-			@Nonnull final T chars, @Nullable final String name) {
+	@Throws({ IllegalNullArgumentException.class, IllegalNotContainedArgumentException.class })
+	public static <T> void contains(final boolean condition, @Nonnull final AllowedValues<? super T> haystack, @Nonnull final T needle,
+			@Nullable final String name) {
 		if (condition) {
-			Check.matchesPattern(pattern, chars, name);
+			Check.contains(haystack, needle, name);
 		}
 	}
 
 	/**
-	 * Ensures that an iterable reference is neither {@code null} nor contains any elements that are {@code null}.
+	 * Ensures that all elements of an {@code int} array {@code needles} are allowed values of {@code haystack}.
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link Check#noNullElements(Iterable, String)} and pass as second
+	 * The index of the first element which is not allowed is reported as part of the argument name in the exception
+	 * (e.g. {@code codes[3]}).
+	 * 
+	 * <p>
+	 * The condition must evaluate to {@code true} so that the check is executed.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#containsAll(AllowedInts, int[], String)} and pass as last
 	 * argument the name of the parameter to enhance the exception message.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param iterable
-	 *            the iterable reference which should not contain {@code null}
+	 * @param haystack
+	 *            allowed values which must contain all {@code needles}
+	 * @param needles
+	 *            an array whose elements must be allowed values
 	 * 
-	 * @throws IllegalNullElementsException
-	 *             if the given argument {@code iterable} contains elements that are {@code null}
+	 * @throws IllegalNullArgumentException
+	 *             if {@code haystack} or {@code needles} is {@code null}
+	 * @throws IllegalNotContainedArgumentException
+	 *             if an element of {@code needles} is not an allowed value
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNullElementsException.class })
-	public static <T extends Iterable<?>> void noNullElements(final boolean condition, @Nonnull final T iterable) {
+	@Throws({ IllegalNullArgumentException.class, IllegalNotContainedArgumentException.class })
+	public static void containsAll(final boolean condition, @Nonnull final AllowedInts haystack, @Nonnull final int[] needles) {
 		if (condition) {
-			Check.noNullElements(iterable);
+			Check.containsAll(haystack, needles);
 		}
 	}
 
 	/**
-	 * Ensures that an iterable reference is neither {@code null} nor contains any elements that are {@code null}.
+	 * Ensures that all elements of an {@code int} array {@code needles} are allowed values of {@code haystack}.
+	 * 
+	 * <p>
+	 * The index of the first element which is not allowed is reported as part of the argument name in the exception
+	 * (e.g. {@code codes[3]}).
+	 * 
+	 * <p>
+	 * The condition must evaluate to {@code true} so that the check is executed.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param iterable
-	 *            the iterable reference which should not contain {@code null}
+	 * @param haystack
+	 *            allowed values which must contain all {@code needles}
+	 * @param needles
+	 *            an array whose elements must be allowed values
 	 * @param name
-	 *            name of object reference (in source code)
+	 *            name of argument of {@code needles}
 	 * 
-	 * @throws IllegalNullElementsException
-	 *             if the given argument {@code iterable} contains elements that are {@code null}
+	 * @throws IllegalNullArgumentException
+	 *             if {@code haystack} or {@code needles} is {@code null}
+	 * @throws IllegalNotContainedArgumentException
+	 *             if an element of {@code needles} is not an allowed value
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNullElementsException.class })
-	public static <T extends Iterable<?>> void noNullElements(final boolean condition, @Nonnull final T iterable, final String name) {
+	@Throws({ IllegalNullArgumentException.class, IllegalNotContainedArgumentException.class })
+	public static void containsAll(final boolean condition, @Nonnull final AllowedInts haystack, @Nonnull final int[] needles,
+			@Nullable final String name) {
 		if (condition) {
-			Check.noNullElements(iterable, name);
+			Check.containsAll(haystack, needles, name);
 		}
 	}
 
 	/**
-	 * Ensures that an array does not contain {@code null}.
+	 * Ensures that all elements of a {@code long} array {@code needles} are allowed values of {@code haystack}.
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link Check#noNullElements(Object[], String)} and pass as second
-	 * argument the name of the parameter to enhance the exception message.
+	 * The index of the first element which is not allowed is reported as part of the argument name in the exception
+	 * (e.g. {@code codes[3]}).
+	 * 
+	 * <p>
+	 * The condition must evaluate to {@code true} so that the check is executed.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#containsAll(AllowedLongs, long[], String)} and pass as
+	 * last argument the name of the parameter to enhance the exception message.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param array
-	 *            reference to an array
+	 * @param haystack
+	 *            allowed values which must contain all {@code needles}
+	 * @param needles
+	 *            an array whose elements must be allowed values
 	 * 
-	 * @throws IllegalNullElementsException
-	 *             if the given argument {@code array} contains {@code null}
+	 * @throws IllegalNullArgumentException
+	 *             if {@code haystack} or {@code needles} is {@code null}
+	 * @throws IllegalNotContainedArgumentException
+	 *             if an element of {@code needles} is not an allowed value
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNullElementsException.class })
-	public static <T> void noNullElements(final boolean condition, @Nonnull final T[] array) {
+	@Throws({ IllegalNullArgumentException.class, IllegalNotContainedArgumentException.class })
+	public static void containsAll(final boolean condition, @Nonnull final AllowedLongs haystack, @Nonnull final long[] needles) {
 		if (condition) {
-			Check.noNullElements(array);
+			Check.containsAll(haystack, needles);
 		}
 	}
 
 	/**
-	 * Ensures that an array does not contain {@code null}.
+	 * Ensures that all elements of a {@code long} array {@code needles} are allowed values of {@code haystack}.
+	 * 
+	 * <p>
+	 * The index of the first element which is not allowed is reported as part of the argument name in the exception
+	 * (e.g. {@code codes[3]}).
+	 * 
+	 * <p>
+	 * The condition must evaluate to {@code true} so that the check is executed.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param array
-	 *            reference to an array
+	 * @param haystack
+	 *            allowed values which must contain all {@code needles}
+	 * @param needles
+	 *            an array whose elements must be allowed values
 	 * @param name
-	 *            name of object reference (in source code)
+	 *            name of argument of {@code needles}
 	 * 
-	 * @throws IllegalNullElementsException
-	 *             if the given argument {@code array} contains {@code null}
+	 * @throws IllegalNullArgumentException
+	 *             if {@code haystack} or {@code needles} is {@code null}
+	 * @throws IllegalNotContainedArgumentException
+	 *             if an element of {@code needles} is not an allowed value
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalNullElementsException.class })
-	public static <T> void noNullElements(final boolean condition, @Nonnull final T[] array, @Nullable final String name) {
+	@Throws({ IllegalNullArgumentException.class, IllegalNotContainedArgumentException.class })
+	public static void containsAll(final boolean condition, @Nonnull final AllowedLongs haystack, @Nonnull final long[] needles,
+			@Nullable final String name) {
 		if (condition) {
-			Check.noNullElements(array, name);
+			Check.containsAll(haystack, needles, name);
 		}
 	}
 
 	/**
-	 * Ensures that a passed parameter of the calling method is not empty, using the passed expression to evaluate the
-	 * emptiness.
+	 * Ensures that all elements of an {@code Iterable} {@code needles} are allowed values of {@code haystack}.
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link Check#notEmpty(boolean, String)} and pass as second argument the
-	 * name of the parameter to enhance the exception message.
+	 * The index of the first element which is not allowed is reported as part of the argument name in the exception
+	 * (e.g. {@code codes[3]}).
+	 * 
+	 * <p>
+	 * The condition must evaluate to {@code true} so that the check is executed.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#containsAll(AllowedValues, Iterable, String)} and pass as
+	 * last argument the name of the parameter to enhance the exception message.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param expression
-	 *            the result of the expression to verify the emptiness of a reference ({@code true} means empty,
-	 *            {@code false} means not empty)
+	 * @param haystack
+	 *            allowed values which must contain all {@code needles}
+	 * @param needles
+	 *            an iterable object whose elements must be allowed values
 	 * 
 	 * @throws IllegalNullArgumentException
-	 *             if the given argument {@code reference} is {@code null}
-	 * @throws IllegalEmptyArgumentException
-	 *             if the given argument {@code reference} is empty
+	 *             if {@code haystack} or {@code needles} is {@code null}
+	 * @throws IllegalNotContainedArgumentException
+	 *             if an element of {@code needles} is not an allowed value
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
-	public static void notEmpty(final boolean condition, final boolean expression) {
+	@Throws({ IllegalNullArgumentException.class, IllegalNotContainedArgumentException.class })
+	public static <T extends Iterable<?>> void containsAll(final boolean condition, @Nonnull final AllowedValues<?> haystack,
+			@Nonnull final T needles) {
 		if (condition) {
-			Check.notEmpty(expression);
+			Check.containsAll(haystack, needles);
 		}
 	}
 
 	/**
-	 * Ensures that a passed parameter of the calling method is not empty, using the passed expression to evaluate the
-	 * emptiness.
+	 * Ensures that all elements of an {@code Iterable} {@code needles} are allowed values of {@code haystack}.
+	 * 
+	 * <p>
+	 * The index of the first element which is not allowed is reported as part of the argument name in the exception
+	 * (e.g. {@code codes[3]}).
+	 * 
+	 * <p>
+	 * The condition must evaluate to {@code true} so that the check is executed.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param expression
-	 *            the result of the expression to verify the emptiness of a reference ({@code true} means empty,
-	 *            {@code false} means not empty)
+	 * @param haystack
+	 *            allowed values which must contain all {@code needles}
+	 * @param needles
+	 *            an iterable object whose elements must be allowed values
 	 * @param name
-	 *            name of object reference (in source code)
+	 *            name of argument of {@code needles}
 	 * 
-	 * @throws IllegalEmptyArgumentException
-	 *             if the given argument {@code reference} is empty
+	 * @throws IllegalNullArgumentException
+	 *             if {@code haystack} or {@code needles} is {@code null}
+	 * @throws IllegalNotContainedArgumentException
+	 *             if an element of {@code needles} is not an allowed value
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
-	public static void notEmpty(final boolean condition, final boolean expression, @Nullable final String name) {
+	@Throws({ IllegalNullArgumentException.class, IllegalNotContainedArgumentException.class })
+	public static <T extends Iterable<?>> void containsAll(final boolean condition, @Nonnull final AllowedValues<?> haystack,
+			@Nonnull final T needles, @Nullable final String name) {
 		if (condition) {
-			Check.notEmpty(expression, name);
+			Check.containsAll(haystack, needles, name);
 		}
 	}
 
 	/**
-	 * Ensures that a passed string as a parameter of the calling method is not empty.
+	 * Ensures that a passed boolean is equal to another boolean. The comparison is made using
+	 * <code>expected != check</code>.
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link Check#notEmpty(CharSequence, String)} and pass as second
+	 * The condition must evaluate to {@code true} so that the check is executed.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#equals(boolean, boolean, String)} and pass as second
 	 * argument the name of the parameter to enhance the exception message.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param chars
-	 *            a readable sequence of {@code char} values which should not be empty
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            boolean to be checked
 	 * 
-	 * @throws IllegalNullArgumentException
-	 *             if the given argument {@code reference} is {@code null}
-	 * @throws IllegalEmptyArgumentException
-	 *             if the given argument {@code reference} is empty
+	 * @throws IllegalNotEqualException
+	 *             if both argument values are not equal
 	 */
-	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
-	public static <T extends CharSequence> void notEmpty(final boolean condition, @Nonnull final T chars) {
+	@Throws(IllegalNotEqualException.class)
+	public static void equals(final boolean condition, final boolean expected, final boolean check) { // NOSONAR
+		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
+
 		if (condition) {
-			Check.notEmpty(chars);
+			Check.equals(expected, check);
 		}
 	}
 
 	/**
-	 * Ensures that a passed collection as a parameter of the calling method is not empty.
+	 * Ensures that a passed boolean is equal to another boolean. The comparison is made using
+	 * <code>expected != check</code>.
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link Check#notEmpty(Collection, String)} and pass as second argument
-	 * the name of the parameter to enhance the exception message.
+	 * The condition must evaluate to {@code true} so that the check is executed.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param collection
-	 *            a collection which should not be empty
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            boolean to be checked
+	 * @param message
+	 *            an error message describing why the booleans must equal (will be passed to
+	 *            {@code IllegalNotEqualException})
 	 * 
-	 * @throws IllegalNullArgumentException
-	 *             if the given argument {@code collection} is {@code null}
-	 * @throws IllegalEmptyArgumentException
-	 *             if the given argument {@code collection} is empty
+	 * @throws IllegalNotEqualException
+	 *             if both argument values are not equal
 	 */
-	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
-	public static <T extends Collection<?>> void notEmpty(final boolean condition, @Nonnull final T collection) {
+	@Throws(IllegalNotEqualException.class)
+	public static void equals(final boolean condition, final boolean expected, final boolean check, @Nonnull final String message) { // NOSONAR
+		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
+
 		if (condition) {
-			Check.notEmpty(collection);
+			Check.equals(expected, check, message);
 		}
 	}
 
 	/**
-	 * Ensures that a passed map as a parameter of the calling method is not empty.
+	 * Ensures that a passed byte is equal to another byte. The comparison is made using <code>expected != check</code>.
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link Check#notEmpty(Collection, String)} and pass as second argument
+	 * The condition must evaluate to {@code true} so that the check is executed.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#equals(byte, byte, String)} and pass as second argument
 	 * the name of the parameter to enhance the exception message.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param map
-	 *            a map which should not be empty
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            byte to be checked
 	 * 
-	 * @throws IllegalNullArgumentException
-	 *             if the given argument {@code map} is {@code null}
-	 * @throws IllegalEmptyArgumentException
-	 *             if the given argument {@code map} is empty
+	 * @throws IllegalNotEqualException
+	 *             if both argument values are not equal
 	 */
-	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
-	public static <T extends Map<?, ?>> void notEmpty(final boolean condition, @Nonnull final T map) {
+	@Throws(IllegalNotEqualException.class)
+	public static void equals(final boolean condition, final byte expected, final byte check) { // NOSONAR
+		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
+
 		if (condition) {
-			Check.notEmpty(map);
+			Check.equals(expected, check);
 		}
 	}
 
 	/**
-	 * Ensures that an object reference passed as a parameter to the calling method is not empty. The passed boolean
-	 * value is the result of checking whether the reference is empty or not.
+	 * Ensures that a passed byte is equal to another byte. The comparison is made using <code>expected != check</code>.
 	 * 
 	 * <p>
-	 * The following example describes how to use it.
-	 * 
-	 * <pre>
-	 * &#064;ArgumentsChecked
-	 * public setText(String text) {
-	 * 	ConditionalCheck.notEmpty(true, text, text.isEmpty(), &quot;text&quot;);
-	 * 	this.text = text;
-	 * }
-	 * </pre>
+	 * The condition must evaluate to {@code true} so that the check is executed.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param reference
-	 *            an object reference which should not be empty
-	 * @param expression
-	 *            the result of the expression to verify the emptiness of a reference ({@code true} means empty,
-	 *            {@code false} means not empty)
-	 * @param name
-	 *            name of object reference (in source code)
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            byte to be checked
+	 * @param message
+	 *            an error message describing why the bytes must equal (will be passed to
+	 *            {@code IllegalNotEqualException})
 	 * 
-	 * @throws IllegalNullArgumentException
-	 *             if the given argument {@code reference} is {@code null}
-	 * @throws IllegalEmptyArgumentException
-	 *             if the given argument {@code reference} is empty
+	 * @throws IllegalNotEqualException
+	 *             if both argument values are not equal
 	 */
-	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
-	public static <T> void notEmpty(final boolean condition, @Nonnull final T reference, final boolean expression,
-			@Nullable final String name) {
+	@Throws(IllegalNotEqualException.class)
+	public static void equals(final boolean condition, final byte expected, final byte check, @Nonnull final String message) { // NOSONAR
+		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
+
 		if (condition) {
-			Check.notEmpty(reference, expression, name);
+			Check.equals(expected, check, message);
 		}
 	}
 
 	/**
-	 * Ensures that a passed string as a parameter of the calling method is not empty.
+	 * Ensures that a passed char is equal to another char. The comparison is made using <code>expected != check</code>.
 	 * 
 	 * <p>
-	 * The following example describes how to use it.
+	 * The condition must evaluate to {@code true} so that the check is executed.
 	 * 
-	 * <pre>
-	 * &#064;ArgumentsChecked
-	 * public setText(String text) {
-	 * 	this.text = Check.notEmpty(text, &quot;text&quot;);
-	 * }
-	 * </pre>
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#equals(char, char, String)} and pass as second argument
+	 * the name of the parameter to enhance the exception message.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param chars
-	 *            a readable sequence of {@code char} values which should not be empty
-	 * @param name
-	 *            name of object reference (in source code)
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            char to be checked
 	 * 
-	 * @throws IllegalNullArgumentException
-	 *             if the given argument {@code string} is {@code null}
-	 * @throws IllegalEmptyArgumentException
-	 *             if the given argument {@code string} is empty
+	 * @throws IllegalNotEqualException
+	 *             if both argument values are not equal
 	 */
-	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
-	public static <T extends CharSequence> void notEmpty(final boolean condition, @Nonnull final T chars, @Nullable final String name) {
+	@Throws(IllegalNotEqualException.class)
+	public static void equals(final boolean condition, final char expected, final char check) { // NOSONAR
+		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
+
 		if (condition) {
-			Check.notEmpty(chars, name);
+			Check.equals(expected, check);
 		}
 	}
 
 	/**
-	 * Ensures that a passed map as a parameter of the calling method is not empty.
+	 * Ensures that a passed char is equal to another char. The comparison is made using <code>expected != check</code>.
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link Check#notEmpty(Collection, String)} and pass as second argument
-	 * the name of the parameter to enhance the exception message.
+	 * The condition must evaluate to {@code true} so that the check is executed.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param map
-	 *            a map which should not be empty
-	 * @param name
-	 *            name of object reference (in source code)
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            char to be checked
+	 * @param message
+	 *            an error message describing why the chars must equal (will be passed to
+	 *            {@code IllegalNotEqualException})
 	 * 
-	 * @throws IllegalNullArgumentException
-	 *             if the given argument {@code map} is {@code null}
-	 * @throws IllegalEmptyArgumentException
-	 *             if the given argument {@code map} is empty
+	 * @throws IllegalNotEqualException
+	 *             if both argument values are not equal
 	 */
-	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
-	public static <T extends Map<?, ?>> void notEmpty(final boolean condition, @Nonnull final T map, @Nullable final String name) {
+	@Throws(IllegalNotEqualException.class)
+	public static void equals(final boolean condition, final char expected, final char check, @Nonnull final String message) { // NOSONAR
+		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
+
 		if (condition) {
-			Check.notEmpty(map, name);
+			Check.equals(expected, check, message);
 		}
 	}
 
 	/**
-	 * Ensures that a passed collection as a parameter of the calling method is not empty.
+	 * Ensures that a passed intH is equal to another int. The comparison is made using <code>expected != check</code>.
 	 * 
 	 * <p>
-	 * The following example describes how to use it.
+	 * The condition must evaluate to {@code true} so that the check is executed.
 	 * 
-	 * <pre>
-	 * &#064;ArgumentsChecked
-	 * public setCollection(Collection&lt;String&gt; collection) {
-	 * 	this.collection = Check.notEmpty(collection, &quot;collection&quot;);
-	 * }
-	 * </pre>
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#equals(int, int, String)} and pass as second argument the
+	 * name of the parameter to enhance the exception message.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param collection
-	 *            a collection which should not be empty
-	 * @param name
-	 *            name of object reference (in source code)
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            int to be checked
 	 * 
-	 * @throws IllegalNullArgumentException
-	 *             if the given argument {@code collection} is {@code null}
-	 * @throws IllegalEmptyArgumentException
-	 *             if the given argument {@code collection} is empty
+	 * @throws IllegalNotEqualException
+	 *             if both argument values are not equal
 	 */
-	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
-	public static <T extends Collection<?>> void notEmpty(final boolean condition, @Nonnull final T collection, @Nullable final String name) {
+	@Throws(IllegalNotEqualException.class)
+	public static void equals(final boolean condition, final int expected, final int check) { // NOSONAR
+		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
+
 		if (condition) {
-			Check.notEmpty(collection, name);
+			Check.equals(expected, check);
 		}
 	}
 
 	/**
-	 * Ensures that a passed map as a parameter of the calling method is not empty.
+	 * Ensures that a passed int is equal to another int. The comparison is made using <code>expected != check</code>.
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link Check#notEmpty(Object[], String)} and pass as second argument
-	 * the name of the parameter to enhance the exception message.
+	 * The condition must evaluate to {@code true} so that the check is executed.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param array
-	 *            a map which should not be empty
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            int to be checked
+	 * @param message
+	 *            an error message describing why the ints must equal (will be passed to
+	 *            {@code IllegalNotEqualException})
 	 * 
-	 * @throws IllegalNullArgumentException
-	 *             if the given argument {@code array} is {@code null}
-	 * @throws IllegalEmptyArgumentException
-	 *             if the given argument {@code array} is empty
+	 * @throws IllegalNotEqualException
+	 *             if both argument values are not equal
 	 */
-	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
-	public static <T> void notEmpty(final boolean condition, @Nonnull final T[] array) {
-		if (condition) {
-			Check.notEmpty(array);
-		}
-	}
+	@Throws(IllegalNotEqualException.class)
+	public static void equals(final boolean condition, final int expected, final int check, @Nonnull final String message) { // NOSONAR
+		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
 
-	/**
-	 * Ensures that a passed map as a parameter of the calling method is not empty.
-	 * 
-	 * @param condition
-	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param array
-	 *            a map which should not be empty
-	 * @param name
-	 *            name of object reference (in source code)
-	 * 
-	 * @throws IllegalNullArgumentException
-	 *             if the given argument {@code array} is {@code null}
-	 * @throws IllegalEmptyArgumentException
-	 *             if the given argument {@code array} is empty
-	 */
-	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
-	public static <T> void notEmpty(final boolean condition, @Nonnull final T[] array, @Nullable final String name) {
 		if (condition) {
-			Check.notEmpty(array, name);
+			Check.equals(expected, check, message);
 		}
+
 	}
 
 	/**
-	 * Ensures that a passed boolean is not equal to another boolean. The comparison is made using
-	 * <code>expected == check</code>.
+	 * Ensures that a passed long is equal to another long. The comparison is made using <code>expected != check</code>.
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link ConditionalCheck#notEquals(condition,boolean, boolean, String)}
-	 * and pass as second argument the name of the parameter to enhance the exception message.
+	 * The condition must evaluate to {@code true} so that the check is executed.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#equals(long, long, String)} and pass as second argument
+	 * the name of the parameter to enhance the exception message.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
 	 * @param expected
 	 *            Expected value
 	 * @param check
-	 *            boolean to be checked
+	 *            long to be checked
 	 * 
-	 * @throws IllegalEqualException
+	 * @throws IllegalNotEqualException
 	 *             if both argument values are not equal
 	 */
-	@Throws(IllegalEqualException.class)
-	public static void notEquals(final boolean condition, final boolean expected, final boolean check) {
+	@Throws(IllegalNotEqualException.class)
+	public static void equals(final boolean condition, final long expected, final long check) { // NOSONAR
+		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
+
 		if (condition) {
-			Check.notEquals(expected, check);
+			Check.equals(expected, check);
 		}
 	}
 
 	/**
-	 * Ensures that a passed boolean is not equal to another boolean. The comparison is made using
-	 * <code>expected == check</code>.
+	 * Ensures that a passed long is equal to another long. The comparison is made using <code>expected != check</code>.
+	 * 
+	 * <p>
+	 * The condition must evaluate to {@code true} so that the check is executed.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
 	 * @param expected
 	 *            Expected value
 	 * @param check
-	 *            boolean to be checked
+	 *            long to be checked
 	 * @param message
-	 *            an error message describing why the booleans must equal (will be passed to
-	 *            {@code IllegalEqualException})
+	 *            an error message describing why the longs must equal (will be passed to
+	 *            {@code IllegalNotEqualException})
 	 * 
-	 * @throws IllegalEqualException
+	 * @throws IllegalNotEqualException
 	 *             if both argument values are not equal
 	 */
-	@Throws(IllegalEqualException.class)
-	public static void notEquals(final boolean condition, final boolean expected, final boolean check, @Nonnull final String message) {
+	@Throws(IllegalNotEqualException.class)
+	public static void equals(final boolean condition, final long expected, final long check, @Nonnull final String message) { // NOSONAR
+		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
+
 		if (condition) {
-			Check.notEquals(expected, check, message);
+			Check.equals(expected, check, message);
 		}
 	}
 
 	/**
-	 * Ensures that a passed byte is not equal to another byte. The comparison is made using
-	 * <code>expected == check</code>.
+	 * Ensures that a passed short is equal to another short. The comparison is made using
+	 * <code>expected != check</code>.
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link ConditionalCheck#notEquals(condition,byte, byte, String)} and
-	 * pass as second argument the name of the parameter to enhance the exception message.
+	 * The condition must evaluate to {@code true} so that the check is executed.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#equals(short, short, String)} and pass as second argument
+	 * the name of the parameter to enhance the exception message.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
 	 * @param expected
 	 *            Expected value
 	 * @param check
-	 *            byte to be checked
+	 *            short to be checked
 	 * 
-	 * @throws IllegalEqualException
+	 * @throws IllegalNotEqualException
 	 *             if both argument values are not equal
 	 */
-	@Throws(IllegalEqualException.class)
-	public static void notEquals(final boolean condition, final byte expected, final byte check) {
+	@Throws(IllegalNotEqualException.class)
+	public static void equals(final boolean condition, final short expected, final short check) { // NOSONAR
+		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
+
 		if (condition) {
-			Check.notEquals(expected, check);
+			Check.equals(expected, check);
 		}
 	}
 
 	/**
-	 * Ensures that a passed byte is not equal to another byte. The comparison is made using
-	 * <code>expected == check</code>.
+	 * Ensures that a passed short is equal to another short. The comparison is made using
+	 * <code>expected != check</code>.
+	 * 
+	 * <p>
+	 * The condition must evaluate to {@code true} so that the check is executed.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
 	 * @param expected
 	 *            Expected value
 	 * @param check
-	 *            byte to be checked
+	 *            short to be checked
 	 * @param message
-	 *            an error message describing why the bytes must equal (will be passed to {@code IllegalEqualException})
+	 *            an error message describing why the shorts must equal (will be passed to
+	 *            {@code IllegalNotEqualException})
 	 * 
-	 * @throws IllegalEqualException
+	 * @throws IllegalNotEqualException
 	 *             if both argument values are not equal
 	 */
-	@Throws(IllegalEqualException.class)
-	public static void notEquals(final boolean condition, final byte expected, final byte check, @Nonnull final String message) {
+	@Throws(IllegalNotEqualException.class)
+	public static void equals(final boolean condition, final short expected, final short check, @Nonnull final String message) { // NOSONAR
+		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
+
 		if (condition) {
-			Check.notEquals(expected, check, message);
+			Check.equals(expected, check, message);
 		}
 	}
 
 	/**
-	 * Ensures that a passed char is not equal to another char. The comparison is made using
-	 * <code>expected == check</code>.
+	 * Ensures that a passed object is equal to another object. The comparison is made using a call to
+	 * {@code expected.equals(check) }.
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link ConditionalCheck#notEquals(condition,char, char, String)} and
-	 * pass as second argument the name of the parameter to enhance the exception message.
+	 * The condition must evaluate to {@code true} so that the check is executed.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
 	 * @param expected
 	 *            Expected value
 	 * @param check
-	 *            char to be checked
+	 *            Object to be checked
 	 * 
-	 * @throws IllegalEqualException
+	 * @throws IllegalNotEqualException
 	 *             if both argument values are not equal
 	 */
-	@Throws(IllegalEqualException.class)
-	public static void notEquals(final boolean condition, final char expected, final char check) {
-		if (condition) {
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotEqualException.class })
+	public static <T extends Object> T equals(final boolean condition, @Nonnull final T expected, @Nonnull final T check) { // NOSONAR
+		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
+		if (condition) {
+			return Check.equals(expected, check);
+		}
+
+		return check;
+	}
+
+	/**
+	 * Ensures that a passed object is equal to another object. The comparison is made using a call to
+	 * {@code expected.equals(check) }.
+	 * 
+	 * <p>
+	 * The condition must evaluate to {@code true} so that the check is executed.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expect
+	 *            expected value
+	 * @param check
+	 *            object to be checked
+	 * @param msg
+	 *            an error message describing why the objects must equal (will be passed to
+	 *            {@code IllegalNotEqualException})
+	 * 
+	 * @throws IllegalNotEqualException
+	 *             if both argument values are not equal
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotEqualException.class })
+	public static <T extends Object> void equals(final boolean condition, @Nonnull final T expect, @Nonnull final T check, final String msg) { // NOSONAR
+		// Sonar warns about suspicious equals method name, as the name is intended deactivate sonar
+		if (condition) {
+			Check.equals(expect, check);
+		}
+	}
+
+	/**
+	 * Ensures that a passed {@code Comparable} is greater than or equal to {@code Comparable}. The comparison is made
+	 * using {@code expected.compareTo(check) > 0}.
+	 * 
+	 * <p>
+	 * The condition must evaluate to {@code true} so that the check is executed.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true} so that the check will be performed
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            Comparable to be checked
+	 * 
+	 * @throws IllegalNotGreaterOrEqualThanException
+	 *             if the argument value {@code check} is not greater or equal than value {@code expected} when using
+	 *             method {@code compareTo}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotGreaterOrEqualThanException.class })
+	public static <T extends Comparable<T>> void greaterOrEqualThan(final boolean condition, @Nonnull final T expected,
+			@Nonnull final T check) {
+		Check.requireNotNull(expected, "expected");
+		Check.requireNotNull(check, "check");
+
+		if (condition) {
+			Check.greaterOrEqualThan(expected, check);
+		}
+	}
+
+	/**
+	 * Ensures that a passed {@code Comparable} is greater than or equal to another {@code Comparable}. The comparison
+	 * is made using {@code expected.compareTo(check) > 0}.
+	 * 
+	 * <p>
+	 * The condition must evaluate to {@code true} so that the check is executed.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true} so that the check will be performed
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            Comparable to be checked
+	 * @param message
+	 *            an error message describing why the comparable must be greater than or equal a value (will be passed
+	 *            to {@code IllegalNotGreaterOrEqualThanException})
+	 * 
+	 * @throws IllegalNotGreaterOrEqualThanException
+	 *             if the argument value {@code check} is not greater than or equal to value {@code expected} when using
+	 *             method {@code compareTo}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotGreaterOrEqualThanException.class })
+	public static <T extends Comparable<T>> void greaterOrEqualThan(final boolean condition, @Nonnull final T expected,
+			@Nonnull final T check, @Nonnull final String message) {
+		Check.requireNotNull(expected, "expected");
+		Check.requireNotNull(check, "check");
+
+		if (condition) {
+			Check.greaterOrEqualThan(expected, check, message);
+		}
+	}
+
+	/**
+	 * Ensures that a passed {@code Comparable} is greater to another {@code Comparable}. The comparison is made using
+	 * {@code expected.compareTo(check) >= 0}.
+	 * 
+	 * <p>
+	 * The condition must evaluate to {@code true} so that the check is executed.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            Comparable to be checked
+	 * 
+	 * @throws IllegalNotGreaterThanException
+	 *             if the argument value {@code check} is not greater than value {@code expected} when using method
+	 *             {@code compareTo}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotGreaterThanException.class })
+	public static <T extends Comparable<T>> void greaterThan(final boolean condition, @Nonnull final T expected, @Nonnull final T check) {
+		Check.requireNotNull(expected, "expected");
+		Check.requireNotNull(check, "check");
+
+		if (condition) {
+			Check.greaterThan(expected, check);
+		}
+	}
+
+	/**
+	 * Ensures that a passed {@code Comparable} is greater than another {@code Comparable}. The comparison is made using
+	 * {@code expected.compareTo(check) >= 0}.
+	 * 
+	 * <p>
+	 * The condition must evaluate to {@code true} so that the check is executed.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            Comparable to be checked
+	 * @param message
+	 *            an error message describing why the comparable must be greater than a value (will be passed to
+	 *            {@code IllegalNotGreaterThanException})
+	 * 
+	 * @throws IllegalNotGreaterThanException
+	 *             if the argument value {@code check} is not greater than value {@code expected} when using method
+	 *             {@code compareTo}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotGreaterThanException.class })
+	public static <T extends Comparable<T>> void greaterThan(final boolean condition, @Nonnull final T expected, @Nonnull final T check,
+			final String message) {
+		Check.requireNotNull(expected, "expected");
+		Check.requireNotNull(check, "check");
+
+		if (condition) {
+			Check.greaterThan(expected, check, message);
+		}
+	}
+
+	/**
+	 * Ensures that a passed class has an annotation of a specific type
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param clazz
+	 *            the class that must have a required annotation
+	 * @param annotation
+	 *            the type of annotation that is required on the class
+	 * 
+	 * @throws IllegalMissingAnnotationException
+	 *             if the passed annotation is not annotated at the given class
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalMissingAnnotationException.class })
+	public static void hasAnnotation(final boolean condition, @Nonnull final Class<?> clazz,
+			@Nonnull final Class<? extends Annotation> annotation) {
+		Check.requireNotNull(clazz, "clazz");
+		Check.requireNotNull(annotation, "annotation");
+
+		if (condition) {
+			Check.hasAnnotation(clazz, annotation);
+		}
+	}
+
+	/**
+	 * Ensures that a {@code byte} value is within the half-open range from {@code min} (inclusive) to {@code max}
+	 * (exclusive).
+	 * 
+	 * <p>
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#inRange(byte, byte, byte, String)} and pass as last
+	 * argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (exclusive)
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or not lesser than {@code max}
+	 */
+	@Throws(IllegalNotInRangeException.class)
+	public static void inRange(final boolean condition, final byte value, final byte min, final byte max) {
+		if (condition) {
+			Check.inRange(value, min, max);
+		}
+	}
+
+	/**
+	 * Ensures that a {@code byte} value is within the half-open range from {@code min} (inclusive) to {@code max}
+	 * (exclusive).
+	 * 
+	 * <p>
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (exclusive)
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or not lesser than {@code max}
+	 */
+	@Throws(IllegalNotInRangeException.class)
+	public static void inRange(final boolean condition, final byte value, final byte min, final byte max,
+			@Nullable final String name) {
+		if (condition) {
+			Check.inRange(value, min, max, name);
+		}
+	}
+
+	/**
+	 * Ensures that a {@code char} value is within the half-open range from {@code min} (inclusive) to {@code max}
+	 * (exclusive).
+	 * 
+	 * <p>
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#inRange(char, char, char, String)} and pass as last
+	 * argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (exclusive)
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or not lesser than {@code max}
+	 */
+	@Throws(IllegalNotInRangeException.class)
+	public static void inRange(final boolean condition, final char value, final char min, final char max) {
+		if (condition) {
+			Check.inRange(value, min, max);
+		}
+	}
+
+	/**
+	 * Ensures that a {@code char} value is within the half-open range from {@code min} (inclusive) to {@code max}
+	 * (exclusive).
+	 * 
+	 * <p>
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (exclusive)
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or not lesser than {@code max}
+	 */
+	@Throws(IllegalNotInRangeException.class)
+	public static void inRange(final boolean condition, final char value, final char min, final char max,
+			@Nullable final String name) {
+		if (condition) {
+			Check.inRange(value, min, max, name);
+		}
+	}
+
+	/**
+	 * Ensures that a {@code double} value is within the half-open range from {@code min} (inclusive) to {@code max}
+	 * (exclusive). NaN is not within any range.
+	 * 
+	 * <p>
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#inRange(double, double, double, String)} and pass as last
+	 * argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (exclusive)
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or not lesser than {@code max}
+	 */
+	@Throws(IllegalNotInRangeException.class)
+	public static void inRange(final boolean condition, final double value, final double min, final double max) {
+		if (condition) {
+			Check.inRange(value, min, max);
+		}
+	}
+
+	/**
+	 * Ensures that a {@code double} value is within the half-open range from {@code min} (inclusive) to {@code max}
+	 * (exclusive). NaN is not within any range.
+	 * 
+	 * <p>
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (exclusive)
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or not lesser than {@code max}
+	 */
+	@Throws(IllegalNotInRangeException.class)
+	public static void inRange(final boolean condition, final double value, final double min, final double max,
+			@Nullable final String name) {
+		if (condition) {
+			Check.inRange(value, min, max, name);
+		}
+	}
+
+	/**
+	 * Ensures that a {@code float} value is within the half-open range from {@code min} (inclusive) to {@code max}
+	 * (exclusive). NaN is not within any range.
+	 * 
+	 * <p>
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#inRange(float, float, float, String)} and pass as last
+	 * argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (exclusive)
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or not lesser than {@code max}
+	 */
+	@Throws(IllegalNotInRangeException.class)
+	public static void inRange(final boolean condition, final float value, final float min, final float max) {
+		if (condition) {
+			Check.inRange(value, min, max);
+		}
+	}
+
+	/**
+	 * Ensures that a {@code float} value is within the half-open range from {@code min} (inclusive) to {@code max}
+	 * (exclusive). NaN is not within any range.
+	 * 
+	 * <p>
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (exclusive)
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or not lesser than {@code max}
+	 */
+	@Throws(IllegalNotInRangeException.class)
+	public static void inRange(final boolean condition, final float value, final float min, final float max,
+			@Nullable final String name) {
+		if (condition) {
+			Check.inRange(value, min, max, name);
+		}
+	}
+
+	/**
+	 * Ensures that an {@code int} value is within the half-open range from {@code min} (inclusive) to {@code max}
+	 * (exclusive).
+	 * 
+	 * <p>
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#inRange(int, int, int, String)} and pass as last argument
+	 * the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (exclusive)
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or not lesser than {@code max}
+	 */
+	@Throws(IllegalNotInRangeException.class)
+	public static void inRange(final boolean condition, final int value, final int min, final int max) {
+		if (condition) {
+			Check.inRange(value, min, max);
+		}
+	}
+
+	/**
+	 * Ensures that an {@code int} value is within the half-open range from {@code min} (inclusive) to {@code max}
+	 * (exclusive).
+	 * 
+	 * <p>
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (exclusive)
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or not lesser than {@code max}
+	 */
+	@Throws(IllegalNotInRangeException.class)
+	public static void inRange(final boolean condition, final int value, final int min, final int max,
+			@Nullable final String name) {
+		if (condition) {
+			Check.inRange(value, min, max, name);
+		}
+	}
+
+	/**
+	 * Ensures that a {@code long} value is within the half-open range from {@code min} (inclusive) to {@code max}
+	 * (exclusive).
+	 * 
+	 * <p>
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#inRange(long, long, long, String)} and pass as last
+	 * argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (exclusive)
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or not lesser than {@code max}
+	 */
+	@Throws(IllegalNotInRangeException.class)
+	public static void inRange(final boolean condition, final long value, final long min, final long max) {
+		if (condition) {
+			Check.inRange(value, min, max);
+		}
+	}
+
+	/**
+	 * Ensures that a {@code long} value is within the half-open range from {@code min} (inclusive) to {@code max}
+	 * (exclusive).
+	 * 
+	 * <p>
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (exclusive)
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or not lesser than {@code max}
+	 */
+	@Throws(IllegalNotInRangeException.class)
+	public static void inRange(final boolean condition, final long value, final long min, final long max,
+			@Nullable final String name) {
+		if (condition) {
+			Check.inRange(value, min, max, name);
+		}
+	}
+
+	/**
+	 * Ensures that a {@code short} value is within the half-open range from {@code min} (inclusive) to {@code max}
+	 * (exclusive).
+	 * 
+	 * <p>
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#inRange(short, short, short, String)} and pass as last
+	 * argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (exclusive)
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or not lesser than {@code max}
+	 */
+	@Throws(IllegalNotInRangeException.class)
+	public static void inRange(final boolean condition, final short value, final short min, final short max) {
+		if (condition) {
+			Check.inRange(value, min, max);
+		}
+	}
+
+	/**
+	 * Ensures that a {@code short} value is within the half-open range from {@code min} (inclusive) to {@code max}
+	 * (exclusive).
+	 * 
+	 * <p>
+	 * In contrast to {@code greaterOrEqualThan} and {@code lesserThan} the value is compared as primitive, so that
+	 * neither the value nor the bounds are boxed, not even when the exception is thrown.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param value
+	 *            a number
+	 * @param min
+	 *            lower bound of the range (inclusive)
+	 * @param max
+	 *            upper bound of the range (exclusive)
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @throws IllegalNotInRangeException
+	 *             if the given {@code value} is lesser than {@code min} or not lesser than {@code max}
+	 */
+	@Throws(IllegalNotInRangeException.class)
+	public static void inRange(final boolean condition, final short value, final short min, final short max,
+			@Nullable final String name) {
+		if (condition) {
+			Check.inRange(value, min, max, name);
+		}
+	}
+
+	/**
+	 * Ensures that a passed argument is a member of a specific type.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param type
+	 *            class that the given object is a member of
+	 * @param obj
+	 *            the object reference that should be a member of a specific {@code type}
+	 * 
+	 * @throws IllegalInstanceOfArgumentException
+	 *             if the given argument {@code obj} is not a member of {@code type}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalInstanceOfArgumentException.class })
+	@SuppressWarnings("unchecked")
+	public static <T> T instanceOf(final boolean condition, @Nonnull final Class<?> type, @Nonnull final Object obj) {
+		if (condition) {
+			return (T) Check.instanceOf(type, obj);
+		}
+
+		return (T) obj;
+	}
+
+	/**
+	 * Ensures that a passed argument is a member of a specific type.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param type
+	 *            class that the given object is a member of
+	 * @param obj
+	 *            the object reference that should be a member of a specific {@code type}
+	 * @param name
+	 *            name of object reference (in source code)
+	 * 
+	 * @throws IllegalInstanceOfArgumentException
+	 *             if the given argument {@code obj} is not a member of {@code type}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalInstanceOfArgumentException.class })
+	@SuppressWarnings("unchecked")
+	public static <T> T instanceOf(final boolean condition, @Nonnull final Class<?> type, @Nonnull final Object obj,
+			@Nullable final String name) {
+		if (condition) {
+			return (T) Check.instanceOf(type, obj, name);
+		}
+
+		return (T) obj;
+	}
+
+	/**
+	 * Ensures that a readable sequence of {@code char} values is a number in the range of {@code byte}.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#isByte(CharSequence, String)} and pass as second argument
+	 * the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param value
+	 *            value which must be a number in the range of {@code byte}
+	 * 
+	 * @throws IllegalNumberArgumentException
+	 *             if the given argument {@code value} is no number
+	 * @throws IllegalNumberRangeException
+	 *             if the given argument {@code value} is not in the range of {@code byte}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberArgumentException.class })
+	public static void isByte(final boolean condition, @Nonnull final CharSequence value) {
+		if (condition) {
+			Check.isByte(value);
+		}
+	}
+
+	/**
+	 * Ensures that a readable sequence of {@code char} values is a number in the range of {@code byte}.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param value
+	 *            value which must be a number in the range of {@code byte}
+	 * @param name
+	 *            name of object reference (in source code)
+	 * 
+	 * @throws IllegalNumberArgumentException
+	 *             if the given argument {@code value} is no number
+	 * @throws IllegalNumberRangeException
+	 *             if the given argument {@code value} is not in the range of {@code byte}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberArgumentException.class })
+	public static void isByte(final boolean condition, @Nonnull final CharSequence value, @Nullable final String name) {
+		if (condition) {
+			Check.isByte(value, name);
+		}
+	}
+
+	/**
+	 * Ensures that a readable sequence of {@code char} values is a number in the range of {@code int}.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#isInt(CharSequence, String)} and pass as second argument
+	 * the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param value
+	 *            value which must be a number in the range of {@code int}
+	 * 
+	 * @throws IllegalNumberArgumentException
+	 *             if the given argument {@code value} is no number
+	 * @throws IllegalNumberRangeException
+	 *             if the given argument {@code value} is not in the range of {@code int}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberArgumentException.class })
+	public static void isInt(final boolean condition, @Nonnull final CharSequence value) {
+		if (condition) {
+			Check.isInt(value);
+		}
+	}
+
+	/**
+	 * Ensures that a readable sequence of {@code char} values is a number in the range of {@code int}.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param value
+	 *            value which must be a number in the range of {@code int}
+	 * @param name
+	 *            name of object reference (in source code)
+	 * 
+	 * @throws IllegalNumberArgumentException
+	 *             if the given argument {@code value} is no number
+	 * @throws IllegalNumberRangeException
+	 *             if the given argument {@code value} is not in the range of {@code int}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberArgumentException.class })
+	public static void isInt(final boolean condition, @Nonnull final CharSequence value, @Nullable final String name) {
+		if (condition) {
+			Check.isInt(value, name);
+		}
+	}
+
+	/**
+	 * Ensures that a readable sequence of {@code char} values is a number in the range of {@code long}.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#isLong(CharSequence, String)} and pass as second argument
+	 * the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param value
+	 *            value which must be a number in the range of {@code long}
+	 * 
+	 * @throws IllegalNumberArgumentException
+	 *             if the given argument {@code value} is no number
+	 * @throws IllegalNumberRangeException
+	 *             if the given argument {@code value} is not in the range of {@code long}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberArgumentException.class })
+	public static void isLong(final boolean condition, @Nonnull final CharSequence value) {
+		if (condition) {
+			Check.isLong(value);
+		}
+	}
+
+	/**
+	 * Ensures that a readable sequence of {@code char} values is a number in the range of {@code long}.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param value
+	 *            value which must be a number in the range of {@code long}
+	 * @param name
+	 *            name of object reference (in source code)
+	 * 
+	 * @throws IllegalNumberArgumentException
+	 *             if the given argument {@code value} is no number
+	 * @throws IllegalNumberRangeException
+	 *             if the given argument {@code value} is not in the range of {@code long}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberArgumentException.class })
+	public static void isLong(final boolean condition, @Nonnull final CharSequence value, @Nullable final String name) {
+		if (condition) {
+			Check.isLong(value, name);
+		}
+	}
+
+	/**
+	 * Ensures that a given argument is {@code null}.
+	 * 
+	 * Normally, the usage of {@code null} arguments is disregarded by the authors of quality-check. Still, there are
+	 * certain circumstances where null is required, e.g. the primary key of an entity before it is written to the
+	 * database for the first time. In such cases it is ok to use null values and there should also be checks for them.
+	 * For example, to avoid overwriting an existing primary key with a new one.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param reference
+	 *            reference which must be null
+	 * 
+	 * @throws IllegalNotNullArgumentException
+	 *             if the given argument {@code reference} is not null
+	 */
+	@Throws(IllegalNotNullArgumentException.class)
+	public static void isNull(final boolean condition, @Nullable final Object reference) {
+		if (condition) {
+			Check.isNull(reference);
+		}
+	}
+
+	/**
+	 * Ensures that a given argument is {@code null}.
+	 * 
+	 * Normally, the usage of {@code null} arguments is disregarded by the authors of quality-check. Still, there are
+	 * certain circumstances where null is required, e.g. the primary key of an entity before it is written to the
+	 * database for the first time. In such cases it is ok to use null values and there should also be checks for them.
+	 * For example, to avoid overwriting an existing primary key with a new one.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param reference
+	 *            reference which must be null.
+	 * @param name
+	 *            name of object reference (in source code)
+	 * 
+	 * @throws IllegalNotNullArgumentException
+	 *             if the given argument {@code reference} is not null
+	 */
+	@Throws(IllegalNotNullArgumentException.class)
+	public static void isNull(final boolean condition, @Nullable final Object reference, @Nullable final String name) {
+		if (condition) {
+			Check.isNull(reference, name);
+		}
+	}
+
+	/**
+	 * Ensures that a String argument is a number.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param value
+	 *            value which must be a number
+	 * @throws IllegalNumberArgumentException
+	 *             if the given argument {@code value} is not a number
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberArgumentException.class })
+	public static void isNumber(final boolean condition, @Nonnull final String value) {
+		if (condition) {
+			Check.isNumber(value);
+		}
+	}
+
+	/**
+	 * Ensures that a String argument is a number. This overload supports all subclasses of {@code Number}. The number
+	 * is first converted to a BigInteger
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param value
+	 *            value which must be a number
+	 * @param type
+	 *            requested return value type, must be a subclass of {@code Number}, i.e. one of {@code BigDecimal,
+	 *            BigInteger, Byte, Double, Float, Integer, Long, Short}
+	 * 
+	 * @throws IllegalNumberArgumentException
+	 *             if the given argument {@code value} is no number
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberArgumentException.class })
+	public static <T extends Number> void isNumber(final boolean condition, @Nonnull final String value, @Nonnull final Class<T> type) {
+		if (condition) {
+			Check.isNumber(value, type);
+		}
+	}
+
+	/**
+	 * Ensures that a string argument is a number according to {@code Integer.parseInt}
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param value
+	 *            value which must be a number
+	 * @param name
+	 *            name of object reference (in source code)
+	 * 
+	 * @throws IllegalNumberArgumentException
+	 *             if the given argument {@code value} is no number
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberArgumentException.class })
+	public static void isNumber(final boolean condition, @Nonnull final String value, @Nullable final String name) {
+		if (condition) {
+			Check.isNumber(value, name);
+		}
+	}
+
+	/**
+	 * Ensures that a String argument is a number. This overload supports all subclasses of {@code Number}. The number
+	 * is first converted to a {@code BigDecimal} or {@code BigInteger}. Floating point types are only supported if the
+	 * {@code type} is one of {@code Float, Double, BigDecimal}.
+	 * 
+	 * <p>
+	 * This method does also check against the ranges of the given datatypes.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param value
+	 *            value which must be a number and in the range of the given datatype.
+	 * @param name
+	 *            (optional) name of object reference (in source code).
+	 * @param type
+	 *            requested return value type, must be a subclass of {@code Number}, i.e. one of {@code BigDecimal,
+	 *            BigInteger, Byte, Double, Float, Integer, Long, Short}
+	 * @throws IllegalNumberArgumentException
+	 *             if the given argument {@code value} is no number
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberArgumentException.class })
+	public static <T extends Number> void isNumber(final boolean condition, @Nonnull final String value, @Nullable final String name,
+			@Nonnull final Class<T> type) {
+		if (condition) {
+			Check.isNumber(value, name, type);
+		}
+	}
+
+	/**
+	 * Ensures that the remaining bytes of a buffer, i.e. the bytes between its position and limit, are numeric. Numeric
+	 * arguments consist only of the ASCII characters 0-9 and may start with 0. The bytes are checked in place without
+	 * copying them and without changing the position of the buffer.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#isNumeric(ByteBuffer, String)} and pass as second argument
+	 * the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param buffer
+	 *            buffer whose remaining bytes must be numeric
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given buffer is {@code null}
+	 * @throws IllegalNumericArgumentException
+	 *             if the remaining bytes are empty or contain a byte which is no digit
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumericArgumentException.class })
+	public static <T extends ByteBuffer> void isNumeric(final boolean condition, @Nonnull final T buffer) {
+		if (condition) {
+			Check.isNumeric(buffer);
+		}
+	}
+
+	/**
+	 * Ensures that the remaining bytes of a buffer, i.e. the bytes between its position and limit, are numeric. Numeric
+	 * arguments consist only of the ASCII characters 0-9 and may start with 0. The bytes are checked in place without
+	 * copying them and without changing the position of the buffer.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param buffer
+	 *            buffer whose remaining bytes must be numeric
+	 * @param name
+	 *            name of object reference (in source code)
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given buffer is {@code null}
+	 * @throws IllegalNumericArgumentException
+	 *             if the remaining bytes are empty or contain a byte which is no digit
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumericArgumentException.class })
+	public static <T extends ByteBuffer> void isNumeric(final boolean condition, @Nonnull final T buffer, @Nullable final String name) {
+		if (condition) {
+			Check.isNumeric(buffer, name);
+		}
+	}
+
+	/**
+	 * Ensures that a readable sequence of {@code char} values is numeric. Numeric arguments consist only of the
+	 * characters 0-9 and may start with 0 (compared to number arguments, which must be valid numbers - think of a bank
+	 * account number).
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#isNumeric(CharSequence, String)} and pass as second
+	 * argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param value
+	 *            a readable sequence of {@code char} values which must be a number
+	 * 
+	 * @throws IllegalNumberArgumentException
+	 *             if the given argument {@code value} is no number
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberArgumentException.class })
+	public static <T extends CharSequence> void isNumeric(final boolean condition, @Nonnull final T value) {
+		if (condition) {
+			Check.isNumeric(value);
+		}
+	}
+
+	/**
+	 * Ensures that a readable sequence of {@code char} values is numeric. Numeric arguments consist only of the
+	 * characters 0-9 and may start with 0 (compared to number arguments, which must be valid numbers - think of a bank
+	 * account number).
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param value
+	 *            a readable sequence of {@code char} values which must be a number
+	 * @param name
+	 *            name of object reference (in source code)
+	 * 
+	 * @throws IllegalNumberArgumentException
+	 *             if the given argument {@code value} is no number
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumericArgumentException.class })
+	public static <T extends CharSequence> void isNumeric(final boolean condition, @Nonnull final T value, @Nullable final String name) {
+		if (condition) {
+			Check.isNumeric(value, name);
+		}
+	}
+
+	/**
+	 * Ensures that a readable sequence of {@code char} values is a number in the range of {@code short}.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#isShort(CharSequence, String)} and pass as second argument
+	 * the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param value
+	 *            value which must be a number in the range of {@code short}
+	 * 
+	 * @throws IllegalNumberArgumentException
+	 *             if the given argument {@code value} is no number
+	 * @throws IllegalNumberRangeException
+	 *             if the given argument {@code value} is not in the range of {@code short}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberArgumentException.class })
+	public static void isShort(final boolean condition, @Nonnull final CharSequence value) {
+		if (condition) {
+			Check.isShort(value);
+		}
+	}
+
+	/**
+	 * Ensures that a readable sequence of {@code char} values is a number in the range of {@code short}.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param value
+	 *            value which must be a number in the range of {@code short}
+	 * @param name
+	 *            name of object reference (in source code)
+	 * 
+	 * @throws IllegalNumberArgumentException
+	 *             if the given argument {@code value} is no number
+	 * @throws IllegalNumberRangeException
+	 *             if the given argument {@code value} is not in the range of {@code short}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumberArgumentException.class })
+	public static void isShort(final boolean condition, @Nonnull final CharSequence value, @Nullable final String name) {
+		if (condition) {
+			Check.isShort(value, name);
+		}
+	}
+
+	/**
+	 * Ensures that a passed {@code Comparable} is less than another {@code Comparable}. The comparison is made using
+	 * {@code expected.compareTo(check) <= 0}.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            Comparable to be checked
+	 * 
+	 * @throws IllegalNotLesserThanException
+	 *             if the argument value {@code check} is not lesser than value {@code expected} when using method
+	 *             {@code compareTo}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotLesserThanException.class })
+	public static <T extends Comparable<T>> void lesserThan(final boolean condition, @Nonnull final T expected, @Nonnull final T check) {
+		Check.requireNotNull(expected, "expected");
+		Check.requireNotNull(check, "check");
+
+		if (condition) {
+			Check.lesserThan(expected, check);
+		}
+	}
+
+	/**
+	 * Ensures that a passed {@code Comparable} is less than another {@code Comparable}. The comparison is made using
+	 * {@code expected.compareTo(check) <= 0}.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            Comparable to be checked
+	 * @param message
+	 *            an error message describing why the comparables must be less than a value (will be passed to
+	 *            {@code IllegalNotLessThanException})
+	 * 
+	 * @throws IllegalNotLesserThanException
+	 *             if the argument value {@code check} is not lesser than value {@code expected} when using method
+	 *             {@code compareTo}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNotLesserThanException.class })
+	public static <T extends Comparable<T>> void lesserThan(final boolean condition, @Nonnull final T expected, @Nonnull final T check,
+			final String message) {
+		Check.requireNotNull(expected, "expected");
+		Check.requireNotNull(check, "check");
+
+		if (condition) {
+			Check.lesserThan(expected, check, message);
+		}
+	}
+
+	/**
+	 * Ensures that the remaining bytes of a buffer, i.e. the bytes between its position and limit, match a specified
+	 * compiled pattern. Each byte is read as ISO-8859-1 character. If the bytes do not match against the passed pattern,
+	 * an {@link IllegalPatternArgumentException} will be thrown.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#matchesPattern(CompiledPattern, ByteBuffer, String)} and
+	 * pass as second argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param pattern
+	 *            compiled pattern, that the remaining bytes must correspond to
+	 * @param buffer
+	 *            buffer whose remaining bytes should match the given pattern
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code pattern} or {@code buffer} is {@code null}
+	 * @throws IllegalPatternArgumentException
+	 *             if the remaining bytes do not match the {@code pattern}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalPatternArgumentException.class })
+	public static <T extends ByteBuffer> void matchesPattern(final boolean condition, @Nonnull final CompiledPattern pattern,
+			@Nonnull final T buffer) {
+		if (condition) {
+			Check.matchesPattern(pattern, buffer);
+		}
+	}
+
+	/**
+	 * Ensures that the remaining bytes of a buffer, i.e. the bytes between its position and limit, match a specified
+	 * compiled pattern. Each byte is read as ISO-8859-1 character. The position of the buffer remains unchanged.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param pattern
+	 *            compiled pattern, that the remaining bytes must correspond to
+	 * @param buffer
+	 *            buffer whose remaining bytes should match the given pattern
+	 * @param name
+	 *            name of object reference (in source code)
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code pattern} or {@code buffer} is {@code null}
+	 * @throws IllegalPatternArgumentException
+	 *             if the remaining bytes do not match the {@code pattern}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalPatternArgumentException.class })
+	public static <T extends ByteBuffer> void matchesPattern(final boolean condition, @Nonnull final CompiledPattern pattern,
+			@Nonnull final T buffer, @Nullable final String name) {
+		if (condition) {
+			Check.matchesPattern(pattern, buffer, name);
+		}
+	}
+
+	/**
+	 * Ensures that a readable sequence of {@code char} values matches a specified compiled pattern. If the given
+	 * character sequence does not match against the passed pattern, an {@link IllegalPatternArgumentException} will be
+	 * thrown.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#matchesPattern(CompiledPattern, CharSequence, String)} and
+	 * pass as second argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param pattern
+	 *            compiled pattern, that the {@code chars} must correspond to
+	 * @param chars
+	 *            a readable sequence of {@code char} values which should match the given pattern
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code pattern} or {@code chars} is {@code null}
+	 * @throws IllegalPatternArgumentException
+	 *             if the given {@code chars} that does not match the {@code pattern}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalPatternArgumentException.class })
+	public static <T extends CharSequence> void matchesPattern(final boolean condition, @Nonnull final CompiledPattern pattern,
+			@Nonnull final T chars) {
+		if (condition) {
+			Check.matchesPattern(pattern, chars);
+		}
+	}
+
+	/**
+	 * Ensures that a readable sequence of {@code char} values matches a specified compiled pattern. If the given
+	 * character sequence does not match against the passed pattern, an {@link IllegalPatternArgumentException} will be
+	 * thrown.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param pattern
+	 *            compiled pattern, that the {@code chars} must correspond to
+	 * @param chars
+	 *            a readable sequence of {@code char} values which should match the given pattern
+	 * @param name
+	 *            name of object reference (in source code)
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code pattern} or {@code chars} is {@code null}
+	 * @throws IllegalPatternArgumentException
+	 *             if the given {@code chars} that does not match the {@code pattern}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalPatternArgumentException.class })
+	public static <T extends CharSequence> void matchesPattern(final boolean condition, @Nonnull final CompiledPattern pattern,
+			@Nonnull final T chars, @Nullable final String name) {
+		if (condition) {
+			Check.matchesPattern(pattern, chars, name);
+		}
+	}
+
+	/**
+	 * Ensures that the remaining bytes of a buffer, i.e. the bytes between its position and limit, match a specified
+	 * pattern. Each byte is read as ISO-8859-1 character. The bytes are neither copied nor decoded and the position of
+	 * the buffer remains unchanged.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#matchesPattern(Pattern, ByteBuffer, String)} and pass as
+	 * second argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param pattern
+	 *            pattern, that the remaining bytes must correspond to
+	 * @param buffer
+	 *            buffer whose remaining bytes should match the given pattern
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code pattern} or {@code buffer} is {@code null}
+	 * @throws IllegalPatternArgumentException
+	 *             if the remaining bytes do not match the {@code pattern}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalPatternArgumentException.class })
+	public static <T extends ByteBuffer> void matchesPattern(final boolean condition, @Nonnull final Pattern pattern,
+			@Nonnull final T buffer) {
+		if (condition) {
+			Check.matchesPattern(pattern, buffer);
+		}
+	}
+
+	/**
+	 * Ensures that the remaining bytes of a buffer, i.e. the bytes between its position and limit, match a specified
+	 * pattern. Each byte is read as ISO-8859-1 character. The bytes are neither copied nor decoded and the position of
+	 * the buffer remains unchanged.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param pattern
+	 *            pattern, that the remaining bytes must correspond to
+	 * @param buffer
+	 *            buffer whose remaining bytes should match the given pattern
+	 * @param name
+	 *            name of object reference (in source code)
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code pattern} or {@code buffer} is {@code null}
+	 * @throws IllegalPatternArgumentException
+	 *             if the remaining bytes do not match the {@code pattern}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalPatternArgumentException.class })
+	public static <T extends ByteBuffer> void matchesPattern(final boolean condition, @Nonnull final Pattern pattern,
+			@Nonnull final T buffer, @Nullable final String name) {
+		if (condition) {
+			Check.matchesPattern(pattern, buffer, name);
+		}
+	}
+
+	/**
+	 * Ensures that a readable sequence of {@code char} values matches a specified pattern. If the given character
+	 * sequence does not match against the passed pattern, an {@link IllegalPatternArgumentException} will be thrown.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#matchesPattern(Pattern, CharSequence, String)} and pass as
+	 * second argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param pattern
+	 *            pattern, that the {@code chars} must correspond to
+	 * @param chars
+	 *            a readable sequence of {@code char} values which should match the given pattern
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code chars} is {@code null}
+	 * @throws IllegalPatternArgumentException
+	 *             if the given {@code chars} that does not match the {@code pattern}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	public static <T extends CharSequence> void matchesPattern(final boolean condition, @Nonnull final Pattern pattern,
+			@Nonnull final T chars) {
+		if (condition) {
+			Check.matchesPattern(pattern, chars);
+		}
+	}
+
+	/**
+	 * Ensures that a readable sequence of {@code char} values matches a specified pattern. If the given character
+	 * sequence does not match against the passed pattern, an {@link IllegalPatternArgumentException} will be thrown.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param pattern
+	 *            pattern, that the {@code chars} must correspond to
+	 * @param chars
+	 *            a readable sequence of {@code char} values which should match the given pattern
+	 * @param name
+	 *            name of object reference (in source code)
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code chars} is {@code null}
+	 * @throws IllegalPatternArgumentException
+	 *             if the given {@code chars} that does not match the {@code pattern}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalPatternArgumentException.class })
+	public static <T extends CharSequence> void matchesPattern(final boolean condition, @Nonnull final Pattern pattern,
+			@Nonnull final T chars, @Nullable final String name) {
+		if (condition) {
+			Check.matchesPattern(pattern, chars, name);
+		}
+	}
+
+	/**
+	 * Ensures that the remaining bytes of a buffer, i.e. the bytes between its position and limit, match a specified
+	 * regular expression. Each byte is read as ISO-8859-1 character. The regular expression will be compiled only once
+	 * and is kept in the {@link PatternCache#getDefault() default pattern cache}.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#matchesPattern(String, ByteBuffer, String)} and pass as
+	 * second argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param regex
+	 *            regular expression, that the remaining bytes must correspond to
+	 * @param buffer
+	 *            buffer whose remaining bytes should match the given regular expression
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code regex} or {@code buffer} is {@code null}
+	 * @throws IllegalPatternArgumentException
+	 *             if the remaining bytes do not match the {@code regex}
+	 * @throws PatternSyntaxException
+	 *             if the given regular expression is invalid
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalPatternArgumentException.class })
+	public static <T extends ByteBuffer> void matchesPattern(final boolean condition, @Nonnull final String regex,
+			@Nonnull final T buffer) {
+		if (condition) {
+			Check.matchesPattern(regex, buffer);
+		}
+	}
+
+	/**
+	 * Ensures that the remaining bytes of a buffer, i.e. the bytes between its position and limit, match a specified
+	 * regular expression. Each byte is read as ISO-8859-1 character. The regular expression will be compiled only once
+	 * and is kept in the {@link PatternCache#getDefault() default pattern cache}.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param regex
+	 *            regular expression, that the remaining bytes must correspond to
+	 * @param buffer
+	 *            buffer whose remaining bytes should match the given regular expression
+	 * @param name
+	 *            name of object reference (in source code)
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code regex} or {@code buffer} is {@code null}
+	 * @throws IllegalPatternArgumentException
+	 *             if the remaining bytes do not match the {@code regex}
+	 * @throws PatternSyntaxException
+	 *             if the given regular expression is invalid
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalPatternArgumentException.class })
+	public static <T extends ByteBuffer> void matchesPattern(final boolean condition, @Nonnull final String regex,
+			@Nonnull final T buffer, @Nullable final String name) {
+		if (condition) {
+			Check.matchesPattern(regex, buffer, name);
+		}
+	}
+
+	/**
+	 * Ensures that a readable sequence of {@code char} values matches a specified regular expression. If the given
+	 * character sequence does not match against the passed regular expression, an
+	 * {@link IllegalPatternArgumentException} will be thrown.
+	 * 
+	 * <p>
+	 * The regular expression will be compiled only once and is kept in the {@link PatternCache#getDefault() default
+	 * pattern cache}.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#matchesPattern(String, CharSequence, String)} and pass as
+	 * second argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param regex
+	 *            regular expression, that the {@code chars} must correspond to
+	 * @param chars
+	 *            a readable sequence of {@code char} values which should match the given regular expression
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code regex} or {@code chars} is {@code null}
+	 * @throws IllegalPatternArgumentException
+	 *             if the given {@code chars} that does not match the {@code regex}
+	 * @throws PatternSyntaxException
+	 *             if the given regular expression is invalid
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalPatternArgumentException.class })
+	public static <T extends CharSequence> void matchesPattern(final boolean condition, @Nonnull final String regex,
+			@Nonnull final T chars) {
+		if (condition) {
+			Check.matchesPattern(regex, chars);
+		}
+	}
+
+	/**
+	 * Ensures that a readable sequence of {@code char} values matches a specified regular expression. If the given
+	 * character sequence does not match against the passed regular expression, an
+	 * {@link IllegalPatternArgumentException} will be thrown.
+	 * 
+	 * <p>
+	 * The regular expression will be compiled only once and is kept in the {@link PatternCache#getDefault() default
+	 * pattern cache}.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param regex
+	 *            regular expression, that the {@code chars} must correspond to
+	 * @param chars
+	 *            a readable sequence of {@code char} values which should match the given regular expression
+	 * @param name
+	 *            name of object reference (in source code)
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code regex} or {@code chars} is {@code null}
+	 * @throws IllegalPatternArgumentException
+	 *             if the given {@code chars} that does not match the {@code regex}
+	 * @throws PatternSyntaxException
+	 *             if the given regular expression is invalid
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalPatternArgumentException.class })
+	public static <T extends CharSequence> void matchesPattern(final boolean condition, @Nonnull final String regex,
+			@Nonnull final T chars, @Nullable final String name) {
+		if (condition) {
+			Check.matchesPattern(regex, chars, name);
+		}
+	}
+
+	/**
+	 * Ensures that an iterable reference is neither {@code null} nor contains any elements that are {@code null}.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#noNullElements(Iterable, String)} and pass as second
+	 * argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param iterable
+	 *            the iterable reference which should not contain {@code null}
+	 * 
+	 * @throws IllegalNullElementsException
+	 *             if the given argument {@code iterable} contains elements that are {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNullElementsException.class })
+	public static <T extends Iterable<?>> void noNullElements(final boolean condition, @Nonnull final T iterable) {
+		if (condition) {
+			Check.noNullElements(iterable);
+		}
+	}
+
+	/**
+	 * Ensures that an iterable reference is neither {@code null} nor contains any elements that are {@code null}.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param iterable
+	 *            the iterable reference which should not contain {@code null}
+	 * @param name
+	 *            name of object reference (in source code)
+	 * 
+	 * @throws IllegalNullElementsException
+	 *             if the given argument {@code iterable} contains elements that are {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNullElementsException.class })
+	public static <T extends Iterable<?>> void noNullElements(final boolean condition, @Nonnull final T iterable, final String name) {
+		if (condition) {
+			Check.noNullElements(iterable, name);
+		}
+	}
+
+	/**
+	 * Ensures that an array does not contain {@code null}.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#noNullElements(Object[], String)} and pass as second
+	 * argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param array
+	 *            reference to an array
+	 * 
+	 * @throws IllegalNullElementsException
+	 *             if the given argument {@code array} contains {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNullElementsException.class })
+	public static <T> void noNullElements(final boolean condition, @Nonnull final T[] array) {
+		if (condition) {
+			Check.noNullElements(array);
+		}
+	}
+
+	/**
+	 * Ensures that an array does not contain {@code null}.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param array
+	 *            reference to an array
+	 * @param name
+	 *            name of object reference (in source code)
+	 * 
+	 * @throws IllegalNullElementsException
+	 *             if the given argument {@code array} contains {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNullElementsException.class })
+	public static <T> void noNullElements(final boolean condition, @Nonnull final T[] array, @Nullable final String name) {
+		if (condition) {
+			Check.noNullElements(array, name);
+		}
+	}
+
+	/**
+	 * Ensures that an iterable reference is neither {@code null} nor contains any elements that are {@code null}. Large
+	 * lists which support fast random access (see {@link RandomAccess}) are split into chunks which are scanned
+	 * concurrently by the given executor, all other iterables are scanned by the calling thread.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#noNullElements(Iterable, Executor, String)} and pass as
+	 * third argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param iterable
+	 *            the iterable reference which should not contain {@code null}
+	 * @param executor
+	 *            executor to scan chunks of large lists concurrently
+	 * 
+	 * @throws IllegalNullElementsException
+	 *             if the given argument {@code iterable} contains elements that are {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNullElementsException.class })
+	public static <T extends Iterable<?>> void noNullElements(final boolean condition, @Nonnull final T iterable,
+			@Nonnull final Executor executor) {
+		if (condition) {
+			Check.noNullElements(iterable, executor);
+		}
+	}
+
+	/**
+	 * Ensures that an iterable reference is neither {@code null} nor contains any elements that are {@code null}. Large
+	 * lists which support fast random access (see {@link RandomAccess}) are split into chunks which are scanned
+	 * concurrently by the given executor, all other iterables are scanned by the calling thread.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param iterable
+	 *            the iterable reference which should not contain {@code null}
+	 * @param executor
+	 *            executor to scan chunks of large lists concurrently
+	 * @param name
+	 *            name of object reference (in source code)
+	 * 
+	 * @throws IllegalNullElementsException
+	 *             if the given argument {@code iterable} contains elements that are {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNullElementsException.class })
+	public static <T extends Iterable<?>> void noNullElements(final boolean condition, @Nonnull final T iterable,
+			@Nonnull final Executor executor, @Nullable final String name) {
+		if (condition) {
+			Check.noNullElements(iterable, executor, name);
+		}
+	}
+
+	/**
+	 * Ensures that an array does not contain {@code null}. Large arrays are split into chunks which are scanned
+	 * concurrently by the given executor.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#noNullElements(Object[], Executor, String)} and pass as
+	 * third argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param array
+	 *            reference to an array
+	 * @param executor
+	 *            executor to scan chunks of large arrays concurrently
+	 * 
+	 * @throws IllegalNullElementsException
+	 *             if the given argument {@code array} contains {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNullElementsException.class })
+	public static <T> void noNullElements(final boolean condition, @Nonnull final T[] array, @Nonnull final Executor executor) {
+		if (condition) {
+			Check.noNullElements(array, executor);
+		}
+	}
+
+	/**
+	 * Ensures that an array does not contain {@code null}. Large arrays are split into chunks which are scanned
+	 * concurrently by the given executor.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param array
+	 *            reference to an array
+	 * @param executor
+	 *            executor to scan chunks of large arrays concurrently
+	 * @param name
+	 *            name of object reference (in source code)
+	 * 
+	 * @throws IllegalNullElementsException
+	 *             if the given argument {@code array} contains {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNullElementsException.class })
+	public static <T> void noNullElements(final boolean condition, @Nonnull final T[] array, @Nonnull final Executor executor,
+			@Nullable final String name) {
+		if (condition) {
+			Check.noNullElements(array, executor, name);
+		}
+	}
+
+	/**
+	 * Ensures that a passed parameter of the calling method is not empty, using the passed expression to evaluate the
+	 * emptiness.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#notEmpty(boolean, String)} and pass as second argument the
+	 * name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expression
+	 *            the result of the expression to verify the emptiness of a reference ({@code true} means empty,
+	 *            {@code false} means not empty)
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code reference} is {@code null}
+	 * @throws IllegalEmptyArgumentException
+	 *             if the given argument {@code reference} is empty
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
+	public static void notEmpty(final boolean condition, final boolean expression) {
+		if (condition) {
+			Check.notEmpty(expression);
+		}
+	}
+
+	/**
+	 * Ensures that a passed parameter of the calling method is not empty, using the passed expression to evaluate the
+	 * emptiness.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expression
+	 *            the result of the expression to verify the emptiness of a reference ({@code true} means empty,
+	 *            {@code false} means not empty)
+	 * @param name
+	 *            name of object reference (in source code)
+	 * 
+	 * @throws IllegalEmptyArgumentException
+	 *             if the given argument {@code reference} is empty
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
+	public static void notEmpty(final boolean condition, final boolean expression, @Nullable final String name) {
+		if (condition) {
+			Check.notEmpty(expression, name);
+		}
+	}
+
+	/**
+	 * Ensures that a passed string as a parameter of the calling method is not empty.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#notEmpty(CharSequence, String)} and pass as second
+	 * argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param chars
+	 *            a readable sequence of {@code char} values which should not be empty
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code reference} is {@code null}
+	 * @throws IllegalEmptyArgumentException
+	 *             if the given argument {@code reference} is empty
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
+	public static <T extends CharSequence> void notEmpty(final boolean condition, @Nonnull final T chars) {
+		if (condition) {
+			Check.notEmpty(chars);
+		}
+	}
+
+	/**
+	 * Ensures that a passed collection as a parameter of the calling method is not empty.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#notEmpty(Collection, String)} and pass as second argument
+	 * the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param collection
+	 *            a collection which should not be empty
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code collection} is {@code null}
+	 * @throws IllegalEmptyArgumentException
+	 *             if the given argument {@code collection} is empty
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
+	public static <T extends Collection<?>> void notEmpty(final boolean condition, @Nonnull final T collection) {
+		if (condition) {
+			Check.notEmpty(collection);
+		}
+	}
+
+	/**
+	 * Ensures that a passed map as a parameter of the calling method is not empty.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#notEmpty(Collection, String)} and pass as second argument
+	 * the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param map
+	 *            a map which should not be empty
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code map} is {@code null}
+	 * @throws IllegalEmptyArgumentException
+	 *             if the given argument {@code map} is empty
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
+	public static <T extends Map<?, ?>> void notEmpty(final boolean condition, @Nonnull final T map) {
+		if (condition) {
+			Check.notEmpty(map);
+		}
+	}
+
+	/**
+	 * Ensures that an object reference passed as a parameter to the calling method is not empty. The passed boolean
+	 * value is the result of checking whether the reference is empty or not.
+	 * 
+	 * <p>
+	 * The following example describes how to use it.
+	 * 
+	 * <pre>
+	 * &#064;ArgumentsChecked
+	 * public setText(String text) {
+	 * 	ConditionalCheck.notEmpty(true, text, text.isEmpty(), &quot;text&quot;);
+	 * 	this.text = text;
+	 * }
+	 * </pre>
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param reference
+	 *            an object reference which should not be empty
+	 * @param expression
+	 *            the result of the expression to verify the emptiness of a reference ({@code true} means empty,
+	 *            {@code false} means not empty)
+	 * @param name
+	 *            name of object reference (in source code)
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code reference} is {@code null}
+	 * @throws IllegalEmptyArgumentException
+	 *             if the given argument {@code reference} is empty
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
+	public static <T> void notEmpty(final boolean condition, @Nonnull final T reference, final boolean expression,
+			@Nullable final String name) {
+		if (condition) {
+			Check.notEmpty(reference, expression, name);
+		}
+	}
+
+	/**
+	 * Ensures that a passed string as a parameter of the calling method is not empty.
+	 * 
+	 * <p>
+	 * The following example describes how to use it.
+	 * 
+	 * <pre>
+	 * &#064;ArgumentsChecked
+	 * public setText(String text) {
+	 * 	this.text = Check.notEmpty(text, &quot;text&quot;);
+	 * }
+	 * </pre>
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param chars
+	 *            a readable sequence of {@code char} values which should not be empty
+	 * @param name
+	 *            name of object reference (in source code)
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code string} is {@code null}
+	 * @throws IllegalEmptyArgumentException
+	 *             if the given argument {@code string} is empty
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
+	public static <T extends CharSequence> void notEmpty(final boolean condition, @Nonnull final T chars, @Nullable final String name) {
+		if (condition) {
+			Check.notEmpty(chars, name);
+		}
+	}
+
+	/**
+	 * Ensures that a passed map as a parameter of the calling method is not empty.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#notEmpty(Collection, String)} and pass as second argument
+	 * the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param map
+	 *            a map which should not be empty
+	 * @param name
+	 *            name of object reference (in source code)
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code map} is {@code null}
+	 * @throws IllegalEmptyArgumentException
+	 *             if the given argument {@code map} is empty
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
+	public static <T extends Map<?, ?>> void notEmpty(final boolean condition, @Nonnull final T map, @Nullable final String name) {
+		if (condition) {
+			Check.notEmpty(map, name);
+		}
+	}
+
+	/**
+	 * Ensures that a passed collection as a parameter of the calling method is not empty.
+	 * 
+	 * <p>
+	 * The following example describes how to use it.
+	 * 
+	 * <pre>
+	 * &#064;ArgumentsChecked
+	 * public setCollection(Collection&lt;String&gt; collection) {
+	 * 	this.collection = Check.notEmpty(collection, &quot;collection&quot;);
+	 * }
+	 * </pre>
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param collection
+	 *            a collection which should not be empty
+	 * @param name
+	 *            name of object reference (in source code)
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code collection} is {@code null}
+	 * @throws IllegalEmptyArgumentException
+	 *             if the given argument {@code collection} is empty
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
+	public static <T extends Collection<?>> void notEmpty(final boolean condition, @Nonnull final T collection, @Nullable final String name) {
+		if (condition) {
+			Check.notEmpty(collection, name);
+		}
+	}
+
+	/**
+	 * Ensures that a passed map as a parameter of the calling method is not empty.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#notEmpty(Object[], String)} and pass as second argument
+	 * the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param array
+	 *            a map which should not be empty
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code array} is {@code null}
+	 * @throws IllegalEmptyArgumentException
+	 *             if the given argument {@code array} is empty
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
+	public static <T> void notEmpty(final boolean condition, @Nonnull final T[] array) {
+		if (condition) {
+			Check.notEmpty(array);
+		}
+	}
+
+	/**
+	 * Ensures that a passed map as a parameter of the calling method is not empty.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param array
+	 *            a map which should not be empty
+	 * @param name
+	 *            name of object reference (in source code)
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code array} is {@code null}
+	 * @throws IllegalEmptyArgumentException
+	 *             if the given argument {@code array} is empty
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalEmptyArgumentException.class })
+	public static <T> void notEmpty(final boolean condition, @Nonnull final T[] array, @Nullable final String name) {
+		if (condition) {
+			Check.notEmpty(array, name);
+		}
+	}
+
+	/**
+	 * Ensures that a passed boolean is not equal to another boolean. The comparison is made using
+	 * <code>expected == check</code>.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link ConditionalCheck#notEquals(condition,boolean, boolean, String)}
+	 * and pass as second argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            boolean to be checked
+	 * 
+	 * @throws IllegalEqualException
+	 *             if both argument values are not equal
+	 */
+	@Throws(IllegalEqualException.class)
+	public static void notEquals(final boolean condition, final boolean expected, final boolean check) {
+		if (condition) {
+			Check.notEquals(expected, check);
+		}
+	}
+
+	/**
+	 * Ensures that a passed boolean is not equal to another boolean. The comparison is made using
+	 * <code>expected == check</code>.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            boolean to be checked
+	 * @param message
+	 *            an error message describing why the booleans must equal (will be passed to
+	 *            {@code IllegalEqualException})
+	 * 
+	 * @throws IllegalEqualException
+	 *             if both argument values are not equal
+	 */
+	@Throws(IllegalEqualException.class)
+	public static void notEquals(final boolean condition, final boolean expected, final boolean check, @Nonnull final String message) {
+		if (condition) {
+			Check.notEquals(expected, check, message);
+		}
+	}
+
+	/**
+	 * Ensures that a passed byte is not equal to another byte. The comparison is made using
+	 * <code>expected == check</code>.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link ConditionalCheck#notEquals(condition,byte, byte, String)} and
+	 * pass as second argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            byte to be checked
+	 * 
+	 * @throws IllegalEqualException
+	 *             if both argument values are not equal
+	 */
+	@Throws(IllegalEqualException.class)
+	public static void notEquals(final boolean condition, final byte expected, final byte check) {
+		if (condition) {
+			Check.notEquals(expected, check);
+		}
+	}
+
+	/**
+	 * Ensures that a passed byte is not equal to another byte. The comparison is made using
+	 * <code>expected == check</code>.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            byte to be checked
+	 * @param message
+	 *            an error message describing why the bytes must equal (will be passed to {@code IllegalEqualException})
+	 * 
+	 * @throws IllegalEqualException
+	 *             if both argument values are not equal
+	 */
+	@Throws(IllegalEqualException.class)
+	public static void notEquals(final boolean condition, final byte expected, final byte check, @Nonnull final String message) {
+		if (condition) {
+			Check.notEquals(expected, check, message);
+		}
+	}
+
+	/**
+	 * Ensures that a passed char is not equal to another char. The comparison is made using
+	 * <code>expected == check</code>.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link ConditionalCheck#notEquals(condition,char, char, String)} and
+	 * pass as second argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            char to be checked
+	 * 
+	 * @throws IllegalEqualException
+	 *             if both argument values are not equal
+	 */
+	@Throws(IllegalEqualException.class)
+	public static void notEquals(final boolean condition, final char expected, final char check) {
+		if (condition) {
+			Check.notEquals(expected, check);
+		}
+	}
+
+	/**
+	 * Ensures that a passed char is not equal to another char. The comparison is made using
+	 * <code>expected == check</code>.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            char to be checked
+	 * @param message
+	 *            an error message describing why the chars must equal (will be passed to {@code IllegalEqualException})
+	 * 
+	 * @throws IllegalEqualException
+	 *             if both argument values are not equal
+	 */
+	@Throws(IllegalEqualException.class)
+	public static void notEquals(final boolean condition, final char expected, final char check, @Nonnull final String message) {
+		if (condition) {
+			Check.notEquals(expected, check, message);
+		}
+	}
+
+	/**
+	 * Ensures that a passed intH is not equal to another int. The comparison is made using
+	 * <code>expected == check</code>.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link ConditionalCheck#notEquals(condition,int, int, String)} and pass
+	 * as second argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            int to be checked
+	 * 
+	 * @throws IllegalEqualException
+	 *             if both argument values are not equal
+	 */
+	@Throws(IllegalEqualException.class)
+	public static void notEquals(final boolean condition, final int expected, final int check) {
+		if (condition) {
+			Check.notEquals(expected, check);
+		}
+	}
+
+	/**
+	 * Ensures that a passed int is not equal to another int. The comparison is made using
+	 * <code>expected == check</code>.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            int to be checked
+	 * @param message
+	 *            an error message describing why the ints must equal (will be passed to {@code IllegalEqualException})
+	 * 
+	 * @throws IllegalEqualException
+	 *             if both argument values are not equal
+	 */
+	@Throws(IllegalEqualException.class)
+	public static void notEquals(final boolean condition, final int expected, final int check, @Nonnull final String message) {
+		if (condition) {
+			Check.notEquals(expected, check, message);
+		}
+	}
+
+	/**
+	 * Ensures that a passed long is not equal to another long. The comparison is made using
+	 * <code>expected == check</code>.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link ConditionalCheck#notEquals(condition,long, long, String)} and
+	 * pass as second argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            long to be checked
+	 * 
+	 * @throws IllegalEqualException
+	 *             if both argument values are not equal
+	 */
+	@Throws(IllegalEqualException.class)
+	public static void notEquals(final boolean condition, final long expected, final long check) {
+		if (condition) {
+			Check.notEquals(expected, check);
+		}
+	}
+
+	/**
+	 * Ensures that a passed long is not equal to another long. The comparison is made using
+	 * <code>expected == check</code>.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            long to be checked
+	 * @param message
+	 *            an error message describing why the longs must equal (will be passed to {@code IllegalEqualException})
+	 * 
+	 * @throws IllegalEqualException
+	 *             if both argument values are not equal
+	 */
+	@Throws(IllegalEqualException.class)
+	public static void notEquals(final boolean condition, final long expected, final long check, @Nonnull final String message) {
+		if (condition) {
+			Check.notEquals(expected, check, message);
+		}
+	}
+
+	/**
+	 * Ensures that a passed short is not equal to another short. The comparison is made using
+	 * <code>expected == check</code>.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link ConditionalCheck#notEquals(condition,short, short, String)} and
+	 * pass as second argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            short to be checked
+	 * 
+	 * @throws IllegalEqualException
+	 *             if both argument values are not equal
+	 */
+	@Throws(IllegalEqualException.class)
+	public static void notEquals(final boolean condition, final short expected, final short check) {
+		if (condition) {
+			Check.notEquals(expected, check);
+		}
+	}
+
+	/**
+	 * Ensures that a passed short is not equal to another short. The comparison is made using
+	 * <code>expected == check</code>.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            short to be checked
+	 * @param message
+	 *            an error message describing why the shorts must equal (will be passed to {@code IllegalEqualException}
+	 *            )
+	 * 
+	 * @throws IllegalEqualException
+	 *             if both argument values are not equal
+	 */
+	@Throws(IllegalEqualException.class)
+	public static void notEquals(final boolean condition, final short expected, final short check, @Nonnull final String message) {
+		if (condition) {
+			Check.notEquals(expected, check, message);
+		}
+	}
+
+	/**
+	 * Ensures that a passed {@code Comparable} is not equal to another {@code Comparable}. The comparison is made using
+	 * {@code expected.compareTo(check) == 0}.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method
+	 * {@link ConditionalCheck#notEquals(condition,Comparable, Comparable, String)} and pass as second argument the name
+	 * of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            Comparable to be checked
+	 * 
+	 * @throws IllegalEqualException
+	 *             if both argument values are not equal
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalEqualException.class })
+	public static <T extends Comparable<T>> void notEquals(final boolean condition, @Nonnull final T expected, @Nonnull final T check) {
+		Check.requireNotNull(expected, "expected");
+		Check.requireNotNull(check, "check");
+
+		if (condition) {
+			Check.notEquals(expected, check);
+		}
+	}
+
+	/**
+	 * Ensures that a passed object is not equal to another object. The comparison is made using a call to
+	 * {@code expected.equals(check) }.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link ConditionalCheck#notEquals(condition,Object, Object, String)}
+	 * and pass as second argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            Object to be checked
+	 * 
+	 * @throws IllegalEqualException
+	 *             if both argument values are not equal
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalEqualException.class })
+	public static <T extends Object> void notEquals(final boolean condition, @Nonnull final T expected, @Nonnull final T check) {
+		Check.requireNotNull(expected, "expected");
+		Check.requireNotNull(check, "check");
+
+		if (condition) {
 			Check.notEquals(expected, check);
 		}
 	}
 
 	/**
-	 * Ensures that a passed char is not equal to another char. The comparison is made using
-	 * <code>expected == check</code>.
+	 * Ensures that a passed {@code Comparable} is not equal to another {@code Comparable}. The comparison is made using
+	 * {@code expected.compareTo(check) == 0}.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            Comparable to be checked
+	 * @param message
+	 *            an error message describing why the <a>s must equal (will be passed to {@code IllegalEqualException})
+	 * 
+	 * @throws IllegalEqualException
+	 *             if both argument values are not equal
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalEqualException.class })
+	public static <T extends Comparable<T>> void notEquals(final boolean condition, @Nonnull final T expected, @Nonnull final T check,
+			final String message) {
+		Check.requireNotNull(expected, "expected");
+		Check.requireNotNull(check, "check");
+
+		if (condition) {
+			Check.notEquals(expected, check, message);
+		}
+	}
+
+	/**
+	 * Ensures that a passed object is not equal to another object. The comparison is made using a call to
+	 * {@code expected.equals(check)}.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expected
+	 *            Expected value
+	 * @param check
+	 *            Object to be checked
+	 * @param message
+	 *            an error message describing why the objects must equal (will be passed to
+	 *            {@code IllegalEqualException})
+	 * 
+	 * @throws IllegalEqualException
+	 *             if both argument values are not equal
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalEqualException.class })
+	public static <T extends Object> void notEquals(final boolean condition, @Nonnull final T expected, @Nonnull final T check,
+			final String message) {
+		Check.requireNotNull(expected, "expected");
+		Check.requireNotNull(check, "check");
+
+		if (condition) {
+			Check.notEquals(expected, check, message);
+		}
+	}
+
+	/**
+	 * Ensures that a double argument is not NaN (not a number).
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#notNaN(double, String)} and pass as second argument the
+	 * name of the parameter to enhance the exception message.
+	 * 
+	 * @see java.lang.Double#NaN
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param value
+	 *            value which should not be NaN
+	 * 
+	 * @throws IllegalNaNArgumentException
+	 *             if the given argument {@code value} is NaN
+	 */
+	@Throws(IllegalNaNArgumentException.class)
+	public static void notNaN(final boolean condition, final double value) {
+		if (condition) {
+			Check.notNaN(value);
+		}
+	}
+
+	/**
+	 * Ensures that a double argument is not NaN (not a number).
+	 * 
+	 * @see java.lang.Double#NaN
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param value
+	 *            value which should not be NaN
+	 * @param name
+	 *            name of object reference (in source code)
+	 * 
+	 * @throws IllegalNaNArgumentException
+	 *             if the given argument {@code value} is NaN
+	 */
+	@Throws(IllegalNaNArgumentException.class)
+	public static void notNaN(final boolean condition, final double value, @Nullable final String name) {
+		if (condition) {
+			Check.notNaN(value, name);
+		}
+	}
+
+	/**
+	 * Ensures that a double argument is not NaN (not a number).
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#notNaN(float, String)} and pass as second argument the
+	 * name of the parameter to enhance the exception message.
+	 * 
+	 * @see java.lang.Float#NaN
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param value
+	 *            value which should not be NaN
+	 * 
+	 * @throws IllegalNaNArgumentException
+	 *             if the given argument {@code value} is NaN
+	 */
+	@Throws(IllegalNaNArgumentException.class)
+	public static void notNaN(final boolean condition, final float value) {
+		if (condition) {
+			Check.notNaN(value);
+		}
+	}
+
+	/**
+	 * Ensures that a double argument is not NaN (not a number).
+	 * 
+	 * @see java.lang.Float#NaN
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param value
+	 *            value which should not be NaN
+	 * @param name
+	 *            name of object reference (in source code)
+	 * 
+	 * @throws IllegalNaNArgumentException
+	 *             if the given argument {@code value} is NaN
+	 */
+	@Throws(IllegalNaNArgumentException.class)
+	public static void notNaN(final boolean condition, final float value, @Nullable final String name) {
+		if (condition) {
+			Check.notNaN(value, name);
+		}
+	}
+
+	/**
+	 * Ensures that no element of a {@code double} array is NaN (not a number).
+	 * 
+	 * <p>
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#notNaN(double[], String)} and pass as last argument the
+	 * name of the parameter to enhance the exception message.
+	 * 
+	 * @see java.lang.Double#NaN
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param values
+	 *            an array of values which should not contain NaN
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNaNArgumentException
+	 *             if an element is NaN
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNaNArgumentException.class })
+	public static void notNaN(final boolean condition, @Nonnull final double[] values) {
+		if (condition) {
+			Check.notNaN(values);
+		}
+	}
+
+	/**
+	 * Ensures that no element of a {@code double} array is NaN (not a number).
+	 * 
+	 * <p>
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * 
+	 * @see java.lang.Double#NaN
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param values
+	 *            an array of values which should not contain NaN
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNaNArgumentException
+	 *             if an element is NaN
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNaNArgumentException.class })
+	public static void notNaN(final boolean condition, @Nonnull final double[] values, @Nullable final String name) {
+		if (condition) {
+			Check.notNaN(values, name);
+		}
+	}
+
+	/**
+	 * Ensures that no element of a {@code double} array is NaN (not a number).
+	 * 
+	 * <p>
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * Only the elements from index {@code from} (inclusive) to {@code to} (exclusive) are checked.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#notNaN(double[], int, int, String)} and pass as last
+	 * argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @see java.lang.Double#NaN
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param values
+	 *            an array of values which should not contain NaN
+	 * @param from
+	 *            index of the first element to check (inclusive)
+	 * @param to
+	 *            index after the last element to check (exclusive)
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if {@code from} and {@code to} do not form a valid range within the array
+	 * @throws IllegalNaNArgumentException
+	 *             if an element is NaN
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNaNArgumentException.class })
+	public static void notNaN(final boolean condition, @Nonnull final double[] values, final int from, final int to) {
+		if (condition) {
+			Check.notNaN(values, from, to);
+		}
+	}
+
+	/**
+	 * Ensures that no element of a {@code double} array is NaN (not a number).
+	 * 
+	 * <p>
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * Only the elements from index {@code from} (inclusive) to {@code to} (exclusive) are checked.
+	 * 
+	 * @see java.lang.Double#NaN
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param values
+	 *            an array of values which should not contain NaN
+	 * @param from
+	 *            index of the first element to check (inclusive)
+	 * @param to
+	 *            index after the last element to check (exclusive)
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if {@code from} and {@code to} do not form a valid range within the array
+	 * @throws IllegalNaNArgumentException
+	 *             if an element is NaN
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNaNArgumentException.class })
+	public static void notNaN(final boolean condition, @Nonnull final double[] values, final int from, final int to,
+			@Nullable final String name) {
+		if (condition) {
+			Check.notNaN(values, from, to, name);
+		}
+	}
+
+	/**
+	 * Ensures that no element of a {@code float} array is NaN (not a number).
+	 * 
+	 * <p>
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#notNaN(float[], String)} and pass as last argument the
+	 * name of the parameter to enhance the exception message.
+	 * 
+	 * @see java.lang.Float#NaN
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param values
+	 *            an array of values which should not contain NaN
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNaNArgumentException
+	 *             if an element is NaN
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNaNArgumentException.class })
+	public static void notNaN(final boolean condition, @Nonnull final float[] values) {
+		if (condition) {
+			Check.notNaN(values);
+		}
+	}
+
+	/**
+	 * Ensures that no element of a {@code float} array is NaN (not a number).
+	 * 
+	 * <p>
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * 
+	 * @see java.lang.Float#NaN
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            char to be checked
-	 * @param message
-	 *            an error message describing why the chars must equal (will be passed to {@code IllegalEqualException})
-	 * 
-	 * @throws IllegalEqualException
-	 *             if both argument values are not equal
+	 * @param values
+	 *            an array of values which should not contain NaN
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNaNArgumentException
+	 *             if an element is NaN
 	 */
-	@Throws(IllegalEqualException.class)
-	public static void notEquals(final boolean condition, final char expected, final char check, @Nonnull final String message) {
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNaNArgumentException.class })
+	public static void notNaN(final boolean condition, @Nonnull final float[] values, @Nullable final String name) {
 		if (condition) {
-			Check.notEquals(expected, check, message);
+			Check.notNaN(values, name);
 		}
 	}
 
 	/**
-	 * Ensures that a passed intH is not equal to another int. The comparison is made using
-	 * <code>expected == check</code>.
+	 * Ensures that no element of a {@code float} array is NaN (not a number).
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link ConditionalCheck#notEquals(condition,int, int, String)} and pass
-	 * as second argument the name of the parameter to enhance the exception message.
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * Only the elements from index {@code from} (inclusive) to {@code to} (exclusive) are checked.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#notNaN(float[], int, int, String)} and pass as last
+	 * argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @see java.lang.Float#NaN
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            int to be checked
-	 * 
-	 * @throws IllegalEqualException
-	 *             if both argument values are not equal
+	 * @param values
+	 *            an array of values which should not contain NaN
+	 * @param from
+	 *            index of the first element to check (inclusive)
+	 * @param to
+	 *            index after the last element to check (exclusive)
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if {@code from} and {@code to} do not form a valid range within the array
+	 * @throws IllegalNaNArgumentException
+	 *             if an element is NaN
 	 */
-	@Throws(IllegalEqualException.class)
-	public static void notEquals(final boolean condition, final int expected, final int check) {
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNaNArgumentException.class })
+	public static void notNaN(final boolean condition, @Nonnull final float[] values, final int from, final int to) {
 		if (condition) {
-			Check.notEquals(expected, check);
+			Check.notNaN(values, from, to);
 		}
 	}
 
 	/**
-	 * Ensures that a passed int is not equal to another int. The comparison is made using
-	 * <code>expected == check</code>.
+	 * Ensures that no element of a {@code float} array is NaN (not a number).
+	 * 
+	 * <p>
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * Only the elements from index {@code from} (inclusive) to {@code to} (exclusive) are checked.
+	 * 
+	 * @see java.lang.Float#NaN
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            int to be checked
-	 * @param message
-	 *            an error message describing why the ints must equal (will be passed to {@code IllegalEqualException})
-	 * 
-	 * @throws IllegalEqualException
-	 *             if both argument values are not equal
+	 * @param values
+	 *            an array of values which should not contain NaN
+	 * @param from
+	 *            index of the first element to check (inclusive)
+	 * @param to
+	 *            index after the last element to check (exclusive)
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if {@code from} and {@code to} do not form a valid range within the array
+	 * @throws IllegalNaNArgumentException
+	 *             if an element is NaN
 	 */
-	@Throws(IllegalEqualException.class)
-	public static void notEquals(final boolean condition, final int expected, final int check, @Nonnull final String message) {
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNaNArgumentException.class })
+	public static void notNaN(final boolean condition, @Nonnull final float[] values, final int from, final int to,
+			@Nullable final String name) {
 		if (condition) {
-			Check.notEquals(expected, check, message);
+			Check.notNaN(values, from, to, name);
 		}
 	}
 
 	/**
-	 * Ensures that a passed long is not equal to another long. The comparison is made using
-	 * <code>expected == check</code>.
+	 * Ensures that an integer reference passed as a parameter to the calling method is not smaller than {@code 0}.
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link ConditionalCheck#notEquals(condition,long, long, String)} and
-	 * pass as second argument the name of the parameter to enhance the exception message.
+	 * We recommend to use the overloaded method {@link Check#notNegative(int, String)} and pass as second argument the
+	 * name of the parameter to enhance the exception message.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            long to be checked
+	 * @param value
+	 *            a number
 	 * 
-	 * @throws IllegalEqualException
-	 *             if both argument values are not equal
+	 * @throws IllegalNegativeArgumentException
+	 *             if the given argument {@code reference} is smaller than {@code 0}
 	 */
-	@Throws(IllegalEqualException.class)
-	public static void notEquals(final boolean condition, final long expected, final long check) {
+	@Throws(IllegalNegativeArgumentException.class)
+	public static void notNegative(final boolean condition, final int value) {
 		if (condition) {
-			Check.notEquals(expected, check);
+			Check.notNegative(value);
 		}
 	}
 
 	/**
-	 * Ensures that a passed long is not equal to another long. The comparison is made using
-	 * <code>expected == check</code>.
+	 * Ensures that an integer reference passed as a parameter to the calling method is not smaller than {@code 0}.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            long to be checked
-	 * @param message
-	 *            an error message describing why the longs must equal (will be passed to {@code IllegalEqualException})
+	 * @param value
+	 *            a number
+	 * @param name
+	 *            name of the number reference (in source code)
 	 * 
-	 * @throws IllegalEqualException
-	 *             if both argument values are not equal
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code reference} is smaller than {@code 0}
 	 */
-	@Throws(IllegalEqualException.class)
-	public static void notEquals(final boolean condition, final long expected, final long check, @Nonnull final String message) {
+	@Throws(IllegalNegativeArgumentException.class)
+	public static void notNegative(final boolean condition, final int value, @Nullable final String name) {
 		if (condition) {
-			Check.notEquals(expected, check, message);
+			Check.notNegative(value, name);
 		}
 	}
 
 	/**
-	 * Ensures that a passed short is not equal to another short. The comparison is made using
-	 * <code>expected == check</code>.
+	 * Ensures that no element of a {@code double} array is smaller than {@code 0}.
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link ConditionalCheck#notEquals(condition,short, short, String)} and
-	 * pass as second argument the name of the parameter to enhance the exception message.
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#notNegative(double[], String)} and pass as last argument
+	 * the name of the parameter to enhance the exception message.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            short to be checked
-	 * 
-	 * @throws IllegalEqualException
-	 *             if both argument values are not equal
+	 * @param values
+	 *            an array of numbers
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNegativeArgumentException
+	 *             if an element is smaller than {@code 0}
 	 */
-	@Throws(IllegalEqualException.class)
-	public static void notEquals(final boolean condition, final short expected, final short check) {
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNegativeArgumentException.class })
+	public static void notNegative(final boolean condition, @Nonnull final double[] values) {
 		if (condition) {
-			Check.notEquals(expected, check);
+			Check.notNegative(values);
 		}
 	}
 
 	/**
-	 * Ensures that a passed short is not equal to another short. The comparison is made using
-	 * <code>expected == check</code>.
+	 * Ensures that no element of a {@code double} array is smaller than {@code 0}.
+	 * 
+	 * <p>
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            short to be checked
-	 * @param message
-	 *            an error message describing why the shorts must equal (will be passed to {@code IllegalEqualException}
-	 *            )
-	 * 
-	 * @throws IllegalEqualException
-	 *             if both argument values are not equal
+	 * @param values
+	 *            an array of numbers
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNegativeArgumentException
+	 *             if an element is smaller than {@code 0}
 	 */
-	@Throws(IllegalEqualException.class)
-	public static void notEquals(final boolean condition, final short expected, final short check, @Nonnull final String message) {
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNegativeArgumentException.class })
+	public static void notNegative(final boolean condition, @Nonnull final double[] values, @Nullable final String name) {
 		if (condition) {
-			Check.notEquals(expected, check, message);
+			Check.notNegative(values, name);
 		}
 	}
 
 	/**
-	 * Ensures that a passed {@code Comparable} is not equal to another {@code Comparable}. The comparison is made using
-	 * {@code expected.compareTo(check) == 0}.
+	 * Ensures that no element of a {@code double} array is smaller than {@code 0}.
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method
-	 * {@link ConditionalCheck#notEquals(condition,Comparable, Comparable, String)} and pass as second argument the name
-	 * of the parameter to enhance the exception message.
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * Only the elements from index {@code from} (inclusive) to {@code to} (exclusive) are checked.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#notNegative(double[], int, int, String)} and pass as last
+	 * argument the name of the parameter to enhance the exception message.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            Comparable to be checked
-	 * 
-	 * @throws IllegalEqualException
-	 *             if both argument values are not equal
+	 * @param values
+	 *            an array of numbers
+	 * @param from
+	 *            index of the first element to check (inclusive)
+	 * @param to
+	 *            index after the last element to check (exclusive)
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if {@code from} and {@code to} do not form a valid range within the array
+	 * @throws IllegalNegativeArgumentException
+	 *             if an element is smaller than {@code 0}
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalEqualException.class })
-	public static <T extends Comparable<T>> void notEquals(final boolean condition, @Nonnull final T expected, @Nonnull final T check) {
-		Check.notNull(expected, "expected");
-		Check.notNull(check, "check");
-
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNegativeArgumentException.class })
+	public static void notNegative(final boolean condition, @Nonnull final double[] values, final int from, final int to) {
 		if (condition) {
-			Check.notEquals(expected, check);
+			Check.notNegative(values, from, to);
 		}
 	}
 
 	/**
-	 * Ensures that a passed object is not equal to another object. The comparison is made using a call to
-	 * {@code expected.equals(check) }.
+	 * Ensures that no element of a {@code double} array is smaller than {@code 0}.
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link ConditionalCheck#notEquals(condition,Object, Object, String)}
-	 * and pass as second argument the name of the parameter to enhance the exception message.
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * Only the elements from index {@code from} (inclusive) to {@code to} (exclusive) are checked.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            Object to be checked
-	 * 
-	 * @throws IllegalEqualException
-	 *             if both argument values are not equal
+	 * @param values
+	 *            an array of numbers
+	 * @param from
+	 *            index of the first element to check (inclusive)
+	 * @param to
+	 *            index after the last element to check (exclusive)
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if {@code from} and {@code to} do not form a valid range within the array
+	 * @throws IllegalNegativeArgumentException
+	 *             if an element is smaller than {@code 0}
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalEqualException.class })
-	public static <T extends Object> void notEquals(final boolean condition, @Nonnull final T expected, @Nonnull final T check) {
-		Check.notNull(expected, "expected");
-		Check.notNull(check, "check");
-
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNegativeArgumentException.class })
+	public static void notNegative(final boolean condition, @Nonnull final double[] values, final int from, final int to,
+			@Nullable final String name) {
 		if (condition) {
-			Check.notEquals(expected, check);
+			Check.notNegative(values, from, to, name);
 		}
 	}
 
 	/**
-	 * Ensures that a passed {@code Comparable} is not equal to another {@code Comparable}. The comparison is made using
-	 * {@code expected.compareTo(check) == 0}.
+	 * Ensures that no element of an {@code int} array is smaller than {@code 0}.
+	 * 
+	 * <p>
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#notNegative(int[], String)} and pass as last argument the
+	 * name of the parameter to enhance the exception message.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            Comparable to be checked
-	 * @param message
-	 *            an error message describing why the <a>s must equal (will be passed to {@code IllegalEqualException})
-	 * 
-	 * @throws IllegalEqualException
-	 *             if both argument values are not equal
+	 * @param values
+	 *            an array of numbers
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNegativeArgumentException
+	 *             if an element is smaller than {@code 0}
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalEqualException.class })
-	public static <T extends Comparable<T>> void notEquals(final boolean condition, @Nonnull final T expected, @Nonnull final T check,
-			final String message) {
-		Check.notNull(expected, "expected");
-		Check.notNull(check, "check");
-
+	@Throws({ IllegalNullArgumentException.class, IllegalNegativeArgumentException.class })
+	public static void notNegative(final boolean condition, @Nonnull final int[] values) {
 		if (condition) {
-			Check.notEquals(expected, check, message);
+			Check.notNegative(values);
 		}
 	}
 
 	/**
-	 * Ensures that a passed object is not equal to another object. The comparison is made using a call to
-	 * {@code expected.equals(check)}.
+	 * Ensures that no element of an {@code int} array is smaller than {@code 0}.
+	 * 
+	 * <p>
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param expected
-	 *            Expected value
-	 * @param check
-	 *            Object to be checked
-	 * @param message
-	 *            an error message describing why the objects must equal (will be passed to
-	 *            {@code IllegalEqualException})
-	 * 
-	 * @throws IllegalEqualException
-	 *             if both argument values are not equal
+	 * @param values
+	 *            an array of numbers
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNegativeArgumentException
+	 *             if an element is smaller than {@code 0}
 	 */
 	@ArgumentsChecked
-	@Throws({ IllegalNullArgumentException.class, IllegalEqualException.class })
-	public static <T extends Object> void notEquals(final boolean condition, @Nonnull final T expected, @Nonnull final T check,
-			final String message) {
-		Check.notNull(expected, "expected");
-		Check.notNull(check, "check");
-
+	@Throws({ IllegalNullArgumentException.class, IllegalNegativeArgumentException.class })
+	public static void notNegative(final boolean condition, @Nonnull final int[] values, @Nullable final String name) {
 		if (condition) {
-			Check.notEquals(expected, check, message);
+			Check.notNegative(values, name);
 		}
 	}
 
 	/**
-	 * Ensures that a double argument is not NaN (not a number).
+	 * Ensures that no element of an {@code int} array is smaller than {@code 0}.
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link Check#notNaN(double, String)} and pass as second argument the
-	 * name of the parameter to enhance the exception message.
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * Only the elements from index {@code from} (inclusive) to {@code to} (exclusive) are checked.
 	 * 
-	 * @see java.lang.Double#NaN
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#notNegative(int[], int, int, String)} and pass as last
+	 * argument the name of the parameter to enhance the exception message.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param value
-	 *            value which should not be NaN
-	 * 
-	 * @throws IllegalNaNArgumentException
-	 *             if the given argument {@code value} is NaN
+	 * @param values
+	 *            an array of numbers
+	 * @param from
+	 *            index of the first element to check (inclusive)
+	 * @param to
+	 *            index after the last element to check (exclusive)
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if {@code from} and {@code to} do not form a valid range within the array
+	 * @throws IllegalNegativeArgumentException
+	 *             if an element is smaller than {@code 0}
 	 */
-	@Throws(IllegalNaNArgumentException.class)
-	public static void notNaN(final boolean condition, final double value) {
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNegativeArgumentException.class })
+	public static void notNegative(final boolean condition, @Nonnull final int[] values, final int from, final int to) {
 		if (condition) {
-			Check.notNaN(value);
+			Check.notNegative(values, from, to);
 		}
 	}
 
 	/**
-	 * Ensures that a double argument is not NaN (not a number).
+	 * Ensures that no element of an {@code int} array is smaller than {@code 0}.
 	 * 
-	 * @see java.lang.Double#NaN
+	 * <p>
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * Only the elements from index {@code from} (inclusive) to {@code to} (exclusive) are checked.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param value
-	 *            value which should not be NaN
+	 * @param values
+	 *            an array of numbers
+	 * @param from
+	 *            index of the first element to check (inclusive)
+	 * @param to
+	 *            index after the last element to check (exclusive)
 	 * @param name
-	 *            name of object reference (in source code)
-	 * 
-	 * @throws IllegalNaNArgumentException
-	 *             if the given argument {@code value} is NaN
+	 *            name of the array reference (in source code)
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if {@code from} and {@code to} do not form a valid range within the array
+	 * @throws IllegalNegativeArgumentException
+	 *             if an element is smaller than {@code 0}
 	 */
-	@Throws(IllegalNaNArgumentException.class)
-	public static void notNaN(final boolean condition, final double value, @Nullable final String name) {
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNegativeArgumentException.class })
+	public static void notNegative(final boolean condition, @Nonnull final int[] values, final int from, final int to,
+			@Nullable final String name) {
 		if (condition) {
-			Check.notNaN(value, name);
+			Check.notNegative(values, from, to, name);
 		}
 	}
 
 	/**
-	 * Ensures that a double argument is not NaN (not a number).
+	 * Ensures that no element of a {@code long} array is smaller than {@code 0}.
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link Check#notNaN(float, String)} and pass as second argument the
-	 * name of the parameter to enhance the exception message.
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
 	 * 
-	 * @see java.lang.Float#NaN
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#notNegative(long[], String)} and pass as last argument the
+	 * name of the parameter to enhance the exception message.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param value
-	 *            value which should not be NaN
-	 * 
-	 * @throws IllegalNaNArgumentException
-	 *             if the given argument {@code value} is NaN
+	 * @param values
+	 *            an array of numbers
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNegativeArgumentException
+	 *             if an element is smaller than {@code 0}
 	 */
-	@Throws(IllegalNaNArgumentException.class)
-	public static void notNaN(final boolean condition, final float value) {
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNegativeArgumentException.class })
+	public static void notNegative(final boolean condition, @Nonnull final long[] values) {
 		if (condition) {
-			Check.notNaN(value);
+			Check.notNegative(values);
 		}
 	}
 
 	/**
-	 * Ensures that a double argument is not NaN (not a number).
+	 * Ensures that no element of a {@code long} array is smaller than {@code 0}.
 	 * 
-	 * @see java.lang.Float#NaN
+	 * <p>
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param value
-	 *            value which should not be NaN
+	 * @param values
+	 *            an array of numbers
 	 * @param name
-	 *            name of object reference (in source code)
-	 * 
-	 * @throws IllegalNaNArgumentException
-	 *             if the given argument {@code value} is NaN
+	 *            name of the array reference (in source code)
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalNegativeArgumentException
+	 *             if an element is smaller than {@code 0}
 	 */
-	@Throws(IllegalNaNArgumentException.class)
-	public static void notNaN(final boolean condition, final float value, @Nullable final String name) {
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNegativeArgumentException.class })
+	public static void notNegative(final boolean condition, @Nonnull final long[] values, @Nullable final String name) {
 		if (condition) {
-			Check.notNaN(value, name);
+			Check.notNegative(values, name);
 		}
 	}
 
 	/**
-	 * Ensures that an integer reference passed as a parameter to the calling method is not smaller than {@code 0}.
+	 * Ensures that no element of a {@code long} array is smaller than {@code 0}.
 	 * 
 	 * <p>
-	 * We recommend to use the overloaded method {@link Check#notNegative(int, String)} and pass as second argument the
-	 * name of the parameter to enhance the exception message.
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * Only the elements from index {@code from} (inclusive) to {@code to} (exclusive) are checked.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#notNegative(long[], int, int, String)} and pass as last
+	 * argument the name of the parameter to enhance the exception message.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param value
-	 *            a number
-	 * 
+	 * @param values
+	 *            an array of numbers
+	 * @param from
+	 *            index of the first element to check (inclusive)
+	 * @param to
+	 *            index after the last element to check (exclusive)
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if {@code from} and {@code to} do not form a valid range within the array
 	 * @throws IllegalNegativeArgumentException
-	 *             if the given argument {@code reference} is smaller than {@code 0}
+	 *             if an element is smaller than {@code 0}
 	 */
-	@Throws(IllegalNegativeArgumentException.class)
-	public static void notNegative(final boolean condition, final int value) {
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNegativeArgumentException.class })
+	public static void notNegative(final boolean condition, @Nonnull final long[] values, final int from, final int to) {
 		if (condition) {
-			Check.notNegative(value);
+			Check.notNegative(values, from, to);
 		}
 	}
 
 	/**
-	 * Ensures that an integer reference passed as a parameter to the calling method is not smaller than {@code 0}.
+	 * Ensures that no element of a {@code long} array is smaller than {@code 0}.
+	 * 
+	 * <p>
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * Only the elements from index {@code from} (inclusive) to {@code to} (exclusive) are checked.
 	 * 
 	 * @param condition
 	 *            condition must be {@code true}^ so that the check will be performed
-	 * @param value
-	 *            a number
+	 * @param values
+	 *            an array of numbers
+	 * @param from
+	 *            index of the first element to check (inclusive)
+	 * @param to
+	 *            index after the last element to check (exclusive)
 	 * @param name
-	 *            name of the number reference (in source code)
-	 * 
+	 *            name of the array reference (in source code)
 	 * @throws IllegalNullArgumentException
-	 *             if the given argument {@code reference} is smaller than {@code 0}
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if {@code from} and {@code to} do not form a valid range within the array
+	 * @throws IllegalNegativeArgumentException
+	 *             if an element is smaller than {@code 0}
 	 */
-	@Throws(IllegalNegativeArgumentException.class)
-	public static void notNegative(final boolean condition, final int value, @Nullable final String name) {
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalNegativeArgumentException.class })
+	public static void notNegative(final boolean condition, @Nonnull final long[] values, final int from, final int to,
+			@Nullable final String name) {
 		if (condition) {
-			Check.notNegative(value, name);
+			Check.notNegative(values, from, to, name);
 		}
 	}
 
@@ -2088,6 +5021,141 @@ public final class ConditionalCheck {
 		}
 	}
 
+	/**
+	 * Ensures that all elements of an {@code int} array are valid position indices within the size of an array, list or
+	 * string.
+	 * 
+	 * <p>
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#positionIndex(int[], int, String)} and pass as last
+	 * argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param values
+	 *            an array of indices
+	 * @param size
+	 *            size of an array, list or string
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalPositionIndexException
+	 *             if an element is not a valid position index
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalPositionIndexException.class })
+	public static void positionIndex(final boolean condition, @Nonnull final int[] values, final int size) {
+		if (condition) {
+			Check.positionIndex(values, size);
+		}
+	}
+
+	/**
+	 * Ensures that all elements of an {@code int} array are valid position indices within the size of an array, list or
+	 * string.
+	 * 
+	 * <p>
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param values
+	 *            an array of indices
+	 * @param size
+	 *            size of an array, list or string
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalPositionIndexException
+	 *             if an element is not a valid position index
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalPositionIndexException.class })
+	public static void positionIndex(final boolean condition, @Nonnull final int[] values, final int size, @Nullable final String name) {
+		if (condition) {
+			Check.positionIndex(values, size, name);
+		}
+	}
+
+	/**
+	 * Ensures that all elements of an {@code int} array are valid position indices within the size of an array, list or
+	 * string.
+	 * 
+	 * <p>
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * Only the elements from index {@code from} (inclusive) to {@code to} (exclusive) are checked.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link Check#positionIndex(int[], int, int, int, String)} and pass as
+	 * last argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param values
+	 *            an array of indices
+	 * @param from
+	 *            index of the first element to check (inclusive)
+	 * @param to
+	 *            index after the last element to check (exclusive)
+	 * @param size
+	 *            size of an array, list or string
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if {@code from} and {@code to} do not form a valid range within the array
+	 * @throws IllegalPositionIndexException
+	 *             if an element is not a valid position index
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalPositionIndexException.class })
+	public static void positionIndex(final boolean condition, @Nonnull final int[] values, final int from, final int to, final int size) {
+		if (condition) {
+			Check.positionIndex(values, from, to, size);
+		}
+	}
+
+	/**
+	 * Ensures that all elements of an {@code int} array are valid position indices within the size of an array, list or
+	 * string.
+	 * 
+	 * <p>
+	 * The index of the first offending element is reported as part of the argument name in the exception (e.g.
+	 * {@code values[3]}).
+	 * Only the elements from index {@code from} (inclusive) to {@code to} (exclusive) are checked.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param values
+	 *            an array of indices
+	 * @param from
+	 *            index of the first element to check (inclusive)
+	 * @param to
+	 *            index after the last element to check (exclusive)
+	 * @param size
+	 *            size of an array, list or string
+	 * @param name
+	 *            name of the array reference (in source code)
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code values} is {@code null}
+	 * @throws IllegalRangeException
+	 *             if {@code from} and {@code to} do not form a valid range within the array
+	 * @throws IllegalPositionIndexException
+	 *             if an element is not a valid position index
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalRangeException.class, IllegalPositionIndexException.class })
+	public static void positionIndex(final boolean condition, @Nonnull final int[] values, final int from, final int to, final int size,
+			@Nullable final String name) {
+		if (condition) {
+			Check.positionIndex(values, from, to, size, name);
+		}
+	}
+
 	/**
 	 * Ensures that the given arguments are a valid range.
 	 * 
@@ -2169,6 +5237,56 @@ public final class ConditionalCheck {
 
 	}
 
+	/**
+	 * Ensures that a given state is {@code true}. The description is requested from the given supplier not until the
+	 * message of the thrown exception is rendered, so that an expensive description costs nothing as long as the state
+	 * is valid.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expression
+	 *            an expression that must be {@code true} to indicate a valid state
+	 * @param description
+	 *            supplies the description which explains why the state is invalid
+	 * @throws IllegalNullArgumentException
+	 *             if the given {@code description} is {@code null}
+	 * @throws IllegalStateOfArgumentException
+	 *             if the given arguments caused an invalid state
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalStateOfArgumentException.class })
+	public static void stateIsTrue(final boolean condition, final boolean expression, @Nonnull final DescriptionSupplier description) {
+		if (condition) {
+			Check.stateIsTrue(expression, description);
+		}
+	}
+
+	/**
+	 * Ensures that a given state is {@code true} and throws an exception created by the given factory otherwise. In
+	 * contrast to {@link Check#stateIsTrue(boolean, Class)} no reflection is involved.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expression
+	 *            an expression that must be {@code true} to indicate a valid state
+	 * @param factory
+	 *            creates the exception which will be thrown if the given state is not valid
+	 * @param message
+	 *            detail message of the exception
+	 * @throws IllegalNullArgumentException
+	 *             if the given {@code factory} is {@code null}
+	 * @throws RuntimeException
+	 *             the exception created by the given {@code factory} if the given arguments caused an invalid state
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	public static void stateIsTrue(final boolean condition, final boolean expression, @Nonnull final ExceptionFactory<?> factory,
+			@Nonnull final String message) {
+		if (condition) {
+			Check.stateIsTrue(expression, factory, message);
+		}
+	}
+
 	/**
 	 * Ensures that a given state is {@code true}.
 	 * 
@@ -2188,6 +5306,130 @@ public final class ConditionalCheck {
 		}
 	}
 
+	/**
+	 * Ensures that a given state is {@code true}. In contrast to {@link Check#stateIsTrue(boolean, String, Object...)}
+	 * this method takes a fixed number of arguments, so that no array is allocated as long as the state is valid.
+	 * 
+	 * <p>
+	 * A primitive argument (e.g. an {@code int} or {@code long}) is still boxed at the call site, even if the state is
+	 * valid. There are no primitive overloads, because a {@code char}, {@code byte} or {@code short} argument would be
+	 * widened to them and rendered differently. To avoid the boxing, pass a {@link DescriptionSupplier} instead.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expression
+	 *            an expression that must be {@code true} to indicate a valid state
+	 * @param descriptionTemplate
+	 *            format string template that explains why the state is invalid
+	 * @param arg1
+	 *            first format string template argument
+	 * @throws IllegalStateOfArgumentException
+	 *             if the given arguments caused an invalid state
+	 */
+	@Throws(IllegalStateOfArgumentException.class)
+	public static void stateIsTrue(final boolean condition, final boolean expression,
+			@Nonnull final String descriptionTemplate, final Object arg1) {
+		if (condition) {
+			Check.stateIsTrue(expression, descriptionTemplate, arg1);
+		}
+	}
+
+	/**
+	 * Ensures that a given state is {@code true}. In contrast to {@link Check#stateIsTrue(boolean, String, Object...)}
+	 * this method takes a fixed number of arguments, so that no array is allocated as long as the state is valid.
+	 * 
+	 * <p>
+	 * A primitive argument (e.g. an {@code int} or {@code long}) is still boxed at the call site, even if the state is
+	 * valid. There are no primitive overloads, because a {@code char}, {@code byte} or {@code short} argument would be
+	 * widened to them and rendered differently. To avoid the boxing, pass a {@link DescriptionSupplier} instead.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expression
+	 *            an expression that must be {@code true} to indicate a valid state
+	 * @param descriptionTemplate
+	 *            format string template that explains why the state is invalid
+	 * @param arg1
+	 *            first format string template argument
+	 * @param arg2
+	 *            second format string template argument
+	 * @throws IllegalStateOfArgumentException
+	 *             if the given arguments caused an invalid state
+	 */
+	@Throws(IllegalStateOfArgumentException.class)
+	public static void stateIsTrue(final boolean condition, final boolean expression,
+			@Nonnull final String descriptionTemplate, final Object arg1, final Object arg2) {
+		if (condition) {
+			Check.stateIsTrue(expression, descriptionTemplate, arg1, arg2);
+		}
+	}
+
+	/**
+	 * Ensures that a given state is {@code true}. In contrast to {@link Check#stateIsTrue(boolean, String, Object...)}
+	 * this method takes a fixed number of arguments, so that no array is allocated as long as the state is valid.
+	 * 
+	 * <p>
+	 * A primitive argument (e.g. an {@code int} or {@code long}) is still boxed at the call site, even if the state is
+	 * valid. There are no primitive overloads, because a {@code char}, {@code byte} or {@code short} argument would be
+	 * widened to them and rendered differently. To avoid the boxing, pass a {@link DescriptionSupplier} instead.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expression
+	 *            an expression that must be {@code true} to indicate a valid state
+	 * @param descriptionTemplate
+	 *            format string template that explains why the state is invalid
+	 * @param arg1
+	 *            first format string template argument
+	 * @param arg2
+	 *            second format string template argument
+	 * @param arg3
+	 *            third format string template argument
+	 * @throws IllegalStateOfArgumentException
+	 *             if the given arguments caused an invalid state
+	 */
+	@Throws(IllegalStateOfArgumentException.class)
+	public static void stateIsTrue(final boolean condition, final boolean expression,
+			@Nonnull final String descriptionTemplate, final Object arg1, final Object arg2, final Object arg3) {
+		if (condition) {
+			Check.stateIsTrue(expression, descriptionTemplate, arg1, arg2, arg3);
+		}
+	}
+
+	/**
+	 * Ensures that a given state is {@code true}. In contrast to {@link Check#stateIsTrue(boolean, String, Object...)}
+	 * this method takes a fixed number of arguments, so that no array is allocated as long as the state is valid.
+	 * 
+	 * <p>
+	 * A primitive argument (e.g. an {@code int} or {@code long}) is still boxed at the call site, even if the state is
+	 * valid. There are no primitive overloads, because a {@code char}, {@code byte} or {@code short} argument would be
+	 * widened to them and rendered differently. To avoid the boxing, pass a {@link DescriptionSupplier} instead.
+	 * 
+	 * @param condition
+	 *            condition must be {@code true}^ so that the check will be performed
+	 * @param expression
+	 *            an expression that must be {@code true} to indicate a valid state
+	 * @param descriptionTemplate
+	 *            format string template that explains why the state is invalid
+	 * @param arg1
+	 *            first format string template argument
+	 * @param arg2
+	 *            second format string template argument
+	 * @param arg3
+	 *            third format string template argument
+	 * @param arg4
+	 *            fourth format string template argument
+	 * @throws IllegalStateOfArgumentException
+	 *             if the given arguments caused an invalid state
+	 */
+	@Throws(IllegalStateOfArgumentException.class)
+	public static void stateIsTrue(final boolean condition, final boolean expression,
+			@Nonnull final String descriptionTemplate, final Object arg1, final Object arg2, final Object arg3, final Object arg4) {
+		if (condition) {
+			Check.stateIsTrue(expression, descriptionTemplate, arg1, arg2, arg3, arg4);
+		}
+	}
+
 	/**
 	 * Ensures that a given state is {@code true}
 	 * 
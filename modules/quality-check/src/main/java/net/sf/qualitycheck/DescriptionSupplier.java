@@ -0,0 +1,41 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Supplies the description of a failed check on demand. It is passed instead of a string when building the description
+ * is expensive, because {@link #get()} will only be called when the check fails and the message of the thrown
+ * exception is requested.
+ * 
+ * <p>
+ * With Java 8 or later an implementation can be given as lambda expression, e.g.
+ * {@code Check.stateIsTrue(isOpen, () -> "Connection " + describe(connection) + " is closed.")}.
+ * 
+ * @author André Rouél
+ */
+public interface DescriptionSupplier {
+
+	/**
+	 * Returns the description which explains why a check failed.
+	 * 
+	 * @return the description
+	 */
+	@Nonnull
+	String get();
+
+}
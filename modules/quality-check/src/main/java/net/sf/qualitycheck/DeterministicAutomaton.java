@@ -0,0 +1,777 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A table-driven deterministic finite automaton which decides whether a whole sequence of characters matches a regular
+ * expression, without backtracking and without allocating.
+ * 
+ * <p>
+ * Only the regular subset of the syntax of {@link Pattern} is supported: literals, escaped characters, the escape
+ * sequences of control and hexadecimal characters, character classes with ranges and negation, the predefined classes
+ * {@code . \d \D \s \S \w \W}, capturing and non-capturing groups, alternations, greedy and reluctant quantifiers as
+ * well as a leading {@code ^} and a trailing {@code $}. Expressions with other constructs, e.g. back references,
+ * lookaround, possessive quantifiers, unions or intersections of classes, Unicode properties, supplementary characters
+ * or flags, are not compiled.
+ * 
+ * <p>
+ * The characters are partitioned into classes which are treated alike by all states, so the transition table has one
+ * column per class. The class of a Latin-1 character is looked up in a table, all others are searched binary. Because
+ * {@link Pattern} matches code points, a surrogate character in the input leaves the decision to the pattern, if the
+ * expression contains a class which could match it.
+ * 
+ * @author André Rouél
+ */
+@Immutable
+final class DeterministicAutomaton {
+
+	/**
+	 * Thrown internally if an expression uses a construct which is not supported or becomes too large.
+	 */
+	private static final class UnsupportedException extends RuntimeException {
+
+		private static final long serialVersionUID = -2283401389207004913L;
+
+		@Override
+		public synchronized Throwable fillInStackTrace() {
+			return this;
+		}
+
+	}
+
+	/**
+	 * Builds a nondeterministic automaton with epsilon transitions from an expression (Thompson's construction). Each
+	 * state has at most one transition on a set of characters.
+	 */
+	private static final class NfaBuilder {
+
+		/**
+		 * Ranges of characters of the transition of each state or {@code null}
+		 */
+		private final List<int[]> sets = new ArrayList<int[]>();
+
+		/**
+		 * Target of the transition on characters of each state
+		 */
+		private final List<Integer> targets = new ArrayList<Integer>();
+
+		/**
+		 * Targets of the epsilon transitions of each state
+		 */
+		private final List<List<Integer>> epsilons = new ArrayList<List<Integer>>();
+
+		private void addChars(final int from, final int[] set, final int to) {
+			int source = from;
+			if (sets.get(source) != null) {
+				source = newState();
+				addEpsilon(from, source);
+			}
+			sets.set(source, set);
+			targets.set(source, to);
+		}
+
+		private void addEpsilon(final int from, final int to) {
+			epsilons.get(from).add(to);
+		}
+
+		/**
+		 * Adds the states which match the given node, starting at the given state.
+		 * 
+		 * @return the state which is reached after the node has been matched
+		 */
+		int build(final Node node, final int from) {
+			if (node instanceof Chars) {
+				final int to = newState();
+				addChars(from, ((Chars) node).set, to);
+				return to;
+			} else if (node instanceof Sequence) {
+				int current = from;
+				for (final Node element : ((Sequence) node).elements) {
+					current = build(element, current);
+				}
+				return current;
+			} else if (node instanceof Alternation) {
+				final int end = newState();
+				for (final Node alternative : ((Alternation) node).alternatives) {
+					final int start = newState();
+					addEpsilon(from, start);
+					addEpsilon(build(alternative, start), end);
+				}
+				return end;
+			} else {
+				return buildRepetition((Repetition) node, from);
+			}
+		}
+
+		private int buildRepetition(final Repetition repetition, final int from) {
+			int current = from;
+			for (int i = 0; i < repetition.min; i++) {
+				current = build(repetition.node, current);
+			}
+			if (repetition.max == Repetition.UNBOUNDED) {
+				final int loop = newState();
+				addEpsilon(current, loop);
+				addEpsilon(build(repetition.node, loop), loop);
+				return loop;
+			}
+			final int end = newState();
+			addEpsilon(current, end);
+			for (int i = repetition.min; i < repetition.max; i++) {
+				current = build(repetition.node, current);
+				addEpsilon(current, end);
+			}
+			return end;
+		}
+
+		int newState() {
+			if (sets.size() == MAX_NFA_STATES) {
+				throw new UnsupportedException();
+			}
+			sets.add(null);
+			targets.add(Integer.valueOf(-1));
+			epsilons.add(new ArrayList<Integer>(2));
+			return sets.size() - 1;
+		}
+
+	}
+
+	/**
+	 * Node of the syntax tree of an expression
+	 */
+	private abstract static class Node {
+	}
+
+	private static final class Chars extends Node {
+
+		/**
+		 * Sorted and disjoint ranges of characters as pairs of the first and last character
+		 */
+		private final int[] set;
+
+		Chars(final int[] set) {
+			this.set = set;
+		}
+
+	}
+
+	private static final class Sequence extends Node {
+
+		private final List<Node> elements;
+
+		Sequence(final List<Node> elements) {
+			this.elements = elements;
+		}
+
+	}
+
+	private static final class Alternation extends Node {
+
+		private final List<Node> alternatives;
+
+		Alternation(final List<Node> alternatives) {
+			this.alternatives = alternatives;
+		}
+
+	}
+
+	private static final class Repetition extends Node {
+
+		static final int UNBOUNDED = -1;
+
+		private final Node node;
+
+		private final int min;
+
+		private final int max;
+
+		Repetition(final Node node, final int min, final int max) {
+			this.node = node;
+			this.min = min;
+			this.max = max;
+		}
+
+	}
+
+	/**
+	 * Recursive descent parser for the supported subset of regular expressions
+	 */
+	private static final class Parser {
+
+		private final String regex;
+
+		private int pos;
+
+		Parser(final String regex) {
+			this.regex = regex;
+		}
+
+		private boolean at(final char c) {
+			return pos < regex.length() && regex.charAt(pos) == c;
+		}
+
+		private boolean atQuantifier() {
+			return at('*') || at('+') || at('?') || at('{');
+		}
+
+		private char next() {
+			if (pos >= regex.length()) {
+				throw new UnsupportedException();
+			}
+			return regex.charAt(pos++);
+		}
+
+		Node parse() {
+			final Node node = parseAlternation(0);
+			if (pos != regex.length()) {
+				throw new UnsupportedException();
+			}
+			return node;
+		}
+
+		private Node parseAlternation(final int depth) {
+			final List<Node> alternatives = new ArrayList<Node>();
+			alternatives.add(parseSequence(depth));
+			while (at('|')) {
+				pos++;
+				alternatives.add(parseSequence(depth));
+			}
+			return alternatives.size() == 1 ? alternatives.get(0) : new Alternation(alternatives);
+		}
+
+		private Node parseAtom(final int depth) {
+			final char c = next();
+			switch (c) {
+			case '(':
+				if (at('?')) {
+					pos++;
+					if (next() != ':') {
+						throw new UnsupportedException();
+					}
+				}
+				final Node group = parseAlternation(depth + 1);
+				if (next() != ')') {
+					throw new UnsupportedException();
+				}
+				return group;
+			case '[':
+				return new Chars(parseClass());
+			case '.':
+				return new Chars(DOT);
+			case '^':
+				if (pos != 1 || atQuantifier()) {
+					throw new UnsupportedException();
+				}
+				return EMPTY;
+			case '$':
+				if (pos != regex.length() || depth != 0) {
+					throw new UnsupportedException();
+				}
+				return EMPTY;
+			case '\\':
+				return new Chars(parseEscape());
+			case '*':
+			case '+':
+			case '?':
+			case '{':
+				throw new UnsupportedException();
+			default:
+				return new Chars(single(literal(c)));
+			}
+		}
+
+		/**
+		 * Parses a character class after its opening bracket.
+		 */
+		private int[] parseClass() {
+			final boolean negated = at('^');
+			if (negated) {
+				pos++;
+			}
+			if (at(']')) {
+				throw new UnsupportedException();
+			}
+			final int start = pos;
+			int[] set = new int[0];
+			while (!at(']')) {
+				final char c = next();
+				if (c == '[' || c == '&' && at('&') || c == '-' && pos - 1 != start && !at(']')) {
+					throw new UnsupportedException();
+				}
+				int[] item = c == '\\' ? parseEscape() : single(literal(c));
+				final boolean isSingle = item.length == 2 && item[0] == item[1];
+				if (isSingle && at('-') && pos + 1 < regex.length() && regex.charAt(pos + 1) != ']') {
+					pos++;
+					final char d = next();
+					if (d == '[') {
+						throw new UnsupportedException();
+					}
+					final int[] last = d == '\\' ? parseEscape() : single(literal(d));
+					if (last.length != 2 || last[0] != last[1] || last[0] < item[0]) {
+						throw new UnsupportedException();
+					}
+					item = new int[] { item[0], last[0] };
+				}
+				set = union(set, item);
+			}
+			pos++;
+			return negated ? complement(set) : set;
+		}
+
+		/**
+		 * Parses an escape sequence after its backslash.
+		 */
+		private int[] parseEscape() {
+			final char c = next();
+			switch (c) {
+			case 'd':
+				return DIGITS;
+			case 'D':
+				return complement(DIGITS);
+			case 's':
+				return SPACES;
+			case 'S':
+				return complement(SPACES);
+			case 'w':
+				return WORD;
+			case 'W':
+				return complement(WORD);
+			case 't':
+				return single('\t');
+			case 'n':
+				return single('\n');
+			case 'r':
+				return single('\r');
+			case 'f':
+				return single('\f');
+			case 'a':
+				return single('\u0007');
+			case 'e':
+				return single('\u001B');
+			case 'x':
+				return single(literal(parseHex(2)));
+			case 'u':
+				return single(literal(parseHex(4)));
+			default:
+				if (Character.isLetterOrDigit(c)) {
+					throw new UnsupportedException();
+				}
+				return single(literal(c));
+			}
+		}
+
+		private char parseHex(final int digits) {
+			int value = 0;
+			for (int i = 0; i < digits; i++) {
+				final int digit = Character.digit(next(), 16);
+				if (digit < 0) {
+					throw new UnsupportedException();
+				}
+				value = value * 16 + digit;
+			}
+			return (char) value;
+		}
+
+		private int parseNumber() {
+			final int start = pos;
+			int value = 0;
+			while (pos < regex.length() && regex.charAt(pos) >= '0' && regex.charAt(pos) <= '9') {
+				value = value * 10 + regex.charAt(pos++) - '0';
+				if (value > MAX_REPETITIONS) {
+					throw new UnsupportedException();
+				}
+			}
+			if (pos == start) {
+				throw new UnsupportedException();
+			}
+			return value;
+		}
+
+		private Node parseQuantified(final int depth) {
+			final Node atom = parseAtom(depth);
+			if (!atQuantifier()) {
+				return atom;
+			}
+			final char c = next();
+			final int min;
+			final int max;
+			if (c == '*') {
+				min = 0;
+				max = Repetition.UNBOUNDED;
+			} else if (c == '+') {
+				min = 1;
+				max = Repetition.UNBOUNDED;
+			} else if (c == '?') {
+				min = 0;
+				max = 1;
+			} else {
+				min = parseNumber();
+				if (at(',')) {
+					pos++;
+					max = at('}') ? Repetition.UNBOUNDED : parseNumber();
+				} else {
+					max = min;
+				}
+				if (next() != '}' || max != Repetition.UNBOUNDED && max < min) {
+					throw new UnsupportedException();
+				}
+			}
+
+			// a reluctant quantifier does not change whether the whole input matches, a possessive one does
+			if (at('?')) {
+				pos++;
+			} else if (at('+')) {
+				throw new UnsupportedException();
+			}
+			if (atQuantifier()) {
+				throw new UnsupportedException();
+			}
+			return new Repetition(atom, min, max);
+		}
+
+		private Node parseSequence(final int depth) {
+			final List<Node> elements = new ArrayList<Node>();
+			while (pos < regex.length() && !at('|') && !at(')')) {
+				elements.add(parseQuantified(depth));
+			}
+			return elements.size() == 1 ? elements.get(0) : new Sequence(elements);
+		}
+
+	}
+
+	/**
+	 * Result of {@link #match(CharSequence)} if the characters match
+	 */
+	static final int MATCH = 1;
+
+	/**
+	 * Result of {@link #match(CharSequence)} if the characters do not match
+	 */
+	static final int NO_MATCH = 0;
+
+	/**
+	 * Result of {@link #match(CharSequence)} if the characters contain a surrogate which has to be matched as part of a
+	 * code point by {@link Pattern}
+	 */
+	static final int UNDECIDED = 2;
+
+	/**
+	 * Transition into the state which cannot reach an accepting state anymore
+	 */
+	private static final int DEAD = -1;
+
+	/**
+	 * Transition on a surrogate character which has to be decided by {@link Pattern}
+	 */
+	private static final int FALLBACK = -2;
+
+	private static final int MAX_CHAR = Character.MAX_VALUE;
+
+	/**
+	 * Maximum number of states of the deterministic automaton
+	 */
+	static final int MAX_DFA_STATES = 1024;
+
+	/**
+	 * Maximum number of states of the nondeterministic automaton, which limits the size of bounded repetitions
+	 */
+	static final int MAX_NFA_STATES = 4096;
+
+	private static final int MAX_REPETITIONS = 1000;
+
+	private static final int[] DIGITS = { '0', '9' };
+
+	private static final int[] DOT = complement(new int[] { '\n', '\n', '\r', '\r', 0x85, 0x85, 0x2028, 0x2029 });
+
+	private static final Node EMPTY = new Sequence(new ArrayList<Node>(0));
+
+	private static final int[] SPACES = { '\t', '\r', ' ', ' ' };
+
+	private static final int[] WORD = { '0', '9', 'A', 'Z', '_', '_', 'a', 'z' };
+
+	private static void closure(final BitSet states, final NfaBuilder nfa) {
+		final int[] stack = new int[nfa.sets.size()];
+		int size = 0;
+		for (int i = states.nextSetBit(0); i >= 0; i = states.nextSetBit(i + 1)) {
+			stack[size++] = i;
+		}
+		while (size > 0) {
+			final int state = stack[--size];
+			for (final Integer target : nfa.epsilons.get(state)) {
+				if (!states.get(target.intValue())) {
+					states.set(target.intValue());
+					stack[size++] = target.intValue();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Compiles the expression of the given pattern into a deterministic automaton.
+	 * 
+	 * @param pattern
+	 *            a compiled pattern
+	 * @return the automaton or {@code null} if the expression is not supported
+	 */
+	@Nullable
+	static DeterministicAutomaton compile(@Nonnull final Pattern pattern) {
+		if (pattern.flags() != 0) {
+			return null;
+		}
+		try {
+			final Node root = new Parser(pattern.pattern()).parse();
+			final NfaBuilder nfa = new NfaBuilder();
+			final int start = nfa.newState();
+			final int accept = nfa.build(root, start);
+			return new DeterministicAutomaton(nfa, start, accept);
+		} catch (final UnsupportedException e) {
+			return null;
+		}
+	}
+
+	private static int[] complement(final int[] set) {
+		final int[] ranges = new int[set.length + 2];
+		int length = 0;
+		int next = 0;
+		for (int i = 0; i < set.length; i += 2) {
+			if (set[i] > next) {
+				ranges[length++] = next;
+				ranges[length++] = set[i] - 1;
+			}
+			next = set[i + 1] + 1;
+		}
+		if (next <= MAX_CHAR) {
+			ranges[length++] = next;
+			ranges[length++] = MAX_CHAR;
+		}
+		return Arrays.copyOf(ranges, length);
+	}
+
+	private static boolean contains(final int[] set, final int c) {
+		for (int i = 0; i < set.length; i += 2) {
+			if (c >= set[i] && c <= set[i + 1]) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static char literal(final char c) {
+		if (c >= Character.MIN_SURROGATE && c <= Character.MAX_SURROGATE) {
+			throw new UnsupportedException();
+		}
+		return c;
+	}
+
+	private static int[] single(final char c) {
+		return new int[] { c, c };
+	}
+
+	private static int[] union(final int[] a, final int[] b) {
+		final BitSet chars = new BitSet(MAX_CHAR + 1);
+		for (int i = 0; i < a.length; i += 2) {
+			chars.set(a[i], a[i + 1] + 1);
+		}
+		for (int i = 0; i < b.length; i += 2) {
+			chars.set(b[i], b[i + 1] + 1);
+		}
+		final List<Integer> ranges = new ArrayList<Integer>();
+		for (int first = chars.nextSetBit(0); first >= 0; first = chars.nextSetBit(first)) {
+			final int end = chars.nextClearBit(first);
+			ranges.add(Integer.valueOf(first));
+			ranges.add(Integer.valueOf(end - 1));
+			first = end;
+		}
+		final int[] set = new int[ranges.size()];
+		for (int i = 0; i < set.length; i++) {
+			set[i] = ranges.get(i).intValue();
+		}
+		return set;
+	}
+
+	/**
+	 * Indicates for each state whether the characters matched so far match the expression
+	 */
+	private final boolean[] accepting;
+
+	/**
+	 * Number of character classes, which is the length of a row of {@link #transitions}
+	 */
+	private final int classCount;
+
+	/**
+	 * First character of each class in ascending order
+	 */
+	private final int[] classStarts;
+
+	/**
+	 * Class of each Latin-1 character
+	 */
+	private final int[] latin1Classes;
+
+	/**
+	 * Offset of the row of the next state, {@link #DEAD} or {@link #FALLBACK}, indexed by the offset of the row of the
+	 * current state plus the class of the character
+	 */
+	private final int[] transitions;
+
+	/**
+	 * Converts the nondeterministic automaton into a deterministic one (subset construction).
+	 */
+	private DeterministicAutomaton(final NfaBuilder nfa, final int start, final int accept) {
+		final TreeSet<Integer> bounds = new TreeSet<Integer>();
+		bounds.add(Integer.valueOf(0));
+		bounds.add(Integer.valueOf(Character.MIN_SURROGATE));
+		bounds.add(Integer.valueOf(Character.MAX_SURROGATE + 1));
+		boolean surrogates = false;
+		for (final int[] set : nfa.sets) {
+			if (set != null) {
+				for (int i = 0; i < set.length; i += 2) {
+					bounds.add(Integer.valueOf(set[i]));
+					bounds.add(Integer.valueOf(set[i + 1] + 1));
+					surrogates |= set[i] <= Character.MAX_SURROGATE && set[i + 1] >= Character.MIN_SURROGATE;
+				}
+			}
+		}
+		bounds.remove(Integer.valueOf(MAX_CHAR + 1));
+		classStarts = new int[bounds.size()];
+		int index = 0;
+		for (final Integer bound : bounds) {
+			classStarts[index++] = bound.intValue();
+		}
+		classCount = classStarts.length;
+		latin1Classes = new int[256];
+		for (int c = 0; c < latin1Classes.length; c++) {
+			latin1Classes[c] = searchClass(c);
+		}
+
+		final List<BitSet> states = new ArrayList<BitSet>();
+		final Map<BitSet, Integer> ids = new HashMap<BitSet, Integer>();
+		final BitSet initial = new BitSet();
+		initial.set(start);
+		closure(initial, nfa);
+		states.add(initial);
+		ids.put(initial, Integer.valueOf(0));
+		final List<int[]> rows = new ArrayList<int[]>();
+		for (int id = 0; id < states.size(); id++) {
+			final BitSet current = states.get(id);
+			final int[] row = new int[classCount];
+			for (int k = 0; k < classCount; k++) {
+				final int c = classStarts[k];
+				if (surrogates && c >= Character.MIN_SURROGATE && c <= Character.MAX_SURROGATE) {
+					row[k] = FALLBACK;
+					continue;
+				}
+				final BitSet next = new BitSet();
+				for (int s = current.nextSetBit(0); s >= 0; s = current.nextSetBit(s + 1)) {
+					final int[] set = nfa.sets.get(s);
+					if (set != null && contains(set, c)) {
+						next.set(nfa.targets.get(s).intValue());
+					}
+				}
+				if (next.isEmpty()) {
+					row[k] = DEAD;
+					continue;
+				}
+				closure(next, nfa);
+				Integer target = ids.get(next);
+				if (target == null) {
+					if (states.size() == MAX_DFA_STATES) {
+						throw new UnsupportedException();
+					}
+					target = Integer.valueOf(states.size());
+					states.add(next);
+					ids.put(next, target);
+				}
+				row[k] = target.intValue() * classCount;
+			}
+			rows.add(row);
+		}
+
+		transitions = new int[rows.size() * classCount];
+		accepting = new boolean[rows.size()];
+		for (int id = 0; id < rows.size(); id++) {
+			System.arraycopy(rows.get(id), 0, transitions, id * classCount, classCount);
+			accepting[id] = states.get(id).get(accept);
+		}
+	}
+
+	/**
+	 * Decides whether the remaining bytes of the given buffer, each read as ISO-8859-1 character, match. The position
+	 * of the buffer remains unchanged.
+	 * 
+	 * @param buffer
+	 *            buffer to match
+	 * @return {@code true} if the bytes match, otherwise {@code false}
+	 */
+	boolean matches(@Nonnull final ByteBuffer buffer) {
+		int row = 0;
+		for (int i = buffer.position(), limit = buffer.limit(); i < limit; i++) {
+			row = transitions[row + latin1Classes[buffer.get(i) & 0xFF]];
+			if (row < 0) {
+				return false;
+			}
+		}
+		return accepting[row / classCount];
+	}
+
+	/**
+	 * Decides whether the whole sequence of characters matches.
+	 * 
+	 * @param chars
+	 *            characters to match
+	 * @return {@link #MATCH}, {@link #NO_MATCH} or {@link #UNDECIDED}
+	 */
+	int match(@Nonnull final CharSequence chars) {
+		int row = 0;
+		for (int i = 0, length = chars.length(); i < length; i++) {
+			final char c = chars.charAt(i);
+			row = transitions[row + (c < 256 ? latin1Classes[c] : searchClass(c))];
+			if (row < 0) {
+				return row == DEAD ? NO_MATCH : UNDECIDED;
+			}
+		}
+		return accepting[row / classCount] ? MATCH : NO_MATCH;
+	}
+
+	/**
+	 * Gets the number of states, which is at most {@link #MAX_DFA_STATES}.
+	 * 
+	 * @return number of states
+	 */
+	int getStateCount() {
+		return accepting.length;
+	}
+
+	private int searchClass(final int c) {
+		final int index = Arrays.binarySearch(classStarts, c);
+		return index >= 0 ? index : -index - 2;
+	}
+
+}
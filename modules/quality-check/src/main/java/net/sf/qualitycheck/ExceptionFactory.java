@@ -0,0 +1,45 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Creates the exception which is thrown when a check fails. Passing a factory to
+ * {@link Check#stateIsTrue(boolean, ExceptionFactory, String)} avoids the reflective instantiation of
+ * {@link Check#stateIsTrue(boolean, Class)}.
+ * 
+ * <p>
+ * With Java 8 or later a constructor reference can be passed as factory, e.g. {@code IllegalStateException::new}.
+ * 
+ * @param <E>
+ *            type of the created exception
+ * 
+ * @author André Rouél
+ */
+public interface ExceptionFactory<E extends RuntimeException> {
+
+	/**
+	 * Creates a new exception with the given detail message.
+	 * 
+	 * @param message
+	 *            the detail message
+	 * @return a new exception
+	 */
+	@Nonnull
+	E create(@Nonnull String message);
+
+}
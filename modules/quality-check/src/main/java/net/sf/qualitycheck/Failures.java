@@ -0,0 +1,921 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.lang.annotation.Annotation;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import net.sf.qualitycheck.exception.ArgumentRetention;
+import net.sf.qualitycheck.exception.IllegalEmptyArgumentException;
+import net.sf.qualitycheck.exception.IllegalEqualException;
+import net.sf.qualitycheck.exception.IllegalInstanceOfArgumentException;
+import net.sf.qualitycheck.exception.IllegalMissingAnnotationException;
+import net.sf.qualitycheck.exception.IllegalNaNArgumentException;
+import net.sf.qualitycheck.exception.IllegalNegativeArgumentException;
+import net.sf.qualitycheck.exception.IllegalNotContainedArgumentException;
+import net.sf.qualitycheck.exception.IllegalNotEqualException;
+import net.sf.qualitycheck.exception.IllegalNotGreaterOrEqualThanException;
+import net.sf.qualitycheck.exception.IllegalNotGreaterThanException;
+import net.sf.qualitycheck.exception.IllegalNotInRangeException;
+import net.sf.qualitycheck.exception.IllegalNotLesserThanException;
+import net.sf.qualitycheck.exception.IllegalNotNullArgumentException;
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+import net.sf.qualitycheck.exception.IllegalNullElementsException;
+import net.sf.qualitycheck.exception.IllegalNumberArgumentException;
+import net.sf.qualitycheck.exception.IllegalNumberRangeException;
+import net.sf.qualitycheck.exception.IllegalNumericArgumentException;
+import net.sf.qualitycheck.exception.IllegalPatternArgumentException;
+import net.sf.qualitycheck.exception.IllegalPositionIndexException;
+import net.sf.qualitycheck.exception.IllegalPositiveArgumentException;
+import net.sf.qualitycheck.exception.IllegalRangeException;
+import net.sf.qualitycheck.exception.IllegalStateOfArgumentException;
+import net.sf.qualitycheck.exception.RuntimeInstantiationException;
+
+/**
+ * Creates and throws the exceptions of failed checks. Every check of {@link Check} and {@link NumberInRange} only
+ * tests its condition and calls one of these methods if the condition is violated.
+ * 
+ * <p>
+ * Keeping the failure paths out of the checks makes the byte code of the checks small enough, so that the JIT compiler
+ * inlines them even at call sites which are not hot (the default limit of HotSpot is 35 bytes). Boxing of primitive
+ * values, the naming of array elements and the allocation of format arguments only happen here, after a check failed.
+ * 
+ * @author André Rouél
+ */
+final class Failures {
+
+	/**
+	 * Representation of an empty argument name
+	 */
+	private static final String EMPTY_ARGUMENT_NAME = "";
+
+	/**
+	 * Creates the name of an array element which is used in exception messages, e.g. {@code values[3]}.
+	 * 
+	 * @param name
+	 *            (optional) name of the array reference (in source code)
+	 * @param index
+	 *            index of the element
+	 * @return name of the element
+	 */
+	private static String elementName(@Nullable final String name, final int index) {
+		return (name != null ? name : EMPTY_ARGUMENT_NAME) + '[' + index + ']';
+	}
+
+	/**
+	 * Throws the exception which is created by the given factory.
+	 * 
+	 * @param factory
+	 *            factory which creates the exception
+	 * @param message
+	 *            detail message of the exception
+	 */
+	static void throwCreated(@Nonnull final ExceptionFactory<?> factory, @Nonnull final String message) {
+		throw factory.create(message);
+	}
+
+	/**
+	 * Throws an {@code IllegalEmptyArgumentException}.
+	 * 
+	 * @param name
+	 *            (optional) name of object reference (in source code)
+	 */
+	static void throwIllegalEmptyArgument(@Nullable final String name) {
+		throw new IllegalEmptyArgumentException(name);
+	}
+
+	/**
+	 * Throws an {@code IllegalEqualException}.
+	 * 
+	 * @param value
+	 *            illegal value
+	 */
+	static void throwIllegalEqual(@Nullable final Object value) {
+		throw new IllegalEqualException(value);
+	}
+
+	/**
+	 * Throws an {@code IllegalEqualException} with the given message.
+	 * 
+	 * @param message
+	 *            detail message of the exception
+	 * @param value
+	 *            illegal value
+	 */
+	static void throwIllegalEqual(@Nonnull final String message, @Nullable final Object value) {
+		throw new IllegalEqualException(message, value);
+	}
+
+	/**
+	 * Throws an {@code IllegalInstanceOfArgumentException}.
+	 * 
+	 * @param name
+	 *            (optional) name of object reference (in source code)
+	 * @param expectedType
+	 *            expected type
+	 * @param actualType
+	 *            type of the illegal value
+	 */
+	static void throwIllegalInstanceOfArgument(@Nullable final String name, @Nullable final Class<?> expectedType,
+			@Nullable final Class<?> actualType) {
+		throw new IllegalInstanceOfArgumentException(name, expectedType, actualType);
+	}
+
+	/**
+	 * Throws an {@code IllegalMissingAnnotationException}.
+	 * 
+	 * @param annotation
+	 *            missing annotation
+	 * @param clazz
+	 *            class which misses the annotation
+	 */
+	static void throwIllegalMissingAnnotation(@Nonnull final Class<? extends Annotation> annotation, @Nullable final Class<?> clazz) {
+		throw new IllegalMissingAnnotationException(annotation, clazz);
+	}
+
+	/**
+	 * Throws an {@code IllegalNaNArgumentException}.
+	 * 
+	 * @param name
+	 *            (optional) name of object reference (in source code)
+	 */
+	static void throwIllegalNaNArgument(@Nullable final String name) {
+		throw new IllegalNaNArgumentException(name);
+	}
+
+	/**
+	 * Throws an {@code IllegalNaNArgumentException} for an element of an array.
+	 * 
+	 * @param name
+	 *            (optional) name of the array reference (in source code)
+	 * @param index
+	 *            index of the illegal element
+	 */
+	static void throwIllegalNaNArgument(@Nullable final String name, final int index) {
+		throw new IllegalNaNArgumentException(elementName(name, index));
+	}
+
+	/**
+	 * Throws an {@code IllegalNegativeArgumentException}.
+	 * 
+	 * @param value
+	 *            illegal value
+	 */
+	static void throwIllegalNegativeArgument(@Nullable final Number value) {
+		throw new IllegalNegativeArgumentException(value);
+	}
+
+	/**
+	 * Throws an {@code IllegalNegativeArgumentException}.
+	 * 
+	 * @param name
+	 *            (optional) name of object reference (in source code)
+	 * @param value
+	 *            illegal value
+	 */
+	static void throwIllegalNegativeArgument(@Nullable final String name, @Nullable final Number value) {
+		throw new IllegalNegativeArgumentException(name, value);
+	}
+
+	/**
+	 * Throws an {@code IllegalNegativeArgumentException} for an element of an array.
+	 * 
+	 * @param name
+	 *            (optional) name of the array reference (in source code)
+	 * @param index
+	 *            index of the illegal element
+	 * @param value
+	 *            illegal value
+	 */
+	static void throwIllegalNegativeArgument(@Nullable final String name, final int index, final double value) {
+		throw new IllegalNegativeArgumentException(elementName(name, index), Double.valueOf(value));
+	}
+
+	/**
+	 * Throws an {@code IllegalNegativeArgumentException} for an element of an array.
+	 * 
+	 * @param name
+	 *            (optional) name of the array reference (in source code)
+	 * @param index
+	 *            index of the illegal element
+	 * @param value
+	 *            illegal value
+	 */
+	static void throwIllegalNegativeArgument(@Nullable final String name, final int index, final int value) {
+		throw new IllegalNegativeArgumentException(elementName(name, index), Integer.valueOf(value));
+	}
+
+	/**
+	 * Throws an {@code IllegalNegativeArgumentException} for an element of an array.
+	 * 
+	 * @param name
+	 *            (optional) name of the array reference (in source code)
+	 * @param index
+	 *            index of the illegal element
+	 * @param value
+	 *            illegal value
+	 */
+	static void throwIllegalNegativeArgument(@Nullable final String name, final int index, final long value) {
+		throw new IllegalNegativeArgumentException(elementName(name, index), Long.valueOf(value));
+	}
+
+	/**
+	 * Throws an {@code IllegalNotContainedArgumentException}.
+	 * 
+	 * @param needle
+	 *            value which is not contained
+	 */
+	static void throwIllegalNotContainedArgument(@Nullable final Object needle) {
+		throw new IllegalNotContainedArgumentException(needle);
+	}
+
+	/**
+	 * Throws an {@code IllegalNotContainedArgumentException}.
+	 * 
+	 * @param needle
+	 *            value which is not contained
+	 */
+	static void throwIllegalNotContainedArgument(final int needle) {
+		throw new IllegalNotContainedArgumentException(Integer.valueOf(needle));
+	}
+
+	/**
+	 * Throws an {@code IllegalNotContainedArgumentException}.
+	 * 
+	 * @param needle
+	 *            value which is not contained
+	 */
+	static void throwIllegalNotContainedArgument(final long needle) {
+		throw new IllegalNotContainedArgumentException(Long.valueOf(needle));
+	}
+
+	/**
+	 * Throws an {@code IllegalNotContainedArgumentException}.
+	 * 
+	 * @param name
+	 *            (optional) name of object reference (in source code)
+	 * @param needle
+	 *            value which is not contained
+	 */
+	static void throwIllegalNotContainedArgument(@Nullable final String name, @Nullable final Object needle) {
+		throw new IllegalNotContainedArgumentException(name, needle);
+	}
+
+	/**
+	 * Throws an {@code IllegalNotContainedArgumentException}.
+	 * 
+	 * @param name
+	 *            (optional) name of object reference (in source code)
+	 * @param needle
+	 *            value which is not contained
+	 */
+	static void throwIllegalNotContainedArgument(@Nullable final String name, final int needle) {
+		throw new IllegalNotContainedArgumentException(name, Integer.valueOf(needle));
+	}
+
+	/**
+	 * Throws an {@code IllegalNotContainedArgumentException}.
+	 * 
+	 * @param name
+	 *            (optional) name of object reference (in source code)
+	 * @param needle
+	 *            value which is not contained
+	 */
+	static void throwIllegalNotContainedArgument(@Nullable final String name, final long needle) {
+		throw new IllegalNotContainedArgumentException(name, Long.valueOf(needle));
+	}
+
+	/**
+	 * Throws an {@code IllegalNotContainedArgumentException} for an element of an array or iterable.
+	 * 
+	 * @param name
+	 *            (optional) name of the array or iterable reference (in source code)
+	 * @param index
+	 *            index of the illegal element
+	 * @param needle
+	 *            value which is not contained
+	 */
+	static void throwIllegalNotContainedArgument(@Nullable final String name, final int index, @Nullable final Object needle) {
+		throw new IllegalNotContainedArgumentException(elementName(name, index), needle);
+	}
+
+	/**
+	 * Throws an {@code IllegalNotContainedArgumentException} for an element of an array.
+	 * 
+	 * @param name
+	 *            (optional) name of the array reference (in source code)
+	 * @param index
+	 *            index of the illegal element
+	 * @param needle
+	 *            value which is not contained
+	 */
+	static void throwIllegalNotContainedArgument(@Nullable final String name, final int index, final int needle) {
+		throw new IllegalNotContainedArgumentException(elementName(name, index), Integer.valueOf(needle));
+	}
+
+	/**
+	 * Throws an {@code IllegalNotContainedArgumentException} for an element of an array.
+	 * 
+	 * @param name
+	 *            (optional) name of the array reference (in source code)
+	 * @param index
+	 *            index of the illegal element
+	 * @param needle
+	 *            value which is not contained
+	 */
+	static void throwIllegalNotContainedArgument(@Nullable final String name, final int index, final long needle) {
+		throw new IllegalNotContainedArgumentException(elementName(name, index), Long.valueOf(needle));
+	}
+
+	/**
+	 * Throws an {@code IllegalNotEqualException}.
+	 * 
+	 * @param value
+	 *            illegal value
+	 */
+	static void throwIllegalNotEqual(@Nullable final Object value) {
+		throw new IllegalNotEqualException(value);
+	}
+
+	/**
+	 * Throws an {@code IllegalNotEqualException} with the given message.
+	 * 
+	 * @param message
+	 *            detail message of the exception
+	 * @param value
+	 *            illegal value
+	 */
+	static void throwIllegalNotEqual(@Nonnull final String message, @Nullable final Object value) {
+		throw new IllegalNotEqualException(message, value);
+	}
+
+	/**
+	 * Throws an {@code IllegalNotGreaterOrEqualThanException}.
+	 * 
+	 * @param value
+	 *            illegal value
+	 */
+	static void throwIllegalNotGreaterOrEqualThan(@Nullable final Object value) {
+		throw new IllegalNotGreaterOrEqualThanException(value);
+	}
+
+	/**
+	 * Throws an {@code IllegalNotGreaterOrEqualThanException} with the given message.
+	 * 
+	 * @param message
+	 *            detail message of the exception
+	 * @param value
+	 *            illegal value
+	 */
+	static void throwIllegalNotGreaterOrEqualThan(@Nonnull final String message, @Nullable final Object value) {
+		throw new IllegalNotGreaterOrEqualThanException(message, value);
+	}
+
+	/**
+	 * Throws an {@code IllegalNotGreaterThanException}.
+	 * 
+	 * @param value
+	 *            illegal value
+	 */
+	static void throwIllegalNotGreaterThan(@Nullable final Object value) {
+		throw new IllegalNotGreaterThanException(value);
+	}
+
+	/**
+	 * Throws an {@code IllegalNotGreaterThanException} with the given message.
+	 * 
+	 * @param message
+	 *            detail message of the exception
+	 * @param value
+	 *            illegal value
+	 */
+	static void throwIllegalNotGreaterThan(@Nonnull final String message, @Nullable final Object value) {
+		throw new IllegalNotGreaterThanException(message, value);
+	}
+
+	/**
+	 * Throws an {@code IllegalNotInRangeException}.
+	 * 
+	 * @param name
+	 *            (optional) name of object reference (in source code)
+	 * @param value
+	 *            illegal value
+	 * @param min
+	 *            lower bound of the range
+	 * @param max
+	 *            upper bound of the range
+	 * @param exclusive
+	 *            whether the bounds are excluded from the range
+	 */
+	static void throwIllegalNotInRange(@Nullable final String name, final char value, final char min, final char max,
+			final boolean exclusive) {
+		throw new IllegalNotInRangeException(name, value, min, max, exclusive);
+	}
+
+	/**
+	 * Throws an {@code IllegalNotInRangeException}.
+	 * 
+	 * @param name
+	 *            (optional) name of object reference (in source code)
+	 * @param value
+	 *            illegal value
+	 * @param min
+	 *            lower bound of the range
+	 * @param max
+	 *            upper bound of the range
+	 * @param exclusive
+	 *            whether the bounds are excluded from the range
+	 */
+	static void throwIllegalNotInRange(@Nullable final String name, final double value, final double min, final double max,
+			final boolean exclusive) {
+		throw new IllegalNotInRangeException(name, value, min, max, exclusive);
+	}
+
+	/**
+	 * Throws an {@code IllegalNotInRangeException}.
+	 * 
+	 * @param name
+	 *            (optional) name of object reference (in source code)
+	 * @param value
+	 *            illegal value
+	 * @param min
+	 *            lower bound of the range
+	 * @param max
+	 *            upper bound of the range
+	 * @param exclusive
+	 *            whether the bounds are excluded from the range
+	 */
+	static void throwIllegalNotInRange(@Nullable final String name, final float value, final float min, final float max,
+			final boolean exclusive) {
+		throw new IllegalNotInRangeException(name, value, min, max, exclusive);
+	}
+
+	/**
+	 * Throws an {@code IllegalNotInRangeException}.
+	 * 
+	 * @param name
+	 *            (optional) name of object reference (in source code)
+	 * @param value
+	 *            illegal value
+	 * @param min
+	 *            lower bound of the range
+	 * @param max
+	 *            upper bound of the range
+	 * @param exclusive
+	 *            whether the bounds are excluded from the range
+	 */
+	static void throwIllegalNotInRange(@Nullable final String name, final long value, final long min, final long max,
+			final boolean exclusive) {
+		throw new IllegalNotInRangeException(name, value, min, max, exclusive);
+	}
+
+	/**
+	 * Throws an {@code IllegalNotLesserThanException}.
+	 * 
+	 * @param value
+	 *            illegal value
+	 */
+	static void throwIllegalNotLesserThan(@Nullable final Object value) {
+		throw new IllegalNotLesserThanException(value);
+	}
+
+	/**
+	 * Throws an {@code IllegalNotLesserThanException} with the given message.
+	 * 
+	 * @param message
+	 *            detail message of the exception
+	 * @param value
+	 *            illegal value
+	 */
+	static void throwIllegalNotLesserThan(@Nonnull final String message, @Nullable final Object value) {
+		throw new IllegalNotLesserThanException(message, value);
+	}
+
+	/**
+	 * Throws an {@code IllegalNotNullArgumentException}.
+	 * 
+	 * @param reference
+	 *            illegal reference
+	 */
+	static void throwIllegalNotNullArgument(@Nonnull final Object reference) {
+		throw new IllegalNotNullArgumentException(reference);
+	}
+
+	/**
+	 * Throws an {@code IllegalNotNullArgumentException}.
+	 * 
+	 * @param name
+	 *            (optional) name of object reference (in source code)
+	 * @param reference
+	 *            illegal reference
+	 */
+	static void throwIllegalNotNullArgument(@Nullable final String name, @Nonnull final Object reference) {
+		throw new IllegalNotNullArgumentException(name, reference);
+	}
+
+	/**
+	 * Throws an {@code IllegalNullArgumentException}.
+	 * 
+	 */
+	static void throwIllegalNullArgument() {
+		throw new IllegalNullArgumentException();
+	}
+
+	/**
+	 * Throws an {@code IllegalNullArgumentException}.
+	 * 
+	 * @param name
+	 *            (optional) name of object reference (in source code)
+	 */
+	static void throwIllegalNullArgument(@Nullable final String name) {
+		throw new IllegalNullArgumentException(name);
+	}
+
+	/**
+	 * Throws an {@code IllegalNullElementsException}.
+	 * 
+	 * @param name
+	 *            (optional) name of object reference (in source code)
+	 */
+	static void throwIllegalNullElements(@Nullable final String name) {
+		throw new IllegalNullElementsException(name);
+	}
+
+	/**
+	 * Throws an {@code IllegalNullElementsException} which reports the index of the first {@code null} element.
+	 * 
+	 * @param name
+	 *            (optional) name of object reference (in source code)
+	 * @param index
+	 *            index of the first {@code null} element
+	 */
+	static void throwIllegalNullElements(@Nullable final String name, final int index) {
+		throw new IllegalNullElementsException(name, index);
+	}
+
+	/**
+	 * Throws an {@code IllegalNumberArgumentException} for a value which could not be parsed.
+	 * 
+	 * @param name
+	 *            (optional) name of object reference (in source code)
+	 * @param value
+	 *            value which could not be parsed
+	 * @param cause
+	 *            the reason why the value could not be parsed
+	 */
+	static void throwIllegalNumberArgument(@Nullable final String name, @Nonnull final CharSequence value,
+			@Nonnull final NumberFormatException cause) {
+		throw name == null ? new IllegalNumberArgumentException(value, cause) : new IllegalNumberArgumentException(name, value, cause);
+	}
+
+	/**
+	 * Throws an {@code IllegalNumberRangeException}.
+	 * 
+	 * @param number
+	 *            number which is not in the range
+	 * @param min
+	 *            lower bound of the range
+	 * @param max
+	 *            upper bound of the range
+	 */
+	static void throwIllegalNumberRange(@Nonnull final Number number, @Nonnull final BigDecimal min, @Nonnull final BigDecimal max) {
+		throw new IllegalNumberRangeException(number.toString(), min, max);
+	}
+
+	/**
+	 * Throws an {@code IllegalNumberRangeException}.
+	 * 
+	 * @param number
+	 *            number which is not in the range
+	 * @param min
+	 *            lower bound of the range
+	 * @param max
+	 *            upper bound of the range
+	 */
+	static void throwIllegalNumberRange(@Nonnull final Number number, @Nonnull final BigInteger min, @Nonnull final BigInteger max) {
+		throw new IllegalNumberRangeException(number.toString(), min, max);
+	}
+
+	/**
+	 * Throws an {@code IllegalNumberRangeException} for an element of an array.
+	 * 
+	 * @param name
+	 *            (optional) name of the array reference (in source code)
+	 * @param index
+	 *            index of the illegal element
+	 * @param value
+	 *            illegal value
+	 * @param min
+	 *            lower bound of the range
+	 * @param max
+	 *            upper bound of the range
+	 */
+	static void throwIllegalNumberRange(@Nullable final String name, final int index, final double value, final double min,
+			final double max) {
+		throw new IllegalNumberRangeException(elementName(name, index), String.valueOf(value), Double.valueOf(min), Double.valueOf(max));
+	}
+
+	/**
+	 * Throws an {@code IllegalNumberRangeException} for an element of an array.
+	 * 
+	 * @param name
+	 *            (optional) name of the array reference (in source code)
+	 * @param index
+	 *            index of the illegal element
+	 * @param value
+	 *            illegal value
+	 * @param min
+	 *            lower bound of the range
+	 * @param max
+	 *            upper bound of the range
+	 */
+	static void throwIllegalNumberRange(@Nullable final String name, final int index, final int value, final int min, final int max) {
+		throw new IllegalNumberRangeException(elementName(name, index), String.valueOf(value), Integer.valueOf(min), Integer.valueOf(max));
+	}
+
+	/**
+	 * Throws an {@code IllegalNumberRangeException} for an element of an array.
+	 * 
+	 * @param name
+	 *            (optional) name of the array reference (in source code)
+	 * @param index
+	 *            index of the illegal element
+	 * @param value
+	 *            illegal value
+	 * @param min
+	 *            lower bound of the range
+	 * @param max
+	 *            upper bound of the range
+	 */
+	static void throwIllegalNumberRange(@Nullable final String name, final int index, final long value, final long min, final long max) {
+		throw new IllegalNumberRangeException(elementName(name, index), String.valueOf(value), Long.valueOf(min), Long.valueOf(max));
+	}
+
+	/**
+	 * Throws an {@code IllegalNumberArgumentException} for a type which is no known subclass of {@code Number}.
+	 * 
+	 * @param type
+	 *            unknown type
+	 */
+	static void throwIllegalNumberType(@Nonnull final Class<?> type) {
+		throw new IllegalNumberArgumentException("Return value is no known subclass of 'java.lang.Number': " + type.getName());
+	}
+
+	/**
+	 * Throws an {@code IllegalNumericArgumentException} which reports the offset of the first character which is no digit.
+	 * 
+	 * @param name
+	 *            (optional) name of object reference (in source code)
+	 * @param value
+	 *            illegal value
+	 * @param offset
+	 *            offset of the first character which is no digit
+	 */
+	static void throwIllegalNumericArgument(@Nullable final String name, @Nullable final CharSequence value, final int offset) {
+		throw new IllegalNumericArgumentException(name, value, offset);
+	}
+
+	/**
+	 * Throws an {@code IllegalPatternArgumentException}.
+	 * 
+	 * @param name
+	 *            (optional) name of object reference (in source code)
+	 * @param pattern
+	 *            pattern which was not matched
+	 * @param value
+	 *            illegal value
+	 */
+	static void throwIllegalPatternArgument(@Nullable final String name, @Nonnull final Pattern pattern,
+			@Nullable final CharSequence value) {
+		throw new IllegalPatternArgumentException(name, pattern, value);
+	}
+
+	/**
+	 * Throws an {@code IllegalPatternArgumentException} for the remaining bytes of a buffer. The exception keeps a
+	 * copy of at most {@link ArgumentRetention#getMaxArgumentLength()} characters instead of a view, so that it
+	 * neither pins the buffer nor changes with its content.
+	 * 
+	 * @param name
+	 *            (optional) name of object reference (in source code)
+	 * @param pattern
+	 *            pattern which was not matched
+	 * @param buffer
+	 *            buffer whose remaining bytes did not match
+	 */
+	static void throwIllegalPatternArgument(@Nullable final String name, @Nonnull final Pattern pattern,
+			@Nonnull final ByteBuffer buffer) {
+		throw new IllegalPatternArgumentException(name, pattern, new ByteBufferChars(buffer).copy(ArgumentRetention.getMaxArgumentLength()));
+	}
+
+	/**
+	 * Throws an {@code IllegalPositionIndexException}.
+	 * 
+	 * @param index
+	 *            illegal index
+	 * @param size
+	 *            size of the list, string or array
+	 */
+	static void throwIllegalPositionIndex(final int index, final int size) {
+		throw new IllegalPositionIndexException(index, size);
+	}
+
+	/**
+	 * Throws an {@code IllegalPositionIndexException} for an element of an array.
+	 * 
+	 * @param name
+	 *            (optional) name of the array reference (in source code)
+	 * @param index
+	 *            index of the illegal element
+	 * @param value
+	 *            illegal position index
+	 * @param size
+	 *            size of the list, string or array
+	 */
+	static void throwIllegalPositionIndex(@Nullable final String name, final int index, final int value, final int size) {
+		throw new IllegalPositionIndexException(elementName(name, index), value, size);
+	}
+
+	/**
+	 * Throws an {@code IllegalPositiveArgumentException}.
+	 * 
+	 * @param value
+	 *            illegal value
+	 */
+	static void throwIllegalPositiveArgument(@Nullable final Number value) {
+		throw new IllegalPositiveArgumentException(value);
+	}
+
+	/**
+	 * Throws an {@code IllegalPositiveArgumentException}.
+	 * 
+	 * @param name
+	 *            (optional) name of object reference (in source code)
+	 * @param value
+	 *            illegal value
+	 */
+	static void throwIllegalPositiveArgument(@Nullable final String name, @Nullable final Number value) {
+		throw new IllegalPositiveArgumentException(name, value);
+	}
+
+	/**
+	 * Throws an {@code IllegalRangeException}.
+	 * 
+	 * @param start
+	 *            start of the range
+	 * @param end
+	 *            end of the range
+	 * @param size
+	 *            size of the list, string or array
+	 */
+	static void throwIllegalRange(final int start, final int end, final int size) {
+		throw new IllegalRangeException(start, end, size);
+	}
+
+	/**
+	 * Throws an {@code IllegalStateOfArgumentException}.
+	 * 
+	 */
+	static void throwIllegalStateOfArgument() {
+		throw new IllegalStateOfArgumentException();
+	}
+
+	/**
+	 * Throws an {@code IllegalStateOfArgumentException}.
+	 * 
+	 * @param description
+	 *            supplier of the description why the state is invalid
+	 */
+	static void throwIllegalStateOfArgument(@Nonnull final DescriptionSupplier description) {
+		throw new IllegalStateOfArgumentException(description);
+	}
+
+	/**
+	 * Throws an {@code IllegalStateOfArgumentException}.
+	 * 
+	 * @param description
+	 *            description why the state is invalid
+	 */
+	static void throwIllegalStateOfArgument(@Nonnull final String description) {
+		throw new IllegalStateOfArgumentException(description);
+	}
+
+	/**
+	 * Throws an {@code IllegalStateOfArgumentException}.
+	 * 
+	 * @param descriptionTemplate
+	 *            format string template that explains why the state is invalid
+	 * @param arg1
+	 *            first format string template argument
+	 */
+	static void throwIllegalStateOfArgument(@Nonnull final String descriptionTemplate, @Nullable final Object arg1) {
+		throw new IllegalStateOfArgumentException(descriptionTemplate, arg1);
+	}
+
+	/**
+	 * Throws an {@code IllegalStateOfArgumentException}.
+	 * 
+	 * @param descriptionTemplate
+	 *            format string template that explains why the state is invalid
+	 * @param arg1
+	 *            first format string template argument
+	 * @param arg2
+	 *            second format string template argument
+	 */
+	static void throwIllegalStateOfArgument(@Nonnull final String descriptionTemplate, @Nullable final Object arg1,
+			@Nullable final Object arg2) {
+		throw new IllegalStateOfArgumentException(descriptionTemplate, arg1, arg2);
+	}
+
+	/**
+	 * Throws an {@code IllegalStateOfArgumentException}.
+	 * 
+	 * @param descriptionTemplate
+	 *            format string template that explains why the state is invalid
+	 * @param arg1
+	 *            first format string template argument
+	 * @param arg2
+	 *            second format string template argument
+	 * @param arg3
+	 *            third format string template argument
+	 */
+	static void throwIllegalStateOfArgument(@Nonnull final String descriptionTemplate, @Nullable final Object arg1,
+			@Nullable final Object arg2, @Nullable final Object arg3) {
+		throw new IllegalStateOfArgumentException(descriptionTemplate, arg1, arg2, arg3);
+	}
+
+	/**
+	 * Throws an {@code IllegalStateOfArgumentException}.
+	 * 
+	 * @param descriptionTemplate
+	 *            format string template that explains why the state is invalid
+	 * @param arg1
+	 *            first format string template argument
+	 * @param arg2
+	 *            second format string template argument
+	 * @param arg3
+	 *            third format string template argument
+	 * @param arg4
+	 *            fourth format string template argument
+	 */
+	static void throwIllegalStateOfArgument(@Nonnull final String descriptionTemplate, @Nullable final Object arg1,
+			@Nullable final Object arg2, @Nullable final Object arg3, @Nullable final Object arg4) {
+		throw new IllegalStateOfArgumentException(descriptionTemplate, arg1, arg2, arg3, arg4);
+	}
+
+	/**
+	 * Throws an {@code IllegalStateOfArgumentException}.
+	 * 
+	 * @param descriptionTemplate
+	 *            format string template that explains why the state is invalid
+	 * @param descriptionTemplateArgs
+	 *            format string template arguments
+	 */
+	static void throwIllegalStateOfArgument(@Nonnull final String descriptionTemplate, @Nonnull final Object[] descriptionTemplateArgs) {
+		throw new IllegalStateOfArgumentException(descriptionTemplate, descriptionTemplateArgs);
+	}
+
+	/**
+	 * Throws a new instance of the given exception class.
+	 * 
+	 * @param clazz
+	 *            class of the exception
+	 */
+	static void throwNewInstance(@Nonnull final Class<? extends RuntimeException> clazz) {
+		RuntimeException re;
+		try {
+			re = clazz.newInstance();
+		} catch (final InstantiationException e) {
+			throw new RuntimeInstantiationException(clazz.getSimpleName(), e);
+		} catch (final IllegalAccessException e) {
+			throw new RuntimeInstantiationException(clazz.getSimpleName(), e);
+		}
+		throw re;
+	}
+
+	/**
+	 * <strong>Attention:</strong> This class is not intended to create objects from it.
+	 */
+	private Failures() {
+		// This class is not intended to create objects from it.
+	}
+
+}
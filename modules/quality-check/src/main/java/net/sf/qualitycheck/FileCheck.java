@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+import net.sf.qualitycheck.exception.IllegalNumericArgumentException;
+
+/**
+ * This class offers checks of the content of files. The content is mapped into memory window by window and checked in
+ * place, so it is never copied into the heap and files larger than 2 GB, the maximum size of a single
+ * {@link MappedByteBuffer}, can be checked as well. Offsets of violations are reported relative to the beginning of
+ * the file as {@code long}.
+ * 
+ * <p>
+ * The checks of buffers which are already mapped, or of parts of a file, are offered by {@link Check}, e.g.
+ * {@link Check#isNumeric(java.nio.ByteBuffer, String)}.
+ * 
+ * @author André Rouél
+ */
+public final class FileCheck {
+
+	/**
+	 * Representation of an empty argument name.
+	 */
+	private static final String EMPTY_ARGUMENT_NAME = "";
+
+	/**
+	 * Number of bytes which are mapped into memory at once
+	 */
+	static final int WINDOW_SIZE = 64 * 1024 * 1024;
+
+	/**
+	 * Ensures that the whole content of a file is numeric. Numeric content consists only of the ASCII characters 0-9
+	 * and may start with 0.
+	 * 
+	 * <p>
+	 * We recommend to use the overloaded method {@link FileCheck#isNumeric(FileChannel, String)} and pass as second
+	 * argument the name of the parameter to enhance the exception message.
+	 * 
+	 * @param channel
+	 *            channel of the file to check, which must be readable
+	 * @return the given channel
+	 * @throws IllegalNullArgumentException
+	 *             if the given channel is {@code null}
+	 * @throws IllegalNumericArgumentException
+	 *             if the file is empty or contains a byte which is no digit, the offset of this byte within the file is
+	 *             reported by {@link IllegalNumericArgumentException#getOffset()}
+	 * @throws IOException
+	 *             if the file cannot be mapped into memory
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumericArgumentException.class })
+	@Nonnull
+	public static FileChannel isNumeric(@Nonnull final FileChannel channel) throws IOException {
+		return isNumeric(channel, EMPTY_ARGUMENT_NAME);
+	}
+
+	/**
+	 * Ensures that the whole content of a file is numeric. Numeric content consists only of the ASCII characters 0-9
+	 * and may start with 0.
+	 * 
+	 * @param channel
+	 *            channel of the file to check, which must be readable
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @return the given channel
+	 * @throws IllegalNullArgumentException
+	 *             if the given channel is {@code null}
+	 * @throws IllegalNumericArgumentException
+	 *             if the file is empty or contains a byte which is no digit, the offset of this byte within the file is
+	 *             reported by {@link IllegalNumericArgumentException#getOffset()}
+	 * @throws IOException
+	 *             if the file cannot be mapped into memory
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, IllegalNumericArgumentException.class })
+	@Nonnull
+	public static FileChannel isNumeric(@Nonnull final FileChannel channel, @Nullable final String name) throws IOException {
+		return isNumeric(channel, name, WINDOW_SIZE);
+	}
+
+	/**
+	 * Ensures that the whole content of a file is numeric by mapping windows of the given size.
+	 * 
+	 * @param channel
+	 *            channel of the file to check
+	 * @param name
+	 *            name of object reference (in source code)
+	 * @param windowSize
+	 *            number of bytes which are mapped into memory at once
+	 * @return the given channel
+	 * @throws IOException
+	 *             if the file cannot be mapped into memory
+	 */
+	@Nonnull
+	static FileChannel isNumeric(@Nonnull final FileChannel channel, @Nullable final String name, final int windowSize)
+			throws IOException {
+		Check.requireNotNull(channel, "channel");
+		final long size = channel.size();
+		if (size == 0) {
+			throw new IllegalNumericArgumentException(name, null, 0);
+		}
+		for (long start = 0; start < size; start += windowSize) {
+			final MappedByteBuffer window = channel.map(MapMode.READ_ONLY, start, Math.min(windowSize, size - start));
+			final int index = BufferScan.indexOfNonDigit(window);
+			if (index >= 0) {
+				throw new IllegalNumericArgumentException(name, null, start + index);
+			}
+		}
+		return channel;
+	}
+
+	/**
+	 * <strong>Attention:</strong> This class is not intended to create objects from it.
+	 */
+	private FileCheck() {
+		// This class is not intended to create objects from it.
+	}
+
+}
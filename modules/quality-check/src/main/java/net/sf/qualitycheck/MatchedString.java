@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A string which has been checked to match a {@link CompiledPattern}. It can only be created by
+ * {@link Check#matchedString(CompiledPattern, String, String)}, so a method which receives it can rely on the check
+ * instead of repeating it.
+ * 
+ * <p>
+ * The class is a {@link CharSequence}, so it can be passed on to most APIs which expect text without unwrapping it.
+ * 
+ * @author André Rouél
+ */
+@Immutable
+public final class MatchedString implements CharSequence {
+
+	@Nonnull
+	private final CompiledPattern pattern;
+
+	@Nonnull
+	private final String value;
+
+	MatchedString(@Nonnull final CompiledPattern pattern, @Nonnull final String value) {
+		this.pattern = pattern;
+		this.value = value;
+	}
+
+	@Override
+	public char charAt(final int index) {
+		return value.charAt(index);
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (!(obj instanceof MatchedString)) {
+			return false;
+		}
+		final MatchedString other = (MatchedString) obj;
+		return other.value.equals(value) && other.pattern.toString().equals(pattern.toString());
+	}
+
+	/**
+	 * Gets the pattern which the string matches.
+	 * 
+	 * @return the pattern
+	 */
+	@Nonnull
+	public CompiledPattern getPattern() {
+		return pattern;
+	}
+
+	@Override
+	public int hashCode() {
+		return value.hashCode();
+	}
+
+	@Override
+	public int length() {
+		return value.length();
+	}
+
+	@Override
+	public CharSequence subSequence(final int start, final int end) {
+		return value.subSequence(start, end);
+	}
+
+	/**
+	 * Gets the checked string.
+	 * 
+	 * @return a string which matches the pattern
+	 */
+	@Nonnull
+	@Override
+	public String toString() {
+		return value;
+	}
+
+}
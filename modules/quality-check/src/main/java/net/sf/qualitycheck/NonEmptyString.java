@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A string which has been checked to be neither {@code null} nor empty. It can only be created by
+ * {@link Check#nonEmptyString(String, String)}, so a method which receives it can rely on the check instead of
+ * repeating it.
+ * 
+ * <p>
+ * The class is a {@link CharSequence}, so it can be passed on to most APIs which expect text without unwrapping it.
+ * 
+ * @author André Rouél
+ */
+@Immutable
+public final class NonEmptyString implements CharSequence {
+
+	@Nonnull
+	private final String value;
+
+	NonEmptyString(@Nonnull final String value) {
+		this.value = value;
+	}
+
+	@Override
+	public char charAt(final int index) {
+		return value.charAt(index);
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		return obj instanceof NonEmptyString && ((NonEmptyString) obj).value.equals(value);
+	}
+
+	@Override
+	public int hashCode() {
+		return value.hashCode();
+	}
+
+	@Override
+	public int length() {
+		return value.length();
+	}
+
+	@Override
+	public CharSequence subSequence(final int start, final int end) {
+		return value.subSequence(start, end);
+	}
+
+	/**
+	 * Gets the checked string.
+	 * 
+	 * @return a string which is not empty
+	 */
+	@Nonnull
+	@Override
+	public String toString() {
+		return value;
+	}
+
+}
@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * An {@code int} value which has been checked to be not negative. It can only be created by
+ * {@link Check#nonNegativeInt(int, String)}, so a method which receives it can rely on the check instead of repeating
+ * it.
+ * 
+ * <p>
+ * The class has a single final field and no identity semantics, so the JIT compiler can replace an instance which does
+ * not escape the compiled code by its value.
+ * 
+ * @author André Rouél
+ */
+@Immutable
+public final class NonNegativeInt implements Comparable<NonNegativeInt> {
+
+	private final int value;
+
+	NonNegativeInt(final int value) {
+		this.value = value;
+	}
+
+	@Override
+	public int compareTo(@Nonnull final NonNegativeInt other) {
+		return value < other.value ? -1 : value == other.value ? 0 : 1;
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		return obj instanceof NonNegativeInt && ((NonNegativeInt) obj).value == value;
+	}
+
+	@Override
+	public int hashCode() {
+		return value;
+	}
+
+	/**
+	 * Gets the checked value.
+	 * 
+	 * @return a value which is not smaller than {@code 0}
+	 */
+	public int intValue() {
+		return value;
+	}
+
+	@Override
+	public String toString() {
+		return Integer.toString(value);
+	}
+
+}
@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * An unmodifiable list whose elements have been checked to be not {@code null}. It can only be created by
+ * {@link Check#nonNullList(java.util.List, String)}, so a method which receives it can rely on the check instead of
+ * repeating it.
+ * 
+ * <p>
+ * The elements are copied once when the list is created and checked on the copy, so later changes of the original list
+ * cannot introduce {@code null} elements. All modifying methods throw an {@link UnsupportedOperationException}.
+ * 
+ * @param <E>
+ *            type of the elements
+ * 
+ * @author André Rouél
+ */
+@Immutable
+public final class NonNullList<E> extends AbstractList<E> implements RandomAccess {
+
+	/**
+	 * Snapshot of the elements, none of them is {@code null}
+	 */
+	@Nonnull
+	private final Object[] elements;
+
+	NonNullList(@Nonnull final Object[] elements) {
+		this.elements = elements;
+	}
+
+	@Nonnull
+	@Override
+	@SuppressWarnings("unchecked")
+	public E get(final int index) {
+		return (E) elements[index];
+	}
+
+	@Override
+	public int size() {
+		return elements.length;
+	}
+
+}
@@ -19,6 +19,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import net.sf.qualitycheck.exception.IllegalNullArgumentException;
 import net.sf.qualitycheck.exception.IllegalNumberArgumentException;
@@ -34,6 +35,69 @@ import net.sf.qualitycheck.exception.IllegalNumberRangeException;
  */
 public final class NumberInRange {
 
+	/**
+	 * Boundaries of a range of {@code BigDecimal} values, converted once to {@code double} values, so that boxed
+	 * primitives can be compared without allocating a {@code BigDecimal}.
+	 */
+	private static final class DecimalBounds {
+
+		private final BigDecimal min;
+
+		private final BigDecimal max;
+
+		private final double minValue;
+
+		private final double maxValue;
+
+		/**
+		 * Indicates that both boundaries are exactly representable as {@code double}
+		 */
+		private final boolean exact;
+
+		private DecimalBounds(@Nonnull final BigDecimal min, @Nonnull final BigDecimal max) {
+			this.min = min;
+			this.max = max;
+			minValue = min.doubleValue();
+			maxValue = max.doubleValue();
+			exact = isExact(min, minValue) && isExact(max, maxValue);
+		}
+
+		private static boolean isExact(@Nonnull final BigDecimal bound, final double value) {
+			return !Double.isInfinite(value) && new BigDecimal(value).compareTo(bound) == 0;
+		}
+
+	}
+
+	/**
+	 * Boundaries of a range of {@code BigInteger} values, converted once to {@code long} values, so that boxed
+	 * primitives can be compared without allocating a {@code BigInteger}.
+	 */
+	private static final class IntegerBounds {
+
+		private final BigInteger min;
+
+		private final BigInteger max;
+
+		private final long minValue;
+
+		private final long maxValue;
+
+		/**
+		 * Indicates that both boundaries fit into a {@code long}
+		 */
+		private final boolean fitsLong;
+
+		private IntegerBounds(@Nonnull final BigInteger min, @Nonnull final BigInteger max) {
+			this.min = min;
+			this.max = max;
+			minValue = min.longValue();
+			maxValue = max.longValue();
+			fitsLong = min.bitLength() < Long.SIZE && max.bitLength() < Long.SIZE;
+		}
+
+	}
+
+
 	public static final BigInteger BYTE_MIN = BigInteger.valueOf((long) Byte.MIN_VALUE);
 	public static final BigInteger BYTE_MAX = BigInteger.valueOf((long) Byte.MAX_VALUE);
 	public static final BigInteger SHORT_MIN = BigInteger.valueOf((long) Short.MIN_VALUE);
@@ -48,6 +112,33 @@ public final class NumberInRange {
 	public static final BigDecimal DOUBLE_MAX = new BigDecimal(Double.MAX_VALUE);
 	public static final BigDecimal DOUBLE_MIN = new BigDecimal(-Double.MAX_VALUE);
 
+	/**
+	 * Smallest {@code double} value which cannot be converted to {@code long} by truncation
+	 */
+	private static final double TWO_POW_63 = 0x1p63;
+
+	private static final IntegerBounds BYTE_BOUNDS = new IntegerBounds(BYTE_MIN, BYTE_MAX);
+	private static final IntegerBounds SHORT_BOUNDS = new IntegerBounds(SHORT_MIN, SHORT_MAX);
+	private static final IntegerBounds INTEGER_BOUNDS = new IntegerBounds(INTEGER_MIN, INTEGER_MAX);
+	private static final IntegerBounds LONG_BOUNDS = new IntegerBounds(LONG_MIN, LONG_MAX);
+	private static final DecimalBounds FLOAT_BOUNDS = new DecimalBounds(FLOAT_MIN, FLOAT_MAX);
+	private static final DecimalBounds DOUBLE_BOUNDS = new DecimalBounds(DOUBLE_MIN, DOUBLE_MAX);
+	private static final IntegerBounds[] PREDEFINED_INTEGER_BOUNDS = { BYTE_BOUNDS, SHORT_BOUNDS, INTEGER_BOUNDS, LONG_BOUNDS };
+
+	/**
+	 * Boundaries which have been passed last to {@link #isInRange(Number, BigDecimal, BigDecimal)}. Callers usually
+	 * pass the same constants again and again, so that the conversion of the boundaries is done only once. Racing
+	 * threads may convert the same boundaries twice, which is harmless.
+	 */
+	@Nullable
+	private static volatile DecimalBounds lastDecimalBounds;
+
+	/**
+	 * Boundaries which have been passed last to {@link #isInRange(Number, BigInteger, BigInteger)}
+	 */
+	@Nullable
+	private static volatile IntegerBounds lastIntegerBounds;
+
 	/**
 	 * Checks if a given number is in the range of a byte.
 	 * 
@@ -62,9 +153,9 @@ public final class NumberInRange {
 	@ArgumentsChecked
 	@Throws(IllegalNullArgumentException.class)
 	public static byte checkByte(@Nonnull final Number number) {
-		Check.notNull(number, "number");
+		Check.requireNotNull(number, "number");
 		if (!isInByteRange(number)) {
-			throw new IllegalNumberRangeException(number.toString(), BYTE_MIN, BYTE_MAX);
+			Failures.throwIllegalNumberRange(number, BYTE_MIN, BYTE_MAX);
 		}
 
 		return number.byteValue();
@@ -84,9 +175,9 @@ public final class NumberInRange {
 	@ArgumentsChecked
 	@Throws(IllegalNullArgumentException.class)
 	public static double checkDouble(@Nonnull final Number number) {
-		Check.notNull(number, "number");
+		Check.requireNotNull(number, "number");
 		if (!isInDoubleRange(number)) {
-			throw new IllegalNumberRangeException(number.toString(), DOUBLE_MIN, DOUBLE_MAX);
+			Failures.throwIllegalNumberRange(number, DOUBLE_MIN, DOUBLE_MAX);
 		}
 
 		return number.doubleValue();
@@ -106,9 +197,9 @@ public final class NumberInRange {
 	@ArgumentsChecked
 	@Throws(IllegalNullArgumentException.class)
 	public static float checkFloat(@Nonnull final Number number) {
-		Check.notNull(number, "number");
+		Check.requireNotNull(number, "number");
 		if (!isInFloatRange(number)) {
-			throw new IllegalNumberRangeException(number.toString(), FLOAT_MIN, FLOAT_MAX);
+			Failures.throwIllegalNumberRange(number, FLOAT_MIN, FLOAT_MAX);
 		}
 
 		return number.floatValue();
@@ -128,9 +219,9 @@ public final class NumberInRange {
 	@ArgumentsChecked
 	@Throws(IllegalNullArgumentException.class)
 	public static int checkInteger(@Nonnull final Number number) {
-		Check.notNull(number, "number");
+		Check.requireNotNull(number, "number");
 		if (!isInIntegerRange(number)) {
-			throw new IllegalNumberRangeException(number.toString(), INTEGER_MIN, INTEGER_MAX);
+			Failures.throwIllegalNumberRange(number, INTEGER_MIN, INTEGER_MAX);
 		}
 
 		return number.intValue();
@@ -150,9 +241,9 @@ public final class NumberInRange {
 	@ArgumentsChecked
 	@Throws(IllegalNullArgumentException.class)
 	public static int checkLong(@Nonnull final Number number) {
-		Check.notNull(number, "number");
+		Check.requireNotNull(number, "number");
 		if (!isInLongRange(number)) {
-			throw new IllegalNumberRangeException(number.toString(), LONG_MIN, LONG_MAX);
+			Failures.throwIllegalNumberRange(number, LONG_MIN, LONG_MAX);
 		}
 
 		return number.intValue();
@@ -172,14 +263,65 @@ public final class NumberInRange {
 	@ArgumentsChecked
 	@Throws(IllegalNullArgumentException.class)
 	public static short checkShort(@Nonnull final Number number) {
-		Check.notNull(number, "number");
+		Check.requireNotNull(number, "number");
 		if (!isInShortRange(number)) {
-			throw new IllegalNumberRangeException(number.toString(), SHORT_MIN, SHORT_MAX);
+			Failures.throwIllegalNumberRange(number, SHORT_MIN, SHORT_MAX);
 		}
 
 		return number.shortValue();
 	}
 
+	/**
+	 * Returns the converted boundaries of a {@code BigDecimal} range. The predefined ranges of this class are
+	 * converted in advance, all others are cached for the next call.
+	 * 
+	 * @param min
+	 *            lower boundary of the range
+	 * @param max
+	 *            upper boundary of the range
+	 * @return converted boundaries
+	 */
+	@Nonnull
+	private static DecimalBounds decimalBounds(@Nonnull final BigDecimal min, @Nonnull final BigDecimal max) {
+		if (min == DOUBLE_MIN && max == DOUBLE_MAX) {
+			return DOUBLE_BOUNDS;
+		}
+		if (min == FLOAT_MIN && max == FLOAT_MAX) {
+			return FLOAT_BOUNDS;
+		}
+		DecimalBounds bounds = lastDecimalBounds;
+		if (bounds == null || bounds.min != min || bounds.max != max) {
+			bounds = new DecimalBounds(min, max);
+			lastDecimalBounds = bounds;
+		}
+		return bounds;
+	}
+
+	/**
+	 * Returns the converted boundaries of a {@code BigInteger} range. The predefined ranges of this class are
+	 * converted in advance, all others are cached for the next call.
+	 * 
+	 * @param min
+	 *            lower boundary of the range
+	 * @param max
+	 *            upper boundary of the range
+	 * @return converted boundaries
+	 */
+	@Nonnull
+	private static IntegerBounds integerBounds(@Nonnull final BigInteger min, @Nonnull final BigInteger max) {
+		for (final IntegerBounds predefined : PREDEFINED_INTEGER_BOUNDS) {
+			if (min == predefined.min && max == predefined.max) {
+				return predefined;
+			}
+		}
+		IntegerBounds bounds = lastIntegerBounds;
+		if (bounds == null || bounds.min != min || bounds.max != max) {
+			bounds = new IntegerBounds(min, max);
+			lastIntegerBounds = bounds;
+		}
+		return bounds;
+	}
+
 	/**
 	 * Test if a number is in the range of the datatype {@code byte}
 	 * 
@@ -188,7 +330,8 @@ public final class NumberInRange {
 	 * @return true if the given number can be stored in a {@code byte}
 	 */
 	public static boolean isInByteRange(@Nonnull final Number number) {
-		return isInRange(number, BYTE_MIN, BYTE_MAX);
+		Check.requireNotNull(number, "number");
+		return isInRange(number, BYTE_BOUNDS);
 	}
 
 	/**
@@ -199,7 +342,8 @@ public final class NumberInRange {
 	 * @return true if the given number can be stored in a {@code double}
 	 */
 	public static boolean isInDoubleRange(@Nonnull final Number number) {
-		return isInRange(number, DOUBLE_MIN, DOUBLE_MAX);
+		Check.requireNotNull(number, "number");
+		return isInRange(number, DOUBLE_BOUNDS);
 	}
 
 	/**
@@ -210,7 +354,8 @@ public final class NumberInRange {
 	 * @return true if the given number can be stored in a {@code float}
 	 */
 	public static boolean isInFloatRange(@Nonnull final Number number) {
-		return isInRange(number, FLOAT_MIN, FLOAT_MAX);
+		Check.requireNotNull(number, "number");
+		return isInRange(number, FLOAT_BOUNDS);
 	}
 
 	/**
@@ -221,7 +366,8 @@ public final class NumberInRange {
 	 * @return true if the given number can be stored in a {@code int}
 	 */
 	public static boolean isInIntegerRange(@Nonnull final Number number) {
-		return isInRange(number, INTEGER_MIN, INTEGER_MAX);
+		Check.requireNotNull(number, "number");
+		return isInRange(number, INTEGER_BOUNDS);
 	}
 
 	/**
@@ -232,7 +378,8 @@ public final class NumberInRange {
 	 * @return true if the given number can be stored in a {@code long}
 	 */
 	public static boolean isInLongRange(@Nonnull final Number number) {
-		return isInRange(number, LONG_MIN, LONG_MAX);
+		Check.requireNotNull(number, "number");
+		return isInRange(number, LONG_BOUNDS);
 	}
 
 	/**
@@ -250,10 +397,110 @@ public final class NumberInRange {
 	@ArgumentsChecked
 	@Throws(IllegalNullArgumentException.class)
 	public static boolean isInRange(@Nonnull final Number number, @Nonnull final BigDecimal min, @Nonnull final BigDecimal max) {
-		Check.notNull(number, "number");
-		Check.notNull(min, "min");
-		Check.notNull(max, "max");
+		Check.requireNotNull(number, "number");
+		Check.requireNotNull(min, "min");
+		Check.requireNotNull(max, "max");
+
+		return isInRange(number, decimalBounds(min, max));
+	}
 
+	/**
+	 * Test if a number is in an arbitrary range.
+	 * 
+	 * @param number
+	 *            a number
+	 * @param min
+	 *            lower boundary of the range
+	 * @param max
+	 *            upper boundary of the range
+	 * 
+	 * @return true if the given number is within the range
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	public static boolean isInRange(@Nonnull final Number number, @Nonnull final BigInteger min, @Nonnull final BigInteger max) {
+		Check.requireNotNull(number, "number");
+		Check.requireNotNull(min, "min");
+		Check.requireNotNull(max, "max");
+
+		return isInRange(number, integerBounds(min, max));
+	}
+
+	/**
+	 * Test if a number is in a range of {@code BigDecimal} values. Boxed primitives are compared as {@code double}
+	 * values, if the boundaries are exactly representable as {@code double}. Only if a rounded integral value hits a
+	 * boundary, or for all other types of numbers, the exact comparison is needed.
+	 * 
+	 * @param number
+	 *            a number
+	 * @param bounds
+	 *            converted boundaries of the range
+	 * @return true if the given number is within the range
+	 */
+	private static boolean isInRange(@Nonnull final Number number, @Nonnull final DecimalBounds bounds) {
+		if (bounds.exact) {
+			if (number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte) {
+				// the conversion rounds values beyond 2^53, but rounding never crosses a boundary which is a double
+				final double value = number.longValue();
+				if (value > bounds.minValue && value < bounds.maxValue) {
+					return true;
+				}
+				if (value < bounds.minValue || value > bounds.maxValue) {
+					return false;
+				}
+			} else if (number instanceof Double || number instanceof Float) {
+				final double value = number.doubleValue();
+				if (!Double.isNaN(value) && !Double.isInfinite(value)) {
+					return value >= bounds.minValue && value <= bounds.maxValue;
+				}
+			}
+		}
+		return isInRangeExactly(number, bounds.min, bounds.max);
+	}
+
+	/**
+	 * Test if a number is in a range of {@code BigInteger} values. Boxed primitives are compared as {@code long}
+	 * values (floating point numbers are truncated), if the boundaries fit into a {@code long}. All other types of
+	 * numbers need the exact comparison.
+	 * 
+	 * @param number
+	 *            a number
+	 * @param bounds
+	 *            converted boundaries of the range
+	 * @return true if the given number is within the range
+	 */
+	private static boolean isInRange(@Nonnull final Number number, @Nonnull final IntegerBounds bounds) {
+		if (bounds.fitsLong) {
+			if (number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte) {
+				final long value = number.longValue();
+				return value >= bounds.minValue && value <= bounds.maxValue;
+			} else if (number instanceof Double || number instanceof Float) {
+				final double value = number.doubleValue();
+				if (value >= -TWO_POW_63 && value < TWO_POW_63) {
+					final long truncated = (long) value;
+					return truncated >= bounds.minValue && truncated <= bounds.maxValue;
+				}
+				if (!Double.isNaN(value) && !Double.isInfinite(value)) {
+					// the truncated value exceeds the range of long and therefore both boundaries
+					return false;
+				}
+			}
+		}
+		return isInRangeExactly(number, bounds.min, bounds.max);
+	}
+
+	/**
+	 * Test if a number is in a range of {@code BigDecimal} values by converting it to a {@code BigDecimal}.
+	 * 
+	 * @param number
+	 *            a number
+	 * @param min
+	 *            lower boundary of the range
+	 * @param max
+	 *            upper boundary of the range
+	 * @return true if the given number is within the range
+	 */
+	private static boolean isInRangeExactly(@Nonnull final Number number, @Nonnull final BigDecimal min, @Nonnull final BigDecimal max) {
 		BigDecimal bigDecimal = null;
 		if (number instanceof Byte || number instanceof Short || number instanceof Integer || number instanceof Long) {
 			bigDecimal = new BigDecimal(number.longValue());
@@ -264,14 +511,13 @@ public final class NumberInRange {
 		} else if (number instanceof BigDecimal) {
 			bigDecimal = (BigDecimal) number;
 		} else {
-			throw new IllegalNumberArgumentException("Return value is no known subclass of 'java.lang.Number': "
-					+ number.getClass().getName());
+			Failures.throwIllegalNumberType(number.getClass());
 		}
 		return max.compareTo(bigDecimal) >= 0 && min.compareTo(bigDecimal) <= 0;
 	}
 
 	/**
-	 * Test if a number is in an arbitrary range.
+	 * Test if a number is in a range of {@code BigInteger} values by converting it to a {@code BigInteger}.
 	 * 
 	 * @param number
 	 *            a number
@@ -279,16 +525,9 @@ public final class NumberInRange {
 	 *            lower boundary of the range
 	 * @param max
 	 *            upper boundary of the range
-	 * 
 	 * @return true if the given number is within the range
 	 */
-	@ArgumentsChecked
-	@Throws(IllegalNullArgumentException.class)
-	public static boolean isInRange(@Nonnull final Number number, @Nonnull final BigInteger min, @Nonnull final BigInteger max) {
-		Check.notNull(number, "number");
-		Check.notNull(min, "min");
-		Check.notNull(max, "max");
-
+	private static boolean isInRangeExactly(@Nonnull final Number number, @Nonnull final BigInteger min, @Nonnull final BigInteger max) {
 		BigInteger bigInteger = null;
 		if (number instanceof Byte || number instanceof Short || number instanceof Integer || number instanceof Long) {
 			bigInteger = BigInteger.valueOf(number.longValue());
@@ -299,8 +538,7 @@ public final class NumberInRange {
 		} else if (number instanceof BigDecimal) {
 			bigInteger = ((BigDecimal) number).toBigInteger();
 		} else {
-			throw new IllegalNumberArgumentException("Return value is no known subclass of 'java.lang.Number': "
-					+ number.getClass().getName());
+			Failures.throwIllegalNumberType(number.getClass());
 		}
 		return max.compareTo(bigInteger) >= 0 && min.compareTo(bigInteger) <= 0;
 	}
@@ -313,7 +551,8 @@ public final class NumberInRange {
 	 * @return true if the given number can be stored in a {@code short}
 	 */
 	public static boolean isInShortRange(@Nonnull final Number number) {
-		return isInRange(number, SHORT_MIN, SHORT_MAX);
+		Check.requireNotNull(number, "number");
+		return isInRange(number, SHORT_BOUNDS);
 	}
 
 	/**
@@ -0,0 +1,241 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Parser for signed decimal integers which works directly on a {@code CharSequence} and detects overflows against
+ * arbitrary bounds without creating intermediate objects like {@code BigInteger}.
+ * <p>
+ * The parser only accepts the common notation, i.e. an optional leading minus sign followed by at least one ASCII
+ * digit. Everything else, including values outside the passed bounds, is rejected, so that callers can fall back to an
+ * exact but more expensive conversion to determine how to report the illegal value. The {@code parse} methods report a
+ * rejected input as {@code NumberFormatException}, whereas {@link #tryParseLong(CharSequence, long, long)} and
+ * {@link #isParsable(CharSequence, long, long)} report it without creating an exception.
+ * 
+ * @author André Rouél
+ */
+final class NumberParser {
+
+	/**
+	 * Result of {@link #tryParseLong(CharSequence, long, long)} if the given characters are rejected
+	 */
+	static final long NOT_PARSABLE = Long.MIN_VALUE;
+
+	/**
+	 * Checks if the given characters can be parsed as a signed decimal number which is within the passed bounds. This
+	 * method accepts exactly the same input as {@link #parseLong(CharSequence, long, long)}, but reports an illegal
+	 * input by its return value instead of creating a {@code NumberFormatException}.
+	 * 
+	 * @param chars
+	 *            a readable sequence of {@code char} values
+	 * @param min
+	 *            lower boundary (inclusive), must not be greater than {@code 0}
+	 * @param max
+	 *            upper boundary (inclusive), must not be smaller than {@code 0}
+	 * @return {@code true} if the given characters are a number in the common notation within the passed bounds,
+	 *         otherwise {@code false}
+	 */
+	public static boolean isParsable(@Nonnull final CharSequence chars, final long min, final long max) {
+		final int length = chars.length();
+		if (length == 0) {
+			return false;
+		}
+
+		int index = 0;
+		long limit = -max;
+		if (chars.charAt(0) == '-') {
+			if (length == 1) {
+				return false;
+			}
+			limit = min;
+			index = 1;
+		}
+
+		final long multiplicationLimit = limit / 10;
+		long result = 0;
+		for (; index < length; index++) {
+			final int digit = chars.charAt(index) - '0';
+			if (digit < 0 || digit > 9 || result < multiplicationLimit) {
+				return false;
+			}
+			result *= 10;
+			if (result < limit + digit) {
+				return false;
+			}
+			result -= digit;
+		}
+		return true;
+	}
+
+	/**
+	 * Parses the given characters as a signed decimal number which must be in the range of {@code byte}.
+	 * 
+	 * @param chars
+	 *            a readable sequence of {@code char} values
+	 * @return the parsed number
+	 * @throws NumberFormatException
+	 *             if the given characters are not a number in the common notation or not in the range of {@code byte}
+	 */
+	public static byte parseByte(@Nonnull final CharSequence chars) {
+		return (byte) parseLong(chars, Byte.MIN_VALUE, Byte.MAX_VALUE);
+	}
+
+	/**
+	 * Parses the given characters as a signed decimal number which must be in the range of {@code int}.
+	 * 
+	 * @param chars
+	 *            a readable sequence of {@code char} values
+	 * @return the parsed number
+	 * @throws NumberFormatException
+	 *             if the given characters are not a number in the common notation or not in the range of {@code int}
+	 */
+	public static int parseInt(@Nonnull final CharSequence chars) {
+		return (int) parseLong(chars, Integer.MIN_VALUE, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Parses the given characters as a signed decimal number which must be in the range of {@code long}.
+	 * 
+	 * @param chars
+	 *            a readable sequence of {@code char} values
+	 * @return the parsed number
+	 * @throws NumberFormatException
+	 *             if the given characters are not a number in the common notation or not in the range of {@code long}
+	 */
+	public static long parseLong(@Nonnull final CharSequence chars) {
+		return parseLong(chars, Long.MIN_VALUE, Long.MAX_VALUE);
+	}
+
+	/**
+	 * Parses the given characters as a signed decimal number which must be within the passed bounds.
+	 * 
+	 * @param chars
+	 *            a readable sequence of {@code char} values
+	 * @param min
+	 *            lower boundary (inclusive), must not be greater than {@code 0}
+	 * @param max
+	 *            upper boundary (inclusive), must not be smaller than {@code 0}
+	 * @return the parsed number
+	 * @throws NumberFormatException
+	 *             if the given characters are not a number in the common notation or not within the passed bounds
+	 */
+	public static long parseLong(@Nonnull final CharSequence chars, final long min, final long max) {
+		final long result = tryParseLong(chars, min, max);
+		if (isRejected(result, chars, min, max)) {
+			throw numberFormatException(chars);
+		}
+		return result;
+	}
+
+	/**
+	 * Determines whether a result of {@link #tryParseLong(CharSequence, long, long)} reports that the given characters
+	 * were rejected. Only if the result is {@link #NOT_PARSABLE} and {@code Long.MIN_VALUE} is within the bounds, the
+	 * characters are scanned again.
+	 * 
+	 * @param result
+	 *            result of {@link #tryParseLong(CharSequence, long, long)}
+	 * @param chars
+	 *            the parsed characters
+	 * @param min
+	 *            lower boundary (inclusive) which was passed to the parser
+	 * @param max
+	 *            upper boundary (inclusive) which was passed to the parser
+	 * @return {@code true} if the characters were rejected, otherwise {@code false}
+	 */
+	public static boolean isRejected(final long result, @Nonnull final CharSequence chars, final long min, final long max) {
+		return result == NOT_PARSABLE && (min != Long.MIN_VALUE || !isParsable(chars, min, max));
+	}
+
+	/**
+	 * Parses the given characters as a signed decimal number which must be within the passed bounds and reports an
+	 * illegal input by returning {@link #NOT_PARSABLE}, so that no exception must be created. Because
+	 * {@code Long.MIN_VALUE} is a valid number too, a caller which passes it as lower bound has to distinguish both
+	 * cases with {@link #isRejected(long, CharSequence, long, long)}.
+	 * <p>
+	 * The digits are accumulated negatively, because the magnitude of the lower bound can be greater than the one of
+	 * the upper bound (think of {@code Long.MIN_VALUE}). Before each step it will be checked that the next
+	 * multiplication and subtraction cannot exceed the limit, therefore an overflow is detected before it occurs.
+	 * 
+	 * @param chars
+	 *            a readable sequence of {@code char} values
+	 * @param min
+	 *            lower boundary (inclusive), must not be greater than {@code 0}
+	 * @param max
+	 *            upper boundary (inclusive), must not be smaller than {@code 0}
+	 * @return the parsed number or {@link #NOT_PARSABLE} if the given characters are not a number in the common
+	 *         notation or not within the passed bounds
+	 */
+	public static long tryParseLong(@Nonnull final CharSequence chars, final long min, final long max) {
+		final int length = chars.length();
+		if (length == 0) {
+			return NOT_PARSABLE;
+		}
+
+		int index = 0;
+		boolean negative = false;
+		long limit = -max;
+		if (chars.charAt(0) == '-') {
+			if (length == 1) {
+				return NOT_PARSABLE;
+			}
+			negative = true;
+			limit = min;
+			index = 1;
+		}
+
+		final long multiplicationLimit = limit / 10;
+		long result = 0;
+		for (; index < length; index++) {
+			final int digit = chars.charAt(index) - '0';
+			if (digit < 0 || digit > 9 || result < multiplicationLimit) {
+				return NOT_PARSABLE;
+			}
+			result *= 10;
+			if (result < limit + digit) {
+				return NOT_PARSABLE;
+			}
+			result -= digit;
+		}
+		return negative ? result : -result;
+	}
+
+	/**
+	 * Parses the given characters as a signed decimal number which must be in the range of {@code short}.
+	 * 
+	 * @param chars
+	 *            a readable sequence of {@code char} values
+	 * @return the parsed number
+	 * @throws NumberFormatException
+	 *             if the given characters are not a number in the common notation or not in the range of {@code short}
+	 */
+	public static short parseShort(@Nonnull final CharSequence chars) {
+		return (short) parseLong(chars, Short.MIN_VALUE, Short.MAX_VALUE);
+	}
+
+	private static NumberFormatException numberFormatException(@Nonnull final CharSequence chars) {
+		return new NumberFormatException("For input string: \"" + chars + "\"");
+	}
+
+	/**
+	 * <strong>Attention:</strong> This class is not intended to create objects from it.
+	 */
+	private NumberParser() {
+		// This class is not intended to create objects from it.
+	}
+
+}
@@ -0,0 +1,397 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+/**
+ * Scans large arrays and random access lists for {@code null} elements by splitting them into contiguous chunks which
+ * are scanned concurrently. The parallel checks of {@link Check} and {@link ConditionalCheck} use these methods,
+ * {@link Validator} reuses the splitting and execution of chunks.
+ * 
+ * <p>
+ * Only inputs with at least {@link #THRESHOLD} elements are split, smaller ones are scanned by the calling thread
+ * because the coordination would cost more than the scan. The threshold can be configured with the system property
+ * {@link #PROPERTY_THRESHOLD}, which is read once when this class is initialized.
+ * 
+ * <p>
+ * The calling thread scans the first chunk itself and afterwards runs every chunk which the executor has not started
+ * yet. Therefore a scan always completes, even if the executor is saturated, rejects tasks or runs them on the calling
+ * thread. All chunks publish their findings into one shared minimum and stop as soon as a {@code null} element before
+ * their own range is known, so that the reported index is always the index of the first {@code null} element,
+ * independent of the scheduling.
+ * 
+ * @author André Rouél
+ */
+final class ParallelScan {
+
+	/**
+	 * Part of the input which is scanned concurrently to the other parts.
+	 */
+	private abstract static class Chunk implements Runnable {
+
+		@Nonnull
+		private final AtomicInteger first;
+
+		private final int from;
+
+		private final int to;
+
+		protected Chunk(final int from, final int to, @Nonnull final AtomicInteger first) {
+			this.from = from;
+			this.to = to;
+			this.first = first;
+		}
+
+		/**
+		 * Finds the first {@code null} element within the given range.
+		 * 
+		 * @param start
+		 *            index of the first element to scan (inclusive)
+		 * @param end
+		 *            index of the last element to scan (exclusive)
+		 * @return index of the first {@code null} element or {@code -1} if there is none
+		 */
+		protected abstract int indexOfNull(int start, int end);
+
+		@Override
+		public void run() {
+			for (int start = from; start < to; start += SEGMENT_SIZE) {
+				final int known = first.get();
+				if (known >= 0 && known < start) {
+					// a null element before this segment has already been found
+					return;
+				}
+				final int end = to - start > SEGMENT_SIZE ? start + SEGMENT_SIZE : to;
+				final int index = indexOfNull(start, end);
+				if (index >= 0) {
+					publish(first, index);
+					return;
+				}
+			}
+		}
+
+	}
+
+	/**
+	 * Chunk of an array.
+	 */
+	private static final class ArrayChunk extends Chunk {
+
+		@Nonnull
+		private final Object[] array;
+
+		ArrayChunk(@Nonnull final Object[] array, final int from, final int to, @Nonnull final AtomicInteger first) {
+			super(from, to, first);
+			this.array = array;
+		}
+
+		@Override
+		protected int indexOfNull(final int start, final int end) {
+			return ParallelScan.indexOfNull(array, start, end);
+		}
+
+	}
+
+	/**
+	 * Chunk of a list which supports fast random access.
+	 */
+	private static final class ListChunk extends Chunk {
+
+		@Nonnull
+		private final List<?> list;
+
+		ListChunk(@Nonnull final List<?> list, final int from, final int to, @Nonnull final AtomicInteger first) {
+			super(from, to, first);
+			this.list = list;
+		}
+
+		@Override
+		protected int indexOfNull(final int start, final int end) {
+			for (int i = start; i < end; i++) {
+				if (list.get(i) == null) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+	}
+
+	/**
+	 * Default minimum number of elements to split an input into chunks
+	 */
+	static final int DEFAULT_THRESHOLD = 1 << 17;
+
+	/**
+	 * Name of the system property to configure the minimum number of elements to split an input into chunks
+	 */
+	static final String PROPERTY_THRESHOLD = "net.sf.qualitycheck.parallelThreshold";
+
+	/**
+	 * Number of elements a chunk scans before it looks for findings of the other chunks
+	 */
+	static final int SEGMENT_SIZE = 1 << 12;
+
+	/**
+	 * Minimum number of elements to split an input into chunks
+	 */
+	static final int THRESHOLD = readThreshold();
+
+	/**
+	 * Maximum number of chunks an input is split into
+	 */
+	static final int PARALLELISM = Runtime.getRuntime().availableProcessors();
+
+	/**
+	 * Waits until the given task is completed. An interruption of the calling thread is deferred until the task is
+	 * completed, because the task has already been started and the result is needed.
+	 * 
+	 * @param task
+	 *            started task
+	 */
+	private static void await(@Nonnull final FutureTask<Object> task) {
+		boolean interrupted = false;
+		try {
+			while (true) {
+				try {
+					task.get();
+					return;
+				} catch (final InterruptedException e) {
+					interrupted = true;
+				} catch (final ExecutionException e) {
+					final Throwable cause = e.getCause();
+					if (cause instanceof RuntimeException) {
+						throw (RuntimeException) cause;
+					}
+					throw (Error) cause;
+				}
+			}
+		} finally {
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * Calculates the bound of a chunk, so that all chunks have nearly the same size.
+	 * 
+	 * @param length
+	 *            number of elements of the input
+	 * @param parts
+	 *            number of chunks
+	 * @param part
+	 *            number of the chunk
+	 * @return index of the first element of the chunk, or the length of the input if {@code part} equals
+	 *         {@code parts}
+	 */
+	static int bound(final int length, final int parts, final int part) {
+		return (int) ((long) length * part / parts);
+	}
+
+	/**
+	 * Scans all chunks, the first one by the calling thread and the others by the given executor. When this method
+	 * returns, all chunks are completed. A {@code RuntimeException} or {@code Error} of a chunk is rethrown.
+	 * 
+	 * @param chunks
+	 *            chunks to scan
+	 * @param executor
+	 *            executor for all chunks except the first one
+	 */
+	static void execute(@Nonnull final Runnable[] chunks, @Nonnull final Executor executor) {
+		final List<FutureTask<Object>> tasks = new ArrayList<FutureTask<Object>>(chunks.length - 1);
+		for (int i = 1; i < chunks.length; i++) {
+			final FutureTask<Object> task = new FutureTask<Object>(chunks[i], null);
+			tasks.add(task);
+			try {
+				executor.execute(task);
+			} catch (final RejectedExecutionException e) {
+				// the task will be run by the calling thread
+			}
+		}
+		chunks[0].run();
+		for (final FutureTask<Object> task : tasks) {
+			// does nothing if the task has already been started by the executor
+			task.run();
+		}
+		for (final FutureTask<Object> task : tasks) {
+			await(task);
+		}
+	}
+
+	/**
+	 * Finds the first {@code null} element of an array.
+	 * 
+	 * @param array
+	 *            array to scan
+	 * @param executor
+	 *            executor to scan chunks of large arrays concurrently
+	 * @return index of the first {@code null} element or {@code -1} if there is none
+	 */
+	static int indexOfNull(@Nonnull final Object[] array, @Nonnull final Executor executor) {
+		return indexOfNull(array, executor, THRESHOLD, PARALLELISM);
+	}
+
+	/**
+	 * Finds the first {@code null} element of an array.
+	 * 
+	 * @param array
+	 *            array to scan
+	 * @param executor
+	 *            executor to scan chunks of large arrays concurrently
+	 * @param threshold
+	 *            minimum number of elements to split the array into chunks
+	 * @param parallelism
+	 *            maximum number of chunks
+	 * @return index of the first {@code null} element or {@code -1} if there is none
+	 */
+	static int indexOfNull(@Nonnull final Object[] array, @Nonnull final Executor executor, final int threshold,
+			@Nonnegative final int parallelism) {
+		final int length = array.length;
+		if (length < threshold || parallelism < 2 || length < 2) {
+			return indexOfNull(array, 0, length);
+		}
+		final AtomicInteger first = new AtomicInteger(-1);
+		final int parts = Math.min(parallelism, length);
+		final Chunk[] chunks = new Chunk[parts];
+		for (int i = 0; i < parts; i++) {
+			chunks[i] = new ArrayChunk(array, bound(length, parts, i), bound(length, parts, i + 1), first);
+		}
+		execute(chunks, executor);
+		return first.get();
+	}
+
+	/**
+	 * Finds the first {@code null} element within a range of an array.
+	 * 
+	 * @param array
+	 *            array to scan
+	 * @param from
+	 *            index of the first element to scan (inclusive)
+	 * @param to
+	 *            index of the last element to scan (exclusive)
+	 * @return index of the first {@code null} element or {@code -1} if there is none
+	 */
+	static int indexOfNull(@Nonnull final Object[] array, final int from, final int to) {
+		for (int i = from; i < to; i++) {
+			if (array[i] == null) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Finds the first {@code null} element of a list. The list should support fast random access, see
+	 * {@link java.util.RandomAccess}, and must not be modified during the scan.
+	 * 
+	 * @param list
+	 *            list to scan
+	 * @param executor
+	 *            executor to scan chunks of large lists concurrently
+	 * @return index of the first {@code null} element or {@code -1} if there is none
+	 */
+	static int indexOfNull(@Nonnull final List<?> list, @Nonnull final Executor executor) {
+		return indexOfNull(list, executor, THRESHOLD, PARALLELISM);
+	}
+
+	/**
+	 * Finds the first {@code null} element of a list. The list should support fast random access, see
+	 * {@link java.util.RandomAccess}, and must not be modified during the scan.
+	 * 
+	 * @param list
+	 *            list to scan
+	 * @param executor
+	 *            executor to scan chunks of large lists concurrently
+	 * @param threshold
+	 *            minimum number of elements to split the list into chunks
+	 * @param parallelism
+	 *            maximum number of chunks
+	 * @return index of the first {@code null} element or {@code -1} if there is none
+	 */
+	static int indexOfNull(@Nonnull final List<?> list, @Nonnull final Executor executor, final int threshold,
+			@Nonnegative final int parallelism) {
+		final int size = list.size();
+		final AtomicInteger first = new AtomicInteger(-1);
+		if (size < threshold || parallelism < 2 || size < 2) {
+			new ListChunk(list, 0, size, first).run();
+			return first.get();
+		}
+		final int parts = Math.min(parallelism, size);
+		final Chunk[] chunks = new Chunk[parts];
+		for (int i = 0; i < parts; i++) {
+			chunks[i] = new ListChunk(list, bound(size, parts, i), bound(size, parts, i + 1), first);
+		}
+		execute(chunks, executor);
+		return first.get();
+	}
+
+	/**
+	 * Records the index of an offending (e.g. {@code null}) element if it is smaller than all indices recorded before.
+	 * 
+	 * @param first
+	 *            index of the first offending element found so far or {@code -1}
+	 * @param index
+	 *            index of an offending element
+	 */
+	static void publish(@Nonnull final AtomicInteger first, final int index) {
+		int known = first.get();
+		while ((known < 0 || index < known) && !first.compareAndSet(known, index)) {
+			known = first.get();
+		}
+	}
+
+	/**
+	 * Reads the system property {@link #PROPERTY_THRESHOLD}. If it is not set or not a positive number,
+	 * {@link #DEFAULT_THRESHOLD} will be used.
+	 * 
+	 * @return minimum number of elements to split an input into chunks
+	 */
+	private static int readThreshold() {
+		try {
+			final String value = System.getProperty(PROPERTY_THRESHOLD);
+			if (value != null) {
+				final int threshold = Integer.parseInt(value.trim());
+				if (threshold > 0) {
+					return threshold;
+				}
+			}
+		} catch (final SecurityException e) {
+			// use default
+		} catch (final NumberFormatException e) {
+			// use default
+		}
+		return DEFAULT_THRESHOLD;
+	}
+
+	/**
+	 * <strong>Attention:</strong> This class is not intended to create objects from it.
+	 */
+	private ParallelScan() {
+		// This class is not intended to create objects from it.
+	}
+
+}
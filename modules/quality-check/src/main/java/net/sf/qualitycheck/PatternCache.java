@@ -0,0 +1,279 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import javax.annotation.Nonnull;
+
+import net.sf.qualitycheck.exception.IllegalNotGreaterThanException;
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+
+/**
+ * A size-bounded cache of compiled regular expressions. It is used by {@link Check#matchesPattern(String, CharSequence)}
+ * and {@link ConditionalCheck#matchesPattern(boolean, String, CharSequence)}, so that a regular expression passed as
+ * string will not be compiled for each call.
+ * 
+ * <p>
+ * Looking up a cached pattern takes no lock and writes to shared memory only when an entry is used for the first time
+ * since the last eviction sweep. If the cache exceeds its maximum size, entries will be evicted using the <em>CLOCK</em>
+ * algorithm, an approximation of least recently used: a sweep over the entries clears the reference mark of each used
+ * entry and removes the first entry which was not used since the last sweep. Only compiling threads take part in the
+ * eviction.
+ * 
+ * <p>
+ * The maximum size of the default cache is {@link #DEFAULT_MAXIMUM_SIZE} and can be changed by the system property
+ * {@link #PROPERTY_MAXIMUM_SIZE}.
+ * 
+ * @author André Rouél
+ */
+public final class PatternCache {
+
+	/**
+	 * Holder for the default cache. Using the holder pattern guarantees that the cache is initialized before the first
+	 * use (thread safe!) and that it is only initialized if it is needed.
+	 */
+	private static final class DefaultHolder {
+
+		private static final PatternCache INSTANCE = new PatternCache(readMaximumSize());
+
+	}
+
+	/**
+	 * Cached pattern with its reference mark for the CLOCK algorithm.
+	 */
+	private static final class Entry {
+
+		private final Pattern pattern;
+
+		private volatile boolean referenced;
+
+		private Entry(@Nonnull final Pattern pattern) {
+			this.pattern = pattern;
+		}
+
+	}
+
+	/**
+	 * Default maximum number of patterns in the default cache
+	 */
+	public static final int DEFAULT_MAXIMUM_SIZE = 256;
+
+	/**
+	 * Name of the system property to change the maximum size of the default cache
+	 */
+	public static final String PROPERTY_MAXIMUM_SIZE = "net.sf.qualitycheck.patternCache.maximumSize";
+
+	/**
+	 * Returns the cache which is used by {@code Check} and {@code ConditionalCheck}.
+	 * 
+	 * @return the default cache
+	 */
+	@Nonnull
+	public static PatternCache getDefault() {
+		return DefaultHolder.INSTANCE;
+	}
+
+	/**
+	 * Reads the system property {@link #PROPERTY_MAXIMUM_SIZE}. If it is not set or not a positive number,
+	 * {@link #DEFAULT_MAXIMUM_SIZE} will be used.
+	 * 
+	 * @return maximum size of the default cache
+	 */
+	private static int readMaximumSize() {
+		try {
+			final String value = System.getProperty(PROPERTY_MAXIMUM_SIZE);
+			if (value != null) {
+				final int size = Integer.parseInt(value.trim());
+				if (size > 0) {
+					return size;
+				}
+			}
+		} catch (final SecurityException e) {
+			// use default
+		} catch (final NumberFormatException e) {
+			// use default
+		}
+		return DEFAULT_MAXIMUM_SIZE;
+	}
+
+	/**
+	 * Cached patterns by their regular expression
+	 */
+	private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<String, Entry>();
+
+	/**
+	 * Maximum number of cached patterns
+	 */
+	private final int maximumSize;
+
+	/**
+	 * Number of lookups which found a cached pattern
+	 */
+	private final StripedCounter hits = new StripedCounter();
+
+	/**
+	 * Number of lookups which had to compile a pattern
+	 */
+	private final StripedCounter misses = new StripedCounter();
+
+	/**
+	 * Number of evicted patterns
+	 */
+	private final StripedCounter evictions = new StripedCounter();
+
+	/**
+	 * Lock which serializes eviction sweeps
+	 */
+	private final Object evictionLock = new Object();
+
+	/**
+	 * Current position of the sweep, guarded by {@link #evictionLock}
+	 */
+	private Iterator<Map.Entry<String, Entry>> clockHand;
+
+	/**
+	 * Creates a new cache which holds at most the given number of compiled patterns.
+	 * 
+	 * @param maximumSize
+	 *            maximum number of cached patterns, must be greater than {@code 0}
+	 * @throws IllegalNotGreaterThanException
+	 *             if the given {@code maximumSize} is not greater than {@code 0}
+	 */
+	@ArgumentsChecked
+	public PatternCache(final int maximumSize) {
+		this.maximumSize = Check.greaterThan(0, maximumSize);
+	}
+
+	/**
+	 * Removes all cached patterns. The statistics will be kept.
+	 */
+	public void clear() {
+		entries.clear();
+	}
+
+	/**
+	 * Evicts entries using the CLOCK algorithm until the cache does not exceed its maximum size anymore.
+	 */
+	private void evict() {
+		synchronized (evictionLock) {
+			while (entries.size() > maximumSize) {
+				if (clockHand == null || !clockHand.hasNext()) {
+					clockHand = entries.entrySet().iterator();
+					if (!clockHand.hasNext()) {
+						return;
+					}
+				}
+				final Map.Entry<String, Entry> candidate = clockHand.next();
+				final Entry entry = candidate.getValue();
+				if (entry.referenced) {
+					entry.referenced = false;
+				} else if (entries.remove(candidate.getKey(), entry)) {
+					evictions.increment();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the compiled pattern of the given regular expression. If it is not yet cached, it will be compiled and
+	 * put into the cache.
+	 * 
+	 * @param regex
+	 *            regular expression
+	 * @return compiled pattern of the given regular expression
+	 * @throws IllegalNullArgumentException
+	 *             if the given regular expression is {@code null}
+	 * @throws PatternSyntaxException
+	 *             if the given regular expression is invalid
+	 */
+	@ArgumentsChecked
+	@Throws({ IllegalNullArgumentException.class, PatternSyntaxException.class })
+	@Nonnull
+	public Pattern get(@Nonnull final String regex) {
+		Check.requireNotNull(regex, "regex");
+		final Entry cached = entries.get(regex);
+		if (cached != null) {
+			if (!cached.referenced) {
+				cached.referenced = true;
+			}
+			hits.increment();
+			return cached.pattern;
+		}
+
+		misses.increment();
+		final Entry created = new Entry(Pattern.compile(regex));
+		final Entry existing = entries.putIfAbsent(regex, created);
+		if (existing != null) {
+			return existing.pattern;
+		}
+		if (entries.size() > maximumSize) {
+			evict();
+		}
+		return created.pattern;
+	}
+
+	/**
+	 * Returns the number of patterns which have been evicted, because the cache exceeded its maximum size.
+	 * 
+	 * @return number of evicted patterns
+	 */
+	public long getEvictionCount() {
+		return evictions.sum();
+	}
+
+	/**
+	 * Returns the number of lookups which found an already compiled pattern.
+	 * 
+	 * @return number of cache hits
+	 */
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	/**
+	 * Returns the maximum number of cached patterns.
+	 * 
+	 * @return maximum size of this cache
+	 */
+	public int getMaximumSize() {
+		return maximumSize;
+	}
+
+	/**
+	 * Returns the number of lookups which had to compile a pattern.
+	 * 
+	 * @return number of cache misses
+	 */
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	/**
+	 * Returns the current number of cached patterns.
+	 * 
+	 * @return number of cached patterns
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+}
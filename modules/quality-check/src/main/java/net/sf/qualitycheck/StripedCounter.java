@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A counter which can be incremented by many threads concurrently without contending on a single memory location. The
+ * count is spread over several cells (stripes), which are selected by the identifier of the incrementing thread and
+ * are placed on separate cache lines. Reading the sum is comparatively expensive and not atomic with respect to
+ * concurrent increments.
+ * 
+ * <p>
+ * This is a minimal replacement for {@code java.util.concurrent.atomic.LongAdder}, which is not available on Java 6.
+ * 
+ * @author André Rouél
+ */
+final class StripedCounter {
+
+	/**
+	 * Number of {@code long} slots between two cells, so that each cell occupies its own cache line of 64 bytes
+	 */
+	private static final int PADDING = 8;
+
+	/**
+	 * Upper limit for the number of stripes
+	 */
+	private static final int MAXIMUM_STRIPES = 64;
+
+	/**
+	 * Determines the number of stripes as the next power of two of twice the number of available processors.
+	 * 
+	 * @return number of stripes
+	 */
+	private static int determineStripes() {
+		final int processors = Runtime.getRuntime().availableProcessors() * 2;
+		int stripes = 1;
+		while (stripes < processors && stripes < MAXIMUM_STRIPES) {
+			stripes <<= 1;
+		}
+		return stripes;
+	}
+
+	/**
+	 * Cells of the counter, only every {@link #PADDING}th slot is used
+	 */
+	private final AtomicLongArray cells;
+
+	/**
+	 * Mask to map a thread to a stripe
+	 */
+	private final int mask;
+
+	/**
+	 * Creates a new counter with a number of stripes suitable for the available processors.
+	 */
+	StripedCounter() {
+		final int stripes = determineStripes();
+		mask = stripes - 1;
+		cells = new AtomicLongArray(stripes * PADDING);
+	}
+
+	/**
+	 * Adds the given value to this counter.
+	 * 
+	 * @param value
+	 *            value to add
+	 */
+	void add(final long value) {
+		cells.getAndAdd(index(), value);
+	}
+
+	/**
+	 * Increments this counter by one.
+	 */
+	void increment() {
+		cells.getAndIncrement(index());
+	}
+
+	/**
+	 * Determines the cell for the current thread. The thread identifier is scrambled, so that consecutively created
+	 * threads are mapped to different stripes.
+	 * 
+	 * @return index of the cell within {@link #cells}
+	 */
+	private int index() {
+		final long id = Thread.currentThread().getId();
+		final int hash = (int) (id * 0x9E3779B97F4A7C15L >>> 32);
+		return (hash & mask) * PADDING;
+	}
+
+	/**
+	 * Resets all cells of this counter to zero. Concurrent increments may or may not be lost.
+	 */
+	void reset() {
+		for (int i = 0; i < cells.length(); i += PADDING) {
+			cells.set(i, 0L);
+		}
+	}
+
+	/**
+	 * Returns the current sum of this counter.
+	 * 
+	 * @return the sum of all cells
+	 */
+	long sum() {
+		long sum = 0L;
+		for (int i = 0; i < cells.length(); i += PADDING) {
+			sum += cells.get(i);
+		}
+		return sum;
+	}
+
+}
@@ -0,0 +1,528 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+
+/**
+ * An immutable and thread-safe sequence of checks which validates objects of one type, e.g. the fields of a data
+ * transfer object. Each check consists of a {@link Getter} which reads a value from the object, a {@link Rule} which
+ * checks the value (usually by calling a method of {@link Check}) and the name of the value which is passed to the
+ * rule for the exception message.
+ * 
+ * <p>
+ * The checks are composed once with a {@link Builder} and stored in flat arrays, so that {@link #validate(Object)}
+ * is a simple loop over them and no argument names or rules have to be determined per call. A validator should be
+ * kept in a constant:
+ * 
+ * <pre>
+ * private static final Validator&lt;Person&gt; PERSON = Validator.builder(Person.class)
+ * 		.notEmpty(NAME, &quot;name&quot;)
+ * 		.matchesPattern(EMAIL, EMAIL_PATTERN, &quot;email&quot;)
+ * 		.contains(COUNTRY, COUNTRIES, &quot;country&quot;)
+ * 		.build();
+ * 
+ * void save(Person person) {
+ * 	PERSON.validate(person);
+ * 	...
+ * }
+ * </pre>
+ * 
+ * @param <T>
+ *            type of the validated objects
+ * @author André Rouél
+ */
+@Immutable
+public final class Validator<T> {
+
+	/**
+	 * Composes the checks of a {@link Validator}. The checks are performed in the order they were added.
+	 * 
+	 * @param <T>
+	 *            type of the validated objects
+	 */
+	@NotThreadSafe
+	public static final class Builder<T> {
+
+		@Nonnull
+		private final List<Getter<?, ?>> getters = new ArrayList<Getter<?, ?>>();
+
+		@Nonnull
+		private final List<Rule<?>> rules = new ArrayList<Rule<?>>();
+
+		@Nonnull
+		private final List<String> names = new ArrayList<String>();
+
+		private Builder() {
+			// use Validator#builder(Class)
+		}
+
+		/**
+		 * Creates a validator with all checks added so far. The builder can be used further, this does not affect
+		 * the created validator.
+		 * 
+		 * @return a new validator
+		 */
+		@Nonnull
+		public Validator<T> build() {
+			return new Validator<T>(getters.toArray(new Getter<?, ?>[getters.size()]), rules.toArray(new Rule<?>[rules.size()]),
+					names.toArray(new String[names.size()]));
+		}
+
+		/**
+		 * Adds a check of a value with the given rule.
+		 * 
+		 * @param getter
+		 *            reads the value from a validated object
+		 * @param rule
+		 *            checks the value
+		 * @param name
+		 *            name of the value which is passed to the rule
+		 * @return this builder
+		 * @throws IllegalNullArgumentException
+		 *             if {@code getter} or {@code rule} is {@code null}
+		 */
+		@Nonnull
+		@ArgumentsChecked
+		@Throws(IllegalNullArgumentException.class)
+		public <V> Builder<T> check(@Nonnull final Getter<? super T, ? extends V> getter, @Nonnull final Rule<? super V> rule,
+				@Nullable final String name) {
+			Check.requireNotNull(getter, "getter");
+			Check.requireNotNull(rule, "rule");
+			getters.add(getter);
+			rules.add(rule);
+			names.add(name);
+			return this;
+		}
+
+		/**
+		 * Adds a check that a value is one of the allowed values, see
+		 * {@link Check#contains(AllowedValues, Object, String)}.
+		 * 
+		 * @param getter
+		 *            reads the value from a validated object
+		 * @param allowed
+		 *            allowed values
+		 * @param name
+		 *            name of the value
+		 * @return this builder
+		 * @throws IllegalNullArgumentException
+		 *             if {@code getter} or {@code allowed} is {@code null}
+		 */
+		@Nonnull
+		@ArgumentsChecked
+		@Throws(IllegalNullArgumentException.class)
+		public <V> Builder<T> contains(@Nonnull final Getter<? super T, ? extends V> getter,
+				@Nonnull final AllowedValues<? super V> allowed, @Nullable final String name) {
+			Check.requireNotNull(allowed, "allowed");
+			return check(getter, new Rule<V>() {
+				@Override
+				public void check(@Nullable final V value, @Nullable final String name) {
+					Check.contains(allowed, value, name);
+				}
+			}, name);
+		}
+
+		/**
+		 * Adds a check that a value is numeric, see {@link Check#isNumeric(CharSequence, String)}.
+		 * 
+		 * @param getter
+		 *            reads the value from a validated object
+		 * @param name
+		 *            name of the value
+		 * @return this builder
+		 * @throws IllegalNullArgumentException
+		 *             if {@code getter} is {@code null}
+		 */
+		@Nonnull
+		@ArgumentsChecked
+		@Throws(IllegalNullArgumentException.class)
+		public Builder<T> isNumeric(@Nonnull final Getter<? super T, ? extends CharSequence> getter, @Nullable final String name) {
+			return check(getter, IS_NUMERIC, name);
+		}
+
+		/**
+		 * Adds a check that a value matches a pattern, see {@link Check#matchesPattern(Pattern, CharSequence, String)}.
+		 * 
+		 * @param getter
+		 *            reads the value from a validated object
+		 * @param pattern
+		 *            pattern which the value must match
+		 * @param name
+		 *            name of the value
+		 * @return this builder
+		 * @throws IllegalNullArgumentException
+		 *             if {@code getter} or {@code pattern} is {@code null}
+		 */
+		@Nonnull
+		@ArgumentsChecked
+		@Throws(IllegalNullArgumentException.class)
+		public Builder<T> matchesPattern(@Nonnull final Getter<? super T, ? extends CharSequence> getter, @Nonnull final Pattern pattern,
+				@Nullable final String name) {
+			Check.requireNotNull(pattern, "pattern");
+			return check(getter, new Rule<CharSequence>() {
+				@Override
+				public void check(@Nullable final CharSequence value, @Nullable final String name) {
+					Check.matchesPattern(pattern, value, name);
+				}
+			}, name);
+		}
+
+		/**
+		 * Adds a check that an iterable value contains no {@code null} elements, see
+		 * {@link Check#noNullElements(Iterable, String)}.
+		 * 
+		 * @param getter
+		 *            reads the value from a validated object
+		 * @param name
+		 *            name of the value
+		 * @return this builder
+		 * @throws IllegalNullArgumentException
+		 *             if {@code getter} is {@code null}
+		 */
+		@Nonnull
+		@ArgumentsChecked
+		@Throws(IllegalNullArgumentException.class)
+		public Builder<T> noNullElements(@Nonnull final Getter<? super T, ? extends Iterable<?>> getter, @Nullable final String name) {
+			return check(getter, NO_NULL_ELEMENTS, name);
+		}
+
+		/**
+		 * Adds a check that a value is not empty, see {@link Check#notEmpty(CharSequence, String)}.
+		 * 
+		 * @param getter
+		 *            reads the value from a validated object
+		 * @param name
+		 *            name of the value
+		 * @return this builder
+		 * @throws IllegalNullArgumentException
+		 *             if {@code getter} is {@code null}
+		 */
+		@Nonnull
+		@ArgumentsChecked
+		@Throws(IllegalNullArgumentException.class)
+		public Builder<T> notEmpty(@Nonnull final Getter<? super T, ? extends CharSequence> getter, @Nullable final String name) {
+			return check(getter, NOT_EMPTY, name);
+		}
+
+		/**
+		 * Adds a check that a value is not {@code null}, see {@link Check#notNull(Object, String)}.
+		 * 
+		 * @param getter
+		 *            reads the value from a validated object
+		 * @param name
+		 *            name of the value
+		 * @return this builder
+		 * @throws IllegalNullArgumentException
+		 *             if {@code getter} is {@code null}
+		 */
+		@Nonnull
+		@ArgumentsChecked
+		@Throws(IllegalNullArgumentException.class)
+		public Builder<T> notNull(@Nonnull final Getter<? super T, ?> getter, @Nullable final String name) {
+			return check(getter, NOT_NULL, name);
+		}
+
+	}
+
+	/**
+	 * Validates a contiguous range of a list, the calling thread or an executor runs it. A chunk stops as soon as an
+	 * invalid object before its own range is known, see {@link ParallelScan}.
+	 */
+	private static final class Chunk<T> implements Runnable {
+
+		@Nonnull
+		private final Validator<T> validator;
+
+		@Nonnull
+		private final List<? extends T> objects;
+
+		private final int from;
+
+		private final int to;
+
+		@Nonnull
+		private final AtomicInteger first;
+
+		@Nullable
+		private RuntimeException failure;
+
+		private int failureIndex = -1;
+
+		Chunk(@Nonnull final Validator<T> validator, @Nonnull final List<? extends T> objects, final int from, final int to,
+				@Nonnull final AtomicInteger first) {
+			this.validator = validator;
+			this.objects = objects;
+			this.from = from;
+			this.to = to;
+			this.first = first;
+		}
+
+		@Override
+		public void run() {
+			for (int i = from; i < to; i++) {
+				final int known = first.get();
+				if (known >= 0 && known < i) {
+					// an invalid object before this one has already been found
+					return;
+				}
+				try {
+					validator.validate(objects.get(i));
+				} catch (final RuntimeException e) {
+					failure = e;
+					failureIndex = i;
+					ParallelScan.publish(first, i);
+					return;
+				}
+			}
+		}
+
+	}
+
+	/**
+	 * Reads a value from an object.
+	 * 
+	 * @param <T>
+	 *            type of the object
+	 * @param <V>
+	 *            type of the value
+	 */
+	public interface Getter<T, V> {
+
+		/**
+		 * Reads the value from the given object.
+		 * 
+		 * @param object
+		 *            validated object
+		 * @return the value, can be {@code null}
+		 */
+		@Nullable
+		V get(@Nonnull T object);
+
+	}
+
+	/**
+	 * Checks a value, usually by calling a method of {@link Check} which throws an exception if the value is invalid.
+	 * 
+	 * @param <V>
+	 *            type of the value
+	 */
+	public interface Rule<V> {
+
+		/**
+		 * Checks the given value.
+		 * 
+		 * @param value
+		 *            value to check, can be {@code null}
+		 * @param name
+		 *            name of the value
+		 */
+		void check(@Nullable V value, @Nullable String name);
+
+	}
+
+	/**
+	 * Minimum number of objects to validate them concurrently by {@link #validateAll(List, Executor)}
+	 */
+	static final int PARALLEL_THRESHOLD = 1 << 10;
+
+	private static final Rule<CharSequence> IS_NUMERIC = new Rule<CharSequence>() {
+		@Override
+		public void check(@Nullable final CharSequence value, @Nullable final String name) {
+			Check.isNumeric(value, name);
+		}
+	};
+
+	private static final Rule<Iterable<?>> NO_NULL_ELEMENTS = new Rule<Iterable<?>>() {
+		@Override
+		public void check(@Nullable final Iterable<?> value, @Nullable final String name) {
+			Check.noNullElements(value, name);
+		}
+	};
+
+	private static final Rule<CharSequence> NOT_EMPTY = new Rule<CharSequence>() {
+		@Override
+		public void check(@Nullable final CharSequence value, @Nullable final String name) {
+			Check.notEmpty(value, name);
+		}
+	};
+
+	private static final Rule<Object> NOT_NULL = new Rule<Object>() {
+		@Override
+		public void check(@Nullable final Object value, @Nullable final String name) {
+			Check.notNull(value, name);
+		}
+	};
+
+	/**
+	 * Creates a builder for a validator of objects of the given type.
+	 * 
+	 * @param type
+	 *            type of the validated objects
+	 * @return a new builder
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code type} is {@code null}
+	 */
+	@Nonnull
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	public static <T> Builder<T> builder(@Nonnull final Class<T> type) {
+		Check.requireNotNull(type, "type");
+		return new Builder<T>();
+	}
+
+	@Nonnull
+	private final Getter<?, ?>[] getters;
+
+	@Nonnull
+	private final Rule<?>[] rules;
+
+	@Nonnull
+	private final String[] names;
+
+	private Validator(@Nonnull final Getter<?, ?>[] getters, @Nonnull final Rule<?>[] rules, @Nonnull final String[] names) {
+		this.getters = getters;
+		this.rules = rules;
+		this.names = names;
+	}
+
+	/**
+	 * Gets the number of checks of this validator.
+	 * 
+	 * @return number of checks
+	 */
+	public int size() {
+		return rules.length;
+	}
+
+	/**
+	 * Performs all checks on the given object in the order they were added to the builder. The first failing check
+	 * throws its exception.
+	 * 
+	 * @param object
+	 *            object to validate
+	 * @return the passed argument {@code object}
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code object} is {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	@SuppressWarnings("unchecked")
+	public T validate(@Nonnull final T object) {
+		Check.requireNotNull(object, "object");
+		final Getter<?, ?>[] getters = this.getters;
+		final Rule<?>[] rules = this.rules;
+		final String[] names = this.names;
+		for (int i = 0; i < rules.length; i++) {
+			((Rule<Object>) rules[i]).check(((Getter<T, ?>) getters[i]).get(object), names[i]);
+		}
+		return object;
+	}
+
+	/**
+	 * Validates all objects of the given iterable in their order, see {@link #validate(Object)}.
+	 * 
+	 * @param objects
+	 *            objects to validate
+	 * @return the passed argument {@code objects}
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code objects} or one of its elements is {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	public <I extends Iterable<? extends T>> I validateAll(@Nonnull final I objects) {
+		Check.requireNotNull(objects, "objects");
+		for (final T object : objects) {
+			validate(object);
+		}
+		return objects;
+	}
+
+	/**
+	 * Validates all objects of the given list, see {@link #validate(Object)}. Large lists which support fast random
+	 * access are split into chunks which are validated concurrently by the calling thread and the given executor.
+	 * 
+	 * <p>
+	 * The exception of the first invalid object of the list is thrown, independent of the scheduling. The list must not
+	 * be modified during the validation.
+	 * 
+	 * @param objects
+	 *            objects to validate
+	 * @param executor
+	 *            executor to validate chunks of large lists concurrently
+	 * @return the passed argument {@code objects}
+	 * @throws IllegalNullArgumentException
+	 *             if the given argument {@code objects} or {@code executor} or one of the elements is {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	public <L extends List<? extends T>> L validateAll(@Nonnull final L objects, @Nonnull final Executor executor) {
+		return validateAll(objects, executor, PARALLEL_THRESHOLD, ParallelScan.PARALLELISM);
+	}
+
+	/**
+	 * Validates all objects of the given list, see {@link #validateAll(List, Executor)}.
+	 * 
+	 * @param objects
+	 *            objects to validate
+	 * @param executor
+	 *            executor to validate chunks of large lists concurrently
+	 * @param threshold
+	 *            minimum number of objects to split the list into chunks
+	 * @param parallelism
+	 *            maximum number of chunks
+	 * @return the passed argument {@code objects}
+	 */
+	<L extends List<? extends T>> L validateAll(@Nonnull final L objects, @Nonnull final Executor executor, final int threshold,
+			@Nonnegative final int parallelism) {
+		Check.requireNotNull(objects, "objects");
+		Check.requireNotNull(executor, "executor");
+		final int size = objects.size();
+		if (size < threshold || parallelism < 2 || size < 2 || !(objects instanceof RandomAccess)) {
+			return validateAll(objects);
+		}
+		final AtomicInteger first = new AtomicInteger(-1);
+		final int parts = Math.min(parallelism, size);
+		final Chunk<?>[] chunks = new Chunk<?>[parts];
+		for (int i = 0; i < parts; i++) {
+			chunks[i] = new Chunk<T>(this, objects, ParallelScan.bound(size, parts, i), ParallelScan.bound(size, parts, i + 1), first);
+		}
+		ParallelScan.execute(chunks, executor);
+		final int index = first.get();
+		if (index >= 0) {
+			for (final Chunk<?> chunk : chunks) {
+				if (chunk.failureIndex == index) {
+					throw chunk.failure;
+				}
+			}
+		}
+		return objects;
+	}
+
+}
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Compact codes for the violations which can be recorded by {@link Violations}. Each code corresponds to a family of
+ * checks in {@link Check} and carries the text which is used to describe a violation in the message of an
+ * {@link net.sf.qualitycheck.exception.IllegalArgumentViolationsException}.
+ * 
+ * @author André Rouél
+ */
+public enum ViolationCode {
+
+	/**
+	 * An object, a collection, a map, an array or a character sequence is empty.
+	 */
+	EMPTY("must not be empty"),
+
+	/**
+	 * A number is not greater than an expected value.
+	 */
+	NOT_GREATER_THAN("must be greater than the expected value"),
+
+	/**
+	 * A number is not lesser than an expected value.
+	 */
+	NOT_LESSER_THAN("must be lesser than the expected value"),
+
+	/**
+	 * A reference is not {@code null} but should be.
+	 */
+	NOT_NULL("must be null"),
+
+	/**
+	 * A number is <em>not a number</em>.
+	 */
+	NAN("must not be NaN"),
+
+	/**
+	 * A number is negative.
+	 */
+	NEGATIVE("must not be negative"),
+
+	/**
+	 * A reference is {@code null}.
+	 */
+	NULL("must not be null"),
+
+	/**
+	 * A character sequence is not a number in the range of the requested datatype.
+	 */
+	NUMBER("must be a number in the range of the requested datatype"),
+
+	/**
+	 * A character sequence is not numeric.
+	 */
+	NUMERIC("must be numeric"),
+
+	/**
+	 * A character sequence does not match a pattern.
+	 */
+	PATTERN("must match the pattern"),
+
+	/**
+	 * An index is not within the bounds of an array, list or string.
+	 */
+	POSITION_INDEX("must be a valid position index"),
+
+	/**
+	 * A number is positive.
+	 */
+	POSITIVE("must not be positive"),
+
+	/**
+	 * An expression which describes the state of an object is not {@code true}.
+	 */
+	STATE("must be in a valid state");
+
+	/**
+	 * Text which describes the violation, it completes a sentence that starts with the name of the argument.
+	 */
+	@Nonnull
+	private final String description;
+
+	private ViolationCode(@Nonnull final String description) {
+		this.description = description;
+	}
+
+	/**
+	 * Gets the text which describes the violation, e.g. {@code must not be null}.
+	 * 
+	 * @return description of the violation
+	 */
+	@Nonnull
+	public String getDescription() {
+		return description;
+	}
+
+}
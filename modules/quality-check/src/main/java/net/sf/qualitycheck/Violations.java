@@ -0,0 +1,765 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import net.sf.qualitycheck.exception.IllegalArgumentViolationsException;
+import net.sf.qualitycheck.exception.IllegalNegativeArgumentException;
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+import net.sf.qualitycheck.exception.IllegalPositionIndexException;
+
+/**
+ * Collects violations of checks instead of throwing an exception for the first one. This is useful when all invalid
+ * fields of a record should be reported at once, for example during a batch import.
+ * 
+ * <p>
+ * The methods of this class mirror the families of checks in {@link Check}. Each method returns {@code true} if the
+ * check passed, otherwise the violation is recorded as {@link ViolationCode} together with the name of the argument
+ * (and the index of the first offending element if an array or collection was checked) and {@code false} is returned.
+ * No exception is created while checking. After all checks were performed {@link #throwIfAny()} throws one
+ * {@link IllegalArgumentViolationsException} which describes all recorded violations.
+ * 
+ * <p>
+ * As long as all checks pass, no object will be created, so an instance can be reused via {@link #reset()}. Recording
+ * a violation only writes into preallocated arrays, which are enlarged when the capacity is exhausted.
+ * 
+ * <p>
+ * Instances are <strong>not</strong> thread-safe. To pool them, keep one instance per thread:
+ * 
+ * <pre>
+ * private static final ThreadLocal&lt;Violations&gt; VIOLATIONS = new ThreadLocal&lt;Violations&gt;() {
+ * 	&#064;Override
+ * 	protected Violations initialValue() {
+ * 		return new Violations();
+ * 	}
+ * };
+ * 
+ * void importRecord(Record record) {
+ * 	final Violations v = VIOLATIONS.get();
+ * 	v.reset();
+ * 	v.notEmpty(record.getName(), &quot;name&quot;);
+ * 	v.notNegative(record.getAge(), &quot;age&quot;);
+ * 	v.throwIfAny();
+ * }
+ * </pre>
+ * 
+ * @author André Rouél
+ */
+public final class Violations {
+
+	/**
+	 * Default number of violations which can be recorded without enlarging the internal arrays.
+	 */
+	public static final int DEFAULT_INITIAL_CAPACITY = 8;
+
+	/**
+	 * Codes of the recorded violations.
+	 */
+	@Nonnull
+	private ViolationCode[] codes;
+
+	/**
+	 * Indices of the first offending elements, or {@link IllegalArgumentViolationsException#NO_INDEX} if a violation
+	 * does not refer to an element.
+	 */
+	@Nonnull
+	private int[] indices;
+
+	/**
+	 * Names of the arguments which violated their checks.
+	 */
+	@Nonnull
+	private String[] names;
+
+	/**
+	 * Number of recorded violations.
+	 */
+	private int size;
+
+	/**
+	 * Creates a collector which can record {@link #DEFAULT_INITIAL_CAPACITY} violations before its internal arrays
+	 * must be enlarged.
+	 */
+	public Violations() {
+		this(DEFAULT_INITIAL_CAPACITY);
+	}
+
+	/**
+	 * Creates a collector which can record the given number of violations before its internal arrays must be enlarged.
+	 * 
+	 * @param initialCapacity
+	 *            number of violations which can be recorded without enlarging the internal arrays
+	 * 
+	 * @throws IllegalNegativeArgumentException
+	 *             if the given capacity is negative
+	 */
+	@ArgumentsChecked
+	public Violations(@Nonnegative final int initialCapacity) {
+		Check.notNegative(initialCapacity, "initialCapacity");
+		codes = new ViolationCode[initialCapacity];
+		indices = new int[initialCapacity];
+		names = new String[initialCapacity];
+	}
+
+	/**
+	 * Records a violation.
+	 * 
+	 * @param code
+	 *            code of the violation
+	 * @param name
+	 *            name of the argument
+	 * @param index
+	 *            index of the first offending element or {@link IllegalArgumentViolationsException#NO_INDEX}
+	 * @return always {@code false}, so that the check methods can return the result of this method
+	 */
+	private boolean add(@Nonnull final ViolationCode code, @Nullable final String name, final int index) {
+		if (size == codes.length) {
+			grow();
+		}
+		codes[size] = code;
+		indices[size] = index;
+		names[size] = name;
+		size++;
+		return false;
+	}
+
+	/**
+	 * Records a violation which does not refer to an element.
+	 * 
+	 * @param code
+	 *            code of the violation
+	 * @param name
+	 *            name of the argument
+	 * @return always {@code false}, so that the check methods can return the result of this method
+	 */
+	private boolean add(@Nonnull final ViolationCode code, @Nullable final String name) {
+		return add(code, name, IllegalArgumentViolationsException.NO_INDEX);
+	}
+
+	/**
+	 * Gets the code of the recorded violation at the given position.
+	 * 
+	 * @param position
+	 *            position of the violation
+	 * @return code of the violation
+	 * 
+	 * @throws IllegalPositionIndexException
+	 *             if the given position is not less than the number of recorded violations
+	 */
+	@Nonnull
+	@ArgumentsChecked
+	@Throws(IllegalPositionIndexException.class)
+	public ViolationCode getCode(@Nonnegative final int position) {
+		return codes[Check.requirePositionIndex(position, size)];
+	}
+
+	/**
+	 * Gets the index of the first offending element of the recorded violation at the given position.
+	 * 
+	 * @param position
+	 *            position of the violation
+	 * @return index of the first offending element or {@link IllegalArgumentViolationsException#NO_INDEX} if the
+	 *         violation does not refer to an element
+	 * 
+	 * @throws IllegalPositionIndexException
+	 *             if the given position is not less than the number of recorded violations
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalPositionIndexException.class)
+	public int getIndex(@Nonnegative final int position) {
+		return indices[Check.requirePositionIndex(position, size)];
+	}
+
+	/**
+	 * Gets the name of the argument of the recorded violation at the given position.
+	 * 
+	 * @param position
+	 *            position of the violation
+	 * @return name of the argument, can be {@code null}
+	 * 
+	 * @throws IllegalPositionIndexException
+	 *             if the given position is not less than the number of recorded violations
+	 */
+	@Nullable
+	@ArgumentsChecked
+	@Throws(IllegalPositionIndexException.class)
+	public String getName(@Nonnegative final int position) {
+		return names[Check.requirePositionIndex(position, size)];
+	}
+
+	/**
+	 * Checks that a number is greater than an expected value.
+	 * 
+	 * @param expected
+	 *            expected value
+	 * @param check
+	 *            number to be checked
+	 * @param name
+	 *            name of the argument
+	 * @return {@code true} if the check passed, otherwise {@code false} and {@link ViolationCode#NOT_GREATER_THAN} is
+	 *         recorded
+	 */
+	public boolean greaterThan(final int expected, final int check, @Nullable final String name) {
+		return check > expected || add(ViolationCode.NOT_GREATER_THAN, name);
+	}
+
+	/**
+	 * Checks that a number is greater than an expected value.
+	 * 
+	 * @param expected
+	 *            expected value
+	 * @param check
+	 *            number to be checked
+	 * @param name
+	 *            name of the argument
+	 * @return {@code true} if the check passed, otherwise {@code false} and {@link ViolationCode#NOT_GREATER_THAN} is
+	 *         recorded
+	 */
+	public boolean greaterThan(final long expected, final long check, @Nullable final String name) {
+		return check > expected || add(ViolationCode.NOT_GREATER_THAN, name);
+	}
+
+	/**
+	 * Enlarges the internal arrays, only called when a violation is recorded and the capacity is exhausted.
+	 */
+	private void grow() {
+		final int capacity = codes.length < DEFAULT_INITIAL_CAPACITY ? DEFAULT_INITIAL_CAPACITY : codes.length << 1;
+		final ViolationCode[] newCodes = new ViolationCode[capacity];
+		final int[] newIndices = new int[capacity];
+		final String[] newNames = new String[capacity];
+		System.arraycopy(codes, 0, newCodes, 0, size);
+		System.arraycopy(indices, 0, newIndices, 0, size);
+		System.arraycopy(names, 0, newNames, 0, size);
+		codes = newCodes;
+		indices = newIndices;
+		names = newNames;
+	}
+
+	/**
+	 * Checks that a readable sequence of {@code char} values is a number in the range of {@code int}, see
+	 * {@link Check#isInt(CharSequence, String)}.
+	 * 
+	 * @param value
+	 *            value which must be a number
+	 * @param name
+	 *            name of the argument
+	 * @return {@code true} if the check passed, otherwise {@code false} and {@link ViolationCode#NULL} or
+	 *         {@link ViolationCode#NUMBER} is recorded
+	 */
+	public boolean isInt(@Nullable final CharSequence value, @Nullable final String name) {
+		if (value == null) {
+			return add(ViolationCode.NULL, name);
+		}
+		return NumberParser.isParsable(value, Integer.MIN_VALUE, Integer.MAX_VALUE) || add(ViolationCode.NUMBER, name);
+	}
+
+	/**
+	 * Checks if no violation has been recorded.
+	 * 
+	 * @return {@code true} if no violation has been recorded since the creation or the last {@link #reset()},
+	 *         otherwise {@code false}
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Checks that a readable sequence of {@code char} values is a number in the range of {@code long}, see
+	 * {@link Check#isLong(CharSequence, String)}.
+	 * 
+	 * @param value
+	 *            value which must be a number
+	 * @param name
+	 *            name of the argument
+	 * @return {@code true} if the check passed, otherwise {@code false} and {@link ViolationCode#NULL} or
+	 *         {@link ViolationCode#NUMBER} is recorded
+	 */
+	public boolean isLong(@Nullable final CharSequence value, @Nullable final String name) {
+		if (value == null) {
+			return add(ViolationCode.NULL, name);
+		}
+		return NumberParser.isParsable(value, Long.MIN_VALUE, Long.MAX_VALUE) || add(ViolationCode.NUMBER, name);
+	}
+
+	/**
+	 * Checks that a reference is {@code null}.
+	 * 
+	 * @param reference
+	 *            reference which must be {@code null}
+	 * @param name
+	 *            name of the argument
+	 * @return {@code true} if the check passed, otherwise {@code false} and {@link ViolationCode#NOT_NULL} is recorded
+	 */
+	public boolean isNull(@Nullable final Object reference, @Nullable final String name) {
+		return reference == null || add(ViolationCode.NOT_NULL, name);
+	}
+
+	/**
+	 * Checks that a readable sequence of {@code char} values is numeric, see
+	 * {@link Check#isNumeric(CharSequence, String)}.
+	 * 
+	 * @param value
+	 *            value which must contain only the digits 0-9
+	 * @param name
+	 *            name of the argument
+	 * @return {@code true} if the check passed, otherwise {@code false} and {@link ViolationCode#NULL} or
+	 *         {@link ViolationCode#NUMERIC} is recorded
+	 */
+	public boolean isNumeric(@Nullable final CharSequence value, @Nullable final String name) {
+		if (value == null) {
+			return add(ViolationCode.NULL, name);
+		}
+		return Check.containsOnlyDigits(value) || add(ViolationCode.NUMERIC, name);
+	}
+
+	/**
+	 * Checks that a number is lesser than an expected value.
+	 * 
+	 * @param expected
+	 *            expected value
+	 * @param check
+	 *            number to be checked
+	 * @param name
+	 *            name of the argument
+	 * @return {@code true} if the check passed, otherwise {@code false} and {@link ViolationCode#NOT_LESSER_THAN} is
+	 *         recorded
+	 */
+	public boolean lesserThan(final int expected, final int check, @Nullable final String name) {
+		return check < expected || add(ViolationCode.NOT_LESSER_THAN, name);
+	}
+
+	/**
+	 * Checks that a number is lesser than an expected value.
+	 * 
+	 * @param expected
+	 *            expected value
+	 * @param check
+	 *            number to be checked
+	 * @param name
+	 *            name of the argument
+	 * @return {@code true} if the check passed, otherwise {@code false} and {@link ViolationCode#NOT_LESSER_THAN} is
+	 *         recorded
+	 */
+	public boolean lesserThan(final long expected, final long check, @Nullable final String name) {
+		return check < expected || add(ViolationCode.NOT_LESSER_THAN, name);
+	}
+
+	/**
+	 * Checks that a readable sequence of {@code char} values matches a pattern. Note that matching allocates a
+	 * {@link java.util.regex.Matcher}, like {@link Check#matchesPattern(Pattern, CharSequence, String)} does.
+	 * 
+	 * @param pattern
+	 *            pattern, that the {@code chars} must correspond to
+	 * @param chars
+	 *            a readable sequence of {@code char} values which should match the given pattern
+	 * @param name
+	 *            name of the argument
+	 * @return {@code true} if the check passed, otherwise {@code false} and {@link ViolationCode#NULL} or
+	 *         {@link ViolationCode#PATTERN} is recorded
+	 * 
+	 * @throws IllegalNullArgumentException
+	 *             if the given pattern is {@code null}
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	public boolean matchesPattern(@Nonnull final Pattern pattern, @Nullable final CharSequence chars, @Nullable final String name) {
+		Check.requireNotNull(pattern, "pattern");
+		if (chars == null) {
+			return add(ViolationCode.NULL, name);
+		}
+		return pattern.matcher(chars).matches() || add(ViolationCode.PATTERN, name);
+	}
+
+	/**
+	 * Checks that an array does not contain {@code null}. If it does, the index of the first {@code null} element is
+	 * recorded.
+	 * 
+	 * @param array
+	 *            reference to an array
+	 * @param name
+	 *            name of the argument
+	 * @return {@code true} if the check passed, otherwise {@code false} and {@link ViolationCode#NULL} is recorded
+	 */
+	public boolean noNullElements(@Nullable final Object[] array, @Nullable final String name) {
+		if (array == null) {
+			return add(ViolationCode.NULL, name);
+		}
+		for (int i = 0; i < array.length; i++) {
+			if (array[i] == null) {
+				return add(ViolationCode.NULL, name, i);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks that an {@code Iterable} does not contain {@code null}. If it does, the index of the first {@code null}
+	 * element is recorded. Note that iterating allocates an {@link java.util.Iterator} for most implementations.
+	 * 
+	 * @param iterable
+	 *            reference to an {@code Iterable}
+	 * @param name
+	 *            name of the argument
+	 * @return {@code true} if the check passed, otherwise {@code false} and {@link ViolationCode#NULL} is recorded
+	 */
+	public boolean noNullElements(@Nullable final Iterable<?> iterable, @Nullable final String name) {
+		if (iterable == null) {
+			return add(ViolationCode.NULL, name);
+		}
+		int i = 0;
+		for (final Object element : iterable) {
+			if (element == null) {
+				return add(ViolationCode.NULL, name, i);
+			}
+			i++;
+		}
+		return true;
+	}
+
+	/**
+	 * Checks that an expression, which evaluates the emptiness of an argument, is {@code false}.
+	 * 
+	 * @param expression
+	 *            the result of the expression to verify the emptiness of a reference ({@code true} means empty,
+	 *            {@code false} means not empty)
+	 * @param name
+	 *            name of the argument
+	 * @return {@code true} if the check passed, otherwise {@code false} and {@link ViolationCode#EMPTY} is recorded
+	 */
+	public boolean notEmpty(final boolean expression, @Nullable final String name) {
+		return !expression || add(ViolationCode.EMPTY, name);
+	}
+
+	/**
+	 * Checks that a readable sequence of {@code char} values is neither {@code null} nor empty.
+	 * 
+	 * @param chars
+	 *            a readable sequence of {@code char} values
+	 * @param name
+	 *            name of the argument
+	 * @return {@code true} if the check passed, otherwise {@code false} and {@link ViolationCode#NULL} or
+	 *         {@link ViolationCode#EMPTY} is recorded
+	 */
+	public boolean notEmpty(@Nullable final CharSequence chars, @Nullable final String name) {
+		if (chars == null) {
+			return add(ViolationCode.NULL, name);
+		}
+		return chars.length() > 0 || add(ViolationCode.EMPTY, name);
+	}
+
+	/**
+	 * Checks that a collection is neither {@code null} nor empty.
+	 * 
+	 * @param collection
+	 *            a collection
+	 * @param name
+	 *            name of the argument
+	 * @return {@code true} if the check passed, otherwise {@code false} and {@link ViolationCode#NULL} or
+	 *         {@link ViolationCode#EMPTY} is recorded
+	 */
+	public boolean notEmpty(@Nullable final Collection<?> collection, @Nullable final String name) {
+		if (collection == null) {
+			return add(ViolationCode.NULL, name);
+		}
+		return !collection.isEmpty() || add(ViolationCode.EMPTY, name);
+	}
+
+	/**
+	 * Checks that a map is neither {@code null} nor empty.
+	 * 
+	 * @param map
+	 *            a map
+	 * @param name
+	 *            name of the argument
+	 * @return {@code true} if the check passed, otherwise {@code false} and {@link ViolationCode#NULL} or
+	 *         {@link ViolationCode#EMPTY} is recorded
+	 */
+	public boolean notEmpty(@Nullable final Map<?, ?> map, @Nullable final String name) {
+		if (map == null) {
+			return add(ViolationCode.NULL, name);
+		}
+		return !map.isEmpty() || add(ViolationCode.EMPTY, name);
+	}
+
+	/**
+	 * Checks that an array is neither {@code null} nor empty.
+	 * 
+	 * @param array
+	 *            reference to an array
+	 * @param name
+	 *            name of the argument
+	 * @return {@code true} if the check passed, otherwise {@code false} and {@link ViolationCode#NULL} or
+	 *         {@link ViolationCode#EMPTY} is recorded
+	 */
+	public boolean notEmpty(@Nullable final Object[] array, @Nullable final String name) {
+		if (array == null) {
+			return add(ViolationCode.NULL, name);
+		}
+		return array.length > 0 || add(ViolationCode.EMPTY, name);
+	}
+
+	/**
+	 * Checks that a number is not <em>not a number</em>.
+	 * 
+	 * @param value
+	 *            value which should not be NaN
+	 * @param name
+	 *            name of the argument
+	 * @return {@code true} if the check passed, otherwise {@code false} and {@link ViolationCode#NAN} is recorded
+	 */
+	public boolean notNaN(final double value, @Nullable final String name) {
+		// most efficient check for NaN, see Double.isNaN(value))
+		return value == value || add(ViolationCode.NAN, name);
+	}
+
+	/**
+	 * Checks that an array of numbers does not contain <em>not a number</em>. If it does, the index of the first NaN
+	 * is recorded.
+	 * 
+	 * @param values
+	 *            array of numbers
+	 * @param name
+	 *            name of the argument
+	 * @return {@code true} if the check passed, otherwise {@code false} and {@link ViolationCode#NULL} or
+	 *         {@link ViolationCode#NAN} is recorded
+	 */
+	public boolean notNaN(@Nullable final double[] values, @Nullable final String name) {
+		if (values == null) {
+			return add(ViolationCode.NULL, name);
+		}
+		final int index = ArrayScan.indexOfNaN(values, 0, values.length);
+		return index < 0 || add(ViolationCode.NAN, name, index);
+	}
+
+	/**
+	 * Checks that a number is not negative.
+	 * 
+	 * @param value
+	 *            a number
+	 * @param name
+	 *            name of the argument
+	 * @return {@code true} if the check passed, otherwise {@code false} and {@link ViolationCode#NEGATIVE} is recorded
+	 */
+	public boolean notNegative(final double value, @Nullable final String name) {
+		return !(value < 0.0) || add(ViolationCode.NEGATIVE, name);
+	}
+
+	/**
+	 * Checks that an array of numbers does not contain negative values. If it does, the index of the first negative
+	 * value is recorded.
+	 * 
+	 * @param values
+	 *            array of numbers
+	 * @param name
+	 *            name of the argument
+	 * @return {@code true} if the check passed, otherwise {@code false} and {@link ViolationCode#NULL} or
+	 *         {@link ViolationCode#NEGATIVE} is recorded
+	 */
+	public boolean notNegative(@Nullable final double[] values, @Nullable final String name) {
+		if (values == null) {
+			return add(ViolationCode.NULL, name);
+		}
+		final int index = ArrayScan.indexOfNegative(values, 0, values.length);
+		return index < 0 || add(ViolationCode.NEGATIVE, name, index);
+	}
+
+	/**
+	 * Checks that a number is not negative.
+	 * 
+	 * @param value
+	 *            a number
+	 * @param name
+	 *            name of the argument
+	 * @return {@code true} if the check passed, otherwise {@code false} and {@link ViolationCode#NEGATIVE} is recorded
+	 */
+	public boolean notNegative(final int value, @Nullable final String name) {
+		return value >= 0 || add(ViolationCode.NEGATIVE, name);
+	}
+
+	/**
+	 * Checks that an array of numbers does not contain negative values. If it does, the index of the first negative
+	 * value is recorded.
+	 * 
+	 * @param values
+	 *            array of numbers
+	 * @param name
+	 *            name of the argument
+	 * @return {@code true} if the check passed, otherwise {@code false} and {@link ViolationCode#NULL} or
+	 *         {@link ViolationCode#NEGATIVE} is recorded
+	 */
+	public boolean notNegative(@Nullable final int[] values, @Nullable final String name) {
+		if (values == null) {
+			return add(ViolationCode.NULL, name);
+		}
+		final int index = ArrayScan.indexOfNegative(values, 0, values.length);
+		return index < 0 || add(ViolationCode.NEGATIVE, name, index);
+	}
+
+	/**
+	 * Checks that a number is not negative.
+	 * 
+	 * @param value
+	 *            a number
+	 * @param name
+	 *            name of the argument
+	 * @return {@code true} if the check passed, otherwise {@code false} and {@link ViolationCode#NEGATIVE} is recorded
+	 */
+	public boolean notNegative(final long value, @Nullable final String name) {
+		return value >= 0L || add(ViolationCode.NEGATIVE, name);
+	}
+
+	/**
+	 * Checks that an array of numbers does not contain negative values. If it does, the index of the first negative
+	 * value is recorded.
+	 * 
+	 * @param values
+	 *            array of numbers
+	 * @param name
+	 *            name of the argument
+	 * @return {@code true} if the check passed, otherwise {@code false} and {@link ViolationCode#NULL} or
+	 *         {@link ViolationCode#NEGATIVE} is recorded
+	 */
+	public boolean notNegative(@Nullable final long[] values, @Nullable final String name) {
+		if (values == null) {
+			return add(ViolationCode.NULL, name);
+		}
+		final int index = ArrayScan.indexOfNegative(values, 0, values.length);
+		return index < 0 || add(ViolationCode.NEGATIVE, name, index);
+	}
+
+	/**
+	 * Checks that a reference is not {@code null}.
+	 * 
+	 * @param reference
+	 *            reference which must not be {@code null}
+	 * @param name
+	 *            name of the argument
+	 * @return {@code true} if the check passed, otherwise {@code false} and {@link ViolationCode#NULL} is recorded
+	 */
+	public boolean notNull(@Nullable final Object reference, @Nullable final String name) {
+		return reference != null || add(ViolationCode.NULL, name);
+	}
+
+	/**
+	 * Checks that a number is not positive.
+	 * 
+	 * @param value
+	 *            a number
+	 * @param name
+	 *            name of the argument
+	 * @return {@code true} if the check passed, otherwise {@code false} and {@link ViolationCode#POSITIVE} is recorded
+	 */
+	public boolean notPositive(final double value, @Nullable final String name) {
+		return !(value > 0.0) || add(ViolationCode.POSITIVE, name);
+	}
+
+	/**
+	 * Checks that a number is not positive.
+	 * 
+	 * @param value
+	 *            a number
+	 * @param name
+	 *            name of the argument
+	 * @return {@code true} if the check passed, otherwise {@code false} and {@link ViolationCode#POSITIVE} is recorded
+	 */
+	public boolean notPositive(final int value, @Nullable final String name) {
+		return value <= 0 || add(ViolationCode.POSITIVE, name);
+	}
+
+	/**
+	 * Checks that a number is not positive.
+	 * 
+	 * @param value
+	 *            a number
+	 * @param name
+	 *            name of the argument
+	 * @return {@code true} if the check passed, otherwise {@code false} and {@link ViolationCode#POSITIVE} is recorded
+	 */
+	public boolean notPositive(final long value, @Nullable final String name) {
+		return value <= 0L || add(ViolationCode.POSITIVE, name);
+	}
+
+	/**
+	 * Checks that a given index is valid for an array, list or string of the given size, see
+	 * {@link Check#positionIndex(int, int)}.
+	 * 
+	 * @param index
+	 *            index of an array, list or string
+	 * @param size
+	 *            size of an array, list or string
+	 * @param name
+	 *            name of the argument
+	 * @return {@code true} if the check passed, otherwise {@code false} and {@link ViolationCode#POSITION_INDEX} is
+	 *         recorded
+	 */
+	public boolean positionIndex(final int index, final int size, @Nullable final String name) {
+		return size >= 0 && index >= 0 && index < size || add(ViolationCode.POSITION_INDEX, name);
+	}
+
+	/**
+	 * Removes all recorded violations, so that this instance can be reused.
+	 */
+	public void reset() {
+		for (int i = 0; i < size; i++) {
+			names[i] = null;
+		}
+		size = 0;
+	}
+
+	/**
+	 * Gets the number of recorded violations.
+	 * 
+	 * @return number of recorded violations
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Checks that an expression, which describes the state of an argument, is {@code true}.
+	 * 
+	 * @param expression
+	 *            an expression that must be {@code true} to indicate a valid state
+	 * @param name
+	 *            name of the argument
+	 * @return {@code true} if the check passed, otherwise {@code false} and {@link ViolationCode#STATE} is recorded
+	 */
+	public boolean stateIsTrue(final boolean expression, @Nullable final String name) {
+		return expression || add(ViolationCode.STATE, name);
+	}
+
+	/**
+	 * Throws one exception which describes all recorded violations, if there are any. The recorded violations are
+	 * copied into the exception, so this instance can be reset and reused afterwards.
+	 * 
+	 * @throws IllegalArgumentViolationsException
+	 *             if at least one violation has been recorded
+	 */
+	@Throws(IllegalArgumentViolationsException.class)
+	public void throwIfAny() {
+		if (size > 0) {
+			throw new IllegalArgumentViolationsException(codes, names, indices, size);
+		}
+	}
+
+}
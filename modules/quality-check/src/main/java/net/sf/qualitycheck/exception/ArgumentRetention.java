@@ -0,0 +1,296 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.exception;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * JVM-wide settings which determine how long exceptions of Quality-Check can pin the arguments and messages they
+ * carry. An exception which implements {@link IllegalArgumentHolder} keeps a strong reference to the illegal argument by
+ * default. When such exceptions are retained by error queues or log appenders, a large argument (e.g. a document of
+ * several megabytes which does not match a pattern) cannot be garbage collected. The {@link ArgumentRetentionPolicy}
+ * determines whether the argument is kept as it is, truncated, referenced weakly or reduced to its hash code. Numbers
+ * are always kept, because they are small.
+ * 
+ * <p>
+ * Additionally the detail message of all exceptions of Quality-Check is capped at {@link #getMaxMessageLength()}
+ * characters.
+ * 
+ * <p>
+ * The settings can be made by starting the JVM with the system properties {@value #PROPERTY_POLICY},
+ * {@value #PROPERTY_MAX_ARGUMENT_LENGTH} and {@value #PROPERTY_MAX_MESSAGE_LENGTH} or by calling the setters before
+ * the first exception of Quality-Check is created. Like the setting of {@link StackTraces} they are read exactly once
+ * and kept in {@code static final} fields afterwards.
+ * 
+ * @author André Rouél
+ */
+public final class ArgumentRetention {
+
+	/**
+	 * Number of characters a truncated argument retains at most by default
+	 */
+	public static final int DEFAULT_MAX_ARGUMENT_LENGTH = 1024;
+
+	/**
+	 * Number of characters a detail message has at most by default
+	 */
+	public static final int DEFAULT_MAX_MESSAGE_LENGTH = 8192;
+
+	/**
+	 * Name of the system property to set the number of characters a truncated argument retains at most
+	 */
+	public static final String PROPERTY_MAX_ARGUMENT_LENGTH = "net.sf.qualitycheck.exception.maxArgumentLength";
+
+	/**
+	 * Name of the system property to set the number of characters a detail message has at most
+	 */
+	public static final String PROPERTY_MAX_MESSAGE_LENGTH = "net.sf.qualitycheck.exception.maxMessageLength";
+
+	/**
+	 * Name of the system property to set the retention policy, e.g. {@code truncate} (ignoring case)
+	 */
+	public static final String PROPERTY_POLICY = "net.sf.qualitycheck.exception.argumentRetention";
+
+	/**
+	 * Number of characters a truncated argument retains at most or {@code null} if the system property should be used
+	 */
+	@Nullable
+	private static Integer maxArgumentLength;
+
+	/**
+	 * Number of characters a detail message has at most or {@code null} if the system property should be used
+	 */
+	@Nullable
+	private static Integer maxMessageLength;
+
+	/**
+	 * Retention policy or {@code null} if the system property should be used
+	 */
+	@Nullable
+	private static ArgumentRetentionPolicy policy;
+
+	/**
+	 * Indicates that the settings have been read and cannot be changed anymore
+	 */
+	private static boolean resolved;
+
+	/**
+	 * Checks that the settings can still be changed.
+	 * 
+	 * @throws IllegalStateException
+	 *             if the settings have already been read
+	 */
+	private static void checkNotResolved() {
+		if (resolved) {
+			throw new IllegalStateException("The retention of arguments has already been determined and cannot be changed anymore.");
+		}
+	}
+
+	/**
+	 * Checks that the given length is positive.
+	 * 
+	 * @param length
+	 *            number of characters
+	 * @throws IllegalArgumentException
+	 *             if the length is zero or negative
+	 */
+	private static void checkPositive(final int length) {
+		if (length <= 0) {
+			throw new IllegalArgumentException("The maximum length must be positive: " + length);
+		}
+	}
+
+	/**
+	 * Returns the number of characters a truncated character sequence retains at most. After calling this method the
+	 * settings cannot be changed anymore.
+	 * 
+	 * @return maximum number of retained characters
+	 */
+	public static synchronized int getMaxArgumentLength() {
+		resolve();
+		return maxArgumentLength.intValue();
+	}
+
+	/**
+	 * Returns the number of characters a detail message has at most. Longer messages are cut and end with
+	 * {@code "..."}. After calling this method the settings cannot be changed anymore.
+	 * 
+	 * @return maximum number of characters of a detail message
+	 */
+	public static synchronized int getMaxMessageLength() {
+		resolve();
+		return maxMessageLength.intValue();
+	}
+
+	/**
+	 * Returns how exceptions retain their illegal argument. After calling this method the settings cannot be changed
+	 * anymore.
+	 * 
+	 * @return the retention policy
+	 */
+	@Nonnull
+	public static synchronized ArgumentRetentionPolicy getPolicy() {
+		resolve();
+		return policy;
+	}
+
+	/**
+	 * Returns whether the settings have already been read and therefore cannot be changed anymore.
+	 * 
+	 * @return {@code true} if the settings are fixed, otherwise {@code false}
+	 */
+	public static synchronized boolean isResolved() {
+		return resolved;
+	}
+
+	/**
+	 * Reads a positive number from a system property. Missing, malformed or non-positive values are ignored.
+	 * 
+	 * @param name
+	 *            name of the system property
+	 * @param defaultValue
+	 *            value to use if the system property is not usable
+	 * @return the configured or the default value
+	 */
+	private static int readLength(@Nonnull final String name, final int defaultValue) {
+		final String value = readSystemProperty(name);
+		if (value != null) {
+			try {
+				final int length = Integer.parseInt(value.trim());
+				return length > 0 ? length : defaultValue;
+			} catch (final NumberFormatException e) {
+				return defaultValue;
+			}
+		}
+		return defaultValue;
+	}
+
+	/**
+	 * Reads the retention policy from the system property {@link #PROPERTY_POLICY}. Unknown values are ignored.
+	 * 
+	 * @return the configured policy or {@link ArgumentRetentionPolicy#KEEP}
+	 */
+	private static ArgumentRetentionPolicy readPolicy() {
+		final String value = readSystemProperty(PROPERTY_POLICY);
+		if (value != null) {
+			for (final ArgumentRetentionPolicy candidate : ArgumentRetentionPolicy.values()) {
+				if (candidate.name().equalsIgnoreCase(value.trim())) {
+					return candidate;
+				}
+			}
+		}
+		return ArgumentRetentionPolicy.KEEP;
+	}
+
+	/**
+	 * Reads a system property, treating a denied access like a missing property.
+	 * 
+	 * @param name
+	 *            name of the system property
+	 * @return the value of the property or {@code null} if it is not set or cannot be read
+	 */
+	@Nullable
+	private static String readSystemProperty(@Nonnull final String name) {
+		try {
+			return System.getProperty(name);
+		} catch (final SecurityException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Fixes the settings, falling back to the system properties for all settings which have not been made
+	 * programmatically.
+	 */
+	private static void resolve() {
+		if (!resolved) {
+			if (policy == null) {
+				policy = readPolicy();
+			}
+			if (maxArgumentLength == null) {
+				maxArgumentLength = Integer.valueOf(readLength(PROPERTY_MAX_ARGUMENT_LENGTH, DEFAULT_MAX_ARGUMENT_LENGTH));
+			}
+			if (maxMessageLength == null) {
+				maxMessageLength = Integer.valueOf(readLength(PROPERTY_MAX_MESSAGE_LENGTH, DEFAULT_MAX_MESSAGE_LENGTH));
+			}
+			resolved = true;
+		}
+	}
+
+	/**
+	 * Sets the number of characters a truncated character sequence retains at most. This setting takes precedence over
+	 * the system property {@link #PROPERTY_MAX_ARGUMENT_LENGTH}, but it must be made before the first exception of
+	 * Quality-Check is created.
+	 * 
+	 * @param length
+	 *            maximum number of retained characters
+	 * @throws IllegalArgumentException
+	 *             if the length is not positive
+	 * @throws IllegalStateException
+	 *             if the settings have already been read
+	 */
+	public static synchronized void setMaxArgumentLength(final int length) {
+		checkPositive(length);
+		checkNotResolved();
+		maxArgumentLength = Integer.valueOf(length);
+	}
+
+	/**
+	 * Sets the number of characters a detail message has at most. This setting takes precedence over the system
+	 * property {@link #PROPERTY_MAX_MESSAGE_LENGTH}, but it must be made before the first exception of Quality-Check is
+	 * created.
+	 * 
+	 * @param length
+	 *            maximum number of characters of a detail message
+	 * @throws IllegalArgumentException
+	 *             if the length is not positive
+	 * @throws IllegalStateException
+	 *             if the settings have already been read
+	 */
+	public static synchronized void setMaxMessageLength(final int length) {
+		checkPositive(length);
+		checkNotResolved();
+		maxMessageLength = Integer.valueOf(length);
+	}
+
+	/**
+	 * Sets how exceptions retain their illegal argument. This setting takes precedence over the system property
+	 * {@link #PROPERTY_POLICY}, but it must be made before the first exception of Quality-Check is created.
+	 * 
+	 * @param retentionPolicy
+	 *            the retention policy
+	 * @throws IllegalArgumentException
+	 *             if the given policy is {@code null}
+	 * @throws IllegalStateException
+	 *             if the settings have already been read
+	 */
+	public static synchronized void setPolicy(@Nonnull final ArgumentRetentionPolicy retentionPolicy) {
+		if (retentionPolicy == null) {
+			throw new IllegalArgumentException("The retention policy must not be null.");
+		}
+		checkNotResolved();
+		policy = retentionPolicy;
+	}
+
+	/**
+	 * <strong>Attention:</strong> This class is not intended to create objects from it.
+	 */
+	private ArgumentRetention() {
+		// This class is not intended to create objects from it.
+	}
+
+}
@@ -0,0 +1,51 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.exception;
+
+/**
+ * Determines how an exception of Quality-Check retains the illegal argument which caused it to be thrown, see
+ * {@link ArgumentRetention}.
+ * 
+ * @author André Rouél
+ */
+public enum ArgumentRetentionPolicy {
+
+	/**
+	 * Only the hash code of the illegal argument is retained. {@link IllegalArgumentHolder#getIllegalArgument()}
+	 * returns a short string made of the class name and the hash code, e.g. {@code java.lang.String#5e918d2}. The hash
+	 * code of a character sequence is computed over its characters, so that it is equal to the one of a string with
+	 * the same content.
+	 */
+	HASH,
+
+	/**
+	 * The illegal argument is retained as it is. This is the default.
+	 */
+	KEEP,
+
+	/**
+	 * Character sequences are retained as copy of at most {@link ArgumentRetention#getMaxArgumentLength()} characters.
+	 * All other arguments are retained as they are.
+	 */
+	TRUNCATE,
+
+	/**
+	 * The illegal argument is retained by a weak reference, so that {@link IllegalArgumentHolder#getIllegalArgument()}
+	 * returns {@code null} after the argument has been garbage collected or the exception has been serialized.
+	 */
+	WEAK;
+
+}
@@ -0,0 +1,211 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.exception;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import net.sf.qualitycheck.ViolationCode;
+
+/**
+ * Thrown to indicate that one or more arguments, which were collected by {@link net.sf.qualitycheck.Violations}, did
+ * not pass their checks. Each violation is described by a {@link ViolationCode}, the name of the argument and, for
+ * elements of arrays or collections, the index of the first offending element.
+ * 
+ * @author André Rouél
+ */
+public class IllegalArgumentViolationsException extends QualityCheckException {
+
+	private static final long serialVersionUID = 4373215460937404916L;
+
+	/**
+	 * Value of an index if the violation does not refer to an element of an array or collection.
+	 */
+	public static final int NO_INDEX = -1;
+
+	/**
+	 * Default message to indicate that the passed arguments are not valid.
+	 */
+	protected static final String DEFAULT_MESSAGE = "The passed arguments must not violate their checks.";
+
+	/**
+	 * Message to indicate the number of violations followed by the description of each violation.
+	 */
+	protected static final String MESSAGE_WITH_VIOLATIONS = "The passed arguments have %d violation(s): %s.";
+
+	/**
+	 * Separator between the descriptions of two violations.
+	 */
+	private static final String SEPARATOR = "; ";
+
+	private static final ViolationCode[] NO_CODES = new ViolationCode[0];
+
+	private static final int[] NO_INDICES = new int[0];
+
+	private static final String[] NO_NAMES = new String[0];
+
+	private static void appendViolation(@Nonnull final StringBuilder builder, @Nonnull final ViolationCode code,
+			@Nullable final String name, final int index) {
+		final boolean hasName = name != null && !name.isEmpty();
+		if (hasName || index != NO_INDEX) {
+			builder.append('\'');
+			if (hasName) {
+				builder.append(name);
+			}
+			if (index != NO_INDEX) {
+				builder.append('[').append(index).append(']');
+			}
+			builder.append('\'');
+		} else {
+			builder.append("argument");
+		}
+		builder.append(' ').append(code.getDescription());
+	}
+
+	/**
+	 * Codes of the recorded violations.
+	 */
+	@Nonnull
+	private final ViolationCode[] codes;
+
+	/**
+	 * Indices of the first offending elements, or {@link #NO_INDEX} if a violation does not refer to an element.
+	 */
+	@Nonnull
+	private final int[] indices;
+
+	/**
+	 * Names of the arguments which violated their checks.
+	 */
+	@Nonnull
+	private final String[] names;
+
+	/**
+	 * Constructs an {@code IllegalArgumentViolationsException} with the default message
+	 * {@link IllegalArgumentViolationsException#DEFAULT_MESSAGE}.
+	 */
+	public IllegalArgumentViolationsException() {
+		super(DEFAULT_MESSAGE);
+		this.codes = NO_CODES;
+		this.indices = NO_INDICES;
+		this.names = NO_NAMES;
+	}
+
+	/**
+	 * Constructs an {@code IllegalArgumentViolationsException} with the message
+	 * {@link IllegalArgumentViolationsException#MESSAGE_WITH_VIOLATIONS} including the description of each
+	 * violation. The passed arrays must have the same length, the first {@code count} entries of them are copied.
+	 * 
+	 * @param codes
+	 *            codes of the violations
+	 * @param names
+	 *            names of the arguments which violated their checks, entries can be {@code null}
+	 * @param indices
+	 *            indices of the first offending elements or {@link #NO_INDEX}
+	 * @param count
+	 *            number of violations to take over from the passed arrays
+	 */
+	public IllegalArgumentViolationsException(@Nonnull final ViolationCode[] codes, @Nonnull final String[] names,
+			@Nonnull final int[] indices, @Nonnegative final int count) {
+		super();
+		this.codes = new ViolationCode[count];
+		this.indices = new int[count];
+		this.names = new String[count];
+		System.arraycopy(codes, 0, this.codes, 0, count);
+		System.arraycopy(indices, 0, this.indices, 0, count);
+		System.arraycopy(names, 0, this.names, 0, count);
+		for (int i = 0; i < count; i++) {
+			recordArgumentName(names[i]);
+		}
+	}
+
+	/**
+	 * Constructs a new exception with the default message {@link IllegalArgumentViolationsException#DEFAULT_MESSAGE}.
+	 * 
+	 * @param cause
+	 *            the cause (which is saved for later retrieval by the {@link Throwable#getCause()} method). (A
+	 *            {@code null} value is permitted, and indicates that the cause is nonexistent or unknown.)
+	 */
+	public IllegalArgumentViolationsException(@Nullable final Throwable cause) {
+		super(DEFAULT_MESSAGE, cause);
+		this.codes = NO_CODES;
+		this.indices = NO_INDICES;
+		this.names = NO_NAMES;
+	}
+
+	/**
+	 * Renders all violations into one message.
+	 * 
+	 * @return the rendered message
+	 */
+	@Override
+	protected String createMessage() {
+		final StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < codes.length; i++) {
+			if (i > 0) {
+				builder.append(SEPARATOR);
+			}
+			appendViolation(builder, codes[i], names[i], indices[i]);
+		}
+		return String.format(MESSAGE_WITH_VIOLATIONS, codes.length, builder);
+	}
+
+	/**
+	 * Gets the code of the violation at the given position.
+	 * 
+	 * @param position
+	 *            position of the violation
+	 * @return code of the violation
+	 */
+	@Nonnull
+	public ViolationCode getCode(@Nonnegative final int position) {
+		return codes[position];
+	}
+
+	/**
+	 * Gets the index of the first offending element of the violation at the given position.
+	 * 
+	 * @param position
+	 *            position of the violation
+	 * @return index of the first offending element or {@link #NO_INDEX} if the violation does not refer to an element
+	 */
+	public int getIndex(@Nonnegative final int position) {
+		return indices[position];
+	}
+
+	/**
+	 * Gets the name of the argument of the violation at the given position.
+	 * 
+	 * @param position
+	 *            position of the violation
+	 * @return name of the argument, can be {@code null}
+	 */
+	@Nullable
+	public String getName(@Nonnegative final int position) {
+		return names[position];
+	}
+
+	/**
+	 * Gets the number of violations which are described by this exception.
+	 * 
+	 * @return number of violations
+	 */
+	public int getViolationCount() {
+		return codes.length;
+	}
+
+}
@@ -24,7 +24,7 @@ import javax.annotation.Nullable;
  * @author André Rouél
  * @author Dominik Seichter
  */
-public class IllegalEmptyArgumentException extends RuntimeException {
+public class IllegalEmptyArgumentException extends QualityCheckException {
 
 	private static final long serialVersionUID = -6988558700678645359L;
 
@@ -64,12 +64,19 @@ public class IllegalEmptyArgumentException extends RuntimeException {
 		return String.format(MESSAGE_WITH_NAME, argumentName);
 	}
 
+	/**
+	 * Name of the passed argument, used to render the message.
+	 */
+	@Nullable
+	private final transient String argumentName;
+
 	/**
 	 * Constructs an {@code IllegalNullArgumentException} with the default message
 	 * {@link IllegalEmptyArgumentException#DEFAULT_MESSAGE}.
 	 */
 	public IllegalEmptyArgumentException() {
 		super(DEFAULT_MESSAGE);
+		this.argumentName = null;
 	}
 
 	/**
@@ -81,7 +88,8 @@ public class IllegalEmptyArgumentException extends RuntimeException {
 	 *            the name of the passed argument
 	 */
 	public IllegalEmptyArgumentException(@Nullable final String argumentName) {
-		super(determineMessage(argumentName));
+		super(null, argumentName);
+		this.argumentName = argumentName;
 	}
 
 	/**
@@ -95,7 +103,8 @@ public class IllegalEmptyArgumentException extends RuntimeException {
 	 *            {@code null} value is permitted, and indicates that the cause is nonexistent or unknown.)
 	 */
 	public IllegalEmptyArgumentException(@Nullable final String argumentName, @Nullable final Throwable cause) {
-		super(determineMessage(argumentName), cause);
+		super(null, cause, argumentName);
+		this.argumentName = argumentName;
 	}
 
 	/**
@@ -107,6 +116,17 @@ public class IllegalEmptyArgumentException extends RuntimeException {
 	 */
 	public IllegalEmptyArgumentException(@Nullable final Throwable cause) {
 		super(DEFAULT_MESSAGE, cause);
+		this.argumentName = null;
+	}
+
+	/**
+	 * Renders the detail message from the arguments passed to the constructor.
+	 * 
+	 * @return the detail message
+	 */
+	@Override
+	protected String createMessage() {
+		return determineMessage(argumentName);
 	}
 
 }
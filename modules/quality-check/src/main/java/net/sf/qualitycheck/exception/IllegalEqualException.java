@@ -24,7 +24,7 @@ import javax.annotation.Nullable;
  * @author André Rouél
  * @author Dominik Seichter
  */
-public class IllegalEqualException extends RuntimeException implements IllegalArgumentHolder<Object> {
+public class IllegalEqualException extends QualityCheckException implements IllegalArgumentHolder<Object> {
 
 	private static final long serialVersionUID = 49779498587504287L;
 
@@ -34,7 +34,8 @@ public class IllegalEqualException extends RuntimeException implements IllegalAr
 	protected static final String DEFAULT_MESSAGE = "Argument must not be equal to a defined value.";
 
 	/**
-	 * The illegal value which caused this exception to be thrown.
+	 * The illegal value which caused this exception to be thrown. It is retained according to the configured
+	 * {@link ArgumentRetentionPolicy}.
 	 */
 	private final Object illegalArgumentValue;
 
@@ -47,7 +48,7 @@ public class IllegalEqualException extends RuntimeException implements IllegalAr
 	 */
 	public IllegalEqualException(@Nullable final Object illegalArgumentValue) {
 		super(DEFAULT_MESSAGE);
-		this.illegalArgumentValue = illegalArgumentValue;
+		this.illegalArgumentValue = RetainedArguments.retain(illegalArgumentValue);
 	}
 
 	/**
@@ -61,7 +62,7 @@ public class IllegalEqualException extends RuntimeException implements IllegalAr
 	 */
 	public IllegalEqualException(@Nullable final Object illegalArgumentValue, @Nullable final Throwable cause) {
 		super(DEFAULT_MESSAGE, cause);
-		this.illegalArgumentValue = illegalArgumentValue;
+		this.illegalArgumentValue = RetainedArguments.retain(illegalArgumentValue);
 	}
 
 	/**
@@ -74,7 +75,7 @@ public class IllegalEqualException extends RuntimeException implements IllegalAr
 	 */
 	public IllegalEqualException(@Nonnull final String message, @Nullable final Object illegalArgumentValue) {
 		super(message);
-		this.illegalArgumentValue = illegalArgumentValue;
+		this.illegalArgumentValue = RetainedArguments.retain(illegalArgumentValue);
 	}
 
 	/**
@@ -90,12 +91,12 @@ public class IllegalEqualException extends RuntimeException implements IllegalAr
 	 */
 	public IllegalEqualException(@Nonnull final String message, @Nullable final Object illegalArgumentValue, @Nullable final Throwable cause) {
 		super(message, cause);
-		this.illegalArgumentValue = illegalArgumentValue;
+		this.illegalArgumentValue = RetainedArguments.retain(illegalArgumentValue);
 	}
 
 	@Override
 	public Object getIllegalArgument() {
-		return illegalArgumentValue;
+		return RetainedArguments.restore(illegalArgumentValue);
 	}
 
 }
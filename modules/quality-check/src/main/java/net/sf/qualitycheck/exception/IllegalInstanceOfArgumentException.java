@@ -23,7 +23,7 @@ import javax.annotation.Nullable;
  * @author André Rouél
  * @author Dominik Seichter
  */
-public class IllegalInstanceOfArgumentException extends RuntimeException {
+public class IllegalInstanceOfArgumentException extends QualityCheckException {
 
 	private static final long serialVersionUID = -1886931952915327794L;
 
@@ -103,12 +103,33 @@ public class IllegalInstanceOfArgumentException extends RuntimeException {
 		return String.format(MESSAGE_WITH_NAME_AND_TYPES, argumentName, expected, actual);
 	}
 
+	/**
+	 * Name of the passed argument, used to render the message.
+	 */
+	@Nullable
+	private final transient String argumentName;
+
+	/**
+	 * Expected class of the given argument, used to render the message.
+	 */
+	@Nullable
+	private final transient Class<?> expectedType;
+
+	/**
+	 * Actual class of the given argument, used to render the message.
+	 */
+	@Nullable
+	private final transient Class<?> actualType;
+
 	/**
 	 * Constructs an {@code IllegalInstanceOfArgumentException} with the default message
 	 * {@link IllegalInstanceOfArgumentException#DEFAULT_MESSAGE}.
 	 */
 	public IllegalInstanceOfArgumentException() {
 		super(DEFAULT_MESSAGE);
+		this.argumentName = null;
+		this.expectedType = null;
+		this.actualType = null;
 	}
 
 	/**
@@ -125,7 +146,10 @@ public class IllegalInstanceOfArgumentException extends RuntimeException {
 	 */
 	public IllegalInstanceOfArgumentException(@Nullable final String argumentName, @Nullable final Class<?> expectedType,
 			@Nullable final Class<?> actualType) {
-		super(determineMessage(argumentName, expectedType, actualType));
+		super(null, argumentName);
+		this.argumentName = argumentName;
+		this.expectedType = expectedType;
+		this.actualType = actualType;
 	}
 
 	/**
@@ -137,6 +161,19 @@ public class IllegalInstanceOfArgumentException extends RuntimeException {
 	 */
 	public IllegalInstanceOfArgumentException(@Nullable final Throwable cause) {
 		super(DEFAULT_MESSAGE, cause);
+		this.argumentName = null;
+		this.expectedType = null;
+		this.actualType = null;
+	}
+
+	/**
+	 * Renders the detail message from the arguments passed to the constructor.
+	 * 
+	 * @return the detail message
+	 */
+	@Override
+	protected String createMessage() {
+		return determineMessage(argumentName, expectedType, actualType);
 	}
 
 }
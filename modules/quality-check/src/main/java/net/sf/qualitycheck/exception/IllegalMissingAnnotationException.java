@@ -29,7 +29,7 @@ import net.sf.qualitycheck.Throws;
  * @author André Rouél
  * @author Dominik Seichter
  */
-public class IllegalMissingAnnotationException extends RuntimeException {
+public class IllegalMissingAnnotationException extends QualityCheckException {
 
 	private static final long serialVersionUID = -8428891146741574807L;
 
@@ -60,6 +60,22 @@ public class IllegalMissingAnnotationException extends RuntimeException {
 	@Nullable
 	private final Class<?> clazz;
 
+	/**
+	 * Ensures that the passed annotation is not {@code null}, because it is needed to render the message.
+	 * 
+	 * @param annotation
+	 *            the required annotation
+	 * @return the passed annotation
+	 */
+	@ArgumentsChecked
+	@Throws(IllegalNullArgumentException.class)
+	private static Class<? extends Annotation> checkAnnotation(@Nonnull final Class<? extends Annotation> annotation) {
+		if (annotation == null) {
+			throw new IllegalNullArgumentException("annotation");
+		}
+		return annotation;
+	}
+
 	/**
 	 * Returns the formatted string {@link IllegalMissingAnnotationException#MESSAGE_WITH_ANNOTATION} with the given
 	 * {@code annotation}.
@@ -119,8 +135,8 @@ public class IllegalMissingAnnotationException extends RuntimeException {
 	 *            the required annotation
 	 */
 	public IllegalMissingAnnotationException(@Nonnull final Class<? extends Annotation> annotation) {
-		super(format(annotation));
-		this.annotation = annotation;
+		super();
+		this.annotation = checkAnnotation(annotation);
 		this.clazz = null;
 	}
 
@@ -135,8 +151,8 @@ public class IllegalMissingAnnotationException extends RuntimeException {
 	 *            {@code null} value is permitted, and indicates that the cause is nonexistent or unknown.)
 	 */
 	public IllegalMissingAnnotationException(@Nonnull final Class<? extends Annotation> annotation, @Nullable final Throwable cause) {
-		super(format(annotation), cause);
-		this.annotation = annotation;
+		super(cause);
+		this.annotation = checkAnnotation(annotation);
 		this.clazz = null;
 	}
 
@@ -150,8 +166,8 @@ public class IllegalMissingAnnotationException extends RuntimeException {
 	 *            the name of the class which does not have the required annotation
 	 */
 	public IllegalMissingAnnotationException(@Nonnull final Class<? extends Annotation> annotation, @Nullable final Class<?> clazz) {
-		super(format(annotation, clazz));
-		this.annotation = annotation;
+		super();
+		this.annotation = checkAnnotation(annotation);
 		this.clazz = clazz;
 	}
 
@@ -169,8 +185,8 @@ public class IllegalMissingAnnotationException extends RuntimeException {
 	 */
 	public IllegalMissingAnnotationException(@Nonnull final Class<? extends Annotation> annotation, @Nullable final Class<?> clazz,
 			@Nullable final Throwable cause) {
-		super(format(annotation, clazz), cause);
-		this.annotation = annotation;
+		super(cause);
+		this.annotation = checkAnnotation(annotation);
 		this.clazz = clazz;
 	}
 
@@ -187,6 +203,16 @@ public class IllegalMissingAnnotationException extends RuntimeException {
 		this.clazz = null;
 	}
 
+	/**
+	 * Renders the detail message from the arguments passed to the constructor.
+	 * 
+	 * @return the detail message
+	 */
+	@Override
+	protected String createMessage() {
+		return format(annotation, clazz);
+	}
+
 	/**
 	 * Gives access to the required annotation.
 	 * 
@@ -25,7 +25,7 @@ import javax.annotation.Nullable;
  * @author André Rouél
  * @author Dominik Seichter
  */
-public class IllegalNegativeArgumentException extends RuntimeException implements IllegalArgumentHolder<Number> {
+public class IllegalNegativeArgumentException extends QualityCheckException implements IllegalArgumentHolder<Number> {
 
 	private static final long serialVersionUID = -6988558700678645359L;
 
@@ -70,6 +70,12 @@ public class IllegalNegativeArgumentException extends RuntimeException implement
 	 */
 	private final Number illegalArgumentValue;
 
+	/**
+	 * Name of the passed argument, used to render the message.
+	 */
+	@Nullable
+	private final transient String argumentName;
+
 	/**
 	 * Constructs an {@code IllegalNullArgumentException} with the default message
 	 * {@link IllegalNegativeArgumentException#DEFAULT_MESSAGE}.
@@ -79,6 +85,7 @@ public class IllegalNegativeArgumentException extends RuntimeException implement
 	 */
 	public IllegalNegativeArgumentException(@Nullable final Number illegalArgumentValue) {
 		super(DEFAULT_MESSAGE);
+		this.argumentName = null;
 		this.illegalArgumentValue = illegalArgumentValue;
 	}
 
@@ -93,6 +100,7 @@ public class IllegalNegativeArgumentException extends RuntimeException implement
 	 */
 	public IllegalNegativeArgumentException(@Nullable final Number illegalArgumentValue, @Nullable final Throwable cause) {
 		super(DEFAULT_MESSAGE, cause);
+		this.argumentName = null;
 		this.illegalArgumentValue = illegalArgumentValue;
 	}
 
@@ -107,7 +115,8 @@ public class IllegalNegativeArgumentException extends RuntimeException implement
 	 *            The illegal value which caused this exception to be thrown.
 	 */
 	public IllegalNegativeArgumentException(@Nullable final String argumentName, @Nullable final Number illegalArgumentValue) {
-		super(determineMessage(argumentName));
+		super(null, argumentName);
+		this.argumentName = argumentName;
 		this.illegalArgumentValue = illegalArgumentValue;
 	}
 
@@ -125,10 +134,21 @@ public class IllegalNegativeArgumentException extends RuntimeException implement
 	 */
 	public IllegalNegativeArgumentException(@Nullable final String argumentName, @Nullable final Number illegalArgumentValue,
 			@Nullable final Throwable cause) {
-		super(determineMessage(argumentName), cause);
+		super(null, cause, argumentName);
+		this.argumentName = argumentName;
 		this.illegalArgumentValue = illegalArgumentValue;
 	}
 
+	/**
+	 * Renders the detail message from the arguments passed to the constructor.
+	 * 
+	 * @return the detail message
+	 */
+	@Override
+	protected String createMessage() {
+		return determineMessage(argumentName);
+	}
+
 	@Override
 	public Number getIllegalArgument() {
 		return illegalArgumentValue;
@@ -23,7 +23,7 @@ import javax.annotation.Nullable;
  * @author André Rouél
  * @author Dominik Seichter
  */
-public class IllegalNotContainedArgumentException extends RuntimeException implements IllegalArgumentHolder<Object> {
+public class IllegalNotContainedArgumentException extends QualityCheckException implements IllegalArgumentHolder<Object> {
 
 	private static final long serialVersionUID = 8389358566804494876L;
 
@@ -50,10 +50,17 @@ public class IllegalNotContainedArgumentException extends RuntimeException imple
 	}
 
 	/**
-	 * The illegal value which was not contained in a collection and by that caused this exception to be thrown.
+	 * The illegal value which was not contained in a collection and by that caused this exception to be thrown. It is
+	 * retained according to the configured {@link ArgumentRetentionPolicy}.
 	 */
 	private final Object illegalArgumentValue;
 
+	/**
+	 * Name of the passed argument, used to render the message.
+	 */
+	@Nullable
+	private final transient String argumentName;
+
 	/**
 	 * Constructs an {@code IllegalNotContainedArgumentException} with the default message
 	 * {@link IllegalNotContainedArgumentException#DEFAULT_MESSAGE}.
@@ -64,7 +71,8 @@ public class IllegalNotContainedArgumentException extends RuntimeException imple
 	 */
 	public IllegalNotContainedArgumentException(@Nullable final Object illegalArgumentValue) {
 		super(DEFAULT_MESSAGE);
-		this.illegalArgumentValue = illegalArgumentValue;
+		this.argumentName = null;
+		this.illegalArgumentValue = RetainedArguments.retain(illegalArgumentValue);
 	}
 
 	/**
@@ -79,7 +87,8 @@ public class IllegalNotContainedArgumentException extends RuntimeException imple
 	 */
 	public IllegalNotContainedArgumentException(@Nullable final Object illegalArgumentValue, @Nullable final Throwable cause) {
 		super(DEFAULT_MESSAGE, cause);
-		this.illegalArgumentValue = illegalArgumentValue;
+		this.argumentName = null;
+		this.illegalArgumentValue = RetainedArguments.retain(illegalArgumentValue);
 	}
 
 	/**
@@ -94,8 +103,9 @@ public class IllegalNotContainedArgumentException extends RuntimeException imple
 	 *            thrown.
 	 */
 	public IllegalNotContainedArgumentException(@Nullable final String argumentName, @Nullable final Object illegalArgumentValue) {
-		super(format(argumentName));
-		this.illegalArgumentValue = illegalArgumentValue;
+		super(null, argumentName);
+		this.argumentName = argumentName;
+		this.illegalArgumentValue = RetainedArguments.retain(illegalArgumentValue);
 	}
 
 	/**
@@ -113,13 +123,24 @@ public class IllegalNotContainedArgumentException extends RuntimeException imple
 	 */
 	public IllegalNotContainedArgumentException(@Nullable final String argumentName, @Nullable final Object illegalArgumentValue,
 			@Nullable final Throwable cause) {
-		super(format(argumentName), cause);
-		this.illegalArgumentValue = illegalArgumentValue;
+		super(null, cause, argumentName);
+		this.argumentName = argumentName;
+		this.illegalArgumentValue = RetainedArguments.retain(illegalArgumentValue);
+	}
+
+	/**
+	 * Renders the detail message from the arguments passed to the constructor.
+	 * 
+	 * @return the detail message
+	 */
+	@Override
+	protected String createMessage() {
+		return format(argumentName);
 	}
 
 	@Override
 	public Object getIllegalArgument() {
-		return illegalArgumentValue;
+		return RetainedArguments.restore(illegalArgumentValue);
 	}
 
 }
@@ -25,7 +25,7 @@ import javax.annotation.Nullable;
  * @author André Rouél
  * @author Dominik Seichter
  */
-public class IllegalNotGreaterOrEqualThanException extends RuntimeException implements IllegalArgumentHolder<Object> {
+public class IllegalNotGreaterOrEqualThanException extends QualityCheckException implements IllegalArgumentHolder<Object> {
 
 	private static final long serialVersionUID = 581207857845351903L;
 
@@ -35,7 +35,8 @@ public class IllegalNotGreaterOrEqualThanException extends RuntimeException impl
 	protected static final String DEFAULT_MESSAGE = "Argument must be greater or equal than a defined value.";
 
 	/**
-	 * The illegal value which caused this exception to be thrown.
+	 * The illegal value which caused this exception to be thrown. It is retained according to the configured
+	 * {@link ArgumentRetentionPolicy}.
 	 */
 	private final Object illegalArgumentValue;
 
@@ -48,7 +49,7 @@ public class IllegalNotGreaterOrEqualThanException extends RuntimeException impl
 	 */
 	public IllegalNotGreaterOrEqualThanException(@Nullable final Object illegalArgumentValue) {
 		super(DEFAULT_MESSAGE);
-		this.illegalArgumentValue = illegalArgumentValue;
+		this.illegalArgumentValue = RetainedArguments.retain(illegalArgumentValue);
 	}
 
 	/**
@@ -63,7 +64,7 @@ public class IllegalNotGreaterOrEqualThanException extends RuntimeException impl
 	 */
 	public IllegalNotGreaterOrEqualThanException(@Nullable final Object illegalArgumentValue, @Nullable final Throwable cause) {
 		super(DEFAULT_MESSAGE, cause);
-		this.illegalArgumentValue = illegalArgumentValue;
+		this.illegalArgumentValue = RetainedArguments.retain(illegalArgumentValue);
 	}
 
 	/**
@@ -76,7 +77,7 @@ public class IllegalNotGreaterOrEqualThanException extends RuntimeException impl
 	 */
 	public IllegalNotGreaterOrEqualThanException(@Nonnull final String message, @Nullable final Object illegalArgumentValue) {
 		super(message);
-		this.illegalArgumentValue = illegalArgumentValue;
+		this.illegalArgumentValue = RetainedArguments.retain(illegalArgumentValue);
 	}
 
 	/**
@@ -94,12 +95,12 @@ public class IllegalNotGreaterOrEqualThanException extends RuntimeException impl
 	public IllegalNotGreaterOrEqualThanException(@Nonnull final String message, @Nullable final Object illegalArgumentValue,
 			@Nullable final Throwable cause) {
 		super(message, cause);
-		this.illegalArgumentValue = illegalArgumentValue;
+		this.illegalArgumentValue = RetainedArguments.retain(illegalArgumentValue);
 	}
 
 	@Override
 	public Object getIllegalArgument() {
-		return illegalArgumentValue;
+		return RetainedArguments.restore(illegalArgumentValue);
 	}
 
 }
@@ -25,7 +25,7 @@ import javax.annotation.Nullable;
  * @author André Rouél
  * @author Dominik Seichter
  */
-public class IllegalNotGreaterThanException extends RuntimeException implements IllegalArgumentHolder<Object> {
+public class IllegalNotGreaterThanException extends QualityCheckException implements IllegalArgumentHolder<Object> {
 
 	private static final long serialVersionUID = 49779498587504287L;
 
@@ -35,7 +35,8 @@ public class IllegalNotGreaterThanException extends RuntimeException implements
 	protected static final String DEFAULT_MESSAGE = "Argument must be greater than a defined value.";
 
 	/**
-	 * The illegal value which caused this exception to be thrown.
+	 * The illegal value which caused this exception to be thrown. It is retained according to the configured
+	 * {@link ArgumentRetentionPolicy}.
 	 */
 	private final Object illegalArgumentValue;
 
@@ -48,7 +49,7 @@ public class IllegalNotGreaterThanException extends RuntimeException implements
 	 */
 	public IllegalNotGreaterThanException(@Nullable final Object illegalArgumentValue) {
 		super(DEFAULT_MESSAGE);
-		this.illegalArgumentValue = illegalArgumentValue;
+		this.illegalArgumentValue = RetainedArguments.retain(illegalArgumentValue);
 	}
 
 	/**
@@ -62,7 +63,7 @@ public class IllegalNotGreaterThanException extends RuntimeException implements
 	 */
 	public IllegalNotGreaterThanException(@Nullable final Object illegalArgumentValue, @Nullable final Throwable cause) {
 		super(DEFAULT_MESSAGE, cause);
-		this.illegalArgumentValue = illegalArgumentValue;
+		this.illegalArgumentValue = RetainedArguments.retain(illegalArgumentValue);
 	}
 
 	/**
@@ -76,7 +77,7 @@ public class IllegalNotGreaterThanException extends RuntimeException implements
 	 */
 	public IllegalNotGreaterThanException(@Nonnull final String message, @Nullable final Object illegalArgumentValue) {
 		super(message);
-		this.illegalArgumentValue = illegalArgumentValue;
+		this.illegalArgumentValue = RetainedArguments.retain(illegalArgumentValue);
 	}
 
 	/**
@@ -93,12 +94,12 @@ public class IllegalNotGreaterThanException extends RuntimeException implements
 	public IllegalNotGreaterThanException(@Nonnull final String message, @Nullable final Object illegalArgumentValue,
 			@Nullable final Throwable cause) {
 		super(message, cause);
-		this.illegalArgumentValue = illegalArgumentValue;
+		this.illegalArgumentValue = RetainedArguments.retain(illegalArgumentValue);
 	}
 
 	@Override
 	public Object getIllegalArgument() {
-		return illegalArgumentValue;
+		return RetainedArguments.restore(illegalArgumentValue);
 	}
 
 }
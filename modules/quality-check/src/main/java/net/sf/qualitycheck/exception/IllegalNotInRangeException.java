@@ -0,0 +1,259 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.exception;
+
+import javax.annotation.Nullable;
+
+/**
+ * Thrown to indicate that a method has been passed with a primitive value which is not within an expected range. The
+ * value and the bounds are kept as primitives and will not be boxed or formatted until the message is rendered.
+ * 
+ * @author André Rouél
+ */
+public class IllegalNotInRangeException extends QualityCheckException {
+
+	private static final long serialVersionUID = -4367530126452815623L;
+
+	/**
+	 * Default message to indicate that a given argument is not within the expected range.
+	 */
+	protected static final String DEFAULT_MESSAGE = "The passed argument must be within the expected range.";
+
+	/**
+	 * Message to indicate that a given argument must be within a range.
+	 */
+	protected static final String MESSAGE_WITH_VALUES = "The passed argument must be within the range %s, but was %s.";
+
+	/**
+	 * Message to indicate that the given argument with <em>name</em> must be within a range.
+	 */
+	protected static final String MESSAGE_WITH_NAME_AND_VALUES = "The passed argument '%s' must be within the range %s, but was %s.";
+
+	/**
+	 * Indicates that no value has been passed
+	 */
+	private static final int KIND_NONE = 0;
+
+	/**
+	 * Indicates integral values which are stored as they are
+	 */
+	private static final int KIND_INTEGRAL = 1;
+
+	/**
+	 * Indicates {@code char} values which are stored as their code
+	 */
+	private static final int KIND_CHAR = 2;
+
+	/**
+	 * Indicates {@code float} values which are stored as their raw bits
+	 */
+	private static final int KIND_FLOAT = 3;
+
+	/**
+	 * Indicates {@code double} values which are stored as their raw bits
+	 */
+	private static final int KIND_DOUBLE = 4;
+
+	/**
+	 * Name of the passed argument, used to render the message.
+	 */
+	@Nullable
+	private final transient String argumentName;
+
+	/**
+	 * Kind of the stored values, used to render the message.
+	 */
+	private final transient int kind;
+
+	/**
+	 * Value which is not within the range, used to render the message.
+	 */
+	private final transient long value;
+
+	/**
+	 * Lower bound of the range (always inclusive), used to render the message.
+	 */
+	private final transient long min;
+
+	/**
+	 * Upper bound of the range, used to render the message.
+	 */
+	private final transient long max;
+
+	/**
+	 * Indicates whether the upper bound belongs to the range, used to render the message.
+	 */
+	private final transient boolean maxInclusive;
+
+	/**
+	 * Constructs an {@code IllegalNotInRangeException} with the default message
+	 * {@link IllegalNotInRangeException#DEFAULT_MESSAGE}.
+	 */
+	public IllegalNotInRangeException() {
+		super(DEFAULT_MESSAGE);
+		this.argumentName = null;
+		this.kind = KIND_NONE;
+		this.value = 0;
+		this.min = 0;
+		this.max = 0;
+		this.maxInclusive = false;
+	}
+
+	/**
+	 * Constructs an {@code IllegalNotInRangeException} with the message
+	 * {@link IllegalNotInRangeException#MESSAGE_WITH_NAME_AND_VALUES} including the given name and {@code char} values.
+	 * 
+	 * @param argumentName
+	 *            the name of the passed argument
+	 * @param value
+	 *            the value which is not within the range
+	 * @param min
+	 *            the lower bound (inclusive) of the range
+	 * @param max
+	 *            the upper bound of the range
+	 * @param maxInclusive
+	 *            {@code true} if the upper bound belongs to the range, otherwise {@code false}
+	 */
+	public IllegalNotInRangeException(@Nullable final String argumentName, final char value, final char min, final char max,
+			final boolean maxInclusive) {
+		this(argumentName, KIND_CHAR, value, min, max, maxInclusive);
+	}
+
+	/**
+	 * Constructs an {@code IllegalNotInRangeException} with the message
+	 * {@link IllegalNotInRangeException#MESSAGE_WITH_NAME_AND_VALUES} including the given name and {@code double}
+	 * values.
+	 * 
+	 * @param argumentName
+	 *            the name of the passed argument
+	 * @param value
+	 *            the value which is not within the range
+	 * @param min
+	 *            the lower bound (inclusive) of the range
+	 * @param max
+	 *            the upper bound of the range
+	 * @param maxInclusive
+	 *            {@code true} if the upper bound belongs to the range, otherwise {@code false}
+	 */
+	public IllegalNotInRangeException(@Nullable final String argumentName, final double value, final double min, final double max,
+			final boolean maxInclusive) {
+		this(argumentName, KIND_DOUBLE, Double.doubleToRawLongBits(value), Double.doubleToRawLongBits(min), Double
+				.doubleToRawLongBits(max), maxInclusive);
+	}
+
+	/**
+	 * Constructs an {@code IllegalNotInRangeException} with the message
+	 * {@link IllegalNotInRangeException#MESSAGE_WITH_NAME_AND_VALUES} including the given name and {@code float} values.
+	 * 
+	 * @param argumentName
+	 *            the name of the passed argument
+	 * @param value
+	 *            the value which is not within the range
+	 * @param min
+	 *            the lower bound (inclusive) of the range
+	 * @param max
+	 *            the upper bound of the range
+	 * @param maxInclusive
+	 *            {@code true} if the upper bound belongs to the range, otherwise {@code false}
+	 */
+	public IllegalNotInRangeException(@Nullable final String argumentName, final float value, final float min, final float max,
+			final boolean maxInclusive) {
+		this(argumentName, KIND_FLOAT, Float.floatToRawIntBits(value), Float.floatToRawIntBits(min), Float.floatToRawIntBits(max),
+				maxInclusive);
+	}
+
+	/**
+	 * Constructs an {@code IllegalNotInRangeException} with the message
+	 * {@link IllegalNotInRangeException#MESSAGE_WITH_NAME_AND_VALUES} including the given name and integral values
+	 * ({@code byte}, {@code short}, {@code int} or {@code long}).
+	 * 
+	 * @param argumentName
+	 *            the name of the passed argument
+	 * @param value
+	 *            the value which is not within the range
+	 * @param min
+	 *            the lower bound (inclusive) of the range
+	 * @param max
+	 *            the upper bound of the range
+	 * @param maxInclusive
+	 *            {@code true} if the upper bound belongs to the range, otherwise {@code false}
+	 */
+	public IllegalNotInRangeException(@Nullable final String argumentName, final long value, final long min, final long max,
+			final boolean maxInclusive) {
+		this(argumentName, KIND_INTEGRAL, value, min, max, maxInclusive);
+	}
+
+	private IllegalNotInRangeException(@Nullable final String argumentName, final int kind, final long value, final long min,
+			final long max, final boolean maxInclusive) {
+		super(null, argumentName);
+		this.argumentName = argumentName;
+		this.kind = kind;
+		this.value = value;
+		this.min = min;
+		this.max = max;
+		this.maxInclusive = maxInclusive;
+	}
+
+	/**
+	 * Constructs a new exception with the default message {@link IllegalNotInRangeException#DEFAULT_MESSAGE}.
+	 * 
+	 * @param cause
+	 *            the cause (which is saved for later retrieval by the {@link Throwable#getCause()} method). (A
+	 *            {@code null} value is permitted, and indicates that the cause is nonexistent or unknown.)
+	 */
+	public IllegalNotInRangeException(@Nullable final Throwable cause) {
+		super(DEFAULT_MESSAGE, cause);
+		this.argumentName = null;
+		this.kind = KIND_NONE;
+		this.value = 0;
+		this.min = 0;
+		this.max = 0;
+		this.maxInclusive = false;
+	}
+
+	/**
+	 * Renders the detail message from the arguments passed to the constructor.
+	 * 
+	 * @return the detail message
+	 */
+	@Override
+	protected String createMessage() {
+		final String range = "[" + render(min) + ", " + render(max) + (maxInclusive ? "]" : ")");
+		return argumentName != null && !argumentName.isEmpty() ? String.format(MESSAGE_WITH_NAME_AND_VALUES, argumentName, range,
+				render(value)) : String.format(MESSAGE_WITH_VALUES, range, render(value));
+	}
+
+	/**
+	 * Renders a stored value according to its kind.
+	 * 
+	 * @param stored
+	 *            stored value
+	 * @return string representation of the original value
+	 */
+	private String render(final long stored) {
+		switch (kind) {
+		case KIND_CHAR:
+			return "'" + (char) stored + "'";
+		case KIND_FLOAT:
+			return Float.toString(Float.intBitsToFloat((int) stored));
+		case KIND_DOUBLE:
+			return Double.toString(Double.longBitsToDouble(stored));
+		default:
+			return Long.toString(stored);
+		}
+	}
+
+}
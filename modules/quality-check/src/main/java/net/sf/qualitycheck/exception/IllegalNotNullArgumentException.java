@@ -26,7 +26,7 @@ import net.sf.qualitycheck.Check;
  * 
  * @author Dominik Seichter
  */
-public class IllegalNotNullArgumentException extends RuntimeException implements IllegalArgumentHolder<Object> {
+public class IllegalNotNullArgumentException extends QualityCheckException implements IllegalArgumentHolder<Object> {
 
 	private static final long serialVersionUID = -6988558700678645359L;
 
@@ -53,10 +53,17 @@ public class IllegalNotNullArgumentException extends RuntimeException implements
 	}
 
 	/**
-	 * The illegal value which caused this exception to be thrown.
+	 * The illegal value which caused this exception to be thrown. It is retained according to the configured
+	 * {@link ArgumentRetentionPolicy}.
 	 */
 	private final Object illegalArgumentValue;
 
+	/**
+	 * Name of the passed argument, used to render the message.
+	 */
+	@Nullable
+	private final transient String argumentName;
+
 	/**
 	 * Constructs an {@code IllegalNotNullArgumentException} with the default message
 	 * {@link IllegalNotNullArgumentException#DEFAULT_MESSAGE}.
@@ -66,7 +73,8 @@ public class IllegalNotNullArgumentException extends RuntimeException implements
 	 */
 	public IllegalNotNullArgumentException(@Nonnull final Object illegalArgumentValue) {
 		super(DEFAULT_MESSAGE);
-		this.illegalArgumentValue = Check.notNull(illegalArgumentValue, "illegalArgumentValue");
+		this.argumentName = null;
+		this.illegalArgumentValue = RetainedArguments.retain(Check.notNull(illegalArgumentValue, "illegalArgumentValue"));
 	}
 
 	/**
@@ -81,7 +89,8 @@ public class IllegalNotNullArgumentException extends RuntimeException implements
 	 */
 	public IllegalNotNullArgumentException(@Nonnull final Object illegalArgumentValue, @Nullable final Throwable cause) {
 		super(DEFAULT_MESSAGE, cause);
-		this.illegalArgumentValue = Check.notNull(illegalArgumentValue, "illegalArgumentValue");
+		this.argumentName = null;
+		this.illegalArgumentValue = RetainedArguments.retain(Check.notNull(illegalArgumentValue, "illegalArgumentValue"));
 	}
 
 	/**
@@ -96,8 +105,9 @@ public class IllegalNotNullArgumentException extends RuntimeException implements
 	 *            The illegal value which caused this exception to be thrown.
 	 */
 	public IllegalNotNullArgumentException(@Nullable final String argumentName, @Nonnull final Object illegalArgumentValue) {
-		super(format(argumentName));
-		this.illegalArgumentValue = Check.notNull(illegalArgumentValue, "illegalArgumentValue");
+		super(null, argumentName);
+		this.argumentName = argumentName;
+		this.illegalArgumentValue = RetainedArguments.retain(Check.notNull(illegalArgumentValue, "illegalArgumentValue"));
 	}
 
 	/**
@@ -115,13 +125,24 @@ public class IllegalNotNullArgumentException extends RuntimeException implements
 	 */
 	public IllegalNotNullArgumentException(@Nullable final String argumentName, @Nonnull final Object illegalArgumentValue,
 			@Nullable final Throwable cause) {
-		super(format(argumentName), cause);
-		this.illegalArgumentValue = Check.notNull(illegalArgumentValue, "illegalArgumentValue");
+		super(null, cause, argumentName);
+		this.argumentName = argumentName;
+		this.illegalArgumentValue = RetainedArguments.retain(Check.notNull(illegalArgumentValue, "illegalArgumentValue"));
+	}
+
+	/**
+	 * Renders the detail message from the arguments passed to the constructor.
+	 * 
+	 * @return the detail message
+	 */
+	@Override
+	protected String createMessage() {
+		return format(argumentName);
 	}
 
 	@Override
 	public Object getIllegalArgument() {
-		return illegalArgumentValue;
+		return RetainedArguments.restore(illegalArgumentValue);
 	}
 
 }
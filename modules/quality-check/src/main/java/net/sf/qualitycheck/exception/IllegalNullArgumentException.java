@@ -24,7 +24,7 @@ import javax.annotation.Nullable;
  * @author André Rouél
  * @author Dominik Seichter
  */
-public class IllegalNullArgumentException extends RuntimeException {
+public class IllegalNullArgumentException extends QualityCheckException {
 
 	private static final long serialVersionUID = -6988558700678645359L;
 
@@ -50,12 +50,19 @@ public class IllegalNullArgumentException extends RuntimeException {
 		return String.format(MESSAGE_WITH_NAME, argumentName);
 	}
 
+	/**
+	 * Name of the passed argument, used to render the message.
+	 */
+	@Nullable
+	private final transient String argumentName;
+
 	/**
 	 * Constructs an {@code IllegalNullArgumentException} with the default message
 	 * {@link IllegalNullArgumentException#DEFAULT_MESSAGE}.
 	 */
 	public IllegalNullArgumentException() {
 		super(DEFAULT_MESSAGE);
+		this.argumentName = null;
 	}
 
 	/**
@@ -67,7 +74,8 @@ public class IllegalNullArgumentException extends RuntimeException {
 	 *            the name of the passed argument
 	 */
 	public IllegalNullArgumentException(@Nullable final String argumentName) {
-		super(format(argumentName));
+		super(null, argumentName);
+		this.argumentName = argumentName;
 	}
 
 	/**
@@ -81,7 +89,8 @@ public class IllegalNullArgumentException extends RuntimeException {
 	 *            {@code null} value is permitted, and indicates that the cause is nonexistent or unknown.)
 	 */
 	public IllegalNullArgumentException(@Nullable final String argumentName, @Nullable final Throwable cause) {
-		super(format(argumentName), cause);
+		super(null, cause, argumentName);
+		this.argumentName = argumentName;
 	}
 
 	/**
@@ -93,6 +102,17 @@ public class IllegalNullArgumentException extends RuntimeException {
 	 */
 	public IllegalNullArgumentException(@Nullable final Throwable cause) {
 		super(DEFAULT_MESSAGE, cause);
+		this.argumentName = null;
+	}
+
+	/**
+	 * Renders the detail message from the arguments passed to the constructor.
+	 * 
+	 * @return the detail message
+	 */
+	@Override
+	protected String createMessage() {
+		return format(argumentName);
 	}
 
 }
@@ -23,7 +23,7 @@ import javax.annotation.Nullable;
  * @author André Rouél
  * @author Dominik Seichter
  */
-public class IllegalNullElementsException extends RuntimeException {
+public class IllegalNullElementsException extends QualityCheckException {
 
 	private static final long serialVersionUID = -1957077437070375885L;
 
@@ -38,6 +38,23 @@ public class IllegalNullElementsException extends RuntimeException {
 	 */
 	protected static final String MESSAGE_WITH_NAME = "The passed argument '%s' must not contain elements that are null.";
 
+	/**
+	 * Message to indicate that the the given array or {@code Iterable} argument must not contain {@code null}, including
+	 * the <em>index</em> of the first {@code null} element.
+	 */
+	protected static final String MESSAGE_WITH_INDEX = "The passed argument must not contain elements that are null, but the element at index %d is null.";
+
+	/**
+	 * Message to indicate that the the given array or {@code Iterable} argument with <em>name</em> must not contain
+	 * {@code null}, including the <em>index</em> of the first {@code null} element.
+	 */
+	protected static final String MESSAGE_WITH_NAME_AND_INDEX = "The passed argument '%s' must not contain elements that are null, but the element at index %d is null.";
+
+	/**
+	 * Value of the index if the position of the first {@code null} element is unknown.
+	 */
+	private static final int NO_INDEX = -1;
+
 	/**
 	 * Determines the message to be used, depending on the passed argument name. If if the given argument name is
 	 * {@code null} or empty {@code DEFAULT_MESSAGE} will be returned, otherwise a formatted {@code MESSAGE_WITH_NAME}
@@ -52,6 +69,25 @@ public class IllegalNullElementsException extends RuntimeException {
 		return argumentName != null && !argumentName.isEmpty() ? format(argumentName) : DEFAULT_MESSAGE;
 	}
 
+	/**
+	 * Determines the message to be used, depending on the passed argument name and index. If the index is unknown the
+	 * message is determined by {@link #determineMessage(String)}, otherwise a formatted {@code MESSAGE_WITH_INDEX} or
+	 * {@code MESSAGE_WITH_NAME_AND_INDEX} will be returned.
+	 * 
+	 * @param argumentName
+	 *            the name of the passed argument
+	 * @param index
+	 *            the index of the first {@code null} element or {@code NO_INDEX}
+	 * @return a formatted string of message
+	 */
+	private static String determineMessage(@Nullable final String argumentName, final int index) {
+		if (index == NO_INDEX) {
+			return determineMessage(argumentName);
+		}
+		return argumentName != null && !argumentName.isEmpty() ? String.format(MESSAGE_WITH_NAME_AND_INDEX, argumentName,
+				index) : String.format(MESSAGE_WITH_INDEX, index);
+	}
+
 	/**
 	 * Returns the formatted string {@link IllegalEmptyArgumentException#MESSAGE_WITH_NAME} with the given
 	 * {@code argumentName}.
@@ -64,12 +100,25 @@ public class IllegalNullElementsException extends RuntimeException {
 		return String.format(MESSAGE_WITH_NAME, argumentName);
 	}
 
+	/**
+	 * Name of the passed argument, used to render the message.
+	 */
+	@Nullable
+	private final transient String argumentName;
+
+	/**
+	 * Index of the first {@code null} element, used to render the message.
+	 */
+	private final transient int index;
+
 	/**
 	 * Constructs an {@code IllegalNullArgumentException} with the default message
 	 * {@link IllegalEmptyArgumentException#DEFAULT_MESSAGE}.
 	 */
 	public IllegalNullElementsException() {
 		super(DEFAULT_MESSAGE);
+		this.argumentName = null;
+		this.index = NO_INDEX;
 	}
 
 	/**
@@ -81,7 +130,9 @@ public class IllegalNullElementsException extends RuntimeException {
 	 *            the name of the passed argument
 	 */
 	public IllegalNullElementsException(@Nullable final String argumentName) {
-		super(determineMessage(argumentName));
+		super(null, argumentName);
+		this.argumentName = argumentName;
+		this.index = NO_INDEX;
 	}
 
 	/**
@@ -95,7 +146,25 @@ public class IllegalNullElementsException extends RuntimeException {
 	 *            {@code null} value is permitted, and indicates that the cause is nonexistent or unknown.)
 	 */
 	public IllegalNullElementsException(@Nullable final String argumentName, @Nullable final Throwable cause) {
-		super(determineMessage(argumentName), cause);
+		super(null, cause, argumentName);
+		this.argumentName = argumentName;
+		this.index = NO_INDEX;
+	}
+
+	/**
+	 * Constructs an {@code IllegalNullElementsException} with the message
+	 * {@link IllegalNullElementsException#MESSAGE_WITH_NAME_AND_INDEX} including the given name of the argument and the
+	 * index of the first {@code null} element.
+	 * 
+	 * @param argumentName
+	 *            the name of the passed argument
+	 * @param index
+	 *            the index of the first {@code null} element
+	 */
+	public IllegalNullElementsException(@Nullable final String argumentName, final int index) {
+		super(null, argumentName);
+		this.argumentName = argumentName;
+		this.index = index;
 	}
 
 	/**
@@ -107,6 +176,18 @@ public class IllegalNullElementsException extends RuntimeException {
 	 */
 	public IllegalNullElementsException(@Nullable final Throwable cause) {
 		super(DEFAULT_MESSAGE, cause);
+		this.argumentName = null;
+		this.index = NO_INDEX;
+	}
+
+	/**
+	 * Renders the detail message from the arguments passed to the constructor.
+	 * 
+	 * @return the detail message
+	 */
+	@Override
+	protected String createMessage() {
+		return determineMessage(argumentName, index);
 	}
 
 }
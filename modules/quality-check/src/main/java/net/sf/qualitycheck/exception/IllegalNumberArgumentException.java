@@ -24,7 +24,7 @@ import javax.annotation.Nullable;
  * @author André Rouél
  * @author Dominik Seichter
  */
-public class IllegalNumberArgumentException extends RuntimeException implements IllegalArgumentHolder<CharSequence> {
+public class IllegalNumberArgumentException extends QualityCheckException implements IllegalArgumentHolder<CharSequence> {
 
 	private static final long serialVersionUID = 8431282453454923405L;
 
@@ -65,10 +65,25 @@ public class IllegalNumberArgumentException extends RuntimeException implements
 	}
 
 	/**
-	 * The illegal value which caused this exception to be thrown.
+	 * The illegal value which caused this exception to be thrown. It is retained according to the configured
+	 * {@link ArgumentRetentionPolicy}.
 	 */
+	@Nullable
 	private final CharSequence illegalArgumentValue;
 
+	/**
+	 * The illegal value if it is referenced weakly according to the configured {@link ArgumentRetentionPolicy}. It is
+	 * not part of the serialized form.
+	 */
+	@Nullable
+	private final transient RetainedArguments.WeakArgument weakArgument;
+
+	/**
+	 * Name of the passed argument, used to render the message.
+	 */
+	@Nullable
+	private final transient String argumentName;
+
 	/**
 	 * Constructs an {@code IllegalNullArgumentException} with the default message
 	 * {@link IllegalNumberArgumentException#DEFAULT_MESSAGE}.
@@ -78,7 +93,9 @@ public class IllegalNumberArgumentException extends RuntimeException implements
 	 */
 	public IllegalNumberArgumentException(@Nullable final CharSequence illegalArgumentValue) {
 		super(DEFAULT_MESSAGE);
-		this.illegalArgumentValue = illegalArgumentValue;
+		this.argumentName = null;
+		this.illegalArgumentValue = RetainedArguments.retainChars(illegalArgumentValue);
+		this.weakArgument = RetainedArguments.retainWeakly(illegalArgumentValue);
 	}
 
 	/**
@@ -92,7 +109,9 @@ public class IllegalNumberArgumentException extends RuntimeException implements
 	 */
 	public IllegalNumberArgumentException(@Nullable final CharSequence illegalArgumentValue, @Nullable final Throwable cause) {
 		super(DEFAULT_MESSAGE, cause);
-		this.illegalArgumentValue = illegalArgumentValue;
+		this.argumentName = null;
+		this.illegalArgumentValue = RetainedArguments.retainChars(illegalArgumentValue);
+		this.weakArgument = RetainedArguments.retainWeakly(illegalArgumentValue);
 	}
 
 	/**
@@ -106,8 +125,10 @@ public class IllegalNumberArgumentException extends RuntimeException implements
 	 *            The illegal value which caused this exception to be thrown.
 	 */
 	public IllegalNumberArgumentException(@Nullable final String argumentName, @Nullable final CharSequence illegalArgumentValue) {
-		super(determineMessage(argumentName));
-		this.illegalArgumentValue = illegalArgumentValue;
+		super(null, argumentName);
+		this.argumentName = argumentName;
+		this.illegalArgumentValue = RetainedArguments.retainChars(illegalArgumentValue);
+		this.weakArgument = RetainedArguments.retainWeakly(illegalArgumentValue);
 	}
 
 	/**
@@ -124,13 +145,25 @@ public class IllegalNumberArgumentException extends RuntimeException implements
 	 */
 	public IllegalNumberArgumentException(@Nullable final String argumentName, @Nullable final CharSequence illegalArgumentValue,
 			@Nullable final Throwable cause) {
-		super(determineMessage(argumentName), cause);
-		this.illegalArgumentValue = illegalArgumentValue;
+		super(null, cause, argumentName);
+		this.argumentName = argumentName;
+		this.illegalArgumentValue = RetainedArguments.retainChars(illegalArgumentValue);
+		this.weakArgument = RetainedArguments.retainWeakly(illegalArgumentValue);
+	}
+
+	/**
+	 * Renders the detail message from the arguments passed to the constructor.
+	 * 
+	 * @return the detail message
+	 */
+	@Override
+	protected String createMessage() {
+		return determineMessage(argumentName);
 	}
 
 	@Override
 	public CharSequence getIllegalArgument() {
-		return illegalArgumentValue;
+		return weakArgument != null ? (CharSequence) weakArgument.get() : illegalArgumentValue;
 	}
 
 }
@@ -26,7 +26,7 @@ import javax.annotation.Nullable;
  * @author André Rouél
  * @author Dominik Seichter
  */
-public class IllegalNumberRangeException extends RuntimeException {
+public class IllegalNumberRangeException extends QualityCheckException {
 
 	private static final long serialVersionUID = 8948110906636813037L;
 
@@ -41,16 +41,69 @@ public class IllegalNumberRangeException extends RuntimeException {
 	 */
 	protected static final String MESSAGE_WITH_VALUES = "Argument value '%s' must be in the range '%s' to '%s'.";
 
-	private static String format(final String value, final BigDecimal min, final BigDecimal max) {
+	/**
+	 * Message to indicate that the given argument with <em>name</em> must be in the valid range.
+	 */
+	protected static final String MESSAGE_WITH_NAME_AND_VALUES = "Argument '%s' with value '%s' must be in the range '%s' to '%s'.";
+
+	/**
+	 * Determines the message to be used, depending on the passed argument name. If if the given argument name is
+	 * {@code null} or empty {@code MESSAGE_WITH_VALUES} will be returned, otherwise a formatted
+	 * {@code MESSAGE_WITH_NAME_AND_VALUES}.
+	 * 
+	 * @param argumentName
+	 *            the name of the passed argument
+	 * @param value
+	 *            the value which is not in the range as {@code String}
+	 * @param min
+	 *            the min value of the range
+	 * @param max
+	 *            the max value of the range
+	 * @return a formatted string of message
+	 */
+	private static String determineMessage(@Nullable final String argumentName, final String value, final Number min, final Number max) {
+		return argumentName != null && !argumentName.isEmpty() ? String.format(MESSAGE_WITH_NAME_AND_VALUES, argumentName, value,
+				min.toString(), max.toString()) : format(value, min, max);
+	}
+
+	private static String format(final String value, final Number min, final Number max) {
 		return String.format(MESSAGE_WITH_VALUES, value, min.toString(), max.toString());
 	}
 
+	/**
+	 * Name of the passed argument, used to render the message.
+	 */
+	@Nullable
+	private final transient String argumentName;
+
+	/**
+	 * Value which is not in the range, used to render the message.
+	 */
+	@Nullable
+	private final transient String value;
+
+	/**
+	 * Minimum of the range, used to render the message.
+	 */
+	@Nullable
+	private final transient Number min;
+
+	/**
+	 * Maximum of the range, used to render the message.
+	 */
+	@Nullable
+	private final transient Number max;
+
 	/**
 	 * Constructs an {@code IllegalNumberRangeException} with the default message
 	 * {@link IllegalNumberRangeException#DEFAULT_MESSAGE}.
 	 */
 	public IllegalNumberRangeException() {
 		super(DEFAULT_MESSAGE);
+		this.argumentName = null;
+		this.value = null;
+		this.min = null;
+		this.max = null;
 	}
 
 	/**
@@ -65,7 +118,11 @@ public class IllegalNumberRangeException extends RuntimeException {
 	 *            the max value of the range
 	 */
 	public IllegalNumberRangeException(final String value, final BigDecimal min, final BigDecimal max) {
-		super(format(value, min, max));
+		super();
+		this.argumentName = null;
+		this.value = value;
+		this.min = min;
+		this.max = max;
 	}
 
 	/**
@@ -80,7 +137,11 @@ public class IllegalNumberRangeException extends RuntimeException {
 	 *            the max value of the range
 	 */
 	public IllegalNumberRangeException(final String value, final BigInteger min, final BigInteger max) {
-		super(format(value, new BigDecimal(min), new BigDecimal(max)));
+		super();
+		this.argumentName = null;
+		this.value = value;
+		this.min = min;
+		this.max = max;
 	}
 
 	/**
@@ -98,7 +159,11 @@ public class IllegalNumberRangeException extends RuntimeException {
 	 *            {@code null} value is permitted, and indicates that the cause is nonexistent or unknown.)
 	 */
 	public IllegalNumberRangeException(final String value, final BigInteger min, final BigInteger max, @Nullable final Throwable cause) {
-		super(format(value, new BigDecimal(min), new BigDecimal(max)), cause);
+		super(cause);
+		this.argumentName = null;
+		this.value = value;
+		this.min = min;
+		this.max = max;
 	}
 	
 	/**
@@ -116,7 +181,33 @@ public class IllegalNumberRangeException extends RuntimeException {
 	 *            {@code null} value is permitted, and indicates that the cause is nonexistent or unknown.)
 	 */
 	public IllegalNumberRangeException(final String value, final BigDecimal min, final BigDecimal max, @Nullable final Throwable cause) {
-		super(format(value, min, max), cause);
+		super(cause);
+		this.argumentName = null;
+		this.value = value;
+		this.min = min;
+		this.max = max;
+	}
+
+	/**
+	 * Constructs an {@code IllegalNumberRangeException} with the message
+	 * {@link IllegalNumberRangeException#MESSAGE_WITH_NAME_AND_VALUES} including the given name and values of the
+	 * arguments.
+	 * 
+	 * @param argumentName
+	 *            the name of the passed argument
+	 * @param value
+	 *            the value which is not in the range as {@code String}
+	 * @param min
+	 *            the min value of the range
+	 * @param max
+	 *            the max value of the range
+	 */
+	public IllegalNumberRangeException(@Nullable final String argumentName, final String value, final Number min, final Number max) {
+		super(null, argumentName);
+		this.argumentName = argumentName;
+		this.value = value;
+		this.min = min;
+		this.max = max;
 	}
 
 	/**
@@ -128,6 +219,20 @@ public class IllegalNumberRangeException extends RuntimeException {
 	 */
 	public IllegalNumberRangeException(@Nullable final Throwable cause) {
 		super(DEFAULT_MESSAGE, cause);
+		this.argumentName = null;
+		this.value = null;
+		this.min = null;
+		this.max = null;
+	}
+
+	/**
+	 * Renders the detail message from the arguments passed to the constructor.
+	 * 
+	 * @return the detail message
+	 */
+	@Override
+	protected String createMessage() {
+		return determineMessage(argumentName, value, min, max);
 	}
 
 }
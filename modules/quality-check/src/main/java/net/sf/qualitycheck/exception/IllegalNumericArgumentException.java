@@ -26,7 +26,7 @@ import javax.annotation.Nullable;
  * @author André Rouél
  * @author Dominik Seichter
  */
-public class IllegalNumericArgumentException extends RuntimeException implements IllegalArgumentHolder<CharSequence> {
+public class IllegalNumericArgumentException extends QualityCheckException implements IllegalArgumentHolder<CharSequence> {
 
 	private static final long serialVersionUID = 6913991870563658630L;
 
@@ -40,6 +40,22 @@ public class IllegalNumericArgumentException extends RuntimeException implements
 	 */
 	protected static final String MESSAGE_WITH_NAME = "The passed argument '%s' must be numeric.";
 
+	/**
+	 * Message to indicate that the given argument must be numeric, but has no digit at the <em>offset</em>.
+	 */
+	protected static final String MESSAGE_WITH_OFFSET = "The passed argument must be numeric, but has no digit at offset %d.";
+
+	/**
+	 * Message to indicate that the given argument with <em>name</em> must be numeric, but has no digit at the
+	 * <em>offset</em>.
+	 */
+	protected static final String MESSAGE_WITH_NAME_AND_OFFSET = "The passed argument '%s' must be numeric, but has no digit at offset %d.";
+
+	/**
+	 * Marker of an unknown offset
+	 */
+	private static final long UNKNOWN_OFFSET = -1;
+
 	/**
 	 * Determines the message to be used, depending on the passed argument name. If if the given argument name is
 	 * {@code null} or empty {@code DEFAULT_MESSAGE} will be returned, otherwise a formatted {@code MESSAGE_WITH_NAME}
@@ -54,6 +70,21 @@ public class IllegalNumericArgumentException extends RuntimeException implements
 		return argumentName != null && !argumentName.isEmpty() ? format(argumentName) : DEFAULT_MESSAGE;
 	}
 
+	/**
+	 * Determines the message to be used, depending on the passed argument name and offset.
+	 * 
+	 * @param argumentName
+	 *            the name of the passed argument
+	 * @param offset
+	 *            offset of the first character or byte which is no digit
+	 * @return a formatted {@code MESSAGE_WITH_OFFSET} if the given argument name is {@code null} or empty, otherwise a
+	 *         formatted {@code MESSAGE_WITH_NAME_AND_OFFSET}
+	 */
+	private static String determineMessage(@Nullable final String argumentName, final long offset) {
+		return argumentName != null && !argumentName.isEmpty() ? String.format(MESSAGE_WITH_NAME_AND_OFFSET, argumentName, offset)
+				: String.format(MESSAGE_WITH_OFFSET, offset);
+	}
+
 	/**
 	 * Returns the formatted string {@link IllegalNumericArgumentException#MESSAGE_WITH_NAME} with the given
 	 * {@code argumentName}.
@@ -67,10 +98,30 @@ public class IllegalNumericArgumentException extends RuntimeException implements
 	}
 
 	/**
-	 * The illegal value which caused this exception to be thrown.
+	 * The illegal value which caused this exception to be thrown. It is retained according to the configured
+	 * {@link ArgumentRetentionPolicy}.
 	 */
+	@Nullable
 	private final CharSequence illegalArgumentValue;
 
+	/**
+	 * The illegal value if it is referenced weakly according to the configured {@link ArgumentRetentionPolicy}. It is
+	 * not part of the serialized form.
+	 */
+	@Nullable
+	private final transient RetainedArguments.WeakArgument weakArgument;
+
+	/**
+	 * Offset of the first character or byte which is no digit or {@code -1} if unknown
+	 */
+	private final long offset;
+
+	/**
+	 * Name of the passed argument, used to render the message.
+	 */
+	@Nullable
+	private final transient String argumentName;
+
 	/**
 	 * Constructs an {@code IllegalNullArgumentException} with the default message
 	 * {@link IllegalNumericArgumentException#DEFAULT_MESSAGE}.
@@ -80,7 +131,10 @@ public class IllegalNumericArgumentException extends RuntimeException implements
 	 */
 	public IllegalNumericArgumentException(@Nullable final CharSequence illegalArgumentValue) {
 		super(DEFAULT_MESSAGE);
-		this.illegalArgumentValue = illegalArgumentValue;
+		this.argumentName = null;
+		this.illegalArgumentValue = RetainedArguments.retainChars(illegalArgumentValue);
+		this.weakArgument = RetainedArguments.retainWeakly(illegalArgumentValue);
+		this.offset = UNKNOWN_OFFSET;
 	}
 
 	/**
@@ -94,7 +148,10 @@ public class IllegalNumericArgumentException extends RuntimeException implements
 	 */
 	public IllegalNumericArgumentException(@Nullable final CharSequence illegalArgumentValue, @Nullable final Throwable cause) {
 		super(DEFAULT_MESSAGE, cause);
-		this.illegalArgumentValue = illegalArgumentValue;
+		this.argumentName = null;
+		this.illegalArgumentValue = RetainedArguments.retainChars(illegalArgumentValue);
+		this.weakArgument = RetainedArguments.retainWeakly(illegalArgumentValue);
+		this.offset = UNKNOWN_OFFSET;
 	}
 
 	/**
@@ -108,8 +165,11 @@ public class IllegalNumericArgumentException extends RuntimeException implements
 	 *            The illegal value which caused this exception to be thrown.
 	 */
 	public IllegalNumericArgumentException(@Nullable final String argumentName, @Nullable final CharSequence illegalArgumentValue) {
-		super(determineMessage(argumentName));
-		this.illegalArgumentValue = illegalArgumentValue;
+		super(null, argumentName);
+		this.argumentName = argumentName;
+		this.illegalArgumentValue = RetainedArguments.retainChars(illegalArgumentValue);
+		this.weakArgument = RetainedArguments.retainWeakly(illegalArgumentValue);
+		this.offset = UNKNOWN_OFFSET;
 	}
 
 	/**
@@ -126,13 +186,58 @@ public class IllegalNumericArgumentException extends RuntimeException implements
 	 */
 	public IllegalNumericArgumentException(@Nullable final String argumentName, @Nullable final CharSequence illegalArgumentValue,
 			@Nullable final Throwable cause) {
-		super(determineMessage(argumentName), cause);
-		this.illegalArgumentValue = illegalArgumentValue;
+		super(null, cause, argumentName);
+		this.argumentName = argumentName;
+		this.illegalArgumentValue = RetainedArguments.retainChars(illegalArgumentValue);
+		this.weakArgument = RetainedArguments.retainWeakly(illegalArgumentValue);
+		this.offset = UNKNOWN_OFFSET;
+	}
+
+	/**
+	 * Constructs a new exception with the message {@link IllegalNumericArgumentException#MESSAGE_WITH_NAME_AND_OFFSET}
+	 * including the given name and offset, or {@link IllegalNumericArgumentException#MESSAGE_WITH_OFFSET} if no name
+	 * is given. The offset is a {@code long}, so that it can denote a position within a file larger than 2 GB.
+	 * 
+	 * @param argumentName
+	 *            the name of the passed argument
+	 * @param illegalArgumentValue
+	 *            The illegal value which caused this exception to be thrown or {@code null} if it is not available as
+	 *            character sequence, e.g. the content of a file.
+	 * @param offset
+	 *            offset of the first character or byte which is no digit
+	 */
+	public IllegalNumericArgumentException(@Nullable final String argumentName, @Nullable final CharSequence illegalArgumentValue,
+			final long offset) {
+		super(null, argumentName);
+		this.argumentName = argumentName;
+		this.illegalArgumentValue = RetainedArguments.retainChars(illegalArgumentValue);
+		this.weakArgument = RetainedArguments.retainWeakly(illegalArgumentValue);
+		this.offset = offset;
+	}
+
+	/**
+	 * Renders the detail message from the arguments passed to the constructor.
+	 * 
+	 * @return the detail message
+	 */
+	@Override
+	protected String createMessage() {
+		return offset == UNKNOWN_OFFSET ? determineMessage(argumentName) : determineMessage(argumentName, offset);
 	}
 
 	@Override
 	public CharSequence getIllegalArgument() {
-		return illegalArgumentValue;
+		return weakArgument != null ? (CharSequence) weakArgument.get() : illegalArgumentValue;
+	}
+
+	/**
+	 * Returns the offset of the first character or byte of the illegal value which is no digit. An empty value has no
+	 * digit at offset {@code 0}.
+	 * 
+	 * @return offset of the first non-digit or {@code -1} if it is unknown
+	 */
+	public long getOffset() {
+		return offset;
 	}
 
 }
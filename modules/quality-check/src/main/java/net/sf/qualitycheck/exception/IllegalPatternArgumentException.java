@@ -27,7 +27,7 @@ import javax.annotation.Nullable;
  * @author André Rouél
  * @author Dominik Seichter
  */
-public class IllegalPatternArgumentException extends RuntimeException implements IllegalArgumentHolder<CharSequence> {
+public class IllegalPatternArgumentException extends QualityCheckException implements IllegalArgumentHolder<CharSequence> {
 
 	private static final long serialVersionUID = -6741481389295600427L;
 
@@ -103,10 +103,31 @@ public class IllegalPatternArgumentException extends RuntimeException implements
 	}
 
 	/**
-	 * The illegal value which caused this exception to be thrown.
+	 * The illegal value which caused this exception to be thrown. It is retained according to the configured
+	 * {@link ArgumentRetentionPolicy}.
 	 */
+	@Nullable
 	private final CharSequence illegalArgumentValue;
 
+	/**
+	 * The illegal value if it is referenced weakly according to the configured {@link ArgumentRetentionPolicy}. It is
+	 * not part of the serialized form.
+	 */
+	@Nullable
+	private final transient RetainedArguments.WeakArgument weakArgument;
+
+	/**
+	 * Name of the passed argument, used to render the message.
+	 */
+	@Nullable
+	private final transient String argumentName;
+
+	/**
+	 * Pattern which the argument must match, used to render the message.
+	 */
+	@Nullable
+	private final transient Pattern pattern;
+
 	/**
 	 * Constructs an {@code IllegalNullArgumentException} with the default message
 	 * {@link IllegalPatternArgumentException#DEFAULT_MESSAGE} including the pattern which the argument must match.
@@ -117,8 +138,11 @@ public class IllegalPatternArgumentException extends RuntimeException implements
 	 *            The illegal value which caused this exception to be thrown.
 	 */
 	public IllegalPatternArgumentException(@Nullable final Pattern pattern, @Nullable final CharSequence illegalArgumentValue) {
-		super(format(pattern));
-		this.illegalArgumentValue = illegalArgumentValue;
+		super();
+		this.argumentName = null;
+		this.pattern = pattern;
+		this.illegalArgumentValue = RetainedArguments.retainChars(illegalArgumentValue);
+		this.weakArgument = RetainedArguments.retainWeakly(illegalArgumentValue);
 	}
 
 	/**
@@ -135,8 +159,11 @@ public class IllegalPatternArgumentException extends RuntimeException implements
 	 */
 	public IllegalPatternArgumentException(@Nullable final Pattern pattern, @Nullable final CharSequence illegalArgumentValue,
 			@Nullable final Throwable cause) {
-		super(format(pattern), cause);
-		this.illegalArgumentValue = illegalArgumentValue;
+		super(cause);
+		this.argumentName = null;
+		this.pattern = pattern;
+		this.illegalArgumentValue = RetainedArguments.retainChars(illegalArgumentValue);
+		this.weakArgument = RetainedArguments.retainWeakly(illegalArgumentValue);
 	}
 
 	/**
@@ -153,8 +180,11 @@ public class IllegalPatternArgumentException extends RuntimeException implements
 	 */
 	public IllegalPatternArgumentException(@Nullable final String argumentName, @Nullable final Pattern pattern,
 			@Nullable final CharSequence illegalArgumentValue) {
-		super(determineMessage(argumentName, pattern));
-		this.illegalArgumentValue = illegalArgumentValue;
+		super(null, argumentName);
+		this.argumentName = argumentName;
+		this.pattern = pattern;
+		this.illegalArgumentValue = RetainedArguments.retainChars(illegalArgumentValue);
+		this.weakArgument = RetainedArguments.retainWeakly(illegalArgumentValue);
 	}
 
 	/**
@@ -173,13 +203,26 @@ public class IllegalPatternArgumentException extends RuntimeException implements
 	 */
 	public IllegalPatternArgumentException(@Nullable final String argumentName, @Nullable final Pattern pattern,
 			@Nullable final CharSequence illegalArgumentValue, @Nullable final Throwable cause) {
-		super(determineMessage(argumentName, pattern), cause);
-		this.illegalArgumentValue = illegalArgumentValue;
+		super(null, cause, argumentName);
+		this.argumentName = argumentName;
+		this.pattern = pattern;
+		this.illegalArgumentValue = RetainedArguments.retainChars(illegalArgumentValue);
+		this.weakArgument = RetainedArguments.retainWeakly(illegalArgumentValue);
+	}
+
+	/**
+	 * Renders the detail message from the arguments passed to the constructor.
+	 * 
+	 * @return the detail message
+	 */
+	@Override
+	protected String createMessage() {
+		return determineMessage(argumentName, pattern);
 	}
 
 	@Override
 	public CharSequence getIllegalArgument() {
-		return illegalArgumentValue;
+		return weakArgument != null ? (CharSequence) weakArgument.get() : illegalArgumentValue;
 	}
 
 }
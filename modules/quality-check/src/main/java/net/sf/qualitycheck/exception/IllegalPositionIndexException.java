@@ -23,7 +23,7 @@ import javax.annotation.Nullable;
  * @author André Rouél
  * @author Dominik Seichter
  */
-public class IllegalPositionIndexException extends RuntimeException {
+public class IllegalPositionIndexException extends QualityCheckException {
 
 	private static final long serialVersionUID = 1012569127264822249L;
 
@@ -37,16 +37,58 @@ public class IllegalPositionIndexException extends RuntimeException {
 	 */
 	protected static final String MESSAGE_WITH_VALUES = "Position index '%d' must be within the defined bounds [0,%d].";
 
+	/**
+	 * Message to indicate that the position index with the given <em>name</em> is not valid within the given bounds.
+	 */
+	protected static final String MESSAGE_WITH_NAME_AND_VALUES = "Position index '%s' with value '%d' must be within the defined bounds [0,%d].";
+
+	/**
+	 * Determines the message to be used, depending on the passed argument name. If if the given argument name is
+	 * {@code null} or empty {@code MESSAGE_WITH_VALUES} will be returned, otherwise a formatted
+	 * {@code MESSAGE_WITH_NAME_AND_VALUES}.
+	 * 
+	 * @param argumentName
+	 *            the name of the passed argument
+	 * @param index
+	 *            an index in an array, list or string
+	 * @param size
+	 *            the size of an array, list or string
+	 * @return a formatted string of message
+	 */
+	private static String determineMessage(@Nullable final String argumentName, final int index, final int size) {
+		return argumentName != null && !argumentName.isEmpty() ? String.format(MESSAGE_WITH_NAME_AND_VALUES, argumentName, index,
+				size) : format(index, size);
+	}
+
 	private static String format(final int index, final int size) {
 		return String.format(MESSAGE_WITH_VALUES, index, size);
 	}
 
+	/**
+	 * Name of the passed argument, used to render the message.
+	 */
+	@Nullable
+	private final transient String argumentName;
+
+	/**
+	 * Index which is out of bounds, used to render the message.
+	 */
+	private final transient int index;
+
+	/**
+	 * Size of the array, list or string, used to render the message.
+	 */
+	private final transient int size;
+
 	/**
 	 * Constructs an {@code IllegalPositionIndexException} with the default message
 	 * {@link IllegalPositionIndexException#DEFAULT_MESSAGE}.
 	 */
 	public IllegalPositionIndexException() {
 		super(DEFAULT_MESSAGE);
+		this.argumentName = null;
+		this.index = 0;
+		this.size = 0;
 	}
 
 	/**
@@ -59,7 +101,10 @@ public class IllegalPositionIndexException extends RuntimeException {
 	 *            the size of an array, list or string
 	 */
 	public IllegalPositionIndexException(final int index, final int size) {
-		super(format(index, size));
+		super();
+		this.argumentName = null;
+		this.index = index;
+		this.size = size;
 	}
 
 	/**
@@ -75,7 +120,29 @@ public class IllegalPositionIndexException extends RuntimeException {
 	 *            {@code null} value is permitted, and indicates that the cause is nonexistent or unknown.)
 	 */
 	public IllegalPositionIndexException(final int index, final int size, @Nullable final Throwable cause) {
-		super(format(index, size), cause);
+		super(cause);
+		this.argumentName = null;
+		this.index = index;
+		this.size = size;
+	}
+
+	/**
+	 * Constructs an {@code IllegalPositionIndexException} with the message
+	 * {@link IllegalPositionIndexException#MESSAGE_WITH_NAME_AND_VALUES} including the given name and values of the
+	 * arguments.
+	 * 
+	 * @param argumentName
+	 *            the name of the passed argument
+	 * @param index
+	 *            an index in an array, list or string
+	 * @param size
+	 *            the size of an array, list or string
+	 */
+	public IllegalPositionIndexException(@Nullable final String argumentName, final int index, final int size) {
+		super(null, argumentName);
+		this.argumentName = argumentName;
+		this.index = index;
+		this.size = size;
 	}
 
 	/**
@@ -87,6 +154,19 @@ public class IllegalPositionIndexException extends RuntimeException {
 	 */
 	public IllegalPositionIndexException(@Nullable final Throwable cause) {
 		super(DEFAULT_MESSAGE, cause);
+		this.argumentName = null;
+		this.index = 0;
+		this.size = 0;
+	}
+
+	/**
+	 * Renders the detail message from the arguments passed to the constructor.
+	 * 
+	 * @return the detail message
+	 */
+	@Override
+	protected String createMessage() {
+		return determineMessage(argumentName, index, size);
 	}
 
 }
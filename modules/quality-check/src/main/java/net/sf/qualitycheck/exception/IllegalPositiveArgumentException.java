@@ -25,7 +25,7 @@ import javax.annotation.Nullable;
  * @author André Rouél
  * @author Dominik Seichter
  */
-public class IllegalPositiveArgumentException extends RuntimeException implements IllegalArgumentHolder<Number> {
+public class IllegalPositiveArgumentException extends QualityCheckException implements IllegalArgumentHolder<Number> {
 
 	/**
 	 * 
@@ -73,6 +73,12 @@ public class IllegalPositiveArgumentException extends RuntimeException implement
 	 */
 	private final Number illegalArgumentValue;
 
+	/**
+	 * Name of the passed argument, used to render the message.
+	 */
+	@Nullable
+	private final transient String argumentName;
+
 	/**
 	 * Constructs an {@code IllegalNullArgumentException} with the default message
 	 * {@link IllegalPositiveArgumentException#DEFAULT_MESSAGE}.
@@ -82,6 +88,7 @@ public class IllegalPositiveArgumentException extends RuntimeException implement
 	 */
 	public IllegalPositiveArgumentException(@Nullable final Number illegalArgumentValue) {
 		super(DEFAULT_MESSAGE);
+		this.argumentName = null;
 		this.illegalArgumentValue = illegalArgumentValue;
 	}
 
@@ -96,6 +103,7 @@ public class IllegalPositiveArgumentException extends RuntimeException implement
 	 */
 	public IllegalPositiveArgumentException(@Nullable final Number illegalArgumentValue, @Nullable final Throwable cause) {
 		super(DEFAULT_MESSAGE, cause);
+		this.argumentName = null;
 		this.illegalArgumentValue = illegalArgumentValue;
 	}
 
@@ -110,7 +118,8 @@ public class IllegalPositiveArgumentException extends RuntimeException implement
 	 *            The illegal value which caused this exception to be thrown.
 	 */
 	public IllegalPositiveArgumentException(@Nullable final String argumentName, @Nullable final Number illegalArgumentValue) {
-		super(determineMessage(argumentName));
+		super(null, argumentName);
+		this.argumentName = argumentName;
 		this.illegalArgumentValue = illegalArgumentValue;
 	}
 
@@ -128,10 +137,21 @@ public class IllegalPositiveArgumentException extends RuntimeException implement
 	 */
 	public IllegalPositiveArgumentException(@Nullable final String argumentName, @Nullable final Number illegalArgumentValue,
 			@Nullable final Throwable cause) {
-		super(determineMessage(argumentName), cause);
+		super(null, cause, argumentName);
+		this.argumentName = argumentName;
 		this.illegalArgumentValue = illegalArgumentValue;
 	}
 
+	/**
+	 * Renders the detail message from the arguments passed to the constructor.
+	 * 
+	 * @return the detail message
+	 */
+	@Override
+	protected String createMessage() {
+		return determineMessage(argumentName);
+	}
+
 	@Override
 	public Number getIllegalArgument() {
 		return illegalArgumentValue;
@@ -26,7 +26,7 @@ import javax.annotation.Nullable;
  * @author André Rouél
  * @author Dominik Seichter
  */
-public class IllegalRangeException extends RuntimeException {
+public class IllegalRangeException extends QualityCheckException {
 
 	private static final long serialVersionUID = 4515679658955102518L;
 
@@ -45,12 +45,30 @@ public class IllegalRangeException extends RuntimeException {
 		return String.format(MESSAGE_WITH_VALUES, start, end, size);
 	}
 
+	/**
+	 * Start of the range, used to render the message.
+	 */
+	private final transient int start;
+
+	/**
+	 * End of the range, used to render the message.
+	 */
+	private final transient int end;
+
+	/**
+	 * Size of the array, list or string, used to render the message.
+	 */
+	private final transient int size;
+
 	/**
 	 * Constructs an {@code IllegalRangeException} with the default message
 	 * {@link IllegalRangeException#DEFAULT_MESSAGE}.
 	 */
 	public IllegalRangeException() {
 		super(DEFAULT_MESSAGE);
+		this.start = 0;
+		this.end = 0;
+		this.size = 0;
 	}
 
 	/**
@@ -65,7 +83,10 @@ public class IllegalRangeException extends RuntimeException {
 	 *            the size value of the invalid range
 	 */
 	public IllegalRangeException(final int start, final int end, final int size) {
-		super(format(start, end, size));
+		super();
+		this.start = start;
+		this.end = end;
+		this.size = size;
 	}
 
 	/**
@@ -83,7 +104,10 @@ public class IllegalRangeException extends RuntimeException {
 	 *            {@code null} value is permitted, and indicates that the cause is nonexistent or unknown.)
 	 */
 	public IllegalRangeException(final int start, final int end, final int size, @Nullable final Throwable cause) {
-		super(format(start, end, size), cause);
+		super(cause);
+		this.start = start;
+		this.end = end;
+		this.size = size;
 	}
 
 	/**
@@ -95,6 +119,19 @@ public class IllegalRangeException extends RuntimeException {
 	 */
 	public IllegalRangeException(@Nullable final Throwable cause) {
 		super(DEFAULT_MESSAGE, cause);
+		this.start = 0;
+		this.end = 0;
+		this.size = 0;
+	}
+
+	/**
+	 * Renders the detail message from the arguments passed to the constructor.
+	 * 
+	 * @return the detail message
+	 */
+	@Override
+	protected String createMessage() {
+		return format(start, end, size);
 	}
 
 }
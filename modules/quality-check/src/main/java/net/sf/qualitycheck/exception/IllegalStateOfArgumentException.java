@@ -15,16 +15,34 @@
  ******************************************************************************/
 package net.sf.qualitycheck.exception;
 
+import java.util.Arrays;
+import java.util.IllegalFormatException;
+
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
+import net.sf.qualitycheck.DescriptionSupplier;
+
 /**
  * Thrown to indicate that a method was passed arguments which caused an invalid state.
  * 
+ * <p>
+ * A description template is not formatted until the message is requested the first time. The template arguments are
+ * copied when the exception is constructed and retained according to the configured {@link ArgumentRetentionPolicy},
+ * like the illegal argument of an {@link IllegalArgumentHolder}. With {@link ArgumentRetentionPolicy#TRUNCATE} or
+ * {@link ArgumentRetentionPolicy#HASH} a character sequence is rendered with the content it had at that time, whereas
+ * with the default {@link ArgumentRetentionPolicy#KEEP} a mutable argument is rendered with the state it has when the
+ * message is requested.
+ * 
+ * <p>
+ * Rendering the message never fails. A template that does not fit its arguments results in the raw template followed
+ * by the arguments, and an argument or a {@link DescriptionSupplier} which throws an exception results in the raw
+ * template or the default message.
+ * 
  * @author André Rouél
  * @author Dominik Seichter
  */
-public class IllegalStateOfArgumentException extends RuntimeException {
+public class IllegalStateOfArgumentException extends QualityCheckException {
 
 	private static final long serialVersionUID = -1782626786560016442L;
 
@@ -43,16 +61,53 @@ public class IllegalStateOfArgumentException extends RuntimeException {
 		if( descriptionTemplateArgs == null || descriptionTemplateArgs.length == 0 ) {
 			return MESSAGE_DESCRIPTION + descriptionTemplate;
 		} else {
-			return String.format(descriptionTemplate, descriptionTemplateArgs);
+			try {
+				return String.format(descriptionTemplate, descriptionTemplateArgs);
+			} catch (final IllegalFormatException e) {
+				return formatRaw(descriptionTemplate, descriptionTemplateArgs);
+			} catch (final RuntimeException e) {
+				// an argument which cannot be rendered must not break the message of a thrown exception
+				return MESSAGE_DESCRIPTION + descriptionTemplate;
+			}
+		}
+	}
+
+	private static String formatRaw(@Nonnull final String descriptionTemplate, @Nonnull final Object[] descriptionTemplateArgs) {
+		try {
+			return MESSAGE_DESCRIPTION + descriptionTemplate + " " + Arrays.deepToString(descriptionTemplateArgs);
+		} catch (final RuntimeException e) {
+			return MESSAGE_DESCRIPTION + descriptionTemplate;
 		}
 	}
 	
+	/**
+	 * Description or format string template which explains why the state is invalid, used to render the message.
+	 */
+	@Nullable
+	private final transient String description;
+
+	/**
+	 * Format string template arguments, retained according to the configured {@link ArgumentRetentionPolicy} when the
+	 * exception is constructed and used to render the message.
+	 */
+	@Nullable
+	private final transient Object[] descriptionTemplateArgs;
+
+	/**
+	 * Supplies the description on demand, used to render the message.
+	 */
+	@Nullable
+	private final transient DescriptionSupplier descriptionSupplier;
+
 	/**
 	 * Constructs an {@code IllegalStateOfArgumentException} with the default message
 	 * {@link IllegalStateOfArgumentException#DEFAULT_MESSAGE}.
 	 */
 	public IllegalStateOfArgumentException() {
 		super(DEFAULT_MESSAGE);
+		this.description = null;
+		this.descriptionTemplateArgs = null;
+		this.descriptionSupplier = null;
 	}
 
 	/**
@@ -63,12 +118,29 @@ public class IllegalStateOfArgumentException extends RuntimeException {
 	 *            explains why the state is invalid
 	 */
 	public IllegalStateOfArgumentException(@Nonnull final String description) {
-		super(format(description));
+		super();
+		this.description = description;
+		this.descriptionTemplateArgs = null;
+		this.descriptionSupplier = null;
 	}
 
 	/**
 	 * Constructs an {@code IllegalStateOfArgumentException} with the message {@link IllegalStateOfArgumentException#MESSAGE_DESCRIPTION}
-	 * including the given values of the arguments.
+	 * including the description of the given supplier. The supplier will not be called until the message is rendered.
+	 * 
+	 * @param descriptionSupplier
+	 *            supplies the description which explains why the state is invalid
+	 */
+	public IllegalStateOfArgumentException(@Nonnull final DescriptionSupplier descriptionSupplier) {
+		super();
+		this.description = null;
+		this.descriptionTemplateArgs = null;
+		this.descriptionSupplier = descriptionSupplier;
+	}
+
+	/**
+	 * Constructs an {@code IllegalStateOfArgumentException} with the message {@link IllegalStateOfArgumentException#MESSAGE_DESCRIPTION}
+	 * including the given values of the arguments. The template will not be formatted until the message is rendered.
 	 * 
 	 * @param description
 	 *            format string template that explains why the state is invalid
@@ -76,7 +148,10 @@ public class IllegalStateOfArgumentException extends RuntimeException {
 	 *            format string template arguments to explain why the state is invalid
 	 */
 	public IllegalStateOfArgumentException(@Nonnull final String description, Object... descriptionTemplateArgs) {
-		super(format(description, descriptionTemplateArgs));
+		super();
+		this.description = description;
+		this.descriptionTemplateArgs = RetainedArguments.retainAll(descriptionTemplateArgs);
+		this.descriptionSupplier = null;
 	}
 	
 	/**
@@ -90,7 +165,10 @@ public class IllegalStateOfArgumentException extends RuntimeException {
 	 *            {@code null} value is permitted, and indicates that the cause is nonexistent or unknown.)
 	 */
 	public IllegalStateOfArgumentException(@Nonnull final String description, @Nullable final Throwable cause) {
-		super(format(description), cause);
+		super(cause);
+		this.description = description;
+		this.descriptionTemplateArgs = null;
+		this.descriptionSupplier = null;
 	}
 	
 	/**
@@ -106,7 +184,10 @@ public class IllegalStateOfArgumentException extends RuntimeException {
 	 *            format string template arguments to explain why the state is invalid
 	 */
 	public IllegalStateOfArgumentException(@Nullable final Throwable cause, @Nonnull final String description, Object... descriptionTemplateArgs) {
-		super(format(description, descriptionTemplateArgs), cause);
+		super(cause);
+		this.description = description;
+		this.descriptionTemplateArgs = RetainedArguments.retainAll(descriptionTemplateArgs);
+		this.descriptionSupplier = null;
 	}
 	
 	/**
@@ -118,6 +199,30 @@ public class IllegalStateOfArgumentException extends RuntimeException {
 	 */
 	public IllegalStateOfArgumentException(@Nullable final Throwable cause) {
 		super(DEFAULT_MESSAGE, cause);
+		this.description = null;
+		this.descriptionTemplateArgs = null;
+		this.descriptionSupplier = null;
+	}
+
+	/**
+	 * Renders the detail message from the arguments passed to the constructor. If the description template does not
+	 * fit its arguments, the raw template followed by the arguments is used instead of throwing an
+	 * {@link IllegalFormatException}. If an argument or the description supplier throws a {@code RuntimeException},
+	 * the raw template or the default message is used.
+	 * 
+	 * @return the detail message
+	 */
+	@Override
+	protected String createMessage() {
+		if (descriptionSupplier != null) {
+			try {
+				return MESSAGE_DESCRIPTION + descriptionSupplier.get();
+			} catch (final RuntimeException e) {
+				// a failing supplier must not break the message of a thrown exception
+				return DEFAULT_MESSAGE;
+			}
+		}
+		return format(description, RetainedArguments.restoreAll(descriptionTemplateArgs));
 	}
 
 }
@@ -0,0 +1,296 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.exception;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+import javax.annotation.Nullable;
+
+import net.sf.qualitycheck.CheckFailureListener;
+import net.sf.qualitycheck.CheckMetrics;
+
+/**
+ * Base class of all exceptions of Quality-Check. The detail message of an exception is rendered not until it is
+ * requested the first time via {@link #getMessage()} and will be cached afterwards. So callers that catch an exception
+ * without reading its message do not pay for the formatting.
+ * 
+ * <p>
+ * Subclasses which know their message in advance (e.g. a constant) pass it directly to the constructor. All others
+ * use one of the constructors without a message and override {@link #createMessage()}.
+ * 
+ * <p>
+ * Whether a stack trace will be captured is determined JVM-wide by {@link StackTraces}. Each created exception is
+ * recorded by {@link CheckMetrics}, if the metrics are enabled, and reported to the {@link CheckFailureListener} which
+ * is registered as service provider, if there is one.
+ * 
+ * <p>
+ * Detail messages are capped at {@link ArgumentRetention#getMaxMessageLength()} characters, so that an exception
+ * cannot pin an arbitrarily large string.
+ * 
+ * @author André Rouél
+ */
+public abstract class QualityCheckException extends RuntimeException {
+
+	private static final long serialVersionUID = -3893422715421539549L;
+
+	/**
+	 * Indicates whether stack traces should be captured. It is read once when this class is initialized, so that the
+	 * JIT compiler can treat it as a constant.
+	 */
+	private static final boolean CAPTURE_STACK_TRACE = StackTraces.isCaptureEnabled();
+
+	/**
+	 * Number of characters a detail message has at most, read once when this class is initialized
+	 */
+	private static final int MAX_MESSAGE_LENGTH = ArgumentRetention.getMaxMessageLength();
+
+	/**
+	 * Marks the end of a message which has been cut
+	 */
+	private static final String TRUNCATION_MARKER = "...";
+
+	/**
+	 * Indicates whether failed checks are recorded by {@link CheckMetrics}, read once so that the JIT compiler can
+	 * remove the recording when the metrics are disabled
+	 */
+	private static final boolean RECORD_METRICS = CheckMetrics.getDefault().isEnabled();
+
+	/**
+	 * Listener which is notified about every created exception or {@code null} if no listener is registered, looked up
+	 * once so that the JIT compiler can remove the notification when there is no listener
+	 */
+	@Nullable
+	private static final CheckFailureListener LISTENER = loadListener();
+
+	/**
+	 * Loads the first {@link CheckFailureListener} which is registered as service provider. A provider which cannot be
+	 * loaded, e.g. because it depends on classes of a newer JDK, is ignored.
+	 * 
+	 * @return the first loadable listener or {@code null} if there is none
+	 */
+	@Nullable
+	private static CheckFailureListener loadListener() {
+		try {
+			final Iterator<CheckFailureListener> listeners = ServiceLoader.load(CheckFailureListener.class,
+					CheckFailureListener.class.getClassLoader()).iterator();
+			return listeners.hasNext() ? listeners.next() : null;
+		} catch (final ServiceConfigurationError e) {
+			return null;
+		} catch (final LinkageError e) {
+			return null;
+		} catch (final SecurityException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Cuts the given message if it is longer than the given maximum. A cut message ends with {@code "..."}.
+	 * 
+	 * @param message
+	 *            detail message
+	 * @param maxLength
+	 *            number of characters the message may have at most
+	 * @return the message with at most {@code maxLength} characters
+	 */
+	@Nullable
+	static String capped(@Nullable final String message, final int maxLength) {
+		if (message == null || message.length() <= maxLength) {
+			return message;
+		}
+		if (maxLength <= TRUNCATION_MARKER.length()) {
+			return message.substring(0, maxLength);
+		}
+		return message.substring(0, maxLength - TRUNCATION_MARKER.length()) + TRUNCATION_MARKER;
+	}
+
+	/**
+	 * The rendered detail message or {@code null} if not yet rendered. Concurrent rendering is harmless, because all
+	 * threads compute an equal string.
+	 */
+	@Nullable
+	private String message;
+
+	/**
+	 * Constructs a new exception whose detail message will be created lazily by {@link #createMessage()}.
+	 */
+	protected QualityCheckException() {
+		super();
+		recordFailure(null);
+	}
+
+	/**
+	 * Constructs a new exception with an already known detail message.
+	 * 
+	 * @param message
+	 *            the detail message
+	 */
+	protected QualityCheckException(@Nullable final String message) {
+		super();
+		this.message = capped(message, MAX_MESSAGE_LENGTH);
+		recordFailure(null);
+	}
+
+	/**
+	 * Constructs a new exception about a check of the named argument.
+	 * 
+	 * @param message
+	 *            the detail message or {@code null} if it will be created lazily by {@link #createMessage()}
+	 * @param argumentName
+	 *            the name of the passed argument
+	 */
+	protected QualityCheckException(@Nullable final String message, @Nullable final String argumentName) {
+		super();
+		this.message = capped(message, MAX_MESSAGE_LENGTH);
+		recordFailure(argumentName);
+	}
+
+	/**
+	 * Constructs a new exception with an already known detail message and cause.
+	 * 
+	 * @param message
+	 *            the detail message
+	 * @param cause
+	 *            the cause (which is saved for later retrieval by the {@link Throwable#getCause()} method). (A
+	 *            {@code null} value is permitted, and indicates that the cause is nonexistent or unknown.)
+	 */
+	protected QualityCheckException(@Nullable final String message, @Nullable final Throwable cause) {
+		super(null, cause);
+		this.message = capped(message, MAX_MESSAGE_LENGTH);
+		recordFailure(null);
+	}
+
+	/**
+	 * Constructs a new exception about a check of the named argument with the specified cause.
+	 * 
+	 * @param message
+	 *            the detail message or {@code null} if it will be created lazily by {@link #createMessage()}
+	 * @param cause
+	 *            the cause (which is saved for later retrieval by the {@link Throwable#getCause()} method). (A
+	 *            {@code null} value is permitted, and indicates that the cause is nonexistent or unknown.)
+	 * @param argumentName
+	 *            the name of the passed argument
+	 */
+	protected QualityCheckException(@Nullable final String message, @Nullable final Throwable cause, @Nullable final String argumentName) {
+		super(null, cause);
+		this.message = capped(message, MAX_MESSAGE_LENGTH);
+		recordFailure(argumentName);
+	}
+
+	/**
+	 * Constructs a new exception with the specified cause whose detail message will be created lazily by
+	 * {@link #createMessage()}.
+	 * 
+	 * @param cause
+	 *            the cause (which is saved for later retrieval by the {@link Throwable#getCause()} method). (A
+	 *            {@code null} value is permitted, and indicates that the cause is nonexistent or unknown.)
+	 */
+	protected QualityCheckException(@Nullable final Throwable cause) {
+		super(null, cause);
+		recordFailure(null);
+	}
+
+	/**
+	 * Renders the detail message of this exception. This method will be called at most once per exception and thread,
+	 * and only if the message was not passed to the constructor.
+	 * 
+	 * @return the detail message
+	 */
+	@Nullable
+	protected String createMessage() {
+		return null;
+	}
+
+	/**
+	 * Captures the current stack trace, unless the capturing was turned off via {@link StackTraces}. In that case the
+	 * stack trace of this exception remains empty.
+	 * 
+	 * @return a reference to this exception
+	 */
+	@Override
+	public synchronized Throwable fillInStackTrace() {
+		return CAPTURE_STACK_TRACE ? super.fillInStackTrace() : this;
+	}
+
+	/**
+	 * Returns the detail message of this exception, which will be rendered on the first call.
+	 * 
+	 * @return the detail message
+	 */
+	@Override
+	public String getMessage() {
+		String m = message;
+		if (m == null) {
+			m = capped(createMessage(), MAX_MESSAGE_LENGTH);
+			message = m;
+		}
+		return m;
+	}
+
+	/**
+	 * Records the name of an argument which failed the check, if the metrics are enabled. Subclasses which report
+	 * several arguments call this method from their constructors, all others pass the name of the argument to a
+	 * constructor of this class.
+	 * 
+	 * @param argumentName
+	 *            the name of the passed argument
+	 */
+	protected final void recordArgumentName(@Nullable final String argumentName) {
+		if (RECORD_METRICS) {
+			CheckMetrics.getDefault().recordArgumentName(argumentName);
+		}
+	}
+
+	/**
+	 * Records the type of this exception and the name of the argument, if the metrics are enabled, and notifies the
+	 * registered listener. A failing listener is ignored, so that it cannot replace this exception by its own.
+	 * 
+	 * @param argumentName
+	 *            the name of the passed argument or {@code null} if unknown
+	 */
+	private void recordFailure(@Nullable final String argumentName) {
+		if (RECORD_METRICS) {
+			CheckMetrics.getDefault().recordFailure(getClass());
+			CheckMetrics.getDefault().recordArgumentName(argumentName);
+		}
+		if (LISTENER != null) {
+			try {
+				LISTENER.failed(getClass(), argumentName);
+			} catch (final RuntimeException e) {
+				// a failing listener must not hide the failed check
+			} catch (final LinkageError e) {
+				// a listener which depends on missing classes must not hide the failed check
+			}
+		}
+	}
+
+	/**
+	 * Renders the detail message before serializing, so the arguments used to render it need not to be serializable.
+	 * 
+	 * @param out
+	 *            stream to write the object to
+	 * @throws IOException
+	 *             if an I/O error occurs
+	 */
+	private void writeObject(final ObjectOutputStream out) throws IOException {
+		getMessage();
+		out.defaultWriteObject();
+	}
+
+}
@@ -0,0 +1,233 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.exception;
+
+import java.io.Serializable;
+import java.lang.ref.WeakReference;
+
+import javax.annotation.Nullable;
+
+/**
+ * Converts illegal arguments into the form which is retained by an exception according to the
+ * {@link ArgumentRetentionPolicy}, and back.
+ * 
+ * @author André Rouél
+ */
+final class RetainedArguments {
+
+	/**
+	 * Weakly referenced argument. The reference does not survive serialization.
+	 */
+	static final class WeakArgument implements Serializable {
+
+		private static final long serialVersionUID = 4079316573186294214L;
+
+		@Nullable
+		private final transient WeakReference<Object> reference;
+
+		WeakArgument(final Object value) {
+			reference = new WeakReference<Object>(value);
+		}
+
+		@Nullable
+		Object get() {
+			return reference != null ? reference.get() : null;
+		}
+
+	}
+
+	/**
+	 * Number of characters a truncated argument retains at most, read once
+	 */
+	private static final int MAX_ARGUMENT_LENGTH = ArgumentRetention.getMaxArgumentLength();
+
+	/**
+	 * Policy which determines the retained form, read once
+	 */
+	private static final ArgumentRetentionPolicy POLICY = ArgumentRetention.getPolicy();
+
+	/**
+	 * Computes the hash code of a character sequence over its characters without copying them. The result equals the
+	 * hash code of a string with the same content.
+	 * 
+	 * @param chars
+	 *            character sequence
+	 * @return hash code of the content
+	 */
+	static int hashOf(final CharSequence chars) {
+		int hash = 0;
+		final int length = chars.length();
+		for (int i = 0; i < length; i++) {
+			hash = 31 * hash + chars.charAt(i);
+		}
+		return hash;
+	}
+
+	/**
+	 * Reduces the given argument to its class name and hash code.
+	 * 
+	 * @param value
+	 *            illegal argument
+	 * @return short description of the argument
+	 */
+	static String hashed(final Object value) {
+		final int hash = value instanceof CharSequence ? hashOf((CharSequence) value) : value.hashCode();
+		return value.getClass().getName() + '#' + Integer.toHexString(hash);
+	}
+
+	/**
+	 * Restores the illegal argument from its retained form.
+	 * 
+	 * @param retained
+	 *            retained form of an illegal argument
+	 * @return the illegal argument, its truncated copy, its hash or {@code null} if it has been garbage collected
+	 */
+	@Nullable
+	static Object restore(@Nullable final Object retained) {
+		return retained instanceof WeakArgument ? ((WeakArgument) retained).get() : retained;
+	}
+
+	/**
+	 * Restores all arguments of an array from their retained form.
+	 * 
+	 * @param retained
+	 *            retained forms of the arguments
+	 * @return a new array with the restored arguments or {@code null} if the given array is {@code null}
+	 */
+	@Nullable
+	static Object[] restoreAll(@Nullable final Object[] retained) {
+		if (retained == null) {
+			return null;
+		}
+		final Object[] values = new Object[retained.length];
+		for (int i = 0; i < retained.length; i++) {
+			values[i] = restore(retained[i]);
+		}
+		return values;
+	}
+
+	/**
+	 * Converts all arguments of an array into the form which is retained according to the configured policy. The
+	 * given array is copied, so that a later change of it is not visible through the retained arguments.
+	 * 
+	 * @param values
+	 *            arguments
+	 * @return a new array with the retained forms or {@code null} if the given array is {@code null}
+	 */
+	@Nullable
+	static Object[] retainAll(@Nullable final Object[] values) {
+		if (values == null) {
+			return null;
+		}
+		final Object[] retained = new Object[values.length];
+		for (int i = 0; i < values.length; i++) {
+			retained[i] = retain(values[i]);
+		}
+		return retained;
+	}
+
+	/**
+	 * Converts an illegal argument into the form which is retained according to the configured policy.
+	 * 
+	 * @param value
+	 *            illegal argument
+	 * @return the form to retain
+	 */
+	@Nullable
+	static Object retain(@Nullable final Object value) {
+		return value != null && POLICY != ArgumentRetentionPolicy.KEEP ? retain(POLICY, MAX_ARGUMENT_LENGTH, value) : value;
+	}
+
+	/**
+	 * Converts an illegal character sequence into the form which is retained according to the configured policy. The
+	 * type of the result allows to keep the field of an exception typed as {@code CharSequence}, so that its serialized
+	 * form stays compatible. A weakly referenced sequence is not part of the serialized form anyway and is retained by
+	 * {@link #retainWeakly(Object)} instead.
+	 * 
+	 * @param chars
+	 *            illegal character sequence
+	 * @return the form to retain or {@code null} if the sequence is only referenced weakly
+	 */
+	@Nullable
+	static CharSequence retainChars(@Nullable final CharSequence chars) {
+		return POLICY == ArgumentRetentionPolicy.WEAK ? null : (CharSequence) retain(chars);
+	}
+
+	/**
+	 * Creates a weak reference to the given illegal argument if the configured policy requests it.
+	 * 
+	 * @param value
+	 *            illegal argument
+	 * @return weakly referenced argument or {@code null} if the argument is not referenced weakly
+	 */
+	@Nullable
+	static WeakArgument retainWeakly(@Nullable final Object value) {
+		return value != null && POLICY == ArgumentRetentionPolicy.WEAK ? new WeakArgument(value) : null;
+	}
+
+	/**
+	 * Converts an illegal argument into the form which is retained according to the given policy. Numbers are always
+	 * kept as they are, because they are small.
+	 * 
+	 * @param policy
+	 *            retention policy
+	 * @param maxLength
+	 *            number of characters a truncated argument retains at most
+	 * @param value
+	 *            illegal argument
+	 * @return the form to retain
+	 */
+	static Object retain(final ArgumentRetentionPolicy policy, final int maxLength, final Object value) {
+		if (value instanceof Number) {
+			return value;
+		}
+		switch (policy) {
+		case HASH:
+			return hashed(value);
+		case TRUNCATE:
+			return value instanceof CharSequence ? truncated((CharSequence) value, maxLength) : value;
+		case WEAK:
+			return new WeakArgument(value);
+		default:
+			return value;
+		}
+	}
+
+	/**
+	 * Copies at most the given number of characters of a sequence. A short string is returned as it is, all other
+	 * sequences are copied, because they could be views of a larger buffer.
+	 * 
+	 * @param chars
+	 *            character sequence
+	 * @param maxLength
+	 *            number of characters to retain at most
+	 * @return a string with at most {@code maxLength} characters
+	 */
+	static CharSequence truncated(final CharSequence chars, final int maxLength) {
+		if (chars instanceof String && chars.length() <= maxLength) {
+			return chars;
+		}
+		return chars.subSequence(0, Math.min(chars.length(), maxLength)).toString();
+	}
+
+	/**
+	 * <strong>Attention:</strong> This class is not intended to create objects from it.
+	 */
+	private RetainedArguments() {
+		// This class is not intended to create objects from it.
+	}
+
+}
@@ -23,7 +23,7 @@ import javax.annotation.Nullable;
  * @author André Rouél
  * @author Dominik Seichter
  */
-public class RuntimeInstantiationException extends RuntimeException {
+public class RuntimeInstantiationException extends QualityCheckException {
 
 	private static final long serialVersionUID = 7304261330061136504L;
 
@@ -63,12 +63,19 @@ public class RuntimeInstantiationException extends RuntimeException {
 		return String.format(MESSAGE_WITH_NAME, argumentName);
 	}
 
+	/**
+	 * Name of the class which cannot be instantiated, used to render the message.
+	 */
+	@Nullable
+	private final transient String className;
+
 	/**
 	 * Constructs an {@code IllegalNullArgumentException} with the default message
 	 * {@link RuntimeInstantiationException#DEFAULT_MESSAGE}.
 	 */
 	public RuntimeInstantiationException() {
 		super(DEFAULT_MESSAGE);
+		this.className = null;
 	}
 
 	/**
@@ -80,7 +87,8 @@ public class RuntimeInstantiationException extends RuntimeException {
 	 *            the name of the {@link Class}
 	 */
 	public RuntimeInstantiationException(@Nullable final String className) {
-		super(determineMessage(className));
+		super();
+		this.className = className;
 	}
 
 	/**
@@ -94,7 +102,8 @@ public class RuntimeInstantiationException extends RuntimeException {
 	 *            {@code null} value is permitted, and indicates that the cause is nonexistent or unknown.)
 	 */
 	public RuntimeInstantiationException(@Nullable final String className, @Nullable final Throwable cause) {
-		super(determineMessage(className), cause);
+		super(cause);
+		this.className = className;
 	}
 
 	/**
@@ -106,6 +115,17 @@ public class RuntimeInstantiationException extends RuntimeException {
 	 */
 	public RuntimeInstantiationException(@Nullable final Throwable cause) {
 		super(DEFAULT_MESSAGE, cause);
+		this.className = null;
+	}
+
+	/**
+	 * Renders the detail message from the arguments passed to the constructor.
+	 * 
+	 * @return the detail message
+	 */
+	@Override
+	protected String createMessage() {
+		return determineMessage(className);
 	}
 
 }
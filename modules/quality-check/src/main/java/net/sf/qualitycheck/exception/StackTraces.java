@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.exception;
+
+import javax.annotation.Nullable;
+
+/**
+ * JVM-wide switch which determines whether the exceptions of Quality-Check capture a stack trace when they are
+ * created. Capturing the stack trace is by far the most expensive part of throwing an exception, so turning it off
+ * makes failing checks considerably cheaper when they are used for input validation on a hot path.
+ * 
+ * <p>
+ * Stack traces are captured by default. They can be turned off by starting the JVM with the system property
+ * {@code -Dnet.sf.qualitycheck.exception.captureStackTrace=false} or by calling {@link #setCaptureEnabled(boolean)}
+ * before the first exception of Quality-Check is created. The setting is read exactly once, when the first exception
+ * class is initialized, and is kept in a {@code static final} field afterwards, so that the JIT compiler can fold it
+ * into a constant.
+ * 
+ * <p>
+ * The Java 6 API offers no way to capture only some frames without walking the whole stack. To limit the depth of
+ * all stack traces of a JVM use the HotSpot option {@code -XX:MaxJavaStackTraceDepth=<n>} instead.
+ * 
+ * @author André Rouél
+ */
+public final class StackTraces {
+
+	/**
+	 * Name of the system property to switch off the capturing of stack traces
+	 */
+	public static final String PROPERTY_CAPTURE_STACK_TRACE = "net.sf.qualitycheck.exception.captureStackTrace";
+
+	/**
+	 * Setting which has been made programmatically or {@code null} if the system property should be used
+	 */
+	@Nullable
+	private static Boolean configured;
+
+	/**
+	 * Indicates that the setting has been read and cannot be changed anymore
+	 */
+	private static boolean resolved;
+
+	/**
+	 * Reads the system property {@link #PROPERTY_CAPTURE_STACK_TRACE}. Only the value {@code false} (ignoring case)
+	 * turns off the capturing of stack traces.
+	 * 
+	 * @return {@code false} if the system property is set to {@code false}, otherwise {@code true}
+	 */
+	private static boolean readSystemProperty() {
+		String value;
+		try {
+			value = System.getProperty(PROPERTY_CAPTURE_STACK_TRACE);
+		} catch (final SecurityException e) {
+			value = null;
+		}
+		return !"false".equalsIgnoreCase(value);
+	}
+
+	/**
+	 * Returns whether exceptions of Quality-Check capture stack traces. After calling this method the setting cannot
+	 * be changed anymore.
+	 * 
+	 * @return {@code true} if stack traces will be captured, otherwise {@code false}
+	 */
+	public static synchronized boolean isCaptureEnabled() {
+		resolved = true;
+		if (configured == null) {
+			configured = Boolean.valueOf(readSystemProperty());
+		}
+		return configured.booleanValue();
+	}
+
+	/**
+	 * Returns whether the setting has already been read and therefore cannot be changed anymore.
+	 * 
+	 * @return {@code true} if the setting is fixed, otherwise {@code false}
+	 */
+	public static synchronized boolean isResolved() {
+		return resolved;
+	}
+
+	/**
+	 * Determines whether exceptions of Quality-Check should capture stack traces. This setting takes precedence over
+	 * the system property {@link #PROPERTY_CAPTURE_STACK_TRACE}, but it must be made before the first exception of
+	 * Quality-Check is created, typically at the very beginning of the {@code main} method.
+	 * 
+	 * @param captureEnabled
+	 *            {@code true} to capture stack traces, {@code false} to skip them
+	 * @throws IllegalStateException
+	 *             if the setting has already been read
+	 */
+	public static synchronized void setCaptureEnabled(final boolean captureEnabled) {
+		if (resolved) {
+			throw new IllegalStateException("The capturing of stack traces has already been determined and cannot be changed anymore.");
+		}
+		configured = Boolean.valueOf(captureEnabled);
+	}
+
+	/**
+	 * <strong>Attention:</strong> This class is not intended to create objects from it.
+	 */
+	private StackTraces() {
+		// This class is not intended to create objects from it.
+	}
+
+}
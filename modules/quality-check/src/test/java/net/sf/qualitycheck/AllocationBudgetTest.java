@@ -0,0 +1,447 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.regex.Pattern;
+
+import javax.annotation.Resource;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Measures the bytes allocated by a success-path call of every public method of {@link Check},
+ * {@link ConditionalCheck} and {@link NumberInRange} and fails if a method exceeds its declared allocation budget.
+ *
+ * <p>
+ * Methods are invoked reflectively with prebuilt arguments, so the measured bytes contain neither the allocation of
+ * varargs arrays at the call site nor the boxing of arguments. The boxing of the return value by reflection is
+ * calibrated away by invoking an echo method with the same return type and value. Every method has a budget of zero
+ * bytes per call unless it is listed in {@link #BUDGETS}.
+ *
+ * <p>
+ * The test is skipped if the running JVM cannot measure the allocated bytes of a thread.
+ */
+public class AllocationBudgetTest {
+
+	@Resource
+	private static final class Annotated {
+	}
+
+	/**
+	 * An {@code Iterable} which is not a {@code Collection}, so that checks have to iterate over it.
+	 */
+	private static final class PlainIterable implements Iterable<String> {
+
+		private final List<String> elements = Arrays.asList("a", "b", "c");
+
+		@Override
+		public Iterator<String> iterator() {
+			return elements.iterator();
+		}
+
+	}
+
+	private static final Charset ASCII = Charset.forName("US-ASCII");
+
+	/**
+	 * Allowed bytes per call for methods which are known to allocate on the success path, keyed by method name and
+	 * simple names of the parameter types. The budgets of {@code ConditionalCheck} methods are looked up without the
+	 * leading {@code condition}.
+	 */
+	private static final Map<String, Integer> BUDGETS = new HashMap<String, Integer>();
+
+	private static final int MEASUREMENT_CALLS = 10000;
+
+	/**
+	 * The minimum of several rounds is taken, so that allocations of the JIT compiler or of other infrastructure of the
+	 * virtual machine do not leak into the result.
+	 */
+	private static final int MEASUREMENT_ROUNDS = 3;
+
+	private static final int WARMUP_CALLS = 2000;
+
+	private static com.sun.management.ThreadMXBean threads;
+
+	static {
+		// a non-collection Iterable has to be asked for an iterator
+		budget(48, "containsAll(AllowedValues, Iterable)", "containsAll(AllowedValues, Iterable, String)", "noNullElements(Iterable)",
+				"noNullElements(Iterable, String)", "noNullElements(Iterable, Executor)", "noNullElements(Iterable, Executor, String)",
+				"notEmpty(Iterable)", "notEmpty(Iterable, String)");
+
+		// a Matcher with its group and local arrays
+		budget(256, "matchesPattern(Pattern, CharSequence)", "matchesPattern(Pattern, CharSequence, String)",
+				"matchesPattern(String, CharSequence)", "matchesPattern(String, CharSequence, String)");
+
+		// a Matcher and the character view of the buffer
+		budget(288, "matchesPattern(Pattern, ByteBuffer)", "matchesPattern(Pattern, ByteBuffer, String)",
+				"matchesPattern(String, ByteBuffer)", "matchesPattern(String, ByteBuffer, String)");
+
+		// the returned value type
+		budget(16, "nonEmptyString(String)", "nonEmptyString(String, String)", "nonNegativeInt(int)", "nonNegativeInt(int, String)");
+		budget(24, "matchedString(CompiledPattern, String)", "matchedString(CompiledPattern, String, String)");
+
+		// the returned list and the snapshot of its elements
+		budget(56, "nonNullList(List)", "nonNullList(List, String)");
+	}
+
+	private static Object[] arguments(final Method method) {
+		final String name = method.getName();
+		final Class<?>[] types = method.getParameterTypes();
+		final Object[] args = new Object[types.length];
+		final long[] numbers = numbers(name, types);
+		int number = 0;
+		for (int i = 0; i < types.length; i++) {
+			final Class<?> type = types[i];
+			if (type == boolean.class) {
+				args[i] = !name.equals("notEmpty") && !(name.equals("notEquals") && i == 1);
+			} else if (type.isPrimitive()) {
+				args[i] = number(type, numbers[number++]);
+			} else if (type.isArray() && type.getComponentType().isPrimitive()) {
+				args[i] = array(type.getComponentType(), name.equals("positionIndex") ? new long[] { 0, 1, 2 } : new long[] { 1, 2,
+						3 });
+			} else if (type == String.class) {
+				args[i] = i > (name.equals("matchedString") ? 1 : 0) ? "name" : name.equals("matchesPattern") ? "\\d+" : "42";
+			} else if (type == CharSequence.class) {
+				args[i] = "42";
+			} else if (type == ByteBuffer.class) {
+				args[i] = ByteBuffer.wrap("42".getBytes(ASCII));
+			} else if (type == Pattern.class) {
+				args[i] = Pattern.compile("\\d+");
+			} else if (type == CompiledPattern.class) {
+				args[i] = CompiledPattern.compile("\\d+");
+			} else if (type == Object[].class) {
+				args[i] = new Object[] { "a", "b", "c" };
+			} else if (type == Collection.class || type == List.class) {
+				args[i] = new ArrayList<String>(Arrays.asList("a", "b", "c"));
+			} else if (type == Iterable.class) {
+				args[i] = new PlainIterable();
+			} else if (type == Map.class) {
+				args[i] = Collections.singletonMap("a", "b");
+			} else if (type == Executor.class) {
+				args[i] = new Executor() {
+					@Override
+					public void execute(final Runnable command) {
+						command.run();
+					}
+				};
+			} else if (type == DescriptionSupplier.class) {
+				args[i] = new DescriptionSupplier() {
+					@Override
+					public String get() {
+						return "description";
+					}
+				};
+			} else if (type == ExceptionFactory.class) {
+				args[i] = new ExceptionFactory<IllegalStateException>() {
+					@Override
+					public IllegalStateException create(final String message) {
+						return new IllegalStateException(message);
+					}
+				};
+			} else if (type == AllowedInts.class) {
+				args[i] = AllowedInts.of(1, 2, 3);
+			} else if (type == AllowedLongs.class) {
+				args[i] = AllowedLongs.of(1, 2, 3);
+			} else if (type == AllowedValues.class) {
+				args[i] = AllowedValues.of(Arrays.asList("a", "b", "c"));
+			} else if (type == Class.class) {
+				args[i] = classArgument(name, i);
+			} else if (type == Comparable.class) {
+				args[i] = Integer.valueOf((int) numbers[number++]);
+			} else if (type == Object.class) {
+				args[i] = objectArgument(name, i);
+			} else if (type == Number.class) {
+				args[i] = Integer.valueOf(42);
+			} else if (type == java.math.BigInteger.class) {
+				args[i] = i == 1 ? NumberInRange.INTEGER_MIN : NumberInRange.INTEGER_MAX;
+			} else if (type == java.math.BigDecimal.class) {
+				args[i] = i == 1 ? NumberInRange.DOUBLE_MIN : NumberInRange.DOUBLE_MAX;
+			} else {
+				throw new IllegalStateException("No success-path argument for " + signature(method));
+			}
+		}
+		return args;
+	}
+
+	private static Object array(final Class<?> componentType, final long[] values) {
+		final Object array = Array.newInstance(componentType, values.length);
+		for (int i = 0; i < values.length; i++) {
+			Array.set(array, i, number(componentType, values[i]));
+		}
+		return array;
+	}
+
+	private static void assertWithinBudget(final Class<?> type) throws Exception {
+		final StringBuilder violations = new StringBuilder();
+		int measured = 0;
+		for (final Method method : publicStaticMethods(type)) {
+			final boolean conditional = type == ConditionalCheck.class;
+			final Method target = conditional ? counterpart(method) : method;
+			final Object[] targetArgs = arguments(target);
+			final Object[] args;
+			if (conditional) {
+				args = new Object[targetArgs.length + 1];
+				args[0] = Boolean.TRUE;
+				System.arraycopy(targetArgs, 0, args, 1, targetArgs.length);
+			} else {
+				args = targetArgs;
+			}
+
+			try {
+				method.invoke(null, args);
+			} catch (final InvocationTargetException e) {
+				throw new AssertionError(String.format("%s.%s fails with the success-path arguments %s: %s", type.getSimpleName(),
+						signature(method), Arrays.deepToString(args), e.getCause()));
+			}
+			final long bytes = bytesPerCall(method, args) - reflectionOverhead(method, args);
+			final String key = signature(target);
+			final int budget = BUDGETS.containsKey(key) ? BUDGETS.get(key) : 0;
+			if (bytes > budget) {
+				violations.append(String.format("%n  %s.%s allocates %d bytes per call, but its budget is %d bytes", type.getSimpleName(),
+						signature(method), bytes, budget));
+			}
+			measured++;
+		}
+		Assert.assertTrue(measured > 0);
+		if (violations.length() > 0) {
+			Assert.fail("Allocation budget exceeded:" + violations);
+		}
+	}
+
+	private static void budget(final int bytes, final String... signatures) {
+		for (final String signature : signatures) {
+			BUDGETS.put(signature, bytes);
+		}
+	}
+
+	private static long bytesPerCall(final Method method, final Object[] args) throws Exception {
+		long bytes = Long.MAX_VALUE;
+		for (final long round : bytesPerCallPerRound(method, args)) {
+			bytes = Math.min(bytes, round);
+		}
+		return bytes;
+	}
+
+	private static long[] bytesPerCallPerRound(final Method method, final Object[] args) throws Exception {
+		for (int i = 0; i < WARMUP_CALLS; i++) {
+			method.invoke(null, args);
+		}
+		final long threadId = Thread.currentThread().getId();
+		final long[] rounds = new long[MEASUREMENT_ROUNDS];
+		for (int round = 0; round < MEASUREMENT_ROUNDS; round++) {
+			final long before = threads.getThreadAllocatedBytes(threadId);
+			for (int i = 0; i < MEASUREMENT_CALLS; i++) {
+				method.invoke(null, args);
+			}
+			final long after = threads.getThreadAllocatedBytes(threadId);
+			rounds[round] = (after - before) / MEASUREMENT_CALLS;
+		}
+		return rounds;
+	}
+
+	private static Class<?> classArgument(final String name, final int index) {
+		if (name.equals("hasAnnotation")) {
+			return index == 0 ? Annotated.class : Resource.class;
+		} else if (name.equals("stateIsTrue")) {
+			return IllegalStateException.class;
+		} else if (name.equals("isNumber")) {
+			return Integer.class;
+		}
+		return String.class;
+	}
+
+	private static Method counterpart(final Method conditional) throws NoSuchMethodException {
+		final Class<?>[] types = conditional.getParameterTypes();
+		return Check.class.getMethod(conditional.getName(), Arrays.copyOfRange(types, 1, types.length));
+	}
+
+	static boolean echo(final boolean value) {
+		return value;
+	}
+
+	static byte echo(final byte value) {
+		return value;
+	}
+
+	static char echo(final char value) {
+		return value;
+	}
+
+	static double echo(final double value) {
+		return value;
+	}
+
+	static float echo(final float value) {
+		return value;
+	}
+
+	static int echo(final int value) {
+		return value;
+	}
+
+	static long echo(final long value) {
+		return value;
+	}
+
+	static Object echo(final Object value) {
+		return value;
+	}
+
+	static short echo(final short value) {
+		return value;
+	}
+
+	private static Object number(final Class<?> type, final long value) {
+		if (type == byte.class) {
+			return (byte) value;
+		} else if (type == char.class) {
+			return (char) ('a' + value);
+		} else if (type == double.class) {
+			return (double) value;
+		} else if (type == float.class) {
+			return (float) value;
+		} else if (type == int.class) {
+			return (int) value;
+		} else if (type == long.class) {
+			return value;
+		} else if (type == short.class) {
+			return (short) value;
+		}
+		throw new IllegalStateException("Unsupported type " + type);
+	}
+
+	/**
+	 * Returns the values of the numeric (and {@code Comparable}) parameters of a method in declaration order, so that the
+	 * check succeeds.
+	 */
+	private static long[] numbers(final String name, final Class<?>[] types) {
+		if (name.equals("allInRange")) {
+			return types.length >= 5 ? new long[] { 0, 3, 0, 10 } : new long[] { 0, 10 };
+		} else if (name.equals("between") || name.equals("inRange")) {
+			return new long[] { 5, 0, 10 };
+		} else if (name.equals("equals")) {
+			return new long[] { 5, 5 };
+		} else if (name.equals("greaterOrEqualThan") || name.equals("greaterThan") || name.equals("notEquals")) {
+			return new long[] { 5, 6 };
+		} else if (name.equals("lesserThan")) {
+			return new long[] { 6, 5 };
+		} else if (name.equals("notPositive")) {
+			return new long[] { -1 };
+		} else if (name.equals("positionIndex")) {
+			return types[0].isArray() ? types.length >= 4 ? new long[] { 0, 3, 3 } : new long[] { 3 } : new long[] { 1, 3 };
+		} else if (name.equals("range")) {
+			return new long[] { 0, 1, 3 };
+		} else if (name.equals("notNaN") || name.equals("notNegative")) {
+			return types[0].isArray() ? new long[] { 0, 3 } : new long[] { 1 };
+		}
+		return new long[] { 1, 2, 3, 4 };
+	}
+
+	private static Object objectArgument(final String name, final int index) {
+		if (name.equals("isNull")) {
+			return null;
+		} else if (name.equals("contains")) {
+			return "b";
+		} else if (name.equals("notEquals") && index == 1) {
+			return "other";
+		}
+		return "value";
+	}
+
+	private static List<Method> publicStaticMethods(final Class<?> type) {
+		final List<Method> methods = new ArrayList<Method>();
+		for (final Method method : type.getDeclaredMethods()) {
+			final int modifiers = method.getModifiers();
+			if (Modifier.isPublic(modifiers) && Modifier.isStatic(modifiers) && !method.isSynthetic()) {
+				methods.add(method);
+			}
+		}
+		return methods;
+	}
+
+	/**
+	 * Measures what the reflective invocation itself allocates for the returned value, which is boxed by reflection for
+	 * primitive return types. The JIT compiler may eliminate this boxing for the echo method in some rounds but not for
+	 * the measured method, therefore the largest value of all rounds is used.
+	 */
+	private static long reflectionOverhead(final Method method, final Object[] args) throws Exception {
+		final Class<?> returnType = method.getReturnType();
+		if (!returnType.isPrimitive() || returnType == void.class) {
+			return 0;
+		}
+		final Method echo = AllocationBudgetTest.class.getDeclaredMethod("echo", returnType);
+		long bytes = 0;
+		for (final long round : bytesPerCallPerRound(echo, new Object[] { method.invoke(null, args) })) {
+			bytes = Math.max(bytes, round);
+		}
+		return bytes;
+	}
+
+	@BeforeClass
+	public static void setUp() {
+		final java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+		threads = (com.sun.management.ThreadMXBean) bean;
+		Assume.assumeTrue(threads.isThreadAllocatedMemorySupported());
+		if (!threads.isThreadAllocatedMemoryEnabled()) {
+			threads.setThreadAllocatedMemoryEnabled(true);
+		}
+	}
+
+	private static String signature(final Method method) {
+		final StringBuilder builder = new StringBuilder(method.getName()).append('(');
+		final Class<?>[] types = method.getParameterTypes();
+		for (int i = 0; i < types.length; i++) {
+			builder.append(i > 0 ? ", " : "").append(types[i].getSimpleName());
+		}
+		return builder.append(')').toString();
+	}
+
+	@Test
+	public void check() throws Exception {
+		assertWithinBudget(Check.class);
+	}
+
+	@Test
+	public void conditionalCheck() throws Exception {
+		assertWithinBudget(ConditionalCheck.class);
+	}
+
+	@Test
+	public void numberInRange() throws Exception {
+		assertWithinBudget(NumberInRange.class);
+	}
+
+}
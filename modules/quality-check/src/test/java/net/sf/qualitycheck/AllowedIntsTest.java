@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AllowedIntsTest {
+
+	@Test
+	public void contains_dense() {
+		final AllowedInts allowed = AllowedInts.of(10, 12, 11, 74, 10);
+		Assert.assertEquals(4, allowed.size());
+		Assert.assertArrayEquals(new int[] { 10, 11, 12, 74 }, allowed.toArray());
+		for (int value = 0; value < 100; value++) {
+			Assert.assertEquals(value >= 10 && value <= 12 || value == 74, allowed.contains(value));
+		}
+	}
+
+	@Test
+	public void contains_extremes() {
+		final AllowedInts allowed = AllowedInts.of(Integer.MIN_VALUE, Integer.MAX_VALUE);
+		Assert.assertTrue(allowed.contains(Integer.MIN_VALUE));
+		Assert.assertTrue(allowed.contains(Integer.MAX_VALUE));
+		Assert.assertFalse(allowed.contains(0));
+		Assert.assertFalse(allowed.contains(Integer.MIN_VALUE + 1));
+	}
+
+	@Test
+	public void contains_sparse() {
+		final AllowedInts allowed = AllowedInts.of(-1000000, 7, 1000000);
+		Assert.assertTrue(allowed.contains(-1000000));
+		Assert.assertTrue(allowed.contains(7));
+		Assert.assertTrue(allowed.contains(1000000));
+		Assert.assertFalse(allowed.contains(8));
+		Assert.assertFalse(allowed.contains(1000001));
+	}
+
+	@Test
+	public void of_copiesValues() {
+		final int[] values = { 1, 2 };
+		final AllowedInts allowed = AllowedInts.of(values);
+		values[0] = 3;
+		Assert.assertTrue(allowed.contains(1));
+		Assert.assertFalse(allowed.contains(3));
+		Assert.assertEquals("AllowedInts[1, 2]", allowed.toString());
+	}
+
+	@Test
+	public void of_empty() {
+		final AllowedInts allowed = AllowedInts.of();
+		Assert.assertEquals(0, allowed.size());
+		Assert.assertFalse(allowed.contains(0));
+		Assert.assertFalse(allowed.contains(-1));
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void of_withNull() {
+		AllowedInts.of((int[]) null);
+	}
+
+}
@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AllowedLongsTest {
+
+	@Test
+	public void contains_dense() {
+		final AllowedLongs allowed = AllowedLongs.of(5000000000L, 5000000002L, 5000000001L, 5000000000L);
+		Assert.assertEquals(3, allowed.size());
+		Assert.assertArrayEquals(new long[] { 5000000000L, 5000000001L, 5000000002L }, allowed.toArray());
+		for (long value = 4999999990L; value < 5000000010L; value++) {
+			Assert.assertEquals(value >= 5000000000L && value <= 5000000002L, allowed.contains(value));
+		}
+	}
+
+	@Test
+	public void contains_extremes() {
+		final AllowedLongs allowed = AllowedLongs.of(Long.MIN_VALUE, Long.MAX_VALUE);
+		Assert.assertTrue(allowed.contains(Long.MIN_VALUE));
+		Assert.assertTrue(allowed.contains(Long.MAX_VALUE));
+		Assert.assertFalse(allowed.contains(0));
+		Assert.assertFalse(allowed.contains(Long.MAX_VALUE - 1));
+	}
+
+	@Test
+	public void contains_sparse() {
+		final AllowedLongs allowed = AllowedLongs.of(-1L << 40, 7, 1L << 40);
+		Assert.assertTrue(allowed.contains(-1L << 40));
+		Assert.assertTrue(allowed.contains(7));
+		Assert.assertTrue(allowed.contains(1L << 40));
+		Assert.assertFalse(allowed.contains(8));
+	}
+
+	@Test
+	public void of_copiesValues() {
+		final long[] values = { 1, 2 };
+		final AllowedLongs allowed = AllowedLongs.of(values);
+		values[0] = 3;
+		Assert.assertTrue(allowed.contains(1));
+		Assert.assertFalse(allowed.contains(3));
+		Assert.assertEquals("AllowedLongs[1, 2]", allowed.toString());
+	}
+
+	@Test
+	public void of_empty() {
+		final AllowedLongs allowed = AllowedLongs.of();
+		Assert.assertEquals(0, allowed.size());
+		Assert.assertFalse(allowed.contains(0));
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void of_withNull() {
+		AllowedLongs.of((long[]) null);
+	}
+
+}
@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+import net.sf.qualitycheck.exception.IllegalNullElementsException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AllowedValuesTest {
+
+	private enum Letter {
+		A, B, C
+	}
+
+	private enum Digit {
+		ONE
+	}
+
+	@Test
+	public void contains_enums() {
+		final AllowedValues<Letter> letters = AllowedValues.of(Arrays.asList(Letter.C, Letter.A, Letter.A));
+		Assert.assertEquals(EnumSet.of(Letter.A, Letter.C), letters.values());
+		Assert.assertEquals(2, letters.size());
+		Assert.assertTrue(letters.contains(Letter.A));
+		Assert.assertFalse(letters.contains(Letter.B));
+		Assert.assertFalse(letters.contains(Digit.ONE));
+		Assert.assertFalse(letters.contains(null));
+	}
+
+	@Test
+	public void contains_mixedEnums() {
+		final List<Enum<?>> values = new ArrayList<Enum<?>>();
+		values.add(Letter.A);
+		values.add(Digit.ONE);
+		final AllowedValues<Enum<?>> allowed = AllowedValues.of(values);
+		Assert.assertTrue(allowed.contains(Letter.A));
+		Assert.assertTrue(allowed.contains(Digit.ONE));
+		Assert.assertFalse(allowed.contains(Letter.B));
+	}
+
+	@Test
+	public void contains_strings() {
+		final List<String> codes = new ArrayList<String>();
+		for (int i = 0; i < 10000; i++) {
+			codes.add("code" + i);
+		}
+		final AllowedValues<String> allowed = AllowedValues.of(codes);
+		Assert.assertEquals(10000, allowed.size());
+		Assert.assertTrue(allowed.contains("code9999"));
+		Assert.assertFalse(allowed.contains("code10000"));
+		Assert.assertFalse(allowed.contains(null));
+	}
+
+	@Test
+	public void of_copiesValues() {
+		final List<String> codes = new ArrayList<String>(Arrays.asList("a", "b"));
+		final AllowedValues<String> allowed = AllowedValues.of(codes);
+		codes.add("c");
+		Assert.assertFalse(allowed.contains("c"));
+		Assert.assertEquals("AllowedValues[a, b]", allowed.toString());
+	}
+
+	@Test
+	public void of_empty() {
+		final AllowedValues<Object> allowed = AllowedValues.of(Collections.emptyList());
+		Assert.assertEquals(0, allowed.size());
+		Assert.assertFalse(allowed.contains("a"));
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void of_withNull() {
+		AllowedValues.of(null);
+	}
+
+	@Test(expected = IllegalNullElementsException.class)
+	public void of_withNullElement() {
+		AllowedValues.of(Arrays.asList("a", null));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void values_isUnmodifiable() {
+		AllowedValues.of(Arrays.asList("a")).values().add("b");
+	}
+
+}
@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.lang.reflect.Constructor;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ArrayScanTest {
+
+	private static double[] doubles(final int length) {
+		final double[] values = new double[length];
+		for (int i = 0; i < length; i++) {
+			values[i] = i;
+		}
+		return values;
+	}
+
+	private static int[] ints(final int length) {
+		final int[] values = new int[length];
+		for (int i = 0; i < length; i++) {
+			values[i] = i;
+		}
+		return values;
+	}
+
+	@Test
+	public void giveMeCoverageForMyPrivateConstructor() throws Exception {
+		// reduces only some noise in coverage report
+		final Constructor<ArrayScan> constructor = ArrayScan.class.getDeclaredConstructor();
+		constructor.setAccessible(true);
+		constructor.newInstance();
+	}
+
+	@Test
+	public void indexOfNaN_everyPosition() {
+		for (int length = 0; length < 3 * ArrayScan.BLOCK_SIZE; length++) {
+			Assert.assertEquals(-1, ArrayScan.indexOfNaN(doubles(length), 0, length));
+			for (int pos = 0; pos < length; pos++) {
+				final double[] values = doubles(length);
+				values[pos] = Double.NaN;
+				Assert.assertEquals(pos, ArrayScan.indexOfNaN(values, 0, length));
+				final float[] floats = new float[length];
+				floats[pos] = Float.NaN;
+				Assert.assertEquals(pos, ArrayScan.indexOfNaN(floats, 0, length));
+			}
+		}
+	}
+
+	@Test
+	public void indexOfNaN_firstOfSeveral() {
+		final double[] values = doubles(40);
+		values[11] = Double.NaN;
+		values[13] = Double.NaN;
+		values[30] = Double.NaN;
+		Assert.assertEquals(11, ArrayScan.indexOfNaN(values, 0, 40));
+		Assert.assertEquals(13, ArrayScan.indexOfNaN(values, 12, 40));
+		Assert.assertEquals(-1, ArrayScan.indexOfNaN(values, 14, 30));
+	}
+
+	@Test
+	public void indexOfNegative_everyPosition() {
+		for (int length = 0; length < 3 * ArrayScan.BLOCK_SIZE; length++) {
+			Assert.assertEquals(-1, ArrayScan.indexOfNegative(ints(length), 0, length));
+			for (int pos = 0; pos < length; pos++) {
+				final int[] values = ints(length);
+				values[pos] = Integer.MIN_VALUE;
+				Assert.assertEquals(pos, ArrayScan.indexOfNegative(values, 0, length));
+				final long[] longs = new long[length];
+				longs[pos] = -1L;
+				Assert.assertEquals(pos, ArrayScan.indexOfNegative(longs, 0, length));
+				final double[] doubles = doubles(length);
+				doubles[pos] = -Double.MIN_VALUE;
+				Assert.assertEquals(pos, ArrayScan.indexOfNegative(doubles, 0, length));
+			}
+		}
+	}
+
+	@Test
+	public void indexOfNegative_negativeZeroAndNaN() {
+		Assert.assertEquals(-1, ArrayScan.indexOfNegative(new double[] { -0.0, Double.NaN }, 0, 2));
+	}
+
+	@Test
+	public void indexOfNegative_slice() {
+		final int[] values = { -1, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, -1 };
+		Assert.assertEquals(-1, ArrayScan.indexOfNegative(values, 1, 12));
+		Assert.assertEquals(12, ArrayScan.indexOfNegative(values, 1, 13));
+	}
+
+	@Test
+	public void indexOfNotInRange_bounds() {
+		final int[] values = ints(20);
+		Assert.assertEquals(-1, ArrayScan.indexOfNotInRange(values, 0, 20, 0, 19));
+		Assert.assertEquals(19, ArrayScan.indexOfNotInRange(values, 0, 20, 0, 18));
+		Assert.assertEquals(0, ArrayScan.indexOfNotInRange(values, 0, 20, 1, 19));
+		Assert.assertEquals(0, ArrayScan.indexOfNotInRange(values, 0, 20, 5, 4));
+	}
+
+	@Test
+	public void indexOfNotInRange_double_NaN() {
+		final double[] values = doubles(17);
+		values[16] = Double.NaN;
+		Assert.assertEquals(16, ArrayScan.indexOfNotInRange(values, 0, 17, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY));
+	}
+
+	@Test
+	public void indexOfNotInRange_long() {
+		final long[] values = { 1, 2, 3, 4, 5, 6, 7, 8, Long.MAX_VALUE };
+		Assert.assertEquals(8, ArrayScan.indexOfNotInRange(values, 0, 9, 1, Long.MAX_VALUE - 1));
+		Assert.assertEquals(-1, ArrayScan.indexOfNotInRange(values, 0, 8, 1, 8));
+	}
+
+}
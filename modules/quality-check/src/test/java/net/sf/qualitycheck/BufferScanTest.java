@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.lang.reflect.Constructor;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BufferScanTest {
+
+	private static byte[] digits(final int length) {
+		final byte[] bytes = new byte[length];
+		for (int i = 0; i < length; i++) {
+			bytes[i] = (byte) ('0' + i % 10);
+		}
+		return bytes;
+	}
+
+	private static ByteBuffer direct(final byte[] bytes) {
+		final ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+		buffer.put(bytes).flip();
+		return buffer;
+	}
+
+	@Test
+	public void giveMeCoverageForMyPrivateConstructor() throws Exception {
+		// reduces only some noise in coverage report
+		final Constructor<BufferScan> constructor = BufferScan.class.getDeclaredConstructor();
+		constructor.setAccessible(true);
+		constructor.newInstance();
+	}
+
+	@Test
+	public void indexOfNonDigit_buffer_doesNotChangePosition() {
+		final ByteBuffer buffer = direct("x0123".getBytes());
+		buffer.position(1);
+		Assert.assertEquals(-1, BufferScan.indexOfNonDigit(buffer));
+		Assert.assertEquals(1, buffer.position());
+		Assert.assertEquals(5, buffer.limit());
+	}
+
+	@Test
+	public void indexOfNonDigit_buffer_empty() {
+		Assert.assertEquals(0, BufferScan.indexOfNonDigit(ByteBuffer.allocate(0)));
+		Assert.assertEquals(0, BufferScan.indexOfNonDigit(ByteBuffer.allocateDirect(0)));
+	}
+
+	@Test
+	public void indexOfNonDigit_buffer_everyPosition() {
+		for (int length = 1; length < 3 * 8 + 2; length++) {
+			Assert.assertEquals(-1, BufferScan.indexOfNonDigit(ByteBuffer.wrap(digits(length))));
+			Assert.assertEquals(-1, BufferScan.indexOfNonDigit(direct(digits(length))));
+			for (int pos = 0; pos < length; pos++) {
+				for (final byte illegal : new byte[] { '/', ':', ' ', 'a', (byte) 0xB0, 0 }) {
+					final byte[] bytes = digits(length);
+					bytes[pos] = illegal;
+					Assert.assertEquals(pos, BufferScan.indexOfNonDigit(ByteBuffer.wrap(bytes)));
+					Assert.assertEquals(pos, BufferScan.indexOfNonDigit(ByteBuffer.wrap(bytes).asReadOnlyBuffer()));
+					Assert.assertEquals(pos, BufferScan.indexOfNonDigit(direct(bytes)));
+					Assert.assertEquals(pos, BufferScan.indexOfNonDigit(direct(bytes).order(ByteOrder.LITTLE_ENDIAN)));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void indexOfNonDigit_buffer_slice() {
+		final byte[] bytes = "ab0123456789012345cd".getBytes();
+		final ByteBuffer heap = ByteBuffer.wrap(bytes, 2, 16).slice();
+		Assert.assertEquals(-1, BufferScan.indexOfNonDigit(heap));
+		final ByteBuffer direct = direct(bytes);
+		direct.position(2).limit(18);
+		Assert.assertEquals(-1, BufferScan.indexOfNonDigit(direct));
+		Assert.assertEquals(-1, BufferScan.indexOfNonDigit(direct.slice()));
+		direct.limit(19);
+		Assert.assertEquals(16, BufferScan.indexOfNonDigit(direct));
+		Assert.assertEquals(16, BufferScan.indexOfNonDigit(direct.slice()));
+	}
+
+	@Test
+	public void indexOfNonDigit_chars() {
+		Assert.assertEquals(0, BufferScan.indexOfNonDigit(""));
+		Assert.assertEquals(0, BufferScan.indexOfNonDigit(new StringBuilder()));
+		Assert.assertEquals(-1, BufferScan.indexOfNonDigit("0123"));
+		Assert.assertEquals(2, BufferScan.indexOfNonDigit("01a3"));
+		Assert.assertEquals(-1, BufferScan.indexOfNonDigit(new StringBuilder("0123")));
+		Assert.assertEquals(3, BufferScan.indexOfNonDigit(new StringBuilder("012:")));
+	}
+
+	@Test
+	public void indexOfNonDigit_charBuffer() {
+		final CharBuffer heap = CharBuffer.wrap("ab0123c".toCharArray());
+		heap.position(2).limit(6);
+		Assert.assertEquals(-1, BufferScan.indexOfNonDigit(heap));
+		heap.limit(7);
+		Assert.assertEquals(4, BufferScan.indexOfNonDigit(heap));
+		Assert.assertEquals(4, BufferScan.indexOfNonDigit(heap.slice()));
+		Assert.assertEquals(2, heap.position());
+
+		final CharBuffer readOnly = CharBuffer.wrap("ab0123c");
+		readOnly.position(2);
+		Assert.assertEquals(4, BufferScan.indexOfNonDigit(readOnly));
+		readOnly.limit(6);
+		Assert.assertEquals(-1, BufferScan.indexOfNonDigit(readOnly));
+	}
+
+	@Test
+	public void isDigits_everyByte() {
+		for (int pos = 0; pos < 8; pos++) {
+			for (int b = 0; b < 256; b++) {
+				final long word = 0x3131313131313131L & ~(0xFFL << 8 * pos) | (long) b << 8 * pos;
+				Assert.assertEquals("byte " + b + " at " + pos, b >= '0' && b <= '9', BufferScan.isDigits(word));
+			}
+		}
+	}
+
+}
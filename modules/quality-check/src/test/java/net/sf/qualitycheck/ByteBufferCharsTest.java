@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ByteBufferCharsTest {
+
+	private static ByteBufferChars chars(final String text, final int position) {
+		final ByteBuffer buffer = ByteBuffer.allocateDirect(text.length());
+		for (int i = 0; i < text.length(); i++) {
+			buffer.put((byte) text.charAt(i));
+		}
+		buffer.position(position);
+		return new ByteBufferChars(buffer);
+	}
+
+	@Test
+	public void charAt() {
+		final ByteBufferChars chars = chars("xyABé", 2);
+		Assert.assertEquals(3, chars.length());
+		Assert.assertEquals('A', chars.charAt(0));
+		Assert.assertEquals('é', chars.charAt(2));
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void charAt_negative() {
+		chars("abc", 0).charAt(-1);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void charAt_tooLarge() {
+		chars("abc", 1).charAt(2);
+	}
+
+	@Test
+	public void copy() {
+		final ByteBufferChars chars = chars("xyABCD", 2);
+		Assert.assertEquals("AB", chars.copy(2));
+		Assert.assertEquals("ABCD", chars.copy(10));
+		Assert.assertEquals("", chars.copy(0));
+	}
+
+	@Test
+	public void subSequence() {
+		final CharSequence sub = chars("xyABCD", 2).subSequence(1, 3);
+		Assert.assertEquals(2, sub.length());
+		Assert.assertEquals("BC", sub.toString());
+		Assert.assertEquals("", sub.subSequence(2, 2).toString());
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void subSequence_fromGreaterThanTo() {
+		chars("abc", 0).subSequence(2, 1);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void subSequence_negative() {
+		chars("abc", 0).subSequence(-1, 1);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void subSequence_tooLarge() {
+		chars("abc", 1).subSequence(0, 3);
+	}
+
+	@Test
+	public void toString_copiesRemainingBytes() {
+		Assert.assertEquals("ABé", chars("xyABé", 2).toString());
+	}
+
+}
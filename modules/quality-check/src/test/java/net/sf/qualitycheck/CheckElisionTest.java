@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CheckElisionTest {
+
+	/**
+	 * Loads the classes with a fresh class loader, so that the setting will be read again.
+	 */
+	private static ClassLoader newIsolatedClassLoader() {
+		final URL classes = CheckElision.class.getProtectionDomain().getCodeSource().getLocation();
+		return new URLClassLoader(new URL[] { classes }, null);
+	}
+
+	private static void assertThrows(final String exception, final Method method, final Object... args) throws Exception {
+		try {
+			method.invoke(null, args);
+			Assert.fail();
+		} catch (final InvocationTargetException e) {
+			Assert.assertEquals(exception, e.getCause().getClass().getSimpleName());
+		}
+	}
+
+	private static Object notNull(final ClassLoader loader, final Object reference) throws Exception {
+		final Method method = loader.loadClass(Check.class.getName()).getMethod("notNull", Object.class, String.class);
+		try {
+			return method.invoke(null, reference, "reference");
+		} catch (final InvocationTargetException e) {
+			return e.getCause();
+		}
+	}
+
+	@Test
+	public void elided_programmatically() throws Exception {
+		final ClassLoader loader = newIsolatedClassLoader();
+		final Class<?> elision = loader.loadClass(CheckElision.class.getName());
+		final Class<?> family = loader.loadClass(CheckFamily.class.getName());
+		final Method setElided = elision.getMethod("setElided", family, boolean.class);
+		setElided.invoke(null, family.getField("NOT_NULL").get(null), true);
+		setElided.invoke(null, family.getField("RANGE").get(null), true);
+		setElided.invoke(null, family.getField("RANGE").get(null), false);
+		Assert.assertNull(notNull(loader, null));
+		final Method positionIndex = loader.loadClass(Check.class.getName()).getMethod("positionIndex", int.class, int.class);
+		try {
+			positionIndex.invoke(null, 5, 2);
+			Assert.fail();
+		} catch (final InvocationTargetException e) {
+			Assert.assertEquals("IllegalPositionIndexException", e.getCause().getClass().getSimpleName());
+		}
+	}
+
+	@Test
+	public void elided_viaSystemProperty() throws Exception {
+		System.setProperty(CheckElision.PROPERTY_ELIDED_FAMILIES, " not_null , unknown");
+		try {
+			Assert.assertNull(notNull(newIsolatedClassLoader(), null));
+		} finally {
+			System.clearProperty(CheckElision.PROPERTY_ELIDED_FAMILIES);
+		}
+	}
+
+	@Test
+	public void elided_internalGuardsAreStillChecked() throws Exception {
+		System.setProperty(CheckElision.PROPERTY_ELIDED_FAMILIES, "NOT_NULL,RANGE");
+		try {
+			final ClassLoader loader = newIsolatedClassLoader();
+			final Class<?> check = loader.loadClass(Check.class.getName());
+			assertThrows("IllegalRangeException", check.getMethod("notNegative", int[].class, int.class, int.class), new int[] { 1, 2 },
+					2, 1);
+			assertThrows("IllegalRangeException", check.getMethod("notNaN", double[].class, int.class, int.class),
+					new double[] { 1, 2 }, 0, 3);
+			assertThrows("IllegalNullArgumentException", check.getMethod("notEmpty", CharSequence.class, String.class), null, "text");
+			assertThrows("IllegalNullArgumentException", check.getMethod("notNegative", int[].class), (Object) null);
+
+			final Object violations = loader.loadClass(Violations.class.getName()).newInstance();
+			final Method getCode = violations.getClass().getMethod("getCode", int.class);
+			try {
+				getCode.invoke(violations, 0);
+				Assert.fail();
+			} catch (final InvocationTargetException e) {
+				Assert.assertEquals("IllegalPositionIndexException", e.getCause().getClass().getSimpleName());
+			}
+		} finally {
+			System.clearProperty(CheckElision.PROPERTY_ELIDED_FAMILIES);
+		}
+	}
+
+	@Test
+	public void elided_valueTypesAreStillChecked() throws Exception {
+		System.setProperty(CheckElision.PROPERTY_ELIDED_FAMILIES, "NO_NULL_ELEMENTS,NOT_EMPTY,NOT_NULL,PATTERN,RANGE");
+		try {
+			final ClassLoader loader = newIsolatedClassLoader();
+			final Class<?> check = loader.loadClass(Check.class.getName());
+			final Class<?> compiledPattern = loader.loadClass(CompiledPattern.class.getName());
+			final Object digits = compiledPattern.getMethod("compile", String.class).invoke(null, "\\d+");
+			assertThrows("IllegalNullArgumentException", check.getMethod("nonEmptyString", String.class), (Object) null);
+			assertThrows("IllegalEmptyArgumentException", check.getMethod("nonEmptyString", String.class), "");
+			assertThrows("IllegalNullArgumentException", check.getMethod("nonNullList", List.class), (Object) null);
+			assertThrows("IllegalNullElementsException", check.getMethod("nonNullList", List.class), Arrays.asList("a", null));
+			assertThrows("IllegalNullArgumentException", check.getMethod("matchedString", compiledPattern, String.class), digits, null);
+			assertThrows("IllegalPatternArgumentException", check.getMethod("matchedString", compiledPattern, String.class), digits, "a");
+		} finally {
+			System.clearProperty(CheckElision.PROPERTY_ELIDED_FAMILIES);
+		}
+	}
+
+	@Test
+	public void giveMeCoverageForMyPrivateConstructor() throws Exception {
+		// reduces only some noise in coverage report
+		final Constructor<CheckElision> constructor = CheckElision.class.getDeclaredConstructor();
+		constructor.setAccessible(true);
+		constructor.newInstance();
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void isElided_withNull() {
+		CheckElision.isElided(null);
+	}
+
+	@Test
+	public void notElided_byDefault() throws Exception {
+		Check.notNull(new Object());
+		Assert.assertTrue(CheckElision.isResolved());
+		for (final CheckFamily family : CheckFamily.values()) {
+			Assert.assertFalse(CheckElision.isElided(family));
+		}
+		Assert.assertTrue(notNull(newIsolatedClassLoader(), null) instanceof Throwable);
+	}
+
+	@Test
+	public void parse() {
+		Assert.assertEquals(EnumSet.noneOf(CheckFamily.class), CheckElision.parse(null));
+		Assert.assertEquals(EnumSet.noneOf(CheckFamily.class), CheckElision.parse(""));
+		Assert.assertEquals(EnumSet.of(CheckFamily.NOT_EMPTY, CheckFamily.PATTERN), CheckElision.parse("pattern,NOT_EMPTY,,foo"));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void setElided_afterResolution() {
+		Check.notNull(new Object());
+		CheckElision.setElided(CheckFamily.NOT_NULL, true);
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void setElided_withNull() {
+		CheckElision.setElided(null, true);
+	}
+
+}
@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import net.sf.qualitycheck.exception.QualityCheckException;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class CheckFailureListenerTest {
+
+	/**
+	 * Listener which remembers the last failure, registered only within an isolated class loader.
+	 */
+	public static final class Recording implements CheckFailureListener {
+
+		public static volatile String argumentName;
+
+		public static volatile int failures;
+
+		public static volatile Class<?> type;
+
+		@Override
+		public void failed(@Nonnull final Class<? extends QualityCheckException> type, @Nullable final String argumentName) {
+			Recording.type = type;
+			Recording.argumentName = argumentName;
+			failures++;
+		}
+
+	}
+
+	/**
+	 * Listener which fails like one that depends on classes missing at runtime, registered only within an isolated
+	 * class loader.
+	 */
+	public static final class Unlinkable implements CheckFailureListener {
+
+		@Override
+		public void failed(@Nonnull final Class<? extends QualityCheckException> type, @Nullable final String argumentName) {
+			throw new NoClassDefFoundError("jdk/jfr/Event");
+		}
+
+	}
+
+	/**
+	 * Listener which fails with an unchecked exception, registered only within an isolated class loader.
+	 */
+	public static final class Throwing implements CheckFailureListener {
+
+		@Override
+		public void failed(@Nonnull final Class<? extends QualityCheckException> type, @Nullable final String argumentName) {
+			throw new IllegalStateException("listener failed");
+		}
+
+	}
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	private static Object field(final ClassLoader loader, final String name) throws Exception {
+		return loader.loadClass(Recording.class.getName()).getField(name).get(null);
+	}
+
+	private static Throwable invoke(final ClassLoader loader, final String name, final Class<?>[] types, final Object... args)
+			throws Exception {
+		final Method method = loader.loadClass(Check.class.getName()).getMethod(name, types);
+		try {
+			method.invoke(null, args);
+			return null;
+		} catch (final InvocationTargetException e) {
+			return e.getCause();
+		}
+	}
+
+	private static URL location(final Class<?> clazz) {
+		return clazz.getProtectionDomain().getCodeSource().getLocation();
+	}
+
+	/**
+	 * Loads the classes with a fresh class loader which sees the given listener as service provider, so that the
+	 * listener will be looked up again.
+	 */
+	private ClassLoader newIsolatedClassLoader(final String listener) throws IOException {
+		final File services = new File(folder.newFolder(), "META-INF/services");
+		Assert.assertTrue(services.mkdirs());
+		final OutputStream out = new FileOutputStream(new File(services, CheckFailureListener.class.getName()));
+		try {
+			out.write((listener + "\n").getBytes("UTF-8"));
+		} finally {
+			out.close();
+		}
+		final URL provider = services.getParentFile().getParentFile().toURI().toURL();
+		return new URLClassLoader(new URL[] { location(Check.class), location(Recording.class), provider }, null);
+	}
+
+	@Test
+	public void failed_namedArgument() throws Exception {
+		final ClassLoader loader = newIsolatedClassLoader(Recording.class.getName());
+		final Throwable e = invoke(loader, "notNull", new Class<?>[] { Object.class, String.class }, null, "reference");
+		Assert.assertEquals("IllegalNullArgumentException", e.getClass().getSimpleName());
+		Assert.assertSame(e.getClass(), field(loader, "type"));
+		Assert.assertEquals("reference", field(loader, "argumentName"));
+		Assert.assertEquals(1, field(loader, "failures"));
+	}
+
+	@Test
+	public void failed_unnamedArgument() throws Exception {
+		final ClassLoader loader = newIsolatedClassLoader(Recording.class.getName());
+		final Throwable e = invoke(loader, "notNegative", new Class<?>[] { int.class }, -1);
+		Assert.assertEquals("IllegalNegativeArgumentException", e.getClass().getSimpleName());
+		Assert.assertSame(e.getClass(), field(loader, "type"));
+		Assert.assertNull(field(loader, "argumentName"));
+		Assert.assertEquals(1, field(loader, "failures"));
+	}
+
+	@Test
+	public void failed_passedCheckIsNotReported() throws Exception {
+		final ClassLoader loader = newIsolatedClassLoader(Recording.class.getName());
+		Assert.assertNull(invoke(loader, "notNull", new Class<?>[] { Object.class, String.class }, "value", "reference"));
+		Assert.assertEquals(0, field(loader, "failures"));
+	}
+
+	@Test
+	public void throwingListenerIsIgnored() throws Exception {
+		final ClassLoader loader = newIsolatedClassLoader(Throwing.class.getName());
+		final Throwable e = invoke(loader, "notNull", new Class<?>[] { Object.class, String.class }, null, "reference");
+		Assert.assertEquals("IllegalNullArgumentException", e.getClass().getSimpleName());
+	}
+
+	@Test
+	public void unlinkableListenerIsIgnored() throws Exception {
+		final ClassLoader loader = newIsolatedClassLoader(Unlinkable.class.getName());
+		final Throwable e = invoke(loader, "notNull", new Class<?>[] { Object.class, String.class }, null, "reference");
+		Assert.assertEquals("IllegalNullArgumentException", e.getClass().getSimpleName());
+	}
+
+	@Test
+	public void unloadableListenerIsIgnored() throws Exception {
+		final ClassLoader loader = newIsolatedClassLoader("net.sf.qualitycheck.DoesNotExist");
+		final Throwable e = invoke(loader, "notNull", new Class<?>[] { Object.class, String.class }, null, "reference");
+		Assert.assertEquals("IllegalNullArgumentException", e.getClass().getSimpleName());
+		Assert.assertEquals(0, field(loader, "failures"));
+	}
+
+}
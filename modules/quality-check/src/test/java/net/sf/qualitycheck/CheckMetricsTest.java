@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Map;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import net.sf.qualitycheck.exception.IllegalArgumentViolationsException;
+import net.sf.qualitycheck.exception.IllegalNegativeArgumentException;
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CheckMetricsTest {
+
+	/**
+	 * Loads the classes with a fresh class loader, so that the system property will be read again.
+	 */
+	private static ClassLoader newIsolatedClassLoader() {
+		final URL classes = CheckMetrics.class.getProtectionDomain().getCodeSource().getLocation();
+		return new URLClassLoader(new URL[] { classes }, null);
+	}
+
+	@Test
+	public void disabled_byDefault() {
+		Assert.assertFalse(CheckMetrics.getDefault().isEnabled());
+		try {
+			Check.notNull(null, "reference");
+		} catch (final IllegalNullArgumentException e) {
+			// expected
+		}
+		Assert.assertEquals(0, CheckMetrics.getDefault().getTotalFailureCount());
+		Assert.assertEquals(0, CheckMetrics.getDefault().getArgumentNameFailureCount("reference"));
+	}
+
+	@Test
+	public void disabled_recordsNothing() {
+		final CheckMetrics metrics = new CheckMetrics(false, 10);
+		metrics.recordFailure(IllegalNullArgumentException.class);
+		metrics.recordArgumentName("reference");
+		Assert.assertEquals(0, metrics.getTotalFailureCount());
+		Assert.assertTrue(metrics.getFailureCounts().isEmpty());
+		Assert.assertTrue(metrics.getArgumentNameFailureCounts().isEmpty());
+	}
+
+	@Test
+	public void enabled_viaSystemProperty() throws Exception {
+		final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		final ObjectName name = new ObjectName(CheckMetrics.OBJECT_NAME);
+		System.setProperty(CheckMetrics.PROPERTY_ENABLED, "true");
+		try {
+			final ClassLoader loader = newIsolatedClassLoader();
+			final Class<?> check = loader.loadClass(Check.class.getName());
+			final Method notNull = check.getMethod("notNull", Object.class, String.class);
+			for (int i = 0; i < 3; i++) {
+				try {
+					notNull.invoke(null, null, "customer");
+					Assert.fail();
+				} catch (final InvocationTargetException e) {
+					Assert.assertEquals(IllegalNullArgumentException.class.getName(), e.getCause().getClass().getName());
+				}
+			}
+
+			final Class<?> metricsType = loader.loadClass(CheckMetrics.class.getName());
+			final Object metrics = metricsType.getMethod("getDefault").invoke(null);
+			Assert.assertEquals(Boolean.TRUE, metricsType.getMethod("isEnabled").invoke(metrics));
+			Assert.assertEquals(Long.valueOf(3), metricsType.getMethod("getTotalFailureCount").invoke(metrics));
+			Assert.assertEquals(Long.valueOf(3), metricsType.getMethod("getArgumentNameFailureCount", String.class).invoke(metrics,
+					"customer"));
+
+			Assert.assertTrue(server.isRegistered(name));
+			Assert.assertEquals(Long.valueOf(3), server.getAttribute(name, "TotalFailureCount"));
+			server.invoke(name, "reset", null, null);
+			Assert.assertEquals(Long.valueOf(0), server.getAttribute(name, "TotalFailureCount"));
+		} finally {
+			System.clearProperty(CheckMetrics.PROPERTY_ENABLED);
+			if (server.isRegistered(name)) {
+				server.unregisterMBean(name);
+			}
+		}
+	}
+
+	@Test
+	public void recordArgumentName() {
+		final CheckMetrics metrics = new CheckMetrics(true, 10);
+		metrics.recordArgumentName("age");
+		metrics.recordArgumentName("age");
+		metrics.recordArgumentName("name");
+		metrics.recordArgumentName(null);
+		metrics.recordArgumentName("");
+		Assert.assertEquals(2, metrics.getArgumentNameFailureCount("age"));
+		Assert.assertEquals(1, metrics.getArgumentNameFailureCount("name"));
+		Assert.assertEquals(0, metrics.getArgumentNameFailureCount("unknown"));
+		Assert.assertEquals(2, metrics.getArgumentNameFailureCounts().size());
+	}
+
+	@Test
+	public void recordArgumentName_limitsDistinctNames() {
+		final CheckMetrics metrics = new CheckMetrics(true, 2);
+		metrics.recordArgumentName("a");
+		metrics.recordArgumentName("b");
+		metrics.recordArgumentName("c");
+		metrics.recordArgumentName("d");
+		metrics.recordArgumentName("a");
+		final Map<String, Long> counts = metrics.getArgumentNameFailureCounts();
+		Assert.assertEquals(3, counts.size());
+		Assert.assertEquals(Long.valueOf(2), counts.get("a"));
+		Assert.assertEquals(Long.valueOf(1), counts.get("b"));
+		Assert.assertEquals(Long.valueOf(2), counts.get(CheckMetrics.OTHER_ARGUMENT_NAMES));
+	}
+
+	@Test
+	public void recordFailure() {
+		final CheckMetrics metrics = new CheckMetrics(true, 10);
+		metrics.recordFailure(IllegalNullArgumentException.class);
+		metrics.recordFailure(IllegalNullArgumentException.class);
+		metrics.recordFailure(IllegalNegativeArgumentException.class);
+		Assert.assertEquals(2, metrics.getFailureCount(IllegalNullArgumentException.class));
+		Assert.assertEquals(1, metrics.getFailureCount(IllegalNegativeArgumentException.class));
+		Assert.assertEquals(0, metrics.getFailureCount(IllegalArgumentViolationsException.class));
+		Assert.assertEquals(3, metrics.getTotalFailureCount());
+		final Map<String, Long> counts = metrics.getFailureCounts();
+		Assert.assertEquals(Long.valueOf(2), counts.get(IllegalNullArgumentException.class.getName()));
+		Assert.assertEquals(Long.valueOf(1), counts.get(IllegalNegativeArgumentException.class.getName()));
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void recordFailure_typeIsNull() {
+		new CheckMetrics(true, 10).recordFailure(null);
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void getFailureCount_typeIsNull() {
+		new CheckMetrics(true, 10).getFailureCount(null);
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void getArgumentNameFailureCount_nameIsNull() {
+		new CheckMetrics(true, 10).getArgumentNameFailureCount(null);
+	}
+
+	@Test(expected = IllegalNegativeArgumentException.class)
+	public void construct_negativeMaximumArgumentNames() {
+		new CheckMetrics(true, -1);
+	}
+
+	@Test
+	public void reset() {
+		final CheckMetrics metrics = new CheckMetrics(true, 10);
+		metrics.recordFailure(IllegalNullArgumentException.class);
+		metrics.recordArgumentName("age");
+		metrics.reset();
+		Assert.assertEquals(0, metrics.getTotalFailureCount());
+		Assert.assertEquals(0, metrics.getArgumentNameFailureCount("age"));
+	}
+
+}
@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+import net.sf.qualitycheck.exception.IllegalNumberRangeException;
+import net.sf.qualitycheck.exception.IllegalRangeException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CheckTest_allInRange {
+
+	@Test
+	public void allInRange_double_NaN_fail() {
+		try {
+			Check.allInRange(new double[] { 0.5, Double.NaN }, 0.0, 1.0, "ratios");
+			Assert.fail();
+		} catch (final IllegalNumberRangeException e) {
+			Assert.assertEquals("Argument 'ratios[1]' with value 'NaN' must be in the range '0.0' to '1.0'.", e.getMessage());
+		}
+	}
+
+	@Test
+	public void allInRange_double_okay() {
+		final double[] values = { 0.0, 0.25, 1.0 };
+		Assert.assertSame(values, Check.allInRange(values, 0.0, 1.0));
+	}
+
+	@Test
+	public void allInRange_int_fail() {
+		try {
+			Check.allInRange(new int[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11 }, 1, 10);
+			Assert.fail();
+		} catch (final IllegalNumberRangeException e) {
+			Assert.assertEquals("Argument '[10]' with value '11' must be in the range '1' to '10'.", e.getMessage());
+		}
+	}
+
+	@Test
+	public void allInRange_int_okay() {
+		final int[] values = { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 };
+		Assert.assertSame(values, Check.allInRange(values, 1, 10, "values"));
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void allInRange_int_isNull() {
+		Check.allInRange((int[]) null, 1, 10);
+	}
+
+	@Test
+	public void allInRange_int_slice_okay() {
+		final int[] values = { 0, 1, 2, 3, 99 };
+		Assert.assertSame(values, Check.allInRange(values, 1, 4, 1, 3));
+	}
+
+	@Test(expected = IllegalNumberRangeException.class)
+	public void allInRange_int_slice_fail() {
+		Check.allInRange(new int[] { 0, 1, 2, 3, 99 }, 1, 5, 1, 3, "values");
+	}
+
+	@Test(expected = IllegalRangeException.class)
+	public void allInRange_int_slice_invalidRange() {
+		Check.allInRange(new int[] { 1, 2 }, 1, 3, 1, 3);
+	}
+
+	@Test
+	public void allInRange_long_fail() {
+		try {
+			Check.allInRange(new long[] { 5L, -5L }, 0L, Long.MAX_VALUE, "ids");
+			Assert.fail();
+		} catch (final IllegalNumberRangeException e) {
+			Assert.assertEquals("Argument 'ids[1]' with value '-5' must be in the range '0' to '9223372036854775807'.", e.getMessage());
+		}
+	}
+
+	@Test
+	public void allInRange_long_slice_okay() {
+		final long[] values = { -1L, 1L, -1L };
+		Assert.assertSame(values, Check.allInRange(values, 1, 2, 0L, 1L, "values"));
+		Assert.assertSame(values, Check.allInRange(values, 0, 0, 0L, 1L));
+	}
+
+	@Test
+	public void allInRange_double_slice_okay() {
+		final double[] values = { -1.0, 1.0, -1.0 };
+		Assert.assertSame(values, Check.allInRange(values, 1, 2, 0.0, 1.0));
+		Assert.assertSame(values, Check.allInRange(values, 1, 2, 0.0, 1.0, "values"));
+	}
+
+	@Test
+	public void allInRange_long_okay() {
+		final long[] values = { 1L, 2L };
+		Assert.assertSame(values, Check.allInRange(values, 1L, 2L));
+	}
+
+}
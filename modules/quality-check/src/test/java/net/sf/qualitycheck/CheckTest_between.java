@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import net.sf.qualitycheck.exception.IllegalNotInRangeException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CheckTest_between {
+
+	@Test
+	public void between_byte() {
+		Assert.assertEquals((byte) 1, Check.between((byte) 1, (byte) 0, (byte) 1));
+		Assert.assertEquals((byte) -2, Check.between((byte) -2, (byte) -2, (byte) 0, "value"));
+	}
+
+	@Test(expected = IllegalNotInRangeException.class)
+	public void between_byte_outside() {
+		Check.between((byte) 2, (byte) 0, (byte) 1, "value");
+	}
+
+	@Test
+	public void between_char() {
+		Assert.assertEquals('z', Check.between('z', 'a', 'z'));
+		try {
+			Check.between('A', 'a', 'z', "letter");
+			Assert.fail();
+		} catch (final IllegalNotInRangeException e) {
+			Assert.assertEquals("The passed argument 'letter' must be within the range ['a', 'z'], but was 'A'.", e.getMessage());
+		}
+	}
+
+	@Test
+	public void between_double() {
+		Assert.assertEquals(1.0d, Check.between(1.0d, 0.0d, 1.0d), 0.0d);
+		Assert.assertEquals(0.0d, Check.between(0.0d, 0.0d, 1.0d, "value"), 0.0d);
+	}
+
+	@Test(expected = IllegalNotInRangeException.class)
+	public void between_double_NaN() {
+		Check.between(Double.NaN, 0.0d, 1.0d, "value");
+	}
+
+	@Test
+	public void between_float() {
+		Assert.assertEquals(1.0f, Check.between(1.0f, 0.0f, 1.0f), 0.0f);
+		Assert.assertEquals(0.0f, Check.between(0.0f, 0.0f, 1.0f, "value"), 0.0f);
+	}
+
+	@Test(expected = IllegalNotInRangeException.class)
+	public void between_float_NaN() {
+		Check.between(Float.NaN, 0.0f, 1.0f);
+	}
+
+	@Test
+	public void between_int() {
+		Assert.assertEquals(10, Check.between(10, 0, 10));
+		Assert.assertEquals(0, Check.between(0, 0, 10, "count"));
+	}
+
+	@Test
+	public void between_int_outside() {
+		try {
+			Check.between(11, 0, 10);
+			Assert.fail();
+		} catch (final IllegalNotInRangeException e) {
+			Assert.assertEquals("The passed argument must be within the range [0, 10], but was 11.", e.getMessage());
+		}
+	}
+
+	@Test
+	public void between_long() {
+		Assert.assertEquals(Long.MAX_VALUE, Check.between(Long.MAX_VALUE, 0L, Long.MAX_VALUE));
+		Assert.assertEquals(5L, Check.between(5L, 5L, 5L, "value"));
+	}
+
+	@Test(expected = IllegalNotInRangeException.class)
+	public void between_long_outside() {
+		Check.between(-1L, 0L, 10L, "value");
+	}
+
+	@Test
+	public void between_short() {
+		Assert.assertEquals((short) 8, Check.between((short) 8, (short) 0, (short) 8));
+		Assert.assertEquals((short) 0, Check.between((short) 0, (short) 0, (short) 8, "value"));
+	}
+
+	@Test(expected = IllegalNotInRangeException.class)
+	public void between_short_outside() {
+		Check.between((short) 9, (short) 0, (short) 8);
+	}
+
+}
@@ -18,6 +18,7 @@ package net.sf.qualitycheck;
 import java.util.EnumSet;
 
 import net.sf.qualitycheck.exception.IllegalNotContainedArgumentException;
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -30,6 +31,69 @@ public class CheckTest_contains {
 
 	private final EnumSet<Letter> set = EnumSet.of(Letter.A, Letter.D);
 
+	private final AllowedValues<Letter> allowed = AllowedValues.of(set);
+
+	@Test
+	public void contains_allowedInts_isInvalid() {
+		try {
+			Check.contains(AllowedInts.of(200, 404), 500, "status");
+			Assert.fail();
+		} catch (final IllegalNotContainedArgumentException e) {
+			Assert.assertEquals(Integer.valueOf(500), e.getIllegalArgument());
+			Assert.assertEquals("The passed argument 'status' must be contained in a defined collection.", e.getMessage());
+		}
+	}
+
+	@Test
+	public void contains_allowedInts_isValid() {
+		Assert.assertEquals(404, Check.contains(AllowedInts.of(200, 404), 404));
+		Assert.assertEquals(200, Check.contains(AllowedInts.of(200, 404), 200, "status"));
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void contains_allowedInts_withNull() {
+		Check.contains((AllowedInts) null, 1);
+	}
+
+	@Test
+	public void contains_allowedLongs_isInvalid() {
+		try {
+			Check.contains(AllowedLongs.of(1L, 2L), 3L);
+			Assert.fail();
+		} catch (final IllegalNotContainedArgumentException e) {
+			Assert.assertEquals(Long.valueOf(3), e.getIllegalArgument());
+			Assert.assertEquals("The passed argument must be contained in a defined collection.", e.getMessage());
+		}
+	}
+
+	@Test
+	public void contains_allowedLongs_isValid() {
+		Assert.assertEquals(2L, Check.contains(AllowedLongs.of(1L, 2L), 2L));
+		Assert.assertEquals(1L, Check.contains(AllowedLongs.of(1L, 2L), 1L, "id"));
+	}
+
+	@Test
+	public void contains_allowedValues_isInvalid() {
+		try {
+			Check.contains(allowed, Letter.C, "letter");
+			Assert.fail();
+		} catch (final IllegalNotContainedArgumentException e) {
+			Assert.assertEquals(Letter.C, e.getIllegalArgument());
+			Assert.assertEquals("The passed argument 'letter' must be contained in a defined collection.", e.getMessage());
+		}
+	}
+
+	@Test
+	public void contains_allowedValues_isValid() {
+		Assert.assertSame(Letter.A, Check.contains(allowed, Letter.A));
+		Assert.assertSame(Letter.D, Check.contains(allowed, Letter.D, "letter"));
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void contains_allowedValues_withNullNeedle() {
+		Check.contains(allowed, (Letter) null);
+	}
+
 	@Test
 	public void contains_checkReferenceIsSame() {
 		Assert.assertSame(Letter.A, Check.contains(set, Letter.A));
@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.util.Arrays;
+import java.util.List;
+
+import net.sf.qualitycheck.exception.IllegalNotContainedArgumentException;
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CheckTest_containsAll {
+
+	private final AllowedInts ints = AllowedInts.of(1, 2, 3);
+
+	private final AllowedLongs longs = AllowedLongs.of(1L, 2L, 3L);
+
+	private final AllowedValues<String> strings = AllowedValues.of(Arrays.asList("a", "b", "c"));
+
+	@Test
+	public void containsAll_ints_isInvalid() {
+		try {
+			Check.containsAll(ints, new int[] { 1, 2, 4, 5 }, "codes");
+			Assert.fail();
+		} catch (final IllegalNotContainedArgumentException e) {
+			Assert.assertEquals(Integer.valueOf(4), e.getIllegalArgument());
+			Assert.assertEquals("The passed argument 'codes[2]' must be contained in a defined collection.", e.getMessage());
+		}
+	}
+
+	@Test
+	public void containsAll_ints_isValid() {
+		final int[] codes = { 3, 1, 1 };
+		Assert.assertSame(codes, Check.containsAll(ints, codes));
+		Assert.assertSame(codes, Check.containsAll(ints, codes, "codes"));
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void containsAll_ints_withNull() {
+		Check.containsAll(ints, (int[]) null);
+	}
+
+	@Test
+	public void containsAll_longs_isInvalid() {
+		try {
+			Check.containsAll(longs, new long[] { 0L });
+			Assert.fail();
+		} catch (final IllegalNotContainedArgumentException e) {
+			Assert.assertEquals(Long.valueOf(0), e.getIllegalArgument());
+			Assert.assertEquals("The passed argument '[0]' must be contained in a defined collection.", e.getMessage());
+		}
+	}
+
+	@Test
+	public void containsAll_longs_isValid() {
+		final long[] codes = {};
+		Assert.assertSame(codes, Check.containsAll(longs, codes));
+		Assert.assertSame(codes, Check.containsAll(longs, codes, "codes"));
+	}
+
+	@Test
+	public void containsAll_values_isInvalid() {
+		try {
+			Check.containsAll(strings, Arrays.asList("a", null), "letters");
+			Assert.fail();
+		} catch (final IllegalNotContainedArgumentException e) {
+			Assert.assertNull(e.getIllegalArgument());
+			Assert.assertEquals("The passed argument 'letters[1]' must be contained in a defined collection.", e.getMessage());
+		}
+	}
+
+	@Test
+	public void containsAll_values_isValid() {
+		final List<String> letters = Arrays.asList("c", "a");
+		Assert.assertSame(letters, Check.containsAll(strings, letters));
+		Assert.assertSame(letters, Check.containsAll(strings, letters, "letters"));
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void containsAll_values_withNullHaystack() {
+		Check.containsAll((AllowedValues<?>) null, Arrays.asList("a"));
+	}
+
+}
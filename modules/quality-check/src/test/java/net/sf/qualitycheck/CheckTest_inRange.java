@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import net.sf.qualitycheck.exception.IllegalNotInRangeException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CheckTest_inRange {
+
+	@Test
+	public void inRange_byte() {
+		Assert.assertEquals((byte) 0, Check.inRange((byte) 0, (byte) 0, (byte) 1));
+		Assert.assertEquals((byte) -1, Check.inRange((byte) -1, (byte) -2, (byte) 0, "value"));
+	}
+
+	@Test
+	public void inRange_char() {
+		Assert.assertEquals('a', Check.inRange('a', 'a', 'z'));
+		try {
+			Check.inRange('z', 'a', 'z', "letter");
+			Assert.fail();
+		} catch (final IllegalNotInRangeException e) {
+			Assert.assertEquals("The passed argument 'letter' must be within the range ['a', 'z'), but was 'z'.", e.getMessage());
+		}
+	}
+
+	@Test
+	public void inRange_double() {
+		Assert.assertEquals(0.5d, Check.inRange(0.5d, 0.0d, 1.0d), 0.0d);
+		Assert.assertEquals(-0.5d, Check.inRange(-0.5d, -1.0d, 0.0d, "value"), 0.0d);
+	}
+
+	@Test(expected = IllegalNotInRangeException.class)
+	public void inRange_double_NaN() {
+		Check.inRange(Double.NaN, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+	}
+
+	@Test(expected = IllegalNotInRangeException.class)
+	public void inRange_double_upperBound() {
+		Check.inRange(1.0d, 0.0d, 1.0d);
+	}
+
+	@Test
+	public void inRange_float() {
+		Assert.assertEquals(0.5f, Check.inRange(0.5f, 0.0f, 1.0f), 0.0f);
+		try {
+			Check.inRange(1.5f, 0.1f, 1.0f);
+			Assert.fail();
+		} catch (final IllegalNotInRangeException e) {
+			Assert.assertEquals("The passed argument must be within the range [0.1, 1.0), but was 1.5.", e.getMessage());
+		}
+	}
+
+	@Test(expected = IllegalNotInRangeException.class)
+	public void inRange_float_NaN() {
+		Check.inRange(Float.NaN, 0.0f, 1.0f, "value");
+	}
+
+	@Test
+	public void inRange_int() {
+		Assert.assertEquals(0, Check.inRange(0, 0, 10));
+		Assert.assertEquals(9, Check.inRange(9, 0, 10, "index"));
+	}
+
+	@Test
+	public void inRange_int_lowerBound() {
+		try {
+			Check.inRange(-1, 0, 10, "index");
+			Assert.fail();
+		} catch (final IllegalNotInRangeException e) {
+			Assert.assertEquals("The passed argument 'index' must be within the range [0, 10), but was -1.", e.getMessage());
+		}
+	}
+
+	@Test(expected = IllegalNotInRangeException.class)
+	public void inRange_int_upperBound() {
+		Check.inRange(10, 0, 10);
+	}
+
+	@Test
+	public void inRange_long() {
+		Assert.assertEquals(Long.MIN_VALUE, Check.inRange(Long.MIN_VALUE, Long.MIN_VALUE, 0L));
+		try {
+			Check.inRange(Long.MAX_VALUE, 0L, Long.MAX_VALUE, "value");
+			Assert.fail();
+		} catch (final IllegalNotInRangeException e) {
+			Assert.assertEquals("The passed argument 'value' must be within the range [0, 9223372036854775807), but was 9223372036854775807.",
+					e.getMessage());
+		}
+	}
+
+	@Test(expected = IllegalNotInRangeException.class)
+	public void inRange_emptyRange() {
+		Check.inRange(5, 5, 5);
+	}
+
+	@Test
+	public void inRange_short() {
+		Assert.assertEquals((short) 7, Check.inRange((short) 7, (short) 0, (short) 8));
+		Assert.assertEquals((short) 0, Check.inRange((short) 0, (short) 0, (short) 8, "value"));
+	}
+
+	@Test(expected = IllegalNotInRangeException.class)
+	public void inRange_short_upperBound() {
+		Check.inRange((short) 8, (short) 0, (short) 8, "value");
+	}
+
+}
@@ -164,4 +164,110 @@ public class CheckTest_isNumber {
 	public void isNumber_BigDecimal_Fail() {
 		Check.isNumber("Halllo121000099999999999999999.90", "fail", BigDecimal.class);
 	}
+
+	@Test
+	public void isByte_okay() {
+		Assert.assertEquals((byte) -128, Check.isByte("-128"));
+		Assert.assertEquals((byte) 127, Check.isByte(new StringBuilder("127"), "value"));
+	}
+
+	@Test(expected = IllegalNumberRangeException.class)
+	public void isByte_outOfRange_fail() {
+		Check.isByte("128", "value");
+	}
+
+	@Test(expected = IllegalNumberArgumentException.class)
+	public void isByte_fail() {
+		Check.isByte("1a");
+	}
+
+	@Test
+	public void isInt_leadingPlusSign_okay() {
+		Assert.assertEquals(42, Check.isInt("+42", "value"));
+	}
+
+	@Test
+	public void isInt_nonAsciiDigits_okay() {
+		// same as before, digits of other scripts are accepted by the exact conversion
+		Assert.assertEquals(42, Check.isInt("\u0664\u0662"));
+	}
+
+	@Test
+	public void isInt_okay() {
+		Assert.assertEquals(Integer.MIN_VALUE, Check.isInt("-2147483648"));
+		Assert.assertEquals(Integer.MAX_VALUE, Check.isInt(new StringBuilder("2147483647"), "value"));
+	}
+
+	@Test(expected = IllegalNumberRangeException.class)
+	public void isInt_outOfRange_fail() {
+		Check.isInt("2147483648");
+	}
+
+	@Test
+	public void isInt_withArgument_fail() {
+		try {
+			Check.isInt("4 2", "value");
+			Assert.fail();
+		} catch (final IllegalNumberArgumentException e) {
+			Assert.assertEquals("4 2", e.getIllegalArgument());
+			Assert.assertTrue(e.getCause() instanceof NumberFormatException);
+		}
+	}
+
+	@Test(expected = IllegalNumberArgumentException.class)
+	public void isInt_emptyString_fail() {
+		Check.isInt("");
+	}
+
+	@Test
+	public void isLong_okay() {
+		Assert.assertEquals(Long.MIN_VALUE, Check.isLong("-9223372036854775808"));
+		Assert.assertEquals(Long.MAX_VALUE, Check.isLong("9223372036854775807", "value"));
+	}
+
+	@Test(expected = IllegalNumberRangeException.class)
+	public void isLong_outOfRange_fail() {
+		Check.isLong("9223372036854775808", "value");
+	}
+
+	@Test(expected = IllegalNumberArgumentException.class)
+	public void isLong_fail() {
+		Check.isLong("-");
+	}
+
+	@Test
+	public void isShort_okay() {
+		Assert.assertEquals((short) -32768, Check.isShort("-32768"));
+		Assert.assertEquals((short) 32767, Check.isShort("32767", "value"));
+	}
+
+	@Test(expected = IllegalNumberRangeException.class)
+	public void isShort_outOfRange_fail() {
+		Check.isShort("-32769");
+	}
+
+	@Test(expected = IllegalNumberArgumentException.class)
+	public void isShort_fail() {
+		Check.isShort("1.0", "value");
+	}
+
+	@Test(expected = IllegalNumberRangeException.class)
+	public void isNumber_Byte_outOfRange_fail() {
+		Check.isNumber("-129", Byte.class);
+	}
+
+	@Test(expected = IllegalNumberRangeException.class)
+	public void isNumber_Long_outOfRange_fail() {
+		Check.isNumber("99999999999999999999", "value", Long.class);
+	}
+
+	@Test(expected = IllegalNumberArgumentException.class)
+	public void isNumber_Long_outOfRangeAndNoNumber_fail() {
+		Check.isNumber("99999999999999999999x", "value", Long.class);
+	}
+
+	@Test
+	public void isNumber_Short_leadingPlusSign_okay() {
+		Assert.assertEquals(Short.valueOf((short) 7), Check.isNumber("+7", Short.class));
+	}
 }
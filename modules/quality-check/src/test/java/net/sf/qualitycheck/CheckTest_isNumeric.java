@@ -15,6 +15,10 @@
  ******************************************************************************/
 package net.sf.qualitycheck;
 
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
 import net.sf.qualitycheck.exception.IllegalNumericArgumentException;
 
 import org.junit.Assert;
@@ -77,4 +81,113 @@ public class CheckTest_isNumeric {
 		Assert.assertEquals("0123", Check.isNumeric("0123", "numeric"));
 	}
 
+	@Test(expected = IllegalNumericArgumentException.class)
+	public void isNumeric_emptyString_fail() {
+		Check.isNumeric("");
+	}
+
+	@Test(expected = IllegalNumericArgumentException.class)
+	public void isNumeric_charSequence_fail() {
+		Check.isNumeric(new StringBuilder("0123x"));
+	}
+
+	@Test(expected = IllegalNumericArgumentException.class)
+	public void isNumeric_charSequence_emptyString_fail() {
+		Check.isNumeric(new StringBuilder());
+	}
+
+	@Test
+	public void isNumeric_charSequence_okay() {
+		final StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 1000; i++) {
+			sb.append(i % 10);
+		}
+		Assert.assertSame(sb, Check.isNumeric(sb, "numeric"));
+	}
+
+	@Test(expected = IllegalNumericArgumentException.class)
+	public void isNumeric_nonAsciiDigits_fail() {
+		// digits of other scripts are not numeric in the sense of 0-9
+		Check.isNumeric("\u0664\u0662");
+	}
+
+	@Test(expected = IllegalNumericArgumentException.class)
+	public void isNumeric_lastCharacterNotNumeric_fail() {
+		Check.isNumeric("012345678901234567890123456789012345678901234567890123456789012345678901234567890/");
+	}
+
+	@Test
+	public void isNumeric_buffer_direct_failure_reportsOffset() {
+		final ByteBuffer buffer = ByteBuffer.allocateDirect(32);
+		buffer.put("##0123456789012345678-0123".getBytes()).flip();
+		buffer.position(2);
+		try {
+			Check.isNumeric(buffer, "record");
+			Assert.fail();
+		} catch (final IllegalNumericArgumentException e) {
+			Assert.assertEquals(19, e.getOffset());
+			Assert.assertNull(e.getIllegalArgument());
+			Assert.assertEquals("The passed argument 'record' must be numeric, but has no digit at offset 19.", e.getMessage());
+		}
+		Assert.assertEquals(2, buffer.position());
+	}
+
+	@Test
+	public void isNumeric_buffer_direct_okay() {
+		final ByteBuffer buffer = ByteBuffer.allocateDirect(32);
+		buffer.put("##01234567890123456789".getBytes()).flip();
+		buffer.position(2);
+		Assert.assertSame(buffer, Check.isNumeric(buffer));
+		Assert.assertSame(buffer, Check.isNumeric(buffer, "record"));
+		Assert.assertEquals(2, buffer.position());
+	}
+
+	@Test
+	public void isNumeric_buffer_empty_fail() {
+		try {
+			Check.isNumeric(ByteBuffer.allocate(0));
+			Assert.fail();
+		} catch (final IllegalNumericArgumentException e) {
+			Assert.assertEquals(0, e.getOffset());
+			Assert.assertEquals("The passed argument must be numeric, but has no digit at offset 0.", e.getMessage());
+		}
+	}
+
+	@Test
+	public void isNumeric_buffer_heap_okay() {
+		final ByteBuffer buffer = ByteBuffer.wrap("042".getBytes());
+		Assert.assertSame(buffer, Check.isNumeric(buffer, "record"));
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void isNumeric_buffer_null() {
+		Check.isNumeric((ByteBuffer) null);
+	}
+
+	@Test
+	public void isNumeric_charBuffer_slice_reportsOffset() {
+		final CharBuffer buffer = CharBuffer.wrap("id: 0815x");
+		buffer.position(4);
+		final CharBuffer slice = (CharBuffer) buffer.slice().limit(4);
+		Assert.assertSame(slice, Check.isNumeric(slice));
+		try {
+			Check.isNumeric(buffer, "id");
+			Assert.fail();
+		} catch (final IllegalNumericArgumentException e) {
+			Assert.assertEquals(4, e.getOffset());
+		}
+	}
+
+	@Test
+	public void isNumeric_string_reportsOffset() {
+		try {
+			Check.isNumeric("0815x", "id");
+			Assert.fail();
+		} catch (final IllegalNumericArgumentException e) {
+			Assert.assertEquals(4, e.getOffset());
+			Assert.assertEquals("0815x", e.getIllegalArgument());
+			Assert.assertEquals("The passed argument 'id' must be numeric, but has no digit at offset 4.", e.getMessage());
+		}
+	}
+
 }
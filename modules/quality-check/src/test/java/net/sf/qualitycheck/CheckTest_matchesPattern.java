@@ -15,8 +15,11 @@
  ******************************************************************************/
 package net.sf.qualitycheck;
 
+import java.nio.ByteBuffer;
 import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
+import net.sf.qualitycheck.exception.ArgumentRetention;
 import net.sf.qualitycheck.exception.IllegalNullArgumentException;
 import net.sf.qualitycheck.exception.IllegalPatternArgumentException;
 
@@ -27,12 +30,12 @@ public class CheckTest_matchesPattern {
 
 	@Test(expected = IllegalNullArgumentException.class)
 	public void matchesPattern_chars_isNull() {
-		Check.matchesPattern(Pattern.compile("abc"), null);
+		Check.matchesPattern(Pattern.compile("abc"), (CharSequence) null);
 	}
 
 	@Test(expected = IllegalNullArgumentException.class)
 	public void matchesPattern_pattern_isNull() {
-		Check.matchesPattern(null, "abc");
+		Check.matchesPattern((Pattern) null, "abc");
 	}
 
 	@Test
@@ -63,7 +66,7 @@ public class CheckTest_matchesPattern {
 	@Test(expected = IllegalNullArgumentException.class)
 	public void matchesPattern_withArgName_pattern_isNull() {
 		final String text = "abc";
-		Check.matchesPattern(null, text, "text");
+		Check.matchesPattern((Pattern) null, text, "text");
 	}
 
 	@Test(expected = IllegalPatternArgumentException.class)
@@ -86,4 +89,159 @@ public class CheckTest_matchesPattern {
 		Assert.assertSame(text, Check.matchesPattern(Pattern.compile("abc"), text, "text"));
 	}
 
+	@Test(expected = IllegalNullArgumentException.class)
+	public void matchesPattern_regex_chars_isNull() {
+		Check.matchesPattern("abc", (CharSequence) null);
+	}
+
+	@Test(expected = PatternSyntaxException.class)
+	public void matchesPattern_regex_isInvalid() {
+		Check.matchesPattern("[abc", "abc");
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void matchesPattern_regex_isNull() {
+		Check.matchesPattern((String) null, "abc");
+	}
+
+	@Test
+	public void matchesPattern_regex_isCompiledOnce() {
+		final String regex = "[a-z]{3}-" + getClass().getName();
+		final PatternCache cache = PatternCache.getDefault();
+		final long misses = cache.getMissCount();
+		final String text = "abc-" + getClass().getName();
+		Check.matchesPattern(regex, text);
+		Check.matchesPattern(regex, text, "text");
+		Assert.assertEquals(misses + 1, cache.getMissCount());
+	}
+
+	@Test
+	public void matchesPattern_regex_text_isValid() {
+		final String text = "abc";
+		Assert.assertSame(text, Check.matchesPattern("a.c", text));
+	}
+
+	@Test
+	public void matchesPattern_withArgName_regex_isInvalid() {
+		try {
+			Check.matchesPattern("a.c", "xyz", "text");
+			Assert.fail();
+		} catch (final IllegalPatternArgumentException e) {
+			Assert.assertEquals("The passed argument 'text' must match against the specified pattern: a.c (flags: 0)", e.getMessage());
+			Assert.assertEquals("xyz", e.getIllegalArgument());
+		}
+	}
+
+	@Test
+	public void matchesPattern_withArgName_regex_stringbuilder_isValid() {
+		final StringBuilder builder = new StringBuilder("abc");
+		Assert.assertSame(builder, Check.matchesPattern("a.c", builder, "builder"));
+	}
+
+	@Test
+	public void matchesPattern_buffer_direct_isValid() {
+		final ByteBuffer buffer = ByteBuffer.allocateDirect(16);
+		buffer.put("id=AB-1234".getBytes()).flip();
+		buffer.position(3);
+		Assert.assertSame(buffer, Check.matchesPattern(Pattern.compile("[A-Z]{2}-\\d{4}"), buffer));
+		Assert.assertSame(buffer, Check.matchesPattern("[A-Z]{2}-\\d{4}", buffer, "id"));
+		Assert.assertEquals(3, buffer.position());
+	}
+
+	@Test
+	public void matchesPattern_buffer_isInvalid() {
+		final ByteBuffer buffer = ByteBuffer.wrap("AB-12x4".getBytes());
+		try {
+			Check.matchesPattern("[A-Z]{2}-\\d{4}", buffer, "id");
+			Assert.fail();
+		} catch (final IllegalPatternArgumentException e) {
+			buffer.put(0, (byte) 'X');
+			Assert.assertEquals("AB-12x4", e.getIllegalArgument());
+		}
+		Assert.assertEquals(0, buffer.position());
+	}
+
+	@Test
+	public void matchesPattern_buffer_isInvalid_argumentIsBounded() {
+		final ByteBuffer buffer = ByteBuffer.allocateDirect(ArgumentRetention.DEFAULT_MAX_ARGUMENT_LENGTH + 1);
+		try {
+			Check.matchesPattern("\\d+", buffer, "id");
+			Assert.fail();
+		} catch (final IllegalPatternArgumentException e) {
+			Assert.assertEquals(ArgumentRetention.DEFAULT_MAX_ARGUMENT_LENGTH, e.getIllegalArgument().length());
+		}
+	}
+
+	@Test(expected = IllegalPatternArgumentException.class)
+	public void matchesPattern_buffer_isInvalid_withoutArgName() {
+		Check.matchesPattern(Pattern.compile("\\d+"), ByteBuffer.wrap("12a".getBytes()));
+	}
+
+	@Test(expected = IllegalPatternArgumentException.class)
+	public void matchesPattern_buffer_regex_isInvalid_withoutArgName() {
+		Check.matchesPattern("\\d+", ByteBuffer.wrap("12a".getBytes()));
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void matchesPattern_buffer_isNull() {
+		Check.matchesPattern(Pattern.compile("\\d+"), (ByteBuffer) null, "id");
+	}
+
+	@Test
+	public void matchesPattern_compiled_buffer_isInvalid() {
+		final ByteBuffer buffer = ByteBuffer.wrap("AB-12x4".getBytes());
+		try {
+			Check.matchesPattern(CompiledPattern.compile("[A-Z]{2}-\\d{4}"), buffer, "id");
+			Assert.fail();
+		} catch (final IllegalPatternArgumentException e) {
+			Assert.assertEquals("AB-12x4", e.getIllegalArgument());
+			Assert.assertTrue(e.getMessage().contains("'id'"));
+		}
+		Assert.assertEquals(0, buffer.position());
+	}
+
+	@Test
+	public void matchesPattern_compiled_buffer_isValid() {
+		final ByteBuffer buffer = ByteBuffer.wrap("AB-1234".getBytes());
+		Assert.assertSame(buffer, Check.matchesPattern(CompiledPattern.compile("[A-Z]{2}-\\d{4}"), buffer));
+		Assert.assertEquals(0, buffer.position());
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void matchesPattern_compiled_chars_isNull() {
+		Check.matchesPattern(CompiledPattern.compile("abc"), (CharSequence) null);
+	}
+
+	@Test(expected = IllegalPatternArgumentException.class)
+	public void matchesPattern_compiled_notDeterministic_isInvalid() {
+		Check.matchesPattern(CompiledPattern.compile("(a)\\1"), "ab", "text");
+	}
+
+	@Test
+	public void matchesPattern_compiled_notDeterministic_isValid() {
+		Assert.assertEquals("aa", Check.matchesPattern(CompiledPattern.compile("(a)\\1"), "aa", "text"));
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void matchesPattern_compiled_pattern_isNull() {
+		Check.matchesPattern((CompiledPattern) null, "abc");
+	}
+
+	@Test
+	public void matchesPattern_compiled_text_isInvalid() {
+		try {
+			Check.matchesPattern(CompiledPattern.compile("[0-9a-f]{8}"), "0badcafe!", "id");
+			Assert.fail();
+		} catch (final IllegalPatternArgumentException e) {
+			Assert.assertEquals("0badcafe!", e.getIllegalArgument());
+			Assert.assertTrue(e.getMessage().contains("[0-9a-f]{8}"));
+		}
+	}
+
+	@Test
+	public void matchesPattern_compiled_text_isValid() {
+		final StringBuilder builder = new StringBuilder("0badcafe");
+		Assert.assertSame(builder, Check.matchesPattern(CompiledPattern.compile("[0-9a-f]{8}"), builder));
+	}
+
 }
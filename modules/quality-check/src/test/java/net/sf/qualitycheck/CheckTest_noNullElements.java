@@ -17,15 +17,27 @@ package net.sf.qualitycheck;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
 import net.sf.qualitycheck.exception.IllegalNullElementsException;
 
+import org.junit.AfterClass;
 import org.junit.Assert;
 import org.junit.Test;
 
 public class CheckTest_noNullElements {
 
+	private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(4);
+
+	@AfterClass
+	public static void shutdownExecutor() {
+		EXECUTOR.shutdownNow();
+	}
+
 	@Test
 	public void noNullElements_checkManipulation() {
 		final Object[] array = new Object[] {};
@@ -147,4 +159,72 @@ public class CheckTest_noNullElements {
 		Check.noNullElements(new String[] { "Hello", "World" }, "obj");
 	}
 
+	@Test
+	public void noNullElements_withExecutor_largeArray_reportsFirstIndex() {
+		final Object[] array = new Object[ParallelScan.THRESHOLD + 17];
+		Arrays.fill(array, "x");
+		array[array.length - 1] = null;
+		array[ParallelScan.THRESHOLD / 2] = null;
+		try {
+			Check.noNullElements(array, EXECUTOR, "array");
+			Assert.fail();
+		} catch (final IllegalNullElementsException e) {
+			Assert.assertEquals("The passed argument 'array' must not contain elements that are null, but the element at index "
+					+ ParallelScan.THRESHOLD / 2 + " is null.", e.getMessage());
+		}
+	}
+
+	@Test
+	public void noNullElements_withExecutor_largeArray_ok() {
+		final String[] array = new String[ParallelScan.THRESHOLD];
+		Arrays.fill(array, "x");
+		Assert.assertSame(array, Check.noNullElements(array, EXECUTOR));
+	}
+
+	@Test
+	public void noNullElements_withExecutor_largeList() {
+		final List<String> list = new ArrayList<String>(Arrays.asList(new String[ParallelScan.THRESHOLD]));
+		for (int i = 0; i < list.size(); i++) {
+			list.set(i, "x");
+		}
+		Assert.assertSame(list, Check.noNullElements(list, EXECUTOR));
+		list.set(12345, null);
+		try {
+			Check.noNullElements(list, EXECUTOR);
+			Assert.fail();
+		} catch (final IllegalNullElementsException e) {
+			Assert.assertEquals("The passed argument must not contain elements that are null, but the element at index 12345 is null.",
+					e.getMessage());
+		}
+	}
+
+	@Test
+	public void noNullElements_withExecutor_linkedList() {
+		final List<String> list = new LinkedList<String>(Arrays.asList("a", "b", null, "d"));
+		try {
+			Check.noNullElements(list, EXECUTOR, "list");
+			Assert.fail();
+		} catch (final IllegalNullElementsException e) {
+			Assert.assertEquals("The passed argument 'list' must not contain elements that are null, but the element at index 2 is null.",
+					e.getMessage());
+		}
+		list.remove(2);
+		Assert.assertSame(list, Check.noNullElements(list, EXECUTOR, "list"));
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void noNullElements_withExecutor_executorIsNull() {
+		Check.noNullElements(new Object[0], null, "array");
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void noNullElements_withExecutor_arrayIsNull() {
+		Check.noNullElements((Object[]) null, EXECUTOR);
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void noNullElements_withExecutor_iterableIsNull() {
+		Check.noNullElements((List<?>) null, EXECUTOR, "list");
+	}
+
 }
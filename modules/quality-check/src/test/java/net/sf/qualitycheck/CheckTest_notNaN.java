@@ -16,6 +16,7 @@
 package net.sf.qualitycheck;
 
 import net.sf.qualitycheck.exception.IllegalNaNArgumentException;
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -62,4 +63,54 @@ public class CheckTest_notNaN {
 		Assert.assertEquals(1.0f, Check.notNaN(1.0f, "float"), 0.0f);
 	}
 
+	@Test
+	public void notNaN_doubleArray_fail() {
+		try {
+			Check.notNaN(new double[] { 1.0, 2.0, Double.NaN, Double.NaN }, "readings");
+			Assert.fail();
+		} catch (final IllegalNaNArgumentException e) {
+			Assert.assertEquals("The passed argument 'readings[2]' must not be NaN.", e.getMessage());
+		}
+	}
+
+	@Test
+	public void notNaN_doubleArray_okay() {
+		final double[] values = { 1.0, Double.POSITIVE_INFINITY, -0.0 };
+		Assert.assertSame(values, Check.notNaN(values));
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void notNaN_doubleArray_isNull() {
+		Check.notNaN((double[]) null, "readings");
+	}
+
+	@Test
+	public void notNaN_doubleArray_slice_okay() {
+		final double[] values = { Double.NaN, 1.0, Double.NaN };
+		Assert.assertSame(values, Check.notNaN(values, 1, 2));
+	}
+
+	@Test(expected = IllegalNaNArgumentException.class)
+	public void notNaN_doubleArray_slice_fail() {
+		Check.notNaN(new double[] { 1.0, 1.0, Double.NaN }, 1, 3, "readings");
+	}
+
+	@Test
+	public void notNaN_floatArray_fail() {
+		try {
+			Check.notNaN(new float[] { Float.NaN });
+			Assert.fail();
+		} catch (final IllegalNaNArgumentException e) {
+			Assert.assertEquals("The passed argument '[0]' must not be NaN.", e.getMessage());
+		}
+	}
+
+	@Test
+	public void notNaN_floatArray_okay() {
+		final float[] values = { 1.0f, Float.NaN };
+		Assert.assertSame(values, Check.notNaN(values, 0, 1));
+		Assert.assertSame(values, Check.notNaN(values, 0, 1, "values"));
+		Assert.assertEquals(0, Check.notNaN(new float[0], "values").length);
+	}
+
 }
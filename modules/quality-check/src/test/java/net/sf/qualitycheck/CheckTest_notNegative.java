@@ -16,6 +16,8 @@
 package net.sf.qualitycheck;
 
 import net.sf.qualitycheck.exception.IllegalNegativeArgumentException;
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+import net.sf.qualitycheck.exception.IllegalRangeException;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -187,4 +189,71 @@ public class CheckTest_notNegative {
 	public void notNegative_short_withReference_withName_isValid() {
 		Check.notNegative((short) 1, "one");
 	}
+
+	@Test
+	public void notNegative_doubleArray_okay() {
+		final double[] values = { 0.0, -0.0, 1.5, Double.NaN };
+		Assert.assertSame(values, Check.notNegative(values));
+		Assert.assertSame(values, Check.notNegative(values, 1, 3, "values"));
+	}
+
+	@Test(expected = IllegalNegativeArgumentException.class)
+	public void notNegative_doubleArray_fail() {
+		Check.notNegative(new double[] { 0.0, -1.0 }, 0, 2);
+	}
+
+	@Test
+	public void notNegative_intArray_fail() {
+		final int[] values = new int[100];
+		values[57] = -3;
+		values[99] = -1;
+		try {
+			Check.notNegative(values, "indices");
+			Assert.fail();
+		} catch (final IllegalNegativeArgumentException e) {
+			Assert.assertEquals("The passed argument 'indices[57]' must be greater than 0.", e.getMessage());
+			Assert.assertEquals(Integer.valueOf(-3), e.getIllegalArgument());
+		}
+	}
+
+	@Test
+	public void notNegative_intArray_okay() {
+		final int[] values = { 0, 1, Integer.MAX_VALUE };
+		Assert.assertSame(values, Check.notNegative(values));
+		Assert.assertSame(values, Check.notNegative(values, 0, 3));
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void notNegative_intArray_isNull() {
+		Check.notNegative((int[]) null);
+	}
+
+	@Test(expected = IllegalRangeException.class)
+	public void notNegative_intArray_invalidRange() {
+		Check.notNegative(new int[3], 2, 1);
+	}
+
+	@Test
+	public void notNegative_longArray() {
+		final long[] values = { -1L, 0L, Long.MAX_VALUE, -1L };
+		Assert.assertSame(values, Check.notNegative(values, 1, 3));
+		try {
+			Check.notNegative(values, 1, 4, "ids");
+			Assert.fail();
+		} catch (final IllegalNegativeArgumentException e) {
+			Assert.assertEquals("The passed argument 'ids[3]' must be greater than 0.", e.getMessage());
+		}
+	}
+
+	@Test(expected = IllegalNegativeArgumentException.class)
+	public void notNegative_longArray_fail() {
+		Check.notNegative(new long[] { Long.MIN_VALUE });
+	}
+
+	@Test
+	public void notNegative_longArray_okay() {
+		final long[] values = { 0L, 1L };
+		Assert.assertSame(values, Check.notNegative(values, "ids"));
+	}
+
 }
@@ -59,4 +59,50 @@ public class CheckTest_positionIndex {
 		Check.positionIndex(0, -1);
 	}
 
+	@Test
+	public void checkPositionIndexArray_fail() {
+		try {
+			Check.positionIndex(new int[] { 0, 1, 2, 3, 4, 5, 6, 7, 8, 3 }, 3, "indices");
+			Assert.fail();
+		} catch (final IllegalPositionIndexException e) {
+			Assert.assertEquals("Position index 'indices[3]' with value '3' must be within the defined bounds [0,3].", e.getMessage());
+		}
+	}
+
+	@Test
+	public void checkPositionIndexArray_ok() {
+		final int[] indices = { 0, 2, 1 };
+		Assert.assertSame(indices, Check.positionIndex(indices, 3));
+		Assert.assertSame(indices, Check.positionIndex(indices, 1, 3, 3));
+	}
+
+	@Test
+	public void checkPositionIndexArray_sizeNegative() {
+		final int[] sizes = { -1, Integer.MIN_VALUE };
+		for (final int size : sizes) {
+			try {
+				Check.positionIndex(new int[] { 0, 1 }, size, "indices");
+				Assert.fail();
+			} catch (final IllegalPositionIndexException e) {
+				Assert.assertEquals("Position index 'indices[0]' with value '0' must be within the defined bounds [0," + size + "].",
+						e.getMessage());
+			}
+		}
+	}
+
+	@Test(expected = IllegalPositionIndexException.class)
+	public void checkPositionIndexArray_slice_sizeMinValue() {
+		Check.positionIndex(new int[] { 5, 1 }, 1, 2, Integer.MIN_VALUE);
+	}
+
+	@Test(expected = IllegalPositionIndexException.class)
+	public void checkPositionIndexArray_sizeZero() {
+		Check.positionIndex(new int[] { 0 }, 0);
+	}
+
+	@Test(expected = IllegalPositionIndexException.class)
+	public void checkPositionIndexArray_slice_negative() {
+		Check.positionIndex(new int[] { 0, -1 }, 0, 2, 3, "indices");
+	}
+
 }
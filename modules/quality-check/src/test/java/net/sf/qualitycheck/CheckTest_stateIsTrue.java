@@ -15,8 +15,10 @@
  ******************************************************************************/
 package net.sf.qualitycheck;
 
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
 import net.sf.qualitycheck.exception.IllegalStateOfArgumentException;
 
+import org.junit.Assert;
 import org.junit.Test;
 
 public class CheckTest_stateIsTrue {
@@ -39,6 +41,22 @@ public class CheckTest_stateIsTrue {
 		}
 	}
 
+	private static final DescriptionSupplier FAILING_SUPPLIER = new DescriptionSupplier() {
+		@Override
+		public String get() {
+			throw new AssertionError("The description must not be requested.");
+		}
+	};
+
+	private static String messageOf(final Runnable check) {
+		try {
+			check.run();
+		} catch (final IllegalStateOfArgumentException e) {
+			return e.getMessage();
+		}
+		throw new AssertionError("IllegalStateOfArgumentException expected");
+	}
+
 	@Test(expected = IllegalStateOfArgumentException.class)
 	public void checkStateIsTrue_False() {
 		Check.stateIsTrue(false);
@@ -69,6 +87,154 @@ public class CheckTest_stateIsTrue {
 		Check.stateIsTrue(true, "Value '%d' is not allowed.", 42);
 	}
 
+	@Test
+	public void checkStateIsTrueWithDescriptionSupplier_False() {
+		final String message = messageOf(new Runnable() {
+			@Override
+			public void run() {
+				Check.stateIsTrue(false, new DescriptionSupplier() {
+					@Override
+					public String get() {
+						return "Value '42' is not allowed.";
+					}
+				});
+			}
+		});
+		Assert.assertEquals("The passed arguments have caused an invalid state: Value '42' is not allowed.", message);
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void checkStateIsTrueWithDescriptionSupplier_Null() {
+		Check.stateIsTrue(true, (DescriptionSupplier) null);
+	}
+
+	@Test
+	public void checkStateIsTrueWithDescriptionSupplier_True() {
+		Check.stateIsTrue(true, FAILING_SUPPLIER);
+	}
+
+	@Test
+	public void checkStateIsTrueWithExceptionFactory_False() {
+		try {
+			Check.stateIsTrue(false, new ExceptionFactory<IllegalStateException>() {
+				@Override
+				public IllegalStateException create(final String message) {
+					return new IllegalStateException(message);
+				}
+			}, "closed");
+			Assert.fail();
+		} catch (final IllegalStateException e) {
+			Assert.assertEquals("closed", e.getMessage());
+		}
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void checkStateIsTrueWithExceptionFactory_Null() {
+		Check.stateIsTrue(true, (ExceptionFactory<?>) null, "closed");
+	}
+
+	@Test
+	public void checkStateIsTrueWithExceptionFactory_True() {
+		Check.stateIsTrue(true, new ExceptionFactory<IllegalStateException>() {
+			@Override
+			public IllegalStateException create(final String message) {
+				throw new AssertionError("The factory must not be called.");
+			}
+		}, "closed");
+	}
+
+	@Test
+	public void checkStateIsTrueWithFixedArguments_False() {
+		Assert.assertEquals("1", messageOf(new Runnable() {
+			@Override
+			public void run() {
+				Check.stateIsTrue(false, "%d", 1);
+			}
+		}));
+		Assert.assertEquals("1 2", messageOf(new Runnable() {
+			@Override
+			public void run() {
+				Check.stateIsTrue(false, "%d %d", 1, 2);
+			}
+		}));
+		Assert.assertEquals("1", messageOf(new Runnable() {
+			@Override
+			public void run() {
+				Check.stateIsTrue(false, "%d", 1L);
+			}
+		}));
+		Assert.assertEquals("1 2", messageOf(new Runnable() {
+			@Override
+			public void run() {
+				Check.stateIsTrue(false, "%d %d", 1L, 2L);
+			}
+		}));
+		Assert.assertEquals("a", messageOf(new Runnable() {
+			@Override
+			public void run() {
+				Check.stateIsTrue(false, "%s", "a");
+			}
+		}));
+		Assert.assertEquals("a b", messageOf(new Runnable() {
+			@Override
+			public void run() {
+				Check.stateIsTrue(false, "%s %s", "a", "b");
+			}
+		}));
+		Assert.assertEquals("a b c", messageOf(new Runnable() {
+			@Override
+			public void run() {
+				Check.stateIsTrue(false, "%s %s %s", "a", "b", "c");
+			}
+		}));
+		Assert.assertEquals("a b c d", messageOf(new Runnable() {
+			@Override
+			public void run() {
+				Check.stateIsTrue(false, "%s %s %s %s", "a", "b", "c", "d");
+			}
+		}));
+		Assert.assertEquals("a b c d e", messageOf(new Runnable() {
+			@Override
+			public void run() {
+				Check.stateIsTrue(false, "%s %s %s %s %s", "a", "b", "c", "d", "e");
+			}
+		}));
+	}
+
+	@Test
+	public void checkStateIsTrueWithFixedArguments_smallPrimitivesKeepTheirType() {
+		Assert.assertEquals("bad char x", messageOf(new Runnable() {
+			@Override
+			public void run() {
+				Check.stateIsTrue(false, "bad char %s", 'x');
+			}
+		}));
+		Assert.assertEquals("ff", messageOf(new Runnable() {
+			@Override
+			public void run() {
+				Check.stateIsTrue(false, "%x", (byte) -1);
+			}
+		}));
+		Assert.assertEquals("ffff 5", messageOf(new Runnable() {
+			@Override
+			public void run() {
+				Check.stateIsTrue(false, "%x %d", (short) -1, 5);
+			}
+		}));
+	}
+
+	@Test
+	public void checkStateIsTrueWithFixedArguments_True() {
+		Check.stateIsTrue(true, "%d", 1);
+		Check.stateIsTrue(true, "%d %d", 1, 2);
+		Check.stateIsTrue(true, "%d", 1L);
+		Check.stateIsTrue(true, "%d %d", 1L, 2L);
+		Check.stateIsTrue(true, "%s", "a");
+		Check.stateIsTrue(true, "%s %s", "a", "b");
+		Check.stateIsTrue(true, "%s %s %s", "a", "b", "c");
+		Check.stateIsTrue(true, "%s %s %s %s", "a", "b", "c", "d");
+	}
+
 	@Test(expected = NullPointerException.class)
 	public void checkStateIsTrueWithThrowable_False() {
 		Check.stateIsTrue(false, NullPointerException.class);
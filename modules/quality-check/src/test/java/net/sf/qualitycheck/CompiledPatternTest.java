@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Random;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CompiledPatternTest {
+
+	/**
+	 * Expressions of the supported regular subset
+	 */
+	private static final String[] DETERMINISTIC = { "", "abc", "a|b|", "(ab)*c", "(?:ab)+c?", "a{3}", "a{2,}", "a{2,4}b", "a*?b+?c??",
+			"a{1,3}?", "[abc]", "[^abc]", "[a-fA-F0-9]{8}", "[-a]", "[a-]", "[\\d_]", "[\\]\\[]", "[a&b]", "[\\x41-\\x43]", "[\\u0100-\\u017F]+",
+			"\\d+", "\\D", "\\w+", "\\W", "\\s*", "\\S", ".*", ".", "\\.", "\\t\\n\\r\\f\\a\\e", "\\x41\\u0042", "\\$\\^\\(\\)\\*",
+			"^abc", "abc$", "^a|b$", "(\\d{1,3}\\.){3}\\d{1,3}", "[A-Z]{2}-\\d{4}", "(a|ab)(c|bcd)(d*)", "(a*)*", "(a?){0,5}b", "x*y*z*",
+			"]}", "é+", "()" };
+
+	/**
+	 * Expressions which have to be matched by {@link Pattern}
+	 */
+	private static final String[] NOT_DETERMINISTIC = { "(a)\\1", "a(?=b)b", "(?<!a)b", "a++", "a*+b", "(?i)abc", "(?<name>a)", "\\bab",
+			"a\\Bb", "[a-z&&[^b]]", "[a[b]]", "\\p{Lu}", "\\Qa.b\\E", "a^", "$a", "(a$)", "a^*", "\\x{41}", "\\0101", "\\ud83d\\ude00", "\ud83d\ude00",
+			"a{2000}", "(a|b)*a(a|b){12}", "[\\d-z]", "[a-c-e]" };
+
+	private static final Charset ISO_8859_1 = Charset.forName("ISO-8859-1");
+
+	private static final String ALPHABET = "abcdefxyzABZ019_-. \t\n\r]é\u0100\u2028\ud83d\ude00";
+
+	private static void assertSameResult(final String regex, final String input) {
+		final Pattern pattern = Pattern.compile(regex);
+		final boolean expected = pattern.matcher(input).matches();
+		final CompiledPattern compiled = CompiledPattern.of(pattern);
+		Assert.assertEquals(String.format("'%s' on '%s'", regex, input), expected, compiled.matches(input));
+		if (isLatin1(input)) {
+			final ByteBuffer buffer = ByteBuffer.wrap(input.getBytes(ISO_8859_1));
+			Assert.assertEquals(String.format("'%s' on bytes of '%s'", regex, input), expected, compiled.matches(buffer));
+		}
+	}
+
+	private static boolean isLatin1(final String input) {
+		for (int i = 0; i < input.length(); i++) {
+			if (input.charAt(i) > 0xFF) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void compile_isNull() {
+		CompiledPattern.compile(null);
+	}
+
+	@Test(expected = PatternSyntaxException.class)
+	public void compile_isInvalid() {
+		CompiledPattern.compile("a{");
+	}
+
+	@Test
+	public void isDeterministic() {
+		for (final String regex : DETERMINISTIC) {
+			Assert.assertTrue(regex, CompiledPattern.compile(regex).isDeterministic());
+		}
+	}
+
+	@Test
+	public void isDeterministic_withFlags() {
+		Assert.assertFalse(CompiledPattern.of(Pattern.compile("abc", Pattern.CASE_INSENSITIVE)).isDeterministic());
+		Assert.assertTrue(CompiledPattern.of(Pattern.compile("abc", Pattern.CASE_INSENSITIVE)).matches("ABC"));
+	}
+
+	@Test
+	public void isNotDeterministic() {
+		for (final String regex : NOT_DETERMINISTIC) {
+			Assert.assertFalse(regex, CompiledPattern.compile(regex).isDeterministic());
+		}
+	}
+
+	@Test
+	public void matches_buffer_positionUnchanged() {
+		final ByteBuffer buffer = ByteBuffer.wrap("xx1234".getBytes());
+		buffer.position(2);
+		Assert.assertTrue(CompiledPattern.compile("\\d{4}").matches(buffer));
+		Assert.assertEquals(2, buffer.position());
+	}
+
+	@Test
+	public void matches_dotDoesNotMatchLineTerminators() {
+		final CompiledPattern dot = CompiledPattern.compile(".");
+		for (final String terminator : new String[] { "\n", "\r", "\u0085", "\u2028", "\u2029" }) {
+			Assert.assertFalse(dot.matches(terminator));
+		}
+		Assert.assertTrue(dot.matches("\u2027"));
+	}
+
+	@Test
+	public void matches_ipAddress() {
+		final CompiledPattern ip = CompiledPattern.compile("(\\d{1,3}\\.){3}\\d{1,3}");
+		Assert.assertTrue(ip.matches("192.168.0.1"));
+		Assert.assertFalse(ip.matches("192.168.0"));
+		Assert.assertFalse(ip.matches("192.168.0.1234"));
+	}
+
+	@Test
+	public void matches_randomInputs() {
+		final Random random = new Random(42);
+		for (final String regex : DETERMINISTIC) {
+			for (int i = 0; i < 300; i++) {
+				final StringBuilder input = new StringBuilder();
+				final int length = random.nextInt(8);
+				for (int j = 0; j < length; j++) {
+					input.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+				}
+				assertSameResult(regex, input.toString());
+			}
+		}
+	}
+
+	@Test
+	public void matches_sameAsPattern() {
+		final String[] inputs = { "", "a", "b", "ab", "abc", "abcd", "aaa", "aab", "aaaab", "c", "abababc", "ababab", "0badcafe", "0BADCAFE",
+				"0badcafe0", "AB-1234", "192.168.0.1", "1.2.3", "a b", "\t\n\r\f\u0007\u001B", "AB", "$^()*", ".", "x", "é", "éé", "]}",
+				"\u0100\u017f", "\u2028", "\ud83d\ude00", "a\ud83d\ude00", "abcd\n", "abc\n" };
+		for (final String regex : DETERMINISTIC) {
+			for (final String input : inputs) {
+				assertSameResult(regex, input);
+			}
+		}
+		for (final String regex : NOT_DETERMINISTIC) {
+			for (final String input : inputs) {
+				assertSameResult(regex, input);
+			}
+		}
+	}
+
+	@Test
+	public void matches_supplementaryCharacter() {
+		// a supplementary character is one code point for Pattern, but two char values for the automaton
+		final CompiledPattern any = CompiledPattern.compile("[^a]");
+		Assert.assertTrue(any.isDeterministic());
+		Assert.assertTrue(any.matches("\ud83d\ude00"));
+		Assert.assertFalse(CompiledPattern.compile("[a-z]").matches("\ud83d\ude00"));
+	}
+
+	@Test
+	public void pattern() {
+		final Pattern pattern = Pattern.compile("\\d+");
+		Assert.assertSame(pattern, CompiledPattern.of(pattern).pattern());
+		Assert.assertEquals("\\d+", CompiledPattern.of(pattern).toString());
+	}
+
+}
@@ -16,11 +16,14 @@
 package net.sf.qualitycheck;
 
 import java.lang.reflect.Constructor;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.regex.Pattern;
 
 import javax.annotation.Resource;
@@ -35,11 +38,13 @@ import net.sf.qualitycheck.exception.IllegalNegativeArgumentException;
 import net.sf.qualitycheck.exception.IllegalNotEqualException;
 import net.sf.qualitycheck.exception.IllegalNotGreaterOrEqualThanException;
 import net.sf.qualitycheck.exception.IllegalNotGreaterThanException;
+import net.sf.qualitycheck.exception.IllegalNotInRangeException;
 import net.sf.qualitycheck.exception.IllegalNotLesserThanException;
 import net.sf.qualitycheck.exception.IllegalNotNullArgumentException;
 import net.sf.qualitycheck.exception.IllegalNullArgumentException;
 import net.sf.qualitycheck.exception.IllegalNullElementsException;
 import net.sf.qualitycheck.exception.IllegalNumberArgumentException;
+import net.sf.qualitycheck.exception.IllegalNumberRangeException;
 import net.sf.qualitycheck.exception.IllegalNumericArgumentException;
 import net.sf.qualitycheck.exception.IllegalPatternArgumentException;
 import net.sf.qualitycheck.exception.IllegalPositionIndexException;
@@ -90,6 +95,13 @@ public class ConditionalCheckTest {
 
 	};
 
+	private static final Executor SAME_THREAD = new Executor() {
+		@Override
+		public void execute(final Runnable command) {
+			command.run();
+		}
+	};
+
 	private final EnumSet<Letter> set = EnumSet.of(Letter.A, Letter.D);;
 
 	@Test
@@ -100,6 +112,66 @@ public class ConditionalCheckTest {
 		constructor.newInstance();
 	}
 
+	@Test
+	public void testAllInRangeLongArray_Negative() {
+		ConditionalCheck.allInRange(false, new long[] { 1L, 11L }, 1L, 10L, "ids");
+	}
+
+	@Test(expected = IllegalNumberRangeException.class)
+	public void testAllInRangeLongArray_Positive_Failure() {
+		ConditionalCheck.allInRange(true, new long[] { 1L, 11L }, 1L, 10L, "ids");
+	}
+
+	@Test
+	public void testAllInRangeLongArray_Positive_NoFailure() {
+		ConditionalCheck.allInRange(true, new long[] { 1L, 10L }, 1L, 10L, "ids");
+	}
+
+	@Test
+	public void testBetweenDouble_Negative() {
+		ConditionalCheck.between(false, Double.NaN, 0.0d, 1.0d);
+	}
+
+	@Test(expected = IllegalNotInRangeException.class)
+	public void testBetweenDouble_Positive_Failure() {
+		ConditionalCheck.between(true, Double.NaN, 0.0d, 1.0d);
+	}
+
+	@Test
+	public void testBetweenDouble_Positive_NoFailure() {
+		ConditionalCheck.between(true, 1.0d, 0.0d, 1.0d);
+	}
+
+	@Test
+	public void testBetweenInt_Negative() {
+		ConditionalCheck.between(false, 11, 0, 10);
+	}
+
+	@Test(expected = IllegalNotInRangeException.class)
+	public void testBetweenInt_Positive_Failure() {
+		ConditionalCheck.between(true, 11, 0, 10);
+	}
+
+	@Test
+	public void testBetweenInt_Positive_NoFailure() {
+		ConditionalCheck.between(true, 10, 0, 10);
+	}
+
+	@Test
+	public void testBetweenIntArgName_Negative() {
+		ConditionalCheck.between(false, -1, 0, 10, "count");
+	}
+
+	@Test(expected = IllegalNotInRangeException.class)
+	public void testBetweenIntArgName_Positive_Failure() {
+		ConditionalCheck.between(true, -1, 0, 10, "count");
+	}
+
+	@Test
+	public void testBetweenIntArgName_Positive_NoFailure() {
+		ConditionalCheck.between(true, 0, 0, 10, "count");
+	}
+
 	@Test
 	public void testContains_Negative() {
 		ConditionalCheck.contains(false, set, Letter.B);
@@ -130,6 +202,56 @@ public class ConditionalCheckTest {
 		ConditionalCheck.contains(true, set, Letter.D, "msg");
 	}
 
+	@Test
+	public void testContainsAllowed_Negative() {
+		ConditionalCheck.contains(false, AllowedInts.of(1), 2);
+		ConditionalCheck.contains(false, AllowedInts.of(1), 2, "msg");
+		ConditionalCheck.contains(false, AllowedLongs.of(1L), 2L);
+		ConditionalCheck.contains(false, AllowedLongs.of(1L), 2L, "msg");
+		ConditionalCheck.contains(false, AllowedValues.of(set), Letter.C);
+		ConditionalCheck.contains(false, AllowedValues.of(set), Letter.C, "msg");
+	}
+
+	@Test(expected = IllegalNotContainedArgumentException.class)
+	public void testContainsAllowed_Positive_Failure() {
+		ConditionalCheck.contains(true, AllowedLongs.of(1L), 2L, "msg");
+	}
+
+	@Test
+	public void testContainsAllowed_Positive_NoFailure() {
+		ConditionalCheck.contains(true, AllowedInts.of(1), 1);
+		ConditionalCheck.contains(true, AllowedInts.of(1), 1, "msg");
+		ConditionalCheck.contains(true, AllowedLongs.of(1L), 1L);
+		ConditionalCheck.contains(true, AllowedLongs.of(1L), 1L, "msg");
+		ConditionalCheck.contains(true, AllowedValues.of(set), Letter.A);
+		ConditionalCheck.contains(true, AllowedValues.of(set), Letter.D, "msg");
+	}
+
+	@Test
+	public void testContainsAll_Negative() {
+		ConditionalCheck.containsAll(false, AllowedInts.of(1), new int[] { 2 });
+		ConditionalCheck.containsAll(false, AllowedInts.of(1), new int[] { 2 }, "msg");
+		ConditionalCheck.containsAll(false, AllowedLongs.of(1L), new long[] { 2L });
+		ConditionalCheck.containsAll(false, AllowedLongs.of(1L), new long[] { 2L }, "msg");
+		ConditionalCheck.containsAll(false, AllowedValues.of(set), EnumSet.of(Letter.C));
+		ConditionalCheck.containsAll(false, AllowedValues.of(set), EnumSet.of(Letter.C), "msg");
+	}
+
+	@Test(expected = IllegalNotContainedArgumentException.class)
+	public void testContainsAll_Positive_Failure() {
+		ConditionalCheck.containsAll(true, AllowedInts.of(1), new int[] { 1, 2 }, "msg");
+	}
+
+	@Test
+	public void testContainsAll_Positive_NoFailure() {
+		ConditionalCheck.containsAll(true, AllowedInts.of(1), new int[] { 1 });
+		ConditionalCheck.containsAll(true, AllowedInts.of(1), new int[] { 1 }, "msg");
+		ConditionalCheck.containsAll(true, AllowedLongs.of(1L), new long[] { 1L });
+		ConditionalCheck.containsAll(true, AllowedLongs.of(1L), new long[] { 1L }, "msg");
+		ConditionalCheck.containsAll(true, AllowedValues.of(set), set);
+		ConditionalCheck.containsAll(true, AllowedValues.of(set), set, "msg");
+	}
+
 	@Test
 	public void testEquals_Negative() {
 		ConditionalCheck.equals(false, Long.valueOf(412), Long.valueOf(42));
@@ -451,6 +573,51 @@ public class ConditionalCheckTest {
 		ConditionalCheck.hasAnnotation(true, FakeAnnotatedClass.class, Resource.class);
 	}
 
+	@Test
+	public void testInRangeChar_Negative() {
+		ConditionalCheck.inRange(false, 'z', 'a', 'z');
+	}
+
+	@Test(expected = IllegalNotInRangeException.class)
+	public void testInRangeChar_Positive_Failure() {
+		ConditionalCheck.inRange(true, 'z', 'a', 'z');
+	}
+
+	@Test
+	public void testInRangeChar_Positive_NoFailure() {
+		ConditionalCheck.inRange(true, 'y', 'a', 'z');
+	}
+
+	@Test
+	public void testInRangeInt_Negative() {
+		ConditionalCheck.inRange(false, 10, 0, 10);
+	}
+
+	@Test(expected = IllegalNotInRangeException.class)
+	public void testInRangeInt_Positive_Failure() {
+		ConditionalCheck.inRange(true, 10, 0, 10);
+	}
+
+	@Test
+	public void testInRangeInt_Positive_NoFailure() {
+		ConditionalCheck.inRange(true, 9, 0, 10);
+	}
+
+	@Test
+	public void testInRangeLongArgName_Negative() {
+		ConditionalCheck.inRange(false, -1L, 0L, 10L, "index");
+	}
+
+	@Test(expected = IllegalNotInRangeException.class)
+	public void testInRangeLongArgName_Positive_Failure() {
+		ConditionalCheck.inRange(true, -1L, 0L, 10L, "index");
+	}
+
+	@Test
+	public void testInRangeLongArgName_Positive_NoFailure() {
+		ConditionalCheck.inRange(true, 0L, 0L, 10L, "index");
+	}
+
 	@Test
 	public void testInstanceOf_Negative() {
 		ConditionalCheck.instanceOf(false, Integer.class, Long.valueOf(3));
@@ -511,6 +678,126 @@ public class ConditionalCheckTest {
 		ConditionalCheck.isNull(true, null, "foo");
 	}
 
+	@Test
+	public void testIsByte_Negative() {
+		ConditionalCheck.isByte(false, "Quality-Check");
+	}
+
+	@Test(expected = IllegalNumberArgumentException.class)
+	public void testIsByte_Positive_Failure() {
+		ConditionalCheck.isByte(true, "Quality-Check");
+	}
+
+	@Test
+	public void testIsByte_Positive_NoFailure() {
+		ConditionalCheck.isByte(true, "42");
+	}
+
+	@Test
+	public void testIsByteArgName_Negative() {
+		ConditionalCheck.isByte(false, "128", "arg");
+	}
+
+	@Test(expected = IllegalNumberRangeException.class)
+	public void testIsByteArgName_Positive_Failure() {
+		ConditionalCheck.isByte(true, "128", "arg");
+	}
+
+	@Test
+	public void testIsByteArgName_Positive_NoFailure() {
+		ConditionalCheck.isByte(true, "42", "arg");
+	}
+
+	@Test
+	public void testIsInt_Negative() {
+		ConditionalCheck.isInt(false, "Quality-Check");
+	}
+
+	@Test(expected = IllegalNumberArgumentException.class)
+	public void testIsInt_Positive_Failure() {
+		ConditionalCheck.isInt(true, "Quality-Check");
+	}
+
+	@Test
+	public void testIsInt_Positive_NoFailure() {
+		ConditionalCheck.isInt(true, "42");
+	}
+
+	@Test
+	public void testIsIntArgName_Negative() {
+		ConditionalCheck.isInt(false, "2147483648", "arg");
+	}
+
+	@Test(expected = IllegalNumberRangeException.class)
+	public void testIsIntArgName_Positive_Failure() {
+		ConditionalCheck.isInt(true, "2147483648", "arg");
+	}
+
+	@Test
+	public void testIsIntArgName_Positive_NoFailure() {
+		ConditionalCheck.isInt(true, "42", "arg");
+	}
+
+	@Test
+	public void testIsLong_Negative() {
+		ConditionalCheck.isLong(false, "Quality-Check");
+	}
+
+	@Test(expected = IllegalNumberArgumentException.class)
+	public void testIsLong_Positive_Failure() {
+		ConditionalCheck.isLong(true, "Quality-Check");
+	}
+
+	@Test
+	public void testIsLong_Positive_NoFailure() {
+		ConditionalCheck.isLong(true, "42");
+	}
+
+	@Test
+	public void testIsLongArgName_Negative() {
+		ConditionalCheck.isLong(false, "9223372036854775808", "arg");
+	}
+
+	@Test(expected = IllegalNumberRangeException.class)
+	public void testIsLongArgName_Positive_Failure() {
+		ConditionalCheck.isLong(true, "9223372036854775808", "arg");
+	}
+
+	@Test
+	public void testIsLongArgName_Positive_NoFailure() {
+		ConditionalCheck.isLong(true, "42", "arg");
+	}
+
+	@Test
+	public void testIsShort_Negative() {
+		ConditionalCheck.isShort(false, "Quality-Check");
+	}
+
+	@Test(expected = IllegalNumberArgumentException.class)
+	public void testIsShort_Positive_Failure() {
+		ConditionalCheck.isShort(true, "Quality-Check");
+	}
+
+	@Test
+	public void testIsShort_Positive_NoFailure() {
+		ConditionalCheck.isShort(true, "42");
+	}
+
+	@Test
+	public void testIsShortArgName_Negative() {
+		ConditionalCheck.isShort(false, "32768", "arg");
+	}
+
+	@Test(expected = IllegalNumberRangeException.class)
+	public void testIsShortArgName_Positive_Failure() {
+		ConditionalCheck.isShort(true, "32768", "arg");
+	}
+
+	@Test
+	public void testIsShortArgName_Positive_NoFailure() {
+		ConditionalCheck.isShort(true, "42", "arg");
+	}
+
 	@Test
 	public void testIsNumber_Negative() {
 		ConditionalCheck.isNumber(false, "Quality-Check");
@@ -586,6 +873,36 @@ public class ConditionalCheckTest {
 		ConditionalCheck.isNumeric(true, "042");
 	}
 
+	@Test
+	public void testIsNumericBuffer_Negative() {
+		ConditionalCheck.isNumeric(false, ByteBuffer.wrap("Quality-Check".getBytes()));
+	}
+
+	@Test(expected = IllegalNumericArgumentException.class)
+	public void testIsNumericBuffer_Positive_Failure() {
+		ConditionalCheck.isNumeric(true, ByteBuffer.wrap("Quality-Check".getBytes()));
+	}
+
+	@Test
+	public void testIsNumericBuffer_Positive_NoFailure() {
+		ConditionalCheck.isNumeric(true, ByteBuffer.wrap("042".getBytes()));
+	}
+
+	@Test
+	public void testIsNumericBufferArgName_Negative() {
+		ConditionalCheck.isNumeric(false, ByteBuffer.wrap("Quality-Check".getBytes()), "arg");
+	}
+
+	@Test(expected = IllegalNumericArgumentException.class)
+	public void testIsNumericBufferArgName_Positive_Failure() {
+		ConditionalCheck.isNumeric(true, ByteBuffer.wrap("Quality-Check".getBytes()), "arg");
+	}
+
+	@Test
+	public void testIsNumericBufferArgName_Positive_NoFailure() {
+		ConditionalCheck.isNumeric(true, ByteBuffer.wrap("042".getBytes()), "arg");
+	}
+
 	@Test
 	public void testIsNumericArgName_Negative() {
 		ConditionalCheck.isNumeric(false, "Quality-Check", "arg");
@@ -649,6 +966,92 @@ public class ConditionalCheckTest {
 		ConditionalCheck.lesserThan(true, expected, check, "Must be lesser than 0.");
 	}
 
+	@Test
+	public void testMatchesCompiledPattern_Negative() {
+		ConditionalCheck.matchesPattern(false, CompiledPattern.compile("PLZ \\d{5}"), "Hallo");
+		ConditionalCheck.matchesPattern(false, CompiledPattern.compile("PLZ \\d{5}"), "Hallo", "arg");
+		ConditionalCheck.matchesPattern(false, CompiledPattern.compile("PLZ \\d{5}"), ByteBuffer.wrap("Hallo".getBytes()));
+		ConditionalCheck.matchesPattern(false, CompiledPattern.compile("PLZ \\d{5}"), ByteBuffer.wrap("Hallo".getBytes()), "arg");
+	}
+
+	@Test(expected = IllegalPatternArgumentException.class)
+	public void testMatchesCompiledPattern_Positive_Failure() {
+		ConditionalCheck.matchesPattern(true, CompiledPattern.compile("PLZ \\d{5}"), "Hallo");
+	}
+
+	@Test
+	public void testMatchesCompiledPattern_Positive_NoFailure() {
+		ConditionalCheck.matchesPattern(true, CompiledPattern.compile("PLZ \\d{5}"), "PLZ 83410");
+		ConditionalCheck.matchesPattern(true, CompiledPattern.compile("PLZ \\d{5}"), "PLZ 83410", "arg");
+		ConditionalCheck.matchesPattern(true, CompiledPattern.compile("PLZ \\d{5}"), ByteBuffer.wrap("PLZ 83410".getBytes()));
+		ConditionalCheck.matchesPattern(true, CompiledPattern.compile("PLZ \\d{5}"), ByteBuffer.wrap("PLZ 83410".getBytes()), "arg");
+	}
+
+	@Test(expected = IllegalPatternArgumentException.class)
+	public void testMatchesCompiledPatternBufferArgName_Positive_Failure() {
+		ConditionalCheck.matchesPattern(true, CompiledPattern.compile("PLZ \\d{5}"), ByteBuffer.wrap("Hallo".getBytes()), "arg");
+	}
+
+	@Test
+	public void testMatchesPatternBuffer_Negative() {
+		ConditionalCheck.matchesPattern(false, Pattern.compile("PLZ \\d{5}"), ByteBuffer.wrap("Hallo".getBytes()));
+	}
+
+	@Test(expected = IllegalPatternArgumentException.class)
+	public void testMatchesPatternBuffer_Positive_Failure() {
+		ConditionalCheck.matchesPattern(true, Pattern.compile("PLZ \\d{5}"), ByteBuffer.wrap("Hallo".getBytes()));
+	}
+
+	@Test
+	public void testMatchesPatternBuffer_Positive_NoFailure() {
+		ConditionalCheck.matchesPattern(true, Pattern.compile("PLZ \\d{5}"), ByteBuffer.wrap("PLZ 83410".getBytes()));
+	}
+
+	@Test
+	public void testMatchesPatternBufferArgName_Negative() {
+		ConditionalCheck.matchesPattern(false, Pattern.compile("PLZ \\d{5}"), ByteBuffer.wrap("Hallo".getBytes()), "arg");
+	}
+
+	@Test(expected = IllegalPatternArgumentException.class)
+	public void testMatchesPatternBufferArgName_Positive_Failure() {
+		ConditionalCheck.matchesPattern(true, Pattern.compile("PLZ \\d{5}"), ByteBuffer.wrap("Hallo".getBytes()), "arg");
+	}
+
+	@Test
+	public void testMatchesPatternBufferArgName_Positive_NoFailure() {
+		ConditionalCheck.matchesPattern(true, Pattern.compile("PLZ \\d{5}"), ByteBuffer.wrap("PLZ 83410".getBytes()), "arg");
+	}
+
+	@Test
+	public void testMatchesRegexBuffer_Negative() {
+		ConditionalCheck.matchesPattern(false, "PLZ \\d{5}", ByteBuffer.wrap("Hallo".getBytes()));
+	}
+
+	@Test(expected = IllegalPatternArgumentException.class)
+	public void testMatchesRegexBuffer_Positive_Failure() {
+		ConditionalCheck.matchesPattern(true, "PLZ \\d{5}", ByteBuffer.wrap("Hallo".getBytes()));
+	}
+
+	@Test
+	public void testMatchesRegexBuffer_Positive_NoFailure() {
+		ConditionalCheck.matchesPattern(true, "PLZ \\d{5}", ByteBuffer.wrap("PLZ 83410".getBytes()));
+	}
+
+	@Test
+	public void testMatchesRegexBufferArgName_Negative() {
+		ConditionalCheck.matchesPattern(false, "PLZ \\d{5}", ByteBuffer.wrap("Hallo".getBytes()), "arg");
+	}
+
+	@Test(expected = IllegalPatternArgumentException.class)
+	public void testMatchesRegexBufferArgName_Positive_Failure() {
+		ConditionalCheck.matchesPattern(true, "PLZ \\d{5}", ByteBuffer.wrap("Hallo".getBytes()), "arg");
+	}
+
+	@Test
+	public void testMatchesRegexBufferArgName_Positive_NoFailure() {
+		ConditionalCheck.matchesPattern(true, "PLZ \\d{5}", ByteBuffer.wrap("PLZ 83410".getBytes()), "arg");
+	}
+
 	@Test
 	public void testMatchesPattern_Negative() {
 		ConditionalCheck.matchesPattern(false, Pattern.compile("PLZ \\d{5}"), "Hallo");
@@ -679,6 +1082,36 @@ public class ConditionalCheckTest {
 		ConditionalCheck.matchesPattern(true, Pattern.compile("PLZ \\d{5}"), "PLZ 83410", "arg");
 	}
 
+	@Test
+	public void testMatchesPatternRegex_Negative() {
+		ConditionalCheck.matchesPattern(false, "PLZ \\d{5}", "Hallo");
+	}
+
+	@Test(expected = IllegalPatternArgumentException.class)
+	public void testMatchesPatternRegex_Positive_Failure() {
+		ConditionalCheck.matchesPattern(true, "PLZ \\d{5}", "Hallo");
+	}
+
+	@Test
+	public void testMatchesPatternRegex_Positive_NoFailure() {
+		ConditionalCheck.matchesPattern(true, "PLZ \\d{5}", "PLZ 83410");
+	}
+
+	@Test
+	public void testMatchesPatternRegexArgName_Negative() {
+		ConditionalCheck.matchesPattern(false, "PLZ \\d{5}", "Hallo", "arg");
+	}
+
+	@Test(expected = IllegalPatternArgumentException.class)
+	public void testMatchesPatternRegexArgName_Positive_Failure() {
+		ConditionalCheck.matchesPattern(true, "PLZ \\d{5}", "Hallo", "arg");
+	}
+
+	@Test
+	public void testMatchesPatternRegexArgName_Positive_NoFailure() {
+		ConditionalCheck.matchesPattern(true, "PLZ \\d{5}", "PLZ 83410", "arg");
+	}
+
 	@Test
 	public void testNaNDouble_Negative() {
 		ConditionalCheck.notNaN(false, Double.NaN);
@@ -833,6 +1266,38 @@ public class ConditionalCheckTest {
 		ConditionalCheck.noNullElements(true, list, "arg");
 	}
 
+	@Test
+	public void testNoNullElementsArrayExecutor_Negative() {
+		ConditionalCheck.noNullElements(false, new Long[] { Long.valueOf(42), null }, SAME_THREAD, "arg");
+	}
+
+	@Test(expected = IllegalNullElementsException.class)
+	public void testNoNullElementsArrayExecutor_Positive_Failure() {
+		ConditionalCheck.noNullElements(true, new Long[] { Long.valueOf(42), null }, SAME_THREAD, "arg");
+	}
+
+	@Test
+	public void testNoNullElementsArrayExecutor_Positive_NoFailure() {
+		ConditionalCheck.noNullElements(true, new Long[] { Long.valueOf(42) }, SAME_THREAD, "arg");
+		ConditionalCheck.noNullElements(true, new Long[] { Long.valueOf(42) }, SAME_THREAD);
+	}
+
+	@Test
+	public void testNoNullElementsExecutor_Negative() {
+		ConditionalCheck.noNullElements(false, Arrays.asList(Long.valueOf(42), null), SAME_THREAD, "arg");
+	}
+
+	@Test(expected = IllegalNullElementsException.class)
+	public void testNoNullElementsExecutor_Positive_Failure() {
+		ConditionalCheck.noNullElements(true, Arrays.asList(Long.valueOf(42), null), SAME_THREAD);
+	}
+
+	@Test
+	public void testNoNullElementsExecutor_Positive_NoFailure() {
+		ConditionalCheck.noNullElements(true, Arrays.asList(Long.valueOf(42)), SAME_THREAD, "arg");
+		ConditionalCheck.noNullElements(true, Arrays.asList(Long.valueOf(42)), SAME_THREAD);
+	}
+
 	@Test
 	public void testNotEmpty_Negative() {
 		final List<String> list = new ArrayList<String>();
@@ -1273,6 +1738,21 @@ public class ConditionalCheckTest {
 		ConditionalCheck.notEquals(true, (short) 3, (short) 23, "msg");
 	}
 
+	@Test
+	public void testNotNaNDoubleArray_Negative() {
+		ConditionalCheck.notNaN(false, new double[] { 1.0, Double.NaN }, "readings");
+	}
+
+	@Test(expected = IllegalNaNArgumentException.class)
+	public void testNotNaNDoubleArray_Positive_Failure() {
+		ConditionalCheck.notNaN(true, new double[] { 1.0, Double.NaN }, "readings");
+	}
+
+	@Test
+	public void testNotNaNDoubleArray_Positive_NoFailure() {
+		ConditionalCheck.notNaN(true, new double[] { 1.0, 2.0 }, "readings");
+	}
+
 	@Test
 	public void testNotNegative_Negative() {
 		ConditionalCheck.notNegative(false, -42);
@@ -1303,6 +1783,21 @@ public class ConditionalCheckTest {
 		ConditionalCheck.notNegative(true, 42, "arg");
 	}
 
+	@Test
+	public void testNotNegativeIntArray_Negative() {
+		ConditionalCheck.notNegative(false, new int[] { 1, -1 }, "values");
+	}
+
+	@Test(expected = IllegalNegativeArgumentException.class)
+	public void testNotNegativeIntArray_Positive_Failure() {
+		ConditionalCheck.notNegative(true, new int[] { 1, -1 }, "values");
+	}
+
+	@Test
+	public void testNotNegativeIntArray_Positive_NoFailure() {
+		ConditionalCheck.notNegative(true, new int[] { 1, 0 }, "values");
+	}
+
 	@Test
 	public void testNotNull_Negative() {
 		ConditionalCheck.notNull(false, null);
@@ -1378,6 +1873,21 @@ public class ConditionalCheckTest {
 		ConditionalCheck.positionIndex(true, 2, 5);
 	}
 
+	@Test
+	public void testPositionIndexArray_Negative() {
+		ConditionalCheck.positionIndex(false, new int[] { 0, 5 }, 2, "indices");
+	}
+
+	@Test(expected = IllegalPositionIndexException.class)
+	public void testPositionIndexArray_Positive_Failure() {
+		ConditionalCheck.positionIndex(true, new int[] { 0, 5 }, 2, "indices");
+	}
+
+	@Test
+	public void testPositionIndexArray_Positive_NoFailure() {
+		ConditionalCheck.positionIndex(true, new int[] { 0, 1 }, 2, "indices");
+	}
+
 	@Test
 	public void testRange_Negative() {
 		ConditionalCheck.range(false, 5, 2, 7);
@@ -1423,6 +1933,36 @@ public class ConditionalCheckTest {
 		ConditionalCheck.stateIsTrue(true, 2 < 4, "arg");
 	}
 
+	@Test
+	public void testStateDescriptionSupplier_Negative() {
+		ConditionalCheck.stateIsTrue(false, 4 < 2, new DescriptionSupplier() {
+			@Override
+			public String get() {
+				return "arg";
+			}
+		});
+	}
+
+	@Test(expected = IllegalStateOfArgumentException.class)
+	public void testStateDescriptionSupplier_Positive_Failure() {
+		ConditionalCheck.stateIsTrue(true, 4 < 2, new DescriptionSupplier() {
+			@Override
+			public String get() {
+				return "arg";
+			}
+		});
+	}
+
+	@Test
+	public void testStateDescriptionSupplier_Positive_NoFailure() {
+		ConditionalCheck.stateIsTrue(true, 2 < 4, new DescriptionSupplier() {
+			@Override
+			public String get() {
+				return "arg";
+			}
+		});
+	}
+
 	@Test
 	public void testStateException_Negative() {
 		ConditionalCheck.stateIsTrue(false, 4 < 2, NullPointerException.class);
@@ -1438,6 +1978,156 @@ public class ConditionalCheckTest {
 		ConditionalCheck.stateIsTrue(true, 2 < 4, NullPointerException.class);
 	}
 
+	@Test
+	public void testStateExceptionFactory_Negative() {
+		ConditionalCheck.stateIsTrue(false, 4 < 2, new ExceptionFactory<IllegalStateException>() {
+			@Override
+			public IllegalStateException create(final String message) {
+				return new IllegalStateException(message);
+			}
+		}, "closed");
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testStateExceptionFactory_Positive_Failure() {
+		ConditionalCheck.stateIsTrue(true, 4 < 2, new ExceptionFactory<IllegalStateException>() {
+			@Override
+			public IllegalStateException create(final String message) {
+				return new IllegalStateException(message);
+			}
+		}, "closed");
+	}
+
+	@Test
+	public void testStateExceptionFactory_Positive_NoFailure() {
+		ConditionalCheck.stateIsTrue(true, 2 < 4, new ExceptionFactory<IllegalStateException>() {
+			@Override
+			public IllegalStateException create(final String message) {
+				return new IllegalStateException(message);
+			}
+		}, "closed");
+	}
+
+	@Test
+	public void testStateMessageInt_Negative() {
+		ConditionalCheck.stateIsTrue(false, 4 < 2, "%d", 1);
+	}
+
+	@Test(expected = IllegalStateOfArgumentException.class)
+	public void testStateMessageInt_Positive_Failure() {
+		ConditionalCheck.stateIsTrue(true, 4 < 2, "%d", 1);
+	}
+
+	@Test
+	public void testStateMessageInt_Positive_NoFailure() {
+		ConditionalCheck.stateIsTrue(true, 2 < 4, "%d", 1);
+	}
+
+	@Test
+	public void testStateMessageIntInt_Negative() {
+		ConditionalCheck.stateIsTrue(false, 4 < 2, "%d %d", 1, 2);
+	}
+
+	@Test(expected = IllegalStateOfArgumentException.class)
+	public void testStateMessageIntInt_Positive_Failure() {
+		ConditionalCheck.stateIsTrue(true, 4 < 2, "%d %d", 1, 2);
+	}
+
+	@Test
+	public void testStateMessageIntInt_Positive_NoFailure() {
+		ConditionalCheck.stateIsTrue(true, 2 < 4, "%d %d", 1, 2);
+	}
+
+	@Test
+	public void testStateMessageLong_Negative() {
+		ConditionalCheck.stateIsTrue(false, 4 < 2, "%d", 1L);
+	}
+
+	@Test(expected = IllegalStateOfArgumentException.class)
+	public void testStateMessageLong_Positive_Failure() {
+		ConditionalCheck.stateIsTrue(true, 4 < 2, "%d", 1L);
+	}
+
+	@Test
+	public void testStateMessageLong_Positive_NoFailure() {
+		ConditionalCheck.stateIsTrue(true, 2 < 4, "%d", 1L);
+	}
+
+	@Test
+	public void testStateMessageLongLong_Negative() {
+		ConditionalCheck.stateIsTrue(false, 4 < 2, "%d %d", 1L, 2L);
+	}
+
+	@Test(expected = IllegalStateOfArgumentException.class)
+	public void testStateMessageLongLong_Positive_Failure() {
+		ConditionalCheck.stateIsTrue(true, 4 < 2, "%d %d", 1L, 2L);
+	}
+
+	@Test
+	public void testStateMessageLongLong_Positive_NoFailure() {
+		ConditionalCheck.stateIsTrue(true, 2 < 4, "%d %d", 1L, 2L);
+	}
+
+	@Test
+	public void testStateMessageObject_Negative() {
+		ConditionalCheck.stateIsTrue(false, 4 < 2, "%s", "a");
+	}
+
+	@Test(expected = IllegalStateOfArgumentException.class)
+	public void testStateMessageObject_Positive_Failure() {
+		ConditionalCheck.stateIsTrue(true, 4 < 2, "%s", "a");
+	}
+
+	@Test
+	public void testStateMessageObject_Positive_NoFailure() {
+		ConditionalCheck.stateIsTrue(true, 2 < 4, "%s", "a");
+	}
+
+	@Test
+	public void testStateMessageObjectObject_Negative() {
+		ConditionalCheck.stateIsTrue(false, 4 < 2, "%s %s", "a", "b");
+	}
+
+	@Test(expected = IllegalStateOfArgumentException.class)
+	public void testStateMessageObjectObject_Positive_Failure() {
+		ConditionalCheck.stateIsTrue(true, 4 < 2, "%s %s", "a", "b");
+	}
+
+	@Test
+	public void testStateMessageObjectObject_Positive_NoFailure() {
+		ConditionalCheck.stateIsTrue(true, 2 < 4, "%s %s", "a", "b");
+	}
+
+	@Test
+	public void testStateMessageObjectObjectObject_Negative() {
+		ConditionalCheck.stateIsTrue(false, 4 < 2, "%s %s %s", "a", "b", "c");
+	}
+
+	@Test(expected = IllegalStateOfArgumentException.class)
+	public void testStateMessageObjectObjectObject_Positive_Failure() {
+		ConditionalCheck.stateIsTrue(true, 4 < 2, "%s %s %s", "a", "b", "c");
+	}
+
+	@Test
+	public void testStateMessageObjectObjectObject_Positive_NoFailure() {
+		ConditionalCheck.stateIsTrue(true, 2 < 4, "%s %s %s", "a", "b", "c");
+	}
+
+	@Test
+	public void testStateMessageObjectObjectObjectObject_Negative() {
+		ConditionalCheck.stateIsTrue(false, 4 < 2, "%s %s %s %s", "a", "b", "c", "d");
+	}
+
+	@Test(expected = IllegalStateOfArgumentException.class)
+	public void testStateMessageObjectObjectObjectObject_Positive_Failure() {
+		ConditionalCheck.stateIsTrue(true, 4 < 2, "%s %s %s %s", "a", "b", "c", "d");
+	}
+
+	@Test
+	public void testStateMessageObjectObjectObjectObject_Positive_NoFailure() {
+		ConditionalCheck.stateIsTrue(true, 2 < 4, "%s %s %s %s", "a", "b", "c", "d");
+	}
+
 	@Test
 	public void testStateMessage_Negative() {
 		ConditionalCheck.stateIsTrue(false, 4 < 2, "arg {0}", Long.valueOf(4));
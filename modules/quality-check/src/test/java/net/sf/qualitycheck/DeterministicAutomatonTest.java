@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.util.regex.Pattern;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DeterministicAutomatonTest {
+
+	private static DeterministicAutomaton compile(final String regex) {
+		return DeterministicAutomaton.compile(Pattern.compile(regex));
+	}
+
+	@Test
+	public void compile_stateExplosion() {
+		// the 9th character from the end must be an 'a', which needs at least 2^9 states
+		Assert.assertTrue(compile("(a|b)*a(a|b){8}").getStateCount() >= 512);
+		Assert.assertNull(compile("(a|b)*a(a|b){12}"));
+	}
+
+	@Test
+	public void compile_tooManyRepetitions() {
+		Assert.assertNotNull(compile("a{1000}"));
+		Assert.assertNull(compile("a{1001}"));
+		Assert.assertNull(compile("(abcdefgh){1000}"));
+	}
+
+	@Test
+	public void match() {
+		final DeterministicAutomaton automaton = compile("[^a]b");
+		Assert.assertEquals(DeterministicAutomaton.MATCH, automaton.match("xb"));
+		Assert.assertEquals(DeterministicAutomaton.NO_MATCH, automaton.match("ab"));
+		Assert.assertEquals(DeterministicAutomaton.NO_MATCH, automaton.match("x"));
+		Assert.assertEquals(DeterministicAutomaton.UNDECIDED, automaton.match("\ud83d\ude00b"));
+	}
+
+	@Test
+	public void match_surrogateNotInAnyClass() {
+		Assert.assertEquals(DeterministicAutomaton.NO_MATCH, compile("[a-z]+").match("a\ud83d\ude00"));
+	}
+
+	@Test
+	public void stateCount_minimalForLiterals() {
+		Assert.assertEquals(4, compile("abc").getStateCount());
+	}
+
+}
@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.lang.reflect.Constructor;
+
+import net.sf.qualitycheck.exception.IllegalNaNArgumentException;
+import net.sf.qualitycheck.exception.IllegalStateOfArgumentException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FailuresTest {
+
+	@Test
+	public void giveMeCoverageForMyPrivateConstructor() throws Exception {
+		// reduces only some noise in coverage report
+		final Constructor<Failures> constructor = Failures.class.getDeclaredConstructor();
+		constructor.setAccessible(true);
+		constructor.newInstance();
+	}
+
+	@Test
+	public void throwIllegalNaNArgument_elementName() {
+		try {
+			Failures.throwIllegalNaNArgument("values", 3);
+			Assert.fail();
+		} catch (final IllegalNaNArgumentException e) {
+			Assert.assertTrue(e.getMessage().contains("'values[3]'"));
+		}
+	}
+
+	@Test
+	public void throwIllegalNaNArgument_elementNameWithoutName() {
+		try {
+			Failures.throwIllegalNaNArgument(null, 3);
+			Assert.fail();
+		} catch (final IllegalNaNArgumentException e) {
+			Assert.assertTrue(e.getMessage().contains("'[3]'"));
+		}
+	}
+
+	@Test
+	public void throwIllegalStateOfArgument_boxesArguments() {
+		try {
+			Failures.throwIllegalStateOfArgument("%d of %d", 1L, 2L);
+			Assert.fail();
+		} catch (final IllegalStateOfArgumentException e) {
+			Assert.assertTrue(e.getMessage().contains("1 of 2"));
+		}
+	}
+
+}
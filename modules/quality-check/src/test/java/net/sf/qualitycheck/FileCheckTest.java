@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Constructor;
+import java.nio.channels.FileChannel;
+
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+import net.sf.qualitycheck.exception.IllegalNumericArgumentException;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class FileCheckTest {
+
+	private File file;
+
+	private RandomAccessFile access;
+
+	private FileChannel write(final String content) throws IOException {
+		final FileOutputStream out = new FileOutputStream(file);
+		try {
+			out.write(content.getBytes("US-ASCII"));
+		} finally {
+			out.close();
+		}
+		access = new RandomAccessFile(file, "r");
+		return access.getChannel();
+	}
+
+	@Before
+	public void setUp() throws IOException {
+		file = File.createTempFile("FileCheckTest", ".txt");
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		if (access != null) {
+			access.close();
+		}
+		file.delete();
+	}
+
+	@Test
+	public void giveMeCoverageForMyPrivateConstructor() throws Exception {
+		// reduces only some noise in coverage report
+		final Constructor<FileCheck> constructor = FileCheck.class.getDeclaredConstructor();
+		constructor.setAccessible(true);
+		constructor.newInstance();
+	}
+
+	@Test
+	public void isNumeric() throws IOException {
+		final FileChannel channel = write("0123456789");
+		Assert.assertSame(channel, FileCheck.isNumeric(channel));
+		Assert.assertSame(channel, FileCheck.isNumeric(channel, "file"));
+	}
+
+	@Test
+	public void isNumeric_empty() throws IOException {
+		try {
+			FileCheck.isNumeric(write(""), "file");
+			Assert.fail();
+		} catch (final IllegalNumericArgumentException e) {
+			Assert.assertEquals(0, e.getOffset());
+		}
+	}
+
+	@Test
+	public void isNumeric_failure() throws IOException {
+		try {
+			FileCheck.isNumeric(write("0123x56789"));
+			Assert.fail();
+		} catch (final IllegalNumericArgumentException e) {
+			Assert.assertEquals(4, e.getOffset());
+			Assert.assertNull(e.getIllegalArgument());
+			Assert.assertEquals("The passed argument must be numeric, but has no digit at offset 4.", e.getMessage());
+		}
+	}
+
+	@Test
+	public void isNumeric_failureInLaterWindow() throws IOException {
+		final FileChannel channel = write("0123456789012345678901234567x9");
+		for (final int windowSize : new int[] { 1, 3, 7, 8, 16, 29, 30, 64 }) {
+			try {
+				FileCheck.isNumeric(channel, "file", windowSize);
+				Assert.fail();
+			} catch (final IllegalNumericArgumentException e) {
+				Assert.assertEquals(28, e.getOffset());
+				Assert.assertEquals("The passed argument 'file' must be numeric, but has no digit at offset 28.", e.getMessage());
+			}
+		}
+	}
+
+	@Test
+	public void isNumeric_multipleWindows() throws IOException {
+		final FileChannel channel = write("012345678901234567890123456789");
+		for (final int windowSize : new int[] { 1, 3, 7, 8, 16, 29, 30, 64 }) {
+			Assert.assertSame(channel, FileCheck.isNumeric(channel, "file", windowSize));
+		}
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void isNumeric_null() throws IOException {
+		FileCheck.isNumeric(null);
+	}
+
+}
@@ -0,0 +1,261 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Runs hot calls of frequently used checks in a forked HotSpot JVM with {@code -XX:+PrintInlining} and asserts that the
+ * JIT compiler inlines every check into its caller and that the byte code of every check fits into the default
+ * {@code MaxInlineSize} of 35 bytes, so that a check is inlined even at call sites which are not hot.
+ * 
+ * <p>
+ * The test is skipped if the running JVM does not support the diagnostic options or does not print inlining decisions.
+ */
+public class InliningTest {
+
+	/**
+	 * Calls every check of {@link #CHECKS} often enough to be compiled by C2. Every check is called from its own method,
+	 * so that each check is compiled into a caller of its own.
+	 */
+	public static final class Driver {
+
+		private static final AllowedInts ALLOWED = AllowedInts.of(1, 2, 3);
+
+		private static final List<String> LIST = Arrays.asList("a", "b");
+
+		private static int between(final int i) {
+			return Check.between(i & 7, -1, 8, "i");
+		}
+
+		private static int checkInteger(final Integer i) {
+			return NumberInRange.checkInteger(i);
+		}
+
+		private static int contains(final int i) {
+			return Check.contains(ALLOWED, (i & 1) + 1, "i");
+		}
+
+		private static int equals(final int i) {
+			return Check.equals(i, i, "i");
+		}
+
+		private static int greaterThan(final int i) {
+			return Check.greaterThan(-1, i & 7, "i");
+		}
+
+		private static int inRange(final int i) {
+			return Check.inRange(i & 7, 0, 8, "i");
+		}
+
+		private static int isInt(final String s) {
+			return Check.isInt(s, "s");
+		}
+
+		private static int isNumber(final String s) {
+			return Check.isNumber(s, "s", Integer.class).intValue();
+		}
+
+		private static int lesserThan(final int i) {
+			return Check.lesserThan(8, i & 7, "i");
+		}
+
+		public static void main(final String[] args) {
+			int sink = 0;
+			for (int i = 0; i < CALLS; i++) {
+				sink += between(i);
+				sink += checkInteger(Integer.valueOf(i & 127));
+				sink += contains(i);
+				sink += equals(i);
+				sink += greaterThan(i);
+				sink += inRange(i);
+				sink += isInt("42");
+				sink += isNumber("42");
+				sink += lesserThan(i);
+				sink += noNullElements(LIST);
+				sink += notEmpty("a");
+				sink += notEmpty(LIST);
+				sink += notNegative(i & 7);
+				sink += notNull("a");
+				sink += positionIndex(i & 7);
+				sink += range(i & 7);
+				sink += stateIsTrue(i);
+			}
+			System.out.println(sink);
+		}
+
+		private static int noNullElements(final List<String> list) {
+			return Check.noNullElements(list, "list").size();
+		}
+
+		private static int notEmpty(final Iterable<String> iterable) {
+			return Check.notEmpty(iterable, "iterable") == null ? 0 : 1;
+		}
+
+		private static int notEmpty(final String s) {
+			return Check.notEmpty(s, "s").length();
+		}
+
+		private static int notNegative(final int i) {
+			return Check.notNegative(i, "i");
+		}
+
+		private static int notNull(final String s) {
+			return Check.notNull(s, "s").length();
+		}
+
+		private static int positionIndex(final int i) {
+			return Check.positionIndex(i, 8);
+		}
+
+		private static int range(final int i) {
+			Check.range(0, i, 8);
+			return i;
+		}
+
+		private static int stateIsTrue(final int i) {
+			Check.stateIsTrue(i >= 0, "i must not be negative: %d", i);
+			return i;
+		}
+
+	}
+
+	/**
+	 * Number of calls of every check, enough to exceed the C2 compile threshold
+	 */
+	private static final int CALLS = 50000;
+
+	/**
+	 * Checks which are called by the {@link Driver}
+	 */
+	private static final Collection<String> CHECKS = Arrays.asList("Check::between", "Check::contains", "Check::equals",
+			"Check::greaterThan", "Check::inRange", "Check::isInt", "Check::isNumber", "Check::lesserThan",
+			"Check::noNullElements", "Check::notEmpty", "Check::notNegative", "Check::notNull", "Check::positionIndex",
+			"Check::range", "Check::stateIsTrue", "NumberInRange::checkInteger");
+
+	/**
+	 * Inlining decision as printed by HotSpot, e.g.
+	 * {@code @ 3   net.sf.qualitycheck.Check::notNull (13 bytes)   inline (hot)}
+	 */
+	private static final Pattern DECISION = Pattern.compile("@ \\d+\\s+net\\.sf\\.qualitycheck\\.(\\w+::\\w+) \\((\\d+) bytes\\)\\s+(.*)");
+
+	/**
+	 * Default value of the HotSpot option {@code MaxInlineSize}
+	 */
+	private static final int MAX_INLINE_SIZE = 35;
+
+	/**
+	 * Inlining decisions per check, in the order of the output
+	 */
+	private static final Map<String, List<String>> decisions = new HashMap<String, List<String>>();
+
+	/**
+	 * Byte code sizes per check
+	 */
+	private static final Map<String, List<Integer>> sizes = new HashMap<String, List<Integer>>();
+
+	private static void add(final Map<String, List<String>> map, final String key, final String value) {
+		List<String> values = map.get(key);
+		if (values == null) {
+			values = new ArrayList<String>();
+			map.put(key, values);
+		}
+		values.add(value);
+	}
+
+	@BeforeClass
+	public static void runDriver() throws IOException, InterruptedException {
+		final String vm = System.getProperty("java.vm.name", "");
+		Assume.assumeTrue(vm.contains("HotSpot") || vm.contains("OpenJDK"));
+
+		final String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+		final String classpath = location(Check.class) + File.pathSeparator + location(Driver.class);
+		final ProcessBuilder builder = new ProcessBuilder(java, "-cp", classpath, "-Xbatch", "-XX:-TieredCompilation",
+				"-XX:+UnlockDiagnosticVMOptions", "-XX:+PrintCompilation", "-XX:+PrintInlining", Driver.class.getName());
+		builder.redirectErrorStream(true);
+		final Process process = builder.start();
+		final BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), "UTF-8"));
+		final Map<String, List<String>> sizesAsText = new HashMap<String, List<String>>();
+		try {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				final Matcher matcher = DECISION.matcher(line);
+				if (matcher.find()) {
+					add(decisions, matcher.group(1), matcher.group(3).trim());
+					add(sizesAsText, matcher.group(1), matcher.group(2));
+				}
+			}
+		} finally {
+			reader.close();
+		}
+		Assume.assumeTrue(process.waitFor() == 0);
+		Assume.assumeFalse(decisions.isEmpty());
+
+		for (final Map.Entry<String, List<String>> entry : sizesAsText.entrySet()) {
+			final List<Integer> values = new ArrayList<Integer>();
+			for (final String size : entry.getValue()) {
+				values.add(Integer.valueOf(size));
+			}
+			sizes.put(entry.getKey(), values);
+		}
+	}
+
+	private static String location(final Class<?> clazz) {
+		return new File(clazz.getProtectionDomain().getCodeSource().getLocation().getPath()).getAbsolutePath();
+	}
+
+	@Test
+	public void hotChecksAreInlined() {
+		for (final String check : CHECKS) {
+			final List<String> list = decisions.get(check);
+			Assert.assertNotNull(check + " was not compiled into a caller", list);
+			boolean inlined = false;
+			for (final String decision : list) {
+				Assert.assertFalse(check + " is too big to be inlined: " + decision, decision.contains("too big"));
+				inlined |= decision.startsWith("inline");
+			}
+			Assert.assertTrue(check + " was never inlined: " + list, inlined);
+		}
+	}
+
+	@Test
+	public void hotChecksFitIntoMaxInlineSize() {
+		for (final String check : CHECKS) {
+			final List<Integer> list = sizes.get(check);
+			Assert.assertNotNull(check + " was not compiled into a caller", list);
+			for (final Integer size : list) {
+				Assert.assertTrue(check + " has " + size + " bytes", size.intValue() <= MAX_INLINE_SIZE);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+import net.sf.qualitycheck.exception.IllegalPatternArgumentException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MatchedStringTest {
+
+	private static final CompiledPattern ZIP = CompiledPattern.compile("\\d{5}");
+
+	@Test
+	public void charSequence() {
+		final MatchedString zip = Check.matchedString(ZIP, "83410", "zip");
+		Assert.assertEquals(5, zip.length());
+		Assert.assertEquals('8', zip.charAt(0));
+		Assert.assertEquals("41", zip.subSequence(2, 4));
+		Assert.assertEquals("83410", zip.toString());
+		Assert.assertSame(ZIP, zip.getPattern());
+	}
+
+	@Test
+	public void equalsAndHashCode() {
+		final MatchedString zip = Check.matchedString(ZIP, "83410");
+		Assert.assertEquals(zip, Check.matchedString(CompiledPattern.compile("\\d{5}"), "83410"));
+		Assert.assertEquals("83410".hashCode(), zip.hashCode());
+		Assert.assertFalse(zip.equals(Check.matchedString(ZIP, "83411")));
+		Assert.assertFalse(zip.equals(Check.matchedString(CompiledPattern.compile("\\d+"), "83410")));
+		Assert.assertFalse(zip.equals("83410"));
+	}
+
+	@Test(expected = IllegalPatternArgumentException.class)
+	public void matchedString_mismatch() {
+		Check.matchedString(ZIP, "8341");
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void matchedString_nullChars() {
+		Check.matchedString(ZIP, null);
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void matchedString_nullPattern() {
+		Check.matchedString(null, "83410");
+	}
+
+	@Test
+	public void matchedString_notDeterministic() {
+		final CompiledPattern pattern = CompiledPattern.compile("(\\d)\\1");
+		Assert.assertFalse(pattern.isDeterministic());
+		Assert.assertEquals("11", Check.matchedString(pattern, "11").toString());
+	}
+
+	@Test
+	public void matchedString_withName_mismatch() {
+		try {
+			Check.matchedString(ZIP, "abc", "zip");
+			Assert.fail();
+		} catch (final IllegalPatternArgumentException e) {
+			Assert.assertTrue(e.getMessage().contains("'zip'"));
+		}
+	}
+
+}
@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import net.sf.qualitycheck.exception.IllegalEmptyArgumentException;
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class NonEmptyStringTest {
+
+	@Test
+	public void charSequence() {
+		final NonEmptyString chars = Check.nonEmptyString("Quality-Check", "chars");
+		Assert.assertEquals(13, chars.length());
+		Assert.assertEquals('Q', chars.charAt(0));
+		Assert.assertEquals("Check", chars.subSequence(8, 13));
+		Assert.assertEquals("Quality-Check", chars.toString());
+	}
+
+	@Test
+	public void equalsAndHashCode() {
+		final NonEmptyString chars = Check.nonEmptyString("abc");
+		Assert.assertEquals(chars, Check.nonEmptyString("abc"));
+		Assert.assertEquals("abc".hashCode(), chars.hashCode());
+		Assert.assertFalse(chars.equals(Check.nonEmptyString("abd")));
+		Assert.assertFalse(chars.equals("abc"));
+	}
+
+	@Test(expected = IllegalEmptyArgumentException.class)
+	public void nonEmptyString_empty() {
+		Check.nonEmptyString("");
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void nonEmptyString_null() {
+		Check.nonEmptyString(null, "chars");
+	}
+
+	@Test
+	public void nonEmptyString_withName_empty() {
+		try {
+			Check.nonEmptyString("", "title");
+			Assert.fail();
+		} catch (final IllegalEmptyArgumentException e) {
+			Assert.assertTrue(e.getMessage().contains("'title'"));
+		}
+	}
+
+	@Test
+	public void passedAsCharSequence() {
+		final NonEmptyString chars = Check.nonEmptyString("a");
+		Assert.assertSame(chars, Check.notEmpty(chars, "chars"));
+	}
+
+}
@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import net.sf.qualitycheck.exception.IllegalNegativeArgumentException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class NonNegativeIntTest {
+
+	@Test
+	public void compareTo() {
+		Assert.assertEquals(-1, Check.nonNegativeInt(1).compareTo(Check.nonNegativeInt(2)));
+		Assert.assertEquals(0, Check.nonNegativeInt(2).compareTo(Check.nonNegativeInt(2)));
+		Assert.assertEquals(1, Check.nonNegativeInt(Integer.MAX_VALUE).compareTo(Check.nonNegativeInt(0)));
+	}
+
+	@Test
+	public void equalsAndHashCode() {
+		final NonNegativeInt value = Check.nonNegativeInt(42);
+		Assert.assertEquals(value, Check.nonNegativeInt(42, "value"));
+		Assert.assertEquals(value.hashCode(), Check.nonNegativeInt(42).hashCode());
+		Assert.assertFalse(value.equals(Check.nonNegativeInt(43)));
+		Assert.assertFalse(value.equals(Integer.valueOf(42)));
+		Assert.assertFalse(value.equals(null));
+	}
+
+	@Test(expected = IllegalNegativeArgumentException.class)
+	public void nonNegativeInt_isInvalid() {
+		Check.nonNegativeInt(-1);
+	}
+
+	@Test
+	public void nonNegativeInt_isValid() {
+		Assert.assertEquals(0, Check.nonNegativeInt(0).intValue());
+		Assert.assertEquals(Integer.MAX_VALUE, Check.nonNegativeInt(Integer.MAX_VALUE, "max").intValue());
+	}
+
+	@Test
+	public void nonNegativeInt_withName_isInvalid() {
+		try {
+			Check.nonNegativeInt(-7, "count");
+			Assert.fail();
+		} catch (final IllegalNegativeArgumentException e) {
+			Assert.assertTrue(e.getMessage().contains("'count'"));
+		}
+	}
+
+	@Test
+	public void testToString() {
+		Assert.assertEquals("42", Check.nonNegativeInt(42).toString());
+	}
+
+}
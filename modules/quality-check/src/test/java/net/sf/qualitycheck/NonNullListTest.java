@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+import net.sf.qualitycheck.exception.IllegalNullElementsException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class NonNullListTest {
+
+	@Test
+	public void copiesElements() {
+		final List<String> source = new ArrayList<String>(Arrays.asList("a", "b"));
+		final NonNullList<String> list = Check.nonNullList(source, "source");
+		source.set(0, null);
+		source.add("c");
+		Assert.assertEquals(Arrays.asList("a", "b"), list);
+	}
+
+	@Test
+	public void emptyList() {
+		Assert.assertTrue(Check.nonNullList(new ArrayList<Object>()).isEmpty());
+	}
+
+	@Test
+	public void listView() {
+		final NonNullList<Object> list = Check.<Object> nonNullList(Arrays.asList("a", "b", "c"));
+		Assert.assertTrue(list instanceof RandomAccess);
+		Assert.assertEquals(3, list.size());
+		Assert.assertEquals("b", list.get(1));
+		Assert.assertEquals(Arrays.asList("a", "b", "c"), list);
+		Assert.assertEquals(Arrays.asList("a", "b", "c").hashCode(), list.hashCode());
+	}
+
+	@Test(expected = IllegalNullElementsException.class)
+	public void nonNullList_containsNull() {
+		Check.nonNullList(Arrays.asList("a", null, "c"));
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void nonNullList_null() {
+		Check.nonNullList(null, "list");
+	}
+
+	@Test
+	public void nonNullList_withName_containsNull() {
+		try {
+			Check.nonNullList(Arrays.asList("a", null), "names");
+			Assert.fail();
+		} catch (final IllegalNullElementsException e) {
+			Assert.assertTrue(e.getMessage().contains("'names'"));
+		}
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void unmodifiable_add() {
+		Check.nonNullList(Arrays.asList("a")).add("b");
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void unmodifiable_set() {
+		Check.nonNullList(Arrays.asList("a")).set(0, "b");
+	}
+
+}
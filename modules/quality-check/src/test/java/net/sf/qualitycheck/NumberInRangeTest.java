@@ -18,7 +18,9 @@ package net.sf.qualitycheck;
 import java.lang.reflect.Constructor;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Random;
 
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
 import net.sf.qualitycheck.exception.IllegalNumberArgumentException;
 import net.sf.qualitycheck.exception.IllegalNumberRangeException;
 
@@ -249,6 +251,77 @@ public class NumberInRangeTest {
 	}
 	
 
+	/**
+	 * Reference implementation which always converts to big numbers, as done before the fast paths were added.
+	 */
+	private static boolean isInRangeExactly(final Number number, final BigDecimal min, final BigDecimal max) {
+		final BigDecimal value = number instanceof Double || number instanceof Float ? new BigDecimal(number.doubleValue())
+				: new BigDecimal(number.longValue());
+		return max.compareTo(value) >= 0 && min.compareTo(value) <= 0;
+	}
+
+	private static boolean isInRangeExactly(final Number number, final BigInteger min, final BigInteger max) {
+		final BigInteger value = number instanceof Double || number instanceof Float ? new BigDecimal(number.doubleValue())
+				.toBigInteger() : BigInteger.valueOf(number.longValue());
+		return max.compareTo(value) >= 0 && min.compareTo(value) <= 0;
+	}
+
+	@Test
+	public void testIsInRange_fastPathsMatchExactComparison() {
+		final Random random = new Random(42);
+		final BigInteger[][] integerRanges = { { NumberInRange.BYTE_MIN, NumberInRange.BYTE_MAX },
+				{ NumberInRange.INTEGER_MIN, NumberInRange.INTEGER_MAX }, { NumberInRange.LONG_MIN, NumberInRange.LONG_MAX },
+				{ BigInteger.valueOf(-1000), BigInteger.valueOf(1000) }, { BigInteger.ZERO, BigInteger.ONE.shiftLeft(64) } };
+		final BigDecimal[][] decimalRanges = { { NumberInRange.FLOAT_MIN, NumberInRange.FLOAT_MAX },
+				{ NumberInRange.DOUBLE_MIN, NumberInRange.DOUBLE_MAX }, { new BigDecimal("-0.1"), new BigDecimal("0.1") },
+				{ new BigDecimal(-9007199254740992L), new BigDecimal(9007199254740992L) } };
+		for (int i = 0; i < 5000; i++) {
+			final long bits = random.nextLong();
+			final int shift = random.nextInt(64);
+			final Number[] numbers = { Long.valueOf(bits >> shift), Integer.valueOf((int) (bits >> shift)), Byte.valueOf((byte) bits),
+					Short.valueOf((short) bits), Double.valueOf((bits >> shift) * random.nextDouble()),
+					Float.valueOf((float) ((bits >> shift) * random.nextDouble())), Double.valueOf(Math.scalb(random.nextDouble(), shift + 10)) };
+			for (final Number number : numbers) {
+				for (final BigInteger[] range : integerRanges) {
+					Assert.assertEquals(number.toString(), isInRangeExactly(number, range[0], range[1]),
+							NumberInRange.isInRange(number, range[0], range[1]));
+				}
+				for (final BigDecimal[] range : decimalRanges) {
+					Assert.assertEquals(number.toString(), isInRangeExactly(number, range[0], range[1]),
+							NumberInRange.isInRange(number, range[0], range[1]));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testIsInRange_fastPathsOnBoundaries() {
+		Assert.assertTrue(NumberInRange.isInByteRange(Double.valueOf(127.9d)));
+		Assert.assertFalse(NumberInRange.isInByteRange(Double.valueOf(128.0d)));
+		Assert.assertTrue(NumberInRange.isInByteRange(Float.valueOf(-128.9f)));
+		Assert.assertFalse(NumberInRange.isInByteRange(Integer.valueOf(-129)));
+		Assert.assertTrue(NumberInRange.isInLongRange(Long.valueOf(Long.MIN_VALUE)));
+		Assert.assertTrue(NumberInRange.isInLongRange(Double.valueOf(-0x1p63)));
+		Assert.assertFalse(NumberInRange.isInLongRange(Double.valueOf(0x1p63)));
+		Assert.assertTrue(NumberInRange.isInDoubleRange(Long.valueOf(Long.MAX_VALUE)));
+		Assert.assertTrue(NumberInRange.isInFloatRange(Double.valueOf(-Float.MAX_VALUE)));
+		Assert.assertFalse(NumberInRange.isInFloatRange(Double.valueOf(Double.MAX_VALUE)));
+		final BigDecimal max = new BigDecimal(9007199254740992L);
+		Assert.assertTrue(NumberInRange.isInRange(Long.valueOf(9007199254740992L), BigDecimal.ZERO, max));
+		Assert.assertFalse(NumberInRange.isInRange(Long.valueOf(9007199254740993L), BigDecimal.ZERO, max));
+		Assert.assertFalse(NumberInRange.isInRange(Double.valueOf(0.1d), BigDecimal.ZERO, new BigDecimal("0.1")));
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void testIsInRange_nullNumber() {
+		NumberInRange.isInIntegerRange(null);
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void testIsInRange_NaN() {
+		NumberInRange.isInIntegerRange(Double.valueOf(Double.NaN));
+	}
+
 	@Test
 	public void giveMeCoverageForMyPrivateConstructor() throws Exception {
 		// reduces only some noise in coverage report
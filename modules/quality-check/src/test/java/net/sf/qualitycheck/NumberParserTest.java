@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.lang.reflect.Constructor;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class NumberParserTest {
+
+	@Test
+	public void giveMeCoverageForMyPrivateConstructor() throws Exception {
+		// reduces only some noise in coverage report
+		final Constructor<NumberParser> constructor = NumberParser.class.getDeclaredConstructor();
+		constructor.setAccessible(true);
+		constructor.newInstance();
+	}
+
+	@Test
+	public void tryParseLong() {
+		Assert.assertEquals(-42L, NumberParser.tryParseLong("-42", Byte.MIN_VALUE, Byte.MAX_VALUE));
+		final String[] rejected = { "", "-", "+1", "1.0", "128", "-129" };
+		for (final String input : rejected) {
+			final long result = NumberParser.tryParseLong(input, Byte.MIN_VALUE, Byte.MAX_VALUE);
+			Assert.assertEquals(input, NumberParser.NOT_PARSABLE, result);
+			Assert.assertTrue(input, NumberParser.isRejected(result, input, Byte.MIN_VALUE, Byte.MAX_VALUE));
+		}
+	}
+
+	@Test
+	public void tryParseLong_minValueIsNotRejected() {
+		final String min = String.valueOf(Long.MIN_VALUE);
+		final long result = NumberParser.tryParseLong(min, Long.MIN_VALUE, Long.MAX_VALUE);
+		Assert.assertEquals(Long.MIN_VALUE, result);
+		Assert.assertFalse(NumberParser.isRejected(result, min, Long.MIN_VALUE, Long.MAX_VALUE));
+		Assert.assertTrue(NumberParser.isRejected(NumberParser.tryParseLong("+1", Long.MIN_VALUE, Long.MAX_VALUE), "+1",
+				Long.MIN_VALUE, Long.MAX_VALUE));
+	}
+
+	@Test
+	public void isParsable_agreesWithParseLong() {
+		final String[] inputs = { "", "-", "+1", " 1", "1.0", "0", "-0", "42", "-128", "-129", "127", "128",
+				"9223372036854775807", "9223372036854775808", "-9223372036854775808", "-9223372036854775809",
+				"92233720368547758070" };
+		for (final String input : inputs) {
+			boolean parsable = true;
+			try {
+				NumberParser.parseLong(input, Byte.MIN_VALUE, Byte.MAX_VALUE);
+			} catch (final NumberFormatException e) {
+				parsable = false;
+			}
+			Assert.assertEquals(input, parsable, NumberParser.isParsable(input, Byte.MIN_VALUE, Byte.MAX_VALUE));
+
+			parsable = true;
+			try {
+				NumberParser.parseLong(input);
+			} catch (final NumberFormatException e) {
+				parsable = false;
+			}
+			Assert.assertEquals(input, parsable, NumberParser.isParsable(input, Long.MIN_VALUE, Long.MAX_VALUE));
+		}
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void parseByte_belowRange() {
+		NumberParser.parseByte("-129");
+	}
+
+	@Test
+	public void parseByte_bounds() {
+		Assert.assertEquals(Byte.MIN_VALUE, NumberParser.parseByte("-128"));
+		Assert.assertEquals(Byte.MAX_VALUE, NumberParser.parseByte("127"));
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void parseByte_exceedsRange() {
+		NumberParser.parseByte("128");
+	}
+
+	@Test
+	public void parseInt_bounds() {
+		Assert.assertEquals(Integer.MIN_VALUE, NumberParser.parseInt("-2147483648"));
+		Assert.assertEquals(Integer.MAX_VALUE, NumberParser.parseInt("2147483647"));
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void parseInt_exceedsRange() {
+		NumberParser.parseInt("2147483648");
+	}
+
+	@Test
+	public void parseInt_leadingZeros() {
+		Assert.assertEquals(42, NumberParser.parseInt("000000000000000000042"));
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void parseLong_belowRange() {
+		NumberParser.parseLong("-9223372036854775809");
+	}
+
+	@Test
+	public void parseLong_bounds() {
+		Assert.assertEquals(Long.MIN_VALUE, NumberParser.parseLong("-9223372036854775808"));
+		Assert.assertEquals(Long.MAX_VALUE, NumberParser.parseLong("9223372036854775807"));
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void parseLong_decimalNumber() {
+		NumberParser.parseLong("1.0");
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void parseLong_emptyString() {
+		NumberParser.parseLong("");
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void parseLong_exceedsRange() {
+		NumberParser.parseLong("9223372036854775808");
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void parseLong_exceedsRangeByMultiplication() {
+		NumberParser.parseLong("92233720368547758070");
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void parseLong_leadingPlusSign() {
+		NumberParser.parseLong("+1");
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void parseLong_onlyMinusSign() {
+		NumberParser.parseLong("-");
+	}
+
+	@Test
+	public void parseLong_stringBuilder() {
+		Assert.assertEquals(-1234567890123L, NumberParser.parseLong(new StringBuilder("-1234567890123")));
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void parseLong_whitespace() {
+		NumberParser.parseLong(" 1");
+	}
+
+	@Test
+	public void parseLong_withinCustomBounds() {
+		Assert.assertEquals(100L, NumberParser.parseLong("100", -5, 100));
+		Assert.assertEquals(-5L, NumberParser.parseLong("-5", -5, 100));
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void parseLong_belowCustomBounds() {
+		NumberParser.parseLong("-6", -5, 100);
+	}
+
+	@Test
+	public void parseShort_bounds() {
+		Assert.assertEquals(Short.MIN_VALUE, NumberParser.parseShort("-32768"));
+		Assert.assertEquals(Short.MAX_VALUE, NumberParser.parseShort("32767"));
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void parseShort_exceedsRange() {
+		NumberParser.parseShort("32768");
+	}
+
+}
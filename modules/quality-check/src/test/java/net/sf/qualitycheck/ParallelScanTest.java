@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ParallelScanTest {
+
+	private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(4);
+
+	private static final Executor NEVER_RUNS = new Executor() {
+		@Override
+		public void execute(final Runnable command) {
+			// drops the task, the calling thread must run it
+		}
+	};
+
+	private static final Executor REJECTING = new Executor() {
+		@Override
+		public void execute(final Runnable command) {
+			throw new RejectedExecutionException();
+		}
+	};
+
+	private static final Executor SAME_THREAD = new Executor() {
+		@Override
+		public void execute(final Runnable command) {
+			command.run();
+		}
+	};
+
+	private static Object[] filled(final int length) {
+		final Object[] array = new Object[length];
+		Arrays.fill(array, "x");
+		return array;
+	}
+
+	@AfterClass
+	public static void shutdownExecutor() {
+		EXECUTOR.shutdownNow();
+	}
+
+	@Test
+	public void giveMeCoverageForMyPrivateConstructor() throws Exception {
+		// reduces only some noise in coverage report
+		final Constructor<ParallelScan> constructor = ParallelScan.class.getDeclaredConstructor();
+		constructor.setAccessible(true);
+		constructor.newInstance();
+	}
+
+	@Test
+	public void indexOfNull_array_belowThreshold() {
+		final Object[] array = filled(10);
+		array[7] = null;
+		Assert.assertEquals(7, ParallelScan.indexOfNull(array, NEVER_RUNS, 11, 4));
+		Assert.assertEquals(-1, ParallelScan.indexOfNull(new Object[0], EXECUTOR, 0, 4));
+	}
+
+	@Test
+	public void indexOfNull_array_everyPosition() {
+		final int length = 3 * ParallelScan.SEGMENT_SIZE + 5;
+		final Object[] array = filled(length);
+		Assert.assertEquals(-1, ParallelScan.indexOfNull(array, EXECUTOR, 1, 3));
+		for (int i = 0; i < length; i += 97) {
+			array[i] = null;
+			Assert.assertEquals(i, ParallelScan.indexOfNull(array, EXECUTOR, 1, 3));
+			array[i] = "x";
+		}
+	}
+
+	@Test
+	public void indexOfNull_array_firstOfManyIsDeterministic() {
+		final int length = 8 * ParallelScan.SEGMENT_SIZE;
+		final Object[] array = filled(length);
+		for (int i = length - 1; i > length / 3; i -= 13) {
+			array[i] = null;
+		}
+		final int expected = ParallelScan.indexOfNull(array, 0, length);
+		for (int run = 0; run < 50; run++) {
+			Assert.assertEquals(expected, ParallelScan.indexOfNull(array, EXECUTOR, 1, 8));
+		}
+	}
+
+	@Test
+	public void indexOfNull_array_moreChunksThanElements() {
+		final Object[] array = { "a", null, "c" };
+		Assert.assertEquals(1, ParallelScan.indexOfNull(array, EXECUTOR, 1, 16));
+	}
+
+	@Test
+	public void indexOfNull_array_rejectingExecutor() {
+		final Object[] array = filled(10000);
+		array[9999] = null;
+		Assert.assertEquals(9999, ParallelScan.indexOfNull(array, REJECTING, 1, 4));
+	}
+
+	@Test
+	public void indexOfNull_array_sameThreadExecutor() {
+		final Object[] array = filled(10000);
+		array[5000] = null;
+		Assert.assertEquals(5000, ParallelScan.indexOfNull(array, SAME_THREAD, 1, 4));
+	}
+
+	@Test
+	public void indexOfNull_array_tasksNeverRun() {
+		final Object[] array = filled(10000);
+		array[8000] = null;
+		Assert.assertEquals(8000, ParallelScan.indexOfNull(array, NEVER_RUNS, 1, 4));
+	}
+
+	@Test
+	public void indexOfNull_array_withDefaults() {
+		final Object[] array = filled(100);
+		array[42] = null;
+		Assert.assertEquals(42, ParallelScan.indexOfNull(array, EXECUTOR));
+	}
+
+	@Test
+	public void indexOfNull_list() {
+		final List<Object> list = new ArrayList<Object>(Arrays.asList(filled(10000)));
+		Assert.assertEquals(-1, ParallelScan.indexOfNull(list, EXECUTOR, 1, 4));
+		Assert.assertEquals(-1, ParallelScan.indexOfNull(list, EXECUTOR));
+		list.set(6000, null);
+		list.set(9000, null);
+		Assert.assertEquals(6000, ParallelScan.indexOfNull(list, EXECUTOR, 1, 4));
+		Assert.assertEquals(6000, ParallelScan.indexOfNull(list, NEVER_RUNS, 1, 4));
+		Assert.assertEquals(6000, ParallelScan.indexOfNull(list, EXECUTOR, 20000, 4));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void indexOfNull_list_failureOfChunkIsPropagated() {
+		final List<Object> list = new ArrayList<Object>(Arrays.asList(filled(10000))) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			public Object get(final int index) {
+				if (index == 9999) {
+					throw new IllegalStateException();
+				}
+				return super.get(index);
+			}
+		};
+		ParallelScan.indexOfNull(list, EXECUTOR, 1, 4);
+	}
+
+	@Test
+	public void indexOfNull_range() {
+		final Object[] array = { null, "b", null };
+		Assert.assertEquals(2, ParallelScan.indexOfNull(array, 1, 3));
+		Assert.assertEquals(-1, ParallelScan.indexOfNull(array, 1, 2));
+	}
+
+	@Test
+	public void threshold_isPositive() {
+		Assert.assertTrue(ParallelScan.THRESHOLD > 0);
+	}
+
+}
@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import net.sf.qualitycheck.exception.IllegalNotGreaterThanException;
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PatternCacheTest {
+
+	@Test
+	public void clear_keepsStatistics() {
+		final PatternCache cache = new PatternCache(4);
+		cache.get("a");
+		cache.get("a");
+		cache.clear();
+		Assert.assertEquals(0, cache.size());
+		Assert.assertEquals(1, cache.getHitCount());
+		Assert.assertEquals(1, cache.getMissCount());
+	}
+
+	@Test(expected = IllegalNotGreaterThanException.class)
+	public void construct_maximumSizeIsZero() {
+		new PatternCache(0);
+	}
+
+	@Test
+	public void evict_boundedSize() {
+		final PatternCache cache = new PatternCache(8);
+		for (int i = 0; i < 100; i++) {
+			cache.get("pattern" + i);
+		}
+		Assert.assertEquals(8, cache.size());
+		Assert.assertEquals(92, cache.getEvictionCount());
+		Assert.assertEquals(100, cache.getMissCount());
+	}
+
+	@Test
+	public void evict_keepsRecentlyUsedPattern() {
+		final PatternCache cache = new PatternCache(4);
+		final Pattern hot = cache.get("hot");
+		for (int i = 0; i < 100; i++) {
+			Assert.assertSame(hot, cache.get("hot"));
+			cache.get("cold" + i);
+		}
+		Assert.assertSame(hot, cache.get("hot"));
+		Assert.assertEquals(101, cache.getMissCount());
+	}
+
+	@Test
+	public void get_concurrently() throws Exception {
+		final PatternCache cache = new PatternCache(16);
+		final CountDownLatch start = new CountDownLatch(1);
+		final List<Thread> threads = new ArrayList<Thread>();
+		final List<Throwable> failures = new ArrayList<Throwable>();
+		for (int t = 0; t < 4; t++) {
+			final Thread thread = new Thread() {
+				@Override
+				public void run() {
+					try {
+						start.await();
+						for (int i = 0; i < 1000; i++) {
+							final String regex = "p" + i % 32;
+							Assert.assertEquals(regex, cache.get(regex).pattern());
+						}
+					} catch (final Throwable e) {
+						synchronized (failures) {
+							failures.add(e);
+						}
+					}
+				}
+			};
+			thread.start();
+			threads.add(thread);
+		}
+		start.countDown();
+		for (final Thread thread : threads) {
+			thread.join();
+		}
+		Assert.assertTrue(failures.toString(), failures.isEmpty());
+		Assert.assertTrue(cache.size() <= 16);
+		Assert.assertEquals(4000, cache.getHitCount() + cache.getMissCount());
+	}
+
+	@Test(expected = PatternSyntaxException.class)
+	public void get_invalidRegex() {
+		new PatternCache(4).get("(");
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void get_nullRegex() {
+		new PatternCache(4).get(null);
+	}
+
+	@Test
+	public void get_sameInstance() {
+		final PatternCache cache = new PatternCache(4);
+		final Pattern pattern = cache.get("\\d+");
+		Assert.assertSame(pattern, cache.get("\\d+"));
+		Assert.assertEquals(1, cache.getHitCount());
+		Assert.assertEquals(1, cache.getMissCount());
+		Assert.assertEquals(0, cache.getEvictionCount());
+		Assert.assertEquals(1, cache.size());
+	}
+
+	@Test
+	public void getDefault() {
+		Assert.assertSame(PatternCache.getDefault(), PatternCache.getDefault());
+		Assert.assertEquals(PatternCache.DEFAULT_MAXIMUM_SIZE, PatternCache.getDefault().getMaximumSize());
+	}
+
+}
@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class StripedCounterTest {
+
+	@Test
+	public void add() {
+		final StripedCounter counter = new StripedCounter();
+		counter.add(5);
+		counter.add(-2);
+		Assert.assertEquals(3, counter.sum());
+	}
+
+	@Test
+	public void increment_concurrently() throws Exception {
+		final StripedCounter counter = new StripedCounter();
+		final Thread[] threads = new Thread[8];
+		for (int t = 0; t < threads.length; t++) {
+			threads[t] = new Thread() {
+				@Override
+				public void run() {
+					for (int i = 0; i < 10000; i++) {
+						counter.increment();
+					}
+				}
+			};
+			threads[t].start();
+		}
+		for (final Thread thread : threads) {
+			thread.join();
+		}
+		Assert.assertEquals(80000, counter.sum());
+	}
+
+	@Test
+	public void reset() {
+		final StripedCounter counter = new StripedCounter();
+		counter.increment();
+		counter.reset();
+		Assert.assertEquals(0, counter.sum());
+	}
+
+}
@@ -0,0 +1,263 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+
+import net.sf.qualitycheck.exception.IllegalEmptyArgumentException;
+import net.sf.qualitycheck.exception.IllegalNotContainedArgumentException;
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+import net.sf.qualitycheck.exception.IllegalNullElementsException;
+import net.sf.qualitycheck.exception.IllegalNumericArgumentException;
+import net.sf.qualitycheck.exception.IllegalPatternArgumentException;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ValidatorTest {
+
+	private static final class Person {
+
+		private final String name;
+
+		private final String zip;
+
+		private final String email;
+
+		private final String country;
+
+		private final List<String> tags;
+
+		Person(final String name, final String zip, final String email, final String country, final List<String> tags) {
+			this.name = name;
+			this.zip = zip;
+			this.email = email;
+			this.country = country;
+			this.tags = tags;
+		}
+
+	}
+
+	private static final Validator.Getter<Person, String> NAME = new Validator.Getter<Person, String>() {
+		@Override
+		public String get(final Person person) {
+			return person.name;
+		}
+	};
+
+	private static final Validator.Getter<Person, String> ZIP = new Validator.Getter<Person, String>() {
+		@Override
+		public String get(final Person person) {
+			return person.zip;
+		}
+	};
+
+	private static final Validator.Getter<Person, String> EMAIL = new Validator.Getter<Person, String>() {
+		@Override
+		public String get(final Person person) {
+			return person.email;
+		}
+	};
+
+	private static final Validator.Getter<Person, String> COUNTRY = new Validator.Getter<Person, String>() {
+		@Override
+		public String get(final Person person) {
+			return person.country;
+		}
+	};
+
+	private static final Validator.Getter<Person, List<String>> TAGS = new Validator.Getter<Person, List<String>>() {
+		@Override
+		public List<String> get(final Person person) {
+			return person.tags;
+		}
+	};
+
+	private static final Validator<Person> PERSON = Validator.builder(Person.class)
+			.notEmpty(NAME, "name")
+			.isNumeric(ZIP, "zip")
+			.matchesPattern(EMAIL, Pattern.compile(".+@.+"), "email")
+			.contains(COUNTRY, AllowedValues.of(Arrays.asList("DE", "FR")), "country")
+			.notNull(TAGS, "tags")
+			.noNullElements(TAGS, "tags")
+			.build();
+
+	private static Person valid(final String name) {
+		return new Person(name, "10115", name + "@example.org", "DE", Collections.singletonList("customer"));
+	}
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(3);
+
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void builder_withNullType() {
+		Validator.builder(null);
+	}
+
+	@Test
+	public void build_isIndependentOfBuilder() {
+		final Validator.Builder<Person> builder = Validator.builder(Person.class).notNull(NAME, "name");
+		final Validator<Person> validator = builder.build();
+		builder.notNull(EMAIL, "email");
+		Assert.assertEquals(1, validator.size());
+		Assert.assertEquals(2, builder.build().size());
+		validator.validate(new Person("a", null, null, null, null));
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void check_withNullGetter() {
+		Validator.builder(Person.class).notNull(null, "name");
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void check_withNullRule() {
+		Validator.builder(Person.class).check(NAME, null, "name");
+	}
+
+	@Test
+	public void check_withCustomRule() {
+		final List<String> checked = new ArrayList<String>();
+		final Validator<Person> validator = Validator.builder(Person.class).check(NAME, new Validator.Rule<CharSequence>() {
+			@Override
+			public void check(final CharSequence value, final String name) {
+				checked.add(name + "=" + value);
+			}
+		}, "name").build();
+		validator.validate(valid("max"));
+		Assert.assertEquals(Arrays.asList("name=max"), checked);
+	}
+
+	@Test
+	public void validate_reportsFirstFailingCheck() {
+		try {
+			PERSON.validate(new Person("", "x", "none", "US", null));
+			Assert.fail();
+		} catch (final IllegalEmptyArgumentException e) {
+			Assert.assertEquals("The passed argument 'name' must not be empty.", e.getMessage());
+		}
+	}
+
+	@Test
+	public void validate_rules() {
+		final Person person = valid("max");
+		Assert.assertSame(person, PERSON.validate(person));
+		Assert.assertEquals(6, PERSON.size());
+		try {
+			PERSON.validate(new Person("max", "1o115", null, null, null));
+			Assert.fail();
+		} catch (final IllegalNumericArgumentException e) {
+			Assert.assertTrue(e.getMessage().contains("'zip'"));
+		}
+		try {
+			PERSON.validate(new Person("max", "10115", "max", null, null));
+			Assert.fail();
+		} catch (final IllegalPatternArgumentException e) {
+			Assert.assertTrue(e.getMessage().contains("'email'"));
+		}
+		try {
+			PERSON.validate(new Person("max", "10115", "max@example.org", "US", null));
+			Assert.fail();
+		} catch (final IllegalNotContainedArgumentException e) {
+			Assert.assertEquals("US", e.getIllegalArgument());
+		}
+		try {
+			PERSON.validate(new Person("max", "10115", "max@example.org", "FR", null));
+			Assert.fail();
+		} catch (final IllegalNullArgumentException e) {
+			Assert.assertEquals("Argument 'tags' must not be null.", e.getMessage());
+		}
+		try {
+			PERSON.validate(new Person("max", "10115", "max@example.org", "FR", Arrays.asList("a", null)));
+			Assert.fail();
+		} catch (final IllegalNullElementsException e) {
+			Assert.assertTrue(e.getMessage().contains("'tags'"));
+		}
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void validate_withNull() {
+		PERSON.validate(null);
+	}
+
+	@Test
+	public void validateAll_iterable() {
+		final List<Person> persons = Arrays.asList(valid("a"), valid("b"));
+		Assert.assertSame(persons, PERSON.validateAll(persons));
+		try {
+			PERSON.validateAll(Arrays.asList(valid("a"), null));
+			Assert.fail();
+		} catch (final IllegalNullArgumentException e) {
+			Assert.assertEquals("Argument 'object' must not be null.", e.getMessage());
+		}
+	}
+
+	@Test
+	public void validateAll_parallel() {
+		final List<Person> persons = new ArrayList<Person>();
+		for (int i = 0; i < 1000; i++) {
+			persons.add(valid("p" + i));
+		}
+		Assert.assertSame(persons, PERSON.validateAll(persons, executor, 10, 4));
+		Assert.assertSame(persons, PERSON.validateAll(persons, executor));
+	}
+
+	@Test
+	public void validateAll_parallel_reportsFirstInvalidObject() {
+		for (int round = 0; round < 20; round++) {
+			final List<Person> persons = new ArrayList<Person>();
+			for (int i = 0; i < 1000; i++) {
+				persons.add(valid("p" + i));
+			}
+			persons.set(990, new Person("p990", "10115", "p990@example.org", "US", null));
+			persons.set(600, new Person("p600", "10115", "p600@example.org", "IT", null));
+			try {
+				PERSON.validateAll(persons, executor, 10, 4);
+				Assert.fail();
+			} catch (final IllegalNotContainedArgumentException e) {
+				Assert.assertEquals("IT", e.getIllegalArgument());
+			}
+		}
+	}
+
+	@Test
+	public void validateAll_parallel_withoutRandomAccess() {
+		final List<Person> persons = new LinkedList<Person>(Arrays.asList(valid("a"), valid("b"), new Person("", "", "", "", null)));
+		try {
+			PERSON.validateAll(persons, executor, 1, 4);
+			Assert.fail();
+		} catch (final IllegalEmptyArgumentException e) {
+			Assert.assertTrue(e.getMessage().contains("'name'"));
+		}
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void validateAll_withNullExecutor() {
+		PERSON.validateAll(new ArrayList<Person>(), null);
+	}
+
+}
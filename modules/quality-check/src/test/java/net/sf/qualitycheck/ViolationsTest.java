@@ -0,0 +1,292 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import net.sf.qualitycheck.exception.IllegalArgumentViolationsException;
+import net.sf.qualitycheck.exception.IllegalNegativeArgumentException;
+import net.sf.qualitycheck.exception.IllegalNullArgumentException;
+import net.sf.qualitycheck.exception.IllegalPositionIndexException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ViolationsTest {
+
+	private static final Pattern HEX = Pattern.compile("[0-9a-f]+");
+
+	@Test
+	public void collectAllViolations() {
+		final Violations v = new Violations();
+		Assert.assertFalse(v.notEmpty("", "name"));
+		Assert.assertTrue(v.notNull("value", "reference"));
+		Assert.assertFalse(v.notNegative(-1, "age"));
+		Assert.assertFalse(v.noNullElements(new Object[] { "a", null }, "tags"));
+		Assert.assertEquals(3, v.size());
+
+		Assert.assertEquals(ViolationCode.EMPTY, v.getCode(0));
+		Assert.assertEquals("name", v.getName(0));
+		Assert.assertEquals(IllegalArgumentViolationsException.NO_INDEX, v.getIndex(0));
+		Assert.assertEquals(ViolationCode.NEGATIVE, v.getCode(1));
+		Assert.assertEquals(ViolationCode.NULL, v.getCode(2));
+		Assert.assertEquals(1, v.getIndex(2));
+
+		try {
+			v.throwIfAny();
+			Assert.fail();
+		} catch (final IllegalArgumentViolationsException e) {
+			Assert.assertEquals(3, e.getViolationCount());
+			Assert.assertEquals("The passed arguments have 3 violation(s): 'name' must not be empty; "
+					+ "'age' must not be negative; 'tags[1]' must not be null.", e.getMessage());
+		}
+	}
+
+	@Test
+	public void construct_initialCapacityZero_grows() {
+		final Violations v = new Violations(0);
+		for (int i = 0; i < 20; i++) {
+			v.stateIsTrue(false, "state" + i);
+		}
+		Assert.assertEquals(20, v.size());
+		Assert.assertEquals("state19", v.getName(19));
+		Assert.assertEquals(ViolationCode.STATE, v.getCode(19));
+	}
+
+	@Test(expected = IllegalNegativeArgumentException.class)
+	public void construct_negativeInitialCapacity() {
+		new Violations(-1);
+	}
+
+	@Test(expected = IllegalPositionIndexException.class)
+	public void getCode_outOfBounds() {
+		final Violations v = new Violations();
+		v.notNull(null, "reference");
+		v.getCode(1);
+	}
+
+	@Test(expected = IllegalPositionIndexException.class)
+	public void getIndex_outOfBounds() {
+		new Violations().getIndex(0);
+	}
+
+	@Test(expected = IllegalPositionIndexException.class)
+	public void getName_outOfBounds() {
+		new Violations().getName(0);
+	}
+
+	@Test
+	public void greaterThanAndLesserThan() {
+		final Violations v = new Violations();
+		Assert.assertTrue(v.greaterThan(1, 2, "int"));
+		Assert.assertFalse(v.greaterThan(2, 2, "int"));
+		Assert.assertTrue(v.greaterThan(1L, 2L, "long"));
+		Assert.assertFalse(v.greaterThan(2L, 1L, "long"));
+		Assert.assertTrue(v.lesserThan(2, 1, "int"));
+		Assert.assertFalse(v.lesserThan(2, 2, "int"));
+		Assert.assertTrue(v.lesserThan(2L, 1L, "long"));
+		Assert.assertFalse(v.lesserThan(1L, 2L, "long"));
+		Assert.assertEquals(4, v.size());
+		Assert.assertEquals(ViolationCode.NOT_GREATER_THAN, v.getCode(1));
+		Assert.assertEquals(ViolationCode.NOT_LESSER_THAN, v.getCode(3));
+	}
+
+	@Test
+	public void isEmpty_andReset() {
+		final Violations v = new Violations();
+		Assert.assertTrue(v.isEmpty());
+		v.notNull(null, "reference");
+		Assert.assertFalse(v.isEmpty());
+		v.reset();
+		Assert.assertTrue(v.isEmpty());
+		Assert.assertEquals(0, v.size());
+		v.throwIfAny();
+	}
+
+	@Test
+	public void isNull() {
+		final Violations v = new Violations();
+		Assert.assertTrue(v.isNull(null, "reference"));
+		Assert.assertFalse(v.isNull("", "reference"));
+		Assert.assertEquals(ViolationCode.NOT_NULL, v.getCode(0));
+	}
+
+	@Test
+	public void isNumber() {
+		final Violations v = new Violations();
+		Assert.assertTrue(v.isInt("-2147483648", "int"));
+		Assert.assertFalse(v.isInt("2147483648", "int"));
+		Assert.assertFalse(v.isInt(null, "int"));
+		Assert.assertTrue(v.isLong(new StringBuilder("2147483648"), "long"));
+		Assert.assertFalse(v.isLong("1.0", "long"));
+		Assert.assertFalse(v.isLong(null, "long"));
+		Assert.assertEquals(ViolationCode.NUMBER, v.getCode(0));
+		Assert.assertEquals(ViolationCode.NULL, v.getCode(1));
+		Assert.assertEquals(ViolationCode.NUMBER, v.getCode(2));
+		Assert.assertEquals(ViolationCode.NULL, v.getCode(3));
+	}
+
+	@Test
+	public void isNumeric() {
+		final Violations v = new Violations();
+		Assert.assertTrue(v.isNumeric("0123", "accountNumber"));
+		Assert.assertFalse(v.isNumeric("-1", "accountNumber"));
+		Assert.assertFalse(v.isNumeric(null, "accountNumber"));
+		Assert.assertEquals(ViolationCode.NUMERIC, v.getCode(0));
+		Assert.assertEquals(ViolationCode.NULL, v.getCode(1));
+	}
+
+	@Test
+	public void matchesPattern() {
+		final Violations v = new Violations();
+		Assert.assertTrue(v.matchesPattern(HEX, "cafe", "id"));
+		Assert.assertFalse(v.matchesPattern(HEX, "xyz", "id"));
+		Assert.assertFalse(v.matchesPattern(HEX, null, "id"));
+		Assert.assertEquals(ViolationCode.PATTERN, v.getCode(0));
+		Assert.assertEquals(ViolationCode.NULL, v.getCode(1));
+	}
+
+	@Test(expected = IllegalNullArgumentException.class)
+	public void matchesPattern_patternIsNull() {
+		new Violations().matchesPattern(null, "cafe", "id");
+	}
+
+	@Test
+	public void noNullElements() {
+		final Violations v = new Violations();
+		Assert.assertTrue(v.noNullElements(new Object[] { "a" }, "array"));
+		Assert.assertFalse(v.noNullElements((Object[]) null, "array"));
+		Assert.assertTrue(v.noNullElements(Collections.singletonList("a"), "iterable"));
+		Assert.assertFalse(v.noNullElements(Arrays.asList("a", "b", null), "iterable"));
+		Assert.assertFalse(v.noNullElements((Iterable<?>) null, "iterable"));
+		Assert.assertEquals(IllegalArgumentViolationsException.NO_INDEX, v.getIndex(0));
+		Assert.assertEquals(2, v.getIndex(1));
+		Assert.assertEquals(IllegalArgumentViolationsException.NO_INDEX, v.getIndex(2));
+	}
+
+	@Test
+	public void notEmpty() {
+		final Violations v = new Violations();
+		Assert.assertTrue(v.notEmpty(false, "expression"));
+		Assert.assertFalse(v.notEmpty(true, "expression"));
+		Assert.assertTrue(v.notEmpty("a", "chars"));
+		Assert.assertFalse(v.notEmpty((CharSequence) null, "chars"));
+		Assert.assertTrue(v.notEmpty(Collections.singleton("a"), "collection"));
+		Assert.assertFalse(v.notEmpty(new ArrayList<String>(), "collection"));
+		Assert.assertFalse(v.notEmpty((List<?>) null, "collection"));
+		Assert.assertTrue(v.notEmpty(Collections.singletonMap("a", "b"), "map"));
+		Assert.assertFalse(v.notEmpty(new HashMap<String, String>(), "map"));
+		Assert.assertFalse(v.notEmpty((HashMap<?, ?>) null, "map"));
+		Assert.assertTrue(v.notEmpty(new Object[1], "array"));
+		Assert.assertFalse(v.notEmpty(new Object[0], "array"));
+		Assert.assertFalse(v.notEmpty((Object[]) null, "array"));
+		Assert.assertEquals(8, v.size());
+	}
+
+	@Test
+	public void notNaN() {
+		final Violations v = new Violations();
+		Assert.assertTrue(v.notNaN(1.0, "value"));
+		Assert.assertFalse(v.notNaN(Double.NaN, "value"));
+		Assert.assertTrue(v.notNaN(new double[] { 1.0, 2.0 }, "values"));
+		Assert.assertFalse(v.notNaN(new double[] { 1.0, Double.NaN }, "values"));
+		Assert.assertFalse(v.notNaN((double[]) null, "values"));
+		Assert.assertEquals(ViolationCode.NAN, v.getCode(1));
+		Assert.assertEquals(1, v.getIndex(1));
+		Assert.assertEquals(ViolationCode.NULL, v.getCode(2));
+	}
+
+	@Test
+	public void notNegative() {
+		final Violations v = new Violations();
+		Assert.assertTrue(v.notNegative(0, "int"));
+		Assert.assertTrue(v.notNegative(0L, "long"));
+		Assert.assertFalse(v.notNegative(-1L, "long"));
+		Assert.assertTrue(v.notNegative(0.0, "double"));
+		Assert.assertTrue(v.notNegative(Double.NaN, "double"));
+		Assert.assertFalse(v.notNegative(-0.5, "double"));
+		Assert.assertTrue(v.notNegative(new int[] { 0, 1 }, "ints"));
+		Assert.assertFalse(v.notNegative(new int[] { 0, 1, -1 }, "ints"));
+		Assert.assertFalse(v.notNegative((int[]) null, "ints"));
+		Assert.assertTrue(v.notNegative(new long[] { 0L }, "longs"));
+		Assert.assertFalse(v.notNegative(new long[] { -1L }, "longs"));
+		Assert.assertFalse(v.notNegative((long[]) null, "longs"));
+		Assert.assertTrue(v.notNegative(new double[] { 0.0 }, "doubles"));
+		Assert.assertFalse(v.notNegative(new double[] { 1.0, -1.0 }, "doubles"));
+		Assert.assertFalse(v.notNegative((double[]) null, "doubles"));
+		Assert.assertEquals(8, v.size());
+		Assert.assertEquals(2, v.getIndex(2));
+		Assert.assertEquals(0, v.getIndex(4));
+		Assert.assertEquals(1, v.getIndex(6));
+	}
+
+	@Test
+	public void notPositive() {
+		final Violations v = new Violations();
+		Assert.assertTrue(v.notPositive(0, "int"));
+		Assert.assertFalse(v.notPositive(1, "int"));
+		Assert.assertTrue(v.notPositive(0L, "long"));
+		Assert.assertFalse(v.notPositive(1L, "long"));
+		Assert.assertTrue(v.notPositive(-0.5, "double"));
+		Assert.assertFalse(v.notPositive(0.5, "double"));
+		Assert.assertEquals(3, v.size());
+		Assert.assertEquals(ViolationCode.POSITIVE, v.getCode(2));
+	}
+
+	@Test
+	public void positionIndex() {
+		final Violations v = new Violations();
+		Assert.assertTrue(v.positionIndex(0, 1, "index"));
+		Assert.assertFalse(v.positionIndex(1, 1, "index"));
+		Assert.assertFalse(v.positionIndex(-1, 1, "index"));
+		Assert.assertFalse(v.positionIndex(0, -1, "index"));
+		Assert.assertEquals(3, v.size());
+		Assert.assertEquals(ViolationCode.POSITION_INDEX, v.getCode(0));
+	}
+
+	@Test
+	public void reset_releasesNames() {
+		final Violations v = new Violations();
+		v.notNull(null, new String("name"));
+		v.reset();
+		v.notNull(null, null);
+		Assert.assertNull(v.getName(0));
+	}
+
+	@Test
+	public void throwIfAny_exceptionIsIndependentOfReuse() {
+		final Violations v = new Violations();
+		v.notNull(null, "first");
+		IllegalArgumentViolationsException exception = null;
+		try {
+			v.throwIfAny();
+		} catch (final IllegalArgumentViolationsException e) {
+			exception = e;
+		}
+		v.reset();
+		v.notEmpty("", "second");
+		Assert.assertNotNull(exception);
+		Assert.assertEquals(1, exception.getViolationCount());
+		Assert.assertEquals("first", exception.getName(0));
+		Assert.assertEquals(ViolationCode.NULL, exception.getCode(0));
+	}
+
+}
@@ -0,0 +1,243 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.exception;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.lang.reflect.Constructor;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.regex.Pattern;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ArgumentRetentionTest {
+
+	private static final String PAYLOAD = "0123456789";
+
+	/**
+	 * Loads the exception classes with a fresh class loader, so that the settings will be read again.
+	 */
+	private static ClassLoader newIsolatedClassLoader() {
+		final URL classes = ArgumentRetention.class.getProtectionDomain().getCodeSource().getLocation();
+		return new URLClassLoader(new URL[] { classes }, null);
+	}
+
+	private static Object getIllegalArgument(final Throwable e) throws Exception {
+		return e.getClass().getMethod("getIllegalArgument").invoke(e);
+	}
+
+	private static Throwable newIllegalPatternArgumentException(final ClassLoader loader, final CharSequence value) throws Exception {
+		final Class<?> type = loader.loadClass(IllegalPatternArgumentException.class.getName());
+		return (Throwable) type.getConstructor(String.class, Pattern.class, CharSequence.class).newInstance("arg", Pattern.compile("\\d"),
+				value);
+	}
+
+	private static Throwable newIllegalNotGreaterThanException(final ClassLoader loader, final Object value) throws Exception {
+		final Class<?> type = loader.loadClass(IllegalNotGreaterThanException.class.getName());
+		return (Throwable) type.getConstructor(Object.class).newInstance(value);
+	}
+
+	private static void set(final ClassLoader loader, final String setter, final Class<?> parameterType, final Object value) throws Exception {
+		loader.loadClass(ArgumentRetention.class.getName()).getMethod(setter, parameterType).invoke(null, value);
+	}
+
+	private static void setPolicy(final ClassLoader loader, final String policy) throws Exception {
+		final Class<?> type = loader.loadClass(ArgumentRetentionPolicy.class.getName());
+		set(loader, "setPolicy", type, type.getField(policy).get(null));
+	}
+
+	@Test
+	public void giveMeCoverageForMyPrivateConstructor() throws Exception {
+		// reduces only some noise in coverage report
+		final Constructor<ArgumentRetention> constructor = ArgumentRetention.class.getDeclaredConstructor();
+		constructor.setAccessible(true);
+		constructor.newInstance();
+	}
+
+	@Test
+	public void hash_programmatically() throws Exception {
+		final ClassLoader loader = newIsolatedClassLoader();
+		setPolicy(loader, "HASH");
+		final Throwable e = newIllegalPatternArgumentException(loader, new StringBuilder(PAYLOAD));
+		Assert.assertEquals("java.lang.StringBuilder#" + Integer.toHexString(PAYLOAD.hashCode()), getIllegalArgument(e));
+	}
+
+	@Test
+	public void hash_keepsNumbers() throws Exception {
+		final ClassLoader loader = newIsolatedClassLoader();
+		setPolicy(loader, "HASH");
+		final Throwable e = newIllegalNotGreaterThanException(loader, Integer.valueOf(5000));
+		Assert.assertEquals(Integer.valueOf(5000), getIllegalArgument(e));
+	}
+
+	@Test
+	public void keep_byDefault() {
+		final StringBuilder value = new StringBuilder(PAYLOAD);
+		final IllegalPatternArgumentException e = new IllegalPatternArgumentException("arg", Pattern.compile("\\d"), value);
+		Assert.assertSame(value, e.getIllegalArgument());
+		Assert.assertTrue(ArgumentRetention.isResolved());
+		Assert.assertEquals(ArgumentRetentionPolicy.KEEP, ArgumentRetention.getPolicy());
+		Assert.assertEquals(ArgumentRetention.DEFAULT_MAX_ARGUMENT_LENGTH, ArgumentRetention.getMaxArgumentLength());
+		Assert.assertEquals(ArgumentRetention.DEFAULT_MAX_MESSAGE_LENGTH, ArgumentRetention.getMaxMessageLength());
+	}
+
+	@Test
+	public void maxMessageLength_programmatically() throws Exception {
+		final ClassLoader loader = newIsolatedClassLoader();
+		set(loader, "setMaxMessageLength", int.class, 20);
+		final Throwable e = newIllegalPatternArgumentException(loader, PAYLOAD);
+		Assert.assertEquals("The passed argume...", e.getMessage());
+	}
+
+	@Test
+	public void maxMessageLength_viaSystemProperty() throws Exception {
+		System.setProperty(ArgumentRetention.PROPERTY_MAX_MESSAGE_LENGTH, "20");
+		try {
+			final Throwable e = newIllegalPatternArgumentException(newIsolatedClassLoader(), PAYLOAD);
+			Assert.assertEquals(20, e.getMessage().length());
+		} finally {
+			System.clearProperty(ArgumentRetention.PROPERTY_MAX_MESSAGE_LENGTH);
+		}
+	}
+
+	@Test
+	public void maxMessageLength_viaSystemPropertyWithIllegalValue() throws Exception {
+		System.setProperty(ArgumentRetention.PROPERTY_MAX_MESSAGE_LENGTH, "-1");
+		try {
+			final Throwable e = newIllegalPatternArgumentException(newIsolatedClassLoader(), PAYLOAD);
+			Assert.assertTrue(e.getMessage().length() > 20);
+		} finally {
+			System.clearProperty(ArgumentRetention.PROPERTY_MAX_MESSAGE_LENGTH);
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void setMaxArgumentLength_notPositive() {
+		ArgumentRetention.setMaxArgumentLength(0);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void setMaxArgumentLength_afterResolution() {
+		new IllegalNullArgumentException();
+		ArgumentRetention.setMaxArgumentLength(5);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void setMaxMessageLength_notPositive() {
+		ArgumentRetention.setMaxMessageLength(-1);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void setMaxMessageLength_afterResolution() {
+		new IllegalNullArgumentException();
+		ArgumentRetention.setMaxMessageLength(5);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void setPolicy_null() {
+		ArgumentRetention.setPolicy(null);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void setPolicy_afterResolution() {
+		new IllegalNullArgumentException();
+		ArgumentRetention.setPolicy(ArgumentRetentionPolicy.WEAK);
+	}
+
+	@Test
+	public void serializedForm_keepsFieldTypes() {
+		final Class<?>[] types = { IllegalNumberArgumentException.class, IllegalNumericArgumentException.class,
+				IllegalPatternArgumentException.class };
+		for (final Class<?> type : types) {
+			Assert.assertEquals(CharSequence.class, ObjectStreamClass.lookup(type).getField("illegalArgumentValue").getType());
+		}
+	}
+
+	@Test
+	public void truncate_programmatically() throws Exception {
+		final ClassLoader loader = newIsolatedClassLoader();
+		setPolicy(loader, "TRUNCATE");
+		set(loader, "setMaxArgumentLength", int.class, 4);
+		final Throwable e = newIllegalPatternArgumentException(loader, PAYLOAD);
+		Assert.assertEquals("0123", getIllegalArgument(e));
+	}
+
+	@Test
+	public void truncate_snapshotsTemplateArguments() throws Exception {
+		final ClassLoader loader = newIsolatedClassLoader();
+		setPolicy(loader, "TRUNCATE");
+		final StringBuilder value = new StringBuilder(PAYLOAD);
+		final Class<?> type = loader.loadClass(IllegalStateOfArgumentException.class.getName());
+		final Throwable e = (Throwable) type.getConstructor(String.class, Object[].class).newInstance("value=%s",
+				new Object[] { value });
+		value.setLength(0);
+		Assert.assertEquals("value=" + PAYLOAD, e.getMessage());
+	}
+
+	@Test
+	public void truncate_viaSystemProperty() throws Exception {
+		System.setProperty(ArgumentRetention.PROPERTY_POLICY, " Truncate ");
+		System.setProperty(ArgumentRetention.PROPERTY_MAX_ARGUMENT_LENGTH, "3");
+		try {
+			final Throwable e = newIllegalPatternArgumentException(newIsolatedClassLoader(), PAYLOAD);
+			Assert.assertEquals("012", getIllegalArgument(e));
+		} finally {
+			System.clearProperty(ArgumentRetention.PROPERTY_POLICY);
+			System.clearProperty(ArgumentRetention.PROPERTY_MAX_ARGUMENT_LENGTH);
+		}
+	}
+
+	@Test
+	public void unknownPolicy_viaSystemProperty() throws Exception {
+		System.setProperty(ArgumentRetention.PROPERTY_POLICY, "forget");
+		try {
+			final StringBuilder value = new StringBuilder(PAYLOAD);
+			final Throwable e = newIllegalPatternArgumentException(newIsolatedClassLoader(), value);
+			Assert.assertSame(value, getIllegalArgument(e));
+		} finally {
+			System.clearProperty(ArgumentRetention.PROPERTY_POLICY);
+		}
+	}
+
+	@Test
+	public void weak_isSerializable() throws Exception {
+		final ClassLoader loader = newIsolatedClassLoader();
+		setPolicy(loader, "WEAK");
+		final StringBuilder value = new StringBuilder(PAYLOAD);
+		final Throwable e = newIllegalPatternArgumentException(loader, value);
+		Assert.assertSame(value, getIllegalArgument(e));
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		final ObjectOutputStream out = new ObjectOutputStream(bytes);
+		out.writeObject(e);
+		out.close();
+		final Object copy = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())).readObject();
+		Assert.assertNull(getIllegalArgument((Throwable) copy));
+	}
+
+	@Test
+	public void weak_keepsNumbers() throws Exception {
+		final ClassLoader loader = newIsolatedClassLoader();
+		setPolicy(loader, "WEAK");
+		final Throwable e = newIllegalNotGreaterThanException(loader, Long.valueOf(42L));
+		Assert.assertEquals(Long.valueOf(42L), getIllegalArgument(e));
+	}
+
+}
@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.exception;
+
+import net.sf.qualitycheck.ViolationCode;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class IllegalArgumentViolationsExceptionTest {
+
+	@Test
+	public void construct_withFilledCause() {
+		final IllegalArgumentViolationsException e = new IllegalArgumentViolationsException(new NumberFormatException());
+		Assert.assertEquals("The passed arguments must not violate their checks.", e.getMessage());
+		Assert.assertEquals(0, e.getViolationCount());
+	}
+
+	@Test
+	public void construct_withNullCause() {
+		new IllegalArgumentViolationsException((Throwable) null);
+	}
+
+	@Test
+	public void construct_withoutArgs_successfulAndCheckMessage() {
+		final IllegalArgumentViolationsException e = new IllegalArgumentViolationsException();
+		Assert.assertEquals("The passed arguments must not violate their checks.", e.getMessage());
+		Assert.assertEquals(0, e.getViolationCount());
+	}
+
+	@Test
+	public void construct_withViolations_copiesOnlyCount() {
+		final ViolationCode[] codes = { ViolationCode.NULL, ViolationCode.NAN, ViolationCode.EMPTY };
+		final String[] names = { "name", "", "unused" };
+		final int[] indices = { IllegalArgumentViolationsException.NO_INDEX, 4, IllegalArgumentViolationsException.NO_INDEX };
+		final IllegalArgumentViolationsException e = new IllegalArgumentViolationsException(codes, names, indices, 2);
+		codes[0] = ViolationCode.STATE;
+		Assert.assertEquals(2, e.getViolationCount());
+		Assert.assertEquals(ViolationCode.NULL, e.getCode(0));
+		Assert.assertEquals("", e.getName(1));
+		Assert.assertEquals(4, e.getIndex(1));
+		Assert.assertEquals("The passed arguments have 2 violation(s): 'name' must not be null; '[4]' must not be NaN.", e.getMessage());
+	}
+
+	@Test
+	public void construct_withViolationWithoutName() {
+		final IllegalArgumentViolationsException e = new IllegalArgumentViolationsException(
+				new ViolationCode[] { ViolationCode.STATE }, new String[1], new int[] { IllegalArgumentViolationsException.NO_INDEX }, 1);
+		Assert.assertEquals("The passed arguments have 1 violation(s): argument must be in a valid state.", e.getMessage());
+	}
+
+}
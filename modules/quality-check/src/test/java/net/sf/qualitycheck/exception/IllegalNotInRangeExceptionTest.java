@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.exception;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class IllegalNotInRangeExceptionTest {
+
+	@Test
+	public void construct_withChars() {
+		final IllegalNotInRangeException e = new IllegalNotInRangeException("c", 'A', 'a', 'z', true);
+		Assert.assertEquals("The passed argument 'c' must be within the range ['a', 'z'], but was 'A'.", e.getMessage());
+	}
+
+	@Test
+	public void construct_withDoubles() {
+		final IllegalNotInRangeException e = new IllegalNotInRangeException(null, Double.NaN, -0.5d, 0.5d, false);
+		Assert.assertEquals("The passed argument must be within the range [-0.5, 0.5), but was NaN.", e.getMessage());
+	}
+
+	@Test
+	public void construct_withEmptyArgName() {
+		final IllegalNotInRangeException e = new IllegalNotInRangeException("", 3, 0, 2, true);
+		Assert.assertEquals("The passed argument must be within the range [0, 2], but was 3.", e.getMessage());
+	}
+
+	@Test
+	public void construct_withFilledCause() {
+		final IllegalNotInRangeException e = new IllegalNotInRangeException(new NumberFormatException());
+		Assert.assertEquals("The passed argument must be within the expected range.", e.getMessage());
+	}
+
+	@Test
+	public void construct_withFloats() {
+		final IllegalNotInRangeException e = new IllegalNotInRangeException("f", 0.3f, 0.1f, 0.2f, false);
+		Assert.assertEquals("The passed argument 'f' must be within the range [0.1, 0.2), but was 0.3.", e.getMessage());
+	}
+
+	@Test
+	public void construct_withLongs() {
+		final IllegalNotInRangeException e = new IllegalNotInRangeException("l", Long.MIN_VALUE, 0L, 1L, false);
+		Assert.assertEquals("The passed argument 'l' must be within the range [0, 1), but was -9223372036854775808.", e.getMessage());
+	}
+
+	@Test
+	public void construct_withNullCause() {
+		new IllegalNotInRangeException((Throwable) null);
+	}
+
+	@Test
+	public void construct_withoutArgs_successful() {
+		final IllegalNotInRangeException e = new IllegalNotInRangeException();
+		Assert.assertEquals("The passed argument must be within the expected range.", e.getMessage());
+	}
+
+}
@@ -27,6 +27,20 @@ public class IllegalNullElementsExceptionTest {
 		Assert.assertEquals(expected, e.getMessage());
 	}
 
+	@Test
+	public void construct_withArgNameAndIndex_successful() {
+		final IllegalNullElementsException e = new IllegalNullElementsException("argName", 42);
+		final String expected = "The passed argument 'argName' must not contain elements that are null, but the element at index 42 is null.";
+		Assert.assertEquals(expected, e.getMessage());
+	}
+
+	@Test
+	public void construct_withNullArgNameAndIndex_successful() {
+		final IllegalNullElementsException e = new IllegalNullElementsException(null, 0);
+		final String expected = "The passed argument must not contain elements that are null, but the element at index 0 is null.";
+		Assert.assertEquals(expected, e.getMessage());
+	}
+
 	@Test
 	public void construct_withCause() {
 		final IllegalNullElementsException e = new IllegalNullElementsException(new NullPointerException());
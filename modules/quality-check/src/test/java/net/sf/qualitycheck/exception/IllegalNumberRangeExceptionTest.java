@@ -55,6 +55,18 @@ public class IllegalNumberRangeExceptionTest {
 		new IllegalNumberRangeException(new NumberFormatException());
 	}
 
+	@Test
+	public void construct_withNameAndArgs_successfulAndCheckMessage() {
+		final IllegalNumberRangeException e = new IllegalNumberRangeException("ratios[1]", "1.5", Double.valueOf(0.0), Double.valueOf(1.0));
+		Assert.assertEquals("Argument 'ratios[1]' with value '1.5' must be in the range '0.0' to '1.0'.", e.getMessage());
+	}
+
+	@Test
+	public void construct_withEmptyNameAndArgs_successfulAndCheckMessage() {
+		final IllegalNumberRangeException e = new IllegalNumberRangeException("", "11", Integer.valueOf(1), Integer.valueOf(10));
+		Assert.assertEquals("Argument value '11' must be in the range '1' to '10'.", e.getMessage());
+	}
+
 	@Test
 	public void construct_withNullCause() {
 		new IllegalNumberRangeException((Throwable) null);
@@ -76,4 +76,23 @@ public class IllegalNumericArgumentExceptionTest {
 		final IllegalArgumentHolder<CharSequence> iah = new IllegalNumericArgumentException("42a");
 		Assert.assertEquals("42a", iah.getIllegalArgument());
 	}
+
+	@Test
+	public void construct_withOffset() {
+		final IllegalNumericArgumentException e = new IllegalNumericArgumentException("argName", "42a", 2);
+		Assert.assertEquals(2, e.getOffset());
+		Assert.assertEquals("The passed argument 'argName' must be numeric, but has no digit at offset 2.", e.getMessage());
+	}
+
+	@Test
+	public void construct_withOffsetAndEmptyArgName() {
+		final IllegalNumericArgumentException e = new IllegalNumericArgumentException("", null, 3000000000L);
+		Assert.assertNull(e.getIllegalArgument());
+		Assert.assertEquals("The passed argument must be numeric, but has no digit at offset 3000000000.", e.getMessage());
+	}
+
+	@Test
+	public void getOffset_unknown() {
+		Assert.assertEquals(-1, new IllegalNumericArgumentException("argName", "42a").getOffset());
+	}
 }
@@ -51,6 +51,18 @@ public class IllegalPositionIndexExceptionTest {
 		new IllegalPositionIndexException(new NumberFormatException());
 	}
 
+	@Test
+	public void construct_withNameAndArgs_successfulAndCheckMessage() {
+		final IllegalPositionIndexException e = new IllegalPositionIndexException("indices[3]", 7, 5);
+		Assert.assertEquals("Position index 'indices[3]' with value '7' must be within the defined bounds [0,5].", e.getMessage());
+	}
+
+	@Test
+	public void construct_withNullNameAndArgs_successfulAndCheckMessage() {
+		final IllegalPositionIndexException e = new IllegalPositionIndexException((String) null, 7, 5);
+		Assert.assertEquals("Position index '7' must be within the defined bounds [0,5].", e.getMessage());
+	}
+
 	@Test
 	public void construct_withNullCause() {
 		new IllegalPositionIndexException((Throwable) null);
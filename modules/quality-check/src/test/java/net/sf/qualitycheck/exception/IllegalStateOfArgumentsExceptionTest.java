@@ -15,6 +15,11 @@
  ******************************************************************************/
 package net.sf.qualitycheck.exception;
 
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import net.sf.qualitycheck.DescriptionSupplier;
+
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -32,6 +37,38 @@ public class IllegalStateOfArgumentsExceptionTest {
 		Assert.assertEquals("The passed arguments have caused an invalid state: a=%d", e.getMessage());
 	}
 	
+	@Test
+	public void message_withTemplateNotFittingItsArguments() {
+		final IllegalStateOfArgumentException e = new IllegalStateOfArgumentException("a=%d", "x");
+		Assert.assertEquals("The passed arguments have caused an invalid state: a=%d [x]", e.getMessage());
+		Assert.assertTrue(e.toString().endsWith("a=%d [x]"));
+		e.printStackTrace(new PrintStream(new ByteArrayOutputStream()));
+	}
+
+	@Test
+	public void message_withArgumentWhoseToStringThrows() {
+		final Object argument = new Object() {
+			@Override
+			public String toString() {
+				throw new IllegalStateException("not renderable");
+			}
+		};
+		final IllegalStateOfArgumentException e = new IllegalStateOfArgumentException("a=%s", argument);
+		Assert.assertEquals("The passed arguments have caused an invalid state: a=%s", e.getMessage());
+		Assert.assertTrue(e.toString().endsWith("a=%s"));
+		e.printStackTrace(new PrintStream(new ByteArrayOutputStream()));
+		Assert.assertEquals("The passed arguments have caused an invalid state: a=%d",
+				new IllegalStateOfArgumentException("a=%d", argument).getMessage());
+	}
+
+	@Test
+	public void message_withArgumentsChangedAfterConstruction() {
+		final Object[] args = { "x" };
+		final IllegalStateOfArgumentException e = new IllegalStateOfArgumentException("a=%s", args);
+		args[0] = "y";
+		Assert.assertEquals("a=x", e.getMessage());
+	}
+
 	@Test
 	public void construct_withArgsAndNullCause() {
 		new IllegalStateOfArgumentException("a^2 + b^2 = c^2", (Throwable)null);
@@ -65,6 +102,33 @@ public class IllegalStateOfArgumentsExceptionTest {
 		Assert.assertEquals("1^2 + 2^2 = 3^2", e.getMessage());
 	}
 	
+	@Test
+	public void construct_withDescriptionSupplier() {
+		final int[] calls = new int[1];
+		final IllegalStateOfArgumentException e = new IllegalStateOfArgumentException(new DescriptionSupplier() {
+			@Override
+			public String get() {
+				calls[0]++;
+				return "a != b";
+			}
+		});
+		Assert.assertEquals(0, calls[0]);
+		Assert.assertEquals("The passed arguments have caused an invalid state: a != b", e.getMessage());
+		Assert.assertEquals("The passed arguments have caused an invalid state: a != b", e.getMessage());
+		Assert.assertEquals(1, calls[0]);
+	}
+
+	@Test
+	public void construct_withThrowingDescriptionSupplier() {
+		final IllegalStateOfArgumentException e = new IllegalStateOfArgumentException(new DescriptionSupplier() {
+			@Override
+			public String get() {
+				throw new UnsupportedOperationException();
+			}
+		});
+		Assert.assertEquals("Arguments must be valid with the current state.", e.getMessage());
+	}
+
 	@Test
 	public void construct_withFilledCause() {
 		new IllegalStateOfArgumentException(new NumberFormatException());
@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.exception;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.regex.Pattern;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class QualityCheckExceptionTest {
+
+	private static final class CountingException extends QualityCheckException {
+
+		private static final long serialVersionUID = 1L;
+
+		private int calls;
+
+		@Override
+		protected String createMessage() {
+			calls++;
+			return "rendered";
+		}
+
+	}
+
+	private static final class NotSerializable {
+
+		@Override
+		public String toString() {
+			return "not serializable";
+		}
+
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T serializeAndDeserialize(final T object) throws Exception {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		final ObjectOutputStream out = new ObjectOutputStream(bytes);
+		out.writeObject(object);
+		out.close();
+		final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+		try {
+			return (T) in.readObject();
+		} finally {
+			in.close();
+		}
+	}
+
+	@Test
+	public void getMessage_isCached() {
+		final CountingException e = new CountingException();
+		Assert.assertEquals(0, e.calls);
+		Assert.assertEquals("rendered", e.getMessage());
+		Assert.assertSame(e.getMessage(), e.getMessage());
+		Assert.assertEquals(1, e.calls);
+	}
+
+	@Test
+	public void getMessage_notRenderedOnConstruction() {
+		final CountingException e = new CountingException();
+		Assert.assertEquals(0, e.calls);
+		Assert.assertEquals(CountingException.class.getName() + ": rendered", e.toString());
+		Assert.assertEquals("rendered", e.getLocalizedMessage());
+		Assert.assertEquals(1, e.calls);
+	}
+
+	@Test
+	public void initCause_withoutCauseInConstructor() {
+		final IllegalNullArgumentException e = new IllegalNullArgumentException("arg");
+		final NumberFormatException cause = new NumberFormatException();
+		e.initCause(cause);
+		Assert.assertSame(cause, e.getCause());
+		Assert.assertEquals("Argument 'arg' must not be null.", e.getMessage());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void initCause_withNullCauseInConstructor() {
+		new IllegalNullArgumentException("arg", null).initCause(new NumberFormatException());
+	}
+
+	@Test
+	public void serialize_withNotSerializableMessageArguments() throws Exception {
+		final IllegalStateOfArgumentException e = new IllegalStateOfArgumentException("value: %s", new NotSerializable());
+		final IllegalStateOfArgumentException copy = serializeAndDeserialize(e);
+		Assert.assertEquals("value: not serializable", copy.getMessage());
+	}
+
+	@Test
+	public void serialize_withPattern() throws Exception {
+		final IllegalPatternArgumentException e = new IllegalPatternArgumentException("arg", Pattern.compile("a+"), "b");
+		final IllegalPatternArgumentException copy = serializeAndDeserialize(e);
+		Assert.assertEquals(e.getMessage(), copy.getMessage());
+		Assert.assertEquals("b", copy.getIllegalArgument());
+	}
+
+	@Test
+	public void capped_longMessage() {
+		Assert.assertEquals("abcd...", QualityCheckException.capped("abcdefghij", 7));
+	}
+
+	@Test
+	public void capped_shortMessage() {
+		Assert.assertEquals("abc", QualityCheckException.capped("abc", 3));
+		Assert.assertNull(QualityCheckException.capped(null, 3));
+	}
+
+	@Test
+	public void capped_tooShortForMarker() {
+		Assert.assertEquals("ab", QualityCheckException.capped("abcdef", 2));
+	}
+
+}
@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.exception;
+
+import java.lang.reflect.Constructor;
+import java.nio.CharBuffer;
+import java.util.regex.Pattern;
+
+import net.sf.qualitycheck.exception.RetainedArguments.WeakArgument;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RetainedArgumentsTest {
+
+	@Test
+	public void giveMeCoverageForMyPrivateConstructor() throws Exception {
+		// reduces only some noise in coverage report
+		final Constructor<RetainedArguments> constructor = RetainedArguments.class.getDeclaredConstructor();
+		constructor.setAccessible(true);
+		constructor.newInstance();
+	}
+
+	@Test
+	public void hashed_charSequence() {
+		final StringBuilder chars = new StringBuilder("payload");
+		Assert.assertEquals("java.lang.StringBuilder#" + Integer.toHexString("payload".hashCode()), RetainedArguments.hashed(chars));
+	}
+
+	@Test
+	public void hashed_object() {
+		Assert.assertEquals("java.lang.Integer#2a", RetainedArguments.hashed(Integer.valueOf(42)));
+	}
+
+	@Test
+	public void hashOf_equalsHashOfString() {
+		Assert.assertEquals("".hashCode(), RetainedArguments.hashOf(CharBuffer.wrap("")));
+		Assert.assertEquals("quality".hashCode(), RetainedArguments.hashOf(CharBuffer.wrap("quality")));
+	}
+
+	@Test
+	public void restore_keptValue() {
+		final Object value = new Object();
+		Assert.assertSame(value, RetainedArguments.restore(value));
+		Assert.assertNull(RetainedArguments.restore(null));
+	}
+
+	@Test
+	public void retain_byDefault() {
+		final Object value = new Object();
+		Assert.assertSame(value, RetainedArguments.retain(value));
+		Assert.assertNull(RetainedArguments.retain(null));
+	}
+
+	@Test
+	public void retain_hash() {
+		Assert.assertEquals("java.lang.String#" + Integer.toHexString("abc".hashCode()),
+				RetainedArguments.retain(ArgumentRetentionPolicy.HASH, 2, "abc"));
+	}
+
+	@Test
+	public void retain_keep() {
+		final String value = "abc";
+		Assert.assertSame(value, RetainedArguments.retain(ArgumentRetentionPolicy.KEEP, 2, value));
+	}
+
+	@Test
+	public void retain_numbers() {
+		final Integer value = Integer.valueOf(5000);
+		for (final ArgumentRetentionPolicy policy : ArgumentRetentionPolicy.values()) {
+			Assert.assertSame(value, RetainedArguments.retain(policy, 2, value));
+		}
+	}
+
+	@Test
+	public void retain_truncate() {
+		Assert.assertEquals("ab", RetainedArguments.retain(ArgumentRetentionPolicy.TRUNCATE, 2, "abc"));
+		final Pattern pattern = Pattern.compile("a");
+		Assert.assertSame(pattern, RetainedArguments.retain(ArgumentRetentionPolicy.TRUNCATE, 2, pattern));
+	}
+
+	@Test
+	public void retainChars_byDefault() {
+		final StringBuilder value = new StringBuilder("abc");
+		Assert.assertSame(value, RetainedArguments.retainChars(value));
+		Assert.assertNull(RetainedArguments.retainWeakly(value));
+	}
+
+	@Test
+	public void retain_weak() {
+		final String value = "abc";
+		final Object retained = RetainedArguments.retain(ArgumentRetentionPolicy.WEAK, 2, value);
+		Assert.assertTrue(retained instanceof WeakArgument);
+		Assert.assertSame(value, RetainedArguments.restore(retained));
+	}
+
+	@Test
+	public void truncated_copiesViews() {
+		final CharBuffer view = CharBuffer.wrap("abc");
+		final CharSequence copy = RetainedArguments.truncated(view, 5);
+		Assert.assertTrue(copy instanceof String);
+		Assert.assertEquals("abc", copy);
+	}
+
+	@Test
+	public void truncated_keepsShortStrings() {
+		final String value = "abc";
+		Assert.assertSame(value, RetainedArguments.truncated(value, 3));
+	}
+
+	@Test
+	public void truncated_longSequence() {
+		Assert.assertEquals("abc", RetainedArguments.truncated(new StringBuilder("abcdef"), 3));
+	}
+
+}
@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright 2013 André Rouél and Dominik Seichter
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package net.sf.qualitycheck.exception;
+
+import java.lang.reflect.Constructor;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class StackTracesTest {
+
+	/**
+	 * Loads the exception classes with a fresh class loader, so that the setting will be read again.
+	 */
+	private static ClassLoader newIsolatedClassLoader() {
+		final URL classes = StackTraces.class.getProtectionDomain().getCodeSource().getLocation();
+		return new URLClassLoader(new URL[] { classes }, null);
+	}
+
+	private static Throwable newIllegalNullArgumentException(final ClassLoader loader) throws Exception {
+		final Class<?> type = loader.loadClass(IllegalNullArgumentException.class.getName());
+		return (Throwable) type.getConstructor(String.class).newInstance("arg");
+	}
+
+	@Test
+	public void captureDisabled_programmatically() throws Exception {
+		final ClassLoader loader = newIsolatedClassLoader();
+		loader.loadClass(StackTraces.class.getName()).getMethod("setCaptureEnabled", boolean.class).invoke(null, false);
+		final Throwable e = newIllegalNullArgumentException(loader);
+		Assert.assertEquals(0, e.getStackTrace().length);
+		Assert.assertEquals("Argument 'arg' must not be null.", e.getMessage());
+	}
+
+	@Test
+	public void captureDisabled_viaSystemProperty() throws Exception {
+		System.setProperty(StackTraces.PROPERTY_CAPTURE_STACK_TRACE, "FALSE");
+		try {
+			final Throwable e = newIllegalNullArgumentException(newIsolatedClassLoader());
+			Assert.assertEquals(0, e.getStackTrace().length);
+		} finally {
+			System.clearProperty(StackTraces.PROPERTY_CAPTURE_STACK_TRACE);
+		}
+	}
+
+	@Test
+	public void captureEnabled_byDefault() {
+		final IllegalNullArgumentException e = new IllegalNullArgumentException();
+		Assert.assertTrue(e.getStackTrace().length > 0);
+		Assert.assertTrue(StackTraces.isResolved());
+		Assert.assertTrue(StackTraces.isCaptureEnabled());
+	}
+
+	@Test
+	public void captureEnabled_viaSystemPropertyWithOtherValue() throws Exception {
+		System.setProperty(StackTraces.PROPERTY_CAPTURE_STACK_TRACE, "no");
+		try {
+			final Throwable e = newIllegalNullArgumentException(newIsolatedClassLoader());
+			Assert.assertTrue(e.getStackTrace().length > 0);
+		} finally {
+			System.clearProperty(StackTraces.PROPERTY_CAPTURE_STACK_TRACE);
+		}
+	}
+
+	@Test
+	public void giveMeCoverageForMyPrivateConstructor() throws Exception {
+		// reduces only some noise in coverage report
+		final Constructor<StackTraces> constructor = StackTraces.class.getDeclaredConstructor();
+		constructor.setAccessible(true);
+		constructor.newInstance();
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void setCaptureEnabled_afterResolution() {
+		new IllegalNullArgumentException();
+		StackTraces.setCaptureEnabled(false);
+	}
+
+}